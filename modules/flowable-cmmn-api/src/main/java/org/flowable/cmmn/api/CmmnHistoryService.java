@@ -12,8 +12,10 @@
  */
 package org.flowable.cmmn.api;
 
+import java.util.Date;
 import java.util.List;
 
+import org.flowable.cmmn.api.history.ArchivedHistoricCaseInstanceQuery;
 import org.flowable.cmmn.api.history.HistoricCaseInstanceQuery;
 import org.flowable.cmmn.api.history.HistoricMilestoneInstanceQuery;
 import org.flowable.cmmn.api.history.HistoricPlanItemInstanceQuery;
@@ -56,6 +58,25 @@ public interface CmmnHistoryService {
     List<StageResponse> getStageOverview(String caseInstanceId);
 
     void deleteHistoricCaseInstance(String caseInstanceId);
+
+    /**
+     * Moves the history of at most maxCaseInstances case instances that finished before the given date (including their plan item instances,
+     * milestones, variables and identity links) to the configured history archive store, and deletes it from the history tables.
+     * Sub case instances are archived together with their root case instance.
+     * Archived case instances are not returned by the historic case instance query anymore, they can be found with {@link #createArchivedHistoricCaseInstanceQuery()}.
+     *
+     * @return the number of archived case instances, including sub case instances
+     * @throws org.flowable.common.engine.api.FlowableException when no history archive store is configured
+     */
+    int archiveHistoricCaseInstances(Date finishedBefore, int maxCaseInstances);
+
+    /**
+     * Creates a new programmatic query to search for the {@link org.flowable.cmmn.api.history.HistoricCaseInstance}s moved to the history archive
+     * by {@link #archiveHistoricCaseInstances(Date, int)}.
+     *
+     * @throws org.flowable.common.engine.api.FlowableException when the query is executed and no history archive store is configured
+     */
+    ArchivedHistoricCaseInstanceQuery createArchivedHistoricCaseInstanceQuery();
     
     /**
      * Deletes historic task instance. This might be useful for tasks that are {@link CmmnTaskService#newTask() dynamically created} and then {@link CmmnTaskService#complete(String) completed}. If the
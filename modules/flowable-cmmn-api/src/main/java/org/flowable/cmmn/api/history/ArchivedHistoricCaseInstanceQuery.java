@@ -0,0 +1,89 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.api.history;
+
+import java.util.Date;
+import java.util.Set;
+
+import org.flowable.common.engine.api.query.Query;
+
+/**
+ * Programmatic querying for the {@link HistoricCaseInstance}s that were moved to the history archive with
+ * {@link org.flowable.cmmn.api.CmmnHistoryService#archiveHistoricCaseInstances(Date, int)}.
+ *
+ * The archive is read from the configured history archive store. Only the partitions of the days in the finished (or started) time range are read,
+ * and a lookup by id only reads the archive files that can contain the id. Without such criteria, all archive files are read.
+ */
+public interface ArchivedHistoricCaseInstanceQuery extends Query<ArchivedHistoricCaseInstanceQuery, HistoricCaseInstance> {
+
+    /**
+     * Only select the archived case instance with the given id.
+     */
+    ArchivedHistoricCaseInstanceQuery caseInstanceId(String caseInstanceId);
+
+    /**
+     * Only select the archived case instances with one of the given ids.
+     */
+    ArchivedHistoricCaseInstanceQuery caseInstanceIds(Set<String> caseInstanceIds);
+
+    /**
+     * Only select the archived case instances of the case definition with the given id.
+     */
+    ArchivedHistoricCaseInstanceQuery caseDefinitionId(String caseDefinitionId);
+
+    /**
+     * Only select the archived sub case instances of the case instance with the given id.
+     */
+    ArchivedHistoricCaseInstanceQuery caseInstanceParentId(String parentId);
+
+    /**
+     * Only select the archived case instances with the given tenant id.
+     */
+    ArchivedHistoricCaseInstanceQuery caseInstanceTenantId(String tenantId);
+
+    /**
+     * Only select the archived case instances that were started after the given date.
+     */
+    ArchivedHistoricCaseInstanceQuery startedAfter(Date date);
+
+    /**
+     * Only select the archived case instances that were started before the given date.
+     */
+    ArchivedHistoricCaseInstanceQuery startedBefore(Date date);
+
+    /**
+     * Only select the archived case instances that finished after the given date.
+     */
+    ArchivedHistoricCaseInstanceQuery finishedAfter(Date date);
+
+    /**
+     * Only select the archived case instances that finished before the given date.
+     */
+    ArchivedHistoricCaseInstanceQuery finishedBefore(Date date);
+
+    /**
+     * Order by the case instance id (needs to be followed by {@link #asc()} or {@link #desc()}).
+     */
+    ArchivedHistoricCaseInstanceQuery orderByCaseInstanceId();
+
+    /**
+     * Order by the start time (needs to be followed by {@link #asc()} or {@link #desc()}).
+     */
+    ArchivedHistoricCaseInstanceQuery orderByStartTime();
+
+    /**
+     * Order by the end time (needs to be followed by {@link #asc()} or {@link #desc()}).
+     */
+    ArchivedHistoricCaseInstanceQuery orderByEndTime();
+
+}
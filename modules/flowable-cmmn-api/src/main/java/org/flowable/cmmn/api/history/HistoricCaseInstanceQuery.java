@@ -13,6 +13,7 @@
 package org.flowable.cmmn.api.history;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Set;
@@ -81,9 +82,17 @@ public interface HistoricCaseInstanceQuery extends Query<HistoricCaseInstanceQue
      */
     HistoricCaseInstanceQuery includeCaseVariables();
 
+    /**
+     * Include only the historic case variables with the given names in the historic case query result. Other case variables are not fetched.
+     */
+    HistoricCaseInstanceQuery includeCaseVariables(Collection<String> variableNames);
+
     /**
      * Limit historic case instance variables
+     *
+     * @deprecated This limit is ignored. The query is paged by the database and the variables of the returned case instances are fetched separately.
      */
+    @Deprecated
     HistoricCaseInstanceQuery limitCaseVariables(Integer historicCaseVariablesLimit);
 
     /**
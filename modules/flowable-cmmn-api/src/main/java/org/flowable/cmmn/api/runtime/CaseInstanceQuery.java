@@ -13,6 +13,7 @@
 package org.flowable.cmmn.api.runtime;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.Date;
 import java.util.Set;
 
@@ -195,6 +196,14 @@ public interface CaseInstanceQuery extends Query<CaseInstanceQuery, CaseInstance
      */
     CaseInstanceQuery includeCaseVariables();
 
+    /**
+     * Includes only the case variables with the given names into the query result. Other case variables are not fetched.
+     *
+     * @param variableNames the names of the case variables to include, cannot be null or empty.
+     * @return caseInstanceQuery with the flag to retrieve the named case variables into the response.
+     */
+    CaseInstanceQuery includeCaseVariables(Collection<String> variableNames);
+
     /**
      * Begin an OR statement. Make sure you invoke the endOr method at the end of your OR statement.
      */
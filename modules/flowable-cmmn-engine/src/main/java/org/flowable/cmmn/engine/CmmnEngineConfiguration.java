@@ -70,6 +70,8 @@ import org.flowable.cmmn.engine.impl.history.CmmnHistoryManager;
 import org.flowable.cmmn.engine.impl.history.CmmnHistoryTaskManager;
 import org.flowable.cmmn.engine.impl.history.CmmnHistoryVariableManager;
 import org.flowable.cmmn.engine.impl.history.DefaultCmmnHistoryManager;
+import org.flowable.cmmn.engine.impl.history.archive.CmmnHistoryArchiveManager;
+import org.flowable.cmmn.engine.impl.history.archive.DefaultCmmnHistoryArchiveManager;
 import org.flowable.cmmn.engine.impl.history.async.AsyncCmmnHistoryManager;
 import org.flowable.cmmn.engine.impl.history.async.CmmnAsyncHistoryConstants;
 import org.flowable.cmmn.engine.impl.history.async.json.transformer.CaseInstanceEndHistoryJsonTransformer;
@@ -230,6 +232,7 @@ import org.flowable.common.engine.impl.el.function.VariableLowerThanExpressionFu
 import org.flowable.common.engine.impl.el.function.VariableLowerThanOrEqualsExpressionFunction;
 import org.flowable.common.engine.impl.el.function.VariableNotEqualsExpressionFunction;
 import org.flowable.common.engine.impl.history.HistoryLevel;
+import org.flowable.common.engine.impl.history.archive.HistoryArchiveStore;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandInterceptor;
 import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
@@ -355,6 +358,14 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
 
     protected CaseInstanceHelper caseInstanceHelper;
     protected CmmnHistoryManager cmmnHistoryManager;
+
+    /**
+     * The store to which the history of finished case instances is archived by {@link CmmnHistoryService#archiveHistoricCaseInstances(java.util.Date, int)}.
+     * The archived case instances are looked up with {@link CmmnHistoryService#createArchivedHistoricCaseInstanceQuery()}.
+     */
+    protected HistoryArchiveStore historyArchiveStore;
+    protected CmmnHistoryArchiveManager historyArchiveManager;
+
     protected ProcessInstanceService processInstanceService;
     protected CmmnDynamicStateManager dynamicStateManager;
     protected Map<String, List<RuntimeInstanceStateChangeCallback>> caseInstanceStateChangeCallbacks;
@@ -433,6 +444,13 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     // Entitylink support
     protected EntityLinkServiceConfiguration entityLinkServiceConfiguration;
     protected boolean enableEntityLinks;
+
+    /**
+     * When enabled, a plan item lifecycle event only triggers the evaluation of the sentries that have an on-part referencing that event
+     * (looked up through an index per case model), instead of evaluating all criteria of all plan item instances.
+     * Sentries with an if-part, plan items with a repetition rule and evaluations without a lifecycle event are always fully evaluated.
+     */
+    protected boolean enableIncrementalSentryEvaluation = true;
     
     // EventSubscription support
     protected EventSubscriptionServiceConfiguration eventSubscriptionServiceConfiguration;
@@ -844,11 +862,13 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         initListenerFactory();
         initListenerNotificationHelper();
         initDeployers();
+        initDeploymentTaskExecutor();
         initCaseDefinitionCache();
         initDeploymentManager();
         initCaseInstanceHelper();
         initCandidateManager();
         initHistoryManager();
+        initHistoryArchiveManager();
         initDynamicStateManager();
         initCaseInstanceCallbacks();
         initFormFieldHandler();
@@ -1328,6 +1348,12 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         }
     }
     
+    public void initHistoryArchiveManager() {
+        if (historyArchiveManager == null && historyArchiveStore != null) {
+            historyArchiveManager = new DefaultCmmnHistoryArchiveManager(this, historyArchiveStore);
+        }
+    }
+
     public void initDynamicStateManager() {
         if (dynamicStateManager == null) {
             dynamicStateManager = new DefaultCmmnDynamicStateManager();
@@ -2222,6 +2248,24 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public HistoryArchiveStore getHistoryArchiveStore() {
+        return historyArchiveStore;
+    }
+
+    public CmmnEngineConfiguration setHistoryArchiveStore(HistoryArchiveStore historyArchiveStore) {
+        this.historyArchiveStore = historyArchiveStore;
+        return this;
+    }
+
+    public CmmnHistoryArchiveManager getHistoryArchiveManager() {
+        return historyArchiveManager;
+    }
+
+    public CmmnEngineConfiguration setHistoryArchiveManager(CmmnHistoryArchiveManager historyArchiveManager) {
+        this.historyArchiveManager = historyArchiveManager;
+        return this;
+    }
+
     public CmmnDynamicStateManager getDynamicStateManager() {
         return dynamicStateManager;
     }
@@ -2704,10 +2748,15 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    @Deprecated
     public int getTaskQueryLimit() {
         return taskQueryLimit;
     }
 
+    /**
+     * @deprecated This limit is ignored. The task query with variables is paged by the database and the variables of the page are fetched separately.
+     */
+    @Deprecated
     public CmmnEngineConfiguration setTaskQueryLimit(int taskQueryLimit) {
         this.taskQueryLimit = taskQueryLimit;
         return this;
@@ -2731,19 +2780,29 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    @Deprecated
     public int getCaseQueryLimit() {
         return caseQueryLimit;
     }
 
+    /**
+     * @deprecated This limit is ignored. The case instance query with variables is paged by the database and the variables of the page are fetched separately.
+     */
+    @Deprecated
     public CmmnEngineConfiguration setCaseQueryLimit(int caseQueryLimit) {
         this.caseQueryLimit = caseQueryLimit;
         return this;
     }
 
+    @Deprecated
     public int getHistoricCaseQueryLimit() {
         return historicCaseQueryLimit;
     }
 
+    /**
+     * @deprecated This limit is ignored. The historic case instance query with variables is paged by the database and the variables of the page are fetched separately.
+     */
+    @Deprecated
     public void setHistoricCaseQueryLimit(int historicCaseQueryLimit) {
         this.historicCaseQueryLimit = historicCaseQueryLimit;
     }
@@ -3434,6 +3493,15 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public boolean isEnableIncrementalSentryEvaluation() {
+        return enableIncrementalSentryEvaluation;
+    }
+
+    public CmmnEngineConfiguration setEnableIncrementalSentryEvaluation(boolean enableIncrementalSentryEvaluation) {
+        this.enableIncrementalSentryEvaluation = enableIncrementalSentryEvaluation;
+        return this;
+    }
+
     public EventSubscriptionServiceConfiguration getEventSubscriptionServiceConfiguration() {
         return eventSubscriptionServiceConfiguration;
     }
@@ -12,15 +12,18 @@
  */
 package org.flowable.cmmn.engine.impl;
 
+import java.util.Date;
 import java.util.List;
 
 import org.flowable.cmmn.api.CmmnHistoryService;
 import org.flowable.cmmn.api.StageResponse;
+import org.flowable.cmmn.api.history.ArchivedHistoricCaseInstanceQuery;
 import org.flowable.cmmn.api.history.HistoricCaseInstanceQuery;
 import org.flowable.cmmn.api.history.HistoricMilestoneInstanceQuery;
 import org.flowable.cmmn.api.history.HistoricPlanItemInstanceQuery;
 import org.flowable.cmmn.api.history.HistoricVariableInstanceQuery;
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
+import org.flowable.cmmn.engine.impl.cmd.ArchiveHistoricCaseInstancesCmd;
 import org.flowable.cmmn.engine.impl.cmd.CmmnDeleteHistoricTaskLogEntryCmd;
 import org.flowable.cmmn.engine.impl.cmd.DeleteHistoricCaseInstanceCmd;
 import org.flowable.cmmn.engine.impl.cmd.DeleteHistoricTaskInstanceCmd;
@@ -30,6 +33,7 @@ import org.flowable.cmmn.engine.impl.cmd.GetHistoricIdentityLinksForCaseInstance
 import org.flowable.cmmn.engine.impl.cmd.GetHistoricIdentityLinksForPlanItemInstanceCmd;
 import org.flowable.cmmn.engine.impl.cmd.GetHistoricIdentityLinksForTaskCmd;
 import org.flowable.cmmn.engine.impl.cmd.GetHistoricStageOverviewCmd;
+import org.flowable.cmmn.engine.impl.history.ArchivedHistoricCaseInstanceQueryImpl;
 import org.flowable.cmmn.engine.impl.history.CmmnHistoricVariableInstanceQueryImpl;
 import org.flowable.common.engine.impl.service.CommonEngineServiceImpl;
 import org.flowable.entitylink.api.history.HistoricEntityLink;
@@ -83,6 +87,16 @@ public class CmmnHistoryServiceImpl extends CommonEngineServiceImpl<CmmnEngineCo
         commandExecutor.execute(new DeleteHistoricCaseInstanceCmd(caseInstanceId));
     }
 
+    @Override
+    public int archiveHistoricCaseInstances(Date finishedBefore, int maxCaseInstances) {
+        return commandExecutor.execute(new ArchiveHistoricCaseInstancesCmd(finishedBefore, maxCaseInstances));
+    }
+
+    @Override
+    public ArchivedHistoricCaseInstanceQuery createArchivedHistoricCaseInstanceQuery() {
+        return new ArchivedHistoricCaseInstanceQueryImpl(commandExecutor);
+    }
+
     @Override
     public HistoricTaskInstanceQuery createHistoricTaskInstanceQuery() {
         return new HistoricTaskInstanceQueryImpl(commandExecutor);
@@ -13,6 +13,7 @@
 package org.flowable.cmmn.engine.impl.agenda.operation;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -44,6 +45,7 @@ import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
 import org.flowable.cmmn.engine.impl.util.CompletionEvaluationResult;
 import org.flowable.cmmn.engine.impl.util.ExpressionUtil;
 import org.flowable.cmmn.engine.impl.util.PlanItemInstanceContainerUtil;
+import org.flowable.cmmn.model.CmmnModel;
 import org.flowable.cmmn.model.Criterion;
 import org.flowable.cmmn.model.EventListener;
 import org.flowable.cmmn.model.HasExitCriteria;
@@ -72,6 +74,10 @@ public abstract class AbstractEvaluationCriteriaOperation extends AbstractCaseIn
 
     protected PlanItemLifeCycleEvent planItemLifeCycleEvent;
 
+    /** the ids of the criteria having an on-part matching the current lifecycle event, lazily looked up from the case model index */
+    protected CmmnModel lifeCycleEventCmmnModel;
+    protected Set<String> lifeCycleEventCriterionIds;
+
     /** only the last evaluation planned on the agenda operation will have this true. */
     protected boolean evaluateStagesAndCaseInstanceCompletion;
 
@@ -489,6 +495,11 @@ public abstract class AbstractEvaluationCriteriaOperation extends AbstractCaseIn
     protected Criterion evaluateEntryCriteria(PlanItemInstanceEntity planItemInstanceEntity, PlanItem planItem) {
         List<Criterion> criteria = planItem.getEntryCriteria();
         if (criteria != null && !criteria.isEmpty()) {
+            // a repeating plan item might have had all its on-parts satisfied before without being activated (the repetition rule didn't allow it),
+            // so its criteria always need to be evaluated again
+            if (!ExpressionUtil.hasRepetitionRule(planItem)) {
+                criteria = getCriteriaAffectedByLifeCycleEvent(planItemInstanceEntity.getCaseDefinitionId(), criteria);
+            }
             return evaluateCriteria(planItemInstanceEntity, criteria);
         }
         return null;
@@ -498,11 +509,64 @@ public abstract class AbstractEvaluationCriteriaOperation extends AbstractCaseIn
     protected Criterion evaluateExitCriteria(EntityWithSentryPartInstances entityWithSentryPartInstances, HasExitCriteria hasExitCriteria) {
         List<Criterion> criteria = hasExitCriteria.getExitCriteria();
         if (criteria != null && !criteria.isEmpty()) {
+            criteria = getCriteriaAffectedByLifeCycleEvent(getCaseDefinitionId(entityWithSentryPartInstances), criteria);
             return evaluateCriteria(entityWithSentryPartInstances, criteria);
         }
         return null;
     }
 
+    /**
+     * Returns the subset of the given criteria which might become satisfied through the current plan item lifecycle event.
+     * Only sentries with an on-part referencing the event (looked up through the on-part index of the case model) are kept, as well as all
+     * sentries with an if-part (depending on variables) or without any on-part. Without a lifecycle event, all criteria are returned.
+     */
+    protected List<Criterion> getCriteriaAffectedByLifeCycleEvent(String caseDefinitionId, List<Criterion> criteria) {
+        if (planItemLifeCycleEvent == null || caseDefinitionId == null
+                || !CommandContextUtil.getCmmnEngineConfiguration(commandContext).isEnableIncrementalSentryEvaluation()) {
+            return criteria;
+        }
+
+        if (lifeCycleEventCmmnModel == null) {
+            lifeCycleEventCmmnModel = CaseDefinitionUtil.getCmmnModel(caseDefinitionId);
+            PlanItem sourcePlanItem = planItemLifeCycleEvent.getPlanItem();
+            if (lifeCycleEventCmmnModel.findPlanItem(sourcePlanItem.getId()) == sourcePlanItem) {
+                lifeCycleEventCriterionIds = lifeCycleEventCmmnModel.getCriterionIdsForOnPart(sourcePlanItem.getId(), planItemLifeCycleEvent.getTransition());
+            }
+        }
+
+        // plan items injected at runtime (e.g. from a derived case definition) are not part of the indexed model
+        if (lifeCycleEventCriterionIds == null) {
+            return criteria;
+        }
+
+        List<Criterion> affectedCriteria = null;
+        for (Criterion criterion : criteria) {
+            Sentry sentry = criterion.getSentry();
+            if (sentry.getSentryIfPart() != null || sentry.getOnParts().isEmpty() || lifeCycleEventCriterionIds.contains(criterion.getId())
+                    || lifeCycleEventCmmnModel.getCriterion(criterion.getId()) != criterion) {
+                if (affectedCriteria == null) {
+                    affectedCriteria = new ArrayList<>(criteria.size());
+                }
+                affectedCriteria.add(criterion);
+            }
+        }
+
+        if (LOGGER.isDebugEnabled() && affectedCriteria == null) {
+            LOGGER.debug("Skipping evaluation of {} as none of them is affected by [{}]", criteria, planItemLifeCycleEvent);
+        }
+
+        return affectedCriteria != null ? affectedCriteria : Collections.emptyList();
+    }
+
+    protected String getCaseDefinitionId(EntityWithSentryPartInstances entityWithSentryPartInstances) {
+        if (entityWithSentryPartInstances instanceof CaseInstanceEntity) {
+            return ((CaseInstanceEntity) entityWithSentryPartInstances).getCaseDefinitionId();
+        } else if (entityWithSentryPartInstances instanceof PlanItemInstanceEntity) {
+            return ((PlanItemInstanceEntity) entityWithSentryPartInstances).getCaseDefinitionId();
+        }
+        return null;
+    }
+
     /**
      * @return Returns the criterion that is satisfied. If none is satisfied, null is returned.
      */
@@ -804,6 +868,8 @@ public abstract class AbstractEvaluationCriteriaOperation extends AbstractCaseIn
 
     public void setPlanItemLifeCycleEvent(PlanItemLifeCycleEvent planItemLifeCycleEvent) {
         this.planItemLifeCycleEvent = planItemLifeCycleEvent;
+        this.lifeCycleEventCmmnModel = null;
+        this.lifeCycleEventCriterionIds = null;
     }
 
 
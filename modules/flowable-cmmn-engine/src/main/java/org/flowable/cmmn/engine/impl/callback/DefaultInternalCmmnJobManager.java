@@ -58,6 +58,12 @@ public class DefaultInternalCmmnJobManager implements InternalJobManager {
         // Currently, nothing extra needed (but counting relationships can be added later here).        
     }
 
+    @Override
+    public boolean canMoveTimerJobsInBulk() {
+        // No relationship counting is done for cmmn jobs
+        return true;
+    }
+
     @Override
     public void lockJobScope(Job job) {
         CaseInstanceEntityManager caseInstanceEntityManager = cmmnEngineConfiguration.getCaseInstanceEntityManager();
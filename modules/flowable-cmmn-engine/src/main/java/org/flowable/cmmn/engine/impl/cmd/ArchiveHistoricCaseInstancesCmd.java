@@ -0,0 +1,54 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.engine.impl.cmd;
+
+import java.io.Serializable;
+import java.util.Date;
+
+import org.flowable.cmmn.engine.impl.history.archive.CmmnHistoryArchiveManager;
+import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+
+public class ArchiveHistoricCaseInstancesCmd implements Command<Integer>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    protected Date finishedBefore;
+    protected int maxCaseInstances;
+
+    public ArchiveHistoricCaseInstancesCmd(Date finishedBefore, int maxCaseInstances) {
+        this.finishedBefore = finishedBefore;
+        this.maxCaseInstances = maxCaseInstances;
+    }
+
+    @Override
+    public Integer execute(CommandContext commandContext) {
+        if (finishedBefore == null) {
+            throw new FlowableIllegalArgumentException("finishedBefore is null");
+        }
+        if (maxCaseInstances <= 0) {
+            throw new FlowableIllegalArgumentException("maxCaseInstances must be positive");
+        }
+
+        CmmnHistoryArchiveManager historyArchiveManager = CommandContextUtil.getCmmnEngineConfiguration(commandContext).getHistoryArchiveManager();
+        if (historyArchiveManager == null) {
+            throw new FlowableException("No history archive store is configured");
+        }
+
+        return historyArchiveManager.archiveHistoricCaseInstances(finishedBefore, maxCaseInstances, commandContext);
+    }
+
+}
@@ -37,34 +37,54 @@ public class CaseDefinitionDiagramHelper {
      * The caller must determine whether creating a diagram for this case definition is appropriate or not, for example see {@link #shouldCreateDiagram(CaseDefinitionEntity, EngineDeployment)}.
      */
     public CmmnResourceEntity createDiagramForCaseDefinition(CaseDefinitionEntity caseDefinition, CmmnModel cmmnModel) {
+        byte[] diagramBytes = generateDiagram(caseDefinition, cmmnModel, CommandContextUtil.getCmmnEngineConfiguration());
+        if (diagramBytes == null) {
+            return null;
+        }
+        return createDiagramResource(caseDefinition, diagramBytes);
+    }
+
+    /**
+     * Renders the diagram of a case definition as a PNG image. Returns null when the diagram could not be rendered (the case will still be executable).
+     * 
+     * This doesn't use the command context, so the diagrams of a deployment can be rendered in parallel. The model is changed while rendering,
+     * so it must not be rendered by more than one thread at the same time.
+     */
+    public byte[] generateDiagram(CaseDefinitionEntity caseDefinition, CmmnModel cmmnModel, CmmnEngineConfiguration cmmnEngineConfiguration) {
 
         if (StringUtils.isEmpty(caseDefinition.getKey()) || StringUtils.isEmpty(caseDefinition.getResourceName())) {
             throw new IllegalStateException("Provided case definition must have both key and resource name set.");
         }
 
-        CmmnResourceEntity resource = createResourceEntity();
-        CmmnEngineConfiguration cmmnEngineConfiguration = CommandContextUtil.getCmmnEngineConfiguration();
         try {
-            byte[] diagramBytes = IoUtil.readInputStream(
+            return IoUtil.readInputStream(
                             cmmnEngineConfiguration.getCaseDiagramGenerator().generateDiagram(cmmnModel, "png",
                                             cmmnEngineConfiguration.getActivityFontName(),
                                             cmmnEngineConfiguration.getLabelFontName(),
                                             cmmnEngineConfiguration.getAnnotationFontName(),
                                             cmmnEngineConfiguration.getClassLoader()), null);
-            String diagramResourceName = ResourceNameUtil.getCaseDiagramResourceName(
-                            caseDefinition.getResourceName(), caseDefinition.getKey(), "png");
-
-            resource.setName(diagramResourceName);
-            resource.setBytes(diagramBytes);
-            resource.setDeploymentId(caseDefinition.getDeploymentId());
-
-            // Mark the resource as 'generated'
-            resource.setGenerated(true);
 
         } catch (Throwable t) { // if anything goes wrong, we don't store the image (the case will still be executable).
             LOGGER.warn("Error while generating case diagram, image will not be stored in repository", t);
-            resource = null;
+            return null;
         }
+    }
+
+    /**
+     * Creates the resource for a diagram rendered with {@link #generateDiagram(CaseDefinitionEntity, CmmnModel, CmmnEngineConfiguration)}.
+     * The returned resource has not yet been persisted, nor attached to the CaseDefinitionEntity.
+     */
+    public CmmnResourceEntity createDiagramResource(CaseDefinitionEntity caseDefinition, byte[] diagramBytes) {
+        CmmnResourceEntity resource = createResourceEntity();
+        String diagramResourceName = ResourceNameUtil.getCaseDiagramResourceName(
+                        caseDefinition.getResourceName(), caseDefinition.getKey(), "png");
+
+        resource.setName(diagramResourceName);
+        resource.setBytes(diagramBytes);
+        resource.setDeploymentId(caseDefinition.getDeploymentId());
+
+        // Mark the resource as 'generated'
+        resource.setGenerated(true);
 
         return resource;
     }
@@ -12,6 +12,7 @@
  */
 package org.flowable.cmmn.engine.impl.deployer;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -20,9 +21,12 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 
 import org.apache.commons.lang3.StringUtils;
+import org.flowable.cmmn.converter.CmmnXMLException;
 import org.flowable.cmmn.converter.CmmnXmlConstants;
+import org.flowable.cmmn.converter.exception.XMLException;
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
 import org.flowable.cmmn.engine.impl.parser.CmmnParseResult;
 import org.flowable.cmmn.engine.impl.parser.CmmnParser;
@@ -39,6 +43,7 @@ import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.repository.EngineDeployment;
 import org.flowable.common.engine.api.repository.EngineResource;
 import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.common.engine.impl.DeploymentTaskExecutor;
 import org.flowable.common.engine.impl.EngineDeployer;
 import org.flowable.common.engine.impl.cfg.IdGenerator;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
@@ -69,10 +74,22 @@ public class CmmnDeployer implements EngineDeployer {
     public void deploy(EngineDeployment deployment, Map<String, Object> deploymentSettings) {
         LOGGER.debug("Processing deployment {}", deployment.getName());
 
-        CmmnParseResult parseResult = new CmmnParseResult(deployment);
+        List<EngineResource> cmmnResources = new ArrayList<>();
         for (EngineResource resource : deployment.getResources().values()) {
             if (isCmmnResource(resource.getName())) {
-                LOGGER.debug("Processing CMMN resource {}", resource.getName());
+                cmmnResources.add(resource);
+            }
+        }
+
+        Map<EngineResource, CmmnModel> cmmnModels = convertModelsInParallel(cmmnResources);
+
+        CmmnParseResult parseResult = new CmmnParseResult(deployment);
+        for (EngineResource resource : cmmnResources) {
+            LOGGER.debug("Processing CMMN resource {}", resource.getName());
+            CmmnModel cmmnModel = cmmnModels.get(resource);
+            if (cmmnModel != null) {
+                parseResult.merge(cmmnParser.parse(resource, cmmnModel));
+            } else {
                 parseResult.merge(cmmnParser.parse(resource));
             }
         }
@@ -107,22 +124,109 @@ public class CmmnDeployer implements EngineDeployer {
         return false;
     }
 
+    /**
+     * Converts the models of the given resources in parallel when a {@link DeploymentTaskExecutor} is configured.
+     * The parse handlers, which need the command context, are applied afterwards on the deploying thread.
+     * Returns an empty map when the models aren't converted upfront.
+     */
+    protected Map<EngineResource, CmmnModel> convertModelsInParallel(List<EngineResource> cmmnResources) {
+        Map<EngineResource, CmmnModel> cmmnModels = new HashMap<>();
+        CmmnEngineConfiguration cmmnEngineConfiguration = CommandContextUtil.getCmmnEngineConfiguration();
+        DeploymentTaskExecutor deploymentTaskExecutor = cmmnEngineConfiguration.getDeploymentTaskExecutor();
+        if (deploymentTaskExecutor == null || cmmnResources.size() < 2) {
+            return cmmnModels;
+        }
+
+        List<CmmnModel> convertedModels = deploymentTaskExecutor.executeAll(cmmnResources, resource -> {
+            try {
+                return cmmnParser.convertToCmmnModel(resource, cmmnEngineConfiguration);
+            } catch (RuntimeException e) {
+                // Only the failure of the first failed resource is rethrown, so it needs to name the resource
+                throw addResourceName(e, resource.getName());
+            }
+        });
+
+        for (int i = 0; i < cmmnResources.size(); i++) {
+            if (convertedModels.get(i) != null) {
+                cmmnModels.put(cmmnResources.get(i), convertedModels.get(i));
+            }
+        }
+        return cmmnModels;
+    }
+
+    /**
+     * Adds the name of the resource to the message of a parse failure, keeping the type of the exception
+     * so that callers see the same exception as when the resources are converted sequentially.
+     */
+    protected RuntimeException addResourceName(RuntimeException e, String resourceName) {
+        String message = "Could not parse resource " + resourceName + ": " + e.getMessage();
+        if (e.getClass() == CmmnXMLException.class) {
+            return new CmmnXMLException(message, e);
+        } else if (e.getClass() == XMLException.class) {
+            return new XMLException(message, e);
+        } else if (e.getClass() == FlowableException.class) {
+            return new FlowableException(message, e);
+        }
+        return e;
+    }
+
     /**
      * Creates new diagrams for case definitions if the deployment is new, the case definition in question supports it, and the engine is configured to make new diagrams.
      *
      * When this method creates a new diagram, it also persists it via the ResourceEntityManager and adds it to the resources of the deployment.
      */
     protected void createAndPersistNewDiagramsIfNeeded(CmmnParseResult parseResult) {
+        List<CaseDefinitionEntity> caseDefinitionsNeedingDiagram = new ArrayList<>();
         for (CaseDefinitionEntity caseDefinition : parseResult.getAllCaseDefinitions()) {
             if (caseDefinitionDiagramHelper.shouldCreateDiagram(caseDefinition, parseResult.getDeployment())) {
-                CmmnResourceEntity resource = caseDefinitionDiagramHelper.createDiagramForCaseDefinition(
-                                caseDefinition, parseResult.getCmmnModelForCaseDefinition(caseDefinition));
-                if (resource != null) {
-                    CommandContextUtil.getCmmnResourceEntityManager().insert(resource, false);
-                    ((CmmnDeploymentEntity) parseResult.getDeployment()).addResource(resource); // now we'll find it if we look for the diagram name later.
-                }
+                caseDefinitionsNeedingDiagram.add(caseDefinition);
+            }
+        }
+
+        Map<CaseDefinitionEntity, byte[]> diagrams = generateDiagrams(parseResult, caseDefinitionsNeedingDiagram);
+        for (CaseDefinitionEntity caseDefinition : caseDefinitionsNeedingDiagram) {
+            byte[] diagramBytes = diagrams.get(caseDefinition);
+            if (diagramBytes != null) {
+                CmmnResourceEntity resource = caseDefinitionDiagramHelper.createDiagramResource(caseDefinition, diagramBytes);
+                CommandContextUtil.getCmmnResourceEntityManager().insert(resource, false);
+                ((CmmnDeploymentEntity) parseResult.getDeployment()).addResource(resource); // now we'll find it if we look for the diagram name later.
+            }
+        }
+    }
+
+    /**
+     * Renders the diagrams of the given case definitions, in parallel when a {@link DeploymentTaskExecutor} is configured.
+     * Case definitions of the same resource share their model, which is changed while rendering, so their diagrams are rendered one after the other.
+     */
+    protected Map<CaseDefinitionEntity, byte[]> generateDiagrams(CmmnParseResult parseResult, List<CaseDefinitionEntity> caseDefinitions) {
+        CmmnEngineConfiguration cmmnEngineConfiguration = CommandContextUtil.getCmmnEngineConfiguration();
+
+        Map<CmmnModel, List<CaseDefinitionEntity>> caseDefinitionsByModel = new LinkedHashMap<>();
+        for (CaseDefinitionEntity caseDefinition : caseDefinitions) {
+            caseDefinitionsByModel.computeIfAbsent(parseResult.getCmmnModelForCaseDefinition(caseDefinition), key -> new ArrayList<>())
+                    .add(caseDefinition);
+        }
+
+        Function<Map.Entry<CmmnModel, List<CaseDefinitionEntity>>, Map<CaseDefinitionEntity, byte[]>> renderTask = entry -> {
+            Map<CaseDefinitionEntity, byte[]> modelDiagrams = new HashMap<>();
+            for (CaseDefinitionEntity caseDefinition : entry.getValue()) {
+                modelDiagrams.put(caseDefinition, caseDefinitionDiagramHelper.generateDiagram(caseDefinition, entry.getKey(), cmmnEngineConfiguration));
+            }
+            return modelDiagrams;
+        };
+
+        Map<CaseDefinitionEntity, byte[]> diagrams = new HashMap<>();
+        DeploymentTaskExecutor deploymentTaskExecutor = cmmnEngineConfiguration.getDeploymentTaskExecutor();
+        if (deploymentTaskExecutor != null) {
+            for (Map<CaseDefinitionEntity, byte[]> modelDiagrams : deploymentTaskExecutor.executeAll(caseDefinitionsByModel.entrySet(), renderTask)) {
+                diagrams.putAll(modelDiagrams);
+            }
+        } else {
+            for (Map.Entry<CmmnModel, List<CaseDefinitionEntity>> entry : caseDefinitionsByModel.entrySet()) {
+                diagrams.putAll(renderTask.apply(entry));
             }
         }
+        return diagrams;
     }
 
     /**
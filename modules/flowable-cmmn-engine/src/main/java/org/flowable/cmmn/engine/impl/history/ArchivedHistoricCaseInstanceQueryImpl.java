@@ -0,0 +1,193 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.engine.impl.history;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+
+import org.flowable.cmmn.api.history.ArchivedHistoricCaseInstanceQuery;
+import org.flowable.cmmn.api.history.HistoricCaseInstance;
+import org.flowable.cmmn.engine.impl.history.archive.CmmnHistoryArchiveManager;
+import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.impl.history.archive.AbstractHistoryArchiveQuery;
+import org.flowable.common.engine.impl.history.archive.HistoryArchiveQueryProperty;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+
+public class ArchivedHistoricCaseInstanceQueryImpl extends AbstractHistoryArchiveQuery<ArchivedHistoricCaseInstanceQuery, HistoricCaseInstance>
+        implements ArchivedHistoricCaseInstanceQuery {
+
+    private static final long serialVersionUID = 1L;
+
+    protected String caseInstanceId;
+    protected Set<String> caseInstanceIds;
+    protected String caseDefinitionId;
+    protected String caseInstanceParentId;
+    protected String tenantId;
+    protected Date startedAfter;
+    protected Date startedBefore;
+    protected Date finishedAfter;
+    protected Date finishedBefore;
+
+    public ArchivedHistoricCaseInstanceQueryImpl() {
+    }
+
+    public ArchivedHistoricCaseInstanceQueryImpl(CommandExecutor commandExecutor) {
+        super(commandExecutor);
+    }
+
+    @Override
+    public ArchivedHistoricCaseInstanceQueryImpl caseInstanceId(String caseInstanceId) {
+        if (caseInstanceId == null) {
+            throw new FlowableIllegalArgumentException("Case instance id is null");
+        }
+        this.caseInstanceId = caseInstanceId;
+        return this;
+    }
+
+    @Override
+    public ArchivedHistoricCaseInstanceQueryImpl caseInstanceIds(Set<String> caseInstanceIds) {
+        if (caseInstanceIds == null) {
+            throw new FlowableIllegalArgumentException("Set of case instance ids is null");
+        }
+        if (caseInstanceIds.isEmpty()) {
+            throw new FlowableIllegalArgumentException("Set of case instance ids is empty");
+        }
+        this.caseInstanceIds = caseInstanceIds;
+        return this;
+    }
+
+    @Override
+    public ArchivedHistoricCaseInstanceQueryImpl caseDefinitionId(String caseDefinitionId) {
+        if (caseDefinitionId == null) {
+            throw new FlowableIllegalArgumentException("Case definition id is null");
+        }
+        this.caseDefinitionId = caseDefinitionId;
+        return this;
+    }
+
+    @Override
+    public ArchivedHistoricCaseInstanceQueryImpl caseInstanceParentId(String parentId) {
+        if (parentId == null) {
+            throw new FlowableIllegalArgumentException("Parent id is null");
+        }
+        this.caseInstanceParentId = parentId;
+        return this;
+    }
+
+    @Override
+    public ArchivedHistoricCaseInstanceQueryImpl caseInstanceTenantId(String tenantId) {
+        if (tenantId == null) {
+            throw new FlowableIllegalArgumentException("tenant id is null");
+        }
+        this.tenantId = tenantId;
+        return this;
+    }
+
+    @Override
+    public ArchivedHistoricCaseInstanceQueryImpl startedAfter(Date startedAfter) {
+        this.startedAfter = startedAfter;
+        return this;
+    }
+
+    @Override
+    public ArchivedHistoricCaseInstanceQueryImpl startedBefore(Date startedBefore) {
+        this.startedBefore = startedBefore;
+        return this;
+    }
+
+    @Override
+    public ArchivedHistoricCaseInstanceQueryImpl finishedAfter(Date finishedAfter) {
+        this.finishedAfter = finishedAfter;
+        return this;
+    }
+
+    @Override
+    public ArchivedHistoricCaseInstanceQueryImpl finishedBefore(Date finishedBefore) {
+        this.finishedBefore = finishedBefore;
+        return this;
+    }
+
+    @Override
+    public ArchivedHistoricCaseInstanceQuery orderByCaseInstanceId() {
+        return orderBy(HistoryArchiveQueryProperty.ID);
+    }
+
+    @Override
+    public ArchivedHistoricCaseInstanceQuery orderByStartTime() {
+        return orderBy(HistoryArchiveQueryProperty.START_TIME);
+    }
+
+    @Override
+    public ArchivedHistoricCaseInstanceQuery orderByEndTime() {
+        return orderBy(HistoryArchiveQueryProperty.END_TIME);
+    }
+
+    @Override
+    public long executeCount(CommandContext commandContext) {
+        return getHistoryArchiveManager(commandContext).countHistoricCaseInstances(this);
+    }
+
+    @Override
+    public List<HistoricCaseInstance> executeList(CommandContext commandContext) {
+        return getHistoryArchiveManager(commandContext).findHistoricCaseInstances(this);
+    }
+
+    protected CmmnHistoryArchiveManager getHistoryArchiveManager(CommandContext commandContext) {
+        CmmnHistoryArchiveManager historyArchiveManager = CommandContextUtil.getCmmnEngineConfiguration(commandContext).getHistoryArchiveManager();
+        if (historyArchiveManager == null) {
+            throw new FlowableException("No history archive store is configured");
+        }
+        return historyArchiveManager;
+    }
+
+    public String getCaseInstanceId() {
+        return caseInstanceId;
+    }
+
+    public Set<String> getCaseInstanceIds() {
+        return caseInstanceIds;
+    }
+
+    public String getCaseDefinitionId() {
+        return caseDefinitionId;
+    }
+
+    public String getCaseInstanceParentId() {
+        return caseInstanceParentId;
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public Date getStartedAfter() {
+        return startedAfter;
+    }
+
+    public Date getStartedBefore() {
+        return startedBefore;
+    }
+
+    public Date getFinishedAfter() {
+        return finishedAfter;
+    }
+
+    public Date getFinishedBefore() {
+        return finishedBefore;
+    }
+
+}
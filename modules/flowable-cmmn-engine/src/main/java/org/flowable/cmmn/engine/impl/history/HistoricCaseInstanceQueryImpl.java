@@ -13,6 +13,7 @@
 package org.flowable.cmmn.engine.impl.history;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Objects;
@@ -58,6 +59,7 @@ public class HistoricCaseInstanceQueryImpl extends AbstractVariableQueryImpl<His
     protected String caseInstanceNameLikeIgnoreCase;
     protected String businessKey;
     protected String caseInstanceParentId;
+    protected boolean withoutCaseInstanceParentId;
     protected String deploymentId;
     protected List<String> deploymentIds;
     protected boolean finished;
@@ -74,6 +76,7 @@ public class HistoricCaseInstanceQueryImpl extends AbstractVariableQueryImpl<His
     protected String tenantId;
     protected boolean withoutTenantId;
     protected boolean includeCaseVariables;
+    protected Collection<String> variableNamesToInclude;
     protected Integer caseVariablesLimit;
     protected String involvedUser;
     protected Set<String> involvedGroups;
@@ -231,6 +234,14 @@ public class HistoricCaseInstanceQueryImpl extends AbstractVariableQueryImpl<His
         return this;
     }
     
+    /**
+     * Only select the case instances that are not a sub case of another case instance.
+     */
+    public HistoricCaseInstanceQueryImpl withoutCaseInstanceParentId() {
+        this.withoutCaseInstanceParentId = true;
+        return this;
+    }
+
     @Override
     public HistoricCaseInstanceQueryImpl deploymentId(String deploymentId) {
         if (deploymentId == null) {
@@ -504,7 +515,8 @@ public class HistoricCaseInstanceQueryImpl extends AbstractVariableQueryImpl<His
                 for (HistoricVariableInstanceEntity cachedVariableEntity : cachedVariableEntities) {
 
                     if (historicCaseInstance.getId().equals(cachedVariableEntity.getScopeId())
-                            && ScopeTypes.CMMN.equals(cachedVariableEntity.getScopeType())) {
+                            && ScopeTypes.CMMN.equals(cachedVariableEntity.getScopeType())
+                            && (variableNamesToInclude == null || variableNamesToInclude.contains(cachedVariableEntity.getName()))) {
 
                         // Variables from the cache have precedence
                         ((HistoricCaseInstanceEntity) historicCaseInstance).getQueryVariables().add(cachedVariableEntity);
@@ -541,6 +553,20 @@ public class HistoricCaseInstanceQueryImpl extends AbstractVariableQueryImpl<His
     @Override
     public HistoricCaseInstanceQuery includeCaseVariables() {
         this.includeCaseVariables = true;
+        this.variableNamesToInclude = null;
+        return this;
+    }
+
+    @Override
+    public HistoricCaseInstanceQuery includeCaseVariables(Collection<String> variableNames) {
+        if (variableNames == null) {
+            throw new FlowableIllegalArgumentException("Variable names is null");
+        }
+        if (variableNames.isEmpty()) {
+            throw new FlowableIllegalArgumentException("Variable names is empty");
+        }
+        this.includeCaseVariables = true;
+        this.variableNamesToInclude = new ArrayList<>(variableNames);
         return this;
     }
 
@@ -791,6 +817,10 @@ public class HistoricCaseInstanceQueryImpl extends AbstractVariableQueryImpl<His
         return caseInstanceParentId;
     }
 
+    public boolean isWithoutCaseInstanceParentId() {
+        return withoutCaseInstanceParentId;
+    }
+
     public boolean isFinished() {
         return finished;
     }
@@ -855,6 +885,10 @@ public class HistoricCaseInstanceQueryImpl extends AbstractVariableQueryImpl<His
         return includeCaseVariables;
     }
 
+    public Collection<String> getVariableNamesToInclude() {
+        return variableNamesToInclude;
+    }
+
     public Integer getCaseVariablesLimit() {
         return caseVariablesLimit;
     }
@@ -0,0 +1,43 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.engine.impl.history.archive;
+
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.cmmn.api.history.HistoricCaseInstance;
+import org.flowable.cmmn.engine.impl.history.ArchivedHistoricCaseInstanceQueryImpl;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+
+/**
+ * Moves the history of finished case instances from the history tables to a {@link org.flowable.common.engine.impl.history.archive.HistoryArchiveStore},
+ * and looks up the archived historic case instances.
+ */
+public interface CmmnHistoryArchiveManager {
+
+    /**
+     * Archives at most maxCaseInstances historic root case instances that finished before the given date,
+     * together with their sub case instances and all their related history, and deletes them from the history tables.
+     *
+     * @return the number of archived case instances
+     */
+    int archiveHistoricCaseInstances(Date finishedBefore, int maxCaseInstances, CommandContext commandContext);
+
+    /**
+     * Returns the page of the archived historic case instances matching the query.
+     */
+    List<HistoricCaseInstance> findHistoricCaseInstances(ArchivedHistoricCaseInstanceQueryImpl query);
+
+    long countHistoricCaseInstances(ArchivedHistoricCaseInstanceQueryImpl query);
+
+}
@@ -0,0 +1,296 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.engine.impl.history.archive;
+
+import static org.flowable.variable.service.impl.util.CommandContextUtil.getHistoricVariableInstanceEntityManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.flowable.cmmn.api.history.HistoricCaseInstance;
+import org.flowable.cmmn.api.history.HistoricMilestoneInstance;
+import org.flowable.cmmn.api.history.HistoricPlanItemInstance;
+import org.flowable.cmmn.engine.CmmnEngineConfiguration;
+import org.flowable.cmmn.engine.impl.history.ArchivedHistoricCaseInstanceQueryImpl;
+import org.flowable.cmmn.engine.impl.history.HistoricCaseInstanceQueryImpl;
+import org.flowable.cmmn.engine.impl.history.HistoricMilestoneInstanceQueryImpl;
+import org.flowable.cmmn.engine.impl.history.HistoricPlanItemInstanceQueryImpl;
+import org.flowable.cmmn.engine.impl.persistence.entity.HistoricCaseInstanceEntityImpl;
+import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
+import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.common.engine.impl.history.archive.AbstractHistoryArchiveManager;
+import org.flowable.common.engine.impl.history.archive.HistoryArchiveCriteria;
+import org.flowable.common.engine.impl.history.archive.HistoryArchiveStore;
+import org.flowable.common.engine.impl.history.archive.HistoryArchiveTable;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.identitylink.service.HistoricIdentityLinkService;
+import org.flowable.identitylink.service.impl.persistence.entity.HistoricIdentityLinkEntity;
+import org.flowable.variable.service.impl.persistence.entity.HistoricVariableInstanceEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link CmmnHistoryArchiveManager} writing the archived history of case instances with one {@link HistoryArchiveTable} per type of history
+ * (case instances, plan item instances, milestone instances, variable instances and identity links).
+ *
+ * The files are partitioned on the (UTC) day on which the case instances ended, see {@link AbstractHistoryArchiveManager}.
+ * The id filter of each file contains the ids of its case instances, so that lookups by case instance id only read the files that can contain them.
+ *
+ * The historic tasks of the case instances are not archived, as they are not deleted together with the history of the case instances.
+ */
+public class DefaultCmmnHistoryArchiveManager extends AbstractHistoryArchiveManager implements CmmnHistoryArchiveManager {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DefaultCmmnHistoryArchiveManager.class);
+
+    public static final String CASE_INSTANCES = "caseInstances";
+    public static final String PLAN_ITEM_INSTANCES = "planItemInstances";
+    public static final String MILESTONE_INSTANCES = "milestoneInstances";
+    public static final String VARIABLE_INSTANCES = "variableInstances";
+    public static final String IDENTITY_LINKS = "identityLinks";
+
+    protected static final String[] TABLE_NAMES = { CASE_INSTANCES, PLAN_ITEM_INSTANCES, MILESTONE_INSTANCES, VARIABLE_INSTANCES, IDENTITY_LINKS };
+
+    public DefaultCmmnHistoryArchiveManager(CmmnEngineConfiguration cmmnEngineConfiguration, HistoryArchiveStore historyArchiveStore) {
+        super(cmmnEngineConfiguration, historyArchiveStore);
+    }
+
+    @Override
+    public int archiveHistoricCaseInstances(Date finishedBefore, int maxCaseInstances, CommandContext commandContext) {
+        // Sub case instances are archived with their root case instance, as they can finish long before it
+        HistoricCaseInstanceQueryImpl query = new HistoricCaseInstanceQueryImpl(commandContext);
+        query.finished().finishedBefore(finishedBefore).withoutCaseInstanceParentId().orderByEndTime().asc();
+        query.setFirstResult(0);
+        query.setMaxResults(maxCaseInstances);
+        List<HistoricCaseInstance> caseInstances = CommandContextUtil.getHistoricCaseInstanceEntityManager(commandContext).findByCriteria(query);
+
+        if (caseInstances.isEmpty()) {
+            return 0;
+        }
+
+        // Deleting the history of a case instance also deletes the history of its sub case instances,
+        // so these need to be archived together with it
+        Map<String, HistoricCaseInstance> caseInstancesToArchive = new LinkedHashMap<>();
+        for (HistoricCaseInstance caseInstance : caseInstances) {
+            collectCaseInstanceHierarchy(caseInstance, caseInstancesToArchive, commandContext);
+        }
+
+        Map<String, Map<String, HistoryArchiveTable>> tablesPerPartition = new TreeMap<>();
+        for (HistoricCaseInstance caseInstance : caseInstancesToArchive.values()) {
+            String partition = getPartition(caseInstance.getEndTime() != null ? caseInstance.getEndTime() : caseInstance.getStartTime());
+            Map<String, HistoryArchiveTable> tables = tablesPerPartition.computeIfAbsent(partition, key -> createTables(TABLE_NAMES));
+            addCaseInstanceHistory(caseInstance, tables, commandContext);
+        }
+
+        writeArchiveFiles(tablesPerPartition, CASE_INSTANCES);
+
+        for (HistoricCaseInstance caseInstance : caseInstances) {
+            CommandContextUtil.getCmmnHistoryManager(commandContext).recordHistoricCaseInstanceDeleted(caseInstance.getId(), caseInstance.getTenantId());
+        }
+
+        LOGGER.debug("Archived {} historic case instances in {} partitions", caseInstancesToArchive.size(), tablesPerPartition.size());
+        return caseInstancesToArchive.size();
+    }
+
+    protected void collectCaseInstanceHierarchy(HistoricCaseInstance caseInstance, Map<String, HistoricCaseInstance> caseInstances, CommandContext commandContext) {
+        if (caseInstances.put(caseInstance.getId(), caseInstance) == null) {
+            List<HistoricCaseInstance> subCaseInstances = CommandContextUtil.getHistoricCaseInstanceEntityManager(commandContext)
+                    .findByCriteria(new HistoricCaseInstanceQueryImpl(commandContext).caseInstanceParentId(caseInstance.getId()));
+            for (HistoricCaseInstance subCaseInstance : subCaseInstances) {
+                collectCaseInstanceHierarchy(subCaseInstance, caseInstances, commandContext);
+            }
+        }
+    }
+
+    protected void addCaseInstanceHistory(HistoricCaseInstance caseInstance, Map<String, HistoryArchiveTable> tables, CommandContext commandContext) {
+        String caseInstanceId = caseInstance.getId();
+        tables.get(CASE_INSTANCES).addRow(caseInstanceRow(caseInstance));
+
+        List<HistoricPlanItemInstance> planItemInstances = CommandContextUtil.getHistoricPlanItemInstanceEntityManager(commandContext)
+                .findByCriteria(new HistoricPlanItemInstanceQueryImpl().planItemInstanceCaseInstanceId(caseInstanceId));
+        for (HistoricPlanItemInstance planItemInstance : planItemInstances) {
+            tables.get(PLAN_ITEM_INSTANCES).addRow(planItemInstanceRow(planItemInstance));
+        }
+
+        List<HistoricMilestoneInstance> milestoneInstances = CommandContextUtil.getHistoricMilestoneInstanceEntityManager(commandContext)
+                .findHistoricMilestoneInstancesByQueryCriteria(new HistoricMilestoneInstanceQueryImpl().milestoneInstanceCaseInstanceId(caseInstanceId));
+        for (HistoricMilestoneInstance milestoneInstance : milestoneInstances) {
+            tables.get(MILESTONE_INSTANCES).addRow(milestoneInstanceRow(milestoneInstance));
+        }
+
+        List<HistoricVariableInstanceEntity> variableInstances = getHistoricVariableInstanceEntityManager()
+                .findHistoricalVariableInstancesByScopeIdAndScopeType(caseInstanceId, ScopeTypes.CMMN);
+        for (HistoricVariableInstanceEntity variableInstance : variableInstances) {
+            tables.get(VARIABLE_INSTANCES).addRow(variableInstanceRow(variableInstance));
+        }
+
+        HistoricIdentityLinkService historicIdentityLinkService = CommandContextUtil.getHistoricIdentityLinkService();
+        List<HistoricIdentityLinkEntity> identityLinks = new ArrayList<>(historicIdentityLinkService
+                .findHistoricIdentityLinksByScopeIdAndScopeType(caseInstanceId, ScopeTypes.CMMN));
+        identityLinks.addAll(historicIdentityLinkService.findHistoricIdentityLinksByScopeIdAndScopeType(caseInstanceId, ScopeTypes.PLAN_ITEM));
+        for (HistoricIdentityLinkEntity identityLink : identityLinks) {
+            tables.get(IDENTITY_LINKS).addRow(identityLinkRow(identityLink));
+        }
+    }
+
+    protected Map<String, Object> caseInstanceRow(HistoricCaseInstance caseInstance) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", caseInstance.getId());
+        row.put("name", caseInstance.getName());
+        row.put("parentId", caseInstance.getParentId());
+        row.put("businessKey", caseInstance.getBusinessKey());
+        row.put("caseDefinitionId", caseInstance.getCaseDefinitionId());
+        row.put("state", caseInstance.getState());
+        row.put("startTime", caseInstance.getStartTime());
+        row.put("endTime", caseInstance.getEndTime());
+        row.put("startUserId", caseInstance.getStartUserId());
+        row.put("callbackId", caseInstance.getCallbackId());
+        row.put("callbackType", caseInstance.getCallbackType());
+        row.put("referenceId", caseInstance.getReferenceId());
+        row.put("referenceType", caseInstance.getReferenceType());
+        row.put("tenantId", caseInstance.getTenantId());
+        return row;
+    }
+
+    protected Map<String, Object> planItemInstanceRow(HistoricPlanItemInstance planItemInstance) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", planItemInstance.getId());
+        row.put("name", planItemInstance.getName());
+        row.put("state", planItemInstance.getState());
+        row.put("caseDefinitionId", planItemInstance.getCaseDefinitionId());
+        row.put("derivedCaseDefinitionId", planItemInstance.getDerivedCaseDefinitionId());
+        row.put("caseInstanceId", planItemInstance.getCaseInstanceId());
+        row.put("stageInstanceId", planItemInstance.getStageInstanceId());
+        row.put("stage", planItemInstance.isStage());
+        row.put("elementId", planItemInstance.getElementId());
+        row.put("planItemDefinitionId", planItemInstance.getPlanItemDefinitionId());
+        row.put("planItemDefinitionType", planItemInstance.getPlanItemDefinitionType());
+        row.put("createTime", planItemInstance.getCreateTime());
+        row.put("lastAvailableTime", planItemInstance.getLastAvailableTime());
+        row.put("lastEnabledTime", planItemInstance.getLastEnabledTime());
+        row.put("lastDisabledTime", planItemInstance.getLastDisabledTime());
+        row.put("lastStartedTime", planItemInstance.getLastStartedTime());
+        row.put("lastSuspendedTime", planItemInstance.getLastSuspendedTime());
+        row.put("completedTime", planItemInstance.getCompletedTime());
+        row.put("occurredTime", planItemInstance.getOccurredTime());
+        row.put("terminatedTime", planItemInstance.getTerminatedTime());
+        row.put("exitTime", planItemInstance.getExitTime());
+        row.put("endedTime", planItemInstance.getEndedTime());
+        row.put("lastUpdatedTime", planItemInstance.getLastUpdatedTime());
+        row.put("startUserId", planItemInstance.getStartUserId());
+        row.put("referenceId", planItemInstance.getReferenceId());
+        row.put("referenceType", planItemInstance.getReferenceType());
+        row.put("entryCriterionId", planItemInstance.getEntryCriterionId());
+        row.put("exitCriterionId", planItemInstance.getExitCriterionId());
+        row.put("formKey", planItemInstance.getFormKey());
+        row.put("extraValue", planItemInstance.getExtraValue());
+        row.put("showInOverview", planItemInstance.isShowInOverview());
+        row.put("tenantId", planItemInstance.getTenantId());
+        return row;
+    }
+
+    protected Map<String, Object> milestoneInstanceRow(HistoricMilestoneInstance milestoneInstance) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", milestoneInstance.getId());
+        row.put("name", milestoneInstance.getName());
+        row.put("timeStamp", milestoneInstance.getTimeStamp());
+        row.put("caseInstanceId", milestoneInstance.getCaseInstanceId());
+        row.put("caseDefinitionId", milestoneInstance.getCaseDefinitionId());
+        row.put("elementId", milestoneInstance.getElementId());
+        row.put("tenantId", milestoneInstance.getTenantId());
+        return row;
+    }
+
+    protected Map<String, Object> variableInstanceRow(HistoricVariableInstanceEntity variableInstance) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", variableInstance.getId());
+        row.put("name", variableInstance.getName());
+        row.put("type", variableInstance.getVariableTypeName());
+        row.put("scopeId", variableInstance.getScopeId());
+        row.put("subScopeId", variableInstance.getSubScopeId());
+        row.put("scopeType", variableInstance.getScopeType());
+        row.put("taskId", variableInstance.getTaskId());
+        row.put("textValue", variableInstance.getTextValue());
+        row.put("textValue2", variableInstance.getTextValue2());
+        row.put("longValue", variableInstance.getLongValue());
+        row.put("doubleValue", variableInstance.getDoubleValue());
+        row.put("bytes", variableInstance.getBytes());
+        row.put("createTime", variableInstance.getCreateTime());
+        row.put("lastUpdatedTime", variableInstance.getLastUpdatedTime());
+        return row;
+    }
+
+    protected Map<String, Object> identityLinkRow(HistoricIdentityLinkEntity identityLink) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", identityLink.getId());
+        row.put("type", identityLink.getType());
+        row.put("userId", identityLink.getUserId());
+        row.put("groupId", identityLink.getGroupId());
+        row.put("taskId", identityLink.getTaskId());
+        row.put("scopeId", identityLink.getScopeId());
+        row.put("subScopeId", identityLink.getSubScopeId());
+        row.put("scopeType", identityLink.getScopeType());
+        row.put("createTime", identityLink.getCreateTime());
+        return row;
+    }
+
+    @Override
+    public List<HistoricCaseInstance> findHistoricCaseInstances(ArchivedHistoricCaseInstanceQueryImpl query) {
+        return findRows(createCriteria(query), CASE_INSTANCES, this::createHistoricCaseInstance, query.getFirstResult(), query.getMaxResults());
+    }
+
+    @Override
+    public long countHistoricCaseInstances(ArchivedHistoricCaseInstanceQueryImpl query) {
+        return countRows(createCriteria(query), CASE_INSTANCES);
+    }
+
+    protected HistoryArchiveCriteria createCriteria(ArchivedHistoricCaseInstanceQueryImpl query) {
+        Collection<String> caseInstanceIds = query.getCaseInstanceId() != null ? Collections.singleton(query.getCaseInstanceId()) : query.getCaseInstanceIds();
+        return query.createCriteria()
+                .indexedIds(caseInstanceIds)
+                .partitionRange(HistoryArchiveCriteria.latest(query.getStartedAfter(), query.getFinishedAfter()), query.getFinishedBefore())
+                .columnIn(ID_COLUMN, caseInstanceIds)
+                .columnEquals("caseDefinitionId", query.getCaseDefinitionId())
+                .columnEquals("parentId", query.getCaseInstanceParentId())
+                .columnEquals("tenantId", query.getTenantId())
+                .columnAfter("startTime", query.getStartedAfter())
+                .columnBefore("startTime", query.getStartedBefore())
+                .columnAfter("endTime", query.getFinishedAfter())
+                .columnBefore("endTime", query.getFinishedBefore());
+    }
+
+    protected HistoricCaseInstance createHistoricCaseInstance(HistoryArchiveTable table, int row) {
+        HistoricCaseInstanceEntityImpl caseInstance = new HistoricCaseInstanceEntityImpl();
+        caseInstance.setId(table.getString("id", row));
+        caseInstance.setName(table.getString("name", row));
+        caseInstance.setParentId(table.getString("parentId", row));
+        caseInstance.setBusinessKey(table.getString("businessKey", row));
+        caseInstance.setCaseDefinitionId(table.getString("caseDefinitionId", row));
+        caseInstance.setState(table.getString("state", row));
+        caseInstance.setStartTime(table.getDate("startTime", row));
+        caseInstance.setEndTime(table.getDate("endTime", row));
+        caseInstance.setStartUserId(table.getString("startUserId", row));
+        caseInstance.setCallbackId(table.getString("callbackId", row));
+        caseInstance.setCallbackType(table.getString("callbackType", row));
+        caseInstance.setReferenceId(table.getString("referenceId", row));
+        caseInstance.setReferenceType(table.getString("referenceType", row));
+        caseInstance.setTenantId(table.getString("tenantId", row));
+        return caseInstance;
+    }
+
+}
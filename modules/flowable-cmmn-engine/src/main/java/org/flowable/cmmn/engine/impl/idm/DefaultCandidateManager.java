@@ -17,8 +17,11 @@ import java.util.List;
 
 import org.flowable.cmmn.api.CandidateManager;
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
+import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
 import org.flowable.idm.api.Group;
+import org.flowable.idm.api.IdmEngineConfigurationApi;
 import org.flowable.idm.api.IdmIdentityService;
+import org.flowable.idm.api.UserGroupMembershipCache;
 
 public class DefaultCandidateManager implements CandidateManager {
     
@@ -30,6 +33,16 @@ public class DefaultCandidateManager implements CandidateManager {
 
     @Override
     public List<String> getGroupsForCandidateUser(String candidateUser) {
+        IdmEngineConfigurationApi idmEngineConfiguration = (IdmEngineConfigurationApi) cmmnEngineConfiguration.getEngineConfigurations()
+            .get(EngineConfigurationConstants.KEY_IDM_ENGINE_CONFIG);
+        UserGroupMembershipCache userGroupMembershipCache = idmEngineConfiguration != null ? idmEngineConfiguration.getUserGroupMembershipCache() : null;
+        if (userGroupMembershipCache != null) {
+            return userGroupMembershipCache.getGroupIds(candidateUser, this::findGroupIds);
+        }
+        return findGroupIds(candidateUser);
+    }
+
+    protected List<String> findGroupIds(String candidateUser) {
         IdmIdentityService identityService = cmmnEngineConfiguration.getIdmIdentityService();
         List<Group> groups = identityService.createGroupQuery().groupMember(candidateUser).list();
         List<String> groupIds = new ArrayList<>();
@@ -12,7 +12,8 @@
  */
 package org.flowable.cmmn.engine.impl.parser;
 
-
+import org.flowable.cmmn.engine.CmmnEngineConfiguration;
+import org.flowable.cmmn.model.CmmnModel;
 import org.flowable.common.engine.api.repository.EngineResource;
 
 /**
@@ -21,5 +22,21 @@ import org.flowable.common.engine.api.repository.EngineResource;
 public interface CmmnParser {
     
     CmmnParseResult parse(EngineResource resourceEntity);
-    
+
+    /**
+     * Converts the resource to a {@link CmmnModel} without applying the parse handlers. This doesn't use the command context,
+     * so the resources of a deployment can be converted in parallel and parsed with {@link #parse(EngineResource, CmmnModel)} afterwards.
+     * Returns null when the parser doesn't support converting the model upfront, which is the default.
+     */
+    default CmmnModel convertToCmmnModel(EngineResource resourceEntity, CmmnEngineConfiguration cmmnEngineConfiguration) {
+        return null;
+    }
+
+    /**
+     * Parses a resource of which the model has been converted with {@link #convertToCmmnModel(EngineResource, CmmnEngineConfiguration)}.
+     */
+    default CmmnParseResult parse(EngineResource resourceEntity, CmmnModel cmmnModel) {
+        return parse(resourceEntity);
+    }
+
 }
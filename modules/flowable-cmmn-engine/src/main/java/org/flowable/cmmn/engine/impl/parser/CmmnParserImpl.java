@@ -56,25 +56,43 @@ public class CmmnParserImpl implements CmmnParser {
         }
     }
 
-    public CmmnParseResult parse(EngineResource resourceEntity, StreamSource cmmnSource) {
-        try {
-            boolean enableSafeBpmnXml = false;
-            String encoding = null;
-            CmmnEngineConfiguration cmmnEngineConfiguration = CommandContextUtil.getCmmnEngineConfiguration();
-            if (cmmnEngineConfiguration != null) {
-                enableSafeBpmnXml = cmmnEngineConfiguration.isEnableSafeCmmnXml();
-                encoding = cmmnEngineConfiguration.getXmlEncoding();
+    @Override
+    public CmmnModel convertToCmmnModel(EngineResource resourceEntity, CmmnEngineConfiguration cmmnEngineConfiguration) {
+        try (ByteArrayInputStream inputStream = new ByteArrayInputStream(resourceEntity.getBytes())) {
+            return convertToCmmnModel(new InputStreamSource(inputStream), cmmnEngineConfiguration);
+
+        } catch (IOException e) {
+            logger.error("Could not read bytes from CMMN resource", e);
+            return null;
+
+        } catch (Exception e) {
+            if (e instanceof FlowableException) {
+                throw (FlowableException) e;
+            } else if (e instanceof CmmnXMLException) {
+                throw (CmmnXMLException) e;
+            } else {
+                throw new FlowableException("Error parsing XML", e);
             }
+        }
+    }
 
+    @Override
+    public CmmnParseResult parse(EngineResource resourceEntity, CmmnModel cmmnModel) {
+        CmmnParseResult cmmnParseResult = new CmmnParseResult();
+        cmmnParseResult.setResourceEntity(resourceEntity);
+        cmmnParseResult.setCmmnModel(cmmnModel);
+
+        processCmmnElements(cmmnModel, cmmnParseResult);
+        processDI(cmmnModel, cmmnParseResult.getAllCaseDefinitions());
+        return cmmnParseResult;
+    }
+
+    public CmmnParseResult parse(EngineResource resourceEntity, StreamSource cmmnSource) {
+        try {
             CmmnParseResult cmmnParseResult = new CmmnParseResult();
             cmmnParseResult.setResourceEntity(resourceEntity);
 
-            boolean validateCmmnXml = true;
-            if (cmmnEngineConfiguration.isDisableCmmnXmlValidation()) {
-                validateCmmnXml = false;
-            }
-            
-            CmmnModel cmmnModel = new CmmnXmlConverter().convertToCmmnModel(cmmnSource, validateCmmnXml, enableSafeBpmnXml, encoding);
+            CmmnModel cmmnModel = convertToCmmnModel(cmmnSource, CommandContextUtil.getCmmnEngineConfiguration());
             cmmnParseResult.setCmmnModel(cmmnModel);
 
             processCmmnElements(cmmnModel, cmmnParseResult);
@@ -92,6 +110,22 @@ public class CmmnParserImpl implements CmmnParser {
         }
     }
 
+    protected CmmnModel convertToCmmnModel(StreamSource cmmnSource, CmmnEngineConfiguration cmmnEngineConfiguration) {
+        boolean enableSafeBpmnXml = false;
+        String encoding = null;
+        if (cmmnEngineConfiguration != null) {
+            enableSafeBpmnXml = cmmnEngineConfiguration.isEnableSafeCmmnXml();
+            encoding = cmmnEngineConfiguration.getXmlEncoding();
+        }
+
+        boolean validateCmmnXml = true;
+        if (cmmnEngineConfiguration.isDisableCmmnXmlValidation()) {
+            validateCmmnXml = false;
+        }
+
+        return new CmmnXmlConverter().convertToCmmnModel(cmmnSource, validateCmmnXml, enableSafeBpmnXml, encoding);
+    }
+
     public void processCmmnElements(CmmnModel cmmnModel, CmmnParseResult parseResult) {
         for (Case caze : cmmnModel.getCases()) {
             cmmnParseHandlers.parseElement(this, parseResult, caze);
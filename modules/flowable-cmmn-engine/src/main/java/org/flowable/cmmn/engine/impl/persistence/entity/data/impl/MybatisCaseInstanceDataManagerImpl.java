@@ -13,10 +13,11 @@
 package org.flowable.cmmn.engine.impl.persistence.entity.data.impl;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.flowable.cmmn.api.runtime.CaseInstance;
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
@@ -28,9 +29,13 @@ import org.flowable.cmmn.engine.impl.persistence.entity.data.AbstractCmmnDataMan
 import org.flowable.cmmn.engine.impl.persistence.entity.data.CaseInstanceDataManager;
 import org.flowable.cmmn.engine.impl.persistence.entity.data.impl.matcher.CaseInstanceByCaseDefinitionIdMatcher;
 import org.flowable.cmmn.engine.impl.runtime.CaseInstanceQueryImpl;
+import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.FlowableOptimisticLockingException;
+import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
+import org.flowable.variable.service.impl.QueryResultVariablesCriteria;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 
 /**
  * @author Joram Barrez
@@ -167,38 +172,33 @@ public class MybatisCaseInstanceDataManagerImpl extends AbstractCmmnDataManager<
     @SuppressWarnings("unchecked")
     @Override
     public List<CaseInstance> findWithVariablesByCriteria(CaseInstanceQueryImpl query) {
-        // paging doesn't work for combining case instances and variables due
-        // to an outer join, so doing it in-memory
-
-        CaseInstanceQueryImpl caseInstanceQuery = (CaseInstanceQueryImpl) query;
-        int firstResult = caseInstanceQuery.getFirstResult();
-        int maxResults = caseInstanceQuery.getMaxResults();
-
-        // setting max results, limit to 20000 results for performance reasons
-        if (caseInstanceQuery.getCaseInstanceVariablesLimit() != null) {
-            caseInstanceQuery.setMaxResults(caseInstanceQuery.getCaseInstanceVariablesLimit());
-        } else {
-            caseInstanceQuery.setMaxResults(cmmnEngineConfiguration.getCaseQueryLimit());
+        // The variables are fetched in a separate query for the page of case instances, instead of outer joining them
+        // in the case instance query, so that the paging can be done by the database
+        List<CaseInstance> caseInstances = getDbSqlSession().selectListWithRawParameterNoCacheLoadAndStore(
+                        "selectCaseInstancesByQueryCriteria", query, getManagedEntityClass());
+
+        // A case instance returned from the entity cache (query by id) is returned as is
+        Map<String, CaseInstanceEntityImpl> caseInstancesById = new LinkedHashMap<>();
+        for (CaseInstance caseInstance : caseInstances) {
+            if (getEntityCache().findInCache(getManagedEntityClass(), caseInstance.getId()) != caseInstance) {
+                caseInstancesById.put(caseInstance.getId(), (CaseInstanceEntityImpl) caseInstance);
+            }
         }
-        caseInstanceQuery.setFirstResult(0);
 
-        List<CaseInstance> instanceList = getDbSqlSession().selectListWithRawParameterNoCacheLoadAndStore(
-                        "selectCaseInstanceWithVariablesByQueryCriteria", caseInstanceQuery, getManagedEntityClass());
-
-        if (instanceList != null && !instanceList.isEmpty()) {
-            if (firstResult > 0) {
-                if (firstResult <= instanceList.size()) {
-                    int toIndex = firstResult + Math.min(maxResults, instanceList.size() - firstResult);
-                    return instanceList.subList(firstResult, toIndex);
-                } else {
-                    return Collections.EMPTY_LIST;
+        if (!caseInstancesById.isEmpty()) {
+            List<VariableInstanceEntity> variableInstances = CommandContextUtil.getVariableService()
+                    .findVariableInstancesForQueryResults(new QueryResultVariablesCriteria()
+                            .scopeIds(caseInstancesById.keySet(), ScopeTypes.CMMN)
+                            .variableNames(query.getVariableNamesToInclude()));
+            for (VariableInstanceEntity variableInstance : variableInstances) {
+                CaseInstanceEntityImpl caseInstance = caseInstancesById.get(variableInstance.getScopeId());
+                if (caseInstance != null) {
+                    caseInstance.getQueryVariables().add(variableInstance);
                 }
-            } else {
-                int toIndex = maxResults > 0 ? Math.min(maxResults, instanceList.size()) : instanceList.size();
-                return instanceList.subList(0, toIndex);
             }
         }
-        return Collections.EMPTY_LIST;
+
+        return caseInstances;
     }
 
     @Override
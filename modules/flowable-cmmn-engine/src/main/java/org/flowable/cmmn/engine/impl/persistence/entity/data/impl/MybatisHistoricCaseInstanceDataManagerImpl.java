@@ -12,8 +12,9 @@
  */
 package org.flowable.cmmn.engine.impl.persistence.entity.data.impl;
 
-import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.flowable.cmmn.api.history.HistoricCaseInstance;
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
@@ -23,6 +24,10 @@ import org.flowable.cmmn.engine.impl.persistence.entity.HistoricCaseInstanceEnti
 import org.flowable.cmmn.engine.impl.persistence.entity.data.AbstractCmmnDataManager;
 import org.flowable.cmmn.engine.impl.persistence.entity.data.HistoricCaseInstanceDataManager;
 import org.flowable.cmmn.engine.impl.persistence.entity.data.impl.matcher.HistoricCaseInstanceByCaseDefinitionIdMatcher;
+import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
+import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.variable.service.impl.QueryResultVariablesCriteria;
+import org.flowable.variable.service.impl.persistence.entity.HistoricVariableInstanceEntity;
 
 /**
  * @author Joram Barrez
@@ -64,41 +69,35 @@ public class MybatisHistoricCaseInstanceDataManagerImpl extends AbstractCmmnData
     @Override
     @SuppressWarnings("unchecked")
     public List<HistoricCaseInstance> findWithVariablesByQueryCriteria(HistoricCaseInstanceQueryImpl historicCaseInstanceQuery) {
-        // paging doesn't work for combining process instances and variables
-        // due to an outer join, so doing it in-memory
-
-        int firstResult = historicCaseInstanceQuery.getFirstResult();
-        int maxResults = historicCaseInstanceQuery.getMaxResults();
-
-        // setting max results, limit to 20000 results for performance reasons
-        if (historicCaseInstanceQuery.getCaseVariablesLimit() != null) {
-            historicCaseInstanceQuery.setMaxResults(historicCaseInstanceQuery.getCaseVariablesLimit());
-        } else {
-            historicCaseInstanceQuery.setMaxResults(getCmmnEngineConfiguration().getHistoricCaseQueryLimit());
+        // The variables are fetched in a separate query for the page of case instances, instead of outer joining them
+        // in the case instance query, so that the paging can be done by the database
+        List<HistoricCaseInstance> historicCaseInstances = getDbSqlSession().selectListWithRawParameterNoCacheLoadAndStore(
+                        "selectHistoricCaseInstancesByQueryCriteria", historicCaseInstanceQuery, getManagedEntityClass());
+
+        // A case instance returned from the entity cache (query by id) is returned as is
+        Map<String, HistoricCaseInstanceEntity> historicCaseInstancesById = new LinkedHashMap<>();
+        for (HistoricCaseInstance historicCaseInstance : historicCaseInstances) {
+            if (getEntityCache().findInCache(getManagedEntityClass(), historicCaseInstance.getId()) != historicCaseInstance) {
+                historicCaseInstancesById.put(historicCaseInstance.getId(), (HistoricCaseInstanceEntity) historicCaseInstance);
+            }
         }
-        historicCaseInstanceQuery.setFirstResult(0);
 
-        List<HistoricCaseInstance> instanceList = getDbSqlSession().selectListWithRawParameterNoCacheLoadAndStore(
-                        "selectHistoricCaseInstancesWithVariablesByQueryCriteria", historicCaseInstanceQuery, getManagedEntityClass());
-
-        if (instanceList != null && !instanceList.isEmpty()) {
-            if (firstResult > 0) {
-                if (firstResult <= instanceList.size()) {
-                    int toIndex = firstResult + Math.min(maxResults, instanceList.size() - firstResult);
-                    return instanceList.subList(firstResult, toIndex);
-                } else {
-                    return Collections.EMPTY_LIST;
+        if (!historicCaseInstancesById.isEmpty()) {
+            List<HistoricVariableInstanceEntity> historicVariableInstances = CommandContextUtil.getHistoricVariableService()
+                    .findHistoricVariableInstancesForQueryResults(new QueryResultVariablesCriteria()
+                            .scopeIds(historicCaseInstancesById.keySet(), ScopeTypes.CMMN)
+                            .variableNames(historicCaseInstanceQuery.getVariableNamesToInclude()));
+            for (HistoricVariableInstanceEntity historicVariableInstance : historicVariableInstances) {
+                HistoricCaseInstanceEntity historicCaseInstance = historicCaseInstancesById.get(historicVariableInstance.getScopeId());
+                if (historicCaseInstance != null) {
+                    historicCaseInstance.getQueryVariables().add(historicVariableInstance);
                 }
-            } else {
-                int toIndex = maxResults > 0 ? Math.min(maxResults, instanceList.size()) : instanceList.size();
-                return instanceList.subList(0, toIndex);
             }
         }
 
-        return instanceList;
+        return historicCaseInstances;
     }
 
-
     @Override
     public void deleteByCaseDefinitionId(String caseDefinitionId) {
         getDbSqlSession().delete("deleteHistoricCaseInstanceByCaseDefinitionId", caseDefinitionId, getManagedEntityClass());
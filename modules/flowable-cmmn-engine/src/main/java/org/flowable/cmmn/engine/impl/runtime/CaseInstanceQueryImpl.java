@@ -13,6 +13,7 @@
 package org.flowable.cmmn.engine.impl.runtime;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Set;
@@ -59,6 +60,7 @@ public class CaseInstanceQueryImpl extends AbstractVariableQueryImpl<CaseInstanc
     protected String tenantIdLike;
     protected boolean withoutTenantId;
     protected boolean includeCaseVariables;
+    protected Collection<String> variableNamesToInclude;
     protected String involvedUser;
     protected Set<String> involvedGroups;
 
@@ -578,6 +580,20 @@ public class CaseInstanceQueryImpl extends AbstractVariableQueryImpl<CaseInstanc
     @Override
     public CaseInstanceQueryImpl includeCaseVariables() {
         this.includeCaseVariables = true;
+        this.variableNamesToInclude = null;
+        return this;
+    }
+
+    @Override
+    public CaseInstanceQueryImpl includeCaseVariables(Collection<String> variableNames) {
+        if (variableNames == null) {
+            throw new FlowableIllegalArgumentException("Variable names is null");
+        }
+        if (variableNames.isEmpty()) {
+            throw new FlowableIllegalArgumentException("Variable names is empty");
+        }
+        this.includeCaseVariables = true;
+        this.variableNamesToInclude = new ArrayList<>(variableNames);
         return this;
     }
 
@@ -720,6 +736,10 @@ public class CaseInstanceQueryImpl extends AbstractVariableQueryImpl<CaseInstanc
         return includeCaseVariables;
     }
 
+    public Collection<String> getVariableNamesToInclude() {
+        return variableNamesToInclude;
+    }
+
     public String getMssqlOrDB2OrderBy() {
         String specialOrderBy = super.getOrderByColumns();
         if (specialOrderBy != null && specialOrderBy.length() > 0) {
@@ -0,0 +1,87 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.test.eventregistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.flowable.cmmn.engine.test.CmmnDeployment;
+import org.flowable.cmmn.engine.test.FlowableCmmnTestCase;
+import org.flowable.eventregistry.api.EventDeployment;
+import org.flowable.eventregistry.api.EventRepositoryService;
+import org.flowable.eventregistry.api.model.EventPayloadTypes;
+import org.flowable.eventregistry.impl.AsyncOutboundEventProcessor;
+import org.flowable.eventregistry.impl.outbound.AsyncOutboundEventDispatcher;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class CmmnAsyncOutboundEventTest extends FlowableCmmnTestCase {
+
+    protected SendEventTaskTest.TestOutboundEventChannelAdapter outboundEventChannelAdapter;
+    protected AsyncOutboundEventDispatcher outboundEventDispatcher;
+
+    @Before
+    public void registerEventDefinition() {
+        outboundEventChannelAdapter = new SendEventTaskTest.TestOutboundEventChannelAdapter();
+        getEventRegistry().newOutboundChannelModel()
+            .key("out-channel")
+            .channelAdapter(outboundEventChannelAdapter)
+            .jsonSerializer()
+            .register();
+
+        getEventRepositoryService().createEventModelBuilder()
+            .outboundChannelKey("out-channel")
+            .key("testEvent")
+            .resourceName("testEvent.event")
+            .payload("customerId", EventPayloadTypes.STRING)
+            .deploy();
+
+        // Not started, the stored events are published by the test itself
+        outboundEventDispatcher = new AsyncOutboundEventDispatcher(getEventRegistryEngineConfiguration(), 100, 0, 4);
+        getEventRegistry().setOutboundEventProcessor(new AsyncOutboundEventProcessor(getEventRegistry(), outboundEventDispatcher));
+    }
+
+    @After
+    public void unregisterEventDefinition() {
+        outboundEventDispatcher.publishOutboundEvents();
+        getEventRegistry().setOutboundEventProcessor(getEventRegistryEngineConfiguration().getOutboundEventProcessor());
+        getEventRegistry().removeChannelModel("out-channel");
+        EventRepositoryService eventRepositoryService = getEventRepositoryService();
+        List<EventDeployment> deployments = eventRepositoryService.createDeploymentQuery().list();
+        for (EventDeployment eventDeployment : deployments) {
+            eventRepositoryService.deleteDeployment(eventDeployment.getId());
+        }
+    }
+
+    @Test
+    @CmmnDeployment(resources = "org/flowable/cmmn/test/eventregistry/SendEventTaskTest.testSimpleSendEvent.cmmn")
+    public void testEventIsStoredInOutboxAndPublishedAfterCommit() {
+        cmmnRuntimeService.createCaseInstanceBuilder()
+            .caseDefinitionKey("testSendEvent")
+            .variable("myVariable", "Hello World!")
+            .start();
+
+        // The event is stored in the outbox of the event registry within the same transaction
+        assertThat(outboundEventChannelAdapter.receivedEvents).isEmpty();
+        assertThat(cmmnManagementService.createJobQuery().count()).isZero();
+
+        assertThat(outboundEventDispatcher.publishOutboundEvents()).isEqualTo(1);
+
+        assertThat(outboundEventChannelAdapter.receivedEvents).hasSize(1);
+        assertThat(outboundEventChannelAdapter.receivedEvents.get(0)).contains("\"customerId\":\"Hello World!\"");
+        assertThat(outboundEventDispatcher.publishOutboundEvents()).isZero();
+    }
+
+}
@@ -15,6 +15,8 @@ package org.flowable.cmmn.test.eventregistry;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.entry;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
 
@@ -27,8 +29,10 @@ import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.eventregistry.api.EventDeployment;
 import org.flowable.eventregistry.api.EventRegistry;
 import org.flowable.eventregistry.api.EventRepositoryService;
+import org.flowable.eventregistry.api.InboundEvent;
 import org.flowable.eventregistry.api.InboundEventChannelAdapter;
 import org.flowable.eventregistry.api.model.EventPayloadTypes;
+import org.flowable.eventregistry.impl.event.DefaultInboundEvent;
 import org.flowable.eventsubscription.api.EventSubscription;
 import org.junit.After;
 import org.junit.Before;
@@ -322,6 +326,70 @@ public class CmmnEventRegistryConsumerTest extends FlowableCmmnTestCase {
         }
     }
 
+    @Test
+    @CmmnDeployment(resources = "org/flowable/cmmn/test/eventregistry/CmmnEventRegistryConsumerTest.testGenericEventListenerWithCorrelation.cmmn")
+    public void testBatchGenericEventListenerWithCorrelation() {
+        int originalBatchSize = cmmnEngineConfiguration.getEventRegistryConsumerBatchSize();
+        cmmnEngineConfiguration.setEventRegistryConsumerBatchSize(4);
+        try {
+            List<String> caseInstanceIds = new ArrayList<>();
+            List<String> customerIds = new ArrayList<>();
+            for (int i = 0; i < 15; i++) {
+                CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder()
+                    .caseDefinitionKey("singleCorrelationCase")
+                    .variable("customerIdVar", "customer" + i)
+                    .start();
+                caseInstanceIds.add(caseInstance.getId());
+                if (i % 3 != 0) {
+                    customerIds.add("customer" + i);
+                }
+            }
+            customerIds.add("fozzie");
+
+            inboundEventChannelAdapter.triggerTestEvents(customerIds);
+
+            for (int i = 0; i < 15; i++) {
+                assertThat(cmmnTaskService.createTaskQuery().caseInstanceId(caseInstanceIds.get(i)).list()).hasSize(i % 3 != 0 ? 2 : 1);
+            }
+
+        } finally {
+            cmmnEngineConfiguration.setEventRegistryConsumerBatchSize(originalBatchSize);
+        }
+    }
+
+    @Test
+    @CmmnDeployment(resources = "org/flowable/cmmn/test/eventregistry/CmmnEventRegistryConsumerTest.testCaseStartOnlyOneInstance.cmmn")
+    public void testBatchCaseStartOnlyOneInstance() {
+        inboundEventChannelAdapter.triggerTestEvents(Arrays.asList("testCustomer", "testCustomer", "anotherCustomer", "testCustomer", "anotherCustomer"));
+
+        assertThat(cmmnRuntimeService.createCaseInstanceQuery().list())
+            .extracting(CaseInstance::getReferenceType)
+            .containsExactly(ReferenceTypes.EVENT_CASE, ReferenceTypes.EVENT_CASE);
+    }
+
+    @Test
+    @CmmnDeployment(resources = "org/flowable/cmmn/test/eventregistry/CmmnEventRegistryConsumerTest.testGenericEventListenerWithCorrelation.cmmn")
+    public void testBatchWithMoreCorrelationKeysThanFitInOneQuery() {
+        CaseInstance firstCaseInstance = cmmnRuntimeService.createCaseInstanceBuilder()
+            .caseDefinitionKey("singleCorrelationCase")
+            .variable("customerIdVar", "customer0")
+            .start();
+        CaseInstance lastCaseInstance = cmmnRuntimeService.createCaseInstanceBuilder()
+            .caseDefinitionKey("singleCorrelationCase")
+            .variable("customerIdVar", "customer1100")
+            .start();
+
+        // The correlation keys are split over several queries, as some databases limit the number of values in an 'in' clause
+        List<String> customerIds = new ArrayList<>();
+        for (int i = 0; i <= 1200; i++) {
+            customerIds.add("customer" + i);
+        }
+        inboundEventChannelAdapter.triggerTestEvents(customerIds);
+
+        assertThat(cmmnTaskService.createTaskQuery().caseInstanceId(firstCaseInstance.getId()).list()).hasSize(2);
+        assertThat(cmmnTaskService.createTaskQuery().caseInstanceId(lastCaseInstance.getId()).list()).hasSize(2);
+    }
+
     private static class TestInboundEventChannelAdapter implements InboundEventChannelAdapter {
 
         public String channelKey;
@@ -350,6 +418,18 @@ public class CmmnEventRegistryConsumerTest extends FlowableCmmnTestCase {
         }
 
         public void triggerTestEvent(String customerId, String orderId) {
+            eventRegistry.eventReceived(channelKey, createTestEvent(customerId, orderId));
+        }
+
+        public void triggerTestEvents(List<String> customerIds) {
+            List<InboundEvent> events = new ArrayList<>();
+            for (String customerId : customerIds) {
+                events.add(new DefaultInboundEvent(createTestEvent(customerId, null)));
+            }
+            eventRegistry.eventsReceived(channelKey, events);
+        }
+
+        protected String createTestEvent(String customerId, String orderId) {
             ObjectMapper objectMapper = new ObjectMapper();
 
             ObjectNode json = objectMapper.createObjectNode();
@@ -364,7 +444,7 @@ public class CmmnEventRegistryConsumerTest extends FlowableCmmnTestCase {
             json.put("payload1", "Hello World");
             json.put("payload2", new Random().nextInt());
             try {
-                eventRegistry.eventReceived(channelKey, objectMapper.writeValueAsString(json));
+                return objectMapper.writeValueAsString(json);
             } catch (JsonProcessingException e) {
                 throw new RuntimeException(e);
             }
@@ -0,0 +1,163 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.test.history;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.stream.Stream;
+
+import org.flowable.cmmn.api.history.HistoricCaseInstance;
+import org.flowable.cmmn.api.runtime.CaseInstance;
+import org.flowable.cmmn.api.runtime.CaseInstanceState;
+import org.flowable.cmmn.engine.impl.history.archive.CmmnHistoryArchiveManager;
+import org.flowable.cmmn.engine.impl.history.archive.DefaultCmmnHistoryArchiveManager;
+import org.flowable.cmmn.engine.test.CmmnDeployment;
+import org.flowable.cmmn.engine.test.FlowableCmmnTestCase;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.history.HistoryLevel;
+import org.flowable.common.engine.impl.history.archive.FileSystemHistoryArchiveStore;
+import org.flowable.task.api.Task;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class HistoryArchiveTest extends FlowableCmmnTestCase {
+
+    protected Path archiveDirectory;
+    protected CmmnHistoryArchiveManager originalHistoryArchiveManager;
+    protected DefaultCmmnHistoryArchiveManager historyArchiveManager;
+
+    @Before
+    public void setUpHistoryArchive() throws IOException {
+        archiveDirectory = Files.createTempDirectory("flowable-cmmn-history-archive");
+        originalHistoryArchiveManager = cmmnEngineConfiguration.getHistoryArchiveManager();
+        historyArchiveManager = new DefaultCmmnHistoryArchiveManager(cmmnEngineConfiguration, new FileSystemHistoryArchiveStore(archiveDirectory));
+        cmmnEngineConfiguration.setHistoryArchiveManager(historyArchiveManager);
+    }
+
+    @After
+    public void tearDownHistoryArchive() throws IOException {
+        cmmnEngineConfiguration.setHistoryArchiveManager(originalHistoryArchiveManager);
+        try (Stream<Path> paths = Files.walk(archiveDirectory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    @CmmnDeployment(resources = "org/flowable/cmmn/test/one-human-task-model.cmmn")
+    public void testArchiveHistoricCaseInstances() {
+        if (cmmnEngineConfiguration.getHistoryLevel() == HistoryLevel.NONE) {
+            return;
+        }
+
+        CaseInstance finishedCaseInstance = cmmnRuntimeService.createCaseInstanceBuilder()
+                .caseDefinitionKey("oneTaskCase")
+                .businessKey("archived")
+                .variable("amount", 123L)
+                .start();
+        Task task = cmmnTaskService.createTaskQuery().caseInstanceId(finishedCaseInstance.getId()).singleResult();
+        cmmnTaskService.complete(task.getId());
+
+        CaseInstance runningCaseInstance = cmmnRuntimeService.createCaseInstanceBuilder().caseDefinitionKey("oneTaskCase").start();
+
+        assertEquals(1, cmmnHistoryService.archiveHistoricCaseInstances(new Date(System.currentTimeMillis() + 1000), 10));
+
+        // The history of the finished case instance is deleted from the history tables, and not returned by the history queries anymore
+        assertEquals(0, cmmnHistoryService.createHistoricCaseInstanceQuery().caseInstanceId(finishedCaseInstance.getId()).count());
+        assertEquals(0, cmmnHistoryService.createHistoricPlanItemInstanceQuery().planItemInstanceCaseInstanceId(finishedCaseInstance.getId()).count());
+        assertEquals(0, cmmnHistoryService.createHistoricVariableInstanceQuery().caseInstanceId(finishedCaseInstance.getId()).count());
+        assertEquals(1, cmmnHistoryService.createHistoricCaseInstanceQuery().caseInstanceId(runningCaseInstance.getId()).count());
+
+        HistoricCaseInstance historicCaseInstance = cmmnHistoryService.createArchivedHistoricCaseInstanceQuery()
+                .caseInstanceId(finishedCaseInstance.getId())
+                .singleResult();
+        assertNotNull(historicCaseInstance);
+        assertEquals("archived", historicCaseInstance.getBusinessKey());
+        assertEquals(finishedCaseInstance.getCaseDefinitionId(), historicCaseInstance.getCaseDefinitionId());
+        assertEquals(CaseInstanceState.COMPLETED, historicCaseInstance.getState());
+        assertNotNull(historicCaseInstance.getEndTime());
+
+        assertEquals(1, cmmnHistoryService.createArchivedHistoricCaseInstanceQuery().caseDefinitionId(finishedCaseInstance.getCaseDefinitionId()).count());
+        assertEquals(0, cmmnHistoryService.createArchivedHistoricCaseInstanceQuery()
+                .caseInstanceId(finishedCaseInstance.getId())
+                .finishedBefore(historicCaseInstance.getStartTime())
+                .count());
+        assertNull(cmmnHistoryService.createArchivedHistoricCaseInstanceQuery().caseInstanceId(runningCaseInstance.getId()).singleResult());
+
+        // Nothing left to archive
+        assertEquals(0, cmmnHistoryService.archiveHistoricCaseInstances(new Date(System.currentTimeMillis() + 1000), 10));
+    }
+
+    @Test
+    @CmmnDeployment(resources = {
+            "org/flowable/cmmn/test/history/HistoryArchiveTest.testArchiveSubCaseInstancesWithRoot.cmmn",
+            "org/flowable/cmmn/test/one-human-task-model.cmmn"
+    })
+    public void testArchiveSubCaseInstancesWithRoot() {
+        if (cmmnEngineConfiguration.getHistoryLevel() == HistoryLevel.NONE) {
+            return;
+        }
+
+        CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder().caseDefinitionKey("parentCase").start();
+        CaseInstance subCaseInstance = cmmnRuntimeService.createCaseInstanceQuery().caseDefinitionKey("oneTaskCase").singleResult();
+        cmmnTaskService.complete(cmmnTaskService.createTaskQuery().caseInstanceId(subCaseInstance.getId()).singleResult().getId());
+        assertEquals(0, cmmnRuntimeService.createCaseInstanceQuery().count());
+
+        assertEquals(2, cmmnHistoryService.archiveHistoricCaseInstances(new Date(System.currentTimeMillis() + 1000), 10));
+
+        assertEquals(0, cmmnHistoryService.createHistoricCaseInstanceQuery().count());
+        assertThat(cmmnHistoryService.createArchivedHistoricCaseInstanceQuery().orderByCaseInstanceId().asc().list())
+                .extracting(HistoricCaseInstance::getId)
+                .containsExactlyInAnyOrder(caseInstance.getId(), subCaseInstance.getId());
+        assertThat(cmmnHistoryService.createArchivedHistoricCaseInstanceQuery().caseInstanceParentId(caseInstance.getId()).list())
+                .extracting(HistoricCaseInstance::getId)
+                .containsExactly(subCaseInstance.getId());
+        assertEquals(1, cmmnHistoryService.createArchivedHistoricCaseInstanceQuery().orderByStartTime().desc().listPage(1, 5).size());
+    }
+
+    @Test
+    @CmmnDeployment(resources = "org/flowable/cmmn/test/one-human-task-model.cmmn")
+    public void testRolledBackArchiveIsDeleted() throws IOException {
+        if (cmmnEngineConfiguration.getHistoryLevel() == HistoryLevel.NONE) {
+            return;
+        }
+
+        CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder().caseDefinitionKey("oneTaskCase").start();
+        cmmnTaskService.complete(cmmnTaskService.createTaskQuery().caseInstanceId(caseInstance.getId()).singleResult().getId());
+
+        Date finishedBefore = new Date(System.currentTimeMillis() + 1000);
+        assertThatThrownBy(() -> cmmnEngineConfiguration.getCommandExecutor().execute(commandContext -> {
+            historyArchiveManager.archiveHistoricCaseInstances(finishedBefore, 10, commandContext);
+            throw new FlowableException("rollback");
+        })).isInstanceOf(FlowableException.class).hasMessage("rollback");
+
+        for (String partition : historyArchiveManager.getHistoryArchiveStore().getPartitions()) {
+            assertThat(historyArchiveManager.getHistoryArchiveStore().getFileNames(partition)).isEmpty();
+        }
+        assertEquals(0, cmmnHistoryService.createArchivedHistoricCaseInstanceQuery().count());
+        assertEquals(1, cmmnHistoryService.createHistoricCaseInstanceQuery().caseInstanceId(caseInstance.getId()).count());
+
+        assertEquals(1, cmmnHistoryService.archiveHistoricCaseInstances(finishedBefore, 10));
+        assertEquals(1, cmmnHistoryService.createArchivedHistoricCaseInstanceQuery().count());
+    }
+
+}
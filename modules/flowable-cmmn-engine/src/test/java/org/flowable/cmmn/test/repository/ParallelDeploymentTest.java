@@ -0,0 +1,136 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.test.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.flowable.cmmn.api.repository.CaseDefinition;
+import org.flowable.cmmn.api.repository.CmmnDeployment;
+import org.flowable.cmmn.api.repository.CmmnDeploymentBuilder;
+import org.flowable.cmmn.converter.CmmnXMLException;
+import org.flowable.cmmn.engine.test.FlowableCmmnTestCase;
+import org.flowable.common.engine.impl.DeploymentTaskExecutor;
+import org.flowable.common.engine.impl.util.IoUtil;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Deploys several resources with a deployment task pool, which converts and renders the resources in parallel.
+ */
+public class ParallelDeploymentTest extends FlowableCmmnTestCase {
+
+    protected static final String[] RESOURCES = {
+            "org/flowable/cmmn/test/one-human-task-model.cmmn",
+            "org/flowable/cmmn/test/repository/DeploymentTest.testCaseDefinitionDI.cmmn",
+            "org/flowable/cmmn/test/runtime/PlanItemInstanceQueryTest.testPlanItemInstanceQuery.cmmn",
+            "org/flowable/cmmn/test/runtime/UserEventListenerTest.testNestedUserEventListener.cmmn"
+    };
+
+    protected DeploymentTaskExecutor originalDeploymentTaskExecutor;
+    protected DeploymentTaskExecutor deploymentTaskExecutor;
+
+    @Before
+    public void setUp() {
+        originalDeploymentTaskExecutor = cmmnEngineConfiguration.getDeploymentTaskExecutor();
+        deploymentTaskExecutor = new DeploymentTaskExecutor(4, "test-deployment-");
+        cmmnEngineConfiguration.setDeploymentTaskExecutor(deploymentTaskExecutor);
+    }
+
+    @After
+    public void tearDown() {
+        cmmnEngineConfiguration.setDeploymentTaskExecutor(originalDeploymentTaskExecutor);
+        deploymentTaskExecutor.shutdown();
+
+        for (CmmnDeployment cmmnDeployment : cmmnRepositoryService.createDeploymentQuery().list()) {
+            cmmnRepositoryService.deleteDeployment(cmmnDeployment.getId(), true);
+        }
+    }
+
+    @Test
+    public void testDeploySeveralResources() {
+        Map<String, byte[]> diagrams = deployAndGetDiagrams();
+        assertThat(diagrams.keySet()).containsExactlyInAnyOrder("oneTaskCase", "caseB", "testPlanItemInstanceQuery", "testNestedUserEventListener");
+
+        // Only the cases with diagram interchange information get a diagram
+        assertThat(diagrams.get("oneTaskCase")).isNull();
+        assertThat(diagrams.get("caseB")).isNotEmpty();
+        assertThat(diagrams.get("testPlanItemInstanceQuery")).isNotEmpty();
+        assertThat(diagrams.get("testNestedUserEventListener")).isNotEmpty();
+
+        // The definitions can be used as if they were deployed sequentially
+        assertThat(cmmnRuntimeService.createCaseInstanceBuilder().caseDefinitionKey("oneTaskCase").start().getId()).isNotNull();
+        assertThat(cmmnTaskService.createTaskQuery().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void testDiagramsSameAsSequentialDeployment() {
+        Map<String, byte[]> parallelDiagrams = deployAndGetDiagrams();
+
+        cmmnEngineConfiguration.setDeploymentTaskExecutor(null);
+        Map<String, byte[]> sequentialDiagrams = deployAndGetDiagrams();
+
+        assertThat(parallelDiagrams.keySet()).isEqualTo(sequentialDiagrams.keySet());
+        for (Map.Entry<String, byte[]> diagram : parallelDiagrams.entrySet()) {
+            assertThat(diagram.getValue()).as(diagram.getKey()).isEqualTo(sequentialDiagrams.get(diagram.getKey()));
+        }
+    }
+
+    @Test
+    public void testDeployInvalidResource() {
+        CmmnDeploymentBuilder deploymentBuilder = cmmnRepositoryService.createDeployment();
+        for (String resource : RESOURCES) {
+            deploymentBuilder.addClasspathResource(resource);
+        }
+        deploymentBuilder.addString("invalidCase.cmmn", "<?xml version='1.0' encoding='UTF-8'?>"
+                + "<definitions xmlns='http://www.omg.org/spec/CMMN/20151109/MODEL' targetNamespace='http://flowable.org/cmmn'>"
+                + "  <case id='invalidCase'>"
+                + "    <casePlanModel id='planModel'>"
+                + "  </case>"
+                + "</definitions>");
+
+        // The error names the failing resource and keeps the type of a sequential deployment, and nothing is deployed
+        assertThatThrownBy(deploymentBuilder::deploy)
+                .isExactlyInstanceOf(CmmnXMLException.class)
+                .hasMessageContaining("invalidCase.cmmn");
+        assertThat(cmmnRepositoryService.createDeploymentQuery().count()).isZero();
+        assertThat(cmmnRepositoryService.createCaseDefinitionQuery().count()).isZero();
+    }
+
+    /**
+     * Deploys all resources and returns the generated diagram of each deployed case definition, by case definition key.
+     */
+    protected Map<String, byte[]> deployAndGetDiagrams() {
+        CmmnDeploymentBuilder deploymentBuilder = cmmnRepositoryService.createDeployment();
+        for (String resource : RESOURCES) {
+            deploymentBuilder.addClasspathResource(resource);
+        }
+        String deploymentId = deploymentBuilder.deploy().getId();
+
+        Map<String, byte[]> diagrams = new HashMap<>();
+        for (CaseDefinition caseDefinition : cmmnRepositoryService.createCaseDefinitionQuery().deploymentId(deploymentId).list()) {
+            byte[] diagram = null;
+            if (caseDefinition.getDiagramResourceName() != null) {
+                diagram = IoUtil.readInputStream(cmmnRepositoryService.getResourceAsStream(deploymentId, caseDefinition.getDiagramResourceName()),
+                        caseDefinition.getDiagramResourceName());
+            }
+            diagrams.put(caseDefinition.getKey(), diagram);
+        }
+        return diagrams;
+    }
+
+}
@@ -33,6 +33,7 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.assertj.core.api.Assertions;
 import org.flowable.cmmn.api.delegate.DelegatePlanItemInstance;
 import org.flowable.cmmn.api.delegate.PlanItemJavaDelegate;
+import org.flowable.cmmn.api.history.HistoricCaseInstance;
 import org.flowable.cmmn.api.history.HistoricMilestoneInstance;
 import org.flowable.cmmn.api.runtime.CaseInstance;
 import org.flowable.cmmn.api.runtime.PlanItemInstance;
@@ -326,6 +327,30 @@ public class VariablesTest extends FlowableCmmnTestCase {
         assertThat(updatedCaseInstance.getCaseVariables().get("varToUpdate"), is("newValue"));
     }
 
+    @Test
+    @CmmnDeployment(resources = "org/flowable/cmmn/test/task/CmmnTaskServiceTest.testOneHumanTaskCase.cmmn")
+    public void testIncludeNamedCaseVariables() {
+        CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder()
+                .variable("includedVar", "included")
+                .variable("otherVar", "other")
+                .caseDefinitionKey("oneHumanTaskCase")
+                .start();
+
+        CaseInstance queriedCaseInstance = cmmnRuntimeService.createCaseInstanceQuery().
+                caseInstanceId(caseInstance.getId()).
+                includeCaseVariables(Collections.singletonList("includedVar")).
+                singleResult();
+        assertThat(queriedCaseInstance.getCaseVariables().size(), is(1));
+        assertThat(queriedCaseInstance.getCaseVariables().get("includedVar"), is("included"));
+
+        HistoricCaseInstance historicCaseInstance = cmmnHistoryService.createHistoricCaseInstanceQuery().
+                caseInstanceId(caseInstance.getId()).
+                includeCaseVariables(Collections.singletonList("otherVar")).
+                singleResult();
+        assertThat(historicCaseInstance.getCaseVariables().size(), is(1));
+        assertThat(historicCaseInstance.getCaseVariables().get("otherVar"), is("other"));
+    }
+
     @Test
     @CmmnDeployment(resources = "org/flowable/cmmn/test/task/CmmnTaskServiceTest.testOneHumanTaskCase.cmmn")
     public void testSetVariableOnNonExistingCase() {
@@ -0,0 +1,109 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.test.sentry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.flowable.cmmn.api.runtime.CaseInstance;
+import org.flowable.cmmn.api.runtime.PlanItemDefinitionType;
+import org.flowable.cmmn.api.runtime.PlanItemInstance;
+import org.flowable.cmmn.api.runtime.PlanItemInstanceState;
+import org.flowable.cmmn.engine.test.CmmnDeployment;
+import org.flowable.cmmn.engine.test.FlowableCmmnTestCase;
+import org.flowable.cmmn.model.CmmnModel;
+import org.flowable.task.api.Task;
+import org.junit.Test;
+
+/**
+ * Tests the evaluation of sentries through the on-part index of the case model, verifying the outcome is the same as with a full evaluation.
+ */
+public class IncrementalSentryEvaluationTest extends FlowableCmmnTestCase {
+
+    @Test
+    @CmmnDeployment
+    public void testOnPartIndex() {
+        String caseDefinitionId = cmmnRepositoryService.createCaseDefinitionQuery().caseDefinitionKey("incrementalSentryEvaluation").singleResult().getId();
+        CmmnModel cmmnModel = cmmnRepositoryService.getCmmnModel(caseDefinitionId);
+
+        assertThat(cmmnModel.getCriterionIdsForOnPart("planItemA", "complete")).containsOnly("entryCriterionB", "entryCriterionC");
+        assertThat(cmmnModel.getCriterionIdsForOnPart("planItemB", "complete")).containsOnly("entryCriterionC");
+        assertThat(cmmnModel.getCriterionIdsForOnPart("planItemC", "complete")).containsOnly("entryCriterionD");
+        assertThat(cmmnModel.getCriterionIdsForOnPart("planItemE", "complete")).containsOnly("exitCriterionD");
+        assertThat(cmmnModel.getCriterionIdsForOnPart("planItemA", "terminate")).isEmpty();
+        assertThat(cmmnModel.getCriterionIdsForOnPart("unknown", "complete")).isEmpty();
+    }
+
+    @Test
+    @CmmnDeployment(resources = "org/flowable/cmmn/test/sentry/IncrementalSentryEvaluationTest.testOnPartIndex.cmmn")
+    public void testIncrementalSentryEvaluation() {
+        assertThat(cmmnEngineConfiguration.isEnableIncrementalSentryEvaluation()).isTrue();
+        runCaseInstance();
+    }
+
+    @Test
+    @CmmnDeployment(resources = "org/flowable/cmmn/test/sentry/IncrementalSentryEvaluationTest.testOnPartIndex.cmmn")
+    public void testFullSentryEvaluation() {
+        cmmnEngineConfiguration.setEnableIncrementalSentryEvaluation(false);
+        try {
+            runCaseInstance();
+        } finally {
+            cmmnEngineConfiguration.setEnableIncrementalSentryEvaluation(true);
+        }
+    }
+
+    protected void runCaseInstance() {
+        CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder().caseDefinitionKey("incrementalSentryEvaluation").start();
+        assertThat(getActiveTaskNames(caseInstance)).containsExactly("A");
+
+        // completing A activates B and satisfies the first on-part of the sentry of C
+        completeTask(caseInstance, "A");
+        assertThat(getActiveTaskNames(caseInstance)).containsExactly("B");
+        assertThat(getAvailablePlanItemNames(caseInstance)).containsExactly("C", "D", "E");
+
+        completeTask(caseInstance, "B");
+        assertThat(getActiveTaskNames(caseInstance)).containsExactly("C");
+
+        completeTask(caseInstance, "C");
+        assertThat(getActiveTaskNames(caseInstance)).containsExactly("D");
+        assertThat(getAvailablePlanItemNames(caseInstance)).containsExactly("E");
+
+        // the if-part only sentry depends on variables and not on any lifecycle event
+        cmmnRuntimeService.setVariable(caseInstance.getId(), "activateE", true);
+        assertThat(getActiveTaskNames(caseInstance)).containsExactly("D", "E");
+
+        // completing E triggers the exit sentry of D, which completes the case
+        completeTask(caseInstance, "E");
+        assertCaseInstanceEnded(caseInstance);
+    }
+
+    protected void completeTask(CaseInstance caseInstance, String name) {
+        Task task = cmmnTaskService.createTaskQuery().caseInstanceId(caseInstance.getId()).taskName(name).singleResult();
+        cmmnTaskService.complete(task.getId());
+    }
+
+    protected List<String> getActiveTaskNames(CaseInstance caseInstance) {
+        return cmmnTaskService.createTaskQuery().caseInstanceId(caseInstance.getId()).orderByTaskName().asc().list()
+            .stream().map(Task::getName).collect(Collectors.toList());
+    }
+
+    protected List<String> getAvailablePlanItemNames(CaseInstance caseInstance) {
+        return cmmnRuntimeService.createPlanItemInstanceQuery().caseInstanceId(caseInstance.getId())
+            .planItemDefinitionType(PlanItemDefinitionType.HUMAN_TASK).planItemInstanceState(PlanItemInstanceState.AVAILABLE)
+            .orderByName().asc().list()
+            .stream().map(PlanItemInstance::getName).collect(Collectors.toList());
+    }
+
+}
@@ -13,8 +13,20 @@
 package org.flowable.cmmn.image;
 
 import java.awt.image.BufferedImage;
+import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 
+import javax.imageio.ImageIO;
+
+import org.flowable.cmmn.image.exception.FlowableImageException;
 import org.flowable.cmmn.model.CmmnModel;
 
 /**
@@ -56,6 +68,61 @@ public interface CaseDiagramGenerator {
     public InputStream generateDiagram(CmmnModel cmmnModel, String imageType, String activityFontName, String labelFontName,
             String annotationFontName, ClassLoader customClassLoader);
 
+    /**
+     * Generates a diagram like {@link #generateDiagram(CmmnModel, String, String, String, String, ClassLoader, double)},
+     * but allows the generator to cache the diagram under the given cache key, so that it doesn't need to be rendered on every call.
+     * 
+     * The cache key needs to identify the model, e.g. the case definition id, as cached diagrams are not invalidated when the model changes.
+     * By default, the diagram is generated without using a cache.
+     * 
+     * @param cacheKey
+     *            identifies the cmmn model in the cache
+     */
+    default InputStream generateCachedDiagram(String cacheKey, CmmnModel cmmnModel, String imageType, String activityFontName, String labelFontName,
+            String annotationFontName, ClassLoader customClassLoader, double scaleFactor) {
+
+        return generateDiagram(cmmnModel, imageType, activityFontName, labelFontName, annotationFontName, customClassLoader, scaleFactor);
+    }
+
+    /**
+     * Writes the diagram as an SVG document to the given output stream.
+     * 
+     * The cache key needs to identify the model, e.g. the case definition id, as cached diagrams are not invalidated when the model changes.
+     * By default, a PNG diagram is generated with {@link #generateCachedDiagram(String, CmmnModel, String, String, String, String, ClassLoader, double)}
+     * and embedded in the document.
+     * 
+     * @param cacheKey
+     *            identifies the cmmn model in the cache
+     * @param outputStream
+     *            the stream the document is written to, which is not closed
+     */
+    default void writeSvgDiagram(String cacheKey, CmmnModel cmmnModel, String activityFontName, String labelFontName, String annotationFontName,
+            ClassLoader customClassLoader, double scaleFactor, OutputStream outputStream) {
+
+        try (InputStream pngDiagram = generateCachedDiagram(cacheKey, cmmnModel, "png", activityFontName, labelFontName, annotationFontName,
+                customClassLoader, scaleFactor)) {
+
+            ByteArrayOutputStream pngBytes = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = pngDiagram.read(buffer)) != -1) {
+                pngBytes.write(buffer, 0, read);
+            }
+            BufferedImage image = ImageIO.read(new ByteArrayInputStream(pngBytes.toByteArray()));
+
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            writer.write("<svg xmlns=\"http://www.w3.org/2000/svg\" xmlns:xlink=\"http://www.w3.org/1999/xlink\" width=\"" + image.getWidth()
+                    + "\" height=\"" + image.getHeight() + "\">\n");
+            writer.write("<image x=\"0\" y=\"0\" width=\"" + image.getWidth() + "\" height=\"" + image.getHeight()
+                    + "\" xlink:href=\"data:image/png;base64," + Base64.getEncoder().encodeToString(pngBytes.toByteArray()) + "\"/>\n");
+            writer.write("</svg>\n");
+            writer.flush();
+
+        } catch (IOException e) {
+            throw new FlowableImageException("Error while writing case diagram", e);
+        }
+    }
+
     public InputStream generatePngDiagram(CmmnModel cmmnModel);
 
     public InputStream generatePngDiagram(CmmnModel cmmnModel, double scaleFactor);
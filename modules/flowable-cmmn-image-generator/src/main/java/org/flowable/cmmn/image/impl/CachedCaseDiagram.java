@@ -0,0 +1,53 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.image.impl;
+
+import java.util.Base64;
+
+/**
+ * An encoded case diagram, cached by the {@link DefaultCaseDiagramGenerator} so that the diagram is only rendered once per case definition.
+ */
+public class CachedCaseDiagram {
+
+    protected byte[] encodedImage;
+    protected int width;
+    protected int height;
+
+    protected volatile String base64EncodedImage;
+
+    public CachedCaseDiagram(byte[] encodedImage, int width, int height) {
+        this.encodedImage = encodedImage;
+        this.width = width;
+        this.height = height;
+    }
+
+    public byte[] getEncodedImage() {
+        return encodedImage;
+    }
+
+    public String getBase64EncodedImage() {
+        if (base64EncodedImage == null) {
+            base64EncodedImage = Base64.getEncoder().encodeToString(encodedImage);
+        }
+        return base64EncodedImage;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+}
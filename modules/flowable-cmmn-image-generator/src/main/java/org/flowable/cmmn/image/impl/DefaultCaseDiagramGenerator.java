@@ -14,14 +14,27 @@
 package org.flowable.cmmn.image.impl;
 
 import java.awt.image.BufferedImage;
+import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.EventListener;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
+import javax.imageio.ImageIO;
+
 import org.flowable.cmmn.image.CaseDiagramGenerator;
+import org.flowable.cmmn.image.exception.FlowableImageException;
 import org.flowable.cmmn.model.Association;
 import org.flowable.cmmn.model.BaseElement;
 import org.flowable.cmmn.model.Case;
@@ -53,6 +66,19 @@ public class DefaultCaseDiagramGenerator implements CaseDiagramGenerator {
 
     protected Map<Class<? extends CmmnElement>, ActivityDrawInstruction> activityDrawInstructions = new HashMap<>();
 
+    // Diagrams cached by generateCachedDiagram and writeSvgDiagram
+    protected int diagramCacheLimit = 100;
+    protected Map<String, CachedCaseDiagram> diagramCache = Collections.synchronizedMap(new LinkedHashMap<String, CachedCaseDiagram>(16, 0.75f, true) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedCaseDiagram> eldest) {
+            return size() > diagramCacheLimit;
+        }
+
+    });
+
     public DefaultCaseDiagramGenerator() {
         this(1.0);
     }
@@ -254,6 +280,79 @@ public class DefaultCaseDiagramGenerator implements CaseDiagramGenerator {
         return generateImage(cmmnModel, "png", scaleFactor);
     }
 
+    /**
+     * Renders the diagram only once per cache key, image type, scale factor and fonts.
+     * The white space around the diagram is cropped like {@link #generateImage(CmmnModel, String, String, String, String, ClassLoader, double)} does.
+     */
+    @Override
+    public InputStream generateCachedDiagram(String cacheKey, CmmnModel cmmnModel, String imageType, String activityFontName, String labelFontName,
+            String annotationFontName, ClassLoader customClassLoader, double scaleFactor) {
+
+        CachedCaseDiagram cachedDiagram = getCachedDiagram(cacheKey, cmmnModel, imageType, activityFontName, labelFontName, annotationFontName,
+                customClassLoader, scaleFactor);
+        return new ByteArrayInputStream(cachedDiagram.getEncodedImage());
+    }
+
+    /**
+     * Writes the diagram as an SVG document to the given output stream, in which the cached PNG image of the diagram is embedded,
+     * so that no image needs to be rendered or encoded for every call.
+     * 
+     * The cache key needs to identify the model, e.g. the case definition id, as cached diagrams are not invalidated when the model changes.
+     */
+    @Override
+    public void writeSvgDiagram(String cacheKey, CmmnModel cmmnModel, String activityFontName, String labelFontName, String annotationFontName,
+            ClassLoader customClassLoader, double scaleFactor, OutputStream outputStream) {
+
+        CachedCaseDiagram cachedDiagram = getCachedDiagram(cacheKey, cmmnModel, "png", activityFontName, labelFontName, annotationFontName,
+                customClassLoader, scaleFactor);
+
+        try {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            writer.write("<svg xmlns=\"http://www.w3.org/2000/svg\" xmlns:xlink=\"http://www.w3.org/1999/xlink\" width=\"" + cachedDiagram.getWidth()
+                    + "\" height=\"" + cachedDiagram.getHeight() + "\">\n");
+            writer.write("<image x=\"0\" y=\"0\" width=\"" + cachedDiagram.getWidth() + "\" height=\"" + cachedDiagram.getHeight()
+                    + "\" xlink:href=\"data:image/png;base64,");
+            writer.write(cachedDiagram.getBase64EncodedImage());
+            writer.write("\"/>\n");
+            writer.write("</svg>\n");
+            writer.flush();
+
+        } catch (IOException e) {
+            throw new FlowableImageException("Error while writing case diagram", e);
+        }
+    }
+
+    protected CachedCaseDiagram getCachedDiagram(String cacheKey, CmmnModel cmmnModel, String imageType,
+            String activityFontName, String labelFontName, String annotationFontName, ClassLoader customClassLoader, double scaleFactor) {
+
+        String diagramKey = cacheKey + "|" + imageType + "|" + scaleFactor + "|" + activityFontName + "|" + labelFontName + "|" + annotationFontName;
+        CachedCaseDiagram cachedDiagram = diagramCache.get(diagramKey);
+        if (cachedDiagram == null) {
+            DefaultCaseDiagramCanvas caseDiagramCanvas = generateCaseDiagram(cmmnModel, imageType, activityFontName, labelFontName, annotationFontName,
+                    customClassLoader, scaleFactor);
+            // Cropped like generateImage does
+            BufferedImage image = caseDiagramCanvas.generateBufferedImage(imageType);
+            caseDiagramCanvas.close();
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            try {
+                ImageIO.write(image, imageType, out);
+            } catch (IOException e) {
+                throw new FlowableImageException("Error while generating case image", e);
+            }
+            cachedDiagram = new CachedCaseDiagram(out.toByteArray(), image.getWidth(), image.getHeight());
+            diagramCache.put(diagramKey, cachedDiagram);
+        }
+        return cachedDiagram;
+    }
+
+    /**
+     * Removes all cached diagrams.
+     */
+    public void clearDiagramCache() {
+        diagramCache.clear();
+    }
+
     protected DefaultCaseDiagramCanvas generateCaseDiagram(CmmnModel cmmnModel, String imageType,
             String activityFontName, String labelFontName, String annotationFontName, ClassLoader customClassLoader, double scaleFactor) {
 
@@ -530,6 +629,14 @@ public class DefaultCaseDiagramGenerator implements CaseDiagramGenerator {
                 imageType, activityFontName, labelFontName, annotationFontName, customClassLoader);
     }
 
+    public int getDiagramCacheLimit() {
+        return diagramCacheLimit;
+    }
+
+    public void setDiagramCacheLimit(int diagramCacheLimit) {
+        this.diagramCacheLimit = diagramCacheLimit;
+    }
+
     public Map<Class<? extends CmmnElement>, ActivityDrawInstruction> getActivityDrawInstructions() {
         return activityDrawInstructions;
     }
@@ -0,0 +1,154 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.image.impl;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.imageio.ImageIO;
+
+import org.flowable.cmmn.model.Case;
+import org.flowable.cmmn.model.CmmnModel;
+import org.flowable.cmmn.model.GraphicInfo;
+import org.flowable.cmmn.model.HumanTask;
+import org.flowable.cmmn.model.PlanItem;
+import org.flowable.cmmn.model.Stage;
+import org.junit.Test;
+
+public class DefaultCaseDiagramGeneratorTest {
+
+    protected DefaultCaseDiagramGenerator diagramGenerator = new DefaultCaseDiagramGenerator();
+
+    @Test
+    public void testCachedDiagram() throws IOException {
+        byte[] cachedDiagram = readBytes(diagramGenerator.generateCachedDiagram("oneHumanTask", createCmmnModel(), "png", null, null, null, null, 1.0));
+
+        // Cropped like the uncached image
+        BufferedImage uncachedImage = diagramGenerator.generateImage(createCmmnModel(), "png", 1.0);
+        assertSameImage(uncachedImage, ImageIO.read(new ByteArrayInputStream(cachedDiagram)));
+
+        // The second call returns the cached diagram, even for another instance of the model
+        assertArrayEquals(cachedDiagram, readBytes(diagramGenerator.generateCachedDiagram("oneHumanTask", createCmmnModel(), "png",
+                null, null, null, null, 1.0)));
+        assertEquals(1, diagramGenerator.diagramCache.size());
+    }
+
+    @Test
+    public void testDiagramCacheLimit() throws IOException {
+        diagramGenerator.setDiagramCacheLimit(2);
+        for (String cacheKey : Arrays.asList("a", "b", "a", "c")) {
+            readBytes(diagramGenerator.generateCachedDiagram(cacheKey, createCmmnModel(), "png", null, null, null, null, 1.0));
+        }
+
+        // The least recently used diagram is removed
+        List<String> cacheKeys = new ArrayList<>();
+        for (String diagramKey : diagramGenerator.diagramCache.keySet()) {
+            cacheKeys.add(diagramKey.substring(0, diagramKey.indexOf('|')));
+        }
+        assertEquals(Arrays.asList("a", "c"), cacheKeys);
+
+        diagramGenerator.clearDiagramCache();
+        assertTrue(diagramGenerator.diagramCache.isEmpty());
+    }
+
+    @Test
+    public void testSvgDiagram() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        diagramGenerator.writeSvgDiagram("oneHumanTask", createCmmnModel(), null, null, null, null, 1.0, outputStream);
+        String svg = new String(outputStream.toByteArray(), StandardCharsets.UTF_8);
+
+        // The embedded image is the cached diagram, and the document has its size
+        Matcher imageMatcher = Pattern.compile("xlink:href=\"data:image/png;base64,([^\"]+)\"").matcher(svg);
+        assertTrue(imageMatcher.find());
+        byte[] embeddedImage = Base64.getDecoder().decode(imageMatcher.group(1));
+        assertArrayEquals(readBytes(diagramGenerator.generateCachedDiagram("oneHumanTask", createCmmnModel(), "png", null, null, null, null, 1.0)),
+                embeddedImage);
+
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(embeddedImage));
+        assertTrue(svg.startsWith("<svg "));
+        assertTrue(svg.contains("width=\"" + image.getWidth() + "\" height=\"" + image.getHeight() + "\""));
+    }
+
+    protected CmmnModel createCmmnModel() {
+        Stage planModel = new Stage();
+        planModel.setId("planModel");
+        planModel.setName("Plan model");
+        planModel.setPlanModel(true);
+
+        HumanTask humanTask = new HumanTask();
+        humanTask.setId("humanTask");
+        humanTask.setName("Task");
+        planModel.addPlanItemDefinition(humanTask);
+
+        PlanItem planItem = new PlanItem();
+        planItem.setId("planItem1");
+        planItem.setName("Task");
+        planItem.setDefinitionRef("humanTask");
+        planItem.setPlanItemDefinition(humanTask);
+        planModel.addPlanItem(planItem);
+
+        Case caze = new Case();
+        caze.setId("oneHumanTask");
+        caze.setPlanModel(planModel);
+
+        CmmnModel cmmnModel = new CmmnModel();
+        cmmnModel.addCase(caze);
+        cmmnModel.addGraphicInfo("planModel", createGraphicInfo(100, 80, 400, 250));
+        cmmnModel.addGraphicInfo("planItem1", createGraphicInfo(180, 140, 100, 80));
+        return cmmnModel;
+    }
+
+    protected GraphicInfo createGraphicInfo(double x, double y, double width, double height) {
+        GraphicInfo graphicInfo = new GraphicInfo();
+        graphicInfo.setX(x);
+        graphicInfo.setY(y);
+        graphicInfo.setWidth(width);
+        graphicInfo.setHeight(height);
+        return graphicInfo;
+    }
+
+    protected void assertSameImage(BufferedImage expectedImage, BufferedImage image) {
+        assertEquals(expectedImage.getWidth(), image.getWidth());
+        assertEquals(expectedImage.getHeight(), image.getHeight());
+        for (int x = 0; x < image.getWidth(); x++) {
+            for (int y = 0; y < image.getHeight(); y++) {
+                assertEquals("pixel " + x + "," + y, expectedImage.getRGB(x, y), image.getRGB(x, y));
+            }
+        }
+    }
+
+    protected byte[] readBytes(InputStream inputStream) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        int read;
+        while ((read = inputStream.read(buffer)) != -1) {
+            outputStream.write(buffer, 0, read);
+        }
+        return outputStream.toByteArray();
+    }
+
+}
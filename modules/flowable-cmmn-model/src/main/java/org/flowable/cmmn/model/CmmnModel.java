@@ -14,11 +14,14 @@ package org.flowable.cmmn.model;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Joram Barrez
@@ -51,6 +54,12 @@ public class CmmnModel {
 
     protected Map<String, String> namespaceMap = new LinkedHashMap<>();
 
+    /**
+     * Index of (source plan item id, standard event) to the ids of the criteria having a sentry with a matching on-part.
+     * Built lazily when first needed, as the model is not changed anymore once it is used at runtime.
+     */
+    protected volatile Map<String, Set<String>> onPartCriterionIdsIndex;
+
     public void addCase(Case caze) {
         cases.add(caze);
     }
@@ -188,6 +197,64 @@ public class CmmnModel {
         return criterionMap.get(key);
     }
 
+    /**
+     * Returns the ids of all entry and exit criteria of this model having a sentry with an on-part that listens to the given standard event
+     * (lifecycle transition) of the given source plan item. Never returns null.
+     */
+    public Set<String> getCriterionIdsForOnPart(String sourcePlanItemId, String standardEvent) {
+        Map<String, Set<String>> index = onPartCriterionIdsIndex;
+        if (index == null) {
+            index = createOnPartCriterionIdsIndex();
+            onPartCriterionIdsIndex = index;
+        }
+
+        Set<String> criterionIds = index.get(getOnPartIndexKey(sourcePlanItemId, standardEvent));
+        return criterionIds != null ? criterionIds : Collections.emptySet();
+    }
+
+    protected Map<String, Set<String>> createOnPartCriterionIdsIndex() {
+        Map<String, Set<String>> index = new HashMap<>();
+        for (Case caseModel : cases) {
+            Stage planModel = caseModel.getPlanModel();
+            if (planModel != null) {
+                addCriteriaToOnPartIndex(index, planModel.getExitCriteria());
+                addPlanFragmentToOnPartIndex(index, planModel);
+            }
+        }
+        return index;
+    }
+
+    protected void addPlanFragmentToOnPartIndex(Map<String, Set<String>> index, PlanFragment planFragment) {
+        for (PlanItem planItem : planFragment.getPlanItems()) {
+            addCriteriaToOnPartIndex(index, planItem.getEntryCriteria());
+            addCriteriaToOnPartIndex(index, planItem.getExitCriteria());
+
+            if (planItem.getPlanItemDefinition() instanceof PlanFragment) {
+                addPlanFragmentToOnPartIndex(index, (PlanFragment) planItem.getPlanItemDefinition());
+            }
+        }
+    }
+
+    protected void addCriteriaToOnPartIndex(Map<String, Set<String>> index, List<Criterion> criteria) {
+        if (criteria == null) {
+            return;
+        }
+
+        for (Criterion criterion : criteria) {
+            Sentry sentry = criterion.getSentry();
+            if (sentry != null) {
+                for (SentryOnPart sentryOnPart : sentry.getOnParts()) {
+                    index.computeIfAbsent(getOnPartIndexKey(sentryOnPart.getSourceRef(), sentryOnPart.getStandardEvent()), key -> new HashSet<>())
+                        .add(criterion.getId());
+                }
+            }
+        }
+    }
+
+    protected String getOnPartIndexKey(String sourcePlanItemId, String standardEvent) {
+        return sourcePlanItemId + '#' + standardEvent;
+    }
+
     public void addCriterionTechnicalId(String technicalId, String id) {
         criterionTechnicalIdMap.put(technicalId, id);
     }
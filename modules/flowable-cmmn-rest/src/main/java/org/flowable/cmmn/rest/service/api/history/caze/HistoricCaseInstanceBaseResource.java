@@ -110,6 +110,9 @@ public class HistoricCaseInstanceBaseResource {
                 query.includeCaseVariables();
             }
         }
+        if (queryRequest.getIncludeCaseVariableNames() != null) {
+            query.includeCaseVariables(queryRequest.getIncludeCaseVariableNames());
+        }
         if (queryRequest.getVariables() != null) {
             addVariables(query, queryRequest.getVariables());
         }
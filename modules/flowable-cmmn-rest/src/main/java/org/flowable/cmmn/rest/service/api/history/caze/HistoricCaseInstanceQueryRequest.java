@@ -13,6 +13,7 @@
 
 package org.flowable.cmmn.rest.service.api.history.caze;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 
@@ -41,6 +42,7 @@ public class HistoricCaseInstanceQueryRequest extends PaginateRequest {
     private Date startedBefore;
     private String startedBy;
     private Boolean includeCaseVariables;
+    private Collection<String> includeCaseVariableNames;
     private List<QueryVariable> variables;
     private String tenantId;
     private Boolean withoutTenantId;
@@ -157,6 +159,14 @@ public class HistoricCaseInstanceQueryRequest extends PaginateRequest {
         this.includeCaseVariables = includeCaseVariables;
     }
 
+    public Collection<String> getIncludeCaseVariableNames() {
+        return includeCaseVariableNames;
+    }
+
+    public void setIncludeCaseVariableNames(Collection<String> includeCaseVariableNames) {
+        this.includeCaseVariableNames = includeCaseVariableNames;
+    }
+
     @JsonTypeInfo(use = Id.CLASS, defaultImpl = QueryVariable.class)
     public List<QueryVariable> getVariables() {
         return variables;
@@ -202,6 +202,9 @@ public class HistoricTaskInstanceBaseResource {
                 query.includeTaskLocalVariables();
             }
         }
+        if (queryRequest.getIncludeTaskLocalVariableNames() != null) {
+            query.includeTaskLocalVariables(queryRequest.getIncludeTaskLocalVariableNames());
+        }
 
         if (queryRequest.getTaskVariables() != null) {
             addTaskVariables(query, queryRequest.getTaskVariables());
@@ -13,6 +13,7 @@
 
 package org.flowable.cmmn.rest.service.api.history.task;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 
@@ -62,6 +63,7 @@ public class HistoricTaskInstanceQueryRequest extends PaginateRequest {
     private Date taskCompletedBefore;
     private Date taskCompletedAfter;
     private Boolean includeTaskLocalVariables;
+    private Collection<String> includeTaskLocalVariableNames;
     private List<QueryVariable> taskVariables;
     private String tenantId;
     private String tenantIdLike;
@@ -348,6 +350,14 @@ public class HistoricTaskInstanceQueryRequest extends PaginateRequest {
         this.includeTaskLocalVariables = includeTaskLocalVariables;
     }
 
+    public Collection<String> getIncludeTaskLocalVariableNames() {
+        return includeTaskLocalVariableNames;
+    }
+
+    public void setIncludeTaskLocalVariableNames(Collection<String> includeTaskLocalVariableNames) {
+        this.includeTaskLocalVariableNames = includeTaskLocalVariableNames;
+    }
+
     @JsonTypeInfo(use = Id.CLASS, defaultImpl = QueryVariable.class)
     public List<QueryVariable> getTaskVariables() {
         return taskVariables;
@@ -92,6 +92,9 @@ public class BaseCaseInstanceResource {
                 query.includeCaseVariables();
             }
         }
+        if (queryRequest.getIncludeCaseVariableNames() != null) {
+            query.includeCaseVariables(queryRequest.getIncludeCaseVariableNames());
+        }
         if (queryRequest.getVariables() != null) {
             addVariables(query, queryRequest.getVariables());
         }
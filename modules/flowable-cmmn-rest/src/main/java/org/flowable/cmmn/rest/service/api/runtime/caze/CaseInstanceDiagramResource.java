@@ -13,6 +13,7 @@
 
 package org.flowable.cmmn.rest.service.api.runtime.caze;
 
+import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 
 import javax.servlet.http.HttpServletResponse;
@@ -68,7 +69,7 @@ public class CaseInstanceDiagramResource extends BaseCaseInstanceResource {
         if (caseDef != null && caseDef.hasGraphicalNotation()) {
             CmmnModel cmmnModel = repositoryService.getCmmnModel(caseDef.getId());
             CaseDiagramGenerator diagramGenerator = cmmnEngineConfiguration.getCaseDiagramGenerator();
-            InputStream resource = diagramGenerator.generateDiagram(cmmnModel, "png", cmmnEngineConfiguration.getActivityFontName(), cmmnEngineConfiguration.getLabelFontName(),
+            InputStream resource = diagramGenerator.generateCachedDiagram(caseDef.getId(), cmmnModel, "png", cmmnEngineConfiguration.getActivityFontName(), cmmnEngineConfiguration.getLabelFontName(),
                             cmmnEngineConfiguration.getAnnotationFontName(), cmmnEngineConfiguration.getClassLoader(), 1.0);
 
             HttpHeaders responseHeaders = new HttpHeaders();
@@ -83,4 +84,33 @@ public class CaseInstanceDiagramResource extends BaseCaseInstanceResource {
             throw new FlowableIllegalArgumentException("Case instance with id '" + caseInstance.getId() + "' has no graphical notation defined.");
         }
     }
+
+    @ApiOperation(value = "Get diagram for a case instance as SVG", tags = { "Case Instances" },
+            notes = "Returned instead of the PNG diagram when the request accepts image/svg+xml.")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Indicates the case instance was found and the diagram was returned."),
+            @ApiResponse(code = 400, message = "Indicates the requested case instance was not found but the process does not contain any graphical information (CMMN DI) and no diagram can be created."),
+            @ApiResponse(code = 404, message = "Indicates the requested case instance was not found.")
+    })
+    @GetMapping(value = "/cmmn-runtime/case-instances/{caseInstanceId}/diagram", produces = "image/svg+xml")
+    public ResponseEntity<byte[]> getCaseInstanceSvgDiagram(@ApiParam(name = "caseInstanceId") @PathVariable String caseInstanceId, HttpServletResponse response) {
+        CaseInstance caseInstance = getCaseInstanceFromRequest(caseInstanceId);
+
+        CaseDefinition caseDef = repositoryService.getCaseDefinition(caseInstance.getCaseDefinitionId());
+
+        if (caseDef != null && caseDef.hasGraphicalNotation()) {
+            CmmnModel cmmnModel = repositoryService.getCmmnModel(caseDef.getId());
+            CaseDiagramGenerator diagramGenerator = cmmnEngineConfiguration.getCaseDiagramGenerator();
+            ByteArrayOutputStream svgDiagram = new ByteArrayOutputStream();
+            diagramGenerator.writeSvgDiagram(caseDef.getId(), cmmnModel, cmmnEngineConfiguration.getActivityFontName(), cmmnEngineConfiguration.getLabelFontName(),
+                            cmmnEngineConfiguration.getAnnotationFontName(), cmmnEngineConfiguration.getClassLoader(), 1.0, svgDiagram);
+
+            HttpHeaders responseHeaders = new HttpHeaders();
+            responseHeaders.set("Content-Type", "image/svg+xml");
+            return new ResponseEntity<>(svgDiagram.toByteArray(), responseHeaders, HttpStatus.OK);
+
+        } else {
+            throw new FlowableIllegalArgumentException("Case instance with id '" + caseInstance.getId() + "' has no graphical notation defined.");
+        }
+    }
 }
@@ -13,6 +13,7 @@
 
 package org.flowable.cmmn.rest.service.api.runtime.caze;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.cmmn.rest.service.api.engine.variable.QueryVariable;
@@ -33,6 +34,7 @@ public class CaseInstanceQueryRequest extends PaginateRequest {
     private String caseInstanceParentId;
     private String involvedUser;
     private Boolean includeCaseVariables;
+    private Collection<String> includeCaseVariableNames;
     private List<QueryVariable> variables;
     private String tenantId;
     private String tenantIdLike;
@@ -94,6 +96,14 @@ public class CaseInstanceQueryRequest extends PaginateRequest {
         this.includeCaseVariables = includeCaseVariables;
     }
 
+    public Collection<String> getIncludeCaseVariableNames() {
+        return includeCaseVariableNames;
+    }
+
+    public void setIncludeCaseVariableNames(Collection<String> includeCaseVariableNames) {
+        this.includeCaseVariableNames = includeCaseVariableNames;
+    }
+
     @JsonTypeInfo(use = Id.CLASS, defaultImpl = QueryVariable.class)
     public List<QueryVariable> getVariables() {
         return variables;
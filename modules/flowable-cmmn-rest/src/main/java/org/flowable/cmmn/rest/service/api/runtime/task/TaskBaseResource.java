@@ -237,6 +237,9 @@ public class TaskBaseResource {
                 taskQuery.includeTaskLocalVariables();
             }
         }
+        if (request.getIncludeTaskLocalVariableNames() != null) {
+            taskQuery.includeTaskLocalVariables(request.getIncludeTaskLocalVariableNames());
+        }
 
         if (request.getCaseDefinitionId() != null) {
             taskQuery.caseDefinitionId(request.getCaseDefinitionId());
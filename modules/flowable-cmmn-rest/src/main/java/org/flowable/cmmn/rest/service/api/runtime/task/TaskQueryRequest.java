@@ -60,6 +60,7 @@ public class TaskQueryRequest extends PaginateRequest {
     private Boolean withoutDueDate;
     private Boolean active;
     private Boolean includeTaskLocalVariables;
+    private Collection<String> includeTaskLocalVariableNames;
     private String tenantId;
     private String tenantIdLike;
     private Boolean withoutTenantId;
@@ -316,6 +317,14 @@ public class TaskQueryRequest extends PaginateRequest {
         this.includeTaskLocalVariables = includeTaskLocalVariables;
     }
 
+    public Collection<String> getIncludeTaskLocalVariableNames() {
+        return includeTaskLocalVariableNames;
+    }
+
+    public void setIncludeTaskLocalVariableNames(Collection<String> includeTaskLocalVariableNames) {
+        this.includeTaskLocalVariableNames = includeTaskLocalVariableNames;
+    }
+
     @JsonTypeInfo(use = Id.CLASS, defaultImpl = QueryVariable.class)
     public List<QueryVariable> getTaskVariables() {
         return taskVariables;
@@ -26,6 +26,7 @@ public class DataResponse<T> {
     String sort;
     String order;
     int size;
+    String next;
 
     public List<T> getData() {
         return data;
@@ -75,4 +76,15 @@ public class DataResponse<T> {
     public void setSize(int size) {
         this.size = size;
     }
+
+    /**
+     * @return the cursor to pass as 'after' parameter to get the next page, or null when there are no more results or the resource doesn't support cursors
+     */
+    public String getNext() {
+        return next;
+    }
+
+    public void setNext(String next) {
+        this.next = next;
+    }
 }
@@ -18,6 +18,7 @@ import java.util.Map;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.query.Query;
 import org.flowable.common.engine.api.query.QueryProperty;
+import org.flowable.common.engine.api.query.ScrollableQuery;
 
 /**
  * A util class that can be used to perform easy pagination (with defaults provided by Flowable).
@@ -77,6 +78,14 @@ public interface PaginateListUtil {
             paginateRequest.setSort(requestParams.get("sort"));
         }
 
+        if (paginateRequest.getAfter() == null) {
+            paginateRequest.setAfter(requestParams.get("after"));
+        }
+
+        if (paginateRequest.getIncludeTotal() == null) {
+            paginateRequest.setIncludeTotal(RequestUtil.getBoolean(requestParams, "includeTotal", true));
+        }
+
         return paginateList(paginateRequest, query, defaultSort, properties, listProcessor);
     }
 
@@ -135,9 +144,43 @@ public interface PaginateListUtil {
         response.setSort(sort);
         response.setOrder(order);
 
+        String after = paginateRequest.getAfter();
+        boolean includeTotal = paginateRequest.getIncludeTotal() == null || paginateRequest.getIncludeTotal();
+
+        // When no total is needed, one more element is fetched to know whether there are more results
+        int maxResults = includeTotal ? size : size + 1;
+
         // Get result and set pagination parameters
-        List<RES> list = listProcessor.processList(query.listPage(start, size));
-        if (start == 0 && list.size() < size) {
+        List<REQ> queryResult;
+        if (after != null) {
+            if (!(query instanceof ScrollableQuery)) {
+                throw new FlowableIllegalArgumentException("Param 'after' is not supported for this resource");
+            }
+            if (start != 0) {
+                throw new FlowableIllegalArgumentException("Param 'after' can not be combined with param 'start'");
+            }
+            // An empty 'after' fetches the first page
+            queryResult = ((ScrollableQuery<?, REQ>) query).listPageAfter(after.isEmpty() ? null : after, maxResults);
+        } else {
+            queryResult = query.listPage(start, maxResults);
+        }
+
+        boolean hasMoreResults = false;
+        if (queryResult.size() > size) {
+            hasMoreResults = true;
+            queryResult = queryResult.subList(0, size);
+        }
+
+        // The cursor of the next page is only returned when paging with cursors, as not every order supports them
+        if (after != null && !queryResult.isEmpty() && (includeTotal ? queryResult.size() == size : hasMoreResults)) {
+            response.setNext(((ScrollableQuery<?, REQ>) query).getCursor(queryResult.get(queryResult.size() - 1)));
+        }
+
+        List<RES> list = listProcessor.processList(queryResult);
+        if (!includeTotal) {
+            // Estimated total, it is only guaranteed to be larger than the returned elements when there are more results
+            response.setTotal(start + list.size() + (hasMoreResults ? 1 : 0));
+        } else if (start == 0 && after == null && list.size() < size) {
             response.setTotal(list.size());
         } else {
             response.setTotal(query.count());
@@ -0,0 +1,114 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.content.api;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * An {@link InputStream} returning only a part of the wrapped stream: the given offset is skipped and at most the given length is read.
+ * A negative length reads until the end of the wrapped stream.
+ */
+public class ContentRangeInputStream extends FilterInputStream {
+
+    protected long remaining;
+    protected boolean offsetSkipped;
+    protected long offset;
+
+    public ContentRangeInputStream(InputStream inputStream, long offset, long length) {
+        super(inputStream);
+        if (offset < 0) {
+            throw new IllegalArgumentException("offset can not be negative");
+        }
+        this.offset = offset;
+        this.remaining = length < 0 ? Long.MAX_VALUE : length;
+    }
+
+    protected void skipOffset() throws IOException {
+        if (!offsetSkipped) {
+            offsetSkipped = true;
+            long toSkip = offset;
+            while (toSkip > 0) {
+                long skipped = in.skip(toSkip);
+                if (skipped <= 0) {
+                    // skip is not guaranteed to skip, reading makes sure the end of the stream is detected
+                    if (in.read() == -1) {
+                        remaining = 0;
+                        return;
+                    }
+                    skipped = 1;
+                }
+                toSkip -= skipped;
+            }
+        }
+    }
+
+    @Override
+    public int read() throws IOException {
+        skipOffset();
+        if (remaining <= 0) {
+            return -1;
+        }
+        int result = in.read();
+        if (result != -1) {
+            remaining--;
+        }
+        return result;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        skipOffset();
+        if (remaining <= 0) {
+            return -1;
+        }
+        int read = in.read(b, off, (int) Math.min(len, remaining));
+        if (read > 0) {
+            remaining -= read;
+        }
+        return read;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        skipOffset();
+        long skipped = in.skip(Math.min(n, remaining));
+        if (skipped > 0) {
+            remaining -= skipped;
+        }
+        return skipped;
+    }
+
+    @Override
+    public int available() throws IOException {
+        skipOffset();
+        return (int) Math.min(in.available(), remaining);
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public synchronized void mark(int readlimit) {
+        // not supported
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        throw new IOException("mark/reset not supported");
+    }
+
+}
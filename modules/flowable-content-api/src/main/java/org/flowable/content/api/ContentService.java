@@ -13,6 +13,7 @@
 package org.flowable.content.api;
 
 import java.io.InputStream;
+import java.nio.channels.WritableByteChannel;
 
 /**
  * @author Tijs Rademakers
@@ -27,6 +28,18 @@ public interface ContentService {
 
     InputStream getContentItemData(String contentItemId);
 
+    /**
+     * Returns a part of the data of the content item, starting at the given offset (in bytes) and with at most the given length.
+     * A negative length returns everything after the offset.
+     */
+    InputStream getContentItemData(String contentItemId, long offset, long length);
+
+    /**
+     * Writes a part of the data of the content item to the given channel, without loading it in memory, and returns the number of written bytes.
+     * A negative length writes everything after the offset. The channel is not closed.
+     */
+    long transferContentItemData(String contentItemId, long offset, long length, WritableByteChannel target);
+
     void deleteContentItem(String contentItemId);
 
     void deleteContentItemsByProcessInstanceId(String processInstanceId);
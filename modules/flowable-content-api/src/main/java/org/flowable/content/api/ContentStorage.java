@@ -12,7 +12,10 @@
  */
 package org.flowable.content.api;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
 import java.util.Map;
 
 /**
@@ -51,6 +54,59 @@ public interface ContentStorage {
      */
     ContentObject getContentObject(String id);
 
+    /**
+     * Returns a part of the content with the given id, starting at the given offset (in bytes). Storages that can read parts of the content directly should
+     * override this, by default the content is read from the start and the offset is skipped.
+     *
+     * @param id
+     * @param offset
+     *            the position of the first byte to return
+     * @param length
+     *            the maximum number of bytes to return, a negative length returns everything after the offset
+     * @return the stream to read the requested part of the content from. The caller should close the stream after usage.
+     * @throws ContentNotFoundException
+     *             When the content with the given id does not exist
+     */
+    default InputStream getContentStream(String id, long offset, long length) {
+        return new ContentRangeInputStream(getContentObject(id).getContent(), offset, length);
+    }
+
+    /**
+     * Writes a part of the content with the given id to the given channel, without the need to keep the content in memory.
+     * Storages backed by files should override this to transfer the content directly from the file to the target.
+     *
+     * @param id
+     * @param offset
+     *            the position of the first byte to write
+     * @param length
+     *            the maximum number of bytes to write, a negative length writes everything after the offset
+     * @param target
+     *            the channel to write to, which is not closed by this method
+     * @return the number of bytes written
+     * @throws ContentNotFoundException
+     *             When the content with the given id does not exist
+     * @throws ContentStorageException
+     *             When an error occurred while writing the content.
+     */
+    default long transferContent(String id, long offset, long length, WritableByteChannel target) {
+        try (InputStream contentStream = getContentStream(id, offset, length)) {
+            byte[] buffer = new byte[8192];
+            long transferred = 0;
+            int read;
+            while ((read = contentStream.read(buffer)) != -1) {
+                ByteBuffer byteBuffer = ByteBuffer.wrap(buffer, 0, read);
+                while (byteBuffer.hasRemaining()) {
+                    target.write(byteBuffer);
+                }
+                transferred += read;
+            }
+            return transferred;
+
+        } catch (IOException e) {
+            throw new ContentStorageException("Error while transferring content with id: " + id, e);
+        }
+    }
+
     /**
      * @return Returns the metadata that was passed when creating the {@link ContentObject}
      */
@@ -62,7 +62,7 @@ public class ContentEngineConfiguration extends AbstractEngineConfiguration impl
     // /////////////////////////////////////////////////////////////////
 
     protected ContentManagementService contentManagementService = new ContentManagementServiceImpl();
-    protected ContentService contentService = new ContentServiceImpl();
+    protected ContentService contentService = new ContentServiceImpl(this);
 
     // DATA MANAGERS ///////////////////////////////////////////////////
 
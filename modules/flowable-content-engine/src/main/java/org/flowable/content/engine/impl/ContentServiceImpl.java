@@ -13,7 +13,9 @@
 package org.flowable.content.engine.impl;
 
 import java.io.InputStream;
+import java.nio.channels.WritableByteChannel;
 
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.impl.service.CommonEngineServiceImpl;
 import org.flowable.content.api.ContentItem;
 import org.flowable.content.api.ContentItemQuery;
@@ -23,6 +25,7 @@ import org.flowable.content.engine.impl.cmd.CreateContentItemCmd;
 import org.flowable.content.engine.impl.cmd.DeleteContentItemCmd;
 import org.flowable.content.engine.impl.cmd.DeleteContentItemsByScopeCmd;
 import org.flowable.content.engine.impl.cmd.DeleteContentItemsCmd;
+import org.flowable.content.engine.impl.cmd.GetContentItemCmd;
 import org.flowable.content.engine.impl.cmd.GetContentItemStreamCmd;
 import org.flowable.content.engine.impl.cmd.SaveContentItemCmd;
 
@@ -31,6 +34,14 @@ import org.flowable.content.engine.impl.cmd.SaveContentItemCmd;
  */
 public class ContentServiceImpl extends CommonEngineServiceImpl<ContentEngineConfiguration> implements ContentService {
 
+    public ContentServiceImpl() {
+
+    }
+
+    public ContentServiceImpl(ContentEngineConfiguration configuration) {
+        super(configuration);
+    }
+
     @Override
     public ContentItem newContentItem() {
         return commandExecutor.execute(new CreateContentItemCmd());
@@ -51,6 +62,22 @@ public class ContentServiceImpl extends CommonEngineServiceImpl<ContentEngineCon
         return commandExecutor.execute(new GetContentItemStreamCmd(contentItemId));
     }
 
+    @Override
+    public InputStream getContentItemData(String contentItemId, long offset, long length) {
+        return commandExecutor.execute(new GetContentItemStreamCmd(contentItemId, offset, length));
+    }
+
+    @Override
+    public long transferContentItemData(String contentItemId, long offset, long length, WritableByteChannel target) {
+        if (offset < 0) {
+            throw new FlowableIllegalArgumentException("offset can not be negative");
+        }
+
+        // Only the lookup of the content item needs a command context, the (possibly slow) transfer itself is done outside of it
+        ContentItem contentItem = commandExecutor.execute(new GetContentItemCmd(contentItemId));
+        return configuration.getContentStorage().transferContent(contentItem.getContentStoreId(), offset, length, target);
+    }
+
     @Override
     public void deleteContentItem(String contentItemId) {
         commandExecutor.execute(new DeleteContentItemCmd(contentItemId));
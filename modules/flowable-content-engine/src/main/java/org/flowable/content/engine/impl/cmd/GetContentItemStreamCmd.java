@@ -32,11 +32,19 @@ public class GetContentItemStreamCmd implements Command<InputStream>, Serializab
     private static final long serialVersionUID = 1L;
 
     protected String contentItemId;
+    protected long offset;
+    protected long length = -1;
 
     public GetContentItemStreamCmd(String contentItemId) {
         this.contentItemId = contentItemId;
     }
 
+    public GetContentItemStreamCmd(String contentItemId, long offset, long length) {
+        this.contentItemId = contentItemId;
+        this.offset = offset;
+        this.length = length;
+    }
+
     @Override
     public InputStream execute(CommandContext commandContext) {
         if (contentItemId == null) {
@@ -48,7 +56,15 @@ public class GetContentItemStreamCmd implements Command<InputStream>, Serializab
             throw new FlowableObjectNotFoundException("content item could not be found with id " + contentItemId);
         }
 
+        if (offset < 0) {
+            throw new FlowableIllegalArgumentException("offset can not be negative");
+        }
+
         ContentStorage contentStorage = CommandContextUtil.getContentEngineConfiguration().getContentStorage();
+        if (offset > 0 || length >= 0) {
+            return contentStorage.getContentStream(contentItem.getContentStoreId(), offset, length);
+        }
+
         ContentObject contentObject = contentStorage.getContentObject(contentItem.getContentStoreId());
         return contentObject.getContent();
     }
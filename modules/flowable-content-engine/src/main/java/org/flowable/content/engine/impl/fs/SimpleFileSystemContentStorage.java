@@ -20,6 +20,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.flowable.common.engine.api.FlowableObjectNotFoundException;
 import org.flowable.content.api.ContentMetaDataKeys;
 import org.flowable.content.api.ContentObject;
+import org.flowable.content.api.ContentRangeInputStream;
 import org.flowable.content.api.ContentStorage;
 import org.flowable.content.api.ContentStorageException;
 import org.slf4j.Logger;
@@ -29,6 +30,10 @@ import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
 import java.util.Map;
 
 /**
@@ -192,6 +197,54 @@ public class SimpleFileSystemContentStorage implements ContentStorage {
         return new FileSystemContentObject(getContentFile(id), id);
     }
 
+    @Override
+    public InputStream getContentStream(String id, long offset, long length) {
+        File contentFile = getContentFile(id);
+        FileChannel fileChannel;
+        try {
+            fileChannel = FileChannel.open(contentFile.toPath(), StandardOpenOption.READ);
+        } catch (IOException e) {
+            throw new ContentStorageException("Error while reading content with id: " + id, e);
+        }
+
+        try {
+            // Position the channel directly instead of reading and skipping the bytes before the offset
+            fileChannel.position(offset);
+            return new ContentRangeInputStream(Channels.newInputStream(fileChannel), 0, length);
+        } catch (IOException | RuntimeException e) {
+            try {
+                fileChannel.close();
+            } catch (IOException closeException) {
+                e.addSuppressed(closeException);
+            }
+            if (e instanceof RuntimeException) {
+                throw (RuntimeException) e;
+            }
+            throw new ContentStorageException("Error while reading content with id: " + id, e);
+        }
+    }
+
+    @Override
+    public long transferContent(String id, long offset, long length, WritableByteChannel target) {
+        File contentFile = getContentFile(id);
+        try (FileChannel fileChannel = FileChannel.open(contentFile.toPath(), StandardOpenOption.READ)) {
+            long size = fileChannel.size();
+            long end = length < 0 ? size : Math.min(size, offset + length);
+            long position = offset;
+            while (position < end) {
+                // transferTo can copy the file content without moving it through the heap, but is allowed to transfer less than requested
+                long transferred = fileChannel.transferTo(position, end - position, target);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+            }
+            return Math.max(0, position - offset);
+        } catch (IOException e) {
+            throw new ContentStorageException("Error while transferring content with id: " + id, e);
+        }
+    }
+
     protected File getContentFile(String id) {
         String[] ids = id.split("\\.");
         String typePrefix = ids[0];
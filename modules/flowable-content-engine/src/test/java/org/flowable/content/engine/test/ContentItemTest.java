@@ -13,21 +13,26 @@
 package org.flowable.content.engine.test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.Channels;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Date;
 
 import org.apache.commons.io.IOUtils;
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.FlowableObjectNotFoundException;
 import org.flowable.content.api.ContentItem;
 import org.junit.Test;
@@ -312,6 +317,42 @@ public class ContentItemTest extends AbstractFlowableContentTest {
         contentService.deleteContentItem(initialContentItem.getId());
     }
 
+    @Test
+    public void getContentItemDataRange() throws Exception {
+        ContentItem contentItem = contentService.newContentItem();
+        contentItem.setName("testItem");
+        contentItem.setMimeType("text/plain");
+        contentService.saveContentItem(contentItem, new ByteArrayInputStream("hello world".getBytes(StandardCharsets.UTF_8)));
+
+        try (InputStream contentStream = contentService.getContentItemData(contentItem.getId(), 6, 3)) {
+            assertThat(IOUtils.toString(contentStream, StandardCharsets.UTF_8)).isEqualTo("wor");
+        }
+
+        try (InputStream contentStream = contentService.getContentItemData(contentItem.getId(), 6, -1)) {
+            assertThat(IOUtils.toString(contentStream, StandardCharsets.UTF_8)).isEqualTo("world");
+        }
+
+        try (InputStream contentStream = contentService.getContentItemData(contentItem.getId(), 20, 5)) {
+            assertThat(IOUtils.toString(contentStream, StandardCharsets.UTF_8)).isEmpty();
+        }
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        assertThat(contentService.transferContentItemData(contentItem.getId(), 0, 5, Channels.newChannel(outputStream))).isEqualTo(5);
+        assertThat(outputStream.toString("UTF-8")).isEqualTo("hello");
+
+        outputStream = new ByteArrayOutputStream();
+        assertThat(contentService.transferContentItemData(contentItem.getId(), 4, -1, Channels.newChannel(outputStream))).isEqualTo(7);
+        assertThat(outputStream.toString("UTF-8")).isEqualTo("o world");
+
+        assertThatThrownBy(() -> contentService.getContentItemData(contentItem.getId(), -1, 5))
+            .isInstanceOf(FlowableIllegalArgumentException.class);
+
+        contentService.deleteContentItem(contentItem.getId());
+
+        assertThatThrownBy(() -> contentService.transferContentItemData(contentItem.getId(), 0, -1, Channels.newChannel(new ByteArrayOutputStream())))
+            .isInstanceOf(FlowableObjectNotFoundException.class);
+    }
+
     protected void createContentItem() {
         ContentItem contentItem = contentService.newContentItem();
         contentItem.setName("testScopeItem");
@@ -13,22 +13,23 @@
 
 package org.flowable.content.rest.service.api.content;
 
-import java.io.InputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.util.Collections;
+import java.util.List;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
-import org.apache.commons.io.IOUtils;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
-import org.flowable.common.engine.api.FlowableObjectNotFoundException;
 import org.flowable.content.api.ContentItem;
 import org.flowable.content.rest.ContentRestResponseFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -56,42 +57,91 @@ public class ContentItemDataResource extends ContentItemBaseResource {
     protected ContentRestResponseFactory contentRestResponseFactory;
 
     @ApiOperation(value = "Get the data of a content item", tags = {"Content item" },
-            notes = "The response body contains the binary content. By default, the content-type of the response is set to application/octet-stream unless the content item type contains a valid mime type.")
+            notes = "The response body contains the binary content. By default, the content-type of the response is set to application/octet-stream unless the content item type contains a valid mime type. "
+                    + "A single byte range can be requested with the Range header, in which case only that part of the content is returned.")
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Indicates the content item was found and the requested content is returned."),
-            @ApiResponse(code = 404, message = "Indicates the content item was not found or the content item does not have a binary stream available. Status message provides additional information.")
+            @ApiResponse(code = 206, message = "Indicates the content item was found and the requested range of the content is returned."),
+            @ApiResponse(code = 404, message = "Indicates the content item was not found or the content item does not have a binary stream available. Status message provides additional information."),
+            @ApiResponse(code = 416, message = "Indicates the requested range is not within the content of the content item.")
     })
     @GetMapping(value = "/content-service/content-items/{contentItemId}/data")
-    public ResponseEntity<byte[]> getContentItemData(@ApiParam(name = "contentItemId") @PathVariable("contentItemId") String contentItemId, HttpServletResponse response) {
+    public void getContentItemData(@ApiParam(name = "contentItemId") @PathVariable("contentItemId") String contentItemId,
+            HttpServletRequest request, HttpServletResponse response) {
 
         ContentItem contentItem = getContentItemFromRequest(contentItemId);
         if (!contentItem.isContentAvailable()) {
             throw new FlowableException("No data available for content item " + contentItemId);
         }
 
-        InputStream dataStream = contentService.getContentItemData(contentItemId);
-        if (dataStream == null) {
-            throw new FlowableObjectNotFoundException("Content item with id '" + contentItemId + "' doesn't have content associated with it.");
-        }
-
-        HttpHeaders responseHeaders = new HttpHeaders();
         MediaType mediaType = null;
         if (contentItem.getMimeType() != null) {
             try {
                 mediaType = MediaType.valueOf(contentItem.getMimeType());
-                responseHeaders.set("Content-Type", contentItem.getMimeType());
             } catch (Exception e) {
                 // ignore if unknown media type
             }
         }
 
-        if (mediaType == null) {
-            responseHeaders.set("Content-Type", "application/octet-stream");
+        response.setHeader(HttpHeaders.CONTENT_TYPE, mediaType != null ? contentItem.getMimeType() : "application/octet-stream");
+
+        long offset = 0;
+        long length = -1;
+        Long contentSize = contentItem.getContentSize();
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (contentSize != null) {
+            response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+            // Only a single range is supported, for any other request the complete content is returned
+            if (rangeHeader != null) {
+                List<HttpRange> ranges;
+                try {
+                    ranges = HttpRange.parseRanges(rangeHeader);
+                } catch (IllegalArgumentException e) {
+                    ranges = Collections.emptyList();
+                }
+
+                if (ranges.size() == 1) {
+                    HttpRange range = ranges.get(0);
+                    long start;
+                    long end;
+                    try {
+                        start = range.getRangeStart(contentSize);
+                        end = range.getRangeEnd(contentSize);
+                    } catch (IllegalArgumentException e) {
+                        start = -1;
+                        end = -1;
+                    }
+
+                    if (start < 0 || start >= contentSize || end < start) {
+                        response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + contentSize);
+                        response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                        return;
+                    }
+
+                    offset = start;
+                    length = end - start + 1;
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + contentSize);
+                    response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+                }
+            }
+
+            if (length < 0) {
+                response.setStatus(HttpStatus.OK.value());
+                response.setHeader(HttpHeaders.CONTENT_LENGTH, String.valueOf(contentSize));
+            } else {
+                response.setHeader(HttpHeaders.CONTENT_LENGTH, String.valueOf(length));
+            }
+
+        } else {
+            response.setStatus(HttpStatus.OK.value());
         }
 
         try {
-            return new ResponseEntity<>(IOUtils.toByteArray(dataStream), responseHeaders, HttpStatus.OK);
-        } catch (Exception e) {
+            // Transfer the content directly to the response instead of reading it in memory first
+            contentService.transferContentItemData(contentItemId, offset, length, Channels.newChannel(response.getOutputStream()));
+            response.flushBuffer();
+        } catch (IOException e) {
             throw new FlowableException("Error getting content item data " + contentItemId, e);
         }
     }
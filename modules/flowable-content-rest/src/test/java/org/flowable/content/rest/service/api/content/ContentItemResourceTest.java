@@ -98,6 +98,44 @@ public class ContentItemResourceTest extends BaseSpringContentRestTestCase {
         }
     }
 
+    public void testGetContentItemDataRange() throws Exception {
+        InputStream binaryContent = new ByteArrayInputStream("This is binary content".getBytes());
+        String contentItemId = createContentItem("test.pdf", "application/pdf", null,
+                "12345", null, null, "test", "test2", binaryContent);
+
+        try {
+            String url = SERVER_URL_PREFIX + ContentRestUrls.createRelativeResourceUrl(ContentRestUrls.URL_CONTENT_ITEM_DATA, contentItemId);
+
+            HttpGet rangeRequest = new HttpGet(url);
+            rangeRequest.addHeader("Range", "bytes=8-13");
+            CloseableHttpResponse response = executeRequest(rangeRequest, HttpStatus.SC_PARTIAL_CONTENT);
+            assertEquals("bytes 8-13/22", response.getFirstHeader("Content-Range").getValue());
+            assertEquals("bytes", response.getFirstHeader("Accept-Ranges").getValue());
+            try (InputStream contentStream = response.getEntity().getContent()) {
+                assertThat(contentStream).hasContent("binary");
+            }
+            closeResponse(response);
+
+            HttpGet suffixRangeRequest = new HttpGet(url);
+            suffixRangeRequest.addHeader("Range", "bytes=-7");
+            response = executeRequest(suffixRangeRequest, HttpStatus.SC_PARTIAL_CONTENT);
+            assertEquals("bytes 15-21/22", response.getFirstHeader("Content-Range").getValue());
+            try (InputStream contentStream = response.getEntity().getContent()) {
+                assertThat(contentStream).hasContent("content");
+            }
+            closeResponse(response);
+
+            HttpGet unsatisfiableRangeRequest = new HttpGet(url);
+            unsatisfiableRangeRequest.addHeader("Range", "bytes=50-60");
+            response = executeRequest(unsatisfiableRangeRequest, HttpStatus.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+            assertEquals("bytes */22", response.getFirstHeader("Content-Range").getValue());
+            closeResponse(response);
+
+        } finally {
+            contentService.deleteContentItem(contentItemId);
+        }
+    }
+
     public void testUpdateContentItem() throws Exception {
         String contentItemId = createContentItem("test.pdf", "application/pdf", null,
                 "12345", null, null, "test", "test2");
@@ -0,0 +1,50 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.api.query;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * A {@link Query} which can also be read using keyset (seek) pagination and as a stream of results.
+ * Both avoid the cost of offset based paging on deep pages and of loading large result sets in memory at once (e.g. for exports).
+ */
+public interface ScrollableQuery<T extends Query<?, ?>, U extends Object> extends Query<T, U> {
+
+    /**
+     * Executes the query and returns at most maxResults results that come after the position of the given cursor.
+     * Contrary to {@link #listPage(int, int)}, no rows are skipped in the database, so the cost of fetching a page doesn't depend on how deep the page is.
+     * The query needs to be ordered by id (which is the default) or by start time, either ascending or descending.
+     * Results with the same start time are ordered by id. Ordering by another property results in a
+     * {@link org.flowable.common.engine.api.FlowableIllegalArgumentException}.
+     *
+     * @param cursor the cursor of the last result of the previous page, as returned by {@link #getCursor(Object)}, or null to fetch the first page
+     * @param maxResults the maximum number of results to return
+     */
+    List<U> listPageAfter(String cursor, int maxResults);
+
+    /**
+     * Returns the opaque cursor with the position of the given result in the order of this query,
+     * which can be passed to {@link #listPageAfter(String, int)} of a query with the same criteria and order to get the results after it.
+     */
+    String getCursor(U result);
+
+    /**
+     * Executes the query and returns the results as a stream backed by a database cursor.
+     * The results are fetched while the stream is consumed and are not kept in the entity cache.
+     * This method needs to be called within an active command context (e.g. a command executed through the management service)
+     * and the stream needs to be consumed and closed before that command ends.
+     */
+    Stream<U> stream();
+
+}
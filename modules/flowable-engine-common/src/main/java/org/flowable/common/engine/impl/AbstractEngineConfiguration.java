@@ -186,6 +186,19 @@ public abstract class AbstractEngineConfiguration {
     protected long eventRegistryChangeDetectionDelayInMs = 60000L;
     protected EventRegistryChangeDetector eventRegistryChangeDetector;
 
+    /**
+     * The maximum number of event subscriptions that are triggered in one transaction
+     * when an event registry consumer handles a batch of events.
+     */
+    protected int eventRegistryConsumerBatchSize = 50;
+
+    /**
+     * The number of threads used to parse, validate and render the resources of a deployment in parallel.
+     * By default (0 or 1) the resources are handled one by one on the deploying thread.
+     */
+    protected int deploymentTaskPoolSize;
+    protected DeploymentTaskExecutor deploymentTaskExecutor;
+
     // MYBATIS SQL SESSION FACTORY /////////////////////////////////////
 
     protected boolean isDbHistoryUsed = true;
@@ -982,7 +995,17 @@ public abstract class AbstractEngineConfiguration {
         }
     }
 
+    public void initDeploymentTaskExecutor() {
+        if (deploymentTaskExecutor == null && deploymentTaskPoolSize > 1) {
+            deploymentTaskExecutor = new DeploymentTaskExecutor(deploymentTaskPoolSize, "flowable-deployment-");
+        }
+    }
+
     public void close() {
+        if (deploymentTaskExecutor != null) {
+            deploymentTaskExecutor.shutdown();
+        }
+
         if (forceCloseMybatisConnectionPool && dataSource instanceof PooledDataSource) {
             /*
              * When the datasource is created by a Flowable engine (i.e. it's an instance of PooledDataSource),
@@ -1418,6 +1441,33 @@ public abstract class AbstractEngineConfiguration {
         return this;
     }
 
+    public int getEventRegistryConsumerBatchSize() {
+        return eventRegistryConsumerBatchSize;
+    }
+
+    public AbstractEngineConfiguration setEventRegistryConsumerBatchSize(int eventRegistryConsumerBatchSize) {
+        this.eventRegistryConsumerBatchSize = eventRegistryConsumerBatchSize;
+        return this;
+    }
+
+    public int getDeploymentTaskPoolSize() {
+        return deploymentTaskPoolSize;
+    }
+
+    public AbstractEngineConfiguration setDeploymentTaskPoolSize(int deploymentTaskPoolSize) {
+        this.deploymentTaskPoolSize = deploymentTaskPoolSize;
+        return this;
+    }
+
+    public DeploymentTaskExecutor getDeploymentTaskExecutor() {
+        return deploymentTaskExecutor;
+    }
+
+    public AbstractEngineConfiguration setDeploymentTaskExecutor(DeploymentTaskExecutor deploymentTaskExecutor) {
+        this.deploymentTaskExecutor = deploymentTaskExecutor;
+        return this;
+    }
+
     public AbstractEngineConfiguration setDefaultCommandInterceptors(Collection<? extends CommandInterceptor> defaultCommandInterceptors) {
         this.defaultCommandInterceptors = defaultCommandInterceptors;
         return this;
@@ -0,0 +1,99 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.flowable.common.engine.api.FlowableException;
+
+/**
+ * Executes the independent parts of a deployment (e.g. parsing, validating and rendering the diagram of each resource)
+ * in parallel on a bounded pool of threads.
+ *
+ * The tasks run outside of the command context of the deployment, so they can't use it. The deployer persists
+ * the results on the deploying thread, which keeps versioning, persistence and caching in the deployment transaction.
+ */
+public class DeploymentTaskExecutor {
+
+    protected ExecutorService executorService;
+
+    public DeploymentTaskExecutor(int poolSize, String threadNamePrefix) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executorService = Executors.newFixedThreadPool(poolSize, runnable -> {
+            Thread thread = new Thread(runnable, threadNamePrefix + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Applies the task to all items in parallel and returns the results in the order of the items.
+     * A single item is handled on the calling thread.
+     *
+     * This method only returns once all tasks are done. When a task failed, the exception of the first failed item is rethrown.
+     */
+    public <T, R> List<R> executeAll(Collection<T> items, Function<T, R> task) {
+        List<R> results = new ArrayList<>(items.size());
+        if (items.size() == 1) {
+            results.add(task.apply(items.iterator().next()));
+            return results;
+        }
+
+        List<Future<R>> futures = new ArrayList<>(items.size());
+        for (T item : items) {
+            futures.add(executorService.submit(() -> task.apply(item)));
+        }
+
+        Throwable failure = null;
+        for (Future<R> future : futures) {
+            try {
+                results.add(future.get());
+
+            } catch (ExecutionException e) {
+                if (failure == null) {
+                    failure = e.getCause();
+                }
+                results.add(null);
+
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                for (Future<R> remainingFuture : futures) {
+                    remainingFuture.cancel(true);
+                }
+                throw new FlowableException("Interrupted while waiting for the deployment tasks", e);
+            }
+        }
+
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        } else if (failure instanceof Error) {
+            throw (Error) failure;
+        } else if (failure != null) {
+            throw new FlowableException("Deployment task failed", failure);
+        }
+        return results;
+    }
+
+    public void shutdown() {
+        executorService.shutdownNow();
+    }
+
+}
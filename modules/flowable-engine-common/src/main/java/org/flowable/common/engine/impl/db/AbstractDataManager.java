@@ -16,6 +16,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 
 import org.flowable.common.engine.impl.context.Context;
@@ -23,6 +24,7 @@ import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntity;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcher;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
+import org.flowable.common.engine.impl.persistence.cache.IndexedCachedEntityMatcher;
 import org.flowable.common.engine.impl.persistence.entity.Entity;
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
 
@@ -106,7 +108,7 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> implements
     @SuppressWarnings("unchecked")
     protected EntityImpl getEntity(String selectQuery, Object parameter, SingleCachedEntityMatcher<EntityImpl> cachedEntityMatcher, boolean checkDatabase) {
         // Cache
-        for (EntityImpl cachedEntity : getEntityCache().findInCache(getManagedEntityClass())) {
+        for (EntityImpl cachedEntity : getEntityCache().findInCacheAsView(getManagedEntityClass())) {
             if (cachedEntityMatcher.isRetained(cachedEntity, parameter)) {
                 return cachedEntity;
             }
@@ -163,7 +165,7 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> implements
 
                 // Cache entities
                 if (cachedObjects != null && cachedEntityMatcher != null) {
-                    for (CachedEntity cachedObject : cachedObjects) {
+                    for (CachedEntity cachedObject : getCachedObjectsToMatch(getManagedEntityClass(), cachedObjects, cachedEntityMatcher, parameter)) {
                         EntityImpl cachedEntity = (EntityImpl) cachedObject.getEntity();
                         if (cachedEntityMatcher.isRetained(result, cachedObjects, cachedEntity, parameter)) {
                             entityMap.put(cachedEntity.getId(), cachedEntity); // will overwrite db version with newer version
@@ -175,7 +177,7 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> implements
                     for (Class<? extends EntityImpl> entitySubClass : getManagedEntitySubClasses()) {
                         Collection<CachedEntity> subclassCachedObjects = getEntityCache().findInCacheAsCachedObjects(entitySubClass);
                         if (subclassCachedObjects != null) {
-                            for (CachedEntity subclassCachedObject : subclassCachedObjects) {
+                            for (CachedEntity subclassCachedObject : getCachedObjectsToMatch(entitySubClass, subclassCachedObjects, cachedEntityMatcher, parameter)) {
                                 EntityImpl cachedSubclassEntity = (EntityImpl) subclassCachedObject.getEntity();
                                 if (cachedEntityMatcher.isRetained(result, cachedObjects, cachedSubclassEntity, parameter)) {
                                     entityMap.put(cachedSubclassEntity.getId(), cachedSubclassEntity); // will overwrite db version with newer version
@@ -216,7 +218,7 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> implements
 
         List<EntityImpl> result = new ArrayList<>(cachedObjects != null ? cachedObjects.size() : 1);
         if (cachedObjects != null && entityMatcher != null) {
-            for (CachedEntity cachedObject : cachedObjects) {
+            for (CachedEntity cachedObject : getCachedObjectsToMatch(getManagedEntityClass(), cachedObjects, entityMatcher, parameter)) {
                 EntityImpl cachedEntity = (EntityImpl) cachedObject.getEntity();
                 if (entityMatcher.isRetained(null, cachedObjects, cachedEntity, parameter)
                         && (includeDeletedEntities || !dbSqlSession.isEntityToBeDeleted(cachedEntity))) {
@@ -229,7 +231,7 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> implements
             for (Class<? extends EntityImpl> entitySubClass : getManagedEntitySubClasses()) {
                 Collection<CachedEntity> subclassCachedObjects = getEntityCache().findInCacheAsCachedObjects(entitySubClass);
                 if (subclassCachedObjects != null) {
-                    for (CachedEntity subclassCachedObject : subclassCachedObjects) {
+                    for (CachedEntity subclassCachedObject : getCachedObjectsToMatch(entitySubClass, subclassCachedObjects, entityMatcher, parameter)) {
                         EntityImpl cachedSubclassEntity = (EntityImpl) subclassCachedObject.getEntity();
                         if (entityMatcher.isRetained(null, cachedObjects, cachedSubclassEntity, parameter) && !dbSqlSession.isEntityToBeDeleted(cachedSubclassEntity)) {
                             result.add(cachedSubclassEntity);
@@ -262,10 +264,21 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> implements
     }
 
     protected void deleteCachedEntities(DbSqlSession dbSqlSession,  CachedEntityMatcher<EntityImpl> cachedEntityMatcher, Object parameter) {
-        deleteCachedEntities(dbSqlSession, getEntityCache().findInCacheAsCachedObjects(getManagedEntityClass()), cachedEntityMatcher, parameter);
+        deleteCachedEntities(dbSqlSession, getManagedEntityClass(), cachedEntityMatcher, parameter);
         if (getManagedEntitySubClasses() != null && cachedEntityMatcher != null) {
             for (Class<? extends EntityImpl> entitySubClass : getManagedEntitySubClasses()) {
-                deleteCachedEntities(dbSqlSession, getEntityCache().findInCacheAsCachedObjects(entitySubClass), cachedEntityMatcher, parameter);
+                deleteCachedEntities(dbSqlSession, entitySubClass, cachedEntityMatcher, parameter);
+            }
+        }
+    }
+
+    protected void deleteCachedEntities(DbSqlSession dbSqlSession, Class<? extends EntityImpl> entityClass,
+            CachedEntityMatcher<EntityImpl> cachedEntityMatcher, Object parameter) {
+        Collection<CachedEntity> cachedObjects = getEntityCache().findInCacheAsCachedObjects(entityClass);
+        if (cachedObjects != null && cachedEntityMatcher != null) {
+            Collection<CachedEntity> cachedObjectsToMatch = getCachedObjectsToMatch(entityClass, cachedObjects, cachedEntityMatcher, parameter);
+            for (CachedEntity cachedObject : cachedObjectsToMatch) {
+                deleteCachedEntity(dbSqlSession, cachedObjects, cachedObject, cachedEntityMatcher, parameter);
             }
         }
     }
@@ -275,16 +288,50 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> implements
             CachedEntityMatcher<EntityImpl> cachedEntityMatcher,  Object parameter) {
         if (cachedObjects != null && cachedEntityMatcher != null) {
             for (CachedEntity cachedObject : cachedObjects) {
-                EntityImpl cachedEntity = (EntityImpl) cachedObject.getEntity();
-                boolean entityMatches = cachedEntityMatcher.isRetained(null, cachedObjects, cachedEntity, parameter);
-                if (cachedEntity.isInserted() && entityMatches) {
-                    dbSqlSession.delete(cachedEntity);
+                deleteCachedEntity(dbSqlSession, cachedObjects, cachedObject, cachedEntityMatcher, parameter);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    protected void deleteCachedEntity(DbSqlSession dbSqlSession, Collection<CachedEntity> cachedObjects, CachedEntity cachedObject,
+            CachedEntityMatcher<EntityImpl> cachedEntityMatcher, Object parameter) {
+        EntityImpl cachedEntity = (EntityImpl) cachedObject.getEntity();
+        boolean entityMatches = cachedEntityMatcher.isRetained(null, cachedObjects, cachedEntity, parameter);
+        if (cachedEntity.isInserted() && entityMatches) {
+            dbSqlSession.delete(cachedEntity);
+        }
+        if (entityMatches) {
+            cachedEntity.setDeleted(true);
+        }
+    }
+
+    /**
+     * Returns the cached entities that need to be checked with the given {@link CachedEntityMatcher}. When the matcher is an {@link IndexedCachedEntityMatcher},
+     * only the cached entities with one of the indexed attribute values for the parameter are returned, otherwise all cached entities of the type are returned.
+     */
+    @SuppressWarnings("unchecked")
+    protected Collection<CachedEntity> getCachedObjectsToMatch(Class<? extends EntityImpl> entityClass, Collection<CachedEntity> cachedObjects,
+            CachedEntityMatcher<EntityImpl> cachedEntityMatcher, Object parameter) {
+        if (cachedEntityMatcher instanceof IndexedCachedEntityMatcher) {
+            IndexedCachedEntityMatcher<EntityImpl> indexedCachedEntityMatcher = (IndexedCachedEntityMatcher<EntityImpl>) cachedEntityMatcher;
+            Collection<String> indexValues = indexedCachedEntityMatcher.getIndexValuesForParameter(parameter);
+            if (indexValues != null) {
+                if (indexValues.size() == 1) {
+                    return getEntityCache().findInCacheAsCachedObjects(entityClass, indexedCachedEntityMatcher, indexValues.iterator().next());
                 }
-                if (entityMatches) {
-                    cachedEntity.setDeleted(true);
+
+                List<CachedEntity> cachedObjectsToMatch = new ArrayList<>();
+                for (String indexValue : new LinkedHashSet<>(indexValues)) {
+                    Collection<CachedEntity> indexedCachedObjects = getEntityCache().findInCacheAsCachedObjects(entityClass, indexedCachedEntityMatcher, indexValue);
+                    if (indexedCachedObjects != null) {
+                        cachedObjectsToMatch.addAll(indexedCachedObjects);
+                    }
                 }
+                return cachedObjectsToMatch;
             }
         }
+        return cachedObjects;
     }
     
     protected boolean isEntityInserted(DbSqlSession dbSqlSession, String entityLogicalName, String entityId) {
@@ -13,6 +13,7 @@
 
 package org.flowable.common.engine.impl.db;
 
+import java.io.IOException;
 import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -23,7 +24,10 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import org.apache.ibatis.cursor.Cursor;
 import org.apache.ibatis.session.SqlSession;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableOptimisticLockingException;
@@ -274,6 +278,23 @@ public class DbSqlSession implements Session {
         }
     }
     
+    /**
+     * Executes the given statement using a database cursor and returns the results as a stream, without putting them in the entity cache.
+     * The stream is backed by the connection of this session, so it needs to be consumed before the session is closed.
+     */
+    public <T> Stream<T> selectStreamNoCacheLoadAndStore(String statement, ListQueryParameterObject parameter) {
+        parameter.setDatabaseType(dbSqlSessionFactory.getDatabaseType());
+        String mappedStatement = dbSqlSessionFactory.mapStatement(statement);
+        Cursor<T> cursor = sqlSession.selectCursor(mappedStatement, parameter);
+        return StreamSupport.stream(cursor.spliterator(), false).onClose(() -> {
+            try {
+                cursor.close();
+            } catch (IOException e) {
+                throw new FlowableException("Could not close cursor for " + mappedStatement, e);
+            }
+        });
+    }
+
     public Object selectOne(String statement, Object parameter) {
         statement = dbSqlSessionFactory.mapStatement(statement);
         Object result = sqlSession.selectOne(statement, parameter);
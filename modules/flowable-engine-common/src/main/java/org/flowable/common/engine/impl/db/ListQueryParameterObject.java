@@ -13,6 +13,7 @@
 
 package org.flowable.common.engine.impl.db;
 
+import java.util.Date;
 import java.util.Map;
 import java.util.TreeMap;
 
@@ -44,6 +45,10 @@ public class ListQueryParameterObject {
     protected NullHandlingOnOrder nullHandlingOnOrder;
     protected ResultType resultType;
     protected String databaseType;
+    protected String afterId;
+    protected Date afterValue;
+    protected String keysetColumn;
+    protected boolean keysetDescending;
     
     public ListQueryParameterObject() {
         
@@ -196,6 +201,38 @@ public class ListQueryParameterObject {
         return databaseType;
     }
 
+    public String getAfterId() {
+        return afterId;
+    }
+
+    public void setAfterId(String afterId) {
+        this.afterId = afterId;
+    }
+
+    public Date getAfterValue() {
+        return afterValue;
+    }
+
+    public void setAfterValue(Date afterValue) {
+        this.afterValue = afterValue;
+    }
+
+    public String getKeysetColumn() {
+        return keysetColumn;
+    }
+
+    public void setKeysetColumn(String keysetColumn) {
+        this.keysetColumn = keysetColumn;
+    }
+
+    public boolean isKeysetDescending() {
+        return keysetDescending;
+    }
+
+    public void setKeysetDescending(boolean keysetDescending) {
+        this.keysetDescending = keysetDescending;
+    }
+
     public String getNullHandlingColumn() {
         return nullHandlingColumn;
     }
@@ -76,6 +76,21 @@ public class FlowableEventSupport {
         }
     }
 
+    /**
+     * Returns true when at least one (global or typed) event listener is registered.
+     */
+    public boolean hasEventListeners() {
+        if (!eventListeners.isEmpty()) {
+            return true;
+        }
+        for (List<FlowableEventListener> listeners : typedListeners.values()) {
+            if (!listeners.isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     public void dispatchEvent(FlowableEvent event) {
         if (event == null) {
             throw new FlowableIllegalArgumentException("Event cannot be null.");
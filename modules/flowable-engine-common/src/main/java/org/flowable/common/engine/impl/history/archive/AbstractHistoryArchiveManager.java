@@ -0,0 +1,484 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.history.archive;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.NoSuchFileException;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.AbstractEngineConfiguration;
+import org.flowable.common.engine.impl.cfg.TransactionContext;
+import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.common.engine.impl.context.Context;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Base class of the history archive managers of the engines, writing the archived history as gzipped JSON files with one {@link HistoryArchiveTable}
+ * per type of history, and looking up the archived rows matching {@link HistoryArchiveCriteria}.
+ *
+ * The files are partitioned on the (UTC) day on which the archived instances ended, and every archive run writes a new file per partition.
+ * Next to every file, a {@link HistoryArchiveIdFilter} of the ids of the archived instances is written, so that lookups by id only read
+ * the files that can contain those ids. The id filters are read when they are needed, and the most recently used ones are cached.
+ * The file names of the partitions are cached for a short time as well, as listing them can be slow for remote stores.
+ *
+ * The files written by an archive run are deleted again when its transaction is rolled back. When that fails (or the engine stops in between),
+ * the rows of the rolled back run are still in the archive. As these are archived again in the same partition by the next run,
+ * the rows with the same id in one partition are only returned once.
+ */
+public abstract class AbstractHistoryArchiveManager {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AbstractHistoryArchiveManager.class);
+
+    public static final String FILE_EXTENSION = ".json.gz";
+    public static final String ID_FILTER_EXTENSION = ".ids";
+
+    public static final String ID_COLUMN = "id";
+
+    protected AbstractEngineConfiguration engineConfiguration;
+    protected HistoryArchiveStore historyArchiveStore;
+
+    protected long fileNamesCacheMillis = 10000L;
+    protected Map<String, HistoryArchiveIdFilter> idFilterCache;
+    protected Map<String, CachedFileNames> fileNamesCache;
+    protected volatile CachedFileNames cachedPartitions;
+
+    public AbstractHistoryArchiveManager(AbstractEngineConfiguration engineConfiguration, HistoryArchiveStore historyArchiveStore) {
+        this.engineConfiguration = engineConfiguration;
+        this.historyArchiveStore = historyArchiveStore;
+        this.idFilterCache = createCache(1000);
+        this.fileNamesCache = createCache(1000);
+    }
+
+    protected static <V> Map<String, V> createCache(final int limit) {
+        return Collections.synchronizedMap(new LinkedHashMap<String, V>(limit + 1, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, V> eldest) {
+                return size() > limit;
+            }
+
+        });
+    }
+
+    protected Map<String, HistoryArchiveTable> createTables(String... tableNames) {
+        Map<String, HistoryArchiveTable> tables = new LinkedHashMap<>();
+        for (String tableName : tableNames) {
+            tables.put(tableName, new HistoryArchiveTable(getObjectMapper()));
+        }
+        return tables;
+    }
+
+    /**
+     * Writes one archive file per partition with the given tables, and its id filter with the ids of the rows of the indexed tables.
+     * The written files are deleted again when the current transaction is rolled back.
+     */
+    protected void writeArchiveFiles(Map<String, Map<String, HistoryArchiveTable>> tablesPerPartition, String... indexedTableNames) {
+        String baseName = System.currentTimeMillis() + "-" + engineConfiguration.getIdGenerator().getNextId();
+        List<String[]> writtenFiles = new ArrayList<>();
+
+        TransactionContext transactionContext = Context.getTransactionContext();
+        if (transactionContext != null) {
+            transactionContext.addTransactionListener(TransactionState.ROLLED_BACK, commandContext -> deleteFiles(writtenFiles));
+        }
+
+        for (Map.Entry<String, Map<String, HistoryArchiveTable>> partitionTables : tablesPerPartition.entrySet()) {
+            String partition = partitionTables.getKey();
+            Map<String, HistoryArchiveTable> tables = partitionTables.getValue();
+
+            ObjectNode fileNode = getObjectMapper().createObjectNode();
+            ObjectNode tablesNode = fileNode.putObject("tables");
+            int idCount = 0;
+            for (Map.Entry<String, HistoryArchiveTable> table : tables.entrySet()) {
+                tablesNode.set(table.getKey(), table.getValue().toJson());
+            }
+            for (String indexedTableName : indexedTableNames) {
+                idCount += tables.get(indexedTableName).getRowCount();
+            }
+
+            String fileName = baseName + FILE_EXTENSION;
+            writtenFiles.add(new String[] { partition, fileName });
+            try (OutputStream outputStream = new GZIPOutputStream(historyArchiveStore.createFile(partition, fileName))) {
+                getObjectMapper().writeValue(outputStream, fileNode);
+            } catch (IOException e) {
+                throw new FlowableException("Could not write history archive file " + fileName + " in partition " + partition, e);
+            }
+
+            // Written after the file, so that a file is read for every id lookup until its filter exists
+            HistoryArchiveIdFilter idFilter = new HistoryArchiveIdFilter(idCount);
+            for (String indexedTableName : indexedTableNames) {
+                HistoryArchiveTable table = tables.get(indexedTableName);
+                for (int row = 0; row < table.getRowCount(); row++) {
+                    idFilter.add(table.getString(ID_COLUMN, row));
+                }
+            }
+            String idFilterFileName = baseName + ID_FILTER_EXTENSION;
+            writtenFiles.add(new String[] { partition, idFilterFileName });
+            try (OutputStream outputStream = historyArchiveStore.createFile(partition, idFilterFileName)) {
+                idFilter.writeTo(outputStream);
+            } catch (IOException e) {
+                throw new FlowableException("Could not write history archive id filter " + idFilterFileName + " in partition " + partition, e);
+            }
+
+            idFilterCache.put(getCacheKey(partition, fileName), idFilter);
+            invalidateFileNames(partition);
+        }
+    }
+
+    protected void deleteFiles(List<String[]> files) {
+        // The id filters are deleted first, so that the files are never skipped by a lookup while they exist
+        for (int i = files.size() - 1; i >= 0; i--) {
+            String partition = files.get(i)[0];
+            String fileName = files.get(i)[1];
+            try {
+                historyArchiveStore.deleteFile(partition, fileName);
+            } catch (IOException e) {
+                LOGGER.warn("Could not delete history archive file {} in partition {} of a rolled back transaction", fileName, partition, e);
+            }
+            idFilterCache.remove(getCacheKey(partition, fileName));
+            invalidateFileNames(partition);
+        }
+    }
+
+    /**
+     * Returns the rows of the given table matching the criteria, in the order of the criteria (and by id for equal values).
+     * Only the first firstResult + maxResults rows are kept in memory while reading the archive files.
+     */
+    protected <T> List<T> findRows(HistoryArchiveCriteria criteria, String tableName, BiFunction<HistoryArchiveTable, Integer, T> rowMapper,
+            int firstResult, int maxResults) {
+
+        int skippedResults = Math.max(firstResult, 0);
+        long limit = maxResults < 0 ? Long.MAX_VALUE : (long) skippedResults + maxResults;
+        if (limit == 0) {
+            return Collections.emptyList();
+        }
+
+        Comparator<ArchivedRow<T>> comparator = createRowComparator(criteria.getOrderColumns());
+        TreeSet<ArchivedRow<T>> rows = new TreeSet<>(comparator);
+        scanRows(criteria, tableName, (table, row) -> {
+            ArchivedRow<T> archivedRow = new ArchivedRow<>(table, row, criteria.getOrderColumns().keySet());
+            if (rows.size() >= limit && comparator.compare(archivedRow, rows.last()) >= 0) {
+                return;
+            }
+
+            archivedRow.value = rowMapper.apply(table, row);
+            rows.add(archivedRow);
+            if (rows.size() > limit) {
+                rows.pollLast();
+            }
+        });
+
+        List<T> results = new ArrayList<>();
+        int index = 0;
+        for (ArchivedRow<T> row : rows) {
+            if (index++ >= skippedResults) {
+                results.add(row.value);
+            }
+        }
+        return results;
+    }
+
+    protected long countRows(HistoryArchiveCriteria criteria, String tableName) {
+        long[] count = new long[1];
+        scanRows(criteria, tableName, (table, row) -> count[0]++);
+        return count[0];
+    }
+
+    /**
+     * Passes every row of the given table matching the criteria to the consumer, only once per id and partition.
+     */
+    protected void scanRows(HistoryArchiveCriteria criteria, String tableName, BiConsumer<HistoryArchiveTable, Integer> rowConsumer) {
+        for (String partition : getPartitions(criteria.getPartitionLowerBound(), criteria.getPartitionUpperBound())) {
+            Set<String> partitionIds = new HashSet<>();
+            for (String fileName : getFileNames(partition)) {
+                if (!fileName.endsWith(FILE_EXTENSION) || !mightContainAny(partition, fileName, criteria.getIndexedIds())) {
+                    continue;
+                }
+
+                HistoryArchiveTable table = readTable(partition, fileName, tableName);
+                if (table != null) {
+                    for (int row = 0; row < table.getRowCount(); row++) {
+                        if (criteria.matches(table, row) && partitionIds.add(table.getString(ID_COLUMN, row))) {
+                            rowConsumer.accept(table, row);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    protected boolean mightContainAny(String partition, String fileName, Collection<String> ids) {
+        if (ids == null) {
+            return true;
+        }
+
+        HistoryArchiveIdFilter idFilter = getIdFilter(partition, fileName);
+        if (idFilter == null) {
+            return true;
+        }
+        for (String id : ids) {
+            if (idFilter.mightContain(id)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the id filter of the given archive file, or null when the file has no id filter.
+     */
+    protected HistoryArchiveIdFilter getIdFilter(String partition, String fileName) {
+        String cacheKey = getCacheKey(partition, fileName);
+        HistoryArchiveIdFilter idFilter = idFilterCache.get(cacheKey);
+        if (idFilter == null) {
+            String idFilterFileName = fileName.substring(0, fileName.length() - FILE_EXTENSION.length()) + ID_FILTER_EXTENSION;
+            if (!getCachedFileNames(partition).contains(idFilterFileName)) {
+                return null;
+            }
+
+            try (InputStream inputStream = historyArchiveStore.openFile(partition, idFilterFileName)) {
+                idFilter = HistoryArchiveIdFilter.readFrom(inputStream);
+            } catch (FileNotFoundException | NoSuchFileException e) {
+                return null;
+            } catch (IOException e) {
+                throw new FlowableException("Could not read history archive id filter " + idFilterFileName + " in partition " + partition, e);
+            }
+            idFilterCache.put(cacheKey, idFilter);
+        }
+        return idFilter;
+    }
+
+    /**
+     * Returns the given table of the archive file, an empty table when the file does not contain it,
+     * or null when the file does not exist anymore (as it was deleted after its transaction was rolled back).
+     */
+    protected HistoryArchiveTable readTable(String partition, String fileName, String tableName) {
+        JsonNode fileNode;
+        try (InputStream inputStream = new GZIPInputStream(historyArchiveStore.openFile(partition, fileName))) {
+            fileNode = getObjectMapper().readTree(inputStream);
+        } catch (FileNotFoundException | NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            throw new FlowableException("Could not read history archive file " + fileName + " in partition " + partition, e);
+        }
+
+        JsonNode tableNode = fileNode.path("tables").get(tableName);
+        return tableNode != null ? HistoryArchiveTable.fromJson(tableNode) : new HistoryArchiveTable(getObjectMapper());
+    }
+
+    /**
+     * Returns the partitions of the days overlapping the given bounds of the end time of the archived instances, in chronological order.
+     */
+    protected List<String> getPartitions(Date lowerBound, Date upperBound) {
+        List<String> partitions = new ArrayList<>();
+        for (String partition : getPartitionNames()) {
+            LocalDate day;
+            try {
+                day = LocalDate.parse(partition);
+            } catch (DateTimeParseException e) {
+                LOGGER.debug("Ignoring history archive partition {} as it is not named after a day", partition);
+                continue;
+            }
+
+            long dayStart = day.atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli();
+            long dayEnd = day.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli();
+            if ((lowerBound == null || dayEnd > lowerBound.getTime()) && (upperBound == null || dayStart < upperBound.getTime())) {
+                partitions.add(partition);
+            }
+        }
+        Collections.sort(partitions);
+        return partitions;
+    }
+
+    protected List<String> getPartitionNames() {
+        CachedFileNames partitions = cachedPartitions;
+        if (partitions == null || partitions.isExpired(fileNamesCacheMillis)) {
+            try {
+                partitions = new CachedFileNames(historyArchiveStore.getPartitions());
+            } catch (IOException e) {
+                throw new FlowableException("Could not read the history archive partitions", e);
+            }
+            cachedPartitions = partitions;
+        }
+        return partitions.getFileNames();
+    }
+
+    /**
+     * Returns the names of the files in the partition, in the order in which they were written.
+     */
+    protected List<String> getFileNames(String partition) {
+        return getCachedFileNames(partition).getFileNames();
+    }
+
+    protected CachedFileNames getCachedFileNames(String partition) {
+        CachedFileNames fileNames = fileNamesCache.get(partition);
+        if (fileNames == null || fileNames.isExpired(fileNamesCacheMillis)) {
+            try {
+                List<String> partitionFileNames = new ArrayList<>(historyArchiveStore.getFileNames(partition));
+                Collections.sort(partitionFileNames);
+                fileNames = new CachedFileNames(partitionFileNames);
+            } catch (IOException e) {
+                throw new FlowableException("Could not read history archive partition " + partition, e);
+            }
+            fileNamesCache.put(partition, fileNames);
+        }
+        return fileNames;
+    }
+
+    protected void invalidateFileNames(String partition) {
+        cachedPartitions = null;
+        fileNamesCache.remove(partition);
+    }
+
+    protected String getCacheKey(String partition, String fileName) {
+        return partition + '/' + fileName;
+    }
+
+    protected <T> Comparator<ArchivedRow<T>> createRowComparator(Map<String, Boolean> orderColumns) {
+        List<Boolean> ascending = new ArrayList<>(orderColumns.values());
+        return (row, otherRow) -> {
+            for (int i = 0; i < ascending.size(); i++) {
+                int result = compareValues(row.sortValues[i], otherRow.sortValues[i]);
+                if (result != 0) {
+                    return ascending.get(i) ? result : -result;
+                }
+            }
+            return row.id.compareTo(otherRow.id);
+        };
+    }
+
+    /**
+     * Compares two column values, null values being lower than any other value.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    protected static int compareValues(Comparable value, Comparable otherValue) {
+        if (value == null || otherValue == null) {
+            return value == null ? (otherValue == null ? 0 : -1) : 1;
+        } else if (value.getClass() != otherValue.getClass()) {
+            return value.toString().compareTo(otherValue.toString());
+        }
+        return value.compareTo(otherValue);
+    }
+
+    public static String getPartition(Date endTime) {
+        return endTime.toInstant().atZone(ZoneOffset.UTC).toLocalDate().toString();
+    }
+
+    protected ObjectMapper getObjectMapper() {
+        return engineConfiguration.getObjectMapper();
+    }
+
+    public HistoryArchiveStore getHistoryArchiveStore() {
+        return historyArchiveStore;
+    }
+
+    /**
+     * Sets the maximum number of id filters kept in memory, 1000 by default.
+     */
+    public void setIdFilterCacheLimit(int idFilterCacheLimit) {
+        this.idFilterCache = createCache(idFilterCacheLimit);
+    }
+
+    /**
+     * Sets the maximum number of partitions of which the file names are kept in memory, 1000 by default.
+     */
+    public void setFileNamesCacheLimit(int fileNamesCacheLimit) {
+        this.fileNamesCache = createCache(fileNamesCacheLimit);
+    }
+
+    public long getFileNamesCacheMillis() {
+        return fileNamesCacheMillis;
+    }
+
+    /**
+     * Sets how long the file names of the partitions are cached, 10 seconds by default.
+     * Files written by other engines sharing the same store are only found after that time.
+     */
+    public void setFileNamesCacheMillis(long fileNamesCacheMillis) {
+        this.fileNamesCacheMillis = fileNamesCacheMillis;
+    }
+
+    /**
+     * The file names of a partition, or the partition names of the store, as listed at a given time.
+     */
+    protected static class CachedFileNames {
+
+        protected final List<String> fileNames;
+        protected final Set<String> fileNameSet;
+        protected final long listTime = System.currentTimeMillis();
+
+        public CachedFileNames(List<String> fileNames) {
+            this.fileNames = fileNames;
+            this.fileNameSet = new HashSet<>(fileNames);
+        }
+
+        public boolean contains(String fileName) {
+            return fileNameSet.contains(fileName);
+        }
+
+        public boolean isExpired(long cacheMillis) {
+            return System.currentTimeMillis() - listTime >= cacheMillis;
+        }
+
+        public List<String> getFileNames() {
+            return fileNames;
+        }
+    }
+
+    /**
+     * A row matching the lookup criteria, with the values it is sorted on.
+     */
+    protected static class ArchivedRow<T> {
+
+        protected final Comparable<?>[] sortValues;
+        protected final String id;
+        protected T value;
+
+        public ArchivedRow(HistoryArchiveTable table, int row, Collection<String> sortColumns) {
+            this.sortValues = new Comparable<?>[sortColumns.size()];
+            int index = 0;
+            for (String sortColumn : sortColumns) {
+                sortValues[index++] = table.getComparableValue(sortColumn, row);
+            }
+            this.id = table.getString(ID_COLUMN, row);
+        }
+    }
+
+}
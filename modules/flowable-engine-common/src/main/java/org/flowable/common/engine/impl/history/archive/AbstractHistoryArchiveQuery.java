@@ -0,0 +1,59 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.history.archive;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.flowable.common.engine.api.query.Query;
+import org.flowable.common.engine.impl.Direction;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.common.engine.impl.query.AbstractQuery;
+
+/**
+ * Base class of the queries on archived history. As these are not executed on the database, the order of the query
+ * is kept as the {@link HistoryArchiveTable} columns to sort the archived rows on.
+ */
+public abstract class AbstractHistoryArchiveQuery<T extends Query<?, ?>, U> extends AbstractQuery<T, U> {
+
+    private static final long serialVersionUID = 1L;
+
+    protected Map<String, Boolean> orderColumns = new LinkedHashMap<>();
+
+    protected AbstractHistoryArchiveQuery() {
+    }
+
+    protected AbstractHistoryArchiveQuery(CommandExecutor commandExecutor) {
+        super(commandExecutor);
+    }
+
+    @Override
+    public T direction(Direction direction) {
+        if (orderProperty != null) {
+            orderColumns.put(orderProperty.getName(), direction == Direction.ASCENDING);
+        }
+        return super.direction(direction);
+    }
+
+    /**
+     * Creates the criteria to look up the archived rows with, in the order of this query.
+     */
+    public HistoryArchiveCriteria createCriteria() {
+        HistoryArchiveCriteria criteria = new HistoryArchiveCriteria();
+        for (Map.Entry<String, Boolean> orderColumn : orderColumns.entrySet()) {
+            criteria.orderBy(orderColumn.getKey(), orderColumn.getValue());
+        }
+        return criteria;
+    }
+
+}
@@ -0,0 +1,110 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.history.archive;
+
+import java.io.File;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link HistoryArchiveStore} keeping the archive files on a (local or mounted) file system, with one directory per partition.
+ *
+ * Files are first written to a temporary file, which is moved to its final name when the stream is closed,
+ * so that readers never see partially written files.
+ */
+public class FileSystemHistoryArchiveStore implements HistoryArchiveStore {
+
+    protected static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+
+    protected Path rootDirectory;
+
+    public FileSystemHistoryArchiveStore(File rootDirectory) {
+        this(rootDirectory.toPath());
+    }
+
+    public FileSystemHistoryArchiveStore(Path rootDirectory) {
+        this.rootDirectory = rootDirectory;
+    }
+
+    @Override
+    public List<String> getPartitions() throws IOException {
+        List<String> partitions = new ArrayList<>();
+        if (Files.isDirectory(rootDirectory)) {
+            try (DirectoryStream<Path> directoryStream = Files.newDirectoryStream(rootDirectory, Files::isDirectory)) {
+                for (Path partitionDirectory : directoryStream) {
+                    partitions.add(partitionDirectory.getFileName().toString());
+                }
+            }
+        }
+        return partitions;
+    }
+
+    @Override
+    public List<String> getFileNames(String partition) throws IOException {
+        List<String> fileNames = new ArrayList<>();
+        Path partitionDirectory = rootDirectory.resolve(partition);
+        if (Files.isDirectory(partitionDirectory)) {
+            try (DirectoryStream<Path> directoryStream = Files.newDirectoryStream(partitionDirectory,
+                    path -> Files.isRegularFile(path) && !path.getFileName().toString().endsWith(TEMPORARY_FILE_SUFFIX))) {
+
+                for (Path file : directoryStream) {
+                    fileNames.add(file.getFileName().toString());
+                }
+            }
+        }
+        return fileNames;
+    }
+
+    @Override
+    public OutputStream createFile(String partition, String fileName) throws IOException {
+        Path partitionDirectory = Files.createDirectories(rootDirectory.resolve(partition));
+        Path file = partitionDirectory.resolve(fileName);
+        Path temporaryFile = partitionDirectory.resolve(fileName + TEMPORARY_FILE_SUFFIX);
+        return new FilterOutputStream(Files.newOutputStream(temporaryFile)) {
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                out.write(b, off, len);
+            }
+
+            @Override
+            public void close() throws IOException {
+                super.close();
+                Files.move(temporaryFile, file, StandardCopyOption.ATOMIC_MOVE);
+            }
+        };
+    }
+
+    @Override
+    public InputStream openFile(String partition, String fileName) throws IOException {
+        return Files.newInputStream(rootDirectory.resolve(partition).resolve(fileName));
+    }
+
+    @Override
+    public void deleteFile(String partition, String fileName) throws IOException {
+        Files.deleteIfExists(rootDirectory.resolve(partition).resolve(fileName));
+    }
+
+    public Path getRootDirectory() {
+        return rootDirectory;
+    }
+
+}
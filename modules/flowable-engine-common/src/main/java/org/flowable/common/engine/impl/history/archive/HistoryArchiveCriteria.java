@@ -0,0 +1,146 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.history.archive;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The criteria for looking up the rows of one {@link HistoryArchiveTable} in the {@link AbstractHistoryArchiveManager}:
+ * the values that columns must have, the time ranges they must be in and the order of the returned rows.
+ *
+ * The indexed ids and the partition range do not filter rows themselves, they only limit the files that need to be read:
+ * only the files whose id filter can contain one of the indexed ids are read, and only the partitions of the days in the partition range.
+ */
+public class HistoryArchiveCriteria {
+
+    protected Collection<String> indexedIds;
+    protected Date partitionLowerBound;
+    protected Date partitionUpperBound;
+
+    protected Map<String, Collection<String>> columnValues = new LinkedHashMap<>();
+    protected Map<String, Date> columnsAfter = new LinkedHashMap<>();
+    protected Map<String, Date> columnsBefore = new LinkedHashMap<>();
+    protected Map<String, Boolean> orderColumns = new LinkedHashMap<>();
+
+    /**
+     * Only reads the files that can contain one of the given ids in their id filter. Ignored when null.
+     */
+    public HistoryArchiveCriteria indexedIds(Collection<String> indexedIds) {
+        this.indexedIds = indexedIds;
+        return this;
+    }
+
+    /**
+     * Only reads the partitions of the days overlapping the given (exclusive) bounds of the end time of the archived instances.
+     * Each bound is ignored when null.
+     */
+    public HistoryArchiveCriteria partitionRange(Date partitionLowerBound, Date partitionUpperBound) {
+        this.partitionLowerBound = partitionLowerBound;
+        this.partitionUpperBound = partitionUpperBound;
+        return this;
+    }
+
+    public HistoryArchiveCriteria columnEquals(String column, String value) {
+        if (value != null) {
+            columnIn(column, Collections.singleton(value));
+        }
+        return this;
+    }
+
+    public HistoryArchiveCriteria columnIn(String column, Collection<String> values) {
+        if (values != null) {
+            columnValues.put(column, values);
+        }
+        return this;
+    }
+
+    public HistoryArchiveCriteria columnAfter(String column, Date date) {
+        if (date != null) {
+            columnsAfter.put(column, date);
+        }
+        return this;
+    }
+
+    public HistoryArchiveCriteria columnBefore(String column, Date date) {
+        if (date != null) {
+            columnsBefore.put(column, date);
+        }
+        return this;
+    }
+
+    public HistoryArchiveCriteria orderBy(String column, boolean ascending) {
+        orderColumns.put(column, ascending);
+        return this;
+    }
+
+    /**
+     * Returns whether the given row of the table matches the column values and time ranges of these criteria.
+     */
+    public boolean matches(HistoryArchiveTable table, int row) {
+        for (Map.Entry<String, Collection<String>> columnValue : columnValues.entrySet()) {
+            if (!columnValue.getValue().contains(table.getString(columnValue.getKey(), row))) {
+                return false;
+            }
+        }
+        for (Map.Entry<String, Date> columnAfter : columnsAfter.entrySet()) {
+            Date date = table.getDate(columnAfter.getKey(), row);
+            if (date == null || !date.after(columnAfter.getValue())) {
+                return false;
+            }
+        }
+        for (Map.Entry<String, Date> columnBefore : columnsBefore.entrySet()) {
+            Date date = table.getDate(columnBefore.getKey(), row);
+            if (date == null || !date.before(columnBefore.getValue())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the latest of the given dates, ignoring null dates.
+     */
+    public static Date latest(Date... dates) {
+        Date latest = null;
+        for (Date date : dates) {
+            if (date != null && (latest == null || date.after(latest))) {
+                latest = date;
+            }
+        }
+        return latest;
+    }
+
+    public Collection<String> getIndexedIds() {
+        return indexedIds;
+    }
+
+    public Date getPartitionLowerBound() {
+        return partitionLowerBound;
+    }
+
+    public Date getPartitionUpperBound() {
+        return partitionUpperBound;
+    }
+
+    /**
+     * Returns the columns to order the rows by, mapped to whether the order is ascending.
+     */
+    public Map<String, Boolean> getOrderColumns() {
+        return orderColumns;
+    }
+
+}
@@ -0,0 +1,113 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.history.archive;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.BitSet;
+
+import org.flowable.common.engine.api.FlowableException;
+
+/**
+ * Bloom filter of the ids archived in one history archive file, stored next to the file so that a lookup by id only reads
+ * the files that can contain the id. A filter never misses an id that was added to it, but can match ids that were not added
+ * (with a probability of about 1% when the expected number of ids was correct).
+ *
+ * The filter takes about 10 bits per id, so that many filters can be kept in memory.
+ */
+public class HistoryArchiveIdFilter {
+
+    protected static final double FALSE_POSITIVE_PROBABILITY = 0.01;
+    protected static final int MIN_BIT_COUNT = 64;
+
+    protected final BitSet bits;
+    protected final int bitCount;
+    protected final int hashCount;
+
+    public HistoryArchiveIdFilter(int expectedIds) {
+        int ids = Math.max(expectedIds, 1);
+        this.bitCount = Math.max(MIN_BIT_COUNT, (int) Math.ceil(-ids * Math.log(FALSE_POSITIVE_PROBABILITY) / (Math.log(2) * Math.log(2))));
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / ids * Math.log(2)));
+        this.bits = new BitSet(bitCount);
+    }
+
+    protected HistoryArchiveIdFilter(BitSet bits, int bitCount, int hashCount) {
+        this.bits = bits;
+        this.bitCount = bitCount;
+        this.hashCount = hashCount;
+    }
+
+    public void add(String id) {
+        long hash = hash(id);
+        int hash1 = (int) hash;
+        int hash2 = (int) (hash >>> 32) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            bits.set(Math.floorMod(hash1 + i * hash2, bitCount));
+        }
+    }
+
+    public boolean mightContain(String id) {
+        long hash = hash(id);
+        int hash1 = (int) hash;
+        int hash2 = (int) (hash >>> 32) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            if (!bits.get(Math.floorMod(hash1 + i * hash2, bitCount))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 64 bit FNV-1a hash of the id, of which both halves are combined into the hashes of the filter.
+     */
+    protected long hash(String id) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < id.length(); i++) {
+            hash ^= id.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    public void writeTo(OutputStream outputStream) throws IOException {
+        DataOutputStream dataOutputStream = new DataOutputStream(outputStream);
+        dataOutputStream.writeInt(bitCount);
+        dataOutputStream.writeInt(hashCount);
+        long[] words = bits.toLongArray();
+        dataOutputStream.writeInt(words.length);
+        for (long word : words) {
+            dataOutputStream.writeLong(word);
+        }
+        dataOutputStream.flush();
+    }
+
+    public static HistoryArchiveIdFilter readFrom(InputStream inputStream) throws IOException {
+        DataInputStream dataInputStream = new DataInputStream(inputStream);
+        int bitCount = dataInputStream.readInt();
+        int hashCount = dataInputStream.readInt();
+        int wordCount = dataInputStream.readInt();
+        if (bitCount <= 0 || hashCount <= 0 || wordCount < 0 || wordCount > (bitCount + 63) / 64) {
+            throw new FlowableException("Invalid history archive id filter");
+        }
+        long[] words = new long[wordCount];
+        for (int i = 0; i < wordCount; i++) {
+            words[i] = dataInputStream.readLong();
+        }
+        return new HistoryArchiveIdFilter(BitSet.valueOf(words), bitCount, hashCount);
+    }
+
+}
@@ -0,0 +1,40 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.history.archive;
+
+import org.flowable.common.engine.api.query.QueryProperty;
+
+/**
+ * Contains the possible properties which can be used to order the queries on archived history, named after the {@link HistoryArchiveTable} columns.
+ */
+public class HistoryArchiveQueryProperty implements QueryProperty {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final HistoryArchiveQueryProperty ID = new HistoryArchiveQueryProperty(AbstractHistoryArchiveManager.ID_COLUMN);
+    public static final HistoryArchiveQueryProperty START_TIME = new HistoryArchiveQueryProperty("startTime");
+    public static final HistoryArchiveQueryProperty END_TIME = new HistoryArchiveQueryProperty("endTime");
+    public static final HistoryArchiveQueryProperty CREATE_TIME = new HistoryArchiveQueryProperty("createTime");
+
+    private String name;
+
+    public HistoryArchiveQueryProperty(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+}
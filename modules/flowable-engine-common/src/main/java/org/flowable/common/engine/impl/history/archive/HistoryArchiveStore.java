@@ -0,0 +1,53 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.history.archive;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Storage of the history archive files, grouped in partitions. The {@link AbstractHistoryArchiveManager} uses one partition per day
+ * (the end day of the archived process or case instances), named yyyy-MM-dd so that the partition names sort chronologically.
+ *
+ * Implementations can store the files on a local file system (see {@link FileSystemHistoryArchiveStore}) or in any other file store.
+ */
+public interface HistoryArchiveStore {
+
+    /**
+     * Returns the names of all partitions, in any order.
+     */
+    List<String> getPartitions() throws IOException;
+
+    /**
+     * Returns the names of the files in the given partition, in any order.
+     */
+    List<String> getFileNames(String partition) throws IOException;
+
+    /**
+     * Creates a new file in the given partition, creating the partition if needed. The file is complete once the returned stream is closed.
+     */
+    OutputStream createFile(String partition, String fileName) throws IOException;
+
+    /**
+     * Opens the given file, throwing a {@link java.io.FileNotFoundException} or {@link java.nio.file.NoSuchFileException} when it does not exist.
+     */
+    InputStream openFile(String partition, String fileName) throws IOException;
+
+    /**
+     * Deletes the given file, if it exists.
+     */
+    void deleteFile(String partition, String fileName) throws IOException;
+
+}
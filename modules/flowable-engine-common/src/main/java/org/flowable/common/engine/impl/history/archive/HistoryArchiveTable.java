@@ -0,0 +1,177 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.history.archive;
+
+import java.io.IOException;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.flowable.common.engine.api.FlowableException;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * A table of one type of archived history (e.g. the historic activity instances), stored column by column:
+ * the values of one column are stored together in one array, with null for missing values.
+ *
+ * Storing the values per column makes the archive files compress much better than storing them per row,
+ * as the values of one column are typically very much alike.
+ * Dates are stored as milliseconds since the epoch and binary values as base64 strings.
+ */
+public class HistoryArchiveTable {
+
+    protected ObjectNode columnsNode;
+    protected int rowCount;
+
+    public HistoryArchiveTable(ObjectMapper objectMapper) {
+        this.columnsNode = objectMapper.createObjectNode();
+    }
+
+    protected HistoryArchiveTable(ObjectNode columnsNode) {
+        this.columnsNode = columnsNode;
+        Iterator<JsonNode> columns = columnsNode.elements();
+        this.rowCount = columns.hasNext() ? columns.next().size() : 0;
+    }
+
+    public static HistoryArchiveTable fromJson(JsonNode columnsNode) {
+        if (columnsNode == null || !columnsNode.isObject()) {
+            throw new FlowableException("Invalid history archive table " + columnsNode);
+        }
+        return new HistoryArchiveTable((ObjectNode) columnsNode);
+    }
+
+    /**
+     * Adds a row with the given column values. Columns that do not exist yet are added, with null values for the previous rows.
+     */
+    public void addRow(Map<String, Object> values) {
+        for (Map.Entry<String, Object> value : values.entrySet()) {
+            ArrayNode column = getOrCreateColumn(value.getKey());
+            addValue(column, value.getValue());
+        }
+
+        rowCount++;
+        Iterator<JsonNode> columns = columnsNode.elements();
+        while (columns.hasNext()) {
+            ArrayNode column = (ArrayNode) columns.next();
+            while (column.size() < rowCount) {
+                column.addNull();
+            }
+        }
+    }
+
+    protected ArrayNode getOrCreateColumn(String columnName) {
+        ArrayNode column = (ArrayNode) columnsNode.get(columnName);
+        if (column == null) {
+            column = columnsNode.putArray(columnName);
+            for (int i = 0; i < rowCount; i++) {
+                column.addNull();
+            }
+        }
+        return column;
+    }
+
+    protected void addValue(ArrayNode column, Object value) {
+        if (value == null) {
+            column.addNull();
+        } else if (value instanceof String) {
+            column.add((String) value);
+        } else if (value instanceof Date) {
+            column.add(((Date) value).getTime());
+        } else if (value instanceof Long) {
+            column.add((Long) value);
+        } else if (value instanceof Integer) {
+            column.add((Integer) value);
+        } else if (value instanceof Double) {
+            column.add((Double) value);
+        } else if (value instanceof Boolean) {
+            column.add((Boolean) value);
+        } else if (value instanceof byte[]) {
+            column.add((byte[]) value);
+        } else {
+            throw new FlowableException("Unsupported history archive value type " + value.getClass());
+        }
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    public String getString(String columnName, int row) {
+        JsonNode value = getValue(columnName, row);
+        return value != null ? value.asText() : null;
+    }
+
+    public Date getDate(String columnName, int row) {
+        JsonNode value = getValue(columnName, row);
+        return value != null ? new Date(value.asLong()) : null;
+    }
+
+    public Long getLong(String columnName, int row) {
+        JsonNode value = getValue(columnName, row);
+        return value != null ? value.asLong() : null;
+    }
+
+    public Integer getInteger(String columnName, int row) {
+        JsonNode value = getValue(columnName, row);
+        return value != null ? value.asInt() : null;
+    }
+
+    public Double getDouble(String columnName, int row) {
+        JsonNode value = getValue(columnName, row);
+        return value != null ? value.asDouble() : null;
+    }
+
+    public byte[] getBytes(String columnName, int row) {
+        JsonNode value = getValue(columnName, row);
+        try {
+            return value != null ? value.binaryValue() : null;
+        } catch (IOException e) {
+            throw new FlowableException("Invalid binary value in history archive column " + columnName, e);
+        }
+    }
+
+    /**
+     * Returns the value of the given column as a {@link Long} (for dates and integral numbers), {@link Double}, {@link Boolean} or {@link String},
+     * so that rows can be sorted on the column. Returns null for missing values.
+     */
+    public Comparable<?> getComparableValue(String columnName, int row) {
+        JsonNode value = getValue(columnName, row);
+        if (value == null) {
+            return null;
+        } else if (value.isIntegralNumber()) {
+            return value.asLong();
+        } else if (value.isNumber()) {
+            return value.asDouble();
+        } else if (value.isBoolean()) {
+            return value.asBoolean();
+        }
+        return value.asText();
+    }
+
+    protected JsonNode getValue(String columnName, int row) {
+        JsonNode column = columnsNode.get(columnName);
+        if (column == null || row >= column.size() || column.get(row).isNull()) {
+            return null;
+        }
+        return column.get(row);
+    }
+
+    public ObjectNode toJson() {
+        return columnsNode;
+    }
+
+}
@@ -0,0 +1,83 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.cache;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.flowable.common.engine.impl.persistence.entity.Entity;
+
+/**
+ * Secondary index of the {@link CachedEntity} instances of one entity type in the {@link EntityCacheImpl},
+ * keyed by the attribute value returned by an {@link IndexedCachedEntityMatcher}.
+ */
+public class CachedEntityIndex {
+
+    protected IndexedCachedEntityMatcher<Entity> matcher;
+
+    protected Map<String, Map<String, CachedEntity>> cachedEntitiesByIndexValue = new HashMap<>();
+    protected Map<String, String> indexValuesByEntityId = new HashMap<>();
+
+    @SuppressWarnings("unchecked")
+    public CachedEntityIndex(IndexedCachedEntityMatcher<? extends Entity> matcher) {
+        this.matcher = (IndexedCachedEntityMatcher<Entity>) matcher;
+    }
+
+    /**
+     * Adds the {@link CachedEntity} to the index, or moves it when its indexed attribute value changed since it was last indexed.
+     */
+    public void add(CachedEntity cachedEntity) {
+        Entity entity = cachedEntity.getEntity();
+        String indexValue = matcher.getIndexValue(entity);
+        String currentIndexValue = indexValuesByEntityId.get(entity.getId());
+        if (currentIndexValue != null && !currentIndexValue.equals(indexValue)) {
+            remove(entity.getId());
+        }
+
+        if (indexValue != null) {
+            cachedEntitiesByIndexValue.computeIfAbsent(indexValue, key -> new LinkedHashMap<>()).put(entity.getId(), cachedEntity);
+            indexValuesByEntityId.put(entity.getId(), indexValue);
+        }
+    }
+
+    public void remove(String entityId) {
+        String indexValue = indexValuesByEntityId.remove(entityId);
+        if (indexValue != null) {
+            Map<String, CachedEntity> cachedEntities = cachedEntitiesByIndexValue.get(indexValue);
+            cachedEntities.remove(entityId);
+            if (cachedEntities.isEmpty()) {
+                cachedEntitiesByIndexValue.remove(indexValue);
+            }
+        }
+    }
+
+    /**
+     * Returns an unmodifiable view of the {@link CachedEntity} instances indexed with the given value.
+     * The view is backed by the index, so the cache must not be changed while iterating over it.
+     */
+    public Collection<CachedEntity> get(String indexValue) {
+        Map<String, CachedEntity> cachedEntities = cachedEntitiesByIndexValue.get(indexValue);
+        if (cachedEntities == null) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableCollection(cachedEntities.values());
+    }
+
+    public IndexedCachedEntityMatcher<Entity> getMatcher() {
+        return matcher;
+    }
+
+}
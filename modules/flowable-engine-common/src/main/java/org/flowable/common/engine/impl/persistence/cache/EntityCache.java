@@ -53,12 +53,29 @@ public interface EntityCache extends Session {
      */
     <T> List<T> findInCache(Class<T> entityClass);
 
+    /**
+     * Returns a read-only view on the cached {@link Entity} instances of a given type. Contrary to {@link #findInCache(Class)}, the entities are not copied into a new list,
+     * so the view should only be used for iterating when the cache is not changed at the same time. Returns an empty collection if no instances of the given type exist.
+     */
+    <T> Collection<T> findInCacheAsView(Class<T> entityClass);
+
     /**
      * Returns all {@link CachedEntity} instances for the given type. The difference with {@link #findInCache(Class)} is that here the whole {@link CachedEntity} is returned, which gives access to the
      * persistent state at the moment of putting it in the cache.
      */
     <T> Collection<CachedEntity> findInCacheAsCachedObjects(Class<T> entityClass);
 
+    /**
+     * Returns the {@link CachedEntity} instances of the given type for which the attribute indexed by the given {@link IndexedCachedEntityMatcher} has the given value.
+     * The index is created the first time it is used for the type and maintained from then on. Returns null if no instances of the given type exist.
+     */
+    <T> Collection<CachedEntity> findInCacheAsCachedObjects(Class<T> entityClass, IndexedCachedEntityMatcher<?> matcher, String indexValue);
+
+    /**
+     * Updates the secondary indexes for the given {@link Entity}, which needs to be called when an indexed attribute of an already cached {@link Entity} is changed.
+     */
+    void updateIndexes(Entity entity);
+
     /**
      * Removes the {@link Entity} of the given type with the given id from the cache.
      */
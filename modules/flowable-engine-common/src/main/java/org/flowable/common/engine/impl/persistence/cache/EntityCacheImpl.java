@@ -12,10 +12,12 @@
  */
 package org.flowable.common.engine.impl.persistence.cache;
 
+import java.util.AbstractCollection;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
@@ -26,17 +28,38 @@ import org.flowable.common.engine.impl.persistence.entity.Entity;
  */
 public class EntityCacheImpl implements EntityCache {
 
+    /**
+     * Initial capacity of the cache of one entity type, sized so that a typical command does not need to rehash it.
+     */
+    protected static final int DEFAULT_CLASS_CACHE_CAPACITY = 64;
+
     protected Map<Class<?>, Map<String, CachedEntity>> cachedObjects = new HashMap<>();
+    protected Map<Class<?>, Map<String, CachedEntityIndex>> cachedObjectIndexes = new HashMap<>();
+
+    /**
+     * The class caches resolved by {@link #findClassCacheByCheckingSubclasses(Class)} for types (typically interfaces) that are not cached directly.
+     * A null value means that no cached type is assignable to the requested type. Cleared whenever a new type is added to the cache.
+     */
+    protected Map<Class<?>, Map<String, CachedEntity>> resolvedClassCaches = new HashMap<>();
 
     @Override
     public CachedEntity put(Entity entity, boolean storeState) {
         Map<String, CachedEntity> classCache = cachedObjects.get(entity.getClass());
         if (classCache == null) {
-            classCache = new HashMap<>();
+            classCache = new HashMap<>(DEFAULT_CLASS_CACHE_CAPACITY);
             cachedObjects.put(entity.getClass(), classCache);
+            resolvedClassCaches.clear();
         }
         CachedEntity cachedObject = new CachedEntity(entity, storeState);
         classCache.put(entity.getId(), cachedObject);
+
+        Map<String, CachedEntityIndex> classIndexes = cachedObjectIndexes.get(entity.getClass());
+        if (classIndexes != null) {
+            for (CachedEntityIndex index : classIndexes.values()) {
+                index.add(cachedObject);
+            }
+        }
+
         return cachedObject;
     }
 
@@ -44,11 +67,7 @@ public class EntityCacheImpl implements EntityCache {
     @SuppressWarnings("unchecked")
     public <T> T findInCache(Class<T> entityClass, String id) {
         CachedEntity cachedObject = null;
-        Map<String, CachedEntity> classCache = cachedObjects.get(entityClass);
-
-        if (classCache == null) {
-            classCache = findClassCacheByCheckingSubclasses(entityClass);
-        }
+        Map<String, CachedEntity> classCache = getClassCache(entityClass);
 
         if (classCache != null) {
             cachedObject = classCache.get(id);
@@ -61,6 +80,18 @@ public class EntityCacheImpl implements EntityCache {
         return null;
     }
 
+    protected Map<String, CachedEntity> getClassCache(Class<?> entityClass) {
+        Map<String, CachedEntity> classCache = cachedObjects.get(entityClass);
+        if (classCache == null) {
+            if (resolvedClassCaches.containsKey(entityClass)) {
+                return resolvedClassCaches.get(entityClass);
+            }
+            classCache = findClassCacheByCheckingSubclasses(entityClass);
+            resolvedClassCaches.put(entityClass, classCache);
+        }
+        return classCache;
+    }
+
     protected Map<String, CachedEntity> findClassCacheByCheckingSubclasses(Class<?> entityClass) {
         for (Class<?> clazz : cachedObjects.keySet()) {
             if (entityClass.isAssignableFrom(clazz)) {
@@ -77,6 +108,28 @@ public class EntityCacheImpl implements EntityCache {
             return;
         }
         classCache.remove(entityId);
+
+        Map<String, CachedEntityIndex> classIndexes = cachedObjectIndexes.get(entityClass);
+        if (classIndexes != null) {
+            for (CachedEntityIndex index : classIndexes.values()) {
+                index.remove(entityId);
+            }
+        }
+    }
+
+    @Override
+    public void updateIndexes(Entity entity) {
+        Map<String, CachedEntityIndex> classIndexes = cachedObjectIndexes.get(entity.getClass());
+        if (classIndexes == null) {
+            return;
+        }
+
+        CachedEntity cachedObject = cachedObjects.get(entity.getClass()).get(entity.getId());
+        if (cachedObject != null && cachedObject.getEntity() == entity) {
+            for (CachedEntityIndex index : classIndexes.values()) {
+                index.add(cachedObject);
+            }
+        }
     }
 
     @Override
@@ -89,13 +142,28 @@ public class EntityCacheImpl implements EntityCache {
     }
 
     @Override
-    @SuppressWarnings("unchecked")
-    public <T> List<T> findInCache(Class<T> entityClass) {
+    public <T> Collection<CachedEntity> findInCacheAsCachedObjects(Class<T> entityClass, IndexedCachedEntityMatcher<?> matcher, String indexValue) {
         Map<String, CachedEntity> classCache = cachedObjects.get(entityClass);
-
         if (classCache == null) {
-            classCache = findClassCacheByCheckingSubclasses(entityClass);
+            return null;
+        }
+
+        Map<String, CachedEntityIndex> classIndexes = cachedObjectIndexes.computeIfAbsent(entityClass, key -> new HashMap<>());
+        CachedEntityIndex index = classIndexes.get(matcher.getIndexName());
+        if (index == null) {
+            index = new CachedEntityIndex(matcher);
+            for (CachedEntity cachedObject : classCache.values()) {
+                index.add(cachedObject);
+            }
+            classIndexes.put(matcher.getIndexName(), index);
         }
+        return index.get(indexValue);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> List<T> findInCache(Class<T> entityClass) {
+        Map<String, CachedEntity> classCache = getClassCache(entityClass);
 
         if (classCache != null) {
             List<T> entities = new ArrayList<>(classCache.size());
@@ -108,6 +176,17 @@ public class EntityCacheImpl implements EntityCache {
         return Collections.emptyList();
     }
 
+    @Override
+    public <T> Collection<T> findInCacheAsView(Class<T> entityClass) {
+        Map<String, CachedEntity> classCache = getClassCache(entityClass);
+
+        if (classCache != null) {
+            return new CachedEntityView<>(classCache.values());
+        }
+
+        return Collections.emptyList();
+    }
+
     @Override
     public Map<Class<?>, Map<String, CachedEntity>> getAllCachedEntities() {
         return cachedObjects;
@@ -122,4 +201,39 @@ public class EntityCacheImpl implements EntityCache {
     public void flush() {
 
     }
+
+    /**
+     * Read-only view of the entities of a class cache, to iterate them without copying.
+     */
+    protected static class CachedEntityView<T> extends AbstractCollection<T> {
+
+        protected Collection<CachedEntity> cachedObjects;
+
+        public CachedEntityView(Collection<CachedEntity> cachedObjects) {
+            this.cachedObjects = cachedObjects;
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            Iterator<CachedEntity> cachedObjectIterator = cachedObjects.iterator();
+            return new Iterator<T>() {
+
+                @Override
+                public boolean hasNext() {
+                    return cachedObjectIterator.hasNext();
+                }
+
+                @Override
+                @SuppressWarnings("unchecked")
+                public T next() {
+                    return (T) cachedObjectIterator.next().getEntity();
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return cachedObjects.size();
+        }
+    }
 }
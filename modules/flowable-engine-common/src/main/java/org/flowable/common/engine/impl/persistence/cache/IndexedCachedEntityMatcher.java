@@ -0,0 +1,58 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.cache;
+
+import java.util.Collection;
+import java.util.Collections;
+
+import org.flowable.common.engine.impl.persistence.entity.Entity;
+
+/**
+ * A {@link CachedEntityMatcher} that only retains entities having a given value for one attribute (e.g. the parent id).
+ *
+ * The {@link EntityCache} uses this to keep a secondary index on that attribute, so that only the cached entities
+ * with the matching attribute value need to be passed through the matcher instead of all cached entities of the type.
+ *
+ * Entities of which the indexed attribute is changed after they have been put in the cache need to be passed
+ * to {@link EntityCache#updateIndexes(Entity)}.
+ */
+public interface IndexedCachedEntityMatcher<EntityImpl extends Entity> extends CachedEntityMatcher<EntityImpl> {
+
+    /**
+     * The name of the index. Matchers sharing the same name for the same entity type share the same index,
+     * and thus need to return the same value for {@link #getIndexValue(Entity)}.
+     */
+    String getIndexName();
+
+    /**
+     * Returns the value of the indexed attribute for the given entity. Entities for which null is returned are not indexed.
+     */
+    String getIndexValue(EntityImpl entity);
+
+    /**
+     * Returns the value of the indexed attribute that an entity must have to be retained for the given query parameter.
+     * When null is returned, the index is not used and all cached entities of the type are checked.
+     */
+    String getIndexValueForParameter(Object parameter);
+
+    /**
+     * Returns the values of the indexed attribute of which an entity must have one to be retained for the given query parameter,
+     * for matchers that accept more than one value (e.g. a collection of activity ids). By default this is the single value
+     * returned by {@link #getIndexValueForParameter(Object)}. When null is returned, the index is not used.
+     */
+    default Collection<String> getIndexValuesForParameter(Object parameter) {
+        String indexValue = getIndexValueForParameter(parameter);
+        return indexValue != null ? Collections.singletonList(indexValue) : null;
+    }
+
+}
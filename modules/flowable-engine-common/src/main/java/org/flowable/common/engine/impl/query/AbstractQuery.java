@@ -13,7 +13,10 @@
 package org.flowable.common.engine.impl.query;
 
 import java.io.Serializable;
+import java.util.Date;
 import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
@@ -135,6 +138,101 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
         return executeList(Context.getCommandContext());
     }
 
+    /**
+     * Executes the query and returns the results after the given cursor, using keyset pagination.
+     * Used by the queries implementing {@link org.flowable.common.engine.api.query.ScrollableQuery}, as their sql needs to take the cursor into account.
+     * The results need to be ordered by id, or by the given keyset property (which is not nullable), in which case the id is added to the order to break ties.
+     */
+    @SuppressWarnings("unchecked")
+    protected List<U> listPageAfter(String cursor, int maxResults, QueryProperty keysetProperty) {
+        String keysetColumn = getKeysetColumn(keysetProperty);
+        boolean descending = isOrderedDescending();
+        String originalOrderByColumns = orderByColumns;
+
+        if (cursor != null) {
+            QueryCursor queryCursor = QueryCursor.decode(cursor);
+            if (!Objects.equals(keysetColumn, queryCursor.getSortColumn())) {
+                throw new FlowableIllegalArgumentException("Cursor '" + cursor + "' does not match the order of the query");
+            }
+            this.afterId = queryCursor.getId();
+            this.afterValue = queryCursor.getSortValue();
+        }
+        this.keysetColumn = keysetColumn;
+        this.keysetDescending = descending;
+        if (keysetColumn != null) {
+            this.orderByColumns = orderByColumns + ", RES.ID_ " + (descending ? "desc" : "asc");
+        }
+        this.firstResult = 0;
+        this.maxResults = maxResults;
+        this.resultType = ResultType.LIST_PAGE;
+        try {
+            if (commandExecutor != null) {
+                return (List<U>) commandExecutor.execute(this);
+            }
+            checkQueryOk();
+            return executeList(Context.getCommandContext());
+
+        } finally {
+            this.afterId = null;
+            this.afterValue = null;
+            this.keysetColumn = null;
+            this.keysetDescending = false;
+            this.orderByColumns = originalOrderByColumns;
+        }
+    }
+
+    /**
+     * Creates the opaque cursor of {@link #listPageAfter(String, int, QueryProperty)} for the result with the given id and value of the keyset property.
+     */
+    protected String createCursor(String id, Date keysetValue, QueryProperty keysetProperty) {
+        String keysetColumn = getKeysetColumn(keysetProperty);
+        return new QueryCursor(keysetColumn, keysetColumn != null ? keysetValue : null, id).encode();
+    }
+
+    /**
+     * @return the column of the keyset property when the results are ordered by it, or null when they are ordered by id
+     */
+    protected String getKeysetColumn(QueryProperty keysetProperty) {
+        if (orderByColumns == null) {
+            return null;
+        }
+        for (String idColumn : getIdColumns()) {
+            if (orderByColumns.equals(idColumn + " asc") || orderByColumns.equals(idColumn + " desc")) {
+                return null;
+            }
+        }
+        if (keysetProperty != null
+                && (orderByColumns.equals(keysetProperty.getName() + " asc") || orderByColumns.equals(keysetProperty.getName() + " desc"))) {
+            return keysetProperty.getName();
+        }
+        throw new FlowableIllegalArgumentException("Keyset pagination is only possible when ordering by id"
+                + (keysetProperty != null ? " or by " + keysetProperty.getName() : ""));
+    }
+
+    protected boolean isOrderedDescending() {
+        return orderByColumns != null && orderByColumns.endsWith(" desc");
+    }
+
+    /**
+     * @return the columns holding the id of the results, which can be used for ordering when using keyset pagination
+     */
+    protected String[] getIdColumns() {
+        return new String[] { "RES.ID_" };
+    }
+
+    /**
+     * Executes the query and returns the results as a stream backed by a database cursor.
+     * Only usable by queries implementing {@link org.flowable.common.engine.api.query.ScrollableQuery}.
+     */
+    public Stream<U> stream() {
+        CommandContext commandContext = Context.getCommandContext();
+        if (commandContext == null) {
+            throw new FlowableException("Streaming query results is only possible within an active command context");
+        }
+        checkQueryOk();
+        return executeStream(commandContext);
+    }
+
     @Override
     public long count() {
         this.resultType = ResultType.COUNT;
@@ -167,6 +265,13 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
      */
     public abstract List<U> executeList(CommandContext commandContext);
 
+    /**
+     * Executes the actual query using a database cursor. Needs to be overridden by queries that support streaming their results.
+     */
+    public Stream<U> executeStream(CommandContext commandContext) {
+        throw new FlowableException("Streaming query results is not supported by " + getClass().getName());
+    }
+
     public U executeSingleResult(CommandContext commandContext) {
         List<U> results = executeList(commandContext);
         if (results.size() == 1) {
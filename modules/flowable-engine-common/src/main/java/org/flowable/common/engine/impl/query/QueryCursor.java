@@ -0,0 +1,83 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.query;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+
+/**
+ * The position of a result in the order of a query, used for keyset pagination.
+ * It holds the value of the sort column (when not ordering by id only) and the id of the result, which breaks ties between equal sort values.
+ * The encoded form is opaque to the users of the query.
+ */
+public class QueryCursor {
+
+    protected static final String SEPARATOR = "\n";
+
+    protected String sortColumn;
+    protected Date sortValue;
+    protected String id;
+
+    public QueryCursor(String sortColumn, Date sortValue, String id) {
+        this.sortColumn = sortColumn;
+        this.sortValue = sortValue;
+        this.id = id;
+    }
+
+    public String encode() {
+        String cursor = (sortColumn != null ? sortColumn : "") + SEPARATOR + (sortValue != null ? sortValue.getTime() : "") + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static QueryCursor decode(String cursor) {
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(SEPARATOR, 3);
+        } catch (IllegalArgumentException e) {
+            throw new FlowableIllegalArgumentException("Invalid cursor '" + cursor + "'", e);
+        }
+        if (parts.length != 3 || parts[2].isEmpty()) {
+            throw new FlowableIllegalArgumentException("Invalid cursor '" + cursor + "'");
+        }
+
+        String sortColumn = parts[0].isEmpty() ? null : parts[0];
+        Date sortValue = null;
+        if (!parts[1].isEmpty()) {
+            try {
+                sortValue = new Date(Long.parseLong(parts[1]));
+            } catch (NumberFormatException e) {
+                throw new FlowableIllegalArgumentException("Invalid cursor '" + cursor + "'", e);
+            }
+        }
+        if (sortColumn != null && sortValue == null) {
+            throw new FlowableIllegalArgumentException("Invalid cursor '" + cursor + "'");
+        }
+        return new QueryCursor(sortColumn, sortValue, parts[2]);
+    }
+
+    public String getSortColumn() {
+        return sortColumn;
+    }
+
+    public Date getSortValue() {
+        return sortValue;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+}
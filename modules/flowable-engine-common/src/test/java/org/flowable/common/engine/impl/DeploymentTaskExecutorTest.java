@@ -0,0 +1,64 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class DeploymentTaskExecutorTest {
+
+    private DeploymentTaskExecutor deploymentTaskExecutor = new DeploymentTaskExecutor(3, "test-deployment-");
+
+    @AfterEach
+    void shutdown() {
+        deploymentTaskExecutor.shutdown();
+    }
+
+    @Test
+    void executeAllReturnsResultsInItemOrder() {
+        List<String> results = deploymentTaskExecutor.executeAll(Arrays.asList("a", "b", "c", "d", "e"), item -> item + "-" + Thread.currentThread().getName());
+
+        assertThat(results).hasSize(5);
+        assertThat(results.get(0)).startsWith("a-test-deployment-");
+        assertThat(results.get(4)).startsWith("e-test-deployment-");
+    }
+
+    @Test
+    void executeAllRunsSingleItemOnCallingThread() {
+        String callingThreadName = Thread.currentThread().getName();
+
+        assertThat(deploymentTaskExecutor.executeAll(Collections.singletonList("a"), item -> Thread.currentThread().getName()))
+                .containsExactly(callingThreadName);
+    }
+
+    @Test
+    void executeAllRethrowsFailure() {
+        assertThatThrownBy(() -> deploymentTaskExecutor.executeAll(Arrays.asList("a", "b", "c"), item -> {
+            if ("b".equals(item)) {
+                throw new FlowableIllegalArgumentException("invalid " + item);
+            }
+            return item;
+        }))
+                .isInstanceOf(FlowableIllegalArgumentException.class)
+                .hasMessage("invalid b");
+    }
+
+}
@@ -0,0 +1,168 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.stream.Collectors;
+
+import org.flowable.common.engine.impl.persistence.entity.AbstractEntity;
+import org.flowable.common.engine.impl.persistence.entity.Entity;
+import org.junit.jupiter.api.Test;
+
+class EntityCacheImplTest {
+
+    protected EntityCacheImpl entityCache = new EntityCacheImpl();
+    protected ParentIdMatcher parentIdMatcher = new ParentIdMatcher();
+
+    @Test
+    void findByIndexOnlyReturnsEntitiesWithIndexedValue() {
+        entityCache.put(new TestEntity("1", "parent1"), true);
+        entityCache.put(new TestEntity("2", "parent1"), true);
+        entityCache.put(new TestEntity("3", "parent2"), true);
+        entityCache.put(new TestEntity("4", null), true);
+
+        assertThat(ids(entityCache.findInCacheAsCachedObjects(TestEntity.class, parentIdMatcher, "parent1"))).containsExactlyInAnyOrder("1", "2");
+        assertThat(ids(entityCache.findInCacheAsCachedObjects(TestEntity.class, parentIdMatcher, "parent2"))).containsExactly("3");
+        assertThat(entityCache.findInCacheAsCachedObjects(TestEntity.class, parentIdMatcher, "parent3")).isEmpty();
+        assertThat(entityCache.findInCacheAsCachedObjects(OtherTestEntity.class, parentIdMatcher, "parent1")).isNull();
+    }
+
+    @Test
+    void indexIsMaintainedOnPutAndRemove() {
+        entityCache.put(new TestEntity("1", "parent1"), true);
+        assertThat(ids(entityCache.findInCacheAsCachedObjects(TestEntity.class, parentIdMatcher, "parent1"))).containsExactly("1");
+
+        entityCache.put(new TestEntity("2", "parent1"), true);
+        entityCache.put(new TestEntity("1", "parent2"), true);
+        assertThat(ids(entityCache.findInCacheAsCachedObjects(TestEntity.class, parentIdMatcher, "parent1"))).containsExactly("2");
+        assertThat(ids(entityCache.findInCacheAsCachedObjects(TestEntity.class, parentIdMatcher, "parent2"))).containsExactly("1");
+
+        entityCache.cacheRemove(TestEntity.class, "2");
+        assertThat(entityCache.findInCacheAsCachedObjects(TestEntity.class, parentIdMatcher, "parent1")).isEmpty();
+    }
+
+    @Test
+    void updateIndexesMovesChangedEntity() {
+        TestEntity entity = new TestEntity("1", "parent1");
+        entityCache.put(entity, true);
+        assertThat(ids(entityCache.findInCacheAsCachedObjects(TestEntity.class, parentIdMatcher, "parent1"))).containsExactly("1");
+
+        entity.parentId = "parent2";
+        entityCache.updateIndexes(entity);
+        assertThat(entityCache.findInCacheAsCachedObjects(TestEntity.class, parentIdMatcher, "parent1")).isEmpty();
+        assertThat(ids(entityCache.findInCacheAsCachedObjects(TestEntity.class, parentIdMatcher, "parent2"))).containsExactly("1");
+
+        // An entity instance that is not the cached one does not change the index
+        entityCache.updateIndexes(new TestEntity("1", "parent3"));
+        assertThat(entityCache.findInCacheAsCachedObjects(TestEntity.class, parentIdMatcher, "parent3")).isEmpty();
+    }
+
+    @Test
+    void findByIndexReturnsUnmodifiableView() {
+        entityCache.put(new TestEntity("1", "parent1"), true);
+        Collection<CachedEntity> cachedEntities = entityCache.findInCacheAsCachedObjects(TestEntity.class, parentIdMatcher, "parent1");
+
+        entityCache.put(new TestEntity("2", "parent1"), true);
+        assertThat(ids(cachedEntities)).containsExactly("1", "2");
+        assertThatThrownBy(cachedEntities::clear).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void findBySuperTypeResolvesCachedSubclass() {
+        assertThat(entityCache.findInCache(TestEntityType.class, "1")).isNull();
+        assertThat(entityCache.findInCache(TestEntityType.class)).isEmpty();
+
+        // Adding a new type must invalidate the previously resolved (empty) lookup
+        entityCache.put(new TestEntity("1", "parent1"), true);
+        assertThat(entityCache.findInCache(TestEntityType.class, "1")).isNotNull();
+
+        entityCache.put(new TestEntity("2", "parent1"), true);
+        assertThat(entityCache.findInCache(TestEntityType.class, "2")).isNotNull();
+        assertThat(entityCache.findInCache(TestEntityType.class)).hasSize(2);
+    }
+
+    @Test
+    void findInCacheAsView() {
+        assertThat(entityCache.findInCacheAsView(TestEntityType.class)).isEmpty();
+
+        entityCache.put(new TestEntity("1", "parent1"), true);
+        entityCache.put(new TestEntity("2", "parent2"), true);
+
+        Collection<TestEntityType> view = entityCache.findInCacheAsView(TestEntityType.class);
+        assertThat(view).extracting(TestEntityType::getId).containsExactlyInAnyOrder("1", "2");
+
+        entityCache.cacheRemove(TestEntity.class, "1");
+        assertThat(view).extracting(TestEntityType::getId).containsExactly("2");
+    }
+
+    protected Collection<String> ids(Collection<CachedEntity> cachedEntities) {
+        return cachedEntities.stream().map(cachedEntity -> cachedEntity.getEntity().getId()).collect(Collectors.toList());
+    }
+
+    interface TestEntityType extends Entity {
+    }
+
+    static class TestEntity extends AbstractEntity implements TestEntityType {
+
+        protected String parentId;
+
+        TestEntity(String id, String parentId) {
+            this.id = id;
+            this.parentId = parentId;
+        }
+
+        @Override
+        public String getIdPrefix() {
+            return null;
+        }
+
+        @Override
+        public Object getPersistentState() {
+            return Collections.singletonMap("parentId", parentId);
+        }
+    }
+
+    static class OtherTestEntity extends TestEntity {
+
+        OtherTestEntity(String id, String parentId) {
+            super(id, parentId);
+        }
+    }
+
+    static class ParentIdMatcher extends CachedEntityMatcherAdapter<TestEntity> implements IndexedCachedEntityMatcher<TestEntity> {
+
+        @Override
+        public boolean isRetained(TestEntity entity, Object param) {
+            return param.equals(entity.parentId);
+        }
+
+        @Override
+        public String getIndexName() {
+            return "parentId";
+        }
+
+        @Override
+        public String getIndexValue(TestEntity entity) {
+            return entity.parentId;
+        }
+
+        @Override
+        public String getIndexValueForParameter(Object parameter) {
+            return (String) parameter;
+        }
+    }
+}
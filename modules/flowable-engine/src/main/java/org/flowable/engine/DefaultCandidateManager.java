@@ -15,9 +15,12 @@ package org.flowable.engine;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.persistence.AbstractManager;
 import org.flowable.idm.api.Group;
+import org.flowable.idm.api.IdmEngineConfigurationApi;
+import org.flowable.idm.api.UserGroupMembershipCache;
 
 public class DefaultCandidateManager extends AbstractManager implements CandidateManager {
 
@@ -27,6 +30,16 @@ public class DefaultCandidateManager extends AbstractManager implements Candidat
 
     @Override
     public List<String> getGroupsForCandidateUser(String candidateUser) {
+        IdmEngineConfigurationApi idmEngineConfiguration = (IdmEngineConfigurationApi) getProcessEngineConfiguration().getEngineConfigurations()
+            .get(EngineConfigurationConstants.KEY_IDM_ENGINE_CONFIG);
+        UserGroupMembershipCache userGroupMembershipCache = idmEngineConfiguration != null ? idmEngineConfiguration.getUserGroupMembershipCache() : null;
+        if (userGroupMembershipCache != null) {
+            return userGroupMembershipCache.getGroupIds(candidateUser, this::findGroupIds);
+        }
+        return findGroupIds(candidateUser);
+    }
+
+    protected List<String> findGroupIds(String candidateUser) {
         IdentityService identityService = getProcessEngineConfiguration().getIdentityService();
         List<Group> groups = identityService.createGroupQuery().groupMember(candidateUser).list();
         List<String> groupIds = new ArrayList<>();
@@ -14,8 +14,11 @@
 
 package org.flowable.engine;
 
+import java.util.Date;
 import java.util.List;
 
+import org.flowable.engine.history.ArchivedHistoricProcessInstanceQuery;
+import org.flowable.engine.history.ArchivedHistoricTaskInstanceQuery;
 import org.flowable.engine.history.HistoricActivityInstance;
 import org.flowable.engine.history.HistoricActivityInstanceQuery;
 import org.flowable.engine.history.HistoricDetail;
@@ -95,6 +98,32 @@ public interface HistoryService {
      * Deletes historic process instance. All historic activities, historic task and historic details (variable updates, form properties) are deleted as well.
      */
     void deleteHistoricProcessInstance(String processInstanceId);
+
+    /**
+     * Moves the history of at most maxProcessInstances process instances that finished before the given date (including their activities, tasks,
+     * variables, identity links, details and comments) to the configured history archive store, and deletes it from the history tables.
+     * Sub process instances are archived together with their root process instance.
+     * Archived process and task instances are not returned by the historic process instance and task queries anymore,
+     * they can be found with {@link #createArchivedHistoricProcessInstanceQuery()} and {@link #createArchivedHistoricTaskInstanceQuery()}.
+     *
+     * @return the number of archived process instances, including sub process instances
+     * @throws org.flowable.common.engine.api.FlowableException when no history archive store is configured
+     */
+    int archiveHistoricProcessInstances(Date finishedBefore, int maxProcessInstances);
+
+    /**
+     * Creates a new programmatic query to search for the {@link HistoricProcessInstance}s moved to the history archive by {@link #archiveHistoricProcessInstances(Date, int)}.
+     *
+     * @throws org.flowable.common.engine.api.FlowableException when the query is executed and no history archive store is configured
+     */
+    ArchivedHistoricProcessInstanceQuery createArchivedHistoricProcessInstanceQuery();
+
+    /**
+     * Creates a new programmatic query to search for the {@link HistoricTaskInstance}s moved to the history archive by {@link #archiveHistoricProcessInstances(Date, int)}.
+     *
+     * @throws org.flowable.common.engine.api.FlowableException when the query is executed and no history archive store is configured
+     */
+    ArchivedHistoricTaskInstanceQuery createArchivedHistoricTaskInstanceQuery();
     
     /**
      * Deletes historic task and activity data for removed process instances
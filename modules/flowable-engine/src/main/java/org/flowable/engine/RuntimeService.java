@@ -331,6 +331,22 @@ public interface RuntimeService {
      */
     void deleteProcessInstance(String processInstanceId, String deleteReason);
 
+    /**
+     * Deletes the given runtime process instances, in transactions of at most processInstanceBulkDeleteChunkSize (see the engine configuration) process instances each.
+     * <p>
+     * When no event listeners are registered, history is disabled for the process definition and the process definition has no execution or task listeners and no
+     * call activities, the runtime data of the process instances is deleted with set-based delete statements per table, instead of deleting every entity one by one.
+     * The other process instances are deleted as with {@link #deleteProcessInstance(String, String)}.
+     *
+     * @param processInstanceIds
+     *     ids of the process instances to delete, cannot be null.
+     * @param deleteReason
+     *     reason for deleting, can be null.
+     * @throws FlowableObjectNotFoundException
+     *     when no process instance is found for one of the given ids. The process instances of earlier transactions are deleted nevertheless.
+     */
+    void bulkDeleteProcessInstances(Collection<String> processInstanceIds, String deleteReason);
+
     /**
      * Finds the activity ids for all executions that are waiting in activities. This is a list because a single activity can be active multiple times.
      *
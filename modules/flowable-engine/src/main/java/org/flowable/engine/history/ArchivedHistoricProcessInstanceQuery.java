@@ -0,0 +1,84 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.history;
+
+import java.util.Date;
+import java.util.Set;
+
+import org.flowable.common.engine.api.query.Query;
+
+/**
+ * Programmatic querying for the {@link HistoricProcessInstance}s that were moved to the history archive with
+ * {@link org.flowable.engine.HistoryService#archiveHistoricProcessInstances(Date, int)}.
+ *
+ * The archive is read from the configured history archive store. Only the partitions of the days in the finished (or started) time range are read,
+ * and a lookup by id only reads the archive files that can contain the id. Without such criteria, all archive files are read.
+ */
+public interface ArchivedHistoricProcessInstanceQuery extends Query<ArchivedHistoricProcessInstanceQuery, HistoricProcessInstance> {
+
+    /**
+     * Only select the archived process instance with the given id.
+     */
+    ArchivedHistoricProcessInstanceQuery processInstanceId(String processInstanceId);
+
+    /**
+     * Only select the archived process instances with one of the given ids.
+     */
+    ArchivedHistoricProcessInstanceQuery processInstanceIds(Set<String> processInstanceIds);
+
+    /**
+     * Only select the archived process instances of the process definition with the given key.
+     */
+    ArchivedHistoricProcessInstanceQuery processDefinitionKey(String processDefinitionKey);
+
+    /**
+     * Only select the archived process instances with the given tenant id.
+     */
+    ArchivedHistoricProcessInstanceQuery processInstanceTenantId(String tenantId);
+
+    /**
+     * Only select the archived process instances that were started after the given date.
+     */
+    ArchivedHistoricProcessInstanceQuery startedAfter(Date date);
+
+    /**
+     * Only select the archived process instances that were started before the given date.
+     */
+    ArchivedHistoricProcessInstanceQuery startedBefore(Date date);
+
+    /**
+     * Only select the archived process instances that finished after the given date.
+     */
+    ArchivedHistoricProcessInstanceQuery finishedAfter(Date date);
+
+    /**
+     * Only select the archived process instances that finished before the given date.
+     */
+    ArchivedHistoricProcessInstanceQuery finishedBefore(Date date);
+
+    /**
+     * Order by the process instance id (needs to be followed by {@link #asc()} or {@link #desc()}).
+     */
+    ArchivedHistoricProcessInstanceQuery orderByProcessInstanceId();
+
+    /**
+     * Order by the start time (needs to be followed by {@link #asc()} or {@link #desc()}).
+     */
+    ArchivedHistoricProcessInstanceQuery orderByProcessInstanceStartTime();
+
+    /**
+     * Order by the end time (needs to be followed by {@link #asc()} or {@link #desc()}).
+     */
+    ArchivedHistoricProcessInstanceQuery orderByProcessInstanceEndTime();
+
+}
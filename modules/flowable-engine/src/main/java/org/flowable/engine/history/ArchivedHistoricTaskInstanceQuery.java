@@ -0,0 +1,90 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.history;
+
+import java.util.Date;
+import java.util.Set;
+
+import org.flowable.common.engine.api.query.Query;
+import org.flowable.task.api.history.HistoricTaskInstance;
+
+/**
+ * Programmatic querying for the {@link HistoricTaskInstance}s of the process instances that were moved to the history archive with
+ * {@link org.flowable.engine.HistoryService#archiveHistoricProcessInstances(Date, int)}.
+ *
+ * A lookup by task or process instance id only reads the archive files that can contain the id. Without such criteria or a time range,
+ * all archive files are read.
+ */
+public interface ArchivedHistoricTaskInstanceQuery extends Query<ArchivedHistoricTaskInstanceQuery, HistoricTaskInstance> {
+
+    /**
+     * Only select the archived task instance with the given id.
+     */
+    ArchivedHistoricTaskInstanceQuery taskId(String taskId);
+
+    /**
+     * Only select the archived task instances of the process instance with the given id.
+     */
+    ArchivedHistoricTaskInstanceQuery processInstanceId(String processInstanceId);
+
+    /**
+     * Only select the archived task instances of the process instances with one of the given ids.
+     */
+    ArchivedHistoricTaskInstanceQuery processInstanceIds(Set<String> processInstanceIds);
+
+    /**
+     * Only select the archived task instances of the process definition with the given key.
+     */
+    ArchivedHistoricTaskInstanceQuery processDefinitionKey(String processDefinitionKey);
+
+    /**
+     * Only select the archived task instances with the given tenant id.
+     */
+    ArchivedHistoricTaskInstanceQuery taskTenantId(String tenantId);
+
+    /**
+     * Only select the archived task instances that were created after the given date.
+     */
+    ArchivedHistoricTaskInstanceQuery taskCreatedAfter(Date date);
+
+    /**
+     * Only select the archived task instances that were created before the given date.
+     */
+    ArchivedHistoricTaskInstanceQuery taskCreatedBefore(Date date);
+
+    /**
+     * Only select the archived task instances that were completed after the given date.
+     */
+    ArchivedHistoricTaskInstanceQuery taskCompletedAfter(Date date);
+
+    /**
+     * Only select the archived task instances that were completed before the given date.
+     */
+    ArchivedHistoricTaskInstanceQuery taskCompletedBefore(Date date);
+
+    /**
+     * Order by the task id (needs to be followed by {@link #asc()} or {@link #desc()}).
+     */
+    ArchivedHistoricTaskInstanceQuery orderByTaskId();
+
+    /**
+     * Order by the creation time (needs to be followed by {@link #asc()} or {@link #desc()}).
+     */
+    ArchivedHistoricTaskInstanceQuery orderByTaskCreateTime();
+
+    /**
+     * Order by the end time (needs to be followed by {@link #asc()} or {@link #desc()}).
+     */
+    ArchivedHistoricTaskInstanceQuery orderByHistoricTaskInstanceEndTime();
+
+}
@@ -0,0 +1,176 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.impl.history.archive.AbstractHistoryArchiveQuery;
+import org.flowable.common.engine.impl.history.archive.HistoryArchiveQueryProperty;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.engine.history.ArchivedHistoricProcessInstanceQuery;
+import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.impl.history.archive.HistoryArchiveManager;
+import org.flowable.engine.impl.util.CommandContextUtil;
+
+public class ArchivedHistoricProcessInstanceQueryImpl extends AbstractHistoryArchiveQuery<ArchivedHistoricProcessInstanceQuery, HistoricProcessInstance>
+        implements ArchivedHistoricProcessInstanceQuery {
+
+    private static final long serialVersionUID = 1L;
+
+    protected String processInstanceId;
+    protected Set<String> processInstanceIds;
+    protected String processDefinitionKey;
+    protected String tenantId;
+    protected Date startedAfter;
+    protected Date startedBefore;
+    protected Date finishedAfter;
+    protected Date finishedBefore;
+
+    public ArchivedHistoricProcessInstanceQueryImpl() {
+    }
+
+    public ArchivedHistoricProcessInstanceQueryImpl(CommandExecutor commandExecutor) {
+        super(commandExecutor);
+    }
+
+    @Override
+    public ArchivedHistoricProcessInstanceQueryImpl processInstanceId(String processInstanceId) {
+        if (processInstanceId == null) {
+            throw new FlowableIllegalArgumentException("Process instance id is null");
+        }
+        this.processInstanceId = processInstanceId;
+        return this;
+    }
+
+    @Override
+    public ArchivedHistoricProcessInstanceQueryImpl processInstanceIds(Set<String> processInstanceIds) {
+        if (processInstanceIds == null) {
+            throw new FlowableIllegalArgumentException("Set of process instance ids is null");
+        }
+        if (processInstanceIds.isEmpty()) {
+            throw new FlowableIllegalArgumentException("Set of process instance ids is empty");
+        }
+        this.processInstanceIds = processInstanceIds;
+        return this;
+    }
+
+    @Override
+    public ArchivedHistoricProcessInstanceQueryImpl processDefinitionKey(String processDefinitionKey) {
+        this.processDefinitionKey = processDefinitionKey;
+        return this;
+    }
+
+    @Override
+    public ArchivedHistoricProcessInstanceQueryImpl processInstanceTenantId(String tenantId) {
+        if (tenantId == null) {
+            throw new FlowableIllegalArgumentException("process instance tenant id is null");
+        }
+        this.tenantId = tenantId;
+        return this;
+    }
+
+    @Override
+    public ArchivedHistoricProcessInstanceQueryImpl startedAfter(Date startedAfter) {
+        this.startedAfter = startedAfter;
+        return this;
+    }
+
+    @Override
+    public ArchivedHistoricProcessInstanceQueryImpl startedBefore(Date startedBefore) {
+        this.startedBefore = startedBefore;
+        return this;
+    }
+
+    @Override
+    public ArchivedHistoricProcessInstanceQueryImpl finishedAfter(Date finishedAfter) {
+        this.finishedAfter = finishedAfter;
+        return this;
+    }
+
+    @Override
+    public ArchivedHistoricProcessInstanceQueryImpl finishedBefore(Date finishedBefore) {
+        this.finishedBefore = finishedBefore;
+        return this;
+    }
+
+    @Override
+    public ArchivedHistoricProcessInstanceQuery orderByProcessInstanceId() {
+        return orderBy(HistoryArchiveQueryProperty.ID);
+    }
+
+    @Override
+    public ArchivedHistoricProcessInstanceQuery orderByProcessInstanceStartTime() {
+        return orderBy(HistoryArchiveQueryProperty.START_TIME);
+    }
+
+    @Override
+    public ArchivedHistoricProcessInstanceQuery orderByProcessInstanceEndTime() {
+        return orderBy(HistoryArchiveQueryProperty.END_TIME);
+    }
+
+    @Override
+    public long executeCount(CommandContext commandContext) {
+        return getHistoryArchiveManager(commandContext).countHistoricProcessInstances(this);
+    }
+
+    @Override
+    public List<HistoricProcessInstance> executeList(CommandContext commandContext) {
+        return getHistoryArchiveManager(commandContext).findHistoricProcessInstances(this);
+    }
+
+    protected HistoryArchiveManager getHistoryArchiveManager(CommandContext commandContext) {
+        HistoryArchiveManager historyArchiveManager = CommandContextUtil.getProcessEngineConfiguration(commandContext).getHistoryArchiveManager();
+        if (historyArchiveManager == null) {
+            throw new FlowableException("No history archive store is configured");
+        }
+        return historyArchiveManager;
+    }
+
+    public String getProcessInstanceId() {
+        return processInstanceId;
+    }
+
+    public Set<String> getProcessInstanceIds() {
+        return processInstanceIds;
+    }
+
+    public String getProcessDefinitionKey() {
+        return processDefinitionKey;
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public Date getStartedAfter() {
+        return startedAfter;
+    }
+
+    public Date getStartedBefore() {
+        return startedBefore;
+    }
+
+    public Date getFinishedAfter() {
+        return finishedAfter;
+    }
+
+    public Date getFinishedBefore() {
+        return finishedBefore;
+    }
+
+}
@@ -0,0 +1,190 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.impl.history.archive.AbstractHistoryArchiveQuery;
+import org.flowable.common.engine.impl.history.archive.HistoryArchiveQueryProperty;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.engine.history.ArchivedHistoricTaskInstanceQuery;
+import org.flowable.engine.impl.history.archive.HistoryArchiveManager;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.task.api.history.HistoricTaskInstance;
+
+public class ArchivedHistoricTaskInstanceQueryImpl extends AbstractHistoryArchiveQuery<ArchivedHistoricTaskInstanceQuery, HistoricTaskInstance>
+        implements ArchivedHistoricTaskInstanceQuery {
+
+    private static final long serialVersionUID = 1L;
+
+    protected String taskId;
+    protected String processInstanceId;
+    protected Set<String> processInstanceIds;
+    protected String processDefinitionKey;
+    protected String tenantId;
+    protected Date createdAfter;
+    protected Date createdBefore;
+    protected Date completedAfter;
+    protected Date completedBefore;
+
+    public ArchivedHistoricTaskInstanceQueryImpl() {
+    }
+
+    public ArchivedHistoricTaskInstanceQueryImpl(CommandExecutor commandExecutor) {
+        super(commandExecutor);
+    }
+
+    @Override
+    public ArchivedHistoricTaskInstanceQueryImpl taskId(String taskId) {
+        if (taskId == null) {
+            throw new FlowableIllegalArgumentException("Task id is null");
+        }
+        this.taskId = taskId;
+        return this;
+    }
+
+    @Override
+    public ArchivedHistoricTaskInstanceQueryImpl processInstanceId(String processInstanceId) {
+        if (processInstanceId == null) {
+            throw new FlowableIllegalArgumentException("Process instance id is null");
+        }
+        this.processInstanceId = processInstanceId;
+        return this;
+    }
+
+    @Override
+    public ArchivedHistoricTaskInstanceQueryImpl processInstanceIds(Set<String> processInstanceIds) {
+        if (processInstanceIds == null) {
+            throw new FlowableIllegalArgumentException("Set of process instance ids is null");
+        }
+        if (processInstanceIds.isEmpty()) {
+            throw new FlowableIllegalArgumentException("Set of process instance ids is empty");
+        }
+        this.processInstanceIds = processInstanceIds;
+        return this;
+    }
+
+    @Override
+    public ArchivedHistoricTaskInstanceQueryImpl processDefinitionKey(String processDefinitionKey) {
+        this.processDefinitionKey = processDefinitionKey;
+        return this;
+    }
+
+    @Override
+    public ArchivedHistoricTaskInstanceQueryImpl taskTenantId(String tenantId) {
+        if (tenantId == null) {
+            throw new FlowableIllegalArgumentException("task tenant id is null");
+        }
+        this.tenantId = tenantId;
+        return this;
+    }
+
+    @Override
+    public ArchivedHistoricTaskInstanceQueryImpl taskCreatedAfter(Date createdAfter) {
+        this.createdAfter = createdAfter;
+        return this;
+    }
+
+    @Override
+    public ArchivedHistoricTaskInstanceQueryImpl taskCreatedBefore(Date createdBefore) {
+        this.createdBefore = createdBefore;
+        return this;
+    }
+
+    @Override
+    public ArchivedHistoricTaskInstanceQueryImpl taskCompletedAfter(Date completedAfter) {
+        this.completedAfter = completedAfter;
+        return this;
+    }
+
+    @Override
+    public ArchivedHistoricTaskInstanceQueryImpl taskCompletedBefore(Date completedBefore) {
+        this.completedBefore = completedBefore;
+        return this;
+    }
+
+    @Override
+    public ArchivedHistoricTaskInstanceQuery orderByTaskId() {
+        return orderBy(HistoryArchiveQueryProperty.ID);
+    }
+
+    @Override
+    public ArchivedHistoricTaskInstanceQuery orderByTaskCreateTime() {
+        return orderBy(HistoryArchiveQueryProperty.CREATE_TIME);
+    }
+
+    @Override
+    public ArchivedHistoricTaskInstanceQuery orderByHistoricTaskInstanceEndTime() {
+        return orderBy(HistoryArchiveQueryProperty.END_TIME);
+    }
+
+    @Override
+    public long executeCount(CommandContext commandContext) {
+        return getHistoryArchiveManager(commandContext).countHistoricTaskInstances(this);
+    }
+
+    @Override
+    public List<HistoricTaskInstance> executeList(CommandContext commandContext) {
+        return getHistoryArchiveManager(commandContext).findHistoricTaskInstances(this);
+    }
+
+    protected HistoryArchiveManager getHistoryArchiveManager(CommandContext commandContext) {
+        HistoryArchiveManager historyArchiveManager = CommandContextUtil.getProcessEngineConfiguration(commandContext).getHistoryArchiveManager();
+        if (historyArchiveManager == null) {
+            throw new FlowableException("No history archive store is configured");
+        }
+        return historyArchiveManager;
+    }
+
+    public String getTaskId() {
+        return taskId;
+    }
+
+    public String getProcessInstanceId() {
+        return processInstanceId;
+    }
+
+    public Set<String> getProcessInstanceIds() {
+        return processInstanceIds;
+    }
+
+    public String getProcessDefinitionKey() {
+        return processDefinitionKey;
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public Date getCreatedAfter() {
+        return createdAfter;
+    }
+
+    public Date getCreatedBefore() {
+        return createdBefore;
+    }
+
+    public Date getCompletedAfter() {
+        return completedAfter;
+    }
+
+    public Date getCompletedBefore() {
+        return completedBefore;
+    }
+
+}
@@ -14,10 +14,12 @@
 package org.flowable.engine.impl;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
@@ -77,6 +79,7 @@ public class HistoricProcessInstanceQueryImpl extends AbstractVariableQueryImpl<
     protected String involvedUser;
     protected Set<String> involvedGroups;
     protected boolean includeProcessVariables;
+    protected Collection<String> variableNamesToInclude;
     protected Integer processInstanceVariablesLimit;
     protected boolean withJobException;
     protected String tenantId;
@@ -384,6 +387,20 @@ public class HistoricProcessInstanceQueryImpl extends AbstractVariableQueryImpl<
     @Override
     public HistoricProcessInstanceQuery includeProcessVariables() {
         this.includeProcessVariables = true;
+        this.variableNamesToInclude = null;
+        return this;
+    }
+
+    @Override
+    public HistoricProcessInstanceQuery includeProcessVariables(Collection<String> variableNames) {
+        if (variableNames == null) {
+            throw new FlowableIllegalArgumentException("Variable names is null");
+        }
+        if (variableNames.isEmpty()) {
+            throw new FlowableIllegalArgumentException("Variable names is empty");
+        }
+        this.includeProcessVariables = true;
+        this.variableNamesToInclude = new ArrayList<>(variableNames);
         return this;
     }
 
@@ -764,6 +781,43 @@ public class HistoricProcessInstanceQueryImpl extends AbstractVariableQueryImpl<
         return results;
     }
 
+    @Override
+    public List<HistoricProcessInstance> listPageAfter(String cursor, int maxResults) {
+        return listPageAfter(cursor, maxResults, HistoricProcessInstanceQueryProperty.START_TIME);
+    }
+
+    @Override
+    public String getCursor(HistoricProcessInstance result) {
+        return createCursor(result.getId(), result.getStartTime(), HistoricProcessInstanceQueryProperty.START_TIME);
+    }
+
+    @Override
+    protected String[] getIdColumns() {
+        // the process instance id of a historic process instance is the same as its id
+        return new String[] { "RES.ID_", HistoricProcessInstanceQueryProperty.PROCESS_INSTANCE_ID_.getName() };
+    }
+
+    @Override
+    public Stream<HistoricProcessInstance> executeStream(CommandContext commandContext) {
+        if (includeProcessVariables) {
+            throw new FlowableIllegalArgumentException("Including process variables is not supported when streaming historic process instances");
+        }
+
+        ensureVariablesInitialized();
+
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        if (processEngineConfiguration.getHistoricProcessInstanceQueryInterceptor() != null) {
+            processEngineConfiguration.getHistoricProcessInstanceQueryInterceptor().beforeHistoricProcessInstanceQueryExecute(this);
+        }
+
+        Stream<HistoricProcessInstance> results = CommandContextUtil.getHistoricProcessInstanceEntityManager(commandContext).streamHistoricProcessInstancesByQueryCriteria(this);
+        if (processEngineConfiguration.getPerformanceSettings().isEnableLocalization() && processEngineConfiguration.getInternalProcessLocalizationManager() != null) {
+            results = results.peek(processInstance -> processEngineConfiguration.getInternalProcessLocalizationManager().localize(processInstance, locale, withLocalizationFallback));
+        }
+
+        return results;
+    }
+
     protected void addCachedVariableForQueryById(CommandContext commandContext, List<HistoricProcessInstance> results) {
 
         // Unlike the ExecutionEntityImpl, variables are not stored on the HistoricExecutionEntityImpl.
@@ -778,7 +832,8 @@ public class HistoricProcessInstanceQueryImpl extends AbstractVariableQueryImpl<
                 List<HistoricVariableInstanceEntity> cachedVariableEntities = entityCache.findInCache(HistoricVariableInstanceEntity.class);
                 for (HistoricVariableInstanceEntity cachedVariableEntity : cachedVariableEntities) {
 
-                    if (historicProcessInstance.getId().equals(cachedVariableEntity.getProcessInstanceId())) {
+                    if (historicProcessInstance.getId().equals(cachedVariableEntity.getProcessInstanceId())
+                            && (variableNamesToInclude == null || variableNamesToInclude.contains(cachedVariableEntity.getName()))) {
 
                         // Variables from the cache have precedence
                         ((HistoricProcessInstanceEntity) historicProcessInstance).getQueryVariables().add(cachedVariableEntity);
@@ -800,15 +855,6 @@ public class HistoricProcessInstanceQueryImpl extends AbstractVariableQueryImpl<
         }
     }
 
-    @Override
-    protected void checkQueryOk() {
-        super.checkQueryOk();
-
-        if (includeProcessVariables) {
-            this.orderBy(HistoricProcessInstanceQueryProperty.INCLUDED_VARIABLE_TIME).asc();
-        }
-    }
-
     @Override
     public void delete() {
         if (commandExecutor != null) {
@@ -962,6 +1008,10 @@ public class HistoricProcessInstanceQueryImpl extends AbstractVariableQueryImpl<
         return includeProcessVariables;
     }
 
+    public Collection<String> getVariableNamesToInclude() {
+        return variableNamesToInclude;
+    }
+
     public boolean isWithException() {
         return withJobException;
     }
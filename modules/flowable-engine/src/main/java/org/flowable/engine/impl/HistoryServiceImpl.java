@@ -14,10 +14,13 @@
 
 package org.flowable.engine.impl;
 
+import java.util.Date;
 import java.util.List;
 
 import org.flowable.common.engine.impl.service.CommonEngineServiceImpl;
 import org.flowable.engine.HistoryService;
+import org.flowable.engine.history.ArchivedHistoricProcessInstanceQuery;
+import org.flowable.engine.history.ArchivedHistoricTaskInstanceQuery;
 import org.flowable.engine.history.HistoricActivityInstanceQuery;
 import org.flowable.engine.history.HistoricDetailQuery;
 import org.flowable.engine.history.HistoricProcessInstanceQuery;
@@ -26,6 +29,7 @@ import org.flowable.engine.history.NativeHistoricDetailQuery;
 import org.flowable.engine.history.NativeHistoricProcessInstanceQuery;
 import org.flowable.engine.history.ProcessInstanceHistoryLogQuery;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cmd.ArchiveHistoricProcessInstancesCmd;
 import org.flowable.engine.impl.cmd.DeleteHistoricProcessInstanceCmd;
 import org.flowable.engine.impl.cmd.DeleteHistoricTaskInstanceCmd;
 import org.flowable.engine.impl.cmd.DeleteHistoricTaskLogEntryByLogNumberCmd;
@@ -110,6 +114,21 @@ public class HistoryServiceImpl extends CommonEngineServiceImpl<ProcessEngineCon
         commandExecutor.execute(new DeleteHistoricProcessInstanceCmd(processInstanceId));
     }
 
+    @Override
+    public int archiveHistoricProcessInstances(Date finishedBefore, int maxProcessInstances) {
+        return commandExecutor.execute(new ArchiveHistoricProcessInstancesCmd(finishedBefore, maxProcessInstances));
+    }
+
+    @Override
+    public ArchivedHistoricProcessInstanceQuery createArchivedHistoricProcessInstanceQuery() {
+        return new ArchivedHistoricProcessInstanceQueryImpl(commandExecutor);
+    }
+
+    @Override
+    public ArchivedHistoricTaskInstanceQuery createArchivedHistoricTaskInstanceQuery() {
+        return new ArchivedHistoricTaskInstanceQueryImpl(commandExecutor);
+    }
+
     @Override
     public void deleteTaskAndActivityDataOfRemovedHistoricProcessInstances() {
         commandExecutor.execute(new DeleteTaskAndActivityDataOfRemovedHistoricProcessInstancesCmd());
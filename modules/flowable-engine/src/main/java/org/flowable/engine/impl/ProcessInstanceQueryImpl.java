@@ -15,6 +15,7 @@ package org.flowable.engine.impl;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Set;
@@ -66,6 +67,7 @@ public class ProcessInstanceQueryImpl extends AbstractVariableQueryImpl<ProcessI
     protected Set<String> involvedGroups;
     protected SuspensionState suspensionState;
     protected boolean includeProcessVariables;
+    protected Collection<String> variableNamesToInclude;
     protected Integer processInstanceVariablesLimit;
     protected boolean withJobException;
     protected String name;
@@ -430,6 +432,20 @@ public class ProcessInstanceQueryImpl extends AbstractVariableQueryImpl<ProcessI
     @Override
     public ProcessInstanceQuery includeProcessVariables() {
         this.includeProcessVariables = true;
+        this.variableNamesToInclude = null;
+        return this;
+    }
+
+    @Override
+    public ProcessInstanceQuery includeProcessVariables(Collection<String> variableNames) {
+        if (variableNames == null) {
+            throw new FlowableIllegalArgumentException("Variable names is null");
+        }
+        if (variableNames.isEmpty()) {
+            throw new FlowableIllegalArgumentException("Variable names is empty");
+        }
+        this.includeProcessVariables = true;
+        this.variableNamesToInclude = new ArrayList<>(variableNames);
         return this;
     }
 
@@ -956,6 +972,10 @@ public class ProcessInstanceQueryImpl extends AbstractVariableQueryImpl<ProcessI
         return includeProcessVariables;
     }
 
+    public Collection<String> getVariableNamesToInclude() {
+        return variableNamesToInclude;
+    }
+
     public boolean iswithException() {
         return withJobException;
     }
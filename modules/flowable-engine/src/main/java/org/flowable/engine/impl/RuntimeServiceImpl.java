@@ -16,6 +16,7 @@ package org.flowable.engine.impl;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -34,6 +35,7 @@ import org.flowable.engine.impl.cmd.AddEventConsumerCommand;
 import org.flowable.engine.impl.cmd.AddEventListenerCommand;
 import org.flowable.engine.impl.cmd.AddIdentityLinkForProcessInstanceCmd;
 import org.flowable.engine.impl.cmd.AddMultiInstanceExecutionCmd;
+import org.flowable.engine.impl.cmd.BulkDeleteProcessInstancesCmd;
 import org.flowable.engine.impl.cmd.ChangeActivityStateCmd;
 import org.flowable.engine.impl.cmd.CompleteAdhocSubProcessCmd;
 import org.flowable.engine.impl.cmd.DeleteIdentityLinkForProcessInstanceCmd;
@@ -101,6 +103,14 @@ import org.flowable.variable.api.persistence.entity.VariableInstance;
  */
 public class RuntimeServiceImpl extends CommonEngineServiceImpl<ProcessEngineConfigurationImpl> implements RuntimeService {
 
+    public RuntimeServiceImpl() {
+
+    }
+
+    public RuntimeServiceImpl(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        super(processEngineConfiguration);
+    }
+
     @Override
     public ProcessInstance startProcessInstanceByKey(String processDefinitionKey) {
         return commandExecutor.execute(new StartProcessInstanceCmd<ProcessInstance>(processDefinitionKey, null, null, null));
@@ -181,6 +191,20 @@ public class RuntimeServiceImpl extends CommonEngineServiceImpl<ProcessEngineCon
         commandExecutor.execute(new DeleteProcessInstanceCmd(processInstanceId, deleteReason));
     }
 
+    @Override
+    public void bulkDeleteProcessInstances(Collection<String> processInstanceIds, String deleteReason) {
+        if (processInstanceIds == null) {
+            throw new FlowableIllegalArgumentException("processInstanceIds is null");
+        }
+
+        List<String> ids = new ArrayList<>(new LinkedHashSet<>(processInstanceIds));
+        int chunkSize = Math.max(1, configuration.getProcessInstanceBulkDeleteChunkSize());
+        for (int i = 0; i < ids.size(); i += chunkSize) {
+            List<String> chunk = new ArrayList<>(ids.subList(i, Math.min(i + chunkSize, ids.size())));
+            commandExecutor.execute(new BulkDeleteProcessInstancesCmd(chunk, deleteReason));
+        }
+    }
+
     @Override
     public ExecutionQuery createExecutionQuery() {
         return new ExecutionQueryImpl(commandExecutor);
@@ -12,10 +12,13 @@
  */
 package org.flowable.engine.impl.bpmn.deployer;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.bpmn.constants.BpmnXMLConstants;
@@ -31,6 +34,7 @@ import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
 import org.flowable.common.engine.api.delegate.event.FlowableEventDispatcher;
 import org.flowable.common.engine.api.repository.EngineDeployment;
 import org.flowable.common.engine.api.repository.EngineResource;
+import org.flowable.common.engine.impl.DeploymentTaskExecutor;
 import org.flowable.common.engine.impl.EngineDeployer;
 import org.flowable.common.engine.impl.cfg.IdGenerator;
 import org.flowable.common.engine.impl.context.Context;
@@ -128,16 +132,57 @@ public class BpmnDeployer implements EngineDeployer {
 
         final ResourceEntityManager resourceEntityManager = processEngineConfiguration.getResourceEntityManager();
 
+        List<ProcessDefinitionEntity> processDefinitionsNeedingDiagram = new ArrayList<>();
         for (ProcessDefinitionEntity processDefinition : parsedDeployment.getAllProcessDefinitions()) {
             if (processDefinitionDiagramHelper.shouldCreateDiagram(processDefinition, deploymentEntity)) {
-                ResourceEntity resource = processDefinitionDiagramHelper.createDiagramForProcessDefinition(
-                        processDefinition, parsedDeployment.getBpmnParseForProcessDefinition(processDefinition));
-                if (resource != null) {
-                    resourceEntityManager.insert(resource, false);
-                    deploymentEntity.addResource(resource); // now we'll find it if we look for the diagram name later.
-                }
+                processDefinitionsNeedingDiagram.add(processDefinition);
+            }
+        }
+
+        Map<ProcessDefinitionEntity, byte[]> diagrams = generateDiagrams(parsedDeployment, processDefinitionsNeedingDiagram, processEngineConfiguration);
+        for (ProcessDefinitionEntity processDefinition : processDefinitionsNeedingDiagram) {
+            byte[] diagramBytes = diagrams.get(processDefinition);
+            if (diagramBytes != null) {
+                ResourceEntity resource = processDefinitionDiagramHelper.createDiagramResource(processDefinition, diagramBytes);
+                resourceEntityManager.insert(resource, false);
+                deploymentEntity.addResource(resource); // now we'll find it if we look for the diagram name later.
+            }
+        }
+    }
+
+    /**
+     * Renders the diagrams of the given process definitions, in parallel when a {@link DeploymentTaskExecutor} is configured.
+     * Process definitions of the same resource share their model, which is changed while rendering, so their diagrams are rendered one after the other.
+     */
+    protected Map<ProcessDefinitionEntity, byte[]> generateDiagrams(ParsedDeployment parsedDeployment, List<ProcessDefinitionEntity> processDefinitions,
+            ProcessEngineConfigurationImpl processEngineConfiguration) {
+
+        Map<BpmnModel, List<ProcessDefinitionEntity>> processDefinitionsByModel = new LinkedHashMap<>();
+        for (ProcessDefinitionEntity processDefinition : processDefinitions) {
+            processDefinitionsByModel.computeIfAbsent(parsedDeployment.getBpmnModelForProcessDefinition(processDefinition), key -> new ArrayList<>())
+                    .add(processDefinition);
+        }
+
+        Function<Map.Entry<BpmnModel, List<ProcessDefinitionEntity>>, Map<ProcessDefinitionEntity, byte[]>> renderTask = entry -> {
+            Map<ProcessDefinitionEntity, byte[]> modelDiagrams = new HashMap<>();
+            for (ProcessDefinitionEntity processDefinition : entry.getValue()) {
+                modelDiagrams.put(processDefinition, processDefinitionDiagramHelper.generateDiagram(processDefinition, entry.getKey(), processEngineConfiguration));
+            }
+            return modelDiagrams;
+        };
+
+        Map<ProcessDefinitionEntity, byte[]> diagrams = new HashMap<>();
+        DeploymentTaskExecutor deploymentTaskExecutor = processEngineConfiguration.getDeploymentTaskExecutor();
+        if (deploymentTaskExecutor != null) {
+            for (Map<ProcessDefinitionEntity, byte[]> modelDiagrams : deploymentTaskExecutor.executeAll(processDefinitionsByModel.entrySet(), renderTask)) {
+                diagrams.putAll(modelDiagrams);
+            }
+        } else {
+            for (Map.Entry<BpmnModel, List<ProcessDefinitionEntity>> entry : processDefinitionsByModel.entrySet()) {
+                diagrams.putAll(renderTask.apply(entry));
             }
         }
+        return diagrams;
     }
 
     /**
@@ -14,17 +14,23 @@ package org.flowable.engine.impl.bpmn.deployer;
 
 import java.io.ByteArrayInputStream;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.flowable.bpmn.exceptions.XMLException;
+import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.repository.EngineDeployment;
 import org.flowable.common.engine.api.repository.EngineResource;
+import org.flowable.common.engine.impl.DeploymentTaskExecutor;
 import org.flowable.engine.impl.bpmn.parser.BpmnParse;
 import org.flowable.engine.impl.bpmn.parser.BpmnParser;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.cmd.DeploymentSettings;
 import org.flowable.engine.impl.persistence.entity.DeploymentEntity;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntity;
+import org.flowable.engine.impl.util.CommandContextUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -49,15 +55,26 @@ public class ParsedDeploymentBuilder {
         Map<ProcessDefinitionEntity, EngineResource> processDefinitionsToResourceMap = new LinkedHashMap<>();
 
         DeploymentEntity deploymentEntity = (DeploymentEntity) deployment;
+        List<EngineResource> bpmnResources = new ArrayList<>();
         for (EngineResource resource : deploymentEntity.getResources().values()) {
             if (isBpmnResource(resource.getName())) {
-                LOGGER.debug("Processing BPMN resource {}", resource.getName());
-                BpmnParse parse = createBpmnParseFromResource(resource);
-                for (ProcessDefinitionEntity processDefinition : parse.getProcessDefinitions()) {
-                    processDefinitions.add(processDefinition);
-                    processDefinitionsToBpmnParseMap.put(processDefinition, parse);
-                    processDefinitionsToResourceMap.put(processDefinition, resource);
-                }
+                bpmnResources.add(resource);
+            }
+        }
+
+        Map<EngineResource, BpmnParse> parsedModels = parseModelsInParallel(bpmnResources);
+
+        for (EngineResource resource : bpmnResources) {
+            LOGGER.debug("Processing BPMN resource {}", resource.getName());
+            BpmnParse parse = parsedModels.get(resource);
+            if (parse == null) {
+                parse = createBpmnParseFromResource(resource);
+            }
+            executeBpmnParse(parse, resource);
+            for (ProcessDefinitionEntity processDefinition : parse.getProcessDefinitions()) {
+                processDefinitions.add(processDefinition);
+                processDefinitionsToBpmnParseMap.put(processDefinition, parse);
+                processDefinitionsToResourceMap.put(processDefinition, resource);
             }
         }
 
@@ -65,6 +82,49 @@ public class ParsedDeploymentBuilder {
                 processDefinitionsToBpmnParseMap, processDefinitionsToResourceMap);
     }
 
+    /**
+     * Parses and validates the models of the given resources in parallel when a {@link DeploymentTaskExecutor} is configured.
+     * The parse handlers, which need the command context, are applied afterwards on the deploying thread.
+     * Returns an empty map when the models aren't parsed upfront.
+     */
+    protected Map<EngineResource, BpmnParse> parseModelsInParallel(List<EngineResource> bpmnResources) {
+        Map<EngineResource, BpmnParse> parsedModels = new HashMap<>();
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration();
+        DeploymentTaskExecutor deploymentTaskExecutor = processEngineConfiguration != null ? processEngineConfiguration.getDeploymentTaskExecutor() : null;
+        if (deploymentTaskExecutor == null || bpmnResources.size() < 2) {
+            return parsedModels;
+        }
+
+        for (EngineResource resource : bpmnResources) {
+            parsedModels.put(resource, createBpmnParseFromResource(resource));
+        }
+
+        deploymentTaskExecutor.executeAll(bpmnResources, resource -> {
+            try {
+                return parsedModels.get(resource).parseModel(processEngineConfiguration);
+            } catch (RuntimeException e) {
+                // Only the failure of the first failed resource is rethrown, so it needs to name the resource
+                throw addResourceName(e, resource.getName());
+            }
+        });
+
+        return parsedModels;
+    }
+
+    /**
+     * Adds the name of the resource to the message of a parse failure, keeping the type of the exception
+     * so that callers see the same exception as when the resources are parsed sequentially.
+     */
+    protected RuntimeException addResourceName(RuntimeException e, String resourceName) {
+        String message = "Could not parse resource " + resourceName + ": " + e.getMessage();
+        if (e.getClass() == XMLException.class) {
+            return new XMLException(message, e);
+        } else if (e.getClass() == FlowableException.class) {
+            return new FlowableException(message, e);
+        }
+        return e;
+    }
+
     protected BpmnParse createBpmnParseFromResource(EngineResource resource) {
         String resourceName = resource.getName();
         ByteArrayInputStream inputStream = new ByteArrayInputStream(resource.getBytes());
@@ -93,6 +153,10 @@ public class ParsedDeploymentBuilder {
             bpmnParse.setValidateProcess(false);
         }
 
+        return bpmnParse;
+    }
+
+    protected BpmnParse executeBpmnParse(BpmnParse bpmnParse, EngineResource resource) {
         try {
             bpmnParse.execute();
         } catch (Exception e) {
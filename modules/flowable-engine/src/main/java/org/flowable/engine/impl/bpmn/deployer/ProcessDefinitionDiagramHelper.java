@@ -13,6 +13,7 @@
 package org.flowable.engine.impl.bpmn.deployer;
 
 import org.apache.commons.lang3.StringUtils;
+import org.flowable.bpmn.model.BpmnModel;
 import org.flowable.common.engine.impl.util.IoUtil;
 import org.flowable.engine.ProcessEngineConfiguration;
 import org.flowable.engine.impl.bpmn.parser.BpmnParse;
@@ -37,35 +38,55 @@ public class ProcessDefinitionDiagramHelper {
      * The caller must determine whether creating a diagram for this process definition is appropriate or not, for example see {@link #shouldCreateDiagram(ProcessDefinitionEntity, DeploymentEntity)}.
      */
     public ResourceEntity createDiagramForProcessDefinition(ProcessDefinitionEntity processDefinition, BpmnParse bpmnParse) {
+        byte[] diagramBytes = generateDiagram(processDefinition, bpmnParse.getBpmnModel(), CommandContextUtil.getProcessEngineConfiguration());
+        if (diagramBytes == null) {
+            return null;
+        }
+        return createDiagramResource(processDefinition, diagramBytes);
+    }
+
+    /**
+     * Renders the diagram of a process definition as a PNG image. Returns null when the diagram could not be rendered (the process will still be executable).
+     * 
+     * This doesn't use the command context, so the diagrams of a deployment can be rendered in parallel. The model is changed while rendering,
+     * so it must not be rendered by more than one thread at the same time.
+     */
+    public byte[] generateDiagram(ProcessDefinitionEntity processDefinition, BpmnModel bpmnModel, ProcessEngineConfiguration processEngineConfiguration) {
 
         if (StringUtils.isEmpty(processDefinition.getKey()) || StringUtils.isEmpty(processDefinition.getResourceName())) {
             throw new IllegalStateException("Provided process definition must have both key and resource name set.");
         }
 
-        ResourceEntity resource = createResourceEntity();
-        ProcessEngineConfiguration processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration();
         try {
-            byte[] diagramBytes = IoUtil.readInputStream(
-                    processEngineConfiguration.getProcessDiagramGenerator().generateDiagram(bpmnParse.getBpmnModel(), "png",
+            return IoUtil.readInputStream(
+                    processEngineConfiguration.getProcessDiagramGenerator().generateDiagram(bpmnModel, "png",
                             processEngineConfiguration.getActivityFontName(),
                             processEngineConfiguration.getLabelFontName(),
                             processEngineConfiguration.getAnnotationFontName(),
                             processEngineConfiguration.getClassLoader(),processEngineConfiguration.isDrawSequenceFlowNameWithNoLabelDI()),
                     null);
-            String diagramResourceName = ResourceNameUtil.getProcessDiagramResourceName(
-                    processDefinition.getResourceName(), processDefinition.getKey(), "png");
-
-            resource.setName(diagramResourceName);
-            resource.setBytes(diagramBytes);
-            resource.setDeploymentId(processDefinition.getDeploymentId());
-
-            // Mark the resource as 'generated'
-            resource.setGenerated(true);
 
         } catch (Throwable t) { // if anything goes wrong, we don't store the image (the process will still be executable).
             LOGGER.warn("Error while generating process diagram, image will not be stored in repository", t);
-            resource = null;
+            return null;
         }
+    }
+
+    /**
+     * Creates the resource for a diagram rendered with {@link #generateDiagram(ProcessDefinitionEntity, BpmnModel, ProcessEngineConfiguration)}.
+     * The returned resource has not yet been persisted, nor attached to the ProcessDefinitionEntity.
+     */
+    public ResourceEntity createDiagramResource(ProcessDefinitionEntity processDefinition, byte[] diagramBytes) {
+        ResourceEntity resource = createResourceEntity();
+        String diagramResourceName = ResourceNameUtil.getProcessDiagramResourceName(
+                processDefinition.getResourceName(), processDefinition.getKey(), "png");
+
+        resource.setName(diagramResourceName);
+        resource.setBytes(diagramBytes);
+        resource.setDeploymentId(processDefinition.getDeploymentId());
+
+        // Mark the resource as 'generated'
+        resource.setGenerated(true);
 
         return resource;
     }
@@ -134,56 +134,9 @@ public class BpmnParse implements BpmnXMLConstants {
     public BpmnParse execute() {
         try {
 
-            ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration();
-            BpmnXMLConverter converter = new BpmnXMLConverter();
-
-            boolean enableSafeBpmnXml = false;
-            String encoding = null;
-            if (processEngineConfiguration != null) {
-                enableSafeBpmnXml = processEngineConfiguration.isEnableSafeBpmnXml();
-                encoding = processEngineConfiguration.getXmlEncoding();
-            }
-
-            if (encoding != null) {
-                bpmnModel = converter.convertToBpmnModel(streamSource, validateSchema, enableSafeBpmnXml, encoding);
-            } else {
-                bpmnModel = converter.convertToBpmnModel(streamSource, validateSchema, enableSafeBpmnXml);
-            }
-
-            // XSD validation goes first, then process/semantic validation
-            if (validateProcess) {
-                ProcessValidator processValidator = processEngineConfiguration.getProcessValidator();
-                if (processValidator == null) {
-                    LOGGER.warn("Process should be validated, but no process validator is configured on the process engine configuration!");
-                } else {
-                    List<ValidationError> validationErrors = processValidator.validate(bpmnModel);
-                    if (validationErrors != null && !validationErrors.isEmpty()) {
-
-                        StringBuilder warningBuilder = new StringBuilder();
-                        StringBuilder errorBuilder = new StringBuilder();
-
-                        for (ValidationError error : validationErrors) {
-                            if (error.isWarning()) {
-                                warningBuilder.append(error);
-                                warningBuilder.append("\n");
-                            } else {
-                                errorBuilder.append(error);
-                                errorBuilder.append("\n");
-                            }
-                        }
-
-                        // Throw exception if there is any error
-                        if (errorBuilder.length() > 0) {
-                            throw new FlowableException("Errors while parsing:\n" + errorBuilder);
-                        }
-
-                        // Write out warnings (if any)
-                        if (warningBuilder.length() > 0) {
-                            LOGGER.warn("Following warnings encountered during process validation: {}", warningBuilder);
-                        }
-
-                    }
-                }
+            // The model can already have been parsed and validated, e.g. in parallel with the other resources of a deployment
+            if (bpmnModel == null) {
+                convertAndValidateModel(CommandContextUtil.getProcessEngineConfiguration());
             }
 
             bpmnModel.setSourceSystemId(sourceSystemId);
@@ -210,6 +163,80 @@ public class BpmnParse implements BpmnXMLConstants {
         return this;
     }
 
+    /**
+     * Converts the source to a {@link BpmnModel} and validates it, without applying the parse handlers.
+     * This doesn't use the command context, so the resources of a deployment can be parsed and validated in parallel
+     * before {@link #execute()} is called for each of them on the deploying thread.
+     */
+    public BpmnParse parseModel(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        try {
+            convertAndValidateModel(processEngineConfiguration);
+
+        } catch (Exception e) {
+            if (e instanceof FlowableException) {
+                throw (FlowableException) e;
+            } else if (e instanceof XMLException) {
+                throw (XMLException) e;
+            } else {
+                throw new FlowableException("Error parsing XML", e);
+            }
+        }
+        return this;
+    }
+
+    protected void convertAndValidateModel(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        BpmnXMLConverter converter = new BpmnXMLConverter();
+
+        boolean enableSafeBpmnXml = false;
+        String encoding = null;
+        if (processEngineConfiguration != null) {
+            enableSafeBpmnXml = processEngineConfiguration.isEnableSafeBpmnXml();
+            encoding = processEngineConfiguration.getXmlEncoding();
+        }
+
+        if (encoding != null) {
+            bpmnModel = converter.convertToBpmnModel(streamSource, validateSchema, enableSafeBpmnXml, encoding);
+        } else {
+            bpmnModel = converter.convertToBpmnModel(streamSource, validateSchema, enableSafeBpmnXml);
+        }
+
+        // XSD validation goes first, then process/semantic validation
+        if (validateProcess) {
+            ProcessValidator processValidator = processEngineConfiguration.getProcessValidator();
+            if (processValidator == null) {
+                LOGGER.warn("Process should be validated, but no process validator is configured on the process engine configuration!");
+            } else {
+                List<ValidationError> validationErrors = processValidator.validate(bpmnModel);
+                if (validationErrors != null && !validationErrors.isEmpty()) {
+
+                    StringBuilder warningBuilder = new StringBuilder();
+                    StringBuilder errorBuilder = new StringBuilder();
+
+                    for (ValidationError error : validationErrors) {
+                        if (error.isWarning()) {
+                            warningBuilder.append(error);
+                            warningBuilder.append("\n");
+                        } else {
+                            errorBuilder.append(error);
+                            errorBuilder.append("\n");
+                        }
+                    }
+
+                    // Throw exception if there is any error
+                    if (errorBuilder.length() > 0) {
+                        throw new FlowableException("Errors while parsing:\n" + errorBuilder);
+                    }
+
+                    // Write out warnings (if any)
+                    if (warningBuilder.length() > 0) {
+                        LOGGER.warn("Following warnings encountered during process validation: {}", warningBuilder);
+                    }
+
+                }
+            }
+        }
+    }
+
     public BpmnParse name(String name) {
         this.name = name;
         return this;
@@ -0,0 +1,143 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.cache;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.engine.impl.cmd.GetProcessInstanceExecutionRevisionsCmd;
+
+/**
+ * Opt-in read-through cache for read-only views of one process instance (e.g. the active activity ids used to highlight a diagram),
+ * meant for the REST and UI read paths that poll the same process instance over and over.
+ *
+ * The cached views of a process instance are invalidated when the engine dispatches an event for it (see {@link ProcessInstanceReadCacheEventListener}).
+ * Changes made by other engines sharing the same database are detected through the revisions of the executions of the process instance:
+ * every lookup fetches the ids and revisions of those executions, and drops the cached views when these differ from the ones the views were loaded with.
+ * Changes made by other engines that do not touch any execution (e.g. changing the assignee of a task) are only detected when the executions change.
+ * For the same reason, views read from the history tables should not be cached when async history is enabled, as the history jobs write them
+ * after the executions changed.
+ *
+ * The cache holds the views of at most a given number of process instances, evicting the least recently used ones.
+ */
+public class ProcessInstanceReadCache {
+
+    protected CommandExecutor commandExecutor;
+    protected Map<String, CachedProcessInstance> cachedProcessInstances;
+
+    protected AtomicLong hitCount = new AtomicLong();
+    protected AtomicLong missCount = new AtomicLong();
+    protected AtomicLong invalidationCount = new AtomicLong();
+
+    public ProcessInstanceReadCache(CommandExecutor commandExecutor, final int limit) {
+        this.commandExecutor = commandExecutor;
+        this.cachedProcessInstances = Collections.synchronizedMap(new LinkedHashMap<String, CachedProcessInstance>(limit + 1, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedProcessInstance> eldest) {
+                return size() > limit;
+            }
+
+        });
+    }
+
+    /**
+     * Returns the view with the given name of the given process instance, loading it with the given loader when it is not cached
+     * or when the executions of the process instance changed since it was loaded. The loader is called outside of any engine command.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String processInstanceId, String viewName, Supplier<T> loader) {
+        Map<String, Integer> executionRevisions = commandExecutor.execute(new GetProcessInstanceExecutionRevisionsCmd(processInstanceId));
+
+        CachedProcessInstance cachedProcessInstance = cachedProcessInstances.get(processInstanceId);
+        if (cachedProcessInstance != null && !cachedProcessInstance.executionRevisions.equals(executionRevisions)) {
+            // Changed by another engine, or by this engine before the event invalidating the views was dispatched
+            cachedProcessInstances.remove(processInstanceId, cachedProcessInstance);
+            invalidationCount.incrementAndGet();
+            cachedProcessInstance = null;
+        }
+
+        if (cachedProcessInstance != null) {
+            Object view = cachedProcessInstance.views.get(viewName);
+            if (view != null) {
+                hitCount.incrementAndGet();
+                return (T) view;
+            }
+        }
+
+        missCount.incrementAndGet();
+        T view = loader.get();
+        if (view != null) {
+            if (cachedProcessInstance == null) {
+                cachedProcessInstance = new CachedProcessInstance(executionRevisions);
+                CachedProcessInstance existingCachedProcessInstance = cachedProcessInstances.putIfAbsent(processInstanceId, cachedProcessInstance);
+                if (existingCachedProcessInstance != null) {
+                    if (!existingCachedProcessInstance.executionRevisions.equals(executionRevisions)) {
+                        return view;
+                    }
+                    cachedProcessInstance = existingCachedProcessInstance;
+                }
+            }
+            cachedProcessInstance.views.put(viewName, view);
+        }
+        return view;
+    }
+
+    /**
+     * Removes all cached views of the given process instance.
+     */
+    public void invalidate(String processInstanceId) {
+        if (cachedProcessInstances.remove(processInstanceId) != null) {
+            invalidationCount.incrementAndGet();
+        }
+    }
+
+    public void clear() {
+        cachedProcessInstances.clear();
+    }
+
+    public int size() {
+        return cachedProcessInstances.size();
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public long getInvalidationCount() {
+        return invalidationCount.get();
+    }
+
+    protected static class CachedProcessInstance {
+
+        protected Map<String, Integer> executionRevisions;
+        protected Map<String, Object> views = new ConcurrentHashMap<>();
+
+        public CachedProcessInstance(Map<String, Integer> executionRevisions) {
+            this.executionRevisions = executionRevisions;
+        }
+
+    }
+
+}
@@ -0,0 +1,79 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.cache;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.flowable.common.engine.api.delegate.event.AbstractFlowableEventListener;
+import org.flowable.common.engine.api.delegate.event.FlowableEngineEvent;
+import org.flowable.common.engine.api.delegate.event.FlowableEvent;
+import org.flowable.common.engine.impl.cfg.TransactionContext;
+import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+
+/**
+ * Invalidates the views of the {@link ProcessInstanceReadCache} of every process instance for which an event is dispatched,
+ * once the transaction dispatching the event is committed.
+ */
+public class ProcessInstanceReadCacheEventListener extends AbstractFlowableEventListener {
+
+    protected static final String INVALIDATED_PROCESS_INSTANCE_IDS = "processInstanceReadCacheInvalidatedProcessInstanceIds";
+
+    protected ProcessInstanceReadCache processInstanceReadCache;
+
+    public ProcessInstanceReadCacheEventListener(ProcessInstanceReadCache processInstanceReadCache) {
+        this.processInstanceReadCache = processInstanceReadCache;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void onEvent(FlowableEvent event) {
+        if (!(event instanceof FlowableEngineEvent)) {
+            return;
+        }
+
+        String processInstanceId = ((FlowableEngineEvent) event).getProcessInstanceId();
+        if (processInstanceId == null) {
+            return;
+        }
+
+        CommandContext commandContext = Context.getCommandContext();
+        TransactionContext transactionContext = Context.getTransactionContext();
+        if (commandContext == null || transactionContext == null) {
+            processInstanceReadCache.invalidate(processInstanceId);
+            return;
+        }
+
+        // One transaction listener per command, invalidating all process instances of the command at once
+        Set<String> processInstanceIds = (Set<String>) commandContext.getAttribute(INVALIDATED_PROCESS_INSTANCE_IDS);
+        if (processInstanceIds == null) {
+            Set<String> invalidatedProcessInstanceIds = new HashSet<>();
+            commandContext.addAttribute(INVALIDATED_PROCESS_INSTANCE_IDS, invalidatedProcessInstanceIds);
+            transactionContext.addTransactionListener(TransactionState.COMMITTED, transactionCommandContext -> {
+                for (String invalidatedProcessInstanceId : invalidatedProcessInstanceIds) {
+                    processInstanceReadCache.invalidate(invalidatedProcessInstanceId);
+                }
+            });
+            processInstanceIds = invalidatedProcessInstanceIds;
+        }
+        processInstanceIds.add(processInstanceId);
+    }
+
+    @Override
+    public boolean isFailOnException() {
+        return false;
+    }
+
+}
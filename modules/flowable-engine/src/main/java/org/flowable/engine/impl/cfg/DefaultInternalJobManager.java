@@ -223,6 +223,12 @@ public class DefaultInternalJobManager implements InternalJobManager {
         // Nothing to do
     }
 
+    @Override
+    public boolean canMoveTimerJobsInBulk() {
+        // The job counts of the executions need to be updated for every moved job when execution related entity counting is enabled
+        return !processEngineConfiguration.getPerformanceSettings().isEnableExecutionRelationshipCounts();
+    }
+
     protected int getMaxIterations(org.flowable.bpmn.model.Process process, String activityId) {
         FlowElement flowElement = process.getFlowElement(activityId, true);
         if (flowElement != null) {
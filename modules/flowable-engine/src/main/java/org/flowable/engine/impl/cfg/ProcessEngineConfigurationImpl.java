@@ -75,6 +75,7 @@ import org.flowable.common.engine.impl.el.function.VariableLowerThanExpressionFu
 import org.flowable.common.engine.impl.el.function.VariableLowerThanOrEqualsExpressionFunction;
 import org.flowable.common.engine.impl.el.function.VariableNotEqualsExpressionFunction;
 import org.flowable.common.engine.impl.history.HistoryLevel;
+import org.flowable.common.engine.impl.history.archive.HistoryArchiveStore;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandConfig;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
@@ -190,6 +191,8 @@ import org.flowable.engine.impl.bpmn.parser.handler.TaskParseHandler;
 import org.flowable.engine.impl.bpmn.parser.handler.TimerEventDefinitionParseHandler;
 import org.flowable.engine.impl.bpmn.parser.handler.TransactionParseHandler;
 import org.flowable.engine.impl.bpmn.parser.handler.UserTaskParseHandler;
+import org.flowable.engine.impl.cache.ProcessInstanceReadCache;
+import org.flowable.engine.impl.cache.ProcessInstanceReadCacheEventListener;
 import org.flowable.engine.impl.cmd.RedeployV5ProcessDefinitionsCmd;
 import org.flowable.engine.impl.cmd.ValidateExecutionRelatedEntityCountCfgCmd;
 import org.flowable.engine.impl.cmd.ValidateTaskRelatedEntityCountCfgCmd;
@@ -222,6 +225,8 @@ import org.flowable.engine.impl.history.DefaultHistoryManager;
 import org.flowable.engine.impl.history.DefaultHistoryTaskManager;
 import org.flowable.engine.impl.history.DefaultHistoryVariableManager;
 import org.flowable.engine.impl.history.HistoryManager;
+import org.flowable.engine.impl.history.archive.DefaultHistoryArchiveManager;
+import org.flowable.engine.impl.history.archive.HistoryArchiveManager;
 import org.flowable.engine.impl.history.async.AsyncHistoryManager;
 import org.flowable.engine.impl.history.async.HistoryJsonConstants;
 import org.flowable.engine.impl.history.async.json.transformer.ActivityEndHistoryJsonTransformer;
@@ -264,6 +269,7 @@ import org.flowable.engine.impl.jobexecutor.AsyncTriggerJobHandler;
 import org.flowable.engine.impl.jobexecutor.BpmnHistoryCleanupJobHandler;
 import org.flowable.engine.impl.jobexecutor.DefaultFailedJobCommandFactory;
 import org.flowable.engine.impl.jobexecutor.ProcessEventJobHandler;
+import org.flowable.engine.impl.jobexecutor.ProcessInstanceMigrationBatchPartsCreationJobHandler;
 import org.flowable.engine.impl.jobexecutor.ProcessInstanceMigrationJobHandler;
 import org.flowable.engine.impl.jobexecutor.ProcessInstanceMigrationStatusJobHandler;
 import org.flowable.engine.impl.jobexecutor.TimerActivateProcessDefinitionHandler;
@@ -439,7 +445,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     // SERVICES /////////////////////////////////////////////////////////////////
 
     protected RepositoryService repositoryService = new RepositoryServiceImpl();
-    protected RuntimeService runtimeService = new RuntimeServiceImpl();
+    protected RuntimeService runtimeService = new RuntimeServiceImpl(this);
     protected HistoryService historyService = new HistoryServiceImpl(this);
     protected IdentityService identityService = new IdentityServiceImpl(this);
     protected TaskService taskService = new TaskServiceImpl(this);
@@ -527,6 +533,27 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     protected boolean enableEntityLinks;
 
+    /**
+     * When enabled, runtime activity instances that are started and ended within the same command are never written to the database.
+     * Their history is still written, as one already ended historic activity instance. Note that the runtime activity instance query
+     * then only returns the activities that are still active or that ended in another transaction than the one they were started in.
+     */
+    protected boolean enableActivityInstanceCoalescing;
+
+    /**
+     * When enabled, the read-only views of process instances used by the REST and UI read paths (e.g. the active activity ids of a diagram)
+     * are cached in the {@link ProcessInstanceReadCache}, for at most processInstanceReadCacheLimit process instances.
+     */
+    protected boolean enableProcessInstanceReadCache;
+    protected int processInstanceReadCacheLimit = 1000;
+    protected ProcessInstanceReadCache processInstanceReadCache;
+
+    /**
+     * The maximum number of process instances deleted in one transaction by {@link RuntimeService#bulkDeleteProcessInstances(Collection, String)}.
+     * Should not exceed 1000, as the ids are passed in one 'in' clause and some databases (e.g. Oracle) limit this to 1000.
+     */
+    protected int processInstanceBulkDeleteChunkSize = 500;
+
     // DEPLOYERS //////////////////////////////////////////////////////////////////
 
     protected BpmnDeployer bpmnDeployer;
@@ -766,6 +793,17 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     
     protected String batchStatusTimeCycleConfig = "30 * * * * ?";
 
+    /**
+     * The maximum number of batch parts that are created in one transaction when batch migrating the process instances of a process definition.
+     * When more process instances exist, the remaining batch parts are created by async jobs, each creating the next chunk.
+     */
+    protected int batchMigrationPartsChunkSize = 1000;
+
+    /**
+     * The number of batch parts (and thus process instances) that are migrated by one async migration job.
+     */
+    protected int batchMigrationPartsPerJob = 1;
+
     /**
      * Allows to define a custom factory for creating the {@link Runnable} that is executed by the async executor.
      * <p>
@@ -854,6 +892,13 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected int historicTaskQueryLimit = 20000;
     protected int historicProcessInstancesQueryLimit = 20000;
 
+    /**
+     * The store to which the history of finished process instances is archived by {@link HistoryService#archiveHistoricProcessInstances(java.util.Date, int)}.
+     * The archived instances are looked up with {@link HistoryService#createArchivedHistoricProcessInstanceQuery()} and {@link HistoryService#createArchivedHistoricTaskInstanceQuery()}.
+     */
+    protected HistoryArchiveStore historyArchiveStore;
+    protected HistoryArchiveManager historyArchiveManager;
+
     protected String wsSyncFactoryClassName = DEFAULT_WS_SYNC_FACTORY;
     protected XMLImporterFactory wsWsdlImporterFactory;
     protected ConcurrentMap<QName, URL> wsOverridenEndpointAddresses = new ConcurrentHashMap<>();
@@ -1043,17 +1088,20 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         initIdentityLinkInterceptor();
         initJpa();
         initDeployers();
+        initDeploymentTaskExecutor();
         initEventHandlers();
         initFailedJobCommandFactory();
         initEventDispatcher();
         initProcessValidator();
         initFormFieldHandler();
         initDatabaseEventLogging();
+        initProcessInstanceReadCache();
         initFlowable5CompatibilityHandler();
         initVariableServiceConfiguration();
         initIdentityLinkServiceConfiguration();
         initEntityLinkServiceConfiguration();
         initEventSubscriptionServiceConfiguration();
+        initHistoryArchiveManager();
         initTaskServiceConfiguration();
         initJobServiceConfiguration();
         initBatchServiceConfiguration();
@@ -1729,6 +1777,12 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         }
     }
 
+    public void initHistoryArchiveManager() {
+        if (historyArchiveManager == null && historyArchiveStore != null) {
+            historyArchiveManager = new DefaultHistoryArchiveManager(this, historyArchiveStore);
+        }
+    }
+
     public void removeHistoryJobHandler(String historyJobHandlerType) {
         this.historyJobHandlers.remove(historyJobHandlerType);
         if (this.jobServiceConfiguration != null) {
@@ -2045,6 +2099,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         ProcessInstanceMigrationStatusJobHandler processInstanceMigrationStatusJobHandler = new ProcessInstanceMigrationStatusJobHandler();
         jobHandlers.put(processInstanceMigrationStatusJobHandler.getType(), processInstanceMigrationStatusJobHandler);
 
+        ProcessInstanceMigrationBatchPartsCreationJobHandler processInstanceMigrationBatchPartsCreationJobHandler = new ProcessInstanceMigrationBatchPartsCreationJobHandler();
+        jobHandlers.put(processInstanceMigrationBatchPartsCreationJobHandler.getType(), processInstanceMigrationBatchPartsCreationJobHandler);
+
         // if we have custom job handlers, register them
         if (getCustomJobHandlers() != null) {
             for (JobHandler customJobHandler : getCustomJobHandlers()) {
@@ -2558,6 +2615,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         }
     }
 
+    public void initProcessInstanceReadCache() {
+        if (enableProcessInstanceReadCache) {
+            if (processInstanceReadCache == null) {
+                processInstanceReadCache = new ProcessInstanceReadCache(commandExecutor, processInstanceReadCacheLimit);
+            }
+            getEventDispatcher().addEventListener(new ProcessInstanceReadCacheEventListener(processInstanceReadCache));
+        }
+    }
+
     public void initFlowable5CompatibilityHandler() {
 
         // If Flowable 5 compatibility is disabled, no need to do anything
@@ -3215,19 +3281,47 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public HistoryArchiveStore getHistoryArchiveStore() {
+        return historyArchiveStore;
+    }
+
+    public ProcessEngineConfigurationImpl setHistoryArchiveStore(HistoryArchiveStore historyArchiveStore) {
+        this.historyArchiveStore = historyArchiveStore;
+        return this;
+    }
+
+    public HistoryArchiveManager getHistoryArchiveManager() {
+        return historyArchiveManager;
+    }
+
+    public ProcessEngineConfigurationImpl setHistoryArchiveManager(HistoryArchiveManager historyArchiveManager) {
+        this.historyArchiveManager = historyArchiveManager;
+        return this;
+    }
+
+    @Deprecated
     public int getExecutionQueryLimit() {
         return executionQueryLimit;
     }
 
+    /**
+     * @deprecated This limit is ignored. The process instance query with variables is paged by the database and the variables of the page are fetched separately.
+     */
+    @Deprecated
     public ProcessEngineConfigurationImpl setExecutionQueryLimit(int executionQueryLimit) {
         this.executionQueryLimit = executionQueryLimit;
         return this;
     }
 
+    @Deprecated
     public int getTaskQueryLimit() {
         return taskQueryLimit;
     }
 
+    /**
+     * @deprecated This limit is ignored. The task query with variables is paged by the database and the variables of the page are fetched separately.
+     */
+    @Deprecated
     public ProcessEngineConfigurationImpl setTaskQueryLimit(int taskQueryLimit) {
         this.taskQueryLimit = taskQueryLimit;
         return this;
@@ -3242,10 +3336,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    @Deprecated
     public int getHistoricProcessInstancesQueryLimit() {
         return historicProcessInstancesQueryLimit;
     }
 
+    /**
+     * @deprecated This limit is ignored. The historic process instance query with variables is paged by the database and the variables of the page are fetched separately.
+     */
+    @Deprecated
     public ProcessEngineConfigurationImpl setHistoricProcessInstancesQueryLimit(int historicProcessInstancesQueryLimit) {
         this.historicProcessInstancesQueryLimit = historicProcessInstancesQueryLimit;
         return this;
@@ -4334,6 +4433,51 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isEnableActivityInstanceCoalescing() {
+        return enableActivityInstanceCoalescing;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableActivityInstanceCoalescing(boolean enableActivityInstanceCoalescing) {
+        this.enableActivityInstanceCoalescing = enableActivityInstanceCoalescing;
+        return this;
+    }
+
+    public boolean isEnableProcessInstanceReadCache() {
+        return enableProcessInstanceReadCache;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableProcessInstanceReadCache(boolean enableProcessInstanceReadCache) {
+        this.enableProcessInstanceReadCache = enableProcessInstanceReadCache;
+        return this;
+    }
+
+    public int getProcessInstanceReadCacheLimit() {
+        return processInstanceReadCacheLimit;
+    }
+
+    public ProcessEngineConfigurationImpl setProcessInstanceReadCacheLimit(int processInstanceReadCacheLimit) {
+        this.processInstanceReadCacheLimit = processInstanceReadCacheLimit;
+        return this;
+    }
+
+    public ProcessInstanceReadCache getProcessInstanceReadCache() {
+        return processInstanceReadCache;
+    }
+
+    public int getProcessInstanceBulkDeleteChunkSize() {
+        return processInstanceBulkDeleteChunkSize;
+    }
+
+    public ProcessEngineConfigurationImpl setProcessInstanceBulkDeleteChunkSize(int processInstanceBulkDeleteChunkSize) {
+        this.processInstanceBulkDeleteChunkSize = processInstanceBulkDeleteChunkSize;
+        return this;
+    }
+
+    public ProcessEngineConfigurationImpl setProcessInstanceReadCache(ProcessInstanceReadCache processInstanceReadCache) {
+        this.processInstanceReadCache = processInstanceReadCache;
+        return this;
+    }
+
     public boolean isHandleProcessEngineExecutorsAfterEngineCreate() {
         return handleProcessEngineExecutorsAfterEngineCreate;
     }
@@ -4887,4 +5031,22 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         this.batchStatusTimeCycleConfig = batchStatusTimeCycleConfig;
     }
 
+    public int getBatchMigrationPartsChunkSize() {
+        return batchMigrationPartsChunkSize;
+    }
+
+    public ProcessEngineConfigurationImpl setBatchMigrationPartsChunkSize(int batchMigrationPartsChunkSize) {
+        this.batchMigrationPartsChunkSize = batchMigrationPartsChunkSize;
+        return this;
+    }
+
+    public int getBatchMigrationPartsPerJob() {
+        return batchMigrationPartsPerJob;
+    }
+
+    public ProcessEngineConfigurationImpl setBatchMigrationPartsPerJob(int batchMigrationPartsPerJob) {
+        this.batchMigrationPartsPerJob = batchMigrationPartsPerJob;
+        return this;
+    }
+
 }
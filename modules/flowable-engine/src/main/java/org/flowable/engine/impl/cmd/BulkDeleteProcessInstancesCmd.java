@@ -0,0 +1,171 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.cmd;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.bpmn.model.CallActivity;
+import org.flowable.bpmn.model.CaseServiceTask;
+import org.flowable.bpmn.model.FlowElement;
+import org.flowable.bpmn.model.Process;
+import org.flowable.bpmn.model.UserTask;
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.FlowableObjectNotFoundException;
+import org.flowable.common.engine.api.delegate.event.FlowableEventDispatcher;
+import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.common.engine.impl.event.FlowableEventDispatcherImpl;
+import org.flowable.common.engine.impl.event.FlowableEventSupport;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.ProcessInstanceQueryImpl;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.impl.util.Flowable5Util;
+import org.flowable.engine.impl.util.ProcessDefinitionUtil;
+import org.flowable.engine.runtime.ProcessInstance;
+
+/**
+ * Deletes a set of process instances in one transaction.
+ *
+ * When nothing needs to be notified of the individual entities being deleted (no event listeners, no history, no execution or task listeners and
+ * no sub process instances or cases), the runtime data of the process instances is deleted with one set-based delete statement per table.
+ * The delete statements are executed when the session is flushed, in the entity dependency order of the engine. All other process instances are
+ * deleted one by one, as in {@link DeleteProcessInstanceCmd}.
+ */
+public class BulkDeleteProcessInstancesCmd implements Command<Void>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    protected Collection<String> processInstanceIds;
+    protected String deleteReason;
+
+    public BulkDeleteProcessInstancesCmd(Collection<String> processInstanceIds, String deleteReason) {
+        this.processInstanceIds = processInstanceIds;
+        this.deleteReason = deleteReason;
+    }
+
+    @Override
+    public Void execute(CommandContext commandContext) {
+        if (processInstanceIds == null) {
+            throw new FlowableIllegalArgumentException("processInstanceIds is null");
+        }
+        if (processInstanceIds.isEmpty()) {
+            return null;
+        }
+
+        Set<String> ids = new LinkedHashSet<>(processInstanceIds);
+        List<ProcessInstance> processInstances = new ProcessInstanceQueryImpl(commandContext).processInstanceIds(ids).list();
+        if (processInstances.size() < ids.size()) {
+            Set<String> foundIds = new HashSet<>();
+            for (ProcessInstance processInstance : processInstances) {
+                foundIds.add(processInstance.getId());
+            }
+            for (String processInstanceId : ids) {
+                if (!foundIds.contains(processInstanceId)) {
+                    throw new FlowableObjectNotFoundException("No process instance found for id '" + processInstanceId + "'", ProcessInstance.class);
+                }
+            }
+        }
+
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        boolean eventListenersRegistered = hasEventListeners(processEngineConfiguration.getEventDispatcher());
+        Map<String, Boolean> setBasedDeleteAllowedPerProcessDefinition = new HashMap<>();
+
+        List<String> setBasedDeleteIds = new ArrayList<>();
+        for (ProcessInstance processInstance : processInstances) {
+            ExecutionEntity processInstanceEntity = (ExecutionEntity) processInstance;
+            if (processInstanceEntity.isDeleted()) {
+                continue;
+            }
+
+            if (!eventListenersRegistered && processInstanceEntity.getSuperExecutionId() == null && processInstanceEntity.getCallbackId() == null
+                    && setBasedDeleteAllowedPerProcessDefinition.computeIfAbsent(processInstanceEntity.getProcessDefinitionId(),
+                            processDefinitionId -> isSetBasedDeleteAllowed(commandContext, processDefinitionId))) {
+                setBasedDeleteIds.add(processInstanceEntity.getId());
+
+            } else {
+                new DeleteProcessInstanceCmd(processInstanceEntity.getId(), deleteReason).execute(commandContext);
+            }
+        }
+
+        if (!setBasedDeleteIds.isEmpty()) {
+            deleteProcessInstancesSetBased(commandContext, processEngineConfiguration, setBasedDeleteIds);
+        }
+
+        return null;
+    }
+
+    protected void deleteProcessInstancesSetBased(CommandContext commandContext, ProcessEngineConfigurationImpl processEngineConfiguration,
+            List<String> processInstanceIds) {
+
+        CommandContextUtil.getIdentityLinkService(commandContext).deleteIdentityLinksByProcessInstanceIds(processInstanceIds);
+        if (processEngineConfiguration.isEnableEntityLinks()) {
+            CommandContextUtil.getEntityLinkService(commandContext).deleteEntityLinksByScopeIdsAndType(processInstanceIds, ScopeTypes.BPMN);
+        }
+        CommandContextUtil.getVariableService(commandContext).deleteVariablesByProcessInstanceIds(processInstanceIds);
+        CommandContextUtil.getTaskService(commandContext).deleteTasksByProcessInstanceIds(processInstanceIds);
+        CommandContextUtil.getJobService(commandContext).deleteJobsByProcessInstanceIds(processInstanceIds);
+        CommandContextUtil.getEventSubscriptionService(commandContext).deleteEventSubscriptionsByProcessInstanceIds(processInstanceIds);
+        CommandContextUtil.getActivityInstanceEntityManager(commandContext).deleteActivityInstancesByProcessInstanceIds(processInstanceIds);
+        CommandContextUtil.getExecutionEntityManager(commandContext).deleteExecutionsByProcessInstanceIds(processInstanceIds);
+    }
+
+    protected boolean hasEventListeners(FlowableEventDispatcher eventDispatcher) {
+        if (eventDispatcher == null || !eventDispatcher.isEnabled()) {
+            return false;
+        }
+        if (eventDispatcher instanceof FlowableEventDispatcherImpl) {
+            return ((FlowableEventDispatcherImpl) eventDispatcher).getEventSupport().hasEventListeners();
+        }
+        return true;
+    }
+
+    protected boolean isSetBasedDeleteAllowed(CommandContext commandContext, String processDefinitionId) {
+        if (Flowable5Util.isFlowable5ProcessDefinitionId(commandContext, processDefinitionId)) {
+            return false;
+        }
+        if (CommandContextUtil.getHistoryManager(commandContext).isHistoryEnabled(processDefinitionId)) {
+            return false;
+        }
+
+        BpmnModel bpmnModel = ProcessDefinitionUtil.getBpmnModel(processDefinitionId);
+        if (bpmnModel.getEventSupport() instanceof FlowableEventSupport && ((FlowableEventSupport) bpmnModel.getEventSupport()).hasEventListeners()) {
+            return false;
+        }
+
+        Process process = ProcessDefinitionUtil.getProcess(processDefinitionId);
+        if (!process.getExecutionListeners().isEmpty()) {
+            return false;
+        }
+        for (FlowElement flowElement : process.findFlowElementsOfType(FlowElement.class, true)) {
+            if (!flowElement.getExecutionListeners().isEmpty() || flowElement instanceof CallActivity || flowElement instanceof CaseServiceTask) {
+                return false;
+            }
+            if (flowElement instanceof UserTask && !((UserTask) flowElement).getTaskListeners().isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
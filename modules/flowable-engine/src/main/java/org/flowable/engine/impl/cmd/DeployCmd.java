@@ -13,25 +13,38 @@
 package org.flowable.engine.impl.cmd;
 
 import java.io.Serializable;
+import java.math.BigInteger;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
+import org.flowable.bpmn.converter.BpmnXMLConverter;
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.bpmn.model.Process;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
 import org.flowable.common.engine.api.delegate.event.FlowableEventDispatcher;
 import org.flowable.common.engine.api.repository.EngineResource;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.util.io.BytesStreamSource;
 import org.flowable.engine.ProcessEngineConfiguration;
 import org.flowable.engine.compatibility.Flowable5CompatibilityHandler;
 import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
 import org.flowable.engine.impl.DeploymentQueryImpl;
+import org.flowable.engine.impl.bpmn.deployer.ResourceNameUtil;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.persistence.entity.DeploymentEntity;
+import org.flowable.engine.impl.persistence.entity.DeploymentEntityManager;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntity;
+import org.flowable.engine.impl.persistence.entity.ResourceEntity;
+import org.flowable.engine.impl.persistence.entity.ResourceEntityManager;
 import org.flowable.engine.impl.repository.DeploymentBuilderImpl;
 import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.engine.repository.Deployment;
@@ -106,6 +119,13 @@ public class DeployCmd<T> implements Command<Deployment>, Serializable {
             }
         }
 
+        if (deploymentBuilder.isIncrementalDeploymentEnabled()) {
+            DeploymentEntity previousDeployment = removeUnchangedResources(commandContext, deployment);
+            if (previousDeployment != null && deployment.getResources().isEmpty()) {
+                return previousDeployment;
+            }
+        }
+
         deployment.setNew(true);
 
         // Save the data
@@ -174,6 +194,122 @@ public class DeployCmd<T> implements Command<Deployment>, Serializable {
         return false;
     }
 
+    /**
+     * Removes the resources of which the content is the same as the latest resource with the same name of the previous deployments with the same name,
+     * so that only the changed resources are deployed. The diagram images of a changed BPMN resource are kept, as they belong to the new process definitions.
+     *
+     * @return the latest previous deployment, or null if there is no previous deployment
+     */
+    protected DeploymentEntity removeUnchangedResources(CommandContext commandContext, DeploymentEntity deployment) {
+        Map<String, EngineResource> resources = deployment.getResources();
+        if (resources == null || resources.isEmpty()) {
+            return null;
+        }
+
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        DeploymentQueryImpl deploymentQuery = new DeploymentQueryImpl(processEngineConfiguration.getCommandExecutor());
+        deploymentQuery.deploymentName(deployment.getName());
+        if (deployment.getTenantId() == null || ProcessEngineConfiguration.NO_TENANT_ID.equals(deployment.getTenantId())) {
+            deploymentQuery.deploymentWithoutTenantId();
+        } else {
+            deploymentQuery.deploymentTenantId(deployment.getTenantId());
+        }
+        List<Deployment> previousDeployments = deploymentQuery.orderByDeploymentTime().desc().list();
+        if (previousDeployments.isEmpty()) {
+            return null;
+        }
+
+        // The deployments are ordered from new to old, so the first resource found for a name is the latest one.
+        // Only the resource names are fetched per deployment, the content is only fetched (and hashed) for the latest resource of a name.
+        Map<String, String> previousContentHashes = new HashMap<>();
+        DeploymentEntityManager deploymentEntityManager = CommandContextUtil.getDeploymentEntityManager(commandContext);
+        ResourceEntityManager resourceEntityManager = CommandContextUtil.getResourceEntityManager(commandContext);
+        for (Deployment previousDeployment : previousDeployments) {
+            for (String previousResourceName : deploymentEntityManager.getDeploymentResourceNames(previousDeployment.getId())) {
+                if (resources.containsKey(previousResourceName) && !previousContentHashes.containsKey(previousResourceName)) {
+                    ResourceEntity previousResource = resourceEntityManager.findResourceByDeploymentIdAndResourceName(previousDeployment.getId(), previousResourceName);
+                    if (previousResource != null && !previousResource.isGenerated()) {
+                        previousContentHashes.put(previousResourceName, getContentHash(previousResource.getBytes()));
+                    }
+                }
+            }
+
+            if (previousContentHashes.size() == resources.size()) {
+                break;
+            }
+        }
+
+        Set<String> unchangedResourceNames = new HashSet<>();
+        List<EngineResource> changedBpmnResources = new ArrayList<>();
+        for (EngineResource resource : resources.values()) {
+            String previousContentHash = previousContentHashes.get(resource.getName());
+            if (previousContentHash != null && previousContentHash.equals(getContentHash(resource.getBytes()))) {
+                unchangedResourceNames.add(resource.getName());
+            } else if (isBpmnResource(resource.getName())) {
+                changedBpmnResources.add(resource);
+            }
+        }
+
+        for (EngineResource changedBpmnResource : changedBpmnResources) {
+            unchangedResourceNames.removeAll(getDiagramResourceNames(changedBpmnResource, processEngineConfiguration));
+        }
+
+        resources.keySet().removeAll(unchangedResourceNames);
+
+        return (DeploymentEntity) previousDeployments.get(0);
+    }
+
+    protected String getContentHash(byte[] bytes) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm not available. Fatal (should be in the JDK).");
+        }
+
+        return String.format("%064x", new BigInteger(1, digest.digest(bytes != null ? bytes : new byte[0])));
+    }
+
+    protected boolean isBpmnResource(String resourceName) {
+        for (String suffix : ResourceNameUtil.BPMN_RESOURCE_SUFFIXES) {
+            if (resourceName.endsWith(suffix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the names of the diagram resources that {@link ResourceNameUtil#getProcessDiagramResourceNameFromDeployment} can use
+     * for the processes of the given BPMN resource. Diagrams of other BPMN resources whose names start with the same prefix are not included.
+     */
+    protected Set<String> getDiagramResourceNames(EngineResource bpmnResource, ProcessEngineConfigurationImpl processEngineConfiguration) {
+        List<String> processKeys = new ArrayList<>();
+        try {
+            BpmnXMLConverter converter = new BpmnXMLConverter();
+            BytesStreamSource streamSource = new BytesStreamSource(bpmnResource.getBytes());
+            BpmnModel bpmnModel = processEngineConfiguration.getXmlEncoding() != null
+                    ? converter.convertToBpmnModel(streamSource, false, processEngineConfiguration.isEnableSafeBpmnXml(), processEngineConfiguration.getXmlEncoding())
+                    : converter.convertToBpmnModel(streamSource, false, processEngineConfiguration.isEnableSafeBpmnXml());
+            for (Process process : bpmnModel.getProcesses()) {
+                processKeys.add(process.getId());
+            }
+
+        } catch (RuntimeException e) {
+            // The deployer reports the invalid resource when it parses it, which fails the deployment
+        }
+
+        Set<String> diagramResourceNames = new HashSet<>();
+        String bpmnResourceBase = ResourceNameUtil.stripBpmnFileSuffix(bpmnResource.getName());
+        for (String diagramSuffix : ResourceNameUtil.DIAGRAM_SUFFIXES) {
+            diagramResourceNames.add(bpmnResourceBase + diagramSuffix);
+            for (String processKey : processKeys) {
+                diagramResourceNames.add(ResourceNameUtil.getProcessDiagramResourceName(bpmnResource.getName(), processKey, diagramSuffix));
+            }
+        }
+        return diagramResourceNames;
+    }
+
     protected void scheduleProcessDefinitionActivation(CommandContext commandContext, DeploymentEntity deployment) {
         for (ProcessDefinitionEntity processDefinitionEntity : deployment.getDeployedArtifacts(ProcessDefinitionEntity.class)) {
 
@@ -0,0 +1,45 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.cmd;
+
+import java.io.Serializable;
+import java.util.Map;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.util.CommandContextUtil;
+
+/**
+ * Returns the revision of every execution of a process instance by execution id, used as the version of the views cached in the
+ * {@link org.flowable.engine.impl.cache.ProcessInstanceReadCache}.
+ */
+public class GetProcessInstanceExecutionRevisionsCmd implements Command<Map<String, Integer>>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    protected String processInstanceId;
+
+    public GetProcessInstanceExecutionRevisionsCmd(String processInstanceId) {
+        this.processInstanceId = processInstanceId;
+    }
+
+    @Override
+    public Map<String, Integer> execute(CommandContext commandContext) {
+        if (processInstanceId == null) {
+            throw new FlowableIllegalArgumentException("processInstanceId is null");
+        }
+        return CommandContextUtil.getExecutionEntityManager(commandContext).findExecutionRevisionsByProcessInstanceId(processInstanceId);
+    }
+
+}
@@ -12,9 +12,11 @@
  */
 package org.flowable.engine.impl.eventregistry;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -27,7 +29,9 @@ import org.flowable.bpmn.model.ExtensionElement;
 import org.flowable.bpmn.model.StartEvent;
 import org.flowable.common.engine.api.constant.ReferenceTypes;
 import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.common.engine.impl.persistence.cache.EntityCache;
 import org.flowable.engine.ProcessEngineConfiguration;
 import org.flowable.engine.RuntimeService;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
@@ -38,6 +42,7 @@ import org.flowable.eventregistry.impl.consumer.BaseEventRegistryEventConsumer;
 import org.flowable.eventregistry.impl.consumer.CorrelationKey;
 import org.flowable.eventsubscription.api.EventSubscription;
 import org.flowable.eventsubscription.service.impl.EventSubscriptionQueryImpl;
+import org.flowable.eventsubscription.service.impl.persistence.entity.EventSubscriptionEntity;
 import org.flowable.eventsubscription.service.impl.util.CommandContextUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -87,6 +92,161 @@ public class BpmnEventRegistryEventConsumer extends BaseEventRegistryEventConsum
         }
     }
 
+    @Override
+    protected void eventsReceived(List<EventInstance> eventInstances) {
+
+        // The event subscriptions for all events of the batch are fetched with one query.
+        // Waiting executions are then triggered in transactions of at most batch size subscriptions.
+        // When such a transaction fails, its subscriptions are retried one per transaction,
+        // so the handling of one event subscription still doesn't roll back the handling of another.
+        // Process instances are started in their own transaction, like for a single event,
+        // which makes sure the unique instance check sees the instances started for earlier events.
+        // When handling an event creates event subscriptions for the event types of the batch,
+        // the event subscriptions of the later events are fetched again, so they are matched like for single events.
+
+        List<Collection<CorrelationKey>> correlationKeys = new ArrayList<>(eventInstances.size());
+        for (EventInstance eventInstance : eventInstances) {
+            correlationKeys.add(generateCorrelationKeys(eventInstance.getCorrelationParameterInstances()));
+        }
+
+        RuntimeService runtimeService = processEngineConfiguration.getRuntimeService();
+        List<RuntimeException> failures = new ArrayList<>();
+        int index = 0;
+        while (index < eventInstances.size()) {
+            List<EventInstance> remainingEventInstances = eventInstances.subList(index, eventInstances.size());
+            Map<String, List<EventSubscription>> eventSubscriptionsByTenantId = findEventSubscriptionsByEventDefinitionKeysAndCorrelationKeys(
+                remainingEventInstances, correlationKeys.subList(index, eventInstances.size()));
+
+            List<EventSubscriptionCommand> commands = new ArrayList<>();
+            for (int i = index; i < eventInstances.size(); i++) {
+                EventInstance eventInstance = eventInstances.get(i);
+                Collection<CorrelationKey> eventCorrelationKeys = correlationKeys.get(i);
+                List<EventSubscription> eventSubscriptions = getMatchingEventSubscriptions(eventInstance, eventCorrelationKeys,
+                    eventSubscriptionsByTenantId.get(getEventSubscriptionTenantId(eventInstance)));
+
+                for (EventSubscription eventSubscription : eventSubscriptions) {
+                    commands.add(new EventSubscriptionCommand(i, eventSubscription.getExecutionId() != null, commandContext -> {
+                        handleBatchedEventSubscription(commandContext, runtimeService, eventSubscription, eventInstance, eventCorrelationKeys);
+                        return null;
+                    }));
+                }
+            }
+
+            index = executeEventSubscriptionCommands(commands, eventInstances.size(), getEventDefinitionKeys(remainingEventInstances), failures);
+        }
+
+        rethrowFailures(failures);
+    }
+
+    protected Map<String, List<EventSubscription>> findEventSubscriptionsByEventDefinitionKeysAndCorrelationKeys(List<EventInstance> eventInstances,
+            List<Collection<CorrelationKey>> correlationKeys) {
+
+        Map<String, Set<String>> eventDefinitionKeysByTenantId = new HashMap<>();
+        Map<String, Set<String>> correlationKeyValuesByTenantId = new HashMap<>();
+        for (int i = 0; i < eventInstances.size(); i++) {
+            EventInstance eventInstance = eventInstances.get(i);
+            String tenantId = getEventSubscriptionTenantId(eventInstance);
+            eventDefinitionKeysByTenantId.computeIfAbsent(tenantId, key -> new HashSet<>()).add(eventInstance.getEventModel().getKey());
+            Set<String> correlationKeyValues = correlationKeyValuesByTenantId.computeIfAbsent(tenantId, key -> new HashSet<>());
+            for (CorrelationKey correlationKey : correlationKeys.get(i)) {
+                correlationKeyValues.add(correlationKey.getValue());
+            }
+        }
+
+        return commandExecutor.execute(commandContext -> {
+            Map<String, List<EventSubscription>> eventSubscriptionsByTenantId = new HashMap<>();
+            for (String tenantId : eventDefinitionKeysByTenantId.keySet()) {
+                List<List<String>> correlationKeyValuePartitions = partition(correlationKeyValuesByTenantId.get(tenantId));
+                if (correlationKeyValuePartitions.isEmpty()) {
+                    correlationKeyValuePartitions.add(new ArrayList<>());
+                }
+
+                // The event subscriptions without correlation are only fetched together with the first correlation key values
+                List<EventSubscription> eventSubscriptions = new ArrayList<>();
+                for (List<String> eventDefinitionKeys : partition(eventDefinitionKeysByTenantId.get(tenantId))) {
+                    for (int i = 0; i < correlationKeyValuePartitions.size(); i++) {
+                        eventSubscriptions.addAll(findEventSubscriptionsByEventDefinitionKeysAndCorrelationKeyValues(commandContext, tenantId,
+                            eventDefinitionKeys, correlationKeyValuePartitions.get(i), i == 0));
+                    }
+                }
+                eventSubscriptionsByTenantId.put(tenantId, eventSubscriptions);
+            }
+            return eventSubscriptionsByTenantId;
+        });
+    }
+
+    protected List<EventSubscription> findEventSubscriptionsByEventDefinitionKeysAndCorrelationKeyValues(CommandContext commandContext, String tenantId,
+            Collection<String> eventDefinitionKeys, Collection<String> correlationKeyValues, boolean includeWithoutCorrelation) {
+
+        EventSubscriptionQueryImpl eventSubscriptionQuery = new EventSubscriptionQueryImpl(commandContext)
+            .eventTypes(eventDefinitionKeys)
+            .scopeType(ScopeTypes.BPMN);
+
+        if (includeWithoutCorrelation) {
+            eventSubscriptionQuery.withoutConfigurationOrConfigurations(correlationKeyValues);
+        } else {
+            eventSubscriptionQuery.configurations(correlationKeyValues);
+        }
+
+        if (tenantId != null) {
+            eventSubscriptionQuery.tenantId(tenantId);
+        }
+
+        return CommandContextUtil.getEventSubscriptionEntityManager(commandContext).findEventSubscriptionsByQueryCriteria(eventSubscriptionQuery);
+    }
+
+    @Override
+    protected int countCreatedEventSubscriptions(CommandContext commandContext, Collection<String> eventTypes) {
+        int createdEventSubscriptions = 0;
+        for (EventSubscriptionEntity eventSubscription : commandContext.getSession(EntityCache.class).findInCacheAsView(EventSubscriptionEntity.class)) {
+            if (eventSubscription.isInserted() && !eventSubscription.isDeleted()
+                    && ScopeTypes.BPMN.equals(eventSubscription.getScopeType()) && eventTypes.contains(eventSubscription.getEventType())) {
+                createdEventSubscriptions++;
+            }
+        }
+        return createdEventSubscriptions;
+    }
+
+    protected List<EventSubscription> getMatchingEventSubscriptions(EventInstance eventInstance, Collection<CorrelationKey> correlationKeys,
+            List<EventSubscription> eventSubscriptions) {
+
+        if (eventSubscriptions == null || eventSubscriptions.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        // Same order as for a single event: first the subscriptions without correlation, then the correlated ones
+        String eventDefinitionKey = eventInstance.getEventModel().getKey();
+        Set<String> correlationKeyValues = correlationKeys.stream().map(CorrelationKey::getValue).collect(Collectors.toSet());
+        List<EventSubscription> matchingEventSubscriptions = new ArrayList<>();
+        List<EventSubscription> correlatedEventSubscriptions = new ArrayList<>();
+        for (EventSubscription eventSubscription : eventSubscriptions) {
+            if (Objects.equals(eventDefinitionKey, eventSubscription.getEventType())) {
+                if (eventSubscription.getConfiguration() == null) {
+                    matchingEventSubscriptions.add(eventSubscription);
+                } else if (correlationKeyValues.contains(eventSubscription.getConfiguration())) {
+                    correlatedEventSubscriptions.add(eventSubscription);
+                }
+            }
+        }
+        matchingEventSubscriptions.addAll(correlatedEventSubscriptions);
+        return matchingEventSubscriptions;
+    }
+
+    protected void handleBatchedEventSubscription(CommandContext commandContext, RuntimeService runtimeService, EventSubscription eventSubscription,
+            EventInstance eventInstance, Collection<CorrelationKey> correlationKeys) {
+
+        // The event subscriptions were fetched for the whole batch,
+        // hence an earlier event of the batch could already have consumed this one
+        EventSubscriptionEntity eventSubscriptionEntity = CommandContextUtil.getEventSubscriptionEntityManager(commandContext)
+            .findById(eventSubscription.getId());
+        if (eventSubscriptionEntity == null || eventSubscriptionEntity.isDeleted()) {
+            LOGGER.debug("Event subscription {} was already handled for a previous event of the batch", eventSubscription.getId());
+            return;
+        }
+
+        handleEventSubscription(runtimeService, eventSubscription, eventInstance, correlationKeys);
+    }
+
     protected List<EventSubscription> findEventSubscriptionsByEventDefinitionKeyAndNoCorrelations(EventInstance eventInstance) {
         return commandExecutor.execute(commandContext -> {
 
@@ -0,0 +1,448 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.history.archive;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.flowable.common.engine.impl.history.archive.AbstractHistoryArchiveManager;
+import org.flowable.common.engine.impl.history.archive.HistoryArchiveCriteria;
+import org.flowable.common.engine.impl.history.archive.HistoryArchiveStore;
+import org.flowable.common.engine.impl.history.archive.HistoryArchiveTable;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.history.HistoricActivityInstance;
+import org.flowable.engine.history.HistoricDetail;
+import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.impl.ArchivedHistoricProcessInstanceQueryImpl;
+import org.flowable.engine.impl.ArchivedHistoricTaskInstanceQueryImpl;
+import org.flowable.engine.impl.HistoricActivityInstanceQueryImpl;
+import org.flowable.engine.impl.HistoricDetailQueryImpl;
+import org.flowable.engine.impl.HistoricProcessInstanceQueryImpl;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.persistence.entity.CommentEntity;
+import org.flowable.engine.impl.persistence.entity.HistoricDetailEntity;
+import org.flowable.engine.impl.persistence.entity.HistoricDetailVariableInstanceUpdateEntity;
+import org.flowable.engine.impl.persistence.entity.HistoricFormPropertyEntity;
+import org.flowable.engine.impl.persistence.entity.HistoricProcessInstanceEntityImpl;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.task.Comment;
+import org.flowable.identitylink.service.impl.persistence.entity.HistoricIdentityLinkEntity;
+import org.flowable.task.api.history.HistoricTaskInstance;
+import org.flowable.task.service.impl.persistence.entity.HistoricTaskInstanceEntity;
+import org.flowable.task.service.impl.persistence.entity.HistoricTaskInstanceEntityImpl;
+import org.flowable.variable.api.history.HistoricVariableInstance;
+import org.flowable.variable.service.impl.HistoricVariableInstanceQueryImpl;
+import org.flowable.variable.service.impl.persistence.entity.HistoricVariableInstanceEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link HistoryArchiveManager} writing the archived history of process instances with one {@link HistoryArchiveTable} per type of history
+ * (process instances, activity instances, task instances, variable instances, identity links, details and comments).
+ *
+ * The files are partitioned on the (UTC) day on which the process instances ended, see {@link AbstractHistoryArchiveManager}.
+ * The id filter of each file contains the ids of its process and task instances, so that lookups by process instance or task id
+ * only read the files that can contain them.
+ */
+public class DefaultHistoryArchiveManager extends AbstractHistoryArchiveManager implements HistoryArchiveManager {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DefaultHistoryArchiveManager.class);
+
+    public static final String PROCESS_INSTANCES = "processInstances";
+    public static final String ACTIVITY_INSTANCES = "activityInstances";
+    public static final String TASK_INSTANCES = "taskInstances";
+    public static final String VARIABLE_INSTANCES = "variableInstances";
+    public static final String IDENTITY_LINKS = "identityLinks";
+    public static final String DETAILS = "details";
+    public static final String COMMENTS = "comments";
+
+    protected static final String[] TABLE_NAMES = { PROCESS_INSTANCES, ACTIVITY_INSTANCES, TASK_INSTANCES, VARIABLE_INSTANCES, IDENTITY_LINKS, DETAILS, COMMENTS };
+
+    public DefaultHistoryArchiveManager(ProcessEngineConfigurationImpl processEngineConfiguration, HistoryArchiveStore historyArchiveStore) {
+        super(processEngineConfiguration, historyArchiveStore);
+    }
+
+    @Override
+    public int archiveHistoricProcessInstances(Date finishedBefore, int maxProcessInstances, CommandContext commandContext) {
+        // Sub process instances are archived with their root process instance, as they can finish long before it
+        HistoricProcessInstanceQueryImpl query = new HistoricProcessInstanceQueryImpl(commandContext);
+        query.finished().finishedBefore(finishedBefore).excludeSubprocesses(true).orderByProcessInstanceEndTime().asc();
+        query.setFirstResult(0);
+        query.setMaxResults(maxProcessInstances);
+        List<HistoricProcessInstance> processInstances = CommandContextUtil.getHistoricProcessInstanceEntityManager(commandContext)
+                .findHistoricProcessInstancesByQueryCriteria(query);
+
+        if (processInstances.isEmpty()) {
+            return 0;
+        }
+
+        // Deleting the history of a process instance also deletes the history of its sub process instances,
+        // so these need to be archived together with it
+        Map<String, HistoricProcessInstance> processInstancesToArchive = new LinkedHashMap<>();
+        for (HistoricProcessInstance processInstance : processInstances) {
+            collectProcessInstanceHierarchy(processInstance, processInstancesToArchive, commandContext);
+        }
+
+        Map<String, Map<String, HistoryArchiveTable>> tablesPerPartition = new TreeMap<>();
+        for (HistoricProcessInstance processInstance : processInstancesToArchive.values()) {
+            String partition = getPartition(processInstance.getEndTime() != null ? processInstance.getEndTime() : processInstance.getStartTime());
+            Map<String, HistoryArchiveTable> tables = tablesPerPartition.computeIfAbsent(partition, key -> createTables(TABLE_NAMES));
+            addProcessInstanceHistory(processInstance, tables, commandContext);
+        }
+
+        writeArchiveFiles(tablesPerPartition, PROCESS_INSTANCES, TASK_INSTANCES);
+
+        for (HistoricProcessInstance processInstance : processInstances) {
+            CommandContextUtil.getHistoryManager(commandContext).recordProcessInstanceDeleted(processInstance.getId(),
+                    processInstance.getProcessDefinitionId(), processInstance.getTenantId());
+        }
+
+        LOGGER.debug("Archived {} historic process instances in {} partitions", processInstancesToArchive.size(), tablesPerPartition.size());
+        return processInstancesToArchive.size();
+    }
+
+    protected void collectProcessInstanceHierarchy(HistoricProcessInstance processInstance, Map<String, HistoricProcessInstance> processInstances, CommandContext commandContext) {
+        if (processInstances.put(processInstance.getId(), processInstance) == null) {
+            List<HistoricProcessInstance> subProcessInstances = CommandContextUtil.getHistoricProcessInstanceEntityManager(commandContext)
+                    .findHistoricProcessInstancesBySuperProcessInstanceId(processInstance.getId());
+            for (HistoricProcessInstance subProcessInstance : subProcessInstances) {
+                collectProcessInstanceHierarchy(subProcessInstance, processInstances, commandContext);
+            }
+        }
+    }
+
+    protected void addProcessInstanceHistory(HistoricProcessInstance processInstance, Map<String, HistoryArchiveTable> tables, CommandContext commandContext) {
+        String processInstanceId = processInstance.getId();
+        tables.get(PROCESS_INSTANCES).addRow(processInstanceRow(processInstance));
+
+        List<HistoricActivityInstance> activityInstances = new HistoricActivityInstanceQueryImpl(commandContext).processInstanceId(processInstanceId).list();
+        for (HistoricActivityInstance activityInstance : activityInstances) {
+            tables.get(ACTIVITY_INSTANCES).addRow(activityInstanceRow(activityInstance));
+        }
+
+        List<HistoricTaskInstanceEntity> taskInstances = CommandContextUtil.getHistoricTaskService(commandContext).findHistoricTasksByProcessInstanceId(processInstanceId);
+        for (HistoricTaskInstanceEntity taskInstance : taskInstances) {
+            Map<String, Object> row = taskInstanceRow(taskInstance);
+            row.put("processDefinitionKey", processInstance.getProcessDefinitionKey());
+            tables.get(TASK_INSTANCES).addRow(row);
+        }
+
+        List<HistoricVariableInstance> variableInstances = new HistoricVariableInstanceQueryImpl(commandContext)
+                .processInstanceId(processInstanceId)
+                .excludeVariableInitialization()
+                .list();
+        for (HistoricVariableInstance variableInstance : variableInstances) {
+            tables.get(VARIABLE_INSTANCES).addRow(variableInstanceRow((HistoricVariableInstanceEntity) variableInstance));
+        }
+
+        Set<String> identityLinkIds = new HashSet<>();
+        List<HistoricIdentityLinkEntity> identityLinks = new ArrayList<>(CommandContextUtil.getHistoricIdentityLinkService()
+                .findHistoricIdentityLinksByProcessInstanceId(processInstanceId));
+        for (HistoricTaskInstanceEntity taskInstance : taskInstances) {
+            identityLinks.addAll(CommandContextUtil.getHistoricIdentityLinkService().findHistoricIdentityLinksByTaskId(taskInstance.getId()));
+        }
+        for (HistoricIdentityLinkEntity identityLink : identityLinks) {
+            if (identityLinkIds.add(identityLink.getId())) {
+                tables.get(IDENTITY_LINKS).addRow(identityLinkRow(identityLink));
+            }
+        }
+
+        List<HistoricDetail> details = new HistoricDetailQueryImpl(commandContext).processInstanceId(processInstanceId).list();
+        for (HistoricDetail detail : details) {
+            tables.get(DETAILS).addRow(detailRow((HistoricDetailEntity) detail));
+        }
+
+        List<Comment> comments = CommandContextUtil.getCommentEntityManager(commandContext).findCommentsByProcessInstanceId(processInstanceId);
+        for (Comment comment : comments) {
+            tables.get(COMMENTS).addRow(commentRow((CommentEntity) comment));
+        }
+    }
+
+    protected Map<String, Object> processInstanceRow(HistoricProcessInstance processInstance) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", processInstance.getId());
+        row.put("businessKey", processInstance.getBusinessKey());
+        row.put("processDefinitionId", processInstance.getProcessDefinitionId());
+        row.put("processDefinitionKey", processInstance.getProcessDefinitionKey());
+        row.put("processDefinitionName", processInstance.getProcessDefinitionName());
+        row.put("processDefinitionVersion", processInstance.getProcessDefinitionVersion());
+        row.put("deploymentId", processInstance.getDeploymentId());
+        row.put("startTime", processInstance.getStartTime());
+        row.put("endTime", processInstance.getEndTime());
+        row.put("durationInMillis", processInstance.getDurationInMillis());
+        row.put("startUserId", processInstance.getStartUserId());
+        row.put("startActivityId", processInstance.getStartActivityId());
+        row.put("endActivityId", processInstance.getEndActivityId());
+        row.put("deleteReason", processInstance.getDeleteReason());
+        row.put("superProcessInstanceId", processInstance.getSuperProcessInstanceId());
+        row.put("tenantId", processInstance.getTenantId());
+        row.put("name", processInstance.getName());
+        row.put("description", processInstance.getDescription());
+        row.put("callbackId", processInstance.getCallbackId());
+        row.put("callbackType", processInstance.getCallbackType());
+        row.put("referenceId", processInstance.getReferenceId());
+        row.put("referenceType", processInstance.getReferenceType());
+        return row;
+    }
+
+    protected Map<String, Object> activityInstanceRow(HistoricActivityInstance activityInstance) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", activityInstance.getId());
+        row.put("activityId", activityInstance.getActivityId());
+        row.put("activityName", activityInstance.getActivityName());
+        row.put("activityType", activityInstance.getActivityType());
+        row.put("processDefinitionId", activityInstance.getProcessDefinitionId());
+        row.put("processInstanceId", activityInstance.getProcessInstanceId());
+        row.put("executionId", activityInstance.getExecutionId());
+        row.put("taskId", activityInstance.getTaskId());
+        row.put("calledProcessInstanceId", activityInstance.getCalledProcessInstanceId());
+        row.put("assignee", activityInstance.getAssignee());
+        row.put("startTime", activityInstance.getStartTime());
+        row.put("endTime", activityInstance.getEndTime());
+        row.put("durationInMillis", activityInstance.getDurationInMillis());
+        row.put("deleteReason", activityInstance.getDeleteReason());
+        row.put("tenantId", activityInstance.getTenantId());
+        return row;
+    }
+
+    protected Map<String, Object> taskInstanceRow(HistoricTaskInstanceEntity taskInstance) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", taskInstance.getId());
+        row.put("executionId", taskInstance.getExecutionId());
+        row.put("processInstanceId", taskInstance.getProcessInstanceId());
+        row.put("processDefinitionId", taskInstance.getProcessDefinitionId());
+        row.put("taskDefinitionId", taskInstance.getTaskDefinitionId());
+        row.put("taskDefinitionKey", taskInstance.getTaskDefinitionKey());
+        row.put("scopeId", taskInstance.getScopeId());
+        row.put("subScopeId", taskInstance.getSubScopeId());
+        row.put("scopeType", taskInstance.getScopeType());
+        row.put("scopeDefinitionId", taskInstance.getScopeDefinitionId());
+        row.put("name", taskInstance.getName());
+        row.put("description", taskInstance.getDescription());
+        row.put("parentTaskId", taskInstance.getParentTaskId());
+        row.put("owner", taskInstance.getOwner());
+        row.put("assignee", taskInstance.getAssignee());
+        row.put("formKey", taskInstance.getFormKey());
+        row.put("priority", taskInstance.getPriority());
+        row.put("category", taskInstance.getCategory());
+        row.put("tenantId", taskInstance.getTenantId());
+        row.put("createTime", taskInstance.getCreateTime());
+        row.put("claimTime", taskInstance.getClaimTime());
+        row.put("dueDate", taskInstance.getDueDate());
+        row.put("endTime", taskInstance.getEndTime());
+        row.put("durationInMillis", taskInstance.getDurationInMillis());
+        row.put("deleteReason", taskInstance.getDeleteReason());
+        row.put("lastUpdateTime", taskInstance.getLastUpdateTime());
+        return row;
+    }
+
+    protected Map<String, Object> variableInstanceRow(HistoricVariableInstanceEntity variableInstance) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", variableInstance.getId());
+        row.put("name", variableInstance.getName());
+        row.put("type", variableInstance.getVariableTypeName());
+        row.put("processInstanceId", variableInstance.getProcessInstanceId());
+        row.put("executionId", variableInstance.getExecutionId());
+        row.put("taskId", variableInstance.getTaskId());
+        row.put("textValue", variableInstance.getTextValue());
+        row.put("textValue2", variableInstance.getTextValue2());
+        row.put("longValue", variableInstance.getLongValue());
+        row.put("doubleValue", variableInstance.getDoubleValue());
+        row.put("bytes", variableInstance.getBytes());
+        row.put("createTime", variableInstance.getCreateTime());
+        row.put("lastUpdatedTime", variableInstance.getLastUpdatedTime());
+        return row;
+    }
+
+    protected Map<String, Object> identityLinkRow(HistoricIdentityLinkEntity identityLink) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", identityLink.getId());
+        row.put("type", identityLink.getType());
+        row.put("userId", identityLink.getUserId());
+        row.put("groupId", identityLink.getGroupId());
+        row.put("taskId", identityLink.getTaskId());
+        row.put("processInstanceId", identityLink.getProcessInstanceId());
+        row.put("createTime", identityLink.getCreateTime());
+        return row;
+    }
+
+    protected Map<String, Object> detailRow(HistoricDetailEntity detail) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", detail.getId());
+        row.put("detailType", detail.getDetailType());
+        row.put("processInstanceId", detail.getProcessInstanceId());
+        row.put("executionId", detail.getExecutionId());
+        row.put("activityInstanceId", detail.getActivityInstanceId());
+        row.put("taskId", detail.getTaskId());
+        row.put("time", detail.getTime());
+        if (detail instanceof HistoricDetailVariableInstanceUpdateEntity) {
+            HistoricDetailVariableInstanceUpdateEntity variableUpdate = (HistoricDetailVariableInstanceUpdateEntity) detail;
+            row.put("name", variableUpdate.getName());
+            row.put("type", variableUpdate.getVariableTypeName());
+            row.put("revision", variableUpdate.getRevision());
+            row.put("textValue", variableUpdate.getTextValue());
+            row.put("textValue2", variableUpdate.getTextValue2());
+            row.put("longValue", variableUpdate.getLongValue());
+            row.put("doubleValue", variableUpdate.getDoubleValue());
+            row.put("bytes", variableUpdate.getBytes());
+        } else if (detail instanceof HistoricFormPropertyEntity) {
+            HistoricFormPropertyEntity formProperty = (HistoricFormPropertyEntity) detail;
+            row.put("name", formProperty.getPropertyId());
+            row.put("textValue", formProperty.getPropertyValue());
+        }
+        return row;
+    }
+
+    protected Map<String, Object> commentRow(CommentEntity comment) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", comment.getId());
+        row.put("type", comment.getType());
+        row.put("userId", comment.getUserId());
+        row.put("time", comment.getTime());
+        row.put("taskId", comment.getTaskId());
+        row.put("processInstanceId", comment.getProcessInstanceId());
+        row.put("action", comment.getAction());
+        row.put("message", comment.getMessage());
+        row.put("fullMessage", comment.getFullMessage());
+        return row;
+    }
+
+    @Override
+    public List<HistoricProcessInstance> findHistoricProcessInstances(ArchivedHistoricProcessInstanceQueryImpl query) {
+        return findRows(createCriteria(query), PROCESS_INSTANCES, this::createHistoricProcessInstance, query.getFirstResult(), query.getMaxResults());
+    }
+
+    @Override
+    public long countHistoricProcessInstances(ArchivedHistoricProcessInstanceQueryImpl query) {
+        return countRows(createCriteria(query), PROCESS_INSTANCES);
+    }
+
+    protected HistoryArchiveCriteria createCriteria(ArchivedHistoricProcessInstanceQueryImpl query) {
+        Collection<String> processInstanceIds = getIds(query.getProcessInstanceId(), query.getProcessInstanceIds());
+        return query.createCriteria()
+                .indexedIds(processInstanceIds)
+                .partitionRange(HistoryArchiveCriteria.latest(query.getStartedAfter(), query.getFinishedAfter()), query.getFinishedBefore())
+                .columnIn(ID_COLUMN, processInstanceIds)
+                .columnEquals("processDefinitionKey", query.getProcessDefinitionKey())
+                .columnEquals("tenantId", query.getTenantId())
+                .columnAfter("startTime", query.getStartedAfter())
+                .columnBefore("startTime", query.getStartedBefore())
+                .columnAfter("endTime", query.getFinishedAfter())
+                .columnBefore("endTime", query.getFinishedBefore());
+    }
+
+    protected HistoricProcessInstance createHistoricProcessInstance(HistoryArchiveTable table, int row) {
+        HistoricProcessInstanceEntityImpl processInstance = new HistoricProcessInstanceEntityImpl();
+        processInstance.setId(table.getString("id", row));
+        processInstance.setProcessInstanceId(table.getString("id", row));
+        processInstance.setBusinessKey(table.getString("businessKey", row));
+        processInstance.setProcessDefinitionId(table.getString("processDefinitionId", row));
+        processInstance.setProcessDefinitionKey(table.getString("processDefinitionKey", row));
+        processInstance.setProcessDefinitionName(table.getString("processDefinitionName", row));
+        processInstance.setProcessDefinitionVersion(table.getInteger("processDefinitionVersion", row));
+        processInstance.setDeploymentId(table.getString("deploymentId", row));
+        processInstance.setStartTime(table.getDate("startTime", row));
+        processInstance.setEndTime(table.getDate("endTime", row));
+        processInstance.setDurationInMillis(table.getLong("durationInMillis", row));
+        processInstance.setStartUserId(table.getString("startUserId", row));
+        processInstance.setStartActivityId(table.getString("startActivityId", row));
+        processInstance.setEndActivityId(table.getString("endActivityId", row));
+        processInstance.setDeleteReason(table.getString("deleteReason", row));
+        processInstance.setSuperProcessInstanceId(table.getString("superProcessInstanceId", row));
+        processInstance.setTenantId(table.getString("tenantId", row));
+        processInstance.setName(table.getString("name", row));
+        processInstance.setDescription(table.getString("description", row));
+        processInstance.setCallbackId(table.getString("callbackId", row));
+        processInstance.setCallbackType(table.getString("callbackType", row));
+        processInstance.setReferenceId(table.getString("referenceId", row));
+        processInstance.setReferenceType(table.getString("referenceType", row));
+        return processInstance;
+    }
+
+    @Override
+    public List<HistoricTaskInstance> findHistoricTaskInstances(ArchivedHistoricTaskInstanceQueryImpl query) {
+        return findRows(createCriteria(query), TASK_INSTANCES, this::createHistoricTaskInstance, query.getFirstResult(), query.getMaxResults());
+    }
+
+    @Override
+    public long countHistoricTaskInstances(ArchivedHistoricTaskInstanceQueryImpl query) {
+        return countRows(createCriteria(query), TASK_INSTANCES);
+    }
+
+    protected HistoryArchiveCriteria createCriteria(ArchivedHistoricTaskInstanceQueryImpl query) {
+        Collection<String> taskIds = getIds(query.getTaskId(), null);
+        Collection<String> processInstanceIds = getIds(query.getProcessInstanceId(), query.getProcessInstanceIds());
+        // The tasks are archived in the same file as their process instance, which ends after the tasks were created and completed
+        return query.createCriteria()
+                .indexedIds(taskIds != null ? taskIds : processInstanceIds)
+                .partitionRange(HistoryArchiveCriteria.latest(query.getCreatedAfter(), query.getCompletedAfter()), null)
+                .columnIn(ID_COLUMN, taskIds)
+                .columnIn("processInstanceId", processInstanceIds)
+                .columnEquals("processDefinitionKey", query.getProcessDefinitionKey())
+                .columnEquals("tenantId", query.getTenantId())
+                .columnAfter("createTime", query.getCreatedAfter())
+                .columnBefore("createTime", query.getCreatedBefore())
+                .columnAfter("endTime", query.getCompletedAfter())
+                .columnBefore("endTime", query.getCompletedBefore());
+    }
+
+    protected HistoricTaskInstance createHistoricTaskInstance(HistoryArchiveTable table, int row) {
+        HistoricTaskInstanceEntityImpl taskInstance = new HistoricTaskInstanceEntityImpl();
+        taskInstance.setId(table.getString("id", row));
+        taskInstance.setExecutionId(table.getString("executionId", row));
+        taskInstance.setProcessInstanceId(table.getString("processInstanceId", row));
+        taskInstance.setProcessDefinitionId(table.getString("processDefinitionId", row));
+        taskInstance.setTaskDefinitionId(table.getString("taskDefinitionId", row));
+        taskInstance.setTaskDefinitionKey(table.getString("taskDefinitionKey", row));
+        taskInstance.setScopeId(table.getString("scopeId", row));
+        taskInstance.setSubScopeId(table.getString("subScopeId", row));
+        taskInstance.setScopeType(table.getString("scopeType", row));
+        taskInstance.setScopeDefinitionId(table.getString("scopeDefinitionId", row));
+        taskInstance.setName(table.getString("name", row));
+        taskInstance.setDescription(table.getString("description", row));
+        taskInstance.setParentTaskId(table.getString("parentTaskId", row));
+        taskInstance.setOwner(table.getString("owner", row));
+        taskInstance.setAssignee(table.getString("assignee", row));
+        taskInstance.setFormKey(table.getString("formKey", row));
+        Integer priority = table.getInteger("priority", row);
+        if (priority != null) {
+            taskInstance.setPriority(priority);
+        }
+        taskInstance.setCategory(table.getString("category", row));
+        taskInstance.setTenantId(table.getString("tenantId", row));
+        taskInstance.setCreateTime(table.getDate("createTime", row));
+        taskInstance.setClaimTime(table.getDate("claimTime", row));
+        taskInstance.setDueDate(table.getDate("dueDate", row));
+        taskInstance.setEndTime(table.getDate("endTime", row));
+        taskInstance.setDurationInMillis(table.getLong("durationInMillis", row));
+        taskInstance.setDeleteReason(table.getString("deleteReason", row));
+        taskInstance.setLastUpdateTime(table.getDate("lastUpdateTime", row));
+        return taskInstance;
+    }
+
+    protected Collection<String> getIds(String id, Collection<String> ids) {
+        if (id != null) {
+            return Collections.singleton(id);
+        }
+        return ids;
+    }
+
+}
@@ -0,0 +1,52 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.history.archive;
+
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.impl.ArchivedHistoricProcessInstanceQueryImpl;
+import org.flowable.engine.impl.ArchivedHistoricTaskInstanceQueryImpl;
+import org.flowable.task.api.history.HistoricTaskInstance;
+
+/**
+ * Moves the history of finished process instances from the history tables to a {@link org.flowable.common.engine.impl.history.archive.HistoryArchiveStore},
+ * and looks up the archived historic process and task instances.
+ */
+public interface HistoryArchiveManager {
+
+    /**
+     * Archives at most maxProcessInstances historic process instances that finished before the given date,
+     * together with all their related history, and deletes them from the history tables.
+     *
+     * @return the number of archived process instances
+     */
+    int archiveHistoricProcessInstances(Date finishedBefore, int maxProcessInstances, CommandContext commandContext);
+
+    /**
+     * Returns the page of the archived historic process instances matching the query.
+     */
+    List<HistoricProcessInstance> findHistoricProcessInstances(ArchivedHistoricProcessInstanceQueryImpl query);
+
+    long countHistoricProcessInstances(ArchivedHistoricProcessInstanceQueryImpl query);
+
+    /**
+     * Returns the page of the archived historic task instances matching the query.
+     */
+    List<HistoricTaskInstance> findHistoricTaskInstances(ArchivedHistoricTaskInstanceQueryImpl query);
+
+    long countHistoricTaskInstances(ArchivedHistoricTaskInstanceQueryImpl query);
+
+}
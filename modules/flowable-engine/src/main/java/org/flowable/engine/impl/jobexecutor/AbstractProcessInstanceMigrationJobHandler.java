@@ -13,12 +13,15 @@
 package org.flowable.engine.impl.jobexecutor;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.job.service.JobHandler;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 public abstract class AbstractProcessInstanceMigrationJobHandler implements JobHandler {
@@ -28,6 +31,8 @@ public abstract class AbstractProcessInstanceMigrationJobHandler implements JobH
 
     protected static final String CFG_LABEL_BATCH_ID = "batchId";
     protected static final String CFG_LABEL_BATCH_PART_ID = "batchPartId";
+    protected static final String CFG_LABEL_BATCH_PART_IDS = "batchPartIds";
+    protected static final String CFG_LABEL_AFTER_PROCESS_INSTANCE_ID = "afterProcessInstanceId";
     
     protected static String getBatchIdFromHandlerCfg(String handlerCfg) {
         try {
@@ -53,6 +58,35 @@ public abstract class AbstractProcessInstanceMigrationJobHandler implements JobH
         }
     }
     
+    protected static List<String> getBatchPartIdsFromHandlerCfg(String handlerCfg) {
+        List<String> batchPartIds = new ArrayList<>();
+        try {
+            JsonNode cfgAsJson = getObjectMapper().readTree(handlerCfg);
+            if (cfgAsJson.has(CFG_LABEL_BATCH_PART_IDS)) {
+                for (JsonNode batchPartIdNode : cfgAsJson.get(CFG_LABEL_BATCH_PART_IDS)) {
+                    batchPartIds.add(batchPartIdNode.asText());
+                }
+            } else if (cfgAsJson.has(CFG_LABEL_BATCH_PART_ID)) {
+                batchPartIds.add(cfgAsJson.get(CFG_LABEL_BATCH_PART_ID).asText());
+            }
+            return batchPartIds;
+        } catch (IOException e) {
+            return batchPartIds;
+        }
+    }
+
+    protected static String getAfterProcessInstanceIdFromHandlerCfg(String handlerCfg) {
+        try {
+            JsonNode cfgAsJson = getObjectMapper().readTree(handlerCfg);
+            if (cfgAsJson.has(CFG_LABEL_AFTER_PROCESS_INSTANCE_ID)) {
+                return cfgAsJson.get(CFG_LABEL_AFTER_PROCESS_INSTANCE_ID).asText();
+            }
+            return null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
     public static String getHandlerCfgForBatchId(String batchId) {
         ObjectNode handlerCfg = getObjectMapper().createObjectNode();
         handlerCfg.put(CFG_LABEL_BATCH_ID, batchId);
@@ -65,6 +99,22 @@ public abstract class AbstractProcessInstanceMigrationJobHandler implements JobH
         return handlerCfg.toString();
     }
 
+    public static String getHandlerCfgForBatchPartIds(List<String> batchPartIds) {
+        ObjectNode handlerCfg = getObjectMapper().createObjectNode();
+        ArrayNode batchPartIdsNode = handlerCfg.putArray(CFG_LABEL_BATCH_PART_IDS);
+        for (String batchPartId : batchPartIds) {
+            batchPartIdsNode.add(batchPartId);
+        }
+        return handlerCfg.toString();
+    }
+
+    public static String getHandlerCfgForBatchPartsCreation(String batchId, String afterProcessInstanceId) {
+        ObjectNode handlerCfg = getObjectMapper().createObjectNode();
+        handlerCfg.put(CFG_LABEL_BATCH_ID, batchId);
+        handlerCfg.put(CFG_LABEL_AFTER_PROCESS_INSTANCE_ID, afterProcessInstanceId);
+        return handlerCfg.toString();
+    }
+
     protected static ObjectMapper getObjectMapper() {
         if (CommandContextUtil.getCommandContext() != null) {
             return CommandContextUtil.getProcessEngineConfiguration().getObjectMapper();
@@ -0,0 +1,48 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.jobexecutor;
+
+import org.flowable.batch.api.Batch;
+import org.flowable.batch.api.BatchService;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.variable.api.delegate.VariableScope;
+
+/**
+ * Creates the next chunk of batch parts of a process instance migration batch, so that the parts of a batch
+ * with many process instances are not all created in the transaction that submitted the batch.
+ */
+public class ProcessInstanceMigrationBatchPartsCreationJobHandler extends AbstractProcessInstanceMigrationJobHandler {
+
+    public static final String TYPE = "process-migration-batch-parts-creation";
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public void execute(JobEntity job, String configuration, VariableScope variableScope, CommandContext commandContext) {
+        BatchService batchService = CommandContextUtil.getBatchService(commandContext);
+        Batch batch = batchService.getBatch(getBatchIdFromHandlerCfg(configuration));
+        if (batch == null) {
+            // The batch was deleted before all its parts were created
+            return;
+        }
+
+        CommandContextUtil.getProcessEngineConfiguration(commandContext).getProcessInstanceMigrationManager()
+                .createBatchMigrationParts(batch, getAfterProcessInstanceIdFromHandlerCfg(configuration), commandContext);
+    }
+
+}
@@ -43,11 +43,22 @@ public class ProcessInstanceMigrationJobHandler extends AbstractProcessInstanceM
         ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
         ProcessInstanceMigrationManager processInstanceMigrationManager = processEngineConfiguration.getProcessInstanceMigrationManager();
 
-        String batchPartId = getBatchPartIdFromHandlerCfg(configuration);
-        BatchPart batchPart = batchService.getBatchPart(batchPartId);
-        Batch batch = batchService.getBatch(batchPart.getBatchId());
-        ProcessInstanceMigrationDocument migrationDocument = ProcessInstanceMigrationDocumentImpl.fromJson(batch.getBatchDocumentJson());
+        ProcessInstanceMigrationDocument migrationDocument = null;
+        for (String batchPartId : getBatchPartIdsFromHandlerCfg(configuration)) {
+            BatchPart batchPart = batchService.getBatchPart(batchPartId);
+            if (migrationDocument == null) {
+                Batch batch = batchService.getBatch(batchPart.getBatchId());
+                migrationDocument = ProcessInstanceMigrationDocumentImpl.fromJson(batch.getBatchDocumentJson());
+            }
 
+            migrateBatchPart(batchPart, migrationDocument, processInstanceMigrationManager, batchService, commandContext);
+        }
+    }
+
+    protected void migrateBatchPart(BatchPart batchPart, ProcessInstanceMigrationDocument migrationDocument,
+            ProcessInstanceMigrationManager processInstanceMigrationManager, BatchService batchService, CommandContext commandContext) {
+
+        String batchPartId = batchPart.getId();
         String exceptionMessage = null;
         try {
             processInstanceMigrationManager.migrateProcessInstance(batchPart.getScopeId(), migrationDocument, commandContext);
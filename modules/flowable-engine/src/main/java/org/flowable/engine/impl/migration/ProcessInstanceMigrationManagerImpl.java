@@ -29,6 +29,7 @@ import java.util.stream.Collectors;
 import org.flowable.batch.api.Batch;
 import org.flowable.batch.api.BatchPart;
 import org.flowable.batch.api.BatchService;
+import org.flowable.batch.service.impl.persistence.entity.BatchEntity;
 import org.flowable.bpmn.model.BoundaryEvent;
 import org.flowable.bpmn.model.BpmnModel;
 import org.flowable.bpmn.model.CallActivity;
@@ -59,6 +60,7 @@ import org.flowable.engine.impl.dynamic.AbstractDynamicStateManager;
 import org.flowable.engine.impl.dynamic.MoveExecutionEntityContainer;
 import org.flowable.engine.impl.dynamic.ProcessInstanceChangeState;
 import org.flowable.engine.impl.history.HistoryManager;
+import org.flowable.engine.impl.jobexecutor.ProcessInstanceMigrationBatchPartsCreationJobHandler;
 import org.flowable.engine.impl.jobexecutor.ProcessInstanceMigrationJobHandler;
 import org.flowable.engine.impl.jobexecutor.ProcessInstanceMigrationStatusJobHandler;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
@@ -313,9 +315,6 @@ public class ProcessInstanceMigrationManagerImpl extends AbstractDynamicStateMan
         // Check of the target definition exists before submitting the batch
         ProcessDefinition targetProcessDefinition = resolveProcessDefinition(document, commandContext);
 
-        ExecutionEntityManager executionEntityManager = CommandContextUtil.getExecutionEntityManager(commandContext);
-        List<ProcessInstance> processInstances = executionEntityManager.findProcessInstanceByQueryCriteria( new ProcessInstanceQueryImpl().processDefinitionId(sourceProcDefId));
-
         BatchService batchService = CommandContextUtil.getBatchService(commandContext);
         Batch batch = batchService.createBatchBuilder().batchType(Batch.PROCESS_MIGRATION_TYPE)
             .searchKey(sourceProcDefId)
@@ -323,37 +322,98 @@ public class ProcessInstanceMigrationManagerImpl extends AbstractDynamicStateMan
             .status(ProcessInstanceBatchMigrationResult.STATUS_IN_PROGRESS)
             .batchDocumentJson(document.asJsonString())
             .create();
-        
-        JobService jobService = CommandContextUtil.getJobService(commandContext);
-        for (ProcessInstance processInstance : processInstances) {
-            BatchPart batchPart = batchService.createBatchPart(batch, ProcessInstanceBatchMigrationResult.STATUS_WAITING, 
-                            processInstance.getId(), null, ScopeTypes.BPMN);
-            
+
+        // Only the first chunk of batch parts is created in this transaction, the other ones are created by async jobs
+        createBatchMigrationParts(batch, null, commandContext);
+
+        return batch;
+    }
+
+    @Override
+    public void createBatchMigrationParts(Batch batch, String afterProcessInstanceId, CommandContext commandContext) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        int chunkSize = processEngineConfiguration.getBatchMigrationPartsChunkSize();
+        int partsPerJob = processEngineConfiguration.getBatchMigrationPartsPerJob();
+
+        ExecutionEntityManager executionEntityManager = CommandContextUtil.getExecutionEntityManager(commandContext);
+        List<String> processInstanceIds = executionEntityManager.findProcessInstanceIdsByProcessDefinitionId(batch.getBatchSearchKey(),
+                afterProcessInstanceId, chunkSize);
+
+        BatchService batchService = CommandContextUtil.getBatchService(commandContext);
+        List<BatchPart> jobBatchParts = new ArrayList<>(partsPerJob);
+        for (String processInstanceId : processInstanceIds) {
+            jobBatchParts.add(batchService.createBatchPart(batch, ProcessInstanceBatchMigrationResult.STATUS_WAITING,
+                            processInstanceId, null, ScopeTypes.BPMN));
+
+            if (jobBatchParts.size() >= partsPerJob) {
+                createBatchMigrationJob(jobBatchParts, commandContext);
+                jobBatchParts.clear();
+            }
+        }
+
+        if (!jobBatchParts.isEmpty()) {
+            createBatchMigrationJob(jobBatchParts, commandContext);
+        }
+
+        if (processInstanceIds.size() == chunkSize) {
+            // There might be more process instances, which are fetched by id after the last one of this chunk
+            JobService jobService = CommandContextUtil.getJobService(commandContext);
             JobEntity job = jobService.createJob();
-            job.setJobHandlerType(ProcessInstanceMigrationJobHandler.TYPE);
-            job.setProcessInstanceId(processInstance.getId());
-            job.setJobHandlerConfiguration(ProcessInstanceMigrationJobHandler.getHandlerCfgForBatchPartId(batchPart.getId()));
+            job.setJobHandlerType(ProcessInstanceMigrationBatchPartsCreationJobHandler.TYPE);
+            job.setJobHandlerConfiguration(ProcessInstanceMigrationBatchPartsCreationJobHandler.getHandlerCfgForBatchPartsCreation(
+                    batch.getId(), processInstanceIds.get(processInstanceIds.size() - 1)));
             jobService.createAsyncJob(job, false);
             jobService.scheduleAsyncJob(job);
+
+            updateBatchStatus(batch, ProcessInstanceBatchMigrationResult.STATUS_CREATING, batchService);
+
+        } else {
+            if (afterProcessInstanceId != null) {
+                updateBatchStatus(batch, ProcessInstanceBatchMigrationResult.STATUS_IN_PROGRESS, batchService);
+            }
+
+            if (afterProcessInstanceId != null || !processInstanceIds.isEmpty()) {
+                TimerJobService timerJobService = CommandContextUtil.getTimerJobService(commandContext);
+                TimerJobEntity timerJob = timerJobService.createTimerJob();
+                timerJob.setJobType(JobEntity.JOB_TYPE_TIMER);
+                timerJob.setRevision(1);
+                timerJob.setJobHandlerType(ProcessInstanceMigrationStatusJobHandler.TYPE);
+                timerJob.setJobHandlerConfiguration(ProcessInstanceMigrationJobHandler.getHandlerCfgForBatchId(batch.getId()));
+
+                BusinessCalendar businessCalendar = processEngineConfiguration.getBusinessCalendarManager().getBusinessCalendar(CycleBusinessCalendar.NAME);
+                timerJob.setDuedate(businessCalendar.resolveDuedate(processEngineConfiguration.getBatchStatusTimeCycleConfig()));
+                timerJob.setRepeat(processEngineConfiguration.getBatchStatusTimeCycleConfig());
+
+                timerJobService.scheduleTimerJob(timerJob);
+            }
         }
-        
-        if (!processInstances.isEmpty()) {
-            TimerJobService timerJobService = CommandContextUtil.getTimerJobService(commandContext);
-            TimerJobEntity timerJob = timerJobService.createTimerJob();
-            timerJob.setJobType(JobEntity.JOB_TYPE_TIMER);
-            timerJob.setRevision(1);
-            timerJob.setJobHandlerType(ProcessInstanceMigrationStatusJobHandler.TYPE);
-            timerJob.setJobHandlerConfiguration(ProcessInstanceMigrationJobHandler.getHandlerCfgForBatchId(batch.getId()));
-            
-            ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
-            BusinessCalendar businessCalendar = processEngineConfiguration.getBusinessCalendarManager().getBusinessCalendar(CycleBusinessCalendar.NAME);
-            timerJob.setDuedate(businessCalendar.resolveDuedate(processEngineConfiguration.getBatchStatusTimeCycleConfig()));
-            timerJob.setRepeat(processEngineConfiguration.getBatchStatusTimeCycleConfig());
-            
-            timerJobService.scheduleTimerJob(timerJob);
+    }
+
+    protected void createBatchMigrationJob(List<BatchPart> batchParts, CommandContext commandContext) {
+        JobService jobService = CommandContextUtil.getJobService(commandContext);
+        JobEntity job = jobService.createJob();
+        job.setJobHandlerType(ProcessInstanceMigrationJobHandler.TYPE);
+        if (batchParts.size() == 1) {
+            BatchPart batchPart = batchParts.get(0);
+            job.setProcessInstanceId(batchPart.getScopeId());
+            job.setJobHandlerConfiguration(ProcessInstanceMigrationJobHandler.getHandlerCfgForBatchPartId(batchPart.getId()));
+
+        } else {
+            List<String> batchPartIds = new ArrayList<>(batchParts.size());
+            for (BatchPart batchPart : batchParts) {
+                batchPartIds.add(batchPart.getId());
+            }
+            job.setJobHandlerConfiguration(ProcessInstanceMigrationJobHandler.getHandlerCfgForBatchPartIds(batchPartIds));
         }
+        jobService.createAsyncJob(job, false);
+        jobService.scheduleAsyncJob(job);
+    }
 
-        return batch;
+    protected void updateBatchStatus(Batch batch, String status, BatchService batchService) {
+        if (!status.equals(batch.getStatus())) {
+            ((BatchEntity) batch).setStatus(status);
+            batchService.updateBatch(batch);
+        }
     }
 
     @Override
@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -41,6 +42,11 @@ public interface ActivityInstanceEntityManager extends EntityManager<ActivityIns
 
     void deleteActivityInstancesByProcessInstanceId(String processInstanceId);
 
+    /**
+     * Deletes the activity instances of the given process instances with a set-based delete, without checking the entity cache.
+     */
+    void deleteActivityInstancesByProcessInstanceIds(Collection<String> processInstanceIds);
+
     /**
      * Record Activity end, if activity event logging is enabled.
      *
@@ -15,6 +15,7 @@ package org.flowable.engine.impl.persistence.entity;
 
 import static org.flowable.engine.impl.util.CommandContextUtil.getEntityCache;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -64,6 +65,11 @@ public class ActivityInstanceEntityManagerImpl
         dataManager.deleteActivityInstancesByProcessInstanceId(processInstanceId);
     }
 
+    @Override
+    public void deleteActivityInstancesByProcessInstanceIds(Collection<String> processInstanceIds) {
+        dataManager.deleteActivityInstancesByProcessInstanceIds(processInstanceIds);
+    }
+
     @Override
     public long findActivityInstanceCountByQueryCriteria(ActivityInstanceQueryImpl historicActivityInstanceQuery) {
         return dataManager.findActivityInstanceCountByQueryCriteria(historicActivityInstanceQuery);
@@ -94,11 +100,12 @@ public class ActivityInstanceEntityManagerImpl
 
     @Override
     public void recordActivityEnd(ExecutionEntity executionEntity, String deleteReason) {
-        ActivityInstance activityInstance = recordActivityInstanceEnd(executionEntity, deleteReason);
+        ActivityInstanceEntity activityInstance = recordActivityInstanceEnd(executionEntity, deleteReason);
         if (activityInstance == null) {
             getHistoryManager().recordActivityEnd(executionEntity, deleteReason, getClock().getCurrentTime());
         } else {
             getHistoryManager().recordActivityEnd(activityInstance);
+            coalesceEndedActivityInstance(activityInstance);
         }
     }
 
@@ -108,6 +115,18 @@ public class ActivityInstanceEntityManagerImpl
         activityInstance.setDurationInMillis(0l);
         activityInstance.setEndTime(activityInstance.getStartTime());
         getHistoryManager().createHistoricActivityInstance(activityInstance);
+        coalesceEndedActivityInstance(activityInstance);
+    }
+
+    /**
+     * When activity instance coalescing is enabled, an activity instance that was inserted in the current command and is now ended
+     * is deleted again. The insert and the delete cancel each other when the session is flushed, so the runtime activity instance
+     * never reaches the database. It stays in the entity cache for the rest of the command though.
+     */
+    protected void coalesceEndedActivityInstance(ActivityInstanceEntity activityInstance) {
+        if (engineConfiguration.isEnableActivityInstanceCoalescing() && activityInstance.isInserted() && activityInstance.getEndTime() != null) {
+            delete(activityInstance, false);
+        }
     }
 
     @Override
@@ -234,7 +253,7 @@ public class ActivityInstanceEntityManagerImpl
         return activityInstance;
     }
 
-    protected ActivityInstance recordActivityInstanceEnd(ExecutionEntity executionEntity, String deleteReason) {
+    protected ActivityInstanceEntity recordActivityInstanceEnd(ExecutionEntity executionEntity, String deleteReason) {
         ActivityInstanceEntity activityInstance = findUnfinishedActivityInstance(executionEntity);
         if (activityInstance != null) {
             activityInstance.markEnded(deleteReason);
@@ -327,7 +346,7 @@ public class ActivityInstanceEntityManagerImpl
     }
 
     protected ActivityInstanceEntity getActivityInstanceFromCache(String executionId, String activityId, boolean endTimeMustBeNull) {
-        List<ActivityInstanceEntity> cachedActivityInstances = getEntityCache().findInCache(ActivityInstanceEntity.class);
+        Collection<ActivityInstanceEntity> cachedActivityInstances = getEntityCache().findInCacheAsView(ActivityInstanceEntity.class);
         for (ActivityInstanceEntity cachedActivityInstance : cachedActivityInstances) {
             if (activityId != null
                 && activityId.equals(cachedActivityInstance.getActivityId())
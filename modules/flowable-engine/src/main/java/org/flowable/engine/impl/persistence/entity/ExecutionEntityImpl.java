@@ -19,6 +19,7 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 import org.flowable.bpmn.model.FlowElement;
 import org.flowable.bpmn.model.FlowableListener;
@@ -307,10 +308,10 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     public void setCurrentFlowElement(FlowElement currentFlowElement) {
         this.currentFlowElement = currentFlowElement;
         if (currentFlowElement != null) {
-            this.activityId = currentFlowElement.getId();
+            setActivityId(currentFlowElement.getId());
             this.activityName = currentFlowElement.getName();
         } else {
-            this.activityId = null;
+            setActivityId(null);
             this.activityName = null;
         }
     }
@@ -446,7 +447,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     public void setProcessInstance(ExecutionEntity processInstance) {
         this.processInstance = (ExecutionEntityImpl) processInstance;
         if (processInstance != null) {
-            this.processInstanceId = this.processInstance.getId();
+            setProcessInstanceId(this.processInstance.getId());
         }
     }
 
@@ -475,9 +476,9 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
         this.parent = (ExecutionEntityImpl) parent;
 
         if (parent != null) {
-            this.parentId = parent.getId();
+            setParentId(parent.getId());
         } else {
-            this.parentId = null;
+            setParentId(null);
         }
     }
 
@@ -552,9 +553,9 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
         this.rootProcessInstance = (ExecutionEntityImpl) rootProcessInstance;
 
         if (rootProcessInstance != null) {
-            this.rootProcessInstanceId = rootProcessInstance.getId();
+            setRootProcessInstanceId(rootProcessInstance.getId());
         } else {
-            this.rootProcessInstanceId = null;
+            setRootProcessInstanceId(null);
         }
     }
 
@@ -565,7 +566,11 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setRootProcessInstanceId(String rootProcessInstanceId) {
+        boolean changed = !Objects.equals(this.rootProcessInstanceId, rootProcessInstanceId);
         this.rootProcessInstanceId = rootProcessInstanceId;
+        if (changed) {
+            updateEntityCacheIndexes();
+        }
     }
 
     // scopes ///////////////////////////////////////////////////////////////////
@@ -915,7 +920,11 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setProcessInstanceId(String processInstanceId) {
+        boolean changed = !Objects.equals(this.processInstanceId, processInstanceId);
         this.processInstanceId = processInstanceId;
+        if (changed) {
+            updateEntityCacheIndexes();
+        }
     }
 
     @Override
@@ -925,7 +934,24 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setParentId(String parentId) {
+        boolean changed = !Objects.equals(this.parentId, parentId);
         this.parentId = parentId;
+        if (changed) {
+            updateEntityCacheIndexes();
+        }
+    }
+
+    /**
+     * The entity cache indexes executions on their parent, process instance, root process instance and activity id,
+     * so these need to be updated when one of these changes for an execution that is already cached.
+     */
+    protected void updateEntityCacheIndexes() {
+        if (id != null) {
+            CommandContext commandContext = Context.getCommandContext();
+            if (commandContext != null) {
+                CommandContextUtil.getEntityCache(commandContext).updateIndexes(this);
+            }
+        }
     }
 
     @Override
@@ -934,7 +960,11 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     }
     
     public void setActivityId(String activityId) {
+        boolean changed = !Objects.equals(this.activityId, activityId);
         this.activityId = activityId;
+        if (changed) {
+            updateEntityCacheIndexes();
+        }
     }
 
     @Override
@@ -86,6 +86,18 @@ public interface ExecutionEntityManager extends EntityManager<ExecutionEntity> {
 
     String updateProcessInstanceBusinessKey(ExecutionEntity executionEntity, String businessKey);
 
+    /**
+     * Returns at most maxResults ids of the process instances of the given process definition, ordered by id and starting
+     * after the given process instance id (or from the start when null is passed), so that all ids can be fetched in pages
+     * without an offset.
+     */
+    List<String> findProcessInstanceIdsByProcessDefinitionId(String processDefinitionId, String afterProcessInstanceId, int maxResults);
+
+    /**
+     * Returns the revision of every execution of the given process instance (including the process instance itself), by execution id.
+     */
+    Map<String, Integer> findExecutionRevisionsByProcessInstanceId(String processInstanceId);
+
     void deleteProcessInstancesByProcessDefinition(String processDefinitionId, String deleteReason, boolean cascade);
 
     void deleteProcessInstance(String processInstanceId, String deleteReason, boolean cascade);
@@ -108,4 +120,10 @@ public interface ExecutionEntityManager extends EntityManager<ExecutionEntity> {
 
     void clearProcessInstanceLockTime(String processInstanceId);
 
+    /**
+     * Deletes all executions of the given process instances with set-based deletes, without executing listeners, dispatching events or recording history.
+     * All other runtime data referencing these executions needs to be deleted in the same transaction.
+     */
+    void deleteExecutionsByProcessInstanceIds(Collection<String> processInstanceIds);
+
 }
\ No newline at end of file
@@ -414,6 +414,16 @@ public class ExecutionEntityManagerImpl
         dataManager.updateExecutionTenantIdForDeployment(deploymentId, newTenantId);
     }
 
+    @Override
+    public List<String> findProcessInstanceIdsByProcessDefinitionId(String processDefinitionId, String afterProcessInstanceId, int maxResults) {
+        return dataManager.findProcessInstanceIdsByProcessDefinitionId(processDefinitionId, afterProcessInstanceId, maxResults);
+    }
+
+    @Override
+    public Map<String, Integer> findExecutionRevisionsByProcessInstanceId(String processInstanceId) {
+        return dataManager.findExecutionRevisionsByProcessInstanceId(processInstanceId);
+    }
+
     // DELETE METHODS
 
     @Override
@@ -1016,4 +1026,9 @@ public class ExecutionEntityManagerImpl
         return engineConfiguration.getActivityInstanceEntityManager();
     }
 
+    @Override
+    public void deleteExecutionsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        dataManager.deleteExecutionsByProcessInstanceIds(processInstanceIds);
+    }
+
 }
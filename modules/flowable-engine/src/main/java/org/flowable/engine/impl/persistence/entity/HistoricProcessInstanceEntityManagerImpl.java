@@ -16,6 +16,7 @@ package org.flowable.engine.impl.persistence.entity;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import org.flowable.engine.history.HistoricProcessInstance;
 import org.flowable.engine.impl.HistoricProcessInstanceQueryImpl;
@@ -66,6 +67,14 @@ public class HistoricProcessInstanceEntityManagerImpl
         return Collections.EMPTY_LIST;
     }
 
+    @Override
+    public Stream<HistoricProcessInstance> streamHistoricProcessInstancesByQueryCriteria(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery) {
+        if (getHistoryManager().isHistoryEnabled()) {
+            return dataManager.streamHistoricProcessInstancesByQueryCriteria(historicProcessInstanceQuery);
+        }
+        return Stream.empty();
+    }
+
     @Override
     public List<HistoricProcessInstance> findHistoricProcessInstancesByNativeQuery(Map<String, Object> parameterMap) {
         return dataManager.findHistoricProcessInstancesByNativeQuery(parameterMap);
@@ -57,6 +57,10 @@ public interface ExecutionDataManager extends DataManager<ExecutionEntity> {
 
     List<String> findProcessInstanceIdsByProcessDefinitionId(String processDefinitionId);
 
+    List<String> findProcessInstanceIdsByProcessDefinitionId(String processDefinitionId, String afterProcessInstanceId, int maxResults);
+
+    Map<String, Integer> findExecutionRevisionsByProcessInstanceId(String processInstanceId);
+
     List<Execution> findExecutionsByNativeQuery(Map<String, Object> parameterMap);
 
     List<ProcessInstance> findProcessInstanceByNativeQuery(Map<String, Object> parameterMap);
@@ -71,4 +75,6 @@ public interface ExecutionDataManager extends DataManager<ExecutionEntity> {
 
     void clearProcessInstanceLockTime(String processInstanceId);
 
+    void deleteExecutionsByProcessInstanceIds(Collection<String> processInstanceIds);
+
 }
@@ -12,6 +12,8 @@
  */
 package org.flowable.engine.impl.persistence.entity.data.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -76,6 +78,11 @@ public class MybatisActivityInstanceDataManager extends AbstractProcessDataManag
         }
     }
 
+    @Override
+    public void deleteActivityInstancesByProcessInstanceIds(Collection<String> processInstanceIds) {
+        getDbSqlSession().delete("deleteActivityInstancesByProcessInstanceIds", new ArrayList<>(processInstanceIds), ActivityInstanceEntityImpl.class);
+    }
+
     @Override
     public long findActivityInstanceCountByQueryCriteria(ActivityInstanceQueryImpl activityInstanceQuery) {
         return (Long) getDbSqlSession().selectOne("selectActivityInstanceCountByQueryCriteria", activityInstanceQuery);
@@ -12,14 +12,16 @@
  */
 package org.flowable.engine.impl.persistence.entity.data.impl;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 import org.flowable.common.engine.api.FlowableOptimisticLockingException;
+import org.flowable.common.engine.impl.db.ListQueryParameterObject;
 import org.flowable.common.engine.impl.db.SingleCachedEntityMatcher;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcher;
 import org.flowable.engine.impl.ExecutionQueryImpl;
@@ -41,9 +43,12 @@ import org.flowable.engine.impl.persistence.entity.data.impl.cachematcher.Inacti
 import org.flowable.engine.impl.persistence.entity.data.impl.cachematcher.InactiveExecutionsInActivityMatcher;
 import org.flowable.engine.impl.persistence.entity.data.impl.cachematcher.ProcessInstancesByProcessDefinitionMatcher;
 import org.flowable.engine.impl.persistence.entity.data.impl.cachematcher.SubProcessInstanceExecutionBySuperExecutionIdMatcher;
+import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.engine.impl.util.ProcessDefinitionUtil;
 import org.flowable.engine.runtime.Execution;
 import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.variable.service.impl.QueryResultVariablesCriteria;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 
 /**
  * @author Joram Barrez
@@ -221,6 +226,27 @@ public class MybatisExecutionDataManager extends AbstractProcessDataManager<Exec
         return getDbSqlSession().selectListNoCacheLoadAndStore("selectProcessInstanceIdsByProcessDefinitionId", processDefinitionId);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> findProcessInstanceIdsByProcessDefinitionId(String processDefinitionId, String afterProcessInstanceId, int maxResults) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("processDefinitionId", processDefinitionId);
+        params.put("afterProcessInstanceId", afterProcessInstanceId);
+        return getDbSqlSession().selectListWithRawParameterNoCacheLoadAndStore("selectProcessInstanceIdsByProcessDefinitionIdAfterId",
+                new ListQueryParameterObject(params, 0, maxResults));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map<String, Integer> findExecutionRevisionsByProcessInstanceId(String processInstanceId) {
+        List<Map<String, Object>> executionRevisions = getDbSqlSession().selectListNoCacheLoadAndStore("selectExecutionRevisionsByProcessInstanceId", processInstanceId);
+        Map<String, Integer> revisions = new LinkedHashMap<>();
+        for (Map<String, Object> executionRevision : executionRevisions) {
+            revisions.put((String) executionRevision.get("id"), (Integer) executionRevision.get("revision"));
+        }
+        return revisions;
+    }
+
     @Override
     public long findExecutionCountByQueryCriteria(ExecutionQueryImpl executionQuery) {
         return (Long) getDbSqlSession().selectOne("selectExecutionCountByQueryCriteria", executionQuery);
@@ -258,37 +284,33 @@ public class MybatisExecutionDataManager extends AbstractProcessDataManager<Exec
     @Override
     @SuppressWarnings("unchecked")
     public List<ProcessInstance> findProcessInstanceAndVariablesByQueryCriteria(ProcessInstanceQueryImpl executionQuery) {
-        // paging doesn't work for combining process instances and variables due
-        // to an outer join, so doing it in-memory
-
-        int firstResult = executionQuery.getFirstResult();
-        int maxResults = executionQuery.getMaxResults();
-
-        // setting max results, limit to 20000 results for performance reasons
-        if (executionQuery.getProcessInstanceVariablesLimit() != null) {
-            executionQuery.setMaxResults(executionQuery.getProcessInstanceVariablesLimit());
-        } else {
-            executionQuery.setMaxResults(getProcessEngineConfiguration().getExecutionQueryLimit());
+        // The variables are fetched in a separate query for the page of process instances, instead of outer joining them
+        // in the process instance query, so that the paging can be done by the database
+        List<ProcessInstance> processInstances = getDbSqlSession().selectListWithRawParameterNoCacheLoadAndStore(
+                        "selectProcessInstanceByQueryCriteria", executionQuery, getManagedEntityClass());
+
+        // A process instance returned from the entity cache (query by id) is returned as is
+        Map<String, ExecutionEntityImpl> processInstancesById = new LinkedHashMap<>();
+        for (ProcessInstance processInstance : processInstances) {
+            if (getEntityCache().findInCache(getManagedEntityClass(), processInstance.getId()) != processInstance) {
+                processInstancesById.put(processInstance.getId(), (ExecutionEntityImpl) processInstance);
+            }
         }
-        executionQuery.setFirstResult(0);
-
-        List<ProcessInstance> instanceList = getDbSqlSession().selectListWithRawParameterNoCacheLoadAndStore(
-                        "selectProcessInstanceWithVariablesByQueryCriteria", executionQuery, getManagedEntityClass());
-
-        if (instanceList != null && !instanceList.isEmpty()) {
-            if (firstResult > 0) {
-                if (firstResult <= instanceList.size()) {
-                    int toIndex = firstResult + Math.min(maxResults, instanceList.size() - firstResult);
-                    return instanceList.subList(firstResult, toIndex);
-                } else {
-                    return Collections.EMPTY_LIST;
+
+        if (!processInstancesById.isEmpty()) {
+            List<VariableInstanceEntity> variableInstances = CommandContextUtil.getVariableService()
+                    .findVariableInstancesForQueryResults(new QueryResultVariablesCriteria()
+                            .executionIds(processInstancesById.keySet())
+                            .variableNames(executionQuery.getVariableNamesToInclude()));
+            for (VariableInstanceEntity variableInstance : variableInstances) {
+                ExecutionEntityImpl processInstance = processInstancesById.get(variableInstance.getExecutionId());
+                if (processInstance != null) {
+                    processInstance.getQueryVariables().add(variableInstance);
                 }
-            } else {
-                int toIndex = maxResults > 0 ?  Math.min(maxResults, instanceList.size()) : instanceList.size();
-                return instanceList.subList(0, toIndex);
             }
         }
-        return Collections.EMPTY_LIST;
+
+        return processInstances;
     }
 
     @Override
@@ -340,5 +362,17 @@ public class MybatisExecutionDataManager extends AbstractProcessDataManager<Exec
         params.put("id", processInstanceId);
         getDbSqlSession().update("clearProcessInstanceLockTime", params);
     }
-    
+
+    @Override
+    public void deleteExecutionsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        List<String> ids = new ArrayList<>(processInstanceIds);
+
+        // Child executions can reference each other as parent, which would make the set-based delete fail on the foreign key
+        getDbSqlSession().update("updateChildExecutionParentIdsToNullByProcessInstanceIds", ids);
+
+        // The bulk deletes of one entity type are executed in the order they were added, so the child executions are deleted before the process instances
+        getDbSqlSession().delete("deleteChildExecutionsByProcessInstanceIds", ids, ExecutionEntityImpl.class);
+        getDbSqlSession().delete("deleteProcessInstanceExecutionsByIds", ids, ExecutionEntityImpl.class);
+    }
+
 }
@@ -12,9 +12,10 @@
  */
 package org.flowable.engine.impl.persistence.entity.data.impl;
 
-import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import org.flowable.engine.history.HistoricProcessInstance;
 import org.flowable.engine.impl.HistoricProcessInstanceQueryImpl;
@@ -24,6 +25,9 @@ import org.flowable.engine.impl.persistence.entity.HistoricProcessInstanceEntity
 import org.flowable.engine.impl.persistence.entity.HistoricProcessInstanceEntityImpl;
 import org.flowable.engine.impl.persistence.entity.data.AbstractProcessDataManager;
 import org.flowable.engine.impl.persistence.entity.data.HistoricProcessInstanceDataManager;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.variable.service.impl.QueryResultVariablesCriteria;
+import org.flowable.variable.service.impl.persistence.entity.HistoricVariableInstanceEntity;
 
 /**
  * @author Joram Barrez
@@ -72,41 +76,42 @@ public class MybatisHistoricProcessInstanceDataManager extends AbstractProcessDa
         return getDbSqlSession().selectList("selectHistoricProcessInstancesByQueryCriteria", historicProcessInstanceQuery, getManagedEntityClass());
     }
 
+    @Override
+    public Stream<HistoricProcessInstance> streamHistoricProcessInstancesByQueryCriteria(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery) {
+        return getDbSqlSession().selectStreamNoCacheLoadAndStore("selectHistoricProcessInstancesByQueryCriteria", historicProcessInstanceQuery);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<HistoricProcessInstance> findHistoricProcessInstancesAndVariablesByQueryCriteria(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery) {
-        // paging doesn't work for combining process instances and variables
-        // due to an outer join, so doing it in-memory
-
-        int firstResult = historicProcessInstanceQuery.getFirstResult();
-        int maxResults = historicProcessInstanceQuery.getMaxResults();
-
-        // setting max results, limit to 20000 results for performance reasons
-        if (historicProcessInstanceQuery.getProcessInstanceVariablesLimit() != null) {
-            historicProcessInstanceQuery.setMaxResults(historicProcessInstanceQuery.getProcessInstanceVariablesLimit());
-        } else {
-            historicProcessInstanceQuery.setMaxResults(getProcessEngineConfiguration().getHistoricProcessInstancesQueryLimit());
+        // The variables are fetched in a separate query for the page of process instances, instead of outer joining them
+        // in the process instance query, so that the paging can be done by the database
+        List<HistoricProcessInstance> historicProcessInstances = getDbSqlSession().selectListWithRawParameterNoCacheLoadAndStore(
+                        "selectHistoricProcessInstancesByQueryCriteria", historicProcessInstanceQuery, getManagedEntityClass());
+
+        // A process instance returned from the entity cache (query by id) gets its variables from the cache in the query itself
+        Map<String, HistoricProcessInstanceEntity> historicProcessInstancesByProcessInstanceId = new LinkedHashMap<>();
+        for (HistoricProcessInstance historicProcessInstance : historicProcessInstances) {
+            if (getEntityCache().findInCache(getManagedEntityClass(), historicProcessInstance.getId()) != historicProcessInstance) {
+                HistoricProcessInstanceEntity historicProcessInstanceEntity = (HistoricProcessInstanceEntity) historicProcessInstance;
+                historicProcessInstancesByProcessInstanceId.put(historicProcessInstanceEntity.getProcessInstanceId(), historicProcessInstanceEntity);
+            }
         }
-        historicProcessInstanceQuery.setFirstResult(0);
-
-        List<HistoricProcessInstance> instanceList = getDbSqlSession().selectListWithRawParameterNoCacheLoadAndStore(
-                        "selectHistoricProcessInstancesWithVariablesByQueryCriteria", historicProcessInstanceQuery, getManagedEntityClass());
-
-        if (instanceList != null && !instanceList.isEmpty()) {
-            if (firstResult > 0) {
-                if (firstResult <= instanceList.size()) {
-                    int toIndex = firstResult + Math.min(maxResults, instanceList.size() - firstResult);
-                    return instanceList.subList(firstResult, toIndex);
-                } else {
-                    return Collections.EMPTY_LIST;
+
+        if (!historicProcessInstancesByProcessInstanceId.isEmpty()) {
+            List<HistoricVariableInstanceEntity> historicVariableInstances = CommandContextUtil.getHistoricVariableService()
+                    .findHistoricVariableInstancesForQueryResults(new QueryResultVariablesCriteria()
+                            .executionIds(historicProcessInstancesByProcessInstanceId.keySet())
+                            .variableNames(historicProcessInstanceQuery.getVariableNamesToInclude()));
+            for (HistoricVariableInstanceEntity historicVariableInstance : historicVariableInstances) {
+                HistoricProcessInstanceEntity historicProcessInstance = historicProcessInstancesByProcessInstanceId.get(historicVariableInstance.getExecutionId());
+                if (historicProcessInstance != null) {
+                    historicProcessInstance.getQueryVariables().add(historicVariableInstance);
                 }
-            } else {
-                int toIndex = maxResults > 0 ?  Math.min(maxResults, instanceList.size()) : instanceList.size();
-                return instanceList.subList(0, toIndex);
             }
         }
 
-        return instanceList;
+        return historicProcessInstances;
     }
 
     @Override
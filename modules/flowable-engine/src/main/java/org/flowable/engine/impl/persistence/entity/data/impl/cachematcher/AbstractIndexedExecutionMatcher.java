@@ -0,0 +1,58 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.entity.data.impl.cachematcher;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcherAdapter;
+import org.flowable.common.engine.impl.persistence.cache.IndexedCachedEntityMatcher;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+
+/**
+ * Base class for the execution matchers that can use one of the execution indexes of the entity cache.
+ * The indexed attributes are kept up to date by the {@link org.flowable.engine.impl.persistence.entity.ExecutionEntityImpl} setters.
+ */
+public abstract class AbstractIndexedExecutionMatcher extends CachedEntityMatcherAdapter<ExecutionEntity> implements IndexedCachedEntityMatcher<ExecutionEntity> {
+
+    public static final String PARENT_ID_INDEX = "parentId";
+    public static final String PROCESS_INSTANCE_ID_INDEX = "processInstanceId";
+    public static final String ROOT_PROCESS_INSTANCE_ID_INDEX = "rootProcessInstanceId";
+    public static final String ACTIVITY_ID_INDEX = "activityId";
+
+    protected String indexName;
+
+    protected AbstractIndexedExecutionMatcher(String indexName) {
+        this.indexName = indexName;
+    }
+
+    @Override
+    public String getIndexName() {
+        return indexName;
+    }
+
+    @Override
+    public String getIndexValue(ExecutionEntity entity) {
+        switch (indexName) {
+            case PARENT_ID_INDEX:
+                return entity.getParentId();
+            case PROCESS_INSTANCE_ID_INDEX:
+                return entity.getProcessInstanceId();
+            case ROOT_PROCESS_INSTANCE_ID_INDEX:
+                return entity.getRootProcessInstanceId();
+            case ACTIVITY_ID_INDEX:
+                return entity.getActivityId();
+            default:
+                throw new FlowableIllegalArgumentException("Unknown execution index " + indexName);
+        }
+    }
+
+}
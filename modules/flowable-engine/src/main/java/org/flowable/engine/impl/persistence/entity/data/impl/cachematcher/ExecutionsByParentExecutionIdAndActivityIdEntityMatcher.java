@@ -15,13 +15,16 @@ package org.flowable.engine.impl.persistence.entity.data.impl.cachematcher;
 import java.util.Collection;
 import java.util.Map;
 
-import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcherAdapter;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 
 /**
  * @author Joram Barrez
  */
-public class ExecutionsByParentExecutionIdAndActivityIdEntityMatcher extends CachedEntityMatcherAdapter<ExecutionEntity> {
+public class ExecutionsByParentExecutionIdAndActivityIdEntityMatcher extends AbstractIndexedExecutionMatcher {
+
+    public ExecutionsByParentExecutionIdAndActivityIdEntityMatcher() {
+        super(ACTIVITY_ID_INDEX);
+    }
 
     @Override
     public boolean isRetained(ExecutionEntity executionEntity, Object parameter) {
@@ -33,4 +36,17 @@ public class ExecutionsByParentExecutionIdAndActivityIdEntityMatcher extends Cac
                 && executionEntity.getActivityId() != null && activityIds.contains(executionEntity.getActivityId());
     }
 
-}
\ No newline at end of file
+    @Override
+    @SuppressWarnings("unchecked")
+    public String getIndexValueForParameter(Object parameter) {
+        Collection<String> activityIds = (Collection<String>) ((Map<String, Object>) parameter).get("activityIds");
+        return activityIds != null && activityIds.size() == 1 ? activityIds.iterator().next() : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Collection<String> getIndexValuesForParameter(Object parameter) {
+        return (Collection<String>) ((Map<String, Object>) parameter).get("activityIds");
+    }
+
+}
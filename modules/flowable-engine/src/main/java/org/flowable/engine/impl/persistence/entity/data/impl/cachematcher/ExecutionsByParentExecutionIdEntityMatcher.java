@@ -12,13 +12,16 @@
  */
 package org.flowable.engine.impl.persistence.entity.data.impl.cachematcher;
 
-import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcherAdapter;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 
 /**
  * @author Joram Barrez
  */
-public class ExecutionsByParentExecutionIdEntityMatcher extends CachedEntityMatcherAdapter<ExecutionEntity> {
+public class ExecutionsByParentExecutionIdEntityMatcher extends AbstractIndexedExecutionMatcher {
+
+    public ExecutionsByParentExecutionIdEntityMatcher() {
+        super(PARENT_ID_INDEX);
+    }
 
     @Override
     public boolean isRetained(ExecutionEntity entity, Object parameter) {
@@ -26,4 +29,9 @@ public class ExecutionsByParentExecutionIdEntityMatcher extends CachedEntityMatc
         return entity.getParentId() != null && entity.getParentId().equals((String) parameter);
     }
 
-}
\ No newline at end of file
+    @Override
+    public String getIndexValueForParameter(Object parameter) {
+        return (String) parameter;
+    }
+
+}
@@ -12,17 +12,25 @@
  */
 package org.flowable.engine.impl.persistence.entity.data.impl.cachematcher;
 
-import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcherAdapter;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 
 /**
  * @author Joram Barrez
  */
-public class ExecutionsByRootProcessInstanceMatcher extends CachedEntityMatcherAdapter<ExecutionEntity> {
+public class ExecutionsByRootProcessInstanceMatcher extends AbstractIndexedExecutionMatcher {
+
+    public ExecutionsByRootProcessInstanceMatcher() {
+        super(ROOT_PROCESS_INSTANCE_ID_INDEX);
+    }
 
     @Override
     public boolean isRetained(ExecutionEntity entity, Object parameter) {
         return entity.getRootProcessInstanceId() != null && entity.getRootProcessInstanceId().equals((String) parameter);
     }
 
-}
\ No newline at end of file
+    @Override
+    public String getIndexValueForParameter(Object parameter) {
+        return (String) parameter;
+    }
+
+}
@@ -14,13 +14,16 @@ package org.flowable.engine.impl.persistence.entity.data.impl.cachematcher;
 
 import java.util.Map;
 
-import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcherAdapter;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 
 /**
  * @author Joram Barrez
  */
-public class InactiveExecutionsInActivityAndProcInstMatcher extends CachedEntityMatcherAdapter<ExecutionEntity> {
+public class InactiveExecutionsInActivityAndProcInstMatcher extends AbstractIndexedExecutionMatcher {
+
+    public InactiveExecutionsInActivityAndProcInstMatcher() {
+        super(ACTIVITY_ID_INDEX);
+    }
 
     @Override
     public boolean isRetained(ExecutionEntity executionEntity, Object parameter) {
@@ -35,4 +38,10 @@ public class InactiveExecutionsInActivityAndProcInstMatcher extends CachedEntity
                 && executionEntity.getActivityId().equals(activityId);
     }
 
-}
\ No newline at end of file
+    @Override
+    @SuppressWarnings("unchecked")
+    public String getIndexValueForParameter(Object parameter) {
+        return (String) ((Map<String, Object>) parameter).get("activityId");
+    }
+
+}
@@ -14,13 +14,16 @@ package org.flowable.engine.impl.persistence.entity.data.impl.cachematcher;
 
 import java.util.Map;
 
-import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcherAdapter;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 
 /**
  * @author Joram Barrez
  */
-public class InactiveExecutionsInActivityMatcher extends CachedEntityMatcherAdapter<ExecutionEntity> {
+public class InactiveExecutionsInActivityMatcher extends AbstractIndexedExecutionMatcher {
+
+    public InactiveExecutionsInActivityMatcher() {
+        super(ACTIVITY_ID_INDEX);
+    }
 
     @Override
     public boolean isRetained(ExecutionEntity entity, Object parameter) {
@@ -29,4 +32,10 @@ public class InactiveExecutionsInActivityMatcher extends CachedEntityMatcherAdap
         return !entity.isActive() && entity.getActivityId() != null && entity.getActivityId().equals(activityId);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public String getIndexValueForParameter(Object parameter) {
+        return (String) ((Map<String, Object>) parameter).get("activityId");
+    }
+
 }
\ No newline at end of file
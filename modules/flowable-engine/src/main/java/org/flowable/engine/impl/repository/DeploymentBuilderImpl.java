@@ -52,6 +52,7 @@ public class DeploymentBuilderImpl implements DeploymentBuilder, Serializable {
     protected boolean isBpmn20XsdValidationEnabled = true;
     protected boolean isProcessValidationEnabled = true;
     protected boolean isDuplicateFilterEnabled;
+    protected boolean isIncrementalDeploymentEnabled;
     protected Date processDefinitionsActivationDate;
     protected Map<String, Object> deploymentProperties = new HashMap<>();
 
@@ -189,6 +190,12 @@ public class DeploymentBuilderImpl implements DeploymentBuilder, Serializable {
         return this;
     }
 
+    @Override
+    public DeploymentBuilder enableIncrementalDeployment() {
+        this.isIncrementalDeploymentEnabled = true;
+        return this;
+    }
+
     @Override
     public DeploymentBuilder activateProcessDefinitionsOn(Date date) {
         this.processDefinitionsActivationDate = date;
@@ -225,6 +232,10 @@ public class DeploymentBuilderImpl implements DeploymentBuilder, Serializable {
         return isDuplicateFilterEnabled;
     }
 
+    public boolean isIncrementalDeploymentEnabled() {
+        return isIncrementalDeploymentEnabled;
+    }
+
     public Date getProcessDefinitionsActivationDate() {
         return processDefinitionsActivationDate;
     }
@@ -18,6 +18,7 @@ import java.util.List;
 
 public class ProcessInstanceBatchMigrationResult {
     
+    public static final String STATUS_CREATING = "creating";
     public static final String STATUS_IN_PROGRESS = "inProgress";
     public static final String STATUS_WAITING = "waiting";
     public static final String STATUS_COMPLETED = "completed";
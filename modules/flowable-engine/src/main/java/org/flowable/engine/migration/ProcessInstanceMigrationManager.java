@@ -33,4 +33,11 @@ public interface ProcessInstanceMigrationManager {
     Batch batchMigrateProcessInstancesOfProcessDefinition(String procDefKey, int procDefVer, String procDefTenantId, ProcessInstanceMigrationDocument document, CommandContext commandContext);
 
     Batch batchMigrateProcessInstancesOfProcessDefinition(String processDefinitionId, ProcessInstanceMigrationDocument document, CommandContext commandContext);
+
+    /**
+     * Creates the batch parts and migration jobs for the next chunk of process instances of the batch, starting after the given
+     * process instance id (or from the first process instance when null is passed).
+     * When more process instances remain, a job is scheduled to create the next chunk in a separate transaction.
+     */
+    void createBatchMigrationParts(Batch batch, String afterProcessInstanceId, CommandContext commandContext);
 }
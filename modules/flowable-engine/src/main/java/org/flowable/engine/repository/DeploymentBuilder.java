@@ -88,6 +88,19 @@ public interface DeploymentBuilder {
      */
     DeploymentBuilder enableDuplicateFiltering();
 
+    /**
+     * If set, every (non-generated) resource is compared, by the hash of its content, with the latest resource with the same name of the previous deployments
+     * with the same name (and tenant). Unchanged resources are left out of this deployment, so only the changed resources are parsed and get a new process definition version,
+     * while the process definitions (and their timers and event subscriptions) of the unchanged resources stay as they are.
+     * When no resource changed, nothing is deployed and the latest previous deployment is returned.
+     * <p>
+     * Note that the resources of an application are then spread over several deployments: a deployment only contains the resources that changed when it was made.
+     * Hence {@link org.flowable.engine.RepositoryService#getDeploymentResourceNames(String)} of the latest deployment doesn't list the unchanged resources, and deleting
+     * an earlier deployment (e.g. with {@link org.flowable.engine.RepositoryService#deleteDeployment(String, boolean)}) also deletes the process definitions of
+     * its resources that were not changed since, even though they are still the latest versions.
+     */
+    DeploymentBuilder enableIncrementalDeployment();
+
     /**
      * Sets the date on which the process definitions contained in this deployment will be activated. This means that all process definitions will be deployed as usual, but they will be suspended from
      * the start until the given activation date.
@@ -440,7 +440,11 @@ public class HistoricProcessInstanceAndVariablesQueryTest extends PluggableFlowa
                     .or().variableValueEquals("anothertest", "invalid").deploymentId(deploymentId).endOr();
             assertEquals(6, historicprocessInstanceQuery.list().size());
             assertEquals(6, historicprocessInstanceQuery.count());
-            Map<String, Object> variableMap = historicprocessInstanceQuery.list().get(4).getProcessVariables();
+            HistoricProcessInstance processInstanceWithVariable = historicprocessInstanceQuery.list().stream()
+                    .filter(historicProcessInstance -> historicProcessInstance.getId().equals(processInstanceIds.get(4)))
+                    .findFirst()
+                    .get();
+            Map<String, Object> variableMap = processInstanceWithVariable.getProcessVariables();
             assertEquals(1, variableMap.size());
             assertEquals(123, variableMap.get("anothertest"));
             for (HistoricProcessInstance processInstance : historicprocessInstanceQuery.list()) {
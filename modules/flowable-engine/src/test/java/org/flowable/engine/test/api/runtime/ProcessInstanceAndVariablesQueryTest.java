@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.test.api.runtime;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -145,6 +146,42 @@ public class ProcessInstanceAndVariablesQueryTest extends PluggableFlowableTestC
         assertEquals("test4", variableMap.get("test4"));
     }
 
+    @Test
+    public void testListPageWithVariables() {
+        List<ProcessInstance> allInstances = runtimeService.createProcessInstanceQuery().orderByProcessInstanceId().asc().list();
+        assertEquals(7, allInstances.size());
+
+        // The paging is done by the database, independent of the number of variables of each process instance
+        for (int firstResult = 0; firstResult < allInstances.size(); firstResult += 3) {
+            List<ProcessInstance> instanceList = runtimeService.createProcessInstanceQuery().includeProcessVariables()
+                    .limitProcessInstanceVariables(2).orderByProcessInstanceId().asc().listPage(firstResult, 3);
+            List<ProcessInstance> expectedInstances = allInstances.subList(firstResult, Math.min(firstResult + 3, allInstances.size()));
+            assertEquals(expectedInstances.size(), instanceList.size());
+
+            for (int i = 0; i < instanceList.size(); i++) {
+                ProcessInstance processInstance = instanceList.get(i);
+                assertEquals(expectedInstances.get(i).getId(), processInstance.getId());
+                assertEquals(runtimeService.getVariables(processInstance.getId()), processInstance.getProcessVariables());
+            }
+        }
+    }
+
+    @Test
+    public void testQueryWithNamedVariables() {
+        List<ProcessInstance> instanceList = runtimeService.createProcessInstanceQuery().includeProcessVariables(Arrays.asList("test"))
+                .processDefinitionKey(PROCESS_DEFINITION_KEY).list();
+        assertEquals(4, instanceList.size());
+        for (ProcessInstance processInstance : instanceList) {
+            Map<String, Object> variableMap = processInstance.getProcessVariables();
+            assertEquals(1, variableMap.size());
+            assertEquals("test", variableMap.get("test"));
+        }
+
+        ProcessInstance processInstance = runtimeService.createProcessInstanceQuery().includeProcessVariables(Arrays.asList("unknown"))
+                .processInstanceId(instanceList.get(0).getId()).singleResult();
+        assertEquals(0, processInstance.getProcessVariables().size());
+    }
+
     @Test
     public void testOrQuery() {
         ProcessInstance processInstance = runtimeService.createProcessInstanceQuery().includeProcessVariables()
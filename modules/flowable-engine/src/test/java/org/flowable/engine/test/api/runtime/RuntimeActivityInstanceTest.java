@@ -106,6 +106,52 @@ public class RuntimeActivityInstanceTest extends PluggableFlowableTestCase {
         assertEquals(0L, runtimeService.createActivityInstanceQuery().count());
     }
 
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/runtime/RuntimeActivityInstanceTest.testActivityInstanceReceive.bpmn20.xml")
+    public void testActivityInstanceCoalescing() {
+        processEngineConfiguration.setEnableActivityInstanceCoalescing(true);
+        try {
+            ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("receiveProcess");
+
+            // The start event and the sequence flow ended in the same transaction as they were started
+            ActivityInstance activityInstance = runtimeService.createActivityInstanceQuery().processInstanceId(processInstance.getId()).singleResult();
+            assertEquals("receive", activityInstance.getActivityId());
+            assertNull(activityInstance.getEndTime());
+
+            Execution execution = runtimeService.createExecutionQuery().onlyChildExecutions().processInstanceId(processInstance.getId()).singleResult();
+            runtimeService.trigger(execution.getId());
+
+            // The receive task was started in an earlier transaction, so its runtime activity instance is kept
+            List<ActivityInstance> activityInstances = runtimeService.createActivityInstanceQuery().processInstanceId(processInstance.getId())
+                    .orderByActivityInstanceStartTime().asc().orderByActivityId().asc().list();
+            assertEquals(2, activityInstances.size());
+            assertEquals("receive", activityInstances.get(0).getActivityId());
+            assertNotNull(activityInstances.get(0).getEndTime());
+            assertEquals("wait", activityInstances.get(1).getActivityId());
+            assertNull(activityInstances.get(1).getEndTime());
+
+            waitForHistoryJobExecutorToProcessAllJobs(7000, 100);
+            if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+                List<HistoricActivityInstance> historicActivityInstances = historyService.createHistoricActivityInstanceQuery()
+                        .processInstanceId(processInstance.getId()).list();
+                assertEquals(5, historicActivityInstances.size());
+                for (HistoricActivityInstance historicActivityInstance : historicActivityInstances) {
+                    if ("wait".equals(historicActivityInstance.getActivityId())) {
+                        assertNull(historicActivityInstance.getEndTime());
+                    } else {
+                        assertNotNull(historicActivityInstance.getEndTime());
+                    }
+                }
+            }
+
+            runtimeService.trigger(execution.getId());
+            assertEquals(0L, runtimeService.createActivityInstanceQuery().processInstanceId(processInstance.getId()).count());
+
+        } finally {
+            processEngineConfiguration.setEnableActivityInstanceCoalescing(false);
+        }
+    }
+
     @Test
     @Deployment(resources = "org/flowable/engine/test/history/oneTaskProcess.bpmn20.xml")
     public void testActivityInstanceUnfinished() {
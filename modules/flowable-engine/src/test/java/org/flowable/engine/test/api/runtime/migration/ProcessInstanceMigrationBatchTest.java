@@ -23,6 +23,7 @@ import java.util.List;
 import org.flowable.batch.api.Batch;
 import org.flowable.batch.api.BatchPart;
 import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.engine.impl.jobexecutor.ProcessInstanceMigrationBatchPartsCreationJobHandler;
 import org.flowable.engine.impl.jobexecutor.ProcessInstanceMigrationStatusJobHandler;
 import org.flowable.engine.impl.test.JobTestHelper;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
@@ -267,6 +268,65 @@ public class ProcessInstanceMigrationBatchTest extends PluggableFlowableTestCase
         managementService.deleteBatch(migrationBatch.getId());
     }
 
+    @Test
+    public void testProcessMigrationBatchPartsCreatedInChunks() {
+        int originalChunkSize = processEngineConfiguration.getBatchMigrationPartsChunkSize();
+        int originalPartsPerJob = processEngineConfiguration.getBatchMigrationPartsPerJob();
+        processEngineConfiguration.setBatchMigrationPartsChunkSize(3);
+        processEngineConfiguration.setBatchMigrationPartsPerJob(2);
+
+        try {
+            ProcessDefinition version1ProcessDef = deployProcessDefinition("my deploy", "org/flowable/engine/test/api/runtime/migration/two-tasks-simple-process.bpmn20.xml");
+
+            List<String> processInstanceIds = new ArrayList<>();
+            for (int i = 0; i < 7; i++) {
+                processInstanceIds.add(runtimeService.startProcessInstanceByKey("MP").getId());
+            }
+
+            ProcessDefinition version2ProcessDef = deployProcessDefinition("my deploy", "org/flowable/engine/test/api/runtime/migration/one-task-simple-process.bpmn20.xml");
+
+            Batch migrationBatch = processMigrationService.createProcessInstanceMigrationBuilder()
+                    .migrateToProcessDefinition(version2ProcessDef.getId())
+                    .batchMigrateProcessInstances(version1ProcessDef.getId());
+
+            // Only the first chunk of batch parts is created when submitting the batch
+            ProcessInstanceBatchMigrationResult migrationResult = processMigrationService.getResultsOfBatchProcessInstanceMigration(migrationBatch.getId());
+            assertThat(migrationResult.getStatus()).isEqualTo(ProcessInstanceBatchMigrationResult.STATUS_CREATING);
+            assertThat(migrationResult.getAllMigrationParts()).hasSize(3);
+            assertThat(managementService.createJobQuery().handlerType(ProcessInstanceMigrationBatchPartsCreationJobHandler.TYPE).count()).isEqualTo(1);
+            assertThat(managementService.createTimerJobQuery().handlerType(ProcessInstanceMigrationStatusJobHandler.TYPE).count()).isEqualTo(0);
+
+            JobTestHelper.waitForJobExecutorToProcessAllJobs(processEngineConfiguration, managementService, 10000L, 500L, true);
+
+            migrationResult = processMigrationService.getResultsOfBatchProcessInstanceMigration(migrationBatch.getId());
+            assertThat(migrationResult.getStatus()).isEqualTo(ProcessInstanceBatchMigrationResult.STATUS_IN_PROGRESS);
+            assertThat(migrationResult.getAllMigrationParts())
+                    .extracting(ProcessInstanceBatchMigrationPartResult::getProcessInstanceId)
+                    .containsExactlyInAnyOrderElementsOf(processInstanceIds);
+            assertThat(migrationResult.getSuccessfulMigrationParts()).hasSize(7);
+
+            List<Job> timerJobs = managementService.createTimerJobQuery().handlerType(ProcessInstanceMigrationStatusJobHandler.TYPE).list();
+            assertThat(timerJobs).hasSize(1);
+            Job executableJob = managementService.moveTimerToExecutableJob(timerJobs.get(0).getId());
+            managementService.executeJob(executableJob.getId());
+
+            migrationResult = processMigrationService.getResultsOfBatchProcessInstanceMigration(migrationBatch.getId());
+            assertThat(migrationResult.getStatus()).isEqualTo(ProcessInstanceBatchMigrationResult.STATUS_COMPLETED);
+
+            for (String processInstanceId : processInstanceIds) {
+                Task task = taskService.createTaskQuery().processInstanceId(processInstanceId).singleResult();
+                assertThat(task.getTaskDefinitionKey()).isEqualTo("userTask1Id");
+                assertThat(task.getProcessDefinitionId()).isEqualTo(version2ProcessDef.getId());
+                completeProcessInstanceTasks(processInstanceId);
+                assertProcessEnded(processInstanceId);
+            }
+
+        } finally {
+            processEngineConfiguration.setBatchMigrationPartsChunkSize(originalChunkSize);
+            processEngineConfiguration.setBatchMigrationPartsPerJob(originalPartsPerJob);
+        }
+    }
+
     @Test
     public void testProcessMigrationBatchTwentyMixedSuccessAndFails() {
         // Deploy first version of the process
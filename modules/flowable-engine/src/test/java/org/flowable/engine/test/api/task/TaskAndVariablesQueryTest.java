@@ -17,6 +17,7 @@ import static org.junit.Assert.assertThat;
 
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -147,6 +148,27 @@ public class TaskAndVariablesQueryTest extends PluggableFlowableTestCase {
         assertEquals(true, task.getProcessVariables().get("processVar"));
         assertEquals(123, task.getProcessVariables().get("anotherProcessVar"));
         assertEquals("This is a binary process variable", new String((byte[]) task.getProcessVariables().get("binaryVariable")));
+
+        task = taskService.createTaskQuery().includeProcessVariables(Arrays.asList("processVar", "anotherProcessVar")).taskAssignee("kermit").singleResult();
+        assertEquals(2, task.getProcessVariables().size());
+        assertEquals(0, task.getTaskLocalVariables().size());
+        assertEquals(true, task.getProcessVariables().get("processVar"));
+        assertEquals(123, task.getProcessVariables().get("anotherProcessVar"));
+
+        task = taskService.createTaskQuery().includeTaskLocalVariables(Arrays.asList("unknownVar")).includeProcessVariables(Arrays.asList("binaryVariable"))
+                .taskAssignee("kermit").singleResult();
+        assertEquals(1, task.getProcessVariables().size());
+        assertEquals(0, task.getTaskLocalVariables().size());
+        assertEquals("This is a binary process variable", new String((byte[]) task.getProcessVariables().get("binaryVariable")));
+
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.AUDIT, processEngineConfiguration)) {
+            HistoricTaskInstance historicTask = historyService.createHistoricTaskInstanceQuery().includeTaskLocalVariables(Arrays.asList("localVar"))
+                    .includeProcessVariables(Arrays.asList("processVar")).taskAssignee("kermit").singleResult();
+            assertEquals(1, historicTask.getProcessVariables().size());
+            assertEquals(true, historicTask.getProcessVariables().get("processVar"));
+            assertEquals(1, historicTask.getTaskLocalVariables().size());
+            assertEquals("test", historicTask.getTaskLocalVariables().get("localVar"));
+        }
     }
     
     @Test
@@ -28,12 +28,15 @@ import java.util.Map;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.impl.history.HistoryLevel;
+import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
 import org.flowable.engine.impl.test.HistoryTestHelper;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.test.Deployment;
 import org.flowable.identitylink.api.IdentityLinkInfo;
 import org.flowable.identitylink.api.IdentityLinkType;
+import org.flowable.idm.engine.IdmEngineConfiguration;
+import org.flowable.idm.engine.impl.cache.DefaultUserGroupMembershipCache;
 import org.flowable.task.api.DelegationState;
 import org.flowable.task.api.Task;
 import org.flowable.task.api.TaskInfo;
@@ -1401,6 +1404,31 @@ public class TaskQueryTest extends PluggableFlowableTestCase {
         }
     }
 
+    @Test
+    public void testQueryByCandidateUserWithUserGroupMembershipCache() {
+        IdmEngineConfiguration idmEngineConfiguration = (IdmEngineConfiguration) processEngineConfiguration.getEngineConfigurations()
+            .get(EngineConfigurationConstants.KEY_IDM_ENGINE_CONFIG);
+        long historicTaskCount = historyService.createHistoricTaskInstanceQuery().taskCandidateUser("fozzie").count();
+        DefaultUserGroupMembershipCache cache = new DefaultUserGroupMembershipCache(100, 60000, idmEngineConfiguration.getClock());
+        idmEngineConfiguration.setUserGroupMembershipCache(cache);
+        try {
+            assertThat(taskService.createTaskQuery().taskCandidateUser("fozzie").count()).isEqualTo(3);
+            assertThat(taskService.createTaskQuery().taskCandidateUser("fozzie").list()).hasSize(3);
+            assertThat(taskService.createTaskQuery().taskCandidateOrAssigned("fozzie").count()).isEqualTo(3);
+            assertThat(historyService.createHistoricTaskInstanceQuery().taskCandidateUser("fozzie").count()).isEqualTo(historicTaskCount);
+            assertThat(cache.getMissCount()).isEqualTo(1);
+            assertThat(cache.getHitCount()).isPositive();
+
+            // The membership change through the identity service invalidates the cached groups of fozzie
+            identityService.createMembership("fozzie", "accountancy");
+            assertThat(taskService.createTaskQuery().taskCandidateUser("fozzie").count()).isEqualTo(5);
+            assertThat(cache.getMissCount()).isEqualTo(2);
+
+        } finally {
+            idmEngineConfiguration.setUserGroupMembershipCache(null);
+        }
+    }
+
     @Test
     public void testQueryByCandidateUserOr() {
         TaskQuery query = taskService.createTaskQuery().or().taskId("invalid").taskCandidateUser("kermit");
@@ -13,9 +13,12 @@
 
 package org.flowable.engine.test.bpmn.deployment;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
 import java.util.List;
 
 import org.flowable.bpmn.model.BpmnModel;
@@ -184,6 +187,87 @@ public class BpmnDeploymentTest extends PluggableFlowableTestCase {
         }
     }
 
+    @Test
+    public void testIncrementalDeployment() {
+        String emptyProcessResourceName = "org/flowable/engine/test/bpmn/deployment/BpmnDeploymentTest.testGetBpmnXmlFileThroughService.bpmn20.xml";
+        String diagramProcessResourceName = "org/flowable/engine/test/bpmn/deployment/BpmnDeploymentTest.testProcessDiagramResource.bpmn20.xml";
+        String diagramProcessXml = new String(IoUtil.readInputStream(
+                getClass().getClassLoader().getResourceAsStream(diagramProcessResourceName), diagramProcessResourceName), StandardCharsets.UTF_8);
+
+        processEngineConfiguration.getClock().setCurrentTime(new Date(0));
+        org.flowable.engine.repository.Deployment firstDeployment = repositoryService.createDeployment().enableIncrementalDeployment()
+                .addClasspathResource(emptyProcessResourceName).addClasspathResource(diagramProcessResourceName).name("incremental").deploy();
+        assertThat(repositoryService.getDeploymentResourceNames(firstDeployment.getId())).contains(emptyProcessResourceName, diagramProcessResourceName);
+
+        // Nothing changed
+        org.flowable.engine.repository.Deployment deployment = repositoryService.createDeployment().enableIncrementalDeployment()
+                .addClasspathResource(emptyProcessResourceName).addClasspathResource(diagramProcessResourceName).name("incremental").deploy();
+        assertThat(deployment.getId()).isEqualTo(firstDeployment.getId());
+        assertThat(repositoryService.createDeploymentQuery().count()).isEqualTo(1);
+
+        // Only the changed resource is deployed
+        processEngineConfiguration.getClock().setCurrentTime(new Date(1000));
+        org.flowable.engine.repository.Deployment secondDeployment = repositoryService.createDeployment().enableIncrementalDeployment()
+                .addClasspathResource(emptyProcessResourceName).addString(diagramProcessResourceName, diagramProcessXml + "\n").name("incremental").deploy();
+        assertThat(secondDeployment.getId()).isNotEqualTo(firstDeployment.getId());
+        assertThat(repositoryService.getDeploymentResourceNames(secondDeployment.getId()))
+                .contains(diagramProcessResourceName)
+                .doesNotContain(emptyProcessResourceName);
+
+        ProcessDefinition emptyProcessDefinition = repositoryService.createProcessDefinitionQuery().processDefinitionKey("emptyProcess").latestVersion().singleResult();
+        assertThat(emptyProcessDefinition.getVersion()).isEqualTo(1);
+        assertThat(emptyProcessDefinition.getDeploymentId()).isEqualTo(firstDeployment.getId());
+        ProcessDefinition diagramProcessDefinition = repositoryService.createProcessDefinitionQuery().processDefinitionKey("processDiagramProcess").latestVersion().singleResult();
+        assertThat(diagramProcessDefinition.getVersion()).isEqualTo(2);
+        assertThat(diagramProcessDefinition.getDeploymentId()).isEqualTo(secondDeployment.getId());
+
+        // Each resource is compared with its latest version, which is spread over both deployments
+        deployment = repositoryService.createDeployment().enableIncrementalDeployment()
+                .addClasspathResource(emptyProcessResourceName).addString(diagramProcessResourceName, diagramProcessXml + "\n").name("incremental").deploy();
+        assertThat(deployment.getId()).isEqualTo(secondDeployment.getId());
+        assertThat(repositoryService.createDeploymentQuery().count()).isEqualTo(2);
+
+        for (org.flowable.engine.repository.Deployment deploymentToDelete : repositoryService.createDeploymentQuery().list()) {
+            repositoryService.deleteDeployment(deploymentToDelete.getId(), true);
+        }
+        processEngineConfiguration.getClock().reset();
+    }
+
+    @Test
+    public void testIncrementalDeploymentKeepsOnlyDiagramsOfChangedResource() {
+        String orderXml = "<?xml version='1.0' encoding='UTF-8'?>"
+                + "<definitions xmlns='http://www.omg.org/spec/BPMN/20100524/MODEL' targetNamespace='Examples'>"
+                + "  <process id='orderProcess' />"
+                + "</definitions>";
+        String orderSubXml = "<?xml version='1.0' encoding='UTF-8'?>"
+                + "<definitions xmlns='http://www.omg.org/spec/BPMN/20100524/MODEL' targetNamespace='Examples'>"
+                + "  <process id='orderSubProcess' />"
+                + "</definitions>";
+        byte[] diagram = new byte[] { 1, 2, 3 };
+
+        processEngineConfiguration.getClock().setCurrentTime(new Date(0));
+        repositoryService.createDeployment().enableIncrementalDeployment().name("incrementalDiagrams")
+                .addString("order.bpmn20.xml", orderXml).addBytes("order.orderProcess.png", diagram)
+                .addString("order.sub.bpmn20.xml", orderSubXml).addBytes("order.sub.png", diagram)
+                .deploy();
+
+        // Only the changed resource and its own diagram are deployed again, not the diagram of order.sub.bpmn20.xml that shares the prefix
+        processEngineConfiguration.getClock().setCurrentTime(new Date(1000));
+        org.flowable.engine.repository.Deployment deployment = repositoryService.createDeployment().enableIncrementalDeployment().name("incrementalDiagrams")
+                .addString("order.bpmn20.xml", orderXml + "\n").addBytes("order.orderProcess.png", diagram)
+                .addString("order.sub.bpmn20.xml", orderSubXml).addBytes("order.sub.png", diagram)
+                .deploy();
+        assertThat(repositoryService.getDeploymentResourceNames(deployment.getId()))
+                .containsExactlyInAnyOrder("order.bpmn20.xml", "order.orderProcess.png");
+        assertThat(repositoryService.createProcessDefinitionQuery().processDefinitionKey("orderProcess").latestVersion().singleResult().getDiagramResourceName())
+                .isEqualTo("order.orderProcess.png");
+
+        for (org.flowable.engine.repository.Deployment deploymentToDelete : repositoryService.createDeploymentQuery().list()) {
+            repositoryService.deleteDeployment(deploymentToDelete.getId(), true);
+        }
+        processEngineConfiguration.getClock().reset();
+    }
+
     @Test
     public void testDeployTwoProcessesWithDuplicateIdAtTheSameTime() {
         String bpmnResourceName = "org/flowable/engine/test/bpmn/deployment/BpmnDeploymentTest.testGetBpmnXmlFileThroughService.bpmn20.xml";
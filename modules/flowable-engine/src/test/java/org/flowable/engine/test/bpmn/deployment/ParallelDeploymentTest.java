@@ -0,0 +1,163 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.bpmn.deployment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.bpmn.exceptions.XMLException;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.DeploymentTaskExecutor;
+import org.flowable.common.engine.impl.util.IoUtil;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.repository.Deployment;
+import org.flowable.engine.repository.DeploymentBuilder;
+import org.flowable.engine.repository.ProcessDefinition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Deploys several resources with a deployment task pool, which parses, validates and renders the resources in parallel.
+ */
+public class ParallelDeploymentTest extends PluggableFlowableTestCase {
+
+    protected static final String[] RESOURCES = {
+            "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml",
+            "org/flowable/engine/test/api/tenant/TenancyTest.testCallActivityWithTenant-process01.bpmn20.xml",
+            "org/flowable/engine/test/api/tenant/TenancyTest.testCallActivityWithTenant-process02.bpmn20.xml",
+            "org/flowable/engine/test/bpmn/parse/BpmnParseTest.testParseDiagramInterchangeElements.bpmn20.xml"
+    };
+
+    protected DeploymentTaskExecutor originalDeploymentTaskExecutor;
+    protected DeploymentTaskExecutor deploymentTaskExecutor;
+
+    @BeforeEach
+    protected void setUp() {
+        originalDeploymentTaskExecutor = processEngineConfiguration.getDeploymentTaskExecutor();
+        deploymentTaskExecutor = new DeploymentTaskExecutor(4, "test-deployment-");
+        processEngineConfiguration.setDeploymentTaskExecutor(deploymentTaskExecutor);
+    }
+
+    @AfterEach
+    protected void tearDown() {
+        processEngineConfiguration.setDeploymentTaskExecutor(originalDeploymentTaskExecutor);
+        deploymentTaskExecutor.shutdown();
+
+        for (Deployment deployment : repositoryService.createDeploymentQuery().list()) {
+            repositoryService.deleteDeployment(deployment.getId(), true);
+        }
+    }
+
+    @Test
+    public void testDeploySeveralResources() {
+        Map<String, byte[]> diagrams = deployAndGetDiagrams();
+        assertThat(diagrams.keySet()).containsExactlyInAnyOrder("oneTaskProcess", "process1", "process2", "myProcess");
+
+        // Only the processes with diagram interchange information get a diagram
+        assertThat(diagrams.get("oneTaskProcess")).isNull();
+        assertThat(diagrams.get("process1")).isNotEmpty();
+        assertThat(diagrams.get("process2")).isNotEmpty();
+        assertThat(diagrams.get("myProcess")).isNotEmpty();
+
+        // The definitions can be used as if they were deployed sequentially
+        assertThat(repositoryService.getBpmnModel(repositoryService.createProcessDefinitionQuery().processDefinitionKey("myProcess").singleResult().getId())
+                .getMainProcess().getFlowElements()).hasSize(14);
+        assertThat(runtimeService.startProcessInstanceByKey("oneTaskProcess").getId()).isNotNull();
+        assertThat(taskService.createTaskQuery().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void testDiagramsSameAsSequentialDeployment() {
+        Map<String, byte[]> parallelDiagrams = deployAndGetDiagrams();
+
+        processEngineConfiguration.setDeploymentTaskExecutor(null);
+        Map<String, byte[]> sequentialDiagrams = deployAndGetDiagrams();
+
+        assertThat(parallelDiagrams.keySet()).isEqualTo(sequentialDiagrams.keySet());
+        for (Map.Entry<String, byte[]> diagram : parallelDiagrams.entrySet()) {
+            assertThat(diagram.getValue()).as(diagram.getKey()).isEqualTo(sequentialDiagrams.get(diagram.getKey()));
+        }
+    }
+
+    @Test
+    public void testDeployResourceFailingValidation() {
+        DeploymentBuilder deploymentBuilder = repositoryService.createDeployment();
+        for (String resource : RESOURCES) {
+            deploymentBuilder.addClasspathResource(resource);
+        }
+        deploymentBuilder.addString("invalidProcess.bpmn20.xml", "<?xml version='1.0' encoding='UTF-8'?>"
+                + "<definitions xmlns='http://www.omg.org/spec/BPMN/20100524/MODEL' targetNamespace='Examples'>"
+                + "  <process id='invalidProcess' isExecutable='true'>"
+                + "    <startEvent id='start' />"
+                + "    <sequenceFlow id='flow1' sourceRef='start' targetRef='service' />"
+                + "    <serviceTask id='service' />"
+                + "    <sequenceFlow id='flow2' sourceRef='service' targetRef='end' />"
+                + "    <endEvent id='end' />"
+                + "  </process>"
+                + "</definitions>");
+
+        // The error names the failing resource, and nothing is deployed
+        assertThatThrownBy(deploymentBuilder::deploy)
+                .isInstanceOf(FlowableException.class)
+                .hasMessageContaining("invalidProcess.bpmn20.xml")
+                .hasMessageContaining("Errors while parsing");
+        assertThat(repositoryService.createDeploymentQuery().count()).isZero();
+        assertThat(repositoryService.createProcessDefinitionQuery().count()).isZero();
+    }
+
+    @Test
+    public void testDeployMalformedResource() {
+        DeploymentBuilder deploymentBuilder = repositoryService.createDeployment();
+        for (String resource : RESOURCES) {
+            deploymentBuilder.addClasspathResource(resource);
+        }
+        deploymentBuilder.addString("malformedProcess.bpmn20.xml", "<?xml version='1.0' encoding='UTF-8'?>"
+                + "<definitions xmlns='http://www.omg.org/spec/BPMN/20100524/MODEL' targetNamespace='Examples'>"
+                + "  <process id='malformedProcess'>");
+
+        // The exception has the same type as when the resources are parsed sequentially
+        assertThatThrownBy(deploymentBuilder::deploy)
+                .isExactlyInstanceOf(XMLException.class)
+                .hasMessageContaining("malformedProcess.bpmn20.xml");
+        assertThat(repositoryService.createDeploymentQuery().count()).isZero();
+    }
+
+    /**
+     * Deploys all resources and returns the generated diagram of each deployed process definition, by process definition key.
+     */
+    protected Map<String, byte[]> deployAndGetDiagrams() {
+        DeploymentBuilder deploymentBuilder = repositoryService.createDeployment();
+        for (String resource : RESOURCES) {
+            deploymentBuilder.addClasspathResource(resource);
+        }
+        String deploymentId = deploymentBuilder.deploy().getId();
+
+        Map<String, byte[]> diagrams = new HashMap<>();
+        List<ProcessDefinition> processDefinitions = repositoryService.createProcessDefinitionQuery().deploymentId(deploymentId).list();
+        for (ProcessDefinition processDefinition : processDefinitions) {
+            byte[] diagram = null;
+            if (processDefinition.getDiagramResourceName() != null) {
+                diagram = IoUtil.readInputStream(repositoryService.getResourceAsStream(deploymentId, processDefinition.getDiagramResourceName()),
+                        processDefinition.getDiagramResourceName());
+            }
+            diagrams.put(processDefinition.getKey(), diagram);
+        }
+        return diagrams;
+    }
+
+}
@@ -0,0 +1,68 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.cache;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.flowable.engine.impl.cache.ProcessInstanceReadCache;
+import org.flowable.engine.impl.cache.ProcessInstanceReadCacheEventListener;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.junit.jupiter.api.Test;
+
+public class ProcessInstanceReadCacheTest extends PluggableFlowableTestCase {
+
+    @Test
+    @Deployment(resources = { "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml" })
+    public void testProcessInstanceReadCache() {
+        ProcessInstanceReadCache cache = new ProcessInstanceReadCache(processEngineConfiguration.getCommandExecutor(), 1);
+        ProcessInstanceReadCacheEventListener listener = new ProcessInstanceReadCacheEventListener(cache);
+        processEngineConfiguration.getEventDispatcher().addEventListener(listener);
+        try {
+            ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+            AtomicInteger loadCount = new AtomicInteger();
+
+            assertEquals(1, (int) cache.get(processInstance.getId(), "view", loadCount::incrementAndGet));
+            assertEquals(1, (int) cache.get(processInstance.getId(), "view", loadCount::incrementAndGet));
+            assertEquals(1, cache.getHitCount());
+            assertEquals(1, cache.getMissCount());
+
+            // Invalidated by the variable created event
+            runtimeService.setVariable(processInstance.getId(), "var", "value");
+            assertEquals(2, (int) cache.get(processInstance.getId(), "view", loadCount::incrementAndGet));
+            assertEquals(2, (int) cache.get(processInstance.getId(), "view", loadCount::incrementAndGet));
+            assertEquals(1, cache.getInvalidationCount());
+
+            // Changes that are not seen through events (e.g. made by another engine) are detected through the execution revisions
+            processEngineConfiguration.getEventDispatcher().removeEventListener(listener);
+            runtimeService.suspendProcessInstanceById(processInstance.getId());
+            assertEquals(3, (int) cache.get(processInstance.getId(), "view", loadCount::incrementAndGet));
+            assertEquals(3, (int) cache.get(processInstance.getId(), "view", loadCount::incrementAndGet));
+            assertEquals(2, cache.getInvalidationCount());
+
+            // Only the views of one process instance are kept
+            ProcessInstance otherProcessInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+            assertEquals(4, (int) cache.get(otherProcessInstance.getId(), "view", loadCount::incrementAndGet));
+            assertEquals(1, cache.size());
+            assertEquals(5, (int) cache.get(processInstance.getId(), "view", loadCount::incrementAndGet));
+
+            assertEquals(3, cache.getHitCount());
+            assertEquals(5, cache.getMissCount());
+
+        } finally {
+            processEngineConfiguration.getEventDispatcher().removeEventListener(listener);
+        }
+    }
+
+}
@@ -0,0 +1,157 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.eventregistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.eventregistry.api.EventDeployment;
+import org.flowable.eventregistry.api.EventRegistry;
+import org.flowable.eventregistry.api.EventRepositoryService;
+import org.flowable.eventregistry.api.OutboundEventChannelAdapter;
+import org.flowable.eventregistry.api.model.EventPayloadTypes;
+import org.flowable.eventregistry.impl.AsyncOutboundEventProcessor;
+import org.flowable.eventregistry.impl.EventRegistryEngineConfiguration;
+import org.flowable.eventregistry.impl.outbound.AsyncOutboundEventDispatcher;
+import org.flowable.task.api.Task;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class AsyncOutboundEventTest extends PluggableFlowableTestCase {
+
+    protected TestOutboundEventChannelAdapter outboundEventChannelAdapter;
+    protected AsyncOutboundEventDispatcher outboundEventDispatcher;
+
+    @BeforeEach
+    protected void setUp() {
+        outboundEventChannelAdapter = new TestOutboundEventChannelAdapter();
+        getEventRegistry().newOutboundChannelModel()
+            .key("out-channel")
+            .channelAdapter(outboundEventChannelAdapter)
+            .jsonSerializer()
+            .register();
+
+        getEventRepositoryService().createEventModelBuilder()
+            .outboundChannelKey("out-channel")
+            .key("myEvent")
+            .resourceName("myEvent.event")
+            .payload("eventProperty", EventPayloadTypes.STRING)
+            .deploy();
+
+        // Not started, the stored events are published by the test itself
+        outboundEventDispatcher = new AsyncOutboundEventDispatcher(getEventRegistryEngineConfiguration(), 100, 0, 4);
+        getEventRegistry().setOutboundEventProcessor(new AsyncOutboundEventProcessor(getEventRegistry(), outboundEventDispatcher));
+    }
+
+    @AfterEach
+    protected void tearDown() {
+        getEventRegistryEngineConfiguration().getClock().reset();
+        outboundEventChannelAdapter.fail = false;
+        outboundEventDispatcher.publishOutboundEvents();
+
+        getEventRegistry().setOutboundEventProcessor(getEventRegistryEngineConfiguration().getOutboundEventProcessor());
+        getEventRegistry().removeChannelModel("out-channel");
+
+        EventRepositoryService eventRepositoryService = getEventRepositoryService();
+        for (EventDeployment eventDeployment : eventRepositoryService.createDeploymentQuery().list()) {
+            eventRepositoryService.deleteDeployment(eventDeployment.getId());
+        }
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/eventregistry/SendEventTaskTest.testSendEventSynchronously.bpmn20.xml")
+    public void testEventIsStoredInOutboxAndPublishedAfterCommit() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("process");
+        Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        taskService.complete(task.getId());
+
+        // The process continues, the event is stored in the outbox of the event registry within the same transaction
+        assertThat(taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult().getTaskDefinitionKey()).isEqualTo("taskAfter");
+        assertThat(outboundEventChannelAdapter.receivedEvents).isEmpty();
+        assertThat(managementService.createJobQuery().count()).isZero();
+
+        assertThat(outboundEventDispatcher.publishOutboundEvents()).isEqualTo(1);
+
+        assertThat(outboundEventChannelAdapter.receivedEvents).hasSize(1);
+        assertThat(outboundEventChannelAdapter.receivedEvents.get(0)).contains("\"eventProperty\":\"test\"");
+        assertThat(outboundEventDispatcher.getMetrics("out-channel").getPublishedCount()).isEqualTo(1);
+        assertThat(outboundEventDispatcher.publishOutboundEvents()).isZero();
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/eventregistry/SendEventTaskTest.testSendEventSynchronously.bpmn20.xml")
+    public void testFailedPublishIsRetried() {
+        Date now = new Date();
+        getEventRegistryEngineConfiguration().getClock().setCurrentTime(now);
+
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("process");
+        Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        taskService.complete(task.getId());
+
+        outboundEventChannelAdapter.fail = true;
+        assertThat(outboundEventDispatcher.publishOutboundEvents()).isZero();
+        assertThat(outboundEventDispatcher.getMetrics("out-channel").getFailedCount()).isEqualTo(1);
+
+        // The event stays in the outbox and is published again once the retry wait time passed
+        outboundEventChannelAdapter.fail = false;
+        assertThat(outboundEventDispatcher.publishOutboundEvents()).isZero();
+
+        getEventRegistryEngineConfiguration().getClock().setCurrentTime(new Date(now.getTime() + outboundEventDispatcher.getRetryWaitTimeInMs() + 1));
+        assertThat(outboundEventDispatcher.publishOutboundEvents()).isEqualTo(1);
+        assertThat(outboundEventChannelAdapter.receivedEvents).hasSize(1);
+    }
+
+    protected EventRepositoryService getEventRepositoryService() {
+        return getEventRegistryEngineConfiguration().getEventRepositoryService();
+    }
+
+    protected EventRegistry getEventRegistry() {
+        return getEventRegistryEngineConfiguration().getEventRegistry();
+    }
+
+    protected EventRegistryEngineConfiguration getEventRegistryEngineConfiguration() {
+        return (EventRegistryEngineConfiguration) processEngineConfiguration.getEngineConfigurations()
+            .get(EngineConfigurationConstants.KEY_EVENT_REGISTRY_CONFIG);
+    }
+
+    public static class TestOutboundEventChannelAdapter implements OutboundEventChannelAdapter {
+
+        public List<String> receivedEvents = new ArrayList<>();
+        public boolean fail;
+
+        @Override
+        public void sendEvent(String rawEvent) {
+            if (fail) {
+                throw new FlowableException("Broker not available");
+            }
+            receivedEvents.add(rawEvent);
+        }
+
+        @Override
+        public void sendEvents(Collection<String> rawEvents) {
+            for (String rawEvent : rawEvents) {
+                sendEvent(rawEvent);
+            }
+        }
+    }
+}
@@ -15,6 +15,9 @@ package org.flowable.engine.test.eventregistry;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.entry;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -30,9 +33,11 @@ import org.flowable.engine.test.Deployment;
 import org.flowable.eventregistry.api.EventDeployment;
 import org.flowable.eventregistry.api.EventRegistry;
 import org.flowable.eventregistry.api.EventRepositoryService;
+import org.flowable.eventregistry.api.InboundEvent;
 import org.flowable.eventregistry.api.InboundEventChannelAdapter;
 import org.flowable.eventregistry.api.model.EventPayloadTypes;
 import org.flowable.eventregistry.impl.EventRegistryEngineConfiguration;
+import org.flowable.eventregistry.impl.event.DefaultInboundEvent;
 import org.flowable.eventsubscription.api.EventSubscription;
 import org.flowable.task.api.Task;
 import org.junit.jupiter.api.AfterEach;
@@ -260,6 +265,91 @@ public class BpmnEventRegistryConsumerTest extends PluggableFlowableTestCase {
         }
     }
 
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/eventregistry/BpmnEventRegistryConsumerTest.testBoundaryEventListenerWithCorrelation.bpmn20.xml")
+    public void testBatchBoundaryEventListenerWithCorrelation() {
+        int originalBatchSize = processEngineConfiguration.getEventRegistryConsumerBatchSize();
+        processEngineConfiguration.setEventRegistryConsumerBatchSize(7);
+        try {
+            List<String> processInstanceIds = new ArrayList<>();
+            List<String> customerIds = new ArrayList<>();
+            for (int i = 0; i < 30; i++) {
+                ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("process", Collections.singletonMap("customerIdVar", "customer" + i));
+                processInstanceIds.add(processInstance.getId());
+                if (i % 3 != 0) {
+                    customerIds.add("customer" + i);
+                }
+            }
+            customerIds.add("fozzie");
+
+            inboundEventChannelAdapter.triggerTestEvents(customerIds);
+
+            for (int i = 0; i < 30; i++) {
+                assertThat(taskService.createTaskQuery().processInstanceId(processInstanceIds.get(i)).singleResult().getTaskDefinitionKey())
+                    .isEqualTo(i % 3 != 0 ? "taskAfterBoundary" : "task");
+            }
+
+        } finally {
+            processEngineConfiguration.setEventRegistryConsumerBatchSize(originalBatchSize);
+        }
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/eventregistry/BpmnEventRegistryConsumerTest.testBoundaryEventListenerNoCorrelation.bpmn20.xml")
+    public void testBatchTriggersEventSubscriptionOnlyOnce() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("process");
+
+        // Both events match the same subscription, the second one should find it consumed instead of failing
+        inboundEventChannelAdapter.triggerTestEvents(Arrays.asList(null, null));
+
+        assertThat(taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult().getTaskDefinitionKey())
+            .isEqualTo("taskAfterBoundary");
+        assertThat(runtimeService.createEventSubscriptionQuery().activityId("eventBoundary").singleResult()).isNull();
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/eventregistry/BpmnEventRegistryConsumerTest.testStartOnlyOneInstance.bpmn20.xml")
+    public void testBatchStartOnlyOneInstance() {
+        inboundEventChannelAdapter.triggerTestEvents(Arrays.asList("testCustomer", "testCustomer", "anotherTestCustomer", "testCustomer", "anotherTestCustomer"));
+
+        assertThat(runtimeService.createProcessInstanceQuery().list())
+            .extracting(ProcessInstance::getReferenceType)
+            .containsExactly(ReferenceTypes.EVENT_PROCESS, ReferenceTypes.EVENT_PROCESS);
+    }
+
+    @Test
+    @Deployment
+    public void testBatchTriggersEventSubscriptionsCreatedForEarlierEvent() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("process");
+
+        // The first event creates the event subscription of the second boundary event, which the second event needs to trigger,
+        // the third event doesn't find any event subscription anymore, like when the events are received one by one
+        inboundEventChannelAdapter.triggerTestEvents(Arrays.asList(null, null, null));
+
+        assertThat(taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult().getTaskDefinitionKey())
+            .isEqualTo("taskAfterEvents");
+        assertThat(runtimeService.createEventSubscriptionQuery().processInstanceId(processInstance.getId()).count()).isZero();
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/eventregistry/BpmnEventRegistryConsumerTest.testBoundaryEventListenerWithCorrelation.bpmn20.xml")
+    public void testBatchWithMoreCorrelationKeysThanFitInOneQuery() {
+        ProcessInstance firstProcessInstance = runtimeService.startProcessInstanceByKey("process", Collections.singletonMap("customerIdVar", "customer0"));
+        ProcessInstance lastProcessInstance = runtimeService.startProcessInstanceByKey("process", Collections.singletonMap("customerIdVar", "customer1100"));
+
+        // The correlation keys are split over several queries, as some databases limit the number of values in an 'in' clause
+        List<String> customerIds = new ArrayList<>();
+        for (int i = 0; i <= 1200; i++) {
+            customerIds.add("customer" + i);
+        }
+        inboundEventChannelAdapter.triggerTestEvents(customerIds);
+
+        assertThat(taskService.createTaskQuery().processInstanceId(firstProcessInstance.getId()).singleResult().getTaskDefinitionKey())
+            .isEqualTo("taskAfterBoundary");
+        assertThat(taskService.createTaskQuery().processInstanceId(lastProcessInstance.getId()).singleResult().getTaskDefinitionKey())
+            .isEqualTo("taskAfterBoundary");
+    }
+
     private static class TestInboundEventChannelAdapter implements InboundEventChannelAdapter {
 
         public String channelKey;
@@ -288,6 +378,18 @@ public class BpmnEventRegistryConsumerTest extends PluggableFlowableTestCase {
         }
 
         public void triggerTestEvent(String customerId, String orderId) {
+            eventRegistry.eventReceived(channelKey, createTestEvent(customerId, orderId));
+        }
+
+        public void triggerTestEvents(List<String> customerIds) {
+            List<InboundEvent> events = new ArrayList<>();
+            for (String customerId : customerIds) {
+                events.add(new DefaultInboundEvent(createTestEvent(customerId, null)));
+            }
+            eventRegistry.eventsReceived(channelKey, events);
+        }
+
+        protected String createTestEvent(String customerId, String orderId) {
             ObjectMapper objectMapper = new ObjectMapper();
 
             ObjectNode json = objectMapper.createObjectNode();
@@ -302,7 +404,7 @@ public class BpmnEventRegistryConsumerTest extends PluggableFlowableTestCase {
             json.put("payload1", "Hello World");
             json.put("payload2", new Random().nextInt());
             try {
-                eventRegistry.eventReceived(channelKey, objectMapper.writeValueAsString(json));
+                return objectMapper.writeValueAsString(json);
             } catch (JsonProcessingException e) {
                 throw new RuntimeException(e);
             }
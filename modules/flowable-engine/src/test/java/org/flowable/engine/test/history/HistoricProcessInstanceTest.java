@@ -13,19 +13,26 @@
 
 package org.flowable.engine.test.history;
 
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.impl.history.HistoryLevel;
+import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.history.HistoricProcessInstanceQuery;
 import org.flowable.engine.impl.test.HistoryTestHelper;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
 import org.flowable.engine.runtime.ProcessInstance;
@@ -590,4 +597,109 @@ public class HistoricProcessInstanceTest extends PluggableFlowableTestCase {
         }
     }
 
+    @Test
+    @Deployment(resources = { "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml" })
+    public void testQueryListPageAfter() {
+        for (int i = 0; i < 5; i++) {
+            runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        }
+
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+            List<String> allIds = historyService.createHistoricProcessInstanceQuery().orderByProcessInstanceId().asc().list().stream()
+                .map(HistoricProcessInstance::getId)
+                .collect(Collectors.toList());
+            assertEquals(5, allIds.size());
+
+            HistoricProcessInstanceQuery query = historyService.createHistoricProcessInstanceQuery().orderByProcessInstanceId().asc();
+            List<HistoricProcessInstance> firstPage = query.listPageAfter(null, 2);
+            assertEquals(Arrays.asList(allIds.get(0), allIds.get(1)), getIds(firstPage));
+
+            List<HistoricProcessInstance> secondPage = query.listPageAfter(query.getCursor(firstPage.get(1)), 2);
+            assertEquals(Arrays.asList(allIds.get(2), allIds.get(3)), getIds(secondPage));
+
+            List<HistoricProcessInstance> lastPage = query.listPageAfter(query.getCursor(secondPage.get(1)), 2);
+            assertEquals(Collections.singletonList(allIds.get(4)), getIds(lastPage));
+
+            HistoricProcessInstanceQuery descendingQuery = historyService.createHistoricProcessInstanceQuery().orderByProcessInstanceId().desc();
+            List<HistoricProcessInstance> descendingPage = descendingQuery.listPageAfter(descendingQuery.getCursor(secondPage.get(0)), 10);
+            assertEquals(Arrays.asList(allIds.get(1), allIds.get(0)), getIds(descendingPage));
+
+            // A cursor only continues in the order it was created for
+            String idCursor = query.getCursor(firstPage.get(1));
+            assertThatThrownBy(() -> historyService.createHistoricProcessInstanceQuery().orderByProcessInstanceStartTime().asc().listPageAfter(idCursor, 2))
+                .isInstanceOf(FlowableIllegalArgumentException.class);
+            assertThatThrownBy(() -> query.listPageAfter("not a cursor", 2))
+                .isInstanceOf(FlowableIllegalArgumentException.class);
+
+            // Only ordering by id or start time is supported
+            assertThatThrownBy(() -> historyService.createHistoricProcessInstanceQuery().orderByProcessInstanceEndTime().asc().listPageAfter(null, 2))
+                .isInstanceOf(FlowableIllegalArgumentException.class);
+        }
+    }
+
+    @Test
+    @Deployment(resources = { "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml" })
+    public void testQueryListPageAfterOrderedByStartTime() {
+        // Two process instances per start time, so the pages need the id to continue after a process instance with the same start time
+        Date startTime = new Date(1_600_000_000_000L);
+        for (int i = 0; i < 6; i++) {
+            processEngineConfiguration.getClock().setCurrentTime(new Date(startTime.getTime() + (i / 2) * 1000L));
+            runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        }
+        processEngineConfiguration.getClock().reset();
+
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+            List<HistoricProcessInstance> all = historyService.createHistoricProcessInstanceQuery().list();
+            List<String> ascendingIds = all.stream()
+                .sorted(Comparator.comparing(HistoricProcessInstance::getStartTime).thenComparing(HistoricProcessInstance::getId))
+                .map(HistoricProcessInstance::getId)
+                .collect(Collectors.toList());
+
+            HistoricProcessInstanceQuery query = historyService.createHistoricProcessInstanceQuery().orderByProcessInstanceStartTime().asc();
+            List<String> pagedIds = new ArrayList<>();
+            List<HistoricProcessInstance> page = query.listPageAfter(null, 3);
+            while (!page.isEmpty()) {
+                pagedIds.addAll(getIds(page));
+                page = query.listPageAfter(query.getCursor(page.get(page.size() - 1)), 3);
+            }
+            assertEquals(ascendingIds, pagedIds);
+
+            List<String> descendingIds = new ArrayList<>(ascendingIds);
+            Collections.reverse(descendingIds);
+            HistoricProcessInstanceQuery descendingQuery = historyService.createHistoricProcessInstanceQuery().orderByProcessInstanceStartTime().desc();
+            pagedIds.clear();
+            page = descendingQuery.listPageAfter(null, 4);
+            while (!page.isEmpty()) {
+                pagedIds.addAll(getIds(page));
+                page = descendingQuery.listPageAfter(descendingQuery.getCursor(page.get(page.size() - 1)), 4);
+            }
+            assertEquals(descendingIds, pagedIds);
+        }
+    }
+
+    protected List<String> getIds(List<HistoricProcessInstance> historicProcessInstances) {
+        return historicProcessInstances.stream().map(HistoricProcessInstance::getId).collect(Collectors.toList());
+    }
+
+    @Test
+    @Deployment(resources = { "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml" })
+    public void testQueryStream() {
+        for (int i = 0; i < 3; i++) {
+            runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        }
+
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+            List<String> streamedIds = managementService.executeCommand((Command<List<String>>) commandContext -> {
+                try (Stream<HistoricProcessInstance> stream = historyService.createHistoricProcessInstanceQuery().orderByProcessInstanceId().asc().stream()) {
+                    return stream.map(HistoricProcessInstance::getId).collect(Collectors.toList());
+                }
+            });
+
+            List<String> listedIds = historyService.createHistoricProcessInstanceQuery().orderByProcessInstanceId().asc().list().stream()
+                .map(HistoricProcessInstance::getId)
+                .collect(Collectors.toList());
+            assertEquals(listedIds, streamedIds);
+        }
+    }
+
 }
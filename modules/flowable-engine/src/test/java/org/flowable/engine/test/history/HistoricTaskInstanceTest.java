@@ -20,11 +20,13 @@ import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
+import java.util.Comparator;
 import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.FlowableObjectNotFoundException;
@@ -32,11 +34,12 @@ import org.flowable.engine.impl.test.PluggableFlowableTestCase;
 import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.test.Deployment;
-import org.flowable.identitylink.api.history.HistoricIdentityLink;
 import org.flowable.identitylink.api.IdentityLinkType;
+import org.flowable.identitylink.api.history.HistoricIdentityLink;
 import org.flowable.task.api.Task;
 import org.flowable.task.api.TaskInfo;
 import org.flowable.task.api.history.HistoricTaskInstance;
+import org.flowable.task.api.history.HistoricTaskInstanceQuery;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -916,4 +919,42 @@ public class HistoricTaskInstanceTest extends PluggableFlowableTestCase {
         assertEquals(9, varValue);
     }
 
+    @Test
+    public void testQueryListPageAfterOrderedByStartTime() {
+        // Two tasks per start time, so the pages need the id to continue after a task with the same start time
+        Date startTime = new Date(1_600_000_000_000L);
+        List<String> taskIds = new ArrayList<>();
+        try {
+            for (int i = 0; i < 5; i++) {
+                processEngineConfiguration.getClock().setCurrentTime(new Date(startTime.getTime() + (i / 2) * 1000L));
+                Task task = taskService.newTask();
+                task.setCategory("keysetPaging");
+                taskService.saveTask(task);
+                taskIds.add(task.getId());
+            }
+            processEngineConfiguration.getClock().reset();
+            waitForHistoryJobExecutorToProcessAllJobs(7000, 100);
+
+            List<String> expectedIds = historyService.createHistoricTaskInstanceQuery().taskCategory("keysetPaging").list().stream()
+                .sorted(Comparator.comparing(HistoricTaskInstance::getCreateTime).thenComparing(HistoricTaskInstance::getId))
+                .map(HistoricTaskInstance::getId)
+                .collect(Collectors.toList());
+
+            HistoricTaskInstanceQuery query = historyService.createHistoricTaskInstanceQuery().taskCategory("keysetPaging").orderByHistoricTaskInstanceStartTime().asc();
+            List<String> pagedIds = new ArrayList<>();
+            List<HistoricTaskInstance> page = query.listPageAfter(null, 2);
+            while (!page.isEmpty()) {
+                page.forEach(historicTask -> pagedIds.add(historicTask.getId()));
+                page = query.listPageAfter(query.getCursor(page.get(page.size() - 1)), 2);
+            }
+            assertThat(pagedIds).isEqualTo(expectedIds);
+
+        } finally {
+            processEngineConfiguration.getClock().reset();
+            for (String taskId : taskIds) {
+                taskService.deleteTask(taskId, true);
+            }
+        }
+    }
+
 }
@@ -0,0 +1,298 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.history;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.history.HistoryLevel;
+import org.flowable.common.engine.impl.history.archive.AbstractHistoryArchiveManager;
+import org.flowable.common.engine.impl.history.archive.FileSystemHistoryArchiveStore;
+import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.impl.history.archive.DefaultHistoryArchiveManager;
+import org.flowable.engine.impl.history.archive.HistoryArchiveManager;
+import org.flowable.engine.impl.test.HistoryTestHelper;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.task.api.Task;
+import org.flowable.task.api.history.HistoricTaskInstance;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class HistoryArchiveTest extends PluggableFlowableTestCase {
+
+    protected Path archiveDirectory;
+    protected HistoryArchiveManager originalHistoryArchiveManager;
+    protected DefaultHistoryArchiveManager historyArchiveManager;
+    protected List<String> openedFiles = new ArrayList<>();
+
+    @BeforeEach
+    public void setUpHistoryArchive() throws IOException {
+        archiveDirectory = Files.createTempDirectory("flowable-history-archive");
+        originalHistoryArchiveManager = processEngineConfiguration.getHistoryArchiveManager();
+        historyArchiveManager = new DefaultHistoryArchiveManager(processEngineConfiguration, new FileSystemHistoryArchiveStore(archiveDirectory) {
+
+            @Override
+            public InputStream openFile(String partition, String fileName) throws IOException {
+                openedFiles.add(fileName);
+                return super.openFile(partition, fileName);
+            }
+        });
+        processEngineConfiguration.setHistoryArchiveManager(historyArchiveManager);
+    }
+
+    @AfterEach
+    public void tearDownHistoryArchive() throws IOException {
+        processEngineConfiguration.setHistoryArchiveManager(originalHistoryArchiveManager);
+        try (Stream<Path> paths = Files.walk(archiveDirectory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    @Deployment(resources = { "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml" })
+    public void testArchiveHistoricProcessInstances() throws IOException {
+        if (!HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.AUDIT, processEngineConfiguration)) {
+            return;
+        }
+
+        ProcessInstance finishedProcessInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("oneTaskProcess")
+                .businessKey("archived")
+                .variable("amount", 123L)
+                .start();
+        Task task = taskService.createTaskQuery().processInstanceId(finishedProcessInstance.getId()).singleResult();
+        taskService.complete(task.getId());
+
+        ProcessInstance runningProcessInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        waitForHistoryJobExecutorToProcessAllJobs(7000, 100);
+
+        assertEquals(1, historyService.archiveHistoricProcessInstances(new Date(System.currentTimeMillis() + 1000), 10));
+        assertThat(historyArchiveManager.getHistoryArchiveStore().getPartitions())
+                .containsExactly(AbstractHistoryArchiveManager.getPartition(new Date()));
+
+        // The history of the finished process instance is deleted from the history tables, and not returned by the history queries anymore
+        assertEquals(0, historyService.createHistoricProcessInstanceQuery().processInstanceId(finishedProcessInstance.getId()).count());
+        assertNull(historyService.createHistoricProcessInstanceQuery().processInstanceId(finishedProcessInstance.getId()).singleResult());
+        assertEquals(0, historyService.createHistoricActivityInstanceQuery().processInstanceId(finishedProcessInstance.getId()).count());
+        assertEquals(0, historyService.createHistoricVariableInstanceQuery().processInstanceId(finishedProcessInstance.getId()).count());
+        assertEquals(1, historyService.createHistoricProcessInstanceQuery().processInstanceId(runningProcessInstance.getId()).count());
+
+        HistoricProcessInstance historicProcessInstance = historyService.createArchivedHistoricProcessInstanceQuery()
+                .processInstanceId(finishedProcessInstance.getId())
+                .singleResult();
+        assertNotNull(historicProcessInstance);
+        assertEquals("archived", historicProcessInstance.getBusinessKey());
+        assertEquals("oneTaskProcess", historicProcessInstance.getProcessDefinitionKey());
+        assertNotNull(historicProcessInstance.getEndTime());
+
+        assertEquals(1, historyService.createArchivedHistoricProcessInstanceQuery().processDefinitionKey("oneTaskProcess").count());
+        assertEquals(0, historyService.createArchivedHistoricProcessInstanceQuery().processDefinitionKey("unknown").count());
+        assertEquals(0, historyService.createArchivedHistoricProcessInstanceQuery()
+                .processInstanceId(finishedProcessInstance.getId())
+                .finishedBefore(historicProcessInstance.getStartTime())
+                .count());
+        assertEquals(1, historyService.createArchivedHistoricProcessInstanceQuery()
+                .processInstanceId(finishedProcessInstance.getId())
+                .startedAfter(new Date(historicProcessInstance.getStartTime().getTime() - 1000))
+                .finishedBefore(new Date(historicProcessInstance.getEndTime().getTime() + 1000))
+                .count());
+        assertNull(historyService.createArchivedHistoricProcessInstanceQuery().processInstanceId(runningProcessInstance.getId()).singleResult());
+
+        // Nothing left to archive
+        assertEquals(0, historyService.archiveHistoricProcessInstances(new Date(System.currentTimeMillis() + 1000), 10));
+    }
+
+    @Test
+    @Deployment(resources = { "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml" })
+    public void testArchivedTaskInstances() {
+        if (!HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.AUDIT, processEngineConfiguration)) {
+            return;
+        }
+
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        taskService.complete(task.getId());
+        waitForHistoryJobExecutorToProcessAllJobs(7000, 100);
+
+        assertEquals(1, historyService.archiveHistoricProcessInstances(new Date(System.currentTimeMillis() + 1000), 10));
+
+        // The archived tasks are not returned by the historic task query anymore
+        assertNull(historyService.createHistoricTaskInstanceQuery().taskId(task.getId()).singleResult());
+        assertEquals(0, historyService.createHistoricTaskInstanceQuery().processInstanceId(processInstance.getId()).count());
+
+        HistoricTaskInstance historicTaskInstance = historyService.createArchivedHistoricTaskInstanceQuery().taskId(task.getId()).singleResult();
+        assertNotNull(historicTaskInstance);
+        assertEquals(processInstance.getId(), historicTaskInstance.getProcessInstanceId());
+        assertEquals("theTask", historicTaskInstance.getTaskDefinitionKey());
+        assertNotNull(historicTaskInstance.getEndTime());
+
+        assertThat(historyService.createArchivedHistoricTaskInstanceQuery().processInstanceId(processInstance.getId()).list())
+                .extracting(HistoricTaskInstance::getId)
+                .containsExactly(task.getId());
+        assertThat(historyService.createArchivedHistoricTaskInstanceQuery().processInstanceIds(new HashSet<>(Arrays.asList(processInstance.getId(), "unknown"))).list())
+                .extracting(HistoricTaskInstance::getId)
+                .containsExactly(task.getId());
+        assertEquals(1, historyService.createArchivedHistoricTaskInstanceQuery().processDefinitionKey("oneTaskProcess").count());
+        assertEquals(0, historyService.createArchivedHistoricTaskInstanceQuery().taskId(task.getId()).processInstanceId("unknown").count());
+        assertNull(historyService.createArchivedHistoricTaskInstanceQuery().taskId("unknown").singleResult());
+    }
+
+    @Test
+    @Deployment(resources = {
+            "org/flowable/engine/test/history/HistoricProcessInstanceTest.testDeleteHistoricProcessInstanceWithCallActivity.bpmn20.xml",
+            "org/flowable/engine/test/history/HistoricProcessInstanceTest.testDeleteHistoricProcessInstanceWithCallActivity-subprocess.bpmn20.xml"
+    })
+    public void testArchiveSubProcessInstancesWithRoot() {
+        if (!HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.AUDIT, processEngineConfiguration)) {
+            return;
+        }
+
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("callSimpleSubProcess");
+        ProcessInstance subProcessInstance = runtimeService.createProcessInstanceQuery().superProcessInstanceId(processInstance.getId()).singleResult();
+        Task task = taskService.createTaskQuery().processInstanceId(subProcessInstance.getId()).singleResult();
+
+        // A finished sub process instance of a running root is not archived
+        ProcessInstance runningProcessInstance = runtimeService.startProcessInstanceByKey("callSimpleSubProcess");
+        taskService.complete(task.getId());
+        waitForHistoryJobExecutorToProcessAllJobs(7000, 100);
+
+        assertEquals(2, historyService.archiveHistoricProcessInstances(new Date(System.currentTimeMillis() + 1000), 10));
+
+        assertEquals(0, historyService.createHistoricProcessInstanceQuery().processInstanceId(processInstance.getId()).count());
+        assertEquals(0, historyService.createHistoricProcessInstanceQuery().processInstanceId(subProcessInstance.getId()).count());
+        assertEquals(2, historyService.createHistoricProcessInstanceQuery().count());
+        assertEquals(1, historyService.createHistoricProcessInstanceQuery().superProcessInstanceId(runningProcessInstance.getId()).count());
+
+        assertThat(historyService.createArchivedHistoricProcessInstanceQuery().list())
+                .extracting(HistoricProcessInstance::getId)
+                .containsExactlyInAnyOrder(processInstance.getId(), subProcessInstance.getId());
+        HistoricProcessInstance archivedSubProcessInstance = historyService.createArchivedHistoricProcessInstanceQuery()
+                .processInstanceId(subProcessInstance.getId())
+                .singleResult();
+        assertEquals(processInstance.getId(), archivedSubProcessInstance.getSuperProcessInstanceId());
+        assertEquals(subProcessInstance.getId(), historyService.createArchivedHistoricTaskInstanceQuery().taskId(task.getId()).singleResult().getProcessInstanceId());
+
+        assertEquals(0, historyService.archiveHistoricProcessInstances(new Date(System.currentTimeMillis() + 1000), 10));
+    }
+
+    @Test
+    @Deployment(resources = { "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml" })
+    public void testArchivedProcessInstancesPagingAndCount() {
+        if (!HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.AUDIT, processEngineConfiguration)) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        List<String> processInstanceIds = new ArrayList<>();
+        try {
+            for (int i = 0; i < 5; i++) {
+                processEngineConfiguration.getClock().setCurrentTime(new Date(now - (10 - i) * 60000L));
+                ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+                processInstanceIds.add(processInstance.getId());
+                taskService.complete(taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult().getId());
+
+                // Every archive run writes a separate file
+                if (i % 2 == 0) {
+                    waitForHistoryJobExecutorToProcessAllJobs(7000, 100);
+                    historyService.archiveHistoricProcessInstances(new Date(now), 10);
+                }
+            }
+        } finally {
+            processEngineConfiguration.getClock().reset();
+        }
+        waitForHistoryJobExecutorToProcessAllJobs(7000, 100);
+        historyService.archiveHistoricProcessInstances(new Date(now), 10);
+
+        assertEquals(5, historyService.createArchivedHistoricProcessInstanceQuery().count());
+        assertEquals(5, historyService.createArchivedHistoricProcessInstanceQuery().list().size());
+        assertEquals(2, historyService.createArchivedHistoricProcessInstanceQuery().startedAfter(new Date(now - 7 * 60000L - 1000)).count());
+
+        assertThat(historyService.createArchivedHistoricProcessInstanceQuery().orderByProcessInstanceStartTime().asc().listPage(0, 2))
+                .extracting(HistoricProcessInstance::getId)
+                .containsExactly(processInstanceIds.get(0), processInstanceIds.get(1));
+        assertThat(historyService.createArchivedHistoricProcessInstanceQuery().orderByProcessInstanceStartTime().desc().listPage(1, 3))
+                .extracting(HistoricProcessInstance::getId)
+                .containsExactly(processInstanceIds.get(3), processInstanceIds.get(2), processInstanceIds.get(1));
+        assertThat(historyService.createArchivedHistoricProcessInstanceQuery().orderByProcessInstanceEndTime().desc().listPage(4, 10))
+                .extracting(HistoricProcessInstance::getId)
+                .containsExactly(processInstanceIds.get(0));
+        assertThat(historyService.createArchivedHistoricProcessInstanceQuery().orderByProcessInstanceId().asc().list())
+                .extracting(HistoricProcessInstance::getId)
+                .containsExactlyElementsOf(processInstanceIds.stream().sorted().collect(Collectors.toList()));
+        assertThat(historyService.createArchivedHistoricProcessInstanceQuery().listPage(5, 10)).isEmpty();
+
+        // A lookup by id only reads the archive file whose id filter contains the id
+        openedFiles.clear();
+        assertNotNull(historyService.createArchivedHistoricProcessInstanceQuery().processInstanceId(processInstanceIds.get(2)).singleResult());
+        assertThat(openedFiles).hasSize(1);
+        openedFiles.clear();
+        assertNull(historyService.createArchivedHistoricProcessInstanceQuery().processInstanceId("unknown").singleResult());
+        assertThat(openedFiles).isEmpty();
+    }
+
+    @Test
+    @Deployment(resources = { "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml" })
+    public void testRolledBackArchiveIsDeleted() throws IOException {
+        if (!HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.AUDIT, processEngineConfiguration)) {
+            return;
+        }
+
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        taskService.complete(taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult().getId());
+        waitForHistoryJobExecutorToProcessAllJobs(7000, 100);
+
+        Date finishedBefore = new Date(System.currentTimeMillis() + 1000);
+        assertThatThrownBy(() -> managementService.executeCommand(commandContext -> {
+            historyArchiveManager.archiveHistoricProcessInstances(finishedBefore, 10, commandContext);
+            throw new FlowableException("rollback");
+        })).isInstanceOf(FlowableException.class).hasMessage("rollback");
+
+        for (String partition : historyArchiveManager.getHistoryArchiveStore().getPartitions()) {
+            assertThat(historyArchiveManager.getHistoryArchiveStore().getFileNames(partition)).isEmpty();
+        }
+        assertEquals(0, historyService.createArchivedHistoricProcessInstanceQuery().count());
+        assertEquals(1, historyService.createHistoricProcessInstanceQuery().processInstanceId(processInstance.getId()).count());
+
+        // Archived once when archiving again
+        assertEquals(1, historyService.archiveHistoricProcessInstances(finishedBefore, 10));
+        assertEquals(1, historyService.createArchivedHistoricProcessInstanceQuery().count());
+        assertEquals(0, historyService.createHistoricProcessInstanceQuery().processInstanceId(processInstance.getId()).count());
+    }
+
+    @Test
+    public void testArchivedQueryWithoutArchiveStore() {
+        processEngineConfiguration.setHistoryArchiveManager(null);
+
+        assertThatThrownBy(() -> historyService.createArchivedHistoricProcessInstanceQuery().list())
+                .isInstanceOf(FlowableException.class)
+                .hasMessage("No history archive store is configured");
+    }
+
+}
@@ -17,14 +17,27 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.FlowableOptimisticLockingException;
+import org.flowable.engine.ManagementService;
 import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.impl.cfg.DefaultInternalJobManager;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
 import org.flowable.engine.impl.test.JobTestHelper;
+import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.job.api.Job;
 import org.flowable.job.api.JobInfo;
+import org.flowable.job.service.InternalJobManager;
+import org.flowable.job.service.impl.asyncexecutor.AcquiredTimerJobEntities;
 import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
 import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncJobExecutor;
+import org.flowable.job.service.impl.asyncexecutor.MoveTimerJobsToExecutableJobsCmd;
+import org.flowable.job.service.impl.asyncexecutor.ResetExpiredTimerJobsCmd;
+import org.flowable.job.service.impl.asyncexecutor.TimerJobLatenessStatistics;
+import org.flowable.job.service.impl.cmd.AcquireTimerJobsCmd;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
 import org.junit.Assert;
 import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
@@ -48,6 +61,10 @@ public class AsyncExecutorTest {
             setClockToCurrentTime(processEngine);
             deploy(processEngine, "AsyncExecutorTest.testRegularAsyncExecution.bpmn20.xml");
 
+            // Without look-ahead timers are never held in memory, so their acquire locks are not reset
+            DefaultAsyncJobExecutor asyncExecutor = (DefaultAsyncJobExecutor) processEngine.getProcessEngineConfiguration().getAsyncExecutor();
+            Assert.assertFalse(asyncExecutor.getResetExpiredJobsRunnable().isResetExpiredTimerJobs());
+
             // Start process instance. Wait for all jobs to be done
             processEngine.getRuntimeService().startProcessInstanceByKey("asyncExecutor");
 
@@ -84,6 +101,238 @@ public class AsyncExecutorTest {
         }
     }
 
+    @Test
+    public void testTimerLookAhead() throws Exception {
+
+        ProcessEngine processEngine = null;
+
+        try {
+            processEngine = createProcessEngine(true, null, 10 * 60 * 1000);
+            setClockToCurrentTime(processEngine);
+            deploy(processEngine, "AsyncExecutorTest.testRegularAsyncExecution.bpmn20.xml");
+
+            processEngine.getRuntimeService().startProcessInstanceByKey("asyncExecutor");
+
+            // The timer is due within the look-ahead time: it is acquired, but kept in memory until it is due
+            ProcessEngine engine = processEngine;
+            DefaultAsyncJobExecutor asyncExecutor = (DefaultAsyncJobExecutor) processEngine.getProcessEngineConfiguration().getAsyncExecutor();
+            Assert.assertTrue(asyncExecutor.getResetExpiredJobsRunnable().isResetExpiredTimerJobs());
+            waitForCondition(() -> asyncExecutor.getTimerJobRunnable().getTimingWheel() != null
+                    && asyncExecutor.getTimerJobRunnable().getTimingWheel().size() == 1);
+
+            TimerJobEntity timerJob = (TimerJobEntity) processEngine.getManagementService().createTimerJobQuery().singleResult();
+            Assert.assertEquals(asyncExecutor.getLockOwner(), timerJob.getLockOwner());
+            Assert.assertTrue(timerJob.getLockExpirationTime().after(timerJob.getDuedate()));
+
+            addSecondsToCurrentTime(processEngine, 180L);
+            Thread.sleep(500L);
+            Assert.assertEquals(1, processEngine.getTaskService().createTaskQuery().taskName("The Task").count());
+            Assert.assertEquals(1, processEngine.getManagementService().createTimerJobQuery().count());
+            Assert.assertEquals(0, getAsyncExecutorJobCount(processEngine));
+
+            // Passing the due date fires the timer from memory
+            addSecondsToCurrentTime(processEngine, 121L);
+            waitForCondition(() -> engine.getTaskService().createTaskQuery().taskName("Task after timer").count() == 1);
+
+            Assert.assertEquals(0, processEngine.getTaskService().createTaskQuery().taskName("The Task").count());
+            Assert.assertEquals(0, processEngine.getManagementService().createTimerJobQuery().count());
+            Assert.assertEquals(0, asyncExecutor.getTimerJobRunnable().getTimingWheel().size());
+            Assert.assertEquals(1, getAsyncExecutorJobCount(processEngine));
+
+        } finally {
+            if (processEngine != null) {
+                cleanup(processEngine);
+            }
+        }
+    }
+
+    @Test
+    public void testTimerBacklogAcquisition() throws Exception {
+
+        ProcessEngine processEngine = null;
+
+        try {
+            processEngine = createProcessEngine(true);
+            ((ProcessEngineConfigurationImpl) processEngine.getProcessEngineConfiguration()).getPerformanceSettings().setEnableExecutionRelationshipCounts(false);
+            setClockToCurrentTime(processEngine);
+            deploy(processEngine, "AsyncExecutorTest.testRegularAsyncExecution.bpmn20.xml");
+
+            DefaultAsyncJobExecutor asyncExecutor = (DefaultAsyncJobExecutor) processEngine.getProcessEngineConfiguration().getAsyncExecutor();
+            asyncExecutor.setMaxTimerJobsPerAcquisition(2);
+            asyncExecutor.setMaxTimerJobsPerBacklogAcquisition(8);
+            asyncExecutor.setTimerJobBulkMoveThreshold(2);
+
+            for (int i = 0; i < 10; i++) {
+                processEngine.getRuntimeService().startProcessInstanceByKey("asyncExecutor");
+            }
+            Assert.assertEquals(10, processEngine.getManagementService().createTimerJobQuery().count());
+
+            // All timers become due at once
+            addSecondsToCurrentTime(processEngine, 301L);
+            ProcessEngine engine = processEngine;
+            waitForCondition(() -> engine.getTaskService().createTaskQuery().taskName("Task after timer").count() == 10);
+
+            Assert.assertEquals(0, processEngine.getManagementService().createTimerJobQuery().count());
+            Assert.assertEquals(10, getAsyncExecutorJobCount(processEngine));
+
+            TimerJobLatenessStatistics latenessStatistics = asyncExecutor.getTimerJobRunnable().getLatenessStatistics();
+            Assert.assertEquals(10, latenessStatistics.getTimerJobCount());
+            Assert.assertTrue(latenessStatistics.getMaxLatenessInMillis() >= 1000L);
+            Assert.assertTrue(latenessStatistics.getAverageLatenessInMillis() <= latenessStatistics.getMaxLatenessInMillis());
+
+        } finally {
+            if (processEngine != null) {
+                cleanup(processEngine);
+            }
+        }
+    }
+
+    @Test
+    public void testBulkMoveTimerJobs() {
+
+        ProcessEngine processEngine = null;
+
+        try {
+            processEngine = createProcessEngine(false);
+            ((ProcessEngineConfigurationImpl) processEngine.getProcessEngineConfiguration()).getPerformanceSettings().setEnableExecutionRelationshipCounts(false);
+            setClockToCurrentTime(processEngine);
+            deploy(processEngine, "AsyncExecutorTest.testRegularAsyncExecution.bpmn20.xml");
+
+            for (int i = 0; i < 5; i++) {
+                processEngine.getRuntimeService().startProcessInstanceByKey("asyncExecutor");
+            }
+            addSecondsToCurrentTime(processEngine, 301L);
+
+            ManagementService managementService = processEngine.getManagementService();
+            AsyncExecutor asyncExecutor = processEngine.getProcessEngineConfiguration().getAsyncExecutor();
+            AcquiredTimerJobEntities acquiredJobs = managementService.executeCommand(new AcquireTimerJobsCmd(asyncExecutor, null, 10));
+            Assert.assertEquals(5, acquiredJobs.size());
+
+            managementService.executeCommand(new MoveTimerJobsToExecutableJobsCmd(acquiredJobs.getJobs(), true));
+            Assert.assertEquals(0, managementService.createTimerJobQuery().count());
+            Assert.assertEquals(5, managementService.createJobQuery().count());
+
+            for (Job job : managementService.createJobQuery().list()) {
+                Assert.assertNull(((JobEntity) job).getLockOwner());
+                managementService.executeJob(job.getId());
+            }
+            Assert.assertEquals(5, processEngine.getTaskService().createTaskQuery().taskName("Task after timer").count());
+
+            // Timers that are no longer locked by the acquiring executor are not moved
+            for (int i = 0; i < 2; i++) {
+                processEngine.getRuntimeService().startProcessInstanceByKey("asyncExecutor");
+            }
+            addSecondsToCurrentTime(processEngine, 301L);
+            AcquiredTimerJobEntities otherAcquiredJobs = managementService.executeCommand(new AcquireTimerJobsCmd(asyncExecutor, null, 10));
+            String otherTimerJobId = otherAcquiredJobs.getJobs().iterator().next().getId();
+            managementService.executeCommand(commandContext -> {
+                CommandContextUtil.getTimerJobService(commandContext).findTimerJobById(otherTimerJobId).setLockOwner("otherExecutor");
+                return null;
+            });
+            try {
+                managementService.executeCommand(new MoveTimerJobsToExecutableJobsCmd(otherAcquiredJobs.getJobs(), true));
+                Assert.fail();
+            } catch (FlowableOptimisticLockingException e) {
+                // Expected
+            }
+            Assert.assertEquals(2, managementService.createTimerJobQuery().count());
+            Assert.assertEquals(0, managementService.createJobQuery().count());
+
+        } finally {
+            if (processEngine != null) {
+                cleanup(processEngine);
+            }
+        }
+    }
+
+    @Test
+    public void testBulkMoveTimerJobsCallsInsertHook() {
+
+        ProcessEngine processEngine = null;
+
+        try {
+            processEngine = createProcessEngine(false);
+            ProcessEngineConfigurationImpl processEngineConfiguration = (ProcessEngineConfigurationImpl) processEngine.getProcessEngineConfiguration();
+            processEngineConfiguration.getPerformanceSettings().setEnableExecutionRelationshipCounts(false);
+            setClockToCurrentTime(processEngine);
+            deploy(processEngine, "AsyncExecutorTest.testRegularAsyncExecution.bpmn20.xml");
+
+            ProcessInstance rejectedProcessInstance = processEngine.getRuntimeService().startProcessInstanceByKey("asyncExecutor");
+            for (int i = 0; i < 2; i++) {
+                processEngine.getRuntimeService().startProcessInstanceByKey("asyncExecutor");
+            }
+            addSecondsToCurrentTime(processEngine, 301L);
+
+            ManagementService managementService = processEngine.getManagementService();
+            AcquiredTimerJobEntities acquiredJobs = managementService.executeCommand(
+                    new AcquireTimerJobsCmd(processEngineConfiguration.getAsyncExecutor(), null, 10));
+            Assert.assertEquals(3, acquiredJobs.size());
+
+            // The insert hook rejects the job of one process instance, as it does when the execution of a timer is gone
+            InternalJobManager originalInternalJobManager = processEngineConfiguration.getJobServiceConfiguration().getInternalJobManager();
+            processEngineConfiguration.getJobServiceConfiguration().setInternalJobManager(new DefaultInternalJobManager(processEngineConfiguration) {
+
+                @Override
+                public boolean handleJobInsert(Job job) {
+                    return !rejectedProcessInstance.getId().equals(job.getProcessInstanceId()) && super.handleJobInsert(job);
+                }
+            });
+            try {
+                managementService.executeCommand(new MoveTimerJobsToExecutableJobsCmd(acquiredJobs.getJobs(), true));
+            } finally {
+                processEngineConfiguration.getJobServiceConfiguration().setInternalJobManager(originalInternalJobManager);
+            }
+
+            Assert.assertEquals(2, managementService.createJobQuery().count());
+            Assert.assertEquals(0, managementService.createJobQuery().processInstanceId(rejectedProcessInstance.getId()).count());
+            Assert.assertEquals(1, managementService.createTimerJobQuery().processInstanceId(rejectedProcessInstance.getId()).count());
+
+        } finally {
+            if (processEngine != null) {
+                cleanup(processEngine);
+            }
+        }
+    }
+
+    @Test
+    public void testResetExpiredTimerJobLock() {
+
+        ProcessEngine processEngine = null;
+
+        try {
+            processEngine = createProcessEngine(false);
+            setClockToCurrentTime(processEngine);
+            deploy(processEngine, "AsyncExecutorTest.testRegularAsyncExecution.bpmn20.xml");
+            processEngine.getRuntimeService().startProcessInstanceByKey("asyncExecutor");
+
+            // Simulate an executor that acquired the timer ahead of time and went down
+            ManagementService managementService = processEngine.getManagementService();
+            String timerJobId = managementService.createTimerJobQuery().singleResult().getId();
+            Date lockExpirationTime = new Date(processEngine.getProcessEngineConfiguration().getClock().getCurrentTime().getTime() + 60000L);
+            managementService.executeCommand(commandContext -> {
+                TimerJobEntity timerJob = CommandContextUtil.getTimerJobService(commandContext).findTimerJobById(timerJobId);
+                timerJob.setLockOwner("crashedExecutor");
+                timerJob.setLockExpirationTime(lockExpirationTime);
+                return null;
+            });
+
+            Assert.assertEquals(0, (int) managementService.executeCommand(new ResetExpiredTimerJobsCmd()));
+            Assert.assertEquals("crashedExecutor", ((TimerJobEntity) managementService.createTimerJobQuery().singleResult()).getLockOwner());
+
+            addSecondsToCurrentTime(processEngine, 61L);
+            Assert.assertEquals(1, (int) managementService.executeCommand(new ResetExpiredTimerJobsCmd()));
+
+            TimerJobEntity timerJob = (TimerJobEntity) managementService.createTimerJobQuery().singleResult();
+            Assert.assertNull(timerJob.getLockOwner());
+            Assert.assertNull(timerJob.getLockExpirationTime());
+
+        } finally {
+            if (processEngine != null) {
+                cleanup(processEngine);
+            }
+        }
+    }
+
     @Test
     public void testAsyncExecutorDisabledOnOneEngine() {
 
@@ -219,6 +468,10 @@ public class AsyncExecutorTest {
     }
 
     private ProcessEngine createProcessEngine(boolean enableAsyncExecutor, Date time) {
+        return createProcessEngine(enableAsyncExecutor, time, 0);
+    }
+
+    private ProcessEngine createProcessEngine(boolean enableAsyncExecutor, Date time, int timerLookAheadTimeInMillis) {
         ProcessEngineConfigurationImpl processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
         processEngineConfiguration.setJdbcUrl("jdbc:h2:mem:activiti-AsyncExecutorTest;DB_CLOSE_DELAY=1000");
         processEngineConfiguration.setDatabaseSchemaUpdate("true");
@@ -229,6 +482,7 @@ public class AsyncExecutorTest {
             CountingAsyncExecutor countingAsyncExecutor = new CountingAsyncExecutor();
             countingAsyncExecutor.setDefaultAsyncJobAcquireWaitTimeInMillis(50); // To avoid waiting too long when a retry happens
             countingAsyncExecutor.setDefaultTimerJobAcquireWaitTimeInMillis(50);
+            countingAsyncExecutor.setTimerLookAheadTimeInMillis(timerLookAheadTimeInMillis);
             processEngineConfiguration.setAsyncExecutor(countingAsyncExecutor);
         }
 
@@ -271,6 +525,16 @@ public class AsyncExecutorTest {
         JobTestHelper.waitForJobExecutorToProcessAllJobsAndExecutableTimerJobs(processEngine.getProcessEngineConfiguration(), processEngine.getManagementService(), maxWaitTime, 1000L, false);
     }
 
+    private void waitForCondition(Callable<Boolean> condition) throws Exception {
+        long maxTime = System.currentTimeMillis() + 10000L;
+        while (!condition.call()) {
+            if (System.currentTimeMillis() > maxTime) {
+                Assert.fail("Condition was not met within 10 seconds");
+            }
+            Thread.sleep(50L);
+        }
+    }
+
     private int getAsyncExecutorJobCount(ProcessEngine processEngine) {
         AsyncExecutor asyncExecutor = processEngine.getProcessEngineConfiguration().getAsyncExecutor();
         if (asyncExecutor instanceof CountingAsyncExecutor) {
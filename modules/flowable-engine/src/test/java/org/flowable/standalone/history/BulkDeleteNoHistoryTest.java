@@ -12,12 +12,26 @@
  */
 package org.flowable.standalone.history;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 
+import org.flowable.common.engine.api.FlowableObjectNotFoundException;
+import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
+import org.flowable.common.engine.api.delegate.event.FlowableEventListener;
+import org.flowable.engine.delegate.event.AbstractFlowableEngineEventListener;
+import org.flowable.engine.delegate.event.FlowableCancelledEvent;
+import org.flowable.engine.impl.cmd.BulkDeleteProcessInstancesCmd;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntityImpl;
 import org.flowable.engine.impl.test.ResourceFlowableTestCase;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.test.Deployment;
+import org.flowable.engine.test.profiler.CommandExecutionResult;
+import org.flowable.engine.test.profiler.FlowableProfiler;
 import org.junit.jupiter.api.Test;
 
 public class BulkDeleteNoHistoryTest extends ResourceFlowableTestCase {
@@ -49,4 +63,124 @@ public class BulkDeleteNoHistoryTest extends ResourceFlowableTestCase {
         // Check if process is gone
         assertEquals(0L, runtimeService.createProcessInstanceQuery().processInstanceId(processInstance.getId()).count());
     }
+
+    @Test
+    @Deployment
+    public void testBulkDeleteProcessInstances() {
+        Map<String, Long> tableCountBefore = managementService.getTableCount();
+
+        List<String> processInstanceIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Map<String, Object> variables = new HashMap<>();
+            variables.put("number", i);
+            variables.put("bytes", "bytes".getBytes());
+            variables.put("list", new ArrayList<>(Arrays.asList("a", "b", "c")));
+            ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("bulkDeleteProcess", variables);
+            processInstanceIds.add(processInstance.getId());
+        }
+        assertEquals(5, taskService.createTaskQuery().taskCandidateUser("kermit").count());
+        assertEquals(5, managementService.createTimerJobQuery().count());
+        assertEquals(5, runtimeService.createEventSubscriptionQuery().eventType("message").count());
+
+        // Use a chunk size that doesn't divide the number of process instances
+        int originalChunkSize = processEngineConfiguration.getProcessInstanceBulkDeleteChunkSize();
+        processEngineConfiguration.setProcessInstanceBulkDeleteChunkSize(2);
+        List<CommandExecutionResult> commandExecutions;
+        try {
+            commandExecutions = profileBulkDelete(processInstanceIds);
+        } finally {
+            processEngineConfiguration.setProcessInstanceBulkDeleteChunkSize(originalChunkSize);
+        }
+
+        // Every chunk deletes its runtime data with set-based deletes, none of the entities is deleted one by one
+        assertEquals(3, commandExecutions.size());
+        for (CommandExecutionResult commandExecution : commandExecutions) {
+            Map<String, Long> dbDeletes = commandExecution.getDbDeletes();
+            assertEquals(Long.valueOf(1), dbDeletes.get("Bulk-delete-deleteChildExecutionsByProcessInstanceIds"));
+            assertEquals(Long.valueOf(1), dbDeletes.get("Bulk-delete-deleteProcessInstanceExecutionsByIds"));
+            assertEquals(Long.valueOf(1), dbDeletes.get("Bulk-delete-deleteTasksByProcessInstanceIds"));
+            assertEquals(Long.valueOf(1), dbDeletes.get("Bulk-delete-deleteVariableInstancesByProcessInstanceIds"));
+            assertEquals(Long.valueOf(1), dbDeletes.get("Bulk-delete-deleteTimerJobsByProcessInstanceIds"));
+            for (String dbDelete : dbDeletes.keySet()) {
+                assertTrue("Unexpected delete " + dbDelete, dbDelete.startsWith("Bulk-delete-"));
+            }
+        }
+
+        assertEquals(0, runtimeService.createProcessInstanceQuery().count());
+        assertEquals(0, runtimeService.createExecutionQuery().count());
+        assertEquals(0, taskService.createTaskQuery().count());
+        assertEquals(0, managementService.createTimerJobQuery().count());
+        assertEquals(0, runtimeService.createEventSubscriptionQuery().count());
+        assertEquals(0, runtimeService.createActivityInstanceQuery().count());
+
+        Map<String, Long> tableCountAfter = managementService.getTableCount();
+        String tablePrefix = processEngineConfiguration.getDatabaseTablePrefix();
+        assertEquals(0L, tableCountAfter.get(tablePrefix + "ACT_RU_VARIABLE").longValue());
+        assertEquals(0L, tableCountAfter.get(tablePrefix + "ACT_RU_IDENTITYLINK").longValue());
+        assertEquals(tableCountBefore.get(tablePrefix + "ACT_GE_BYTEARRAY"), tableCountAfter.get(tablePrefix + "ACT_GE_BYTEARRAY"));
+    }
+
+    @Test
+    @Deployment(resources = { "org/flowable/standalone/history/BulkDeleteNoHistoryTest.testBulkDeleteProcessInstances.bpmn20.xml" })
+    public void testBulkDeleteProcessInstancesWithEventListener() {
+        List<String> processInstanceIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            processInstanceIds.add(runtimeService.startProcessInstanceByKey("bulkDeleteProcess").getId());
+        }
+
+        // With an event listener registered, the process instances are deleted one by one so the events are dispatched
+        List<String> cancelledProcessInstanceIds = new ArrayList<>();
+        FlowableEventListener listener = new AbstractFlowableEngineEventListener(Collections.singleton(FlowableEngineEventType.PROCESS_CANCELLED)) {
+
+            @Override
+            protected void processCancelled(FlowableCancelledEvent event) {
+                cancelledProcessInstanceIds.add(event.getProcessInstanceId());
+            }
+        };
+        processEngineConfiguration.getEventDispatcher().addEventListener(listener);
+        List<CommandExecutionResult> commandExecutions;
+        try {
+            commandExecutions = profileBulkDelete(processInstanceIds);
+        } finally {
+            processEngineConfiguration.getEventDispatcher().removeEventListener(listener);
+        }
+
+        assertEquals(0, runtimeService.createProcessInstanceQuery().count());
+        assertEquals(new HashSet<>(processInstanceIds), new HashSet<>(cancelledProcessInstanceIds));
+
+        assertEquals(1, commandExecutions.size());
+        Map<String, Long> dbDeletes = commandExecutions.get(0).getDbDeletes();
+        assertNull(dbDeletes.get("Bulk-delete-deleteProcessInstanceExecutionsByIds"));
+        assertNotNull(dbDeletes.get(ExecutionEntityImpl.class.getName()));
+    }
+
+    @Test
+    @Deployment(resources = { "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml" })
+    public void testBulkDeleteUnexistingProcessInstance() {
+        String processInstanceId = runtimeService.startProcessInstanceByKey("oneTaskProcess").getId();
+
+        try {
+            runtimeService.bulkDeleteProcessInstances(Arrays.asList(processInstanceId, "unexisting"), null);
+            fail("FlowableObjectNotFoundException expected");
+        } catch (FlowableObjectNotFoundException e) {
+            assertTextPresent("unexisting", e.getMessage());
+        }
+
+        // Nothing is deleted when one of the process instances of a transaction doesn't exist
+        assertEquals(1, runtimeService.createProcessInstanceQuery().processInstanceId(processInstanceId).count());
+        runtimeService.deleteProcessInstance(processInstanceId, null);
+    }
+
+    protected List<CommandExecutionResult> profileBulkDelete(List<String> processInstanceIds) {
+        FlowableProfiler profiler = FlowableProfiler.getInstance();
+        profiler.startProfileSession("Bulk delete");
+        try {
+            runtimeService.bulkDeleteProcessInstances(processInstanceIds, "bulk delete");
+            List<CommandExecutionResult> commandExecutions = profiler.getCurrentProfileSession().getCommandExecutions()
+                    .get(BulkDeleteProcessInstancesCmd.class.getName());
+            return commandExecutions != null ? commandExecutions : Collections.emptyList();
+        } finally {
+            profiler.reset();
+        }
+    }
 }
@@ -12,6 +12,7 @@
  */
 package org.flowable.entitylink.api;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -40,6 +41,12 @@ public interface EntityLinkService {
     List<EntityLink> deleteScopeDefinitionEntityLink(String scopeDefinitionId, String scopeType, String linkType);
     
     void deleteEntityLinksByScopeIdAndType(String scopeId, String scopeType);
+
+    /**
+     * Deletes the entity links of the given scopes with a set-based delete.
+     * No events are dispatched for the deleted entity links.
+     */
+    void deleteEntityLinksByScopeIdsAndType(Collection<String> scopeIds, String scopeType);
     
     void deleteEntityLinksByScopeDefinitionIdAndType(String scopeDefinitionId, String scopeType);
     
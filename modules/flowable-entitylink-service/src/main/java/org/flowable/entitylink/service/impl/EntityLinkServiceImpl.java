@@ -12,6 +12,7 @@
  */
 package org.flowable.entitylink.service.impl;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.service.CommonServiceImpl;
@@ -79,6 +80,11 @@ public class EntityLinkServiceImpl extends CommonServiceImpl<EntityLinkServiceCo
     public void deleteEntityLinksByScopeIdAndType(String scopeId, String scopeType) {
         getEntityLinkEntityManager().deleteEntityLinksByScopeIdAndScopeType(scopeId, scopeType);
     }
+
+    @Override
+    public void deleteEntityLinksByScopeIdsAndType(Collection<String> scopeIds, String scopeType) {
+        getEntityLinkEntityManager().deleteEntityLinksByScopeIdsAndScopeType(scopeIds, scopeType);
+    }
     
     @Override
     public void deleteEntityLinksByScopeDefinitionIdAndType(String scopeDefinitionId, String scopeType) {
@@ -12,6 +12,7 @@
  */
 package org.flowable.entitylink.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.EntityManager;
@@ -33,6 +34,8 @@ public interface EntityLinkEntityManager extends EntityManager<EntityLinkEntity>
     List<EntityLink> deleteScopeDefinitionEntityLink(String scopeDefinitionId, String scopeType, String linkType);
 
     void deleteEntityLinksByScopeIdAndScopeType(String scopeId, String scopeType);
+
+    void deleteEntityLinksByScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType);
     
     void deleteEntityLinksByScopeDefinitionIdAndScopeType(String scopeDefinitionId, String scopeType);
 
@@ -13,6 +13,7 @@
 
 package org.flowable.entitylink.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.AbstractServiceEngineEntityManager;
@@ -82,6 +83,11 @@ public class EntityLinkEntityManagerImpl
     public void deleteEntityLinksByScopeIdAndScopeType(String scopeId, String scopeType) {
         dataManager.deleteEntityLinksByScopeIdAndScopeType(scopeId, scopeType);
     }
+
+    @Override
+    public void deleteEntityLinksByScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType) {
+        dataManager.deleteEntityLinksByScopeIdsAndScopeType(scopeIds, scopeType);
+    }
     
     @Override
     public void deleteEntityLinksByScopeDefinitionIdAndScopeType(String scopeDefinitionId, String scopeType) {
@@ -12,6 +12,7 @@
  */
 package org.flowable.entitylink.service.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
@@ -30,6 +31,8 @@ public interface EntityLinkDataManager extends DataManager<EntityLinkEntity> {
     List<EntityLink> findEntityLinksByScopeDefinitionIdAndType(String scopeDefinitionId, String scopeType, String linkType);
 
     void deleteEntityLinksByScopeIdAndScopeType(String scopeId, String scopeType);
+
+    void deleteEntityLinksByScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType);
     
     void deleteEntityLinksByScopeDefinitionIdAndScopeType(String scopeDefinitionId, String scopeType);
 
@@ -12,6 +12,8 @@
  */
 package org.flowable.entitylink.service.impl.persistence.entity.data.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -80,6 +82,14 @@ public class MybatisEntityLinkDataManager extends AbstractDataManager<EntityLink
         parameters.put("scopeType", scopeType);
         bulkDelete("deleteEntityLinksByScopeIdAndScopeType", entityLinksByScopeIdAndTypeMatcher, parameters);
     }
+
+    @Override
+    public void deleteEntityLinksByScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("scopeIds", new ArrayList<>(scopeIds));
+        parameters.put("scopeType", scopeType);
+        getDbSqlSession().delete("deleteEntityLinksByScopeIdsAndScopeType", parameters, EntityLinkEntityImpl.class);
+    }
     
     @Override
     public void deleteEntityLinksByScopeDefinitionIdAndScopeType(String scopeDefinitionId, String scopeType) {
@@ -12,6 +12,7 @@
  */
 package org.flowable.eventregistry.api;
 
+import java.util.Collection;
 import java.util.Map;
 
 import org.flowable.eventregistry.api.model.InboundChannelModelBuilder;
@@ -60,6 +61,12 @@ public interface EventRegistry {
      */
     OutboundChannelModel getOutboundChannelModel(String channelKey);
 
+    /**
+     * Returns the {@link OutboundChannelModel} instance associated with the given key, that was deployed for the given tenant.
+     * Falls back to the channel model that was registered without a tenant when the tenant has no channel model for the key.
+     */
+    OutboundChannelModel getOutboundChannelModel(String channelKey, String tenantId);
+
     /**
      * Low-level (vs the {@link InboundChannelModelBuilder}) way of registering a new {@link ChannelModel}.
      */
@@ -115,12 +122,31 @@ public interface EventRegistry {
      * Events received in adapters should call this method to process events.
      */
     void eventReceived(String channelKey, String event);
+
+    /**
+     * Events received in adapters can call this method to pass the raw (possibly binary) event
+     * together with the headers of the message it was received with.
+     */
+    void eventReceived(String channelKey, InboundEvent event);
+
+    /**
+     * Adapters that receive events in batches (e.g. a poll of a message broker) can call this method
+     * to process all of them at once. The consumers get the whole batch, which allows them to
+     * correlate the events with fewer queries and transactions than when the events are passed one by one.
+     * Like for a single {@link InboundEvent}, the raw (possibly binary) events are passed together with their headers.
+     */
+    void eventsReceived(String channelKey, Collection<InboundEvent> events);
     
     /**
      * Send an event to all the registered event consumers.
      */
     void sendEventToConsumers(EventRegistryEvent eventRegistryEvent);
 
+    /**
+     * Send a batch of events to all the registered event consumers.
+     */
+    void sendEventsToConsumers(Collection<EventRegistryEvent> eventRegistryEvents);
+
     /**
      * Send out an event. The corresponding {@link EventModel} will be used to
      * decide which channel (and pipeline) will be used
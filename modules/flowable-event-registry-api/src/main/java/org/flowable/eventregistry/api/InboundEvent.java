@@ -0,0 +1,67 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.api;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * A raw event as it was received by an {@link InboundEventChannelAdapter}:
+ * the body (a {@link String}, a byte array or a {@link ByteBuffer}) and the headers of the message that carried it.
+ * Passing the raw bytes avoids decoding the payload into a string before it is deserialized,
+ * and the headers allow detecting the event key and tenant without looking at the body.
+ */
+public interface InboundEvent {
+
+    /**
+     * The body of the event: a {@link String}, a byte array or a {@link ByteBuffer}.
+     */
+    Object getBody();
+
+    /**
+     * The headers (or properties) of the message the event was received with. Never {@code null}.
+     */
+    Map<String, Object> getHeaders();
+
+    /**
+     * Returns the value of the given header as a string. Byte array values are decoded as UTF-8.
+     */
+    default String getHeader(String name) {
+        Object value = getHeaders().get(name);
+        if (value == null) {
+            return null;
+        } else if (value instanceof byte[]) {
+            return new String((byte[]) value, StandardCharsets.UTF_8);
+        }
+        return value.toString();
+    }
+
+    /**
+     * Returns the body as a string. Binary bodies are decoded as UTF-8.
+     */
+    default String getBodyAsString() {
+        Object body = getBody();
+        if (body == null) {
+            return null;
+        } else if (body instanceof String) {
+            return (String) body;
+        } else if (body instanceof byte[]) {
+            return new String((byte[]) body, StandardCharsets.UTF_8);
+        } else if (body instanceof ByteBuffer) {
+            return StandardCharsets.UTF_8.decode(((ByteBuffer) body).duplicate()).toString();
+        }
+        return body.toString();
+    }
+
+}
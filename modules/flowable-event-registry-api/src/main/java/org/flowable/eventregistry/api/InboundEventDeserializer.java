@@ -12,6 +12,9 @@
  */
 package org.flowable.eventregistry.api;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
 /**
  * @author Joram Barrez
  * @author Filip Hrisafov
@@ -23,4 +26,20 @@ public interface InboundEventDeserializer<T> {
      */
     T deserialize(String rawEvent);
 
+    /**
+     * Deserializes a binary event. By default the bytes are decoded as UTF-8 first,
+     * deserializers that can parse bytes directly should override this.
+     */
+    default T deserialize(byte[] rawEvent) {
+        return deserialize(new String(rawEvent, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Deserializes a binary event without changing the position of the given buffer.
+     * By default the bytes are decoded as UTF-8 first, deserializers that can parse bytes directly should override this.
+     */
+    default T deserialize(ByteBuffer rawEvent) {
+        return deserialize(StandardCharsets.UTF_8.decode(rawEvent.duplicate()).toString());
+    }
+
 }
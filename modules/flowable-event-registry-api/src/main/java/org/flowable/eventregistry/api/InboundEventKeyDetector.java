@@ -12,6 +12,8 @@
  */
 package org.flowable.eventregistry.api;
 
+import java.util.Map;
+
 /**
  * @author Joram Barrez
  * @author Filip Hrisafov
@@ -21,4 +23,12 @@ public interface InboundEventKeyDetector<T> {
 
     String detectEventDefinitionKey(T event);
 
+    /**
+     * Detects the key from the headers of the received message, before the event is deserialized.
+     * Returns {@code null} (the default) when the key can only be detected from the deserialized event.
+     */
+    default String detectEventDefinitionKeyFromHeaders(Map<String, Object> headers) {
+        return null;
+    }
+
 }
@@ -22,4 +22,8 @@ public interface InboundEventProcessingPipeline {
 
     Collection<EventRegistryEvent> run(String channelKey, String rawEvent);
 
+    default Collection<EventRegistryEvent> run(String channelKey, InboundEvent inboundEvent) {
+        return run(channelKey, inboundEvent.getBodyAsString());
+    }
+
 }
@@ -12,6 +12,8 @@
  */
 package org.flowable.eventregistry.api;
 
+import java.util.Collection;
+
 /**
  * @author Joram Barrez
  */
@@ -19,4 +21,14 @@ public interface InboundEventProcessor {
 
     void eventReceived(String channelKey, String event);
 
+    default void eventReceived(String channelKey, InboundEvent event) {
+        eventReceived(channelKey, event.getBodyAsString());
+    }
+
+    default void eventsReceived(String channelKey, Collection<InboundEvent> events) {
+        for (InboundEvent event : events) {
+            eventReceived(channelKey, event);
+        }
+    }
+
 }
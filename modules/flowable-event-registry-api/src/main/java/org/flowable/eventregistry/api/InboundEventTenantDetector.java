@@ -12,6 +12,8 @@
  */
 package org.flowable.eventregistry.api;
 
+import java.util.Map;
+
 /**
  * @author Joram Barrez
  */
@@ -20,4 +22,12 @@ public interface InboundEventTenantDetector<T> {
 
     String detectTenantId(T event);
 
+    /**
+     * Detects the tenant from the headers of the received message, before the event is deserialized.
+     * Returns {@code null} (the default) when the tenant can only be detected from the deserialized event.
+     */
+    default String detectTenantIdFromHeaders(Map<String, Object> headers) {
+        return null;
+    }
+
 }
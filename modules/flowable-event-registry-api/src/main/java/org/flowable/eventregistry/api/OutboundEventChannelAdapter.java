@@ -12,6 +12,8 @@
  */
 package org.flowable.eventregistry.api;
 
+import java.util.Collection;
+
 /**
  * @author Joram Barrez
  */
@@ -19,4 +21,14 @@ public interface OutboundEventChannelAdapter {
 
     void sendEvent(String rawEvent);
 
+    /**
+     * Sends a batch of events in the given order. Adapters for which sending multiple events at once is cheaper
+     * than sending them one by one (e.g. waiting once for all acknowledgments of the broker) can override this.
+     */
+    default void sendEvents(Collection<String> rawEvents) {
+        for (String rawEvent : rawEvents) {
+            sendEvent(rawEvent);
+        }
+    }
+
 }
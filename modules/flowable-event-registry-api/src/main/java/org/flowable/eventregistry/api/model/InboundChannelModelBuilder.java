@@ -165,6 +165,19 @@ public interface InboundChannelModelBuilder {
          */
         InboundKafkaChannelBuilder concurrency(String concurrency);
 
+        /**
+         * Consumes the records of this Kafka adapter in batches of at most the given size (an integer or an expression).
+         * Records with different ordering keys within a batch are processed in parallel, records with the same ordering key in order.
+         * The offsets are committed once the whole batch has been processed.
+         */
+        InboundKafkaChannelBuilder batchSize(String batchSize);
+
+        /**
+         * Sets the name of the record header holding the key that determines the processing order of a batch.
+         * When not set the Kafka record key is used.
+         */
+        InboundKafkaChannelBuilder orderingKeyHeader(String headerName);
+
         /**
          * Sets custom properties for this Kafka adapter. See the Spring Kafka docs for more information.
          */
@@ -228,6 +241,11 @@ public interface InboundChannelModelBuilder {
          */
         InboundEventTenantJsonDetectorBuilder detectEventKeyUsingJsonPathExpression(String jsonPathExpression);
 
+        /**
+         * Determines the key of the event based on a header of the received message, without deserializing the event.
+         */
+        InboundEventTenantJsonDetectorBuilder detectEventKeyUsingHeader(String headerName);
+
     }
 
     /**
@@ -245,6 +263,11 @@ public interface InboundChannelModelBuilder {
          */
         InboundEventPayloadJsonExtractorBuilder detectEventTenantUsingJsonPathExpression(String jsonPathExpression);
 
+        /**
+         * Determines the tenant ID based on a header of the received message, without deserializing the event.
+         */
+        InboundEventPayloadJsonExtractorBuilder detectEventTenantUsingHeader(String headerName);
+
     }
 
     /**
@@ -262,6 +285,11 @@ public interface InboundChannelModelBuilder {
          */
         InboundEventTenantXmlDetectorBuilder detectEventKeyUsingXPathExpression(String xPathExpression);
 
+        /**
+         * Determines the key of the event based on a header of the received message, without deserializing the event.
+         */
+        InboundEventTenantXmlDetectorBuilder detectEventKeyUsingHeader(String headerName);
+
     }
 
     /**
@@ -279,6 +307,11 @@ public interface InboundChannelModelBuilder {
          */
         InboundEventPayloadXmlExtractorBuilder detectEventTenantUsingXPathExpression(String xPathExpression);
 
+        /**
+         * Determines the tenant ID based on a header of the received message, without deserializing the event.
+         */
+        InboundEventPayloadXmlExtractorBuilder detectEventTenantUsingHeader(String headerName);
+
     }
 
     /**
@@ -45,19 +45,21 @@ public class InboundChannelModelValidator implements ChannelValidator {
         if ("json".equalsIgnoreCase(deserializerType)) {
             if (StringUtils.isEmpty(channelEventKeyDetection.getFixedValue()) &&
                 StringUtils.isEmpty(channelEventKeyDetection.getJsonField()) &&
-                StringUtils.isEmpty(channelEventKeyDetection.getJsonPathExpression())) {
+                StringUtils.isEmpty(channelEventKeyDetection.getJsonPathExpression()) &&
+                StringUtils.isEmpty(channelEventKeyDetection.getHeaderName())) {
                 throw new FlowableEventJsonException(
                     "The channel json key detection value was not found for the channel model with key " + inboundChannelModel.getKey()
-                        + ". One of fixedValue, jsonField or jsonPathExpression should be set.");
+                        + ". One of fixedValue, jsonField, jsonPathExpression or headerName should be set.");
             }
 
         } else if ("xml".equalsIgnoreCase(deserializerType)) {
 
             if (StringUtils.isEmpty(channelEventKeyDetection.getFixedValue()) &&
-                StringUtils.isEmpty(channelEventKeyDetection.getXmlXPathExpression())) {
+                StringUtils.isEmpty(channelEventKeyDetection.getXmlXPathExpression()) &&
+                StringUtils.isEmpty(channelEventKeyDetection.getHeaderName())) {
                 throw new FlowableEventJsonException(
                     "The channel xml key detection value was not found for the channel model with key " + inboundChannelModel.getKey()
-                        + ". One of fixedValue, xmlPathExpression should be set.");
+                        + ". One of fixedValue, xmlPathExpression or headerName should be set.");
             }
 
         } else {
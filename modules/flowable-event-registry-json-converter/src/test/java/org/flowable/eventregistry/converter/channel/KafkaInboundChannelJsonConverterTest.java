@@ -64,6 +64,8 @@ class KafkaInboundChannelJsonConverterTest extends AbstractChannelConverterTest
                 assertThat(model.getTopicPattern()).isEqualTo("*customer");
                 assertThat(model.getClientIdPrefix()).isEqualTo("customer-");
                 assertThat(model.getConcurrency()).isEqualTo("2");
+                assertThat(model.getBatchSize()).isEqualTo("100");
+                assertThat(model.getOrderingKeyHeader()).isEqualTo("customerId");
                 assertThat(model.getProperties())
                     .containsOnly(
                         entry("connections.max.idle.ms", "10000")
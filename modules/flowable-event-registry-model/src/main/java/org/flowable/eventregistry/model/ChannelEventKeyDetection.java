@@ -25,6 +25,7 @@ public class ChannelEventKeyDetection {
     protected String jsonField;
     protected String jsonPathExpression;
     protected String xmlXPathExpression;
+    protected String headerName;
     
     public String getFixedValue() {
         return fixedValue;
@@ -57,4 +58,12 @@ public class ChannelEventKeyDetection {
     public void setXmlXPathExpression(String xmlXPathExpression) {
         this.xmlXPathExpression = xmlXPathExpression;
     }
+
+    public String getHeaderName() {
+        return headerName;
+    }
+
+    public void setHeaderName(String headerName) {
+        this.headerName = headerName;
+    }
 }
@@ -24,6 +24,7 @@ public class ChannelEventTenantIdDetection {
     protected String fixedValue;
     protected String jsonPathExpression;
     protected String xPathExpression;
+    protected String headerName;
 
     public String getFixedValue() {
         return fixedValue;
@@ -43,4 +44,10 @@ public class ChannelEventTenantIdDetection {
     public void setxPathExpression(String xPathExpression) {
         this.xPathExpression = xPathExpression;
     }
+    public String getHeaderName() {
+        return headerName;
+    }
+    public void setHeaderName(String headerName) {
+        this.headerName = headerName;
+    }
 }
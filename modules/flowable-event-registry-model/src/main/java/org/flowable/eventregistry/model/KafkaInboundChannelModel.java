@@ -30,6 +30,8 @@ public class KafkaInboundChannelModel extends InboundChannelModel {
     protected String topicPattern;
     protected String clientIdPrefix;
     protected String concurrency;
+    protected String batchSize;
+    protected String orderingKeyHeader;
     protected Map<String, String> properties;
 
     public String getGroupId() {
@@ -72,6 +74,22 @@ public class KafkaInboundChannelModel extends InboundChannelModel {
         this.concurrency = concurrency;
     }
 
+    public String getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(String batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public String getOrderingKeyHeader() {
+        return orderingKeyHeader;
+    }
+
+    public void setOrderingKeyHeader(String orderingKeyHeader) {
+        this.orderingKeyHeader = orderingKeyHeader;
+    }
+
     public Map<String, String> getProperties() {
         return properties;
     }
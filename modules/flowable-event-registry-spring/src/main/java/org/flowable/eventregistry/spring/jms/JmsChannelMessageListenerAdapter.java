@@ -12,12 +12,18 @@
  */
 package org.flowable.eventregistry.spring.jms;
 
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.jms.BytesMessage;
 import javax.jms.JMSException;
 import javax.jms.Message;
 import javax.jms.Session;
 import javax.jms.TextMessage;
 
 import org.flowable.eventregistry.api.EventRegistry;
+import org.flowable.eventregistry.impl.event.DefaultInboundEvent;
 import org.springframework.jms.listener.adapter.AbstractAdaptableMessageListener;
 
 /**
@@ -35,12 +41,30 @@ public class JmsChannelMessageListenerAdapter extends AbstractAdaptableMessageLi
 
     @Override
     public void onMessage(Message message, Session session) throws JMSException {
+        Object body;
         if (message instanceof TextMessage) {
-            eventRegistry.eventReceived(channelKey, ((TextMessage) message).getText());
+            body = ((TextMessage) message).getText();
+        } else if (message instanceof BytesMessage) {
+            BytesMessage bytesMessage = (BytesMessage) message;
+            byte[] bytes = new byte[(int) bytesMessage.getBodyLength()];
+            bytesMessage.readBytes(bytes);
+            body = bytes;
         } else {
             //TODO what about other message types
-            throw new UnsupportedOperationException("Can only received TextMessage. Received: " + message);
+            throw new UnsupportedOperationException("Can only receive TextMessage or BytesMessage. Received: " + message);
+        }
+
+        eventRegistry.eventReceived(channelKey, new DefaultInboundEvent(body, getHeaders(message)));
+    }
+
+    protected Map<String, Object> getHeaders(Message message) throws JMSException {
+        Map<String, Object> headers = new HashMap<>();
+        Enumeration<?> propertyNames = message.getPropertyNames();
+        while (propertyNames.hasMoreElements()) {
+            String propertyName = (String) propertyNames.nextElement();
+            headers.put(propertyName, message.getObjectProperty(propertyName));
         }
+        return headers;
     }
 
     public EventRegistry getEventRegistry() {
@@ -0,0 +1,224 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.spring.kafka;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.Executor;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.flowable.eventregistry.api.InboundEvent;
+import org.springframework.kafka.listener.BatchAcknowledgingMessageListener;
+import org.springframework.kafka.support.Acknowledgment;
+
+/**
+ * A batch listener that groups the polled records by their ordering key (the Kafka record key or the value of a configured header).
+ * The records of a group are passed to the event registry at once, in the order in which they were polled,
+ * while the different groups are processed in parallel using the given executor.
+ * <p>
+ * The listener returns (and acknowledges the batch when the container uses manual acknowledgment) only once all the groups were processed successfully.
+ * When one of the groups fails the exception is rethrown after all other groups are done, so the container error handler can seek back
+ * and the batch is redelivered. The offsets of the records of the groups that were processed successfully are kept,
+ * so that these records are skipped when they are received again, and only the records of the failed groups are processed again.
+ * The offsets are only kept in memory, hence after a restart or a rebalance all the records of a failed batch can be processed again.
+ */
+public class KafkaChannelBatchMessageListenerAdapter implements BatchAcknowledgingMessageListener<Object, Object> {
+
+    protected KafkaChannelMessageListenerAdapter recordListener;
+    protected String orderingKeyHeader;
+    protected Executor executor;
+
+    /**
+     * The offsets of the records that were processed successfully in a batch that failed, per partition.
+     */
+    protected final Map<TopicPartition, NavigableSet<Long>> processedOffsets = new ConcurrentHashMap<>();
+
+    public KafkaChannelBatchMessageListenerAdapter(KafkaChannelMessageListenerAdapter recordListener, String orderingKeyHeader, Executor executor) {
+        this.recordListener = recordListener;
+        this.orderingKeyHeader = orderingKeyHeader;
+        this.executor = executor;
+    }
+
+    @Override
+    public void onMessage(List<ConsumerRecord<Object, Object>> data) {
+        onMessage(data, (Acknowledgment) null);
+    }
+
+    @Override
+    public void onMessage(List<ConsumerRecord<Object, Object>> data, Acknowledgment acknowledgment) {
+        Collection<List<ConsumerRecord<Object, Object>>> recordGroups = groupByOrderingKey(getUnprocessedRecords(data));
+
+        if (recordGroups.size() == 1 || executor == null) {
+            for (List<ConsumerRecord<Object, Object>> recordGroup : recordGroups) {
+                processRecords(recordGroup);
+            }
+
+        } else {
+            List<CompletableFuture<Void>> futures = new ArrayList<>(recordGroups.size());
+            RuntimeException submitException = null;
+            for (List<ConsumerRecord<Object, Object>> recordGroup : recordGroups) {
+                try {
+                    futures.add(CompletableFuture.runAsync(() -> processRecords(recordGroup), executor));
+                } catch (RuntimeException e) {
+                    // The executor rejected the group, the batch fails once the groups that were already submitted are done
+                    submitException = e;
+                    break;
+                }
+            }
+
+            try {
+                CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+                if (submitException != null) {
+                    throw submitException;
+                }
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                } else if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw e;
+            }
+        }
+
+        // The whole batch was processed, so its records won't be received again
+        if (!processedOffsets.isEmpty()) {
+            for (Map.Entry<TopicPartition, List<Long>> partitionOffsets : groupOffsetsByPartition(data).entrySet()) {
+                processedOffsets.computeIfPresent(partitionOffsets.getKey(), (partition, offsets) -> {
+                    offsets.removeAll(partitionOffsets.getValue());
+                    return offsets.isEmpty() ? null : offsets;
+                });
+            }
+        }
+
+        if (acknowledgment != null) {
+            acknowledgment.acknowledge();
+        }
+    }
+
+    /**
+     * Returns the records of the given batch that were not processed successfully yet, when an earlier delivery of them failed.
+     */
+    protected List<ConsumerRecord<Object, Object>> getUnprocessedRecords(List<ConsumerRecord<Object, Object>> data) {
+        if (processedOffsets.isEmpty()) {
+            return data;
+        }
+
+        // Records before the first record of a partition in this batch were committed, so they will not be received again
+        Map<TopicPartition, Long> firstOffsets = new HashMap<>();
+        for (ConsumerRecord<Object, Object> record : data) {
+            firstOffsets.merge(new TopicPartition(record.topic(), record.partition()), record.offset(), Math::min);
+        }
+        for (Map.Entry<TopicPartition, Long> firstOffset : firstOffsets.entrySet()) {
+            processedOffsets.computeIfPresent(firstOffset.getKey(), (partition, offsets) -> {
+                offsets.headSet(firstOffset.getValue()).clear();
+                return offsets.isEmpty() ? null : offsets;
+            });
+        }
+
+        List<ConsumerRecord<Object, Object>> unprocessedRecords = new ArrayList<>(data.size());
+        for (ConsumerRecord<Object, Object> record : data) {
+            NavigableSet<Long> partitionOffsets = processedOffsets.get(new TopicPartition(record.topic(), record.partition()));
+            if (partitionOffsets == null || !partitionOffsets.contains(record.offset())) {
+                unprocessedRecords.add(record);
+            }
+        }
+        return unprocessedRecords;
+    }
+
+    protected Collection<List<ConsumerRecord<Object, Object>>> groupByOrderingKey(List<ConsumerRecord<Object, Object>> data) {
+        Map<Object, List<ConsumerRecord<Object, Object>>> recordGroups = new LinkedHashMap<>();
+        for (ConsumerRecord<Object, Object> record : data) {
+            recordGroups.computeIfAbsent(getOrderingKey(record), key -> new ArrayList<>()).add(record);
+        }
+        return recordGroups.values();
+    }
+
+    protected Object getOrderingKey(ConsumerRecord<Object, Object> record) {
+        if (orderingKeyHeader != null) {
+            Header header = record.headers().lastHeader(orderingKeyHeader);
+            return header != null && header.value() != null ? new String(header.value(), StandardCharsets.UTF_8) : null;
+        }
+
+        Object key = record.key();
+        if (key instanceof byte[]) {
+            // Arrays do not implement equals, a wrapping buffer compares the content
+            return ByteBuffer.wrap((byte[]) key);
+        }
+        return key;
+    }
+
+    protected void processRecords(List<ConsumerRecord<Object, Object>> records) {
+        List<InboundEvent> events = new ArrayList<>(records.size());
+        for (ConsumerRecord<Object, Object> record : records) {
+            events.add(recordListener.createInboundEvent(record));
+        }
+        recordListener.getEventRegistry().eventsReceived(recordListener.getChannelKey(), events);
+
+        // The offsets of a partition are only changed within compute, so they are never added to a set that is being pruned
+        for (Map.Entry<TopicPartition, List<Long>> partitionOffsets : groupOffsetsByPartition(records).entrySet()) {
+            processedOffsets.compute(partitionOffsets.getKey(), (partition, offsets) -> {
+                NavigableSet<Long> updatedOffsets = offsets != null ? offsets : new ConcurrentSkipListSet<>();
+                updatedOffsets.addAll(partitionOffsets.getValue());
+                return updatedOffsets;
+            });
+        }
+    }
+
+    protected Map<TopicPartition, List<Long>> groupOffsetsByPartition(List<ConsumerRecord<Object, Object>> records) {
+        Map<TopicPartition, List<Long>> offsetsByPartition = new HashMap<>();
+        for (ConsumerRecord<Object, Object> record : records) {
+            offsetsByPartition.computeIfAbsent(new TopicPartition(record.topic(), record.partition()), key -> new ArrayList<>()).add(record.offset());
+        }
+        return offsetsByPartition;
+    }
+
+    public KafkaChannelMessageListenerAdapter getRecordListener() {
+        return recordListener;
+    }
+
+    public void setRecordListener(KafkaChannelMessageListenerAdapter recordListener) {
+        this.recordListener = recordListener;
+    }
+
+    public String getOrderingKeyHeader() {
+        return orderingKeyHeader;
+    }
+
+    public void setOrderingKeyHeader(String orderingKeyHeader) {
+        this.orderingKeyHeader = orderingKeyHeader;
+    }
+
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    public void setExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+}
@@ -18,8 +18,15 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 
+import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.flowable.eventregistry.api.ChannelModelProcessor;
 import org.flowable.eventregistry.api.EventRegistry;
@@ -43,6 +50,7 @@ import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
 import org.springframework.kafka.core.KafkaOperations;
 import org.springframework.kafka.listener.GenericMessageListener;
 import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.util.Assert;
 import org.springframework.util.ReflectionUtils;
 import org.springframework.util.StringUtils;
@@ -51,7 +59,7 @@ import org.springframework.util.StringValueResolver;
 /**
  * @author Filip Hrisafov
  */
-public class KafkaChannelDefinitionProcessor implements BeanFactoryAware, ChannelModelProcessor {
+public class KafkaChannelDefinitionProcessor implements BeanFactoryAware, ChannelModelProcessor, DisposableBean {
 
     protected KafkaOperations<Object, Object> kafkaOperations;
 
@@ -65,6 +73,24 @@ public class KafkaChannelDefinitionProcessor implements BeanFactoryAware, Channe
 
     protected BeanExpressionResolver resolver = new StandardBeanExpressionResolver();
 
+    /**
+     * The executor used to process the ordering key groups of a batch in parallel.
+     */
+    protected volatile Executor batchExecutor;
+
+    /**
+     * The maximum number of threads of the default batch executor, which is shut down when this processor is destroyed.
+     */
+    protected int batchExecutorPoolSize = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * The maximum number of groups waiting for a thread of the default batch executor.
+     * When the queue is full the consumer thread processes the group itself, which slows down the polling of new records.
+     */
+    protected int batchExecutorQueueCapacity = 1000;
+
+    protected ExecutorService defaultBatchExecutor;
+
     protected StringValueResolver embeddedValueResolver;
     protected BeanExpressionContext expressionContext;
 
@@ -98,10 +124,25 @@ public class KafkaChannelDefinitionProcessor implements BeanFactoryAware, Channe
         endpoint.setClientIdPrefix(resolveExpressionAsString(channelDefinition.getClientIdPrefix(), "clientIdPrefix"));
 
         endpoint.setConcurrency(resolveExpressionAsInteger(channelDefinition.getConcurrency(), "concurrency"));
-        endpoint.setConsumerProperties(resolveProperties(channelDefinition.getProperties()));
+        Properties consumerProperties = resolveProperties(channelDefinition.getProperties());
 
         String channelKey = channelDefinition.getKey();
-        endpoint.setMessageListener(createMessageListener(eventRegistry, channelKey));
+        Integer batchSize = resolveExpressionAsInteger(channelDefinition.getBatchSize(), "batchSize");
+        if (batchSize != null) {
+            // The batch size is the maximum number of records returned by a single poll, unless configured explicitly
+            if (consumerProperties == null) {
+                consumerProperties = new Properties();
+            }
+            if (!consumerProperties.containsKey(ConsumerConfig.MAX_POLL_RECORDS_CONFIG)) {
+                consumerProperties.setProperty(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, batchSize.toString());
+            }
+            endpoint.setMessageListener(createBatchMessageListener(eventRegistry, channelKey, channelDefinition.getOrderingKeyHeader()));
+
+        } else {
+            endpoint.setMessageListener(createMessageListener(eventRegistry, channelKey));
+        }
+
+        endpoint.setConsumerProperties(consumerProperties);
         return endpoint;
     }
 
@@ -202,6 +243,12 @@ public class KafkaChannelDefinitionProcessor implements BeanFactoryAware, Channe
         return kafkaChannelMessageListenerAdapter;
     }
 
+    protected GenericMessageListener<List<ConsumerRecord<Object, Object>>> createBatchMessageListener(EventRegistry eventRegistry, String channelKey,
+        String orderingKeyHeader) {
+        KafkaChannelMessageListenerAdapter recordListener = new KafkaChannelMessageListenerAdapter(eventRegistry, channelKey);
+        return new KafkaChannelBatchMessageListenerAdapter(recordListener, orderingKeyHeader, getBatchExecutor());
+    }
+
     @Override
     public void unregisterChannelModel(ChannelModel channelModel, EventRegistry eventRegistry) {
         String endpointId = getEndpointId(channelModel);
@@ -346,4 +393,63 @@ public class KafkaChannelDefinitionProcessor implements BeanFactoryAware, Channe
         this.containerFactory = containerFactory;
     }
 
+    public Executor getBatchExecutor() {
+        if (batchExecutor == null) {
+            synchronized (this) {
+                if (batchExecutor == null) {
+                    // The groups of all batch channels share at most batchExecutorPoolSize threads, idle threads are released after a minute.
+                    // The consumer threads run the groups themselves when the queue is full, so they stop polling until the backlog is processed.
+                    CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("flowable-kafka-batch-");
+                    threadFactory.setDaemon(true);
+                    ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(batchExecutorPoolSize, batchExecutorPoolSize,
+                        60L, TimeUnit.SECONDS, new ArrayBlockingQueue<>(batchExecutorQueueCapacity), threadFactory, (runnable, executor) -> {
+                            // Unlike the CallerRunsPolicy a group is never discarded silently, as the listener waits for all the groups of a batch
+                            if (executor.isShutdown()) {
+                                throw new RejectedExecutionException("Kafka batch executor has been shut down");
+                            }
+                            runnable.run();
+                        });
+                    threadPoolExecutor.allowCoreThreadTimeOut(true);
+                    defaultBatchExecutor = threadPoolExecutor;
+                    batchExecutor = threadPoolExecutor;
+                }
+            }
+        }
+        return batchExecutor;
+    }
+
+    public void setBatchExecutor(Executor batchExecutor) {
+        this.batchExecutor = batchExecutor;
+    }
+
+    public int getBatchExecutorPoolSize() {
+        return batchExecutorPoolSize;
+    }
+
+    public void setBatchExecutorPoolSize(int batchExecutorPoolSize) {
+        this.batchExecutorPoolSize = batchExecutorPoolSize;
+    }
+
+    public int getBatchExecutorQueueCapacity() {
+        return batchExecutorQueueCapacity;
+    }
+
+    public void setBatchExecutorQueueCapacity(int batchExecutorQueueCapacity) {
+        this.batchExecutorQueueCapacity = batchExecutorQueueCapacity;
+    }
+
+    @Override
+    public void destroy() {
+        // Only the default executor is shut down, a configured executor is managed by whoever created it
+        synchronized (this) {
+            if (defaultBatchExecutor != null) {
+                defaultBatchExecutor.shutdown();
+                if (batchExecutor == defaultBatchExecutor) {
+                    batchExecutor = null;
+                }
+                defaultBatchExecutor = null;
+            }
+        }
+    }
+
 }
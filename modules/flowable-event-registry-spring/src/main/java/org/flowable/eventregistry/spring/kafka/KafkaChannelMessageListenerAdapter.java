@@ -12,14 +12,20 @@
  */
 package org.flowable.eventregistry.spring.kafka;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
 import org.flowable.eventregistry.api.EventRegistry;
+import org.flowable.eventregistry.api.InboundEvent;
+import org.flowable.eventregistry.impl.event.DefaultInboundEvent;
 import org.springframework.kafka.listener.MessageListener;
 
 /**
  * @author Filip Hrisafov
  */
-public class KafkaChannelMessageListenerAdapter implements MessageListener<String, String> {
+public class KafkaChannelMessageListenerAdapter implements MessageListener<Object, Object> {
 
     protected EventRegistry eventRegistry;
     protected String channelKey;
@@ -30,8 +36,22 @@ public class KafkaChannelMessageListenerAdapter implements MessageListener<Strin
     }
 
     @Override
-    public void onMessage(ConsumerRecord<String, String> data) {
-        eventRegistry.eventReceived(channelKey, data.value());
+    public void onMessage(ConsumerRecord<Object, Object> data) {
+        // The value is passed as is (String, byte[] or ByteBuffer depending on the configured value deserializer),
+        // so binary values are parsed by the channel deserializer without decoding them into a String first
+        eventRegistry.eventReceived(channelKey, createInboundEvent(data));
+    }
+
+    protected InboundEvent createInboundEvent(ConsumerRecord<Object, Object> data) {
+        return new DefaultInboundEvent(data.value(), getHeaders(data));
+    }
+
+    protected Map<String, Object> getHeaders(ConsumerRecord<Object, Object> data) {
+        Map<String, Object> headers = new HashMap<>();
+        for (Header header : data.headers()) {
+            headers.put(header.key(), header.value());
+        }
+        return headers;
     }
 
     public EventRegistry getEventRegistry() {
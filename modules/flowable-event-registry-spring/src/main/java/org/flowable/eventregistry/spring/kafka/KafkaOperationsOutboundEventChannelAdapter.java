@@ -12,11 +12,16 @@
  */
 package org.flowable.eventregistry.spring.kafka;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.ExecutionException;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.eventregistry.api.OutboundEventChannelAdapter;
 import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.util.concurrent.ListenableFuture;
 
 /**
  * @author Filip Hrisafov
@@ -48,4 +53,27 @@ public class KafkaOperationsOutboundEventChannelAdapter implements OutboundEvent
         }
     }
 
+    @Override
+    public void sendEvents(Collection<String> rawEvents) {
+        // All records are handed to the producer before waiting, so they can be sent together
+        List<ListenableFuture<SendResult<Object, Object>>> results = new ArrayList<>(rawEvents.size());
+        for (String rawEvent : rawEvents) {
+            results.add(kafkaOperations.send(topic, key, rawEvent));
+        }
+
+        try {
+            for (ListenableFuture<SendResult<Object, Object>> result : results) {
+                result.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            } else {
+                throw new FlowableException("failed to send event", e.getCause());
+            }
+        }
+    }
+
 }
@@ -16,7 +16,6 @@ import java.util.Collection;
 import java.util.Properties;
 import java.util.regex.Pattern;
 
-import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.config.KafkaListenerEndpoint;
 import org.springframework.kafka.listener.GenericMessageListener;
 import org.springframework.kafka.listener.MessageListenerContainer;
@@ -37,13 +36,17 @@ public class SimpleKafkaListenerEndpoint<K, V> implements KafkaListenerEndpoint
     protected Integer concurrency;
     protected Properties consumerProperties;
 
-    protected GenericMessageListener<ConsumerRecord<K, V>> messageListener;
+    /**
+     * Either a record listener ({@code GenericMessageListener<ConsumerRecord<K, V>>})
+     * or a batch listener ({@code GenericMessageListener<List<ConsumerRecord<K, V>>>}).
+     */
+    protected GenericMessageListener<?> messageListener;
 
-    public void setMessageListener(GenericMessageListener<ConsumerRecord<K, V>> messageListener) {
+    public void setMessageListener(GenericMessageListener<?> messageListener) {
         this.messageListener = messageListener;
     }
 
-    public GenericMessageListener<ConsumerRecord<K, V>> getMessageListener() {
+    public GenericMessageListener<?> getMessageListener() {
         return messageListener;
     }
 
@@ -127,7 +130,7 @@ public class SimpleKafkaListenerEndpoint<K, V> implements KafkaListenerEndpoint
 
     @Override
     public void setupListenerContainer(MessageListenerContainer listenerContainer, MessageConverter messageConverter) {
-        GenericMessageListener<ConsumerRecord<K, V>> messageListener = getMessageListener();
+        GenericMessageListener<?> messageListener = getMessageListener();
         Assert.state(messageListener != null, () -> "Endpoint [" + this + "] must provide a non null message listener");
         listenerContainer.setupMessageListener(messageListener);
     }
@@ -12,12 +12,12 @@
  */
 package org.flowable.eventregistry.spring.rabbit;
 
-import java.nio.charset.StandardCharsets;
 import java.util.Base64;
 import java.util.Collection;
 import java.util.HashSet;
 
 import org.flowable.eventregistry.api.EventRegistry;
+import org.flowable.eventregistry.impl.event.DefaultInboundEvent;
 import org.springframework.amqp.core.Message;
 import org.springframework.amqp.core.MessageListener;
 import org.springframework.amqp.core.MessageProperties;
@@ -48,16 +48,17 @@ public class RabbitChannelMessageListenerAdapter implements MessageListener {
         MessageProperties messageProperties = message.getMessageProperties();
         String contentType = messageProperties != null ? messageProperties.getContentType() : null;
 
-        String rawEvent;
+        Object rawEvent;
         if (body == null) {
             rawEvent = null;
         } else if (stringContentTypes.contains(contentType)) {
-            rawEvent = new String(body, StandardCharsets.UTF_8);
+            // Passed as bytes, the channel deserializer parses them without decoding them into a String first
+            rawEvent = body;
         } else {
             rawEvent = Base64.getEncoder().encodeToString(body);
         }
 
-        eventRegistry.eventReceived(channelKey, rawEvent);
+        eventRegistry.eventReceived(channelKey, new DefaultInboundEvent(rawEvent, messageProperties != null ? messageProperties.getHeaders() : null));
     }
 
     public EventRegistry getEventRegistry() {
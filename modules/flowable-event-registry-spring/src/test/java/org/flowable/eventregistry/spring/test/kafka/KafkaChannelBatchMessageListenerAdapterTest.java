@@ -0,0 +1,304 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.spring.test.kafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.eventregistry.api.EventRegistry;
+import org.flowable.eventregistry.api.InboundEvent;
+import org.flowable.eventregistry.spring.kafka.KafkaChannelBatchMessageListenerAdapter;
+import org.flowable.eventregistry.spring.kafka.KafkaChannelDefinitionProcessor;
+import org.flowable.eventregistry.spring.kafka.KafkaChannelMessageListenerAdapter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.Acknowledgment;
+
+/**
+ * Uses in-memory consumer records instead of a Kafka broker, so it runs without Docker.
+ */
+class KafkaChannelBatchMessageListenerAdapterTest {
+
+    protected EventRegistry eventRegistry;
+    protected ExecutorService executor;
+    protected Map<String, List<String>> receivedEvents;
+    protected Set<String> failingEvents;
+    protected long nextOffset;
+
+    @BeforeEach
+    void setUp() {
+        eventRegistry = mock(EventRegistry.class);
+        executor = Executors.newFixedThreadPool(4);
+        receivedEvents = new ConcurrentHashMap<>();
+        failingEvents = ConcurrentHashMap.newKeySet();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void recordsWithSameKeyAreProcessedInOrderAndDifferentKeysInParallel() {
+        // The events of each key only continue once the events of the other key have been received as well
+        CountDownLatch groupsLatch = new CountDownLatch(2);
+        List<String> timedOutEvents = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+            Collection<InboundEvent> events = invocation.getArgument(1);
+            for (InboundEvent event : events) {
+                recordEvent(event);
+            }
+            groupsLatch.countDown();
+            if (!groupsLatch.await(10, TimeUnit.SECONDS)) {
+                timedOutEvents.add(events.iterator().next().getBodyAsString());
+            }
+            return null;
+        }).when(eventRegistry).eventsReceived(eq("orders"), anyCollection());
+
+        Acknowledgment acknowledgment = mock(Acknowledgment.class);
+        createListener(null).onMessage(Arrays.asList(
+            record(0, "customerA", "customerA-1"),
+            record(1, "customerB", "customerB-1"),
+            record(0, "customerA", "customerA-2"),
+            record(1, "customerB", "customerB-2"),
+            record(0, "customerA", "customerA-3")
+        ), acknowledgment);
+
+        assertThat(timedOutEvents).isEmpty();
+        assertThat(receivedEvents.get("customerA")).containsExactly("customerA-1", "customerA-2", "customerA-3");
+        assertThat(receivedEvents.get("customerB")).containsExactly("customerB-1", "customerB-2");
+        verify(eventRegistry, times(2)).eventsReceived(eq("orders"), anyCollection());
+        verify(eventRegistry, never()).eventReceived(eq("orders"), any(InboundEvent.class));
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    void recordsAreGroupedByOrderingKeyHeader() {
+        doAnswer(invocation -> {
+            Collection<InboundEvent> events = invocation.getArgument(1);
+            for (InboundEvent event : events) {
+                receivedEvents.computeIfAbsent(event.getHeader("customerId"), key -> new CopyOnWriteArrayList<>()).add(event.getBodyAsString());
+            }
+            return null;
+        }).when(eventRegistry).eventsReceived(eq("orders"), anyCollection());
+
+        Acknowledgment acknowledgment = mock(Acknowledgment.class);
+        createListener("customerId").onMessage(Arrays.asList(
+            recordWithHeader("c1", "order-1"),
+            recordWithHeader("c2", "order-2"),
+            recordWithHeader("c1", "order-3"),
+            recordWithHeader("c2", "order-4")
+        ), acknowledgment);
+
+        assertThat(receivedEvents.get("c1")).containsExactly("order-1", "order-3");
+        assertThat(receivedEvents.get("c2")).containsExactly("order-2", "order-4");
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    void batchIsNotAcknowledgedWhenProcessingFails() {
+        failGroupsContaining("customerA-1");
+
+        Acknowledgment acknowledgment = mock(Acknowledgment.class);
+        List<ConsumerRecord<Object, Object>> records = Arrays.asList(
+            record(0, "customerA", "customerA-1"),
+            record(1, "customerB", "customerB-1"),
+            record(0, "customerA", "customerA-2")
+        );
+
+        assertThatThrownBy(() -> createListener(null).onMessage(records, acknowledgment))
+            .isExactlyInstanceOf(FlowableException.class)
+            .hasMessage("Processing failed");
+
+        // The records with the same key are passed together, other keys separately
+        assertThat(receivedEvents.get("customerA")).containsExactly("customerA-1", "customerA-2");
+        assertThat(receivedEvents.get("customerB")).containsExactly("customerB-1");
+        verify(acknowledgment, never()).acknowledge();
+    }
+
+    @Test
+    void onlyFailedGroupsAreProcessedAgainWhenBatchIsRedelivered() {
+        failGroupsContaining("customerA-1");
+
+        KafkaChannelBatchMessageListenerAdapter listener = createListener(null);
+        Acknowledgment acknowledgment = mock(Acknowledgment.class);
+        List<ConsumerRecord<Object, Object>> records = Arrays.asList(
+            record(0, "customerA", "customerA-1"),
+            record(0, "customerB", "customerB-1"),
+            record(1, "customerC", "customerC-1"),
+            record(0, "customerA", "customerA-2")
+        );
+        assertThatThrownBy(() -> listener.onMessage(records, acknowledgment)).isExactlyInstanceOf(FlowableException.class);
+
+        // The container seeks back and the batch is received again, now the failed group succeeds
+        failingEvents.clear();
+        listener.onMessage(records, acknowledgment);
+
+        assertThat(receivedEvents.get("customerA")).containsExactly("customerA-1", "customerA-2", "customerA-1", "customerA-2");
+        assertThat(receivedEvents.get("customerB")).containsExactly("customerB-1");
+        assertThat(receivedEvents.get("customerC")).containsExactly("customerC-1");
+        verify(acknowledgment).acknowledge();
+
+        // Once the batch succeeded, the kept offsets are released
+        listener.onMessage(Arrays.asList(record(0, "customerB", "customerB-2")), acknowledgment);
+        assertThat(receivedEvents.get("customerB")).containsExactly("customerB-1", "customerB-2");
+    }
+
+    @Test
+    void processedRecordsOfFailedBatchAreSkippedWhenOnlyPartOfItIsRedelivered() {
+        failGroupsContaining("customerA-2");
+
+        KafkaChannelBatchMessageListenerAdapter listener = createListener(null);
+        ConsumerRecord<Object, Object> customerA1 = record(0, "customerA", "customerA-1");
+        ConsumerRecord<Object, Object> customerB1 = record(0, "customerB", "customerB-1");
+        ConsumerRecord<Object, Object> customerA2 = record(0, "customerA", "customerA-2");
+        ConsumerRecord<Object, Object> customerB2 = record(0, "customerB", "customerB-2");
+        assertThatThrownBy(() -> listener.onMessage(Arrays.asList(customerA1, customerB1, customerA2, customerB2)))
+            .isExactlyInstanceOf(FlowableException.class);
+
+        // The first record was committed, the redelivered customerB records were already processed and are skipped
+        failingEvents.clear();
+        listener.onMessage(Arrays.asList(customerB1, customerA2, customerB2));
+
+        assertThat(receivedEvents.get("customerA")).containsExactly("customerA-1", "customerA-2", "customerA-2");
+        assertThat(receivedEvents.get("customerB")).containsExactly("customerB-1", "customerB-2");
+    }
+
+    protected KafkaChannelBatchMessageListenerAdapter createListener(String orderingKeyHeader) {
+        return new KafkaChannelBatchMessageListenerAdapter(new KafkaChannelMessageListenerAdapter(eventRegistry, "orders"), orderingKeyHeader, executor);
+    }
+
+    @Test
+    void defaultBatchExecutorIsBoundedAndShutDownOnDestroy() {
+        KafkaChannelDefinitionProcessor processor = new KafkaChannelDefinitionProcessor();
+        processor.setBatchExecutorPoolSize(2);
+        processor.setBatchExecutorQueueCapacity(5);
+
+        Executor batchExecutor = processor.getBatchExecutor();
+        assertThat(batchExecutor).isInstanceOf(ThreadPoolExecutor.class);
+        assertThat(((ThreadPoolExecutor) batchExecutor).getMaximumPoolSize()).isEqualTo(2);
+        assertThat(((ThreadPoolExecutor) batchExecutor).getQueue().remainingCapacity()).isEqualTo(5);
+        assertThat(processor.getBatchExecutor()).isSameAs(batchExecutor);
+
+        processor.destroy();
+        assertThat(((ThreadPoolExecutor) batchExecutor).isShutdown()).isTrue();
+        assertThatThrownBy(() -> batchExecutor.execute(() -> { }))
+            .isInstanceOf(RejectedExecutionException.class);
+
+        // A configured executor is not shut down
+        processor.setBatchExecutor(executor);
+        processor.destroy();
+        assertThat(executor.isShutdown()).isFalse();
+    }
+
+    @Test
+    void consumerThreadProcessesGroupsWhenDefaultBatchExecutorQueueIsFull() throws Exception {
+        KafkaChannelDefinitionProcessor processor = new KafkaChannelDefinitionProcessor();
+        processor.setBatchExecutorPoolSize(1);
+        processor.setBatchExecutorQueueCapacity(1);
+        Executor batchExecutor = processor.getBatchExecutor();
+
+        // Occupy the only thread and fill the queue
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        batchExecutor.execute(() -> {
+            blocked.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        blocked.await(10, TimeUnit.SECONDS);
+        batchExecutor.execute(() -> { });
+
+        try {
+            Thread consumerThread = Thread.currentThread();
+            Set<Thread> processingThreads = ConcurrentHashMap.newKeySet();
+            doAnswer(invocation -> {
+                processingThreads.add(Thread.currentThread());
+                return null;
+            }).when(eventRegistry).eventsReceived(eq("orders"), anyCollection());
+
+            Acknowledgment acknowledgment = mock(Acknowledgment.class);
+            KafkaChannelBatchMessageListenerAdapter batchListener = new KafkaChannelBatchMessageListenerAdapter(
+                new KafkaChannelMessageListenerAdapter(eventRegistry, "orders"), null, batchExecutor);
+            batchListener.onMessage(Arrays.asList(record(0, "a", "a-1"), record(0, "b", "b-1")), acknowledgment);
+
+            assertThat(processingThreads).containsExactly(consumerThread);
+            verify(acknowledgment).acknowledge();
+        } finally {
+            release.countDown();
+            processor.destroy();
+        }
+    }
+
+    protected void failGroupsContaining(String failingEvent) {
+        failingEvents.add(failingEvent);
+        doAnswer(invocation -> {
+            Collection<InboundEvent> events = invocation.getArgument(1);
+            boolean failing = false;
+            for (InboundEvent event : events) {
+                failing |= failingEvents.contains(recordEvent(event));
+            }
+            if (failing) {
+                throw new FlowableException("Processing failed");
+            }
+            return null;
+        }).when(eventRegistry).eventsReceived(eq("orders"), anyCollection());
+    }
+
+    protected String recordEvent(InboundEvent event) {
+        String body = event.getBodyAsString();
+        String key = body.substring(0, body.indexOf('-'));
+        receivedEvents.computeIfAbsent(key, k -> new CopyOnWriteArrayList<>()).add(body);
+        return body;
+    }
+
+    protected ConsumerRecord<Object, Object> record(int partition, String key, String value) {
+        return new ConsumerRecord<>("orders", partition, nextOffset++, key, value);
+    }
+
+    protected ConsumerRecord<Object, Object> recordWithHeader(String customerId, String value) {
+        ConsumerRecord<Object, Object> record = record(0, null, value);
+        record.headers().add("customerId", customerId.getBytes(StandardCharsets.UTF_8));
+        return record;
+    }
+}
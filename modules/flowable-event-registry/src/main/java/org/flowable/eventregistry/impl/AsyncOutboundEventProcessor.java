@@ -0,0 +1,110 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.impl;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.flowable.common.engine.impl.cfg.TransactionContext;
+import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.eventregistry.api.EventRegistry;
+import org.flowable.eventregistry.api.OutboundEventChannelAdapter;
+import org.flowable.eventregistry.api.runtime.EventCorrelationParameterInstance;
+import org.flowable.eventregistry.api.runtime.EventInstance;
+import org.flowable.eventregistry.impl.outbound.AsyncOutboundEventDispatcher;
+import org.flowable.eventregistry.impl.outbound.StoreOutboundEventsCommandContextCloseListener;
+import org.flowable.eventregistry.model.OutboundChannelModel;
+
+/**
+ * An {@link org.flowable.eventregistry.api.OutboundEventProcessor} that serializes the events in the current transaction and stores them
+ * in the outbox table of the event registry, instead of sending them to the channel directly.
+ * The {@link AsyncOutboundEventDispatcher} publishes the stored events once that transaction has been committed.
+ * Events of a transaction that is rolled back are never published, events that were not yet published when the engine is stopped are
+ * published after a restart, and slow channels don't lengthen the engine transactions.
+ * <p>
+ * The events are stored in the transaction of the engine that sends them. Events sent outside of a transaction,
+ * e.g. when the event registry engine is used on its own, are stored in a transaction of their own.
+ * The events with the same correlation parameter values are published in the order in which they were sent.
+ */
+public class AsyncOutboundEventProcessor extends DefaultOutboundEventProcessor {
+
+    protected static final String STORE_OUTBOUND_EVENTS_ATTRIBUTE = "ctx.attribute.storeOutboundEvents";
+
+    protected AsyncOutboundEventDispatcher outboundEventDispatcher;
+
+    public AsyncOutboundEventProcessor(EventRegistry eventRegistry, AsyncOutboundEventDispatcher outboundEventDispatcher) {
+        super(eventRegistry);
+        this.outboundEventDispatcher = outboundEventDispatcher;
+    }
+
+    @Override
+    protected OutboundChannelModel getOutboundChannelModel(String outboundChannelKey, EventInstance eventInstance) {
+        return eventRegistry.getOutboundChannelModel(outboundChannelKey, eventInstance.getTenantId());
+    }
+
+    @Override
+    protected void sendEvent(EventInstance eventInstance, OutboundChannelModel outboundChannelDefinition,
+            OutboundEventChannelAdapter outboundEventChannelAdapter, String rawEvent) {
+
+        CommandContext commandContext = Context.getCommandContext();
+        if (commandContext == null) {
+            outboundEventDispatcher.getEngineConfiguration().getCommandExecutor().execute(newCommandContext -> {
+                storeEvent(newCommandContext, eventInstance, outboundChannelDefinition, rawEvent);
+                return null;
+            });
+
+        } else {
+            storeEvent(commandContext, eventInstance, outboundChannelDefinition, rawEvent);
+        }
+    }
+
+    protected void storeEvent(CommandContext commandContext, EventInstance eventInstance, OutboundChannelModel outboundChannelDefinition, String rawEvent) {
+        StoreOutboundEventsCommandContextCloseListener closeListener = (StoreOutboundEventsCommandContextCloseListener) commandContext
+                .getAttribute(STORE_OUTBOUND_EVENTS_ATTRIBUTE);
+        if (closeListener == null) {
+            closeListener = new StoreOutboundEventsCommandContextCloseListener(outboundEventDispatcher);
+            commandContext.addAttribute(STORE_OUTBOUND_EVENTS_ATTRIBUTE, closeListener);
+            commandContext.addCloseListener(closeListener);
+
+            TransactionContext transactionContext = Context.getTransactionContext();
+            if (transactionContext != null) {
+                transactionContext.addTransactionListener(TransactionState.COMMITTED, context -> outboundEventDispatcher.scheduleAcquisition());
+            }
+        }
+        closeListener.addEvent(outboundChannelDefinition.getKey(), eventInstance.getTenantId(), getCorrelationKey(eventInstance), rawEvent);
+    }
+
+    /**
+     * @return the key of the correlation parameter values of the event, or null when the event has no correlation parameters
+     */
+    protected String getCorrelationKey(EventInstance eventInstance) {
+        Collection<EventCorrelationParameterInstance> correlationParameterInstances = eventInstance.getCorrelationParameterInstances();
+        if (correlationParameterInstances == null || correlationParameterInstances.isEmpty()) {
+            return null;
+        }
+
+        Map<String, Object> correlationData = new HashMap<>();
+        for (EventCorrelationParameterInstance correlationParameterInstance : correlationParameterInstances) {
+            correlationData.put(correlationParameterInstance.getDefinitionName(), correlationParameterInstance.getValue());
+        }
+        return eventRegistry.generateKey(correlationData);
+    }
+
+    public AsyncOutboundEventDispatcher getOutboundEventDispatcher() {
+        return outboundEventDispatcher;
+    }
+
+}
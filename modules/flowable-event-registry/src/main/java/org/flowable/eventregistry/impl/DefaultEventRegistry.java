@@ -15,6 +15,7 @@ package org.flowable.eventregistry.impl;
 import java.util.Collection;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
@@ -27,6 +28,7 @@ import org.flowable.eventregistry.api.EventRegistry;
 import org.flowable.eventregistry.api.EventRegistryEvent;
 import org.flowable.eventregistry.api.EventRegistryEventConsumer;
 import org.flowable.eventregistry.api.EventRepositoryService;
+import org.flowable.eventregistry.api.InboundEvent;
 import org.flowable.eventregistry.api.InboundEventChannelAdapter;
 import org.flowable.eventregistry.api.InboundEventProcessor;
 import org.flowable.eventregistry.api.OutboundEventProcessor;
@@ -35,6 +37,7 @@ import org.flowable.eventregistry.api.model.OutboundChannelModelBuilder;
 import org.flowable.eventregistry.api.runtime.EventInstance;
 import org.flowable.eventregistry.impl.model.InboundChannelDefinitionBuilderImpl;
 import org.flowable.eventregistry.impl.model.OutboundChannelDefinitionBuilderImpl;
+import org.flowable.eventregistry.impl.persistence.deploy.LatestEventModelCache;
 import org.flowable.eventregistry.model.ChannelModel;
 import org.flowable.eventregistry.model.EventModel;
 import org.flowable.eventregistry.model.InboundChannelModel;
@@ -154,14 +157,36 @@ public class DefaultEventRegistry implements EventRegistry {
         return outboundChannelManager.getChannelModel(channelKey);
     }
 
+    @Override
+    public OutboundChannelModel getOutboundChannelModel(String channelKey, String tenantId) {
+        return outboundChannelManager.getChannelModel(channelKey, tenantId);
+    }
+
     @Override
     public EventModel getEventModel(String eventDefinitionKey) {
-        return getEventRepositoryService().getEventModelByKey(eventDefinitionKey);
+        return getLatestEventModel(eventDefinitionKey, null, () -> getEventRepositoryService().getEventModelByKey(eventDefinitionKey));
     }
 
     @Override
     public EventModel getEventModel(String eventDefinitionKey, String tenantId) {
-        return getEventRepositoryService().getEventModelByKey(eventDefinitionKey, tenantId, true);
+        return getLatestEventModel(eventDefinitionKey, tenantId, () -> getEventRepositoryService().getEventModelByKey(eventDefinitionKey, tenantId, true));
+    }
+
+    protected EventModel getLatestEventModel(String eventDefinitionKey, String tenantId, Supplier<EventModel> eventModelSupplier) {
+        LatestEventModelCache latestEventModelCache = engineConfiguration.getDeploymentManager().getLatestEventModelCache();
+        if (latestEventModelCache == null) {
+            return eventModelSupplier.get();
+        }
+
+        EventModel eventModel = latestEventModelCache.get(eventDefinitionKey, tenantId);
+        if (eventModel == null) {
+            long generation = latestEventModelCache.getGeneration();
+            eventModel = eventModelSupplier.get();
+            if (eventModel != null) {
+                latestEventModelCache.add(eventDefinitionKey, tenantId, eventModel, generation);
+            }
+        }
+        return eventModel;
     }
 
     @Override
@@ -178,6 +203,16 @@ public class DefaultEventRegistry implements EventRegistry {
     public void eventReceived(String channelKey, String event) {
         inboundEventProcessor.eventReceived(channelKey, event);
     }
+
+    @Override
+    public void eventReceived(String channelKey, InboundEvent event) {
+        inboundEventProcessor.eventReceived(channelKey, event);
+    }
+
+    @Override
+    public void eventsReceived(String channelKey, Collection<InboundEvent> events) {
+        inboundEventProcessor.eventsReceived(channelKey, events);
+    }
     
     @Override
     public void sendEventToConsumers(EventRegistryEvent eventRegistryEvent) {
@@ -187,6 +222,14 @@ public class DefaultEventRegistry implements EventRegistry {
         }
     }
 
+    @Override
+    public void sendEventsToConsumers(Collection<EventRegistryEvent> eventRegistryEvents) {
+        Collection<EventRegistryEventConsumer> engineEventRegistryEventConsumers = engineConfiguration.getEventRegistryEventConsumers().values();
+        for (EventRegistryEventConsumer eventConsumer : engineEventRegistryEventConsumers) {
+            eventConsumer.eventsReceived(eventRegistryEvents);
+        }
+    }
+
     @Override
     public void sendEventOutbound(EventInstance eventInstance) {
         outboundEventProcessor.sendEvent(eventInstance);
@@ -220,12 +263,21 @@ public class DefaultEventRegistry implements EventRegistry {
 
         protected Map<String, ChannelData<T>> channelData = new ConcurrentHashMap<>();
 
+        // The channel data per key and tenant id, the empty tenant id is used for channels without a tenant
+        protected Map<String, Map<String, ChannelData<T>>> tenantChannelData = new ConcurrentHashMap<>();
+
         public void addChannelData(T channelModel, ChannelDefinition channelDefinition) {
-            channelData.put(channelModel.getKey(), new ChannelData<>(channelModel, channelDefinition));
+            ChannelData<T> data = new ChannelData<>(channelModel, channelDefinition);
+            channelData.put(channelModel.getKey(), data);
+
+            String tenantId = channelDefinition != null ? channelDefinition.getTenantId() : null;
+            tenantChannelData.computeIfAbsent(channelModel.getKey(), key -> new ConcurrentHashMap<>())
+                .put(StringUtils.defaultString(tenantId), data);
         }
 
         public void removeChannelDate(String key) {
             channelData.remove(key);
+            tenantChannelData.remove(key);
         }
 
         public T getChannelModel(String key) {
@@ -236,6 +288,19 @@ public class DefaultEventRegistry implements EventRegistry {
             return null;
         }
 
+        public T getChannelModel(String key, String tenantId) {
+            Map<String, ChannelData<T>> channelDataByTenant = tenantChannelData.get(key);
+            if (channelDataByTenant == null) {
+                return null;
+            }
+
+            ChannelData<T> channelData = channelDataByTenant.get(StringUtils.defaultString(tenantId));
+            if (channelData == null && StringUtils.isNotEmpty(tenantId)) {
+                channelData = channelDataByTenant.get("");
+            }
+            return channelData != null ? channelData.getChannelModel() : null;
+        }
+
         public ChannelDefinition getChannelDefinition(String key) {
             return channelData.get(key).getChannelDefinition();
         }
@@ -12,11 +12,14 @@
  */
 package org.flowable.eventregistry.impl;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.eventregistry.api.EventRegistry;
 import org.flowable.eventregistry.api.EventRegistryEvent;
+import org.flowable.eventregistry.api.InboundEvent;
 import org.flowable.eventregistry.api.InboundEventProcessingPipeline;
 import org.flowable.eventregistry.api.InboundEventProcessor;
 import org.flowable.eventregistry.model.InboundChannelModel;
@@ -35,19 +38,46 @@ public class DefaultInboundEventProcessor implements InboundEventProcessor {
 
     @Override
     public void eventReceived(String channelKey, String event) {
+        InboundEventProcessingPipeline inboundEventProcessingPipeline = getInboundEventProcessingPipeline(channelKey);
+        Collection<EventRegistryEvent> eventRegistryEvents = inboundEventProcessingPipeline.run(channelKey, event);
 
-        InboundChannelModel channelDefinition = eventRegistry.getInboundChannelModel(channelKey);
-        if (channelDefinition == null) {
-            throw new FlowableException("No channel definition found for key " + channelKey);
+        for (EventRegistryEvent eventRegistryEvent : eventRegistryEvents) {
+            eventRegistry.sendEventToConsumers(eventRegistryEvent);
         }
 
-        InboundEventProcessingPipeline inboundEventProcessingPipeline = (InboundEventProcessingPipeline) channelDefinition.getInboundEventProcessingPipeline();
+    }
+
+    @Override
+    public void eventReceived(String channelKey, InboundEvent event) {
+        InboundEventProcessingPipeline inboundEventProcessingPipeline = getInboundEventProcessingPipeline(channelKey);
         Collection<EventRegistryEvent> eventRegistryEvents = inboundEventProcessingPipeline.run(channelKey, event);
 
         for (EventRegistryEvent eventRegistryEvent : eventRegistryEvents) {
             eventRegistry.sendEventToConsumers(eventRegistryEvent);
         }
+    }
+
+    @Override
+    public void eventsReceived(String channelKey, Collection<InboundEvent> events) {
+        InboundEventProcessingPipeline inboundEventProcessingPipeline = getInboundEventProcessingPipeline(channelKey);
+
+        List<EventRegistryEvent> eventRegistryEvents = new ArrayList<>(events.size());
+        for (InboundEvent event : events) {
+            eventRegistryEvents.addAll(inboundEventProcessingPipeline.run(channelKey, event));
+        }
+
+        if (!eventRegistryEvents.isEmpty()) {
+            eventRegistry.sendEventsToConsumers(eventRegistryEvents);
+        }
+    }
+
+    protected InboundEventProcessingPipeline getInboundEventProcessingPipeline(String channelKey) {
+        InboundChannelModel channelDefinition = eventRegistry.getInboundChannelModel(channelKey);
+        if (channelDefinition == null) {
+            throw new FlowableException("No channel definition found for key " + channelKey);
+        }
 
+        return (InboundEventProcessingPipeline) channelDefinition.getInboundEventProcessingPipeline();
     }
 
 }
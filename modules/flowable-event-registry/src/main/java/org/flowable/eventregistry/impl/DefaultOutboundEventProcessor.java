@@ -38,7 +38,7 @@ public class DefaultOutboundEventProcessor implements OutboundEventProcessor {
         Collection<String> outboundChannelKeys = eventInstance.getEventModel().getOutboundChannelKeys();
         for (String outboundChannelKey : outboundChannelKeys) {
 
-            OutboundChannelModel outboundChannelDefinition = eventRegistry.getOutboundChannelModel(outboundChannelKey);
+            OutboundChannelModel outboundChannelDefinition = getOutboundChannelModel(outboundChannelKey, eventInstance);
             if (outboundChannelDefinition == null) {
                 throw new FlowableException("Could not find outbound channel definition for " + outboundChannelKey);
             }
@@ -50,9 +50,18 @@ public class DefaultOutboundEventProcessor implements OutboundEventProcessor {
             if (outboundEventChannelAdapter == null) {
                 throw new FlowableException("Could not find an outbound channel adapter for channel " + outboundChannelKey);
             }
-            outboundEventChannelAdapter.sendEvent(rawEvent);
+            sendEvent(eventInstance, outboundChannelDefinition, outboundEventChannelAdapter, rawEvent);
 
         }
     }
 
+    protected OutboundChannelModel getOutboundChannelModel(String outboundChannelKey, EventInstance eventInstance) {
+        return eventRegistry.getOutboundChannelModel(outboundChannelKey);
+    }
+
+    protected void sendEvent(EventInstance eventInstance, OutboundChannelModel outboundChannelDefinition,
+            OutboundEventChannelAdapter outboundEventChannelAdapter, String rawEvent) {
+        outboundEventChannelAdapter.sendEvent(rawEvent);
+    }
+
 }
@@ -17,6 +17,9 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
+import liquibase.Liquibase;
+import liquibase.database.Database;
+import liquibase.exception.DatabaseException;
 import org.flowable.common.engine.impl.AbstractEngineConfiguration;
 import org.flowable.common.engine.impl.HasExpressionManagerEngineConfiguration;
 import org.flowable.common.engine.impl.cfg.BeansConfigurationHelper;
@@ -45,12 +48,14 @@ import org.flowable.eventregistry.impl.deployer.EventDefinitionDeployer;
 import org.flowable.eventregistry.impl.deployer.EventDefinitionDeploymentHelper;
 import org.flowable.eventregistry.impl.deployer.ParsedDeploymentBuilderFactory;
 import org.flowable.eventregistry.impl.management.DefaultEventRegistryChangeDetector;
+import org.flowable.eventregistry.impl.outbound.AsyncOutboundEventDispatcher;
 import org.flowable.eventregistry.impl.parser.ChannelDefinitionParseFactory;
 import org.flowable.eventregistry.impl.parser.EventDefinitionParseFactory;
 import org.flowable.eventregistry.impl.persistence.deploy.ChannelDefinitionCacheEntry;
 import org.flowable.eventregistry.impl.persistence.deploy.Deployer;
 import org.flowable.eventregistry.impl.persistence.deploy.EventDefinitionCacheEntry;
 import org.flowable.eventregistry.impl.persistence.deploy.EventDeploymentManager;
+import org.flowable.eventregistry.impl.persistence.deploy.LatestEventModelCache;
 import org.flowable.eventregistry.impl.persistence.entity.ChannelDefinitionEntityManager;
 import org.flowable.eventregistry.impl.persistence.entity.ChannelDefinitionEntityManagerImpl;
 import org.flowable.eventregistry.impl.persistence.entity.EventDefinitionEntityManager;
@@ -59,25 +64,25 @@ import org.flowable.eventregistry.impl.persistence.entity.EventDeploymentEntityM
 import org.flowable.eventregistry.impl.persistence.entity.EventDeploymentEntityManagerImpl;
 import org.flowable.eventregistry.impl.persistence.entity.EventResourceEntityManager;
 import org.flowable.eventregistry.impl.persistence.entity.EventResourceEntityManagerImpl;
+import org.flowable.eventregistry.impl.persistence.entity.OutboundEventEntityManager;
+import org.flowable.eventregistry.impl.persistence.entity.OutboundEventEntityManagerImpl;
 import org.flowable.eventregistry.impl.persistence.entity.data.ChannelDefinitionDataManager;
 import org.flowable.eventregistry.impl.persistence.entity.data.EventDefinitionDataManager;
 import org.flowable.eventregistry.impl.persistence.entity.data.EventDeploymentDataManager;
 import org.flowable.eventregistry.impl.persistence.entity.data.EventResourceDataManager;
+import org.flowable.eventregistry.impl.persistence.entity.data.OutboundEventDataManager;
 import org.flowable.eventregistry.impl.persistence.entity.data.TableDataManager;
 import org.flowable.eventregistry.impl.persistence.entity.data.impl.MybatisChannelDefinitionDataManager;
 import org.flowable.eventregistry.impl.persistence.entity.data.impl.MybatisEventDefinitionDataManager;
 import org.flowable.eventregistry.impl.persistence.entity.data.impl.MybatisEventDeploymentDataManager;
 import org.flowable.eventregistry.impl.persistence.entity.data.impl.MybatisEventResourceDataManager;
+import org.flowable.eventregistry.impl.persistence.entity.data.impl.MybatisOutboundEventDataManager;
 import org.flowable.eventregistry.impl.persistence.entity.data.impl.TableDataManagerImpl;
 import org.flowable.eventregistry.impl.pipeline.InboundChannelModelProcessor;
 import org.flowable.eventregistry.impl.pipeline.OutboundChannelModelProcessor;
 import org.flowable.eventregistry.json.converter.ChannelJsonConverter;
 import org.flowable.eventregistry.json.converter.EventJsonConverter;
 
-import liquibase.Liquibase;
-import liquibase.database.Database;
-import liquibase.exception.DatabaseException;
-
 public class EventRegistryEngineConfiguration extends AbstractEngineConfiguration
         implements EventRegistryConfigurationApi, HasExpressionManagerEngineConfiguration {
 
@@ -99,12 +104,14 @@ public class EventRegistryEngineConfiguration extends AbstractEngineConfiguratio
     protected EventDefinitionDataManager eventDefinitionDataManager;
     protected ChannelDefinitionDataManager channelDefinitionDataManager;
     protected EventResourceDataManager resourceDataManager;
+    protected OutboundEventDataManager outboundEventDataManager;
 
     // ENTITY MANAGERS /////////////////////////////////////////////////
     protected EventDeploymentEntityManager deploymentEntityManager;
     protected EventDefinitionEntityManager eventDefinitionEntityManager;
     protected ChannelDefinitionEntityManager channelDefinitionEntityManager;
     protected EventResourceEntityManager resourceEntityManager;
+    protected OutboundEventEntityManager outboundEventEntityManager;
     protected TableDataManager tableDataManager;
 
     protected ExpressionManager expressionManager;
@@ -133,6 +140,10 @@ public class EventRegistryEngineConfiguration extends AbstractEngineConfiguratio
     protected int channelDefinitionCacheLimit = -1; // By default, no limit
     protected DeploymentCache<ChannelDefinitionCacheEntry> channelDefinitionCache;
 
+    // In a cluster, the cached latest event models are only invalidated for deployments on other nodes when the event registry change detection is enabled
+    protected boolean enableLatestEventModelCache = true;
+    protected LatestEventModelCache latestEventModelCache;
+
     protected Collection<ChannelModelProcessor> channelDefinitionProcessors = new ArrayList<>();
 
     // Event registry
@@ -140,6 +151,13 @@ public class EventRegistryEngineConfiguration extends AbstractEngineConfiguratio
     protected InboundEventProcessor inboundEventProcessor;
     protected OutboundEventProcessor outboundEventProcessor;
 
+    // When enabled, outbound events are stored in the outbox table in the transaction that sends them, and published once that transaction has been committed
+    protected boolean enableAsyncOutboundEventDispatch;
+    protected int asyncOutboundEventDispatchBatchSize = 100;
+    protected long asyncOutboundEventDispatchMaxWaitTimeInMs = 100;
+    protected int asyncOutboundEventDispatchMaxConcurrencyPerChannel = 4;
+    protected AsyncOutboundEventDispatcher asyncOutboundEventDispatcher;
+
     protected boolean handleEventRegistryEngineDeploymentsAfterEngineCreate = true;
 
     public static EventRegistryEngineConfiguration createEventRegistryEngineConfigurationFromResourceDefault() {
@@ -185,6 +203,10 @@ public class EventRegistryEngineConfiguration extends AbstractEngineConfiguratio
             }
         }
 
+        if (enableAsyncOutboundEventDispatch) {
+            asyncOutboundEventDispatcher.start();
+        }
+
         return eventRegistryEngine;
     }
 
@@ -263,6 +285,9 @@ public class EventRegistryEngineConfiguration extends AbstractEngineConfiguratio
         if (resourceDataManager == null) {
             resourceDataManager = new MybatisEventResourceDataManager(this);
         }
+        if (outboundEventDataManager == null) {
+            outboundEventDataManager = new MybatisOutboundEventDataManager(this);
+        }
     }
 
     @Override
@@ -280,6 +305,9 @@ public class EventRegistryEngineConfiguration extends AbstractEngineConfiguratio
         if (resourceEntityManager == null) {
             resourceEntityManager = new EventResourceEntityManagerImpl(this, resourceDataManager);
         }
+        if (outboundEventEntityManager == null) {
+            outboundEventEntityManager = new OutboundEventEntityManagerImpl(this, outboundEventDataManager);
+        }
         if (tableDataManager == null) {
             tableDataManager = new TableDataManagerImpl();
         }
@@ -419,7 +447,12 @@ public class EventRegistryEngineConfiguration extends AbstractEngineConfiguratio
             }
         }
 
+        if (enableLatestEventModelCache && latestEventModelCache == null) {
+            latestEventModelCache = new LatestEventModelCache();
+        }
+
         deploymentManager = new EventDeploymentManager(eventDefinitionCache, channelDefinitionCache, this);
+        deploymentManager.setLatestEventModelCache(enableLatestEventModelCache ? latestEventModelCache : null);
         deploymentManager.setDeployers(deployers);
         deploymentManager.setDeploymentEntityManager(deploymentEntityManager);
         deploymentManager.setEventDefinitionEntityManager(eventDefinitionEntityManager);
@@ -486,8 +519,17 @@ public class EventRegistryEngineConfiguration extends AbstractEngineConfiguratio
     }
 
     public void initOutboundEventProcessor() {
+        if (this.asyncOutboundEventDispatcher == null) {
+            this.asyncOutboundEventDispatcher = new AsyncOutboundEventDispatcher(this, asyncOutboundEventDispatchBatchSize,
+                asyncOutboundEventDispatchMaxWaitTimeInMs, asyncOutboundEventDispatchMaxConcurrencyPerChannel);
+        }
+
         if (this.outboundEventProcessor == null) {
-            this.outboundEventProcessor = new DefaultOutboundEventProcessor(eventRegistry);
+            if (enableAsyncOutboundEventDispatch) {
+                this.outboundEventProcessor = new AsyncOutboundEventProcessor(eventRegistry, asyncOutboundEventDispatcher);
+            } else {
+                this.outboundEventProcessor = new DefaultOutboundEventProcessor(eventRegistry);
+            }
         }
         this.eventRegistry.setOutboundEventProcessor(outboundEventProcessor);
     }
@@ -633,6 +675,69 @@ public class EventRegistryEngineConfiguration extends AbstractEngineConfiguratio
         this.channelDefinitionCache = channelDefinitionCache;
         return this;
     }
+
+    public boolean isEnableLatestEventModelCache() {
+        return enableLatestEventModelCache;
+    }
+
+    public EventRegistryEngineConfiguration setEnableLatestEventModelCache(boolean enableLatestEventModelCache) {
+        this.enableLatestEventModelCache = enableLatestEventModelCache;
+        return this;
+    }
+
+    public boolean isEnableAsyncOutboundEventDispatch() {
+        return enableAsyncOutboundEventDispatch;
+    }
+
+    public EventRegistryEngineConfiguration setEnableAsyncOutboundEventDispatch(boolean enableAsyncOutboundEventDispatch) {
+        this.enableAsyncOutboundEventDispatch = enableAsyncOutboundEventDispatch;
+        return this;
+    }
+
+    public int getAsyncOutboundEventDispatchBatchSize() {
+        return asyncOutboundEventDispatchBatchSize;
+    }
+
+    public EventRegistryEngineConfiguration setAsyncOutboundEventDispatchBatchSize(int asyncOutboundEventDispatchBatchSize) {
+        this.asyncOutboundEventDispatchBatchSize = asyncOutboundEventDispatchBatchSize;
+        return this;
+    }
+
+    public long getAsyncOutboundEventDispatchMaxWaitTimeInMs() {
+        return asyncOutboundEventDispatchMaxWaitTimeInMs;
+    }
+
+    public EventRegistryEngineConfiguration setAsyncOutboundEventDispatchMaxWaitTimeInMs(long asyncOutboundEventDispatchMaxWaitTimeInMs) {
+        this.asyncOutboundEventDispatchMaxWaitTimeInMs = asyncOutboundEventDispatchMaxWaitTimeInMs;
+        return this;
+    }
+
+    public int getAsyncOutboundEventDispatchMaxConcurrencyPerChannel() {
+        return asyncOutboundEventDispatchMaxConcurrencyPerChannel;
+    }
+
+    public EventRegistryEngineConfiguration setAsyncOutboundEventDispatchMaxConcurrencyPerChannel(int asyncOutboundEventDispatchMaxConcurrencyPerChannel) {
+        this.asyncOutboundEventDispatchMaxConcurrencyPerChannel = asyncOutboundEventDispatchMaxConcurrencyPerChannel;
+        return this;
+    }
+
+    public AsyncOutboundEventDispatcher getAsyncOutboundEventDispatcher() {
+        return asyncOutboundEventDispatcher;
+    }
+
+    public EventRegistryEngineConfiguration setAsyncOutboundEventDispatcher(AsyncOutboundEventDispatcher asyncOutboundEventDispatcher) {
+        this.asyncOutboundEventDispatcher = asyncOutboundEventDispatcher;
+        return this;
+    }
+
+    public LatestEventModelCache getLatestEventModelCache() {
+        return latestEventModelCache;
+    }
+
+    public EventRegistryEngineConfiguration setLatestEventModelCache(LatestEventModelCache latestEventModelCache) {
+        this.latestEventModelCache = latestEventModelCache;
+        return this;
+    }
     
     public Collection<ChannelModelProcessor> getChannelDefinitionProcessors() {
         return channelDefinitionProcessors;
@@ -712,6 +817,24 @@ public class EventRegistryEngineConfiguration extends AbstractEngineConfiguratio
         return this;
     }
 
+    public OutboundEventDataManager getOutboundEventDataManager() {
+        return outboundEventDataManager;
+    }
+
+    public EventRegistryEngineConfiguration setOutboundEventDataManager(OutboundEventDataManager outboundEventDataManager) {
+        this.outboundEventDataManager = outboundEventDataManager;
+        return this;
+    }
+
+    public OutboundEventEntityManager getOutboundEventEntityManager() {
+        return outboundEventEntityManager;
+    }
+
+    public EventRegistryEngineConfiguration setOutboundEventEntityManager(OutboundEventEntityManager outboundEventEntityManager) {
+        this.outboundEventEntityManager = outboundEventEntityManager;
+        return this;
+    }
+
     public TableDataManager getTableDataManager() {
         return tableDataManager;
     }
@@ -76,6 +76,9 @@ public class EventRegistryEngineImpl implements EventRegistryEngine {
     @Override
     public void close() {
         EventRegistryEngines.unregister(this);
+        if (engineConfiguration.getAsyncOutboundEventDispatcher() != null) {
+            engineConfiguration.getAsyncOutboundEventDispatcher().shutdown();
+        }
         engineConfiguration.close();
 
         if (engineConfiguration.getEngineLifecycleListeners() != null) {
@@ -16,12 +16,17 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
+import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.impl.AbstractEngineConfiguration;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
 import org.flowable.eventregistry.api.EventRegistry;
 import org.flowable.eventregistry.api.EventRegistryEvent;
@@ -29,6 +34,8 @@ import org.flowable.eventregistry.api.EventRegistryEventConsumer;
 import org.flowable.eventregistry.api.runtime.EventCorrelationParameterInstance;
 import org.flowable.eventregistry.api.runtime.EventInstance;
 import org.flowable.eventregistry.impl.EventRegistryEngineConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * @author Joram Barrez
@@ -36,6 +43,13 @@ import org.flowable.eventregistry.impl.EventRegistryEngineConfiguration;
  */
 public abstract class BaseEventRegistryEventConsumer implements EventRegistryEventConsumer {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(BaseEventRegistryEventConsumer.class);
+
+    /**
+     * The maximum number of values passed in one 'in' clause, as some databases (e.g. Oracle) limit this to 1000.
+     */
+    protected static final int MAX_VALUES_PER_QUERY = 1000;
+
     protected AbstractEngineConfiguration engingeConfiguration;
 
     public BaseEventRegistryEventConsumer(AbstractEngineConfiguration engingeConfiguration) {
@@ -44,8 +58,21 @@ public abstract class BaseEventRegistryEventConsumer implements EventRegistryEve
 
     @Override
     public void eventReceived(EventRegistryEvent event) {
+        eventReceived(getEventInstance(event));
+    }
+
+    @Override
+    public void eventsReceived(Collection<EventRegistryEvent> events) {
+        List<EventInstance> eventInstances = new ArrayList<>(events.size());
+        for (EventRegistryEvent event : events) {
+            eventInstances.add(getEventInstance(event));
+        }
+        eventsReceived(eventInstances);
+    }
+
+    protected EventInstance getEventInstance(EventRegistryEvent event) {
         if (event.getEventObject() != null && event.getEventObject() instanceof EventInstance) {
-            eventReceived((EventInstance) event.getEventObject());
+            return (EventInstance) event.getEventObject();
         } else {
             if (event.getEventObject() == null) {
                 throw new FlowableIllegalArgumentException("No event object was passed to the consumer");
@@ -57,6 +84,171 @@ public abstract class BaseEventRegistryEventConsumer implements EventRegistryEve
 
     protected abstract void eventReceived(EventInstance eventInstance);
 
+    /**
+     * Handles all the events of a batch. By default the events are handled one by one,
+     * engine consumers override this to resolve the event subscriptions of the whole batch at once.
+     */
+    protected void eventsReceived(List<EventInstance> eventInstances) {
+        for (EventInstance eventInstance : eventInstances) {
+            eventReceived(eventInstance);
+        }
+    }
+
+    protected int getBatchSize() {
+        return Math.max(1, engingeConfiguration.getEventRegistryConsumerBatchSize());
+    }
+
+    /**
+     * Executes the commands handling the event subscriptions of a batch of events, in the order of the events.
+     * Batchable commands are executed in transactions of at most batch size commands, the other commands each in their own transaction.
+     * When a transaction fails, its commands are retried each in their own transaction, so that one failing command does not roll back the others.
+     * The exceptions of the commands that still fail are added to the given failures.
+     *
+     * When the commands of an event create event subscriptions for one of the given event types, later events of the batch could match them.
+     * The execution then stops after that event, and the index of the next event is returned, so its event subscriptions can be fetched again.
+     * Returns the given event count when all commands were executed.
+     */
+    protected int executeEventSubscriptionCommands(List<EventSubscriptionCommand> commands, int eventCount, Collection<String> eventTypes,
+            List<RuntimeException> failures) {
+
+        for (int i = 0; i < commands.size(); i++) {
+            commands.get(i).setLastOfEvent(i == commands.size() - 1 || commands.get(i + 1).getEventIndex() != commands.get(i).getEventIndex());
+        }
+
+        int batchSize = getBatchSize();
+        int isolatedCommandsEnd = 0;
+        int createdEventIndex = -1;
+        int index = 0;
+        while (index < commands.size()) {
+            int end = index + 1;
+            if (index >= isolatedCommandsEnd && commands.get(index).isBatchable()) {
+                while (end < commands.size() && end - index < batchSize && commands.get(end).isBatchable()) {
+                    end++;
+                }
+            }
+
+            List<EventSubscriptionCommand> batch = commands.subList(index, end);
+            int executedCommands;
+            try {
+                executedCommands = executeInTransaction(batch, createdEventIndex, eventTypes);
+
+            } catch (RuntimeException e) {
+                for (EventSubscriptionCommand command : batch) {
+                    command.setEventSubscriptionsCreated(false);
+                }
+
+                if (batch.size() > 1) {
+                    LOGGER.debug("Handling a batch of {} event subscriptions failed, retrying them one by one", batch.size(), e);
+                    isolatedCommandsEnd = end;
+                    continue;
+                }
+
+                failures.add(e);
+                executedCommands = 1;
+            }
+
+            for (int i = index; i < index + executedCommands; i++) {
+                EventSubscriptionCommand command = commands.get(i);
+                if (command.isEventSubscriptionsCreated()) {
+                    createdEventIndex = command.getEventIndex();
+                }
+                if (command.isLastOfEvent() && command.getEventIndex() == createdEventIndex) {
+                    return createdEventIndex + 1;
+                }
+            }
+            index += executedCommands;
+        }
+
+        return eventCount;
+    }
+
+    /**
+     * Executes the given commands in one transaction, stopping after the last command of the first event that created event subscriptions
+     * for one of the given event types. Returns the number of executed commands.
+     */
+    protected int executeInTransaction(List<EventSubscriptionCommand> commands, int createdEventIndex, Collection<String> eventTypes) {
+        return engingeConfiguration.getCommandExecutor().execute(commandContext -> {
+            int eventIndexWithCreatedEventSubscriptions = createdEventIndex;
+            int createdEventSubscriptions = countCreatedEventSubscriptions(commandContext, eventTypes);
+            for (int i = 0; i < commands.size(); i++) {
+                EventSubscriptionCommand command = commands.get(i);
+                command.getCommand().execute(commandContext);
+
+                int newCreatedEventSubscriptions = countCreatedEventSubscriptions(commandContext, eventTypes);
+                command.setEventSubscriptionsCreated(newCreatedEventSubscriptions > createdEventSubscriptions);
+                createdEventSubscriptions = newCreatedEventSubscriptions;
+
+                if (command.isEventSubscriptionsCreated()) {
+                    eventIndexWithCreatedEventSubscriptions = command.getEventIndex();
+                }
+                if (command.isLastOfEvent() && command.getEventIndex() == eventIndexWithCreatedEventSubscriptions) {
+                    return i + 1;
+                }
+            }
+            return commands.size();
+        });
+    }
+
+    /**
+     * Returns the number of event subscriptions for one of the given event types that were created in the transaction of the given command context.
+     * By default no created event subscriptions are detected, engine consumers override this to look them up in the entity cache.
+     */
+    protected int countCreatedEventSubscriptions(CommandContext commandContext, Collection<String> eventTypes) {
+        return 0;
+    }
+
+    protected Set<String> getEventDefinitionKeys(Collection<EventInstance> eventInstances) {
+        Set<String> eventDefinitionKeys = new HashSet<>();
+        for (EventInstance eventInstance : eventInstances) {
+            eventDefinitionKeys.add(eventInstance.getEventModel().getKey());
+        }
+        return eventDefinitionKeys;
+    }
+
+    /**
+     * Splits the given values in lists of at most {@link #MAX_VALUES_PER_QUERY} values, to be used in separate 'in' clauses.
+     */
+    protected List<List<String>> partition(Collection<String> values) {
+        List<String> valueList = new ArrayList<>(values);
+        List<List<String>> partitions = new ArrayList<>();
+        for (int i = 0; i < valueList.size(); i += MAX_VALUES_PER_QUERY) {
+            partitions.add(new ArrayList<>(valueList.subList(i, Math.min(i + MAX_VALUES_PER_QUERY, valueList.size()))));
+        }
+        return partitions;
+    }
+
+    protected void rethrowFailures(List<RuntimeException> failures) {
+        if (failures.isEmpty()) {
+            return;
+        }
+
+        if (failures.size() == 1) {
+            throw failures.get(0);
+        }
+
+        FlowableException exception = new FlowableException("Handling " + failures.size() + " event subscriptions of the received events failed", failures.get(0));
+        for (int i = 1; i < failures.size(); i++) {
+            exception.addSuppressed(failures.get(i));
+        }
+        throw exception;
+    }
+
+    /**
+     * Returns the tenant id the event subscriptions of the given event need to match,
+     * or {@code null} when the event model is deployed to the default tenant.
+     */
+    protected String getEventSubscriptionTenantId(EventInstance eventInstance) {
+        // Note: the tenantId of the model, not the event instance.
+        // The event instance tenantId will always be the 'real' tenantId,
+        // but the event could have been deployed to the default tenant
+        // (which is reflected in the eventModel tenantId).
+        String eventModelTenantId = eventInstance.getEventModel().getTenantId();
+        if (eventModelTenantId != null && !Objects.equals(AbstractEngineConfiguration.NO_TENANT_ID, eventModelTenantId)) {
+            return eventModelTenantId;
+        }
+        return null;
+    }
+
     /**
      * Generates all possible correlation keys for the given correlation parameters.
      * The first element in the list will only have used one parameter. The last element in the list has included all parameters.
@@ -108,4 +300,53 @@ public abstract class BaseEventRegistryEventConsumer implements EventRegistryEve
         return result;
     }
 
+    /**
+     * A command handling one event subscription for one event of a batch.
+     */
+    public static class EventSubscriptionCommand {
+
+        protected final int eventIndex;
+        protected final boolean batchable;
+        protected final Command<Void> command;
+        protected boolean lastOfEvent;
+        protected boolean eventSubscriptionsCreated;
+
+        public EventSubscriptionCommand(int eventIndex, boolean batchable, Command<Void> command) {
+            this.eventIndex = eventIndex;
+            this.batchable = batchable;
+            this.command = command;
+        }
+
+        public int getEventIndex() {
+            return eventIndex;
+        }
+
+        /**
+         * Whether the command can share its transaction with the commands of other event subscriptions.
+         */
+        public boolean isBatchable() {
+            return batchable;
+        }
+
+        public Command<Void> getCommand() {
+            return command;
+        }
+
+        public boolean isLastOfEvent() {
+            return lastOfEvent;
+        }
+
+        public void setLastOfEvent(boolean lastOfEvent) {
+            this.lastOfEvent = lastOfEvent;
+        }
+
+        public boolean isEventSubscriptionsCreated() {
+            return eventSubscriptionsCreated;
+        }
+
+        public void setEventSubscriptionsCreated(boolean eventSubscriptionsCreated) {
+            this.eventSubscriptionsCreated = eventSubscriptionsCreated;
+        }
+    }
+
 }
@@ -21,6 +21,7 @@ import org.flowable.eventregistry.impl.persistence.entity.ChannelDefinitionEntit
 import org.flowable.eventregistry.impl.persistence.entity.EventDefinitionEntityImpl;
 import org.flowable.eventregistry.impl.persistence.entity.EventDeploymentEntityImpl;
 import org.flowable.eventregistry.impl.persistence.entity.EventResourceEntityImpl;
+import org.flowable.eventregistry.impl.persistence.entity.OutboundEventEntityImpl;
 
 public class EntityDependencyOrder {
 
@@ -33,6 +34,7 @@ public class EntityDependencyOrder {
         DELETE_ORDER.add(EventDeploymentEntityImpl.class);
         DELETE_ORDER.add(EventDefinitionEntityImpl.class);
         DELETE_ORDER.add(ChannelDefinitionEntityImpl.class);
+        DELETE_ORDER.add(OutboundEventEntityImpl.class);
         
         INSERT_ORDER = new ArrayList<>(DELETE_ORDER);
         Collections.reverse(INSERT_ORDER);
@@ -12,8 +12,10 @@
  */
 package org.flowable.eventregistry.impl.deployer;
 
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
 
 import org.flowable.common.engine.impl.cfg.IdGenerator;
 import org.flowable.eventregistry.impl.persistence.deploy.Deployer;
@@ -62,6 +64,7 @@ public class EventDefinitionDeployer implements Deployer {
             Map<EventDefinitionEntity, EventDefinitionEntity> mapOfNewEventDefinitionToPreviousVersion = getPreviousVersionsOfEventDefinitions(parsedDeployment);
             setEventDefinitionVersionsAndIds(parsedDeployment, mapOfNewEventDefinitionToPreviousVersion);
             persistEventDefinitions(parsedDeployment);
+            invalidateLatestEventModels(parsedDeployment);
             
             Map<ChannelDefinitionEntity, ChannelDefinitionEntity> mapOfNewChannelDefinitionToPreviousVersion = getPreviousVersionsOfChannelDefinitions(parsedDeployment);
             setChannelDefinitionVersionsAndIds(parsedDeployment, mapOfNewChannelDefinitionToPreviousVersion);
@@ -75,6 +78,17 @@ public class EventDefinitionDeployer implements Deployer {
         cachingAndArtifactsManager.updateCachingAndArtifacts(parsedDeployment);
     }
 
+    /**
+     * New event definitions become the latest version of their key, so the cached latest event models of those keys are no longer valid.
+     */
+    protected void invalidateLatestEventModels(ParsedDeployment parsedDeployment) {
+        Set<String> eventDefinitionKeys = new HashSet<>();
+        for (EventDefinitionEntity eventDefinition : parsedDeployment.getAllEventDefinitions()) {
+            eventDefinitionKeys.add(eventDefinition.getKey());
+        }
+        CommandContextUtil.getEventRegistryConfiguration().getDeploymentManager().invalidateLatestEventModels(eventDefinitionKeys);
+    }
+
     /**
      * Constructs a map from new event definitions to the previous version by key and tenant. If no previous version exists, no map entry is created.
      */
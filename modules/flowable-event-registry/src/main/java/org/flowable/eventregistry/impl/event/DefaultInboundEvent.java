@@ -0,0 +1,44 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.impl.event;
+
+import java.util.Collections;
+import java.util.Map;
+
+import org.flowable.eventregistry.api.InboundEvent;
+
+public class DefaultInboundEvent implements InboundEvent {
+
+    protected Object body;
+    protected Map<String, Object> headers;
+
+    public DefaultInboundEvent(Object body) {
+        this(body, null);
+    }
+
+    public DefaultInboundEvent(Object body, Map<String, Object> headers) {
+        this.body = body;
+        this.headers = headers != null ? headers : Collections.emptyMap();
+    }
+
+    @Override
+    public Object getBody() {
+        return body;
+    }
+
+    @Override
+    public Map<String, Object> getHeaders() {
+        return headers;
+    }
+
+}
@@ -0,0 +1,65 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.impl.keydetector;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.eventregistry.api.InboundEventKeyDetector;
+
+/**
+ * Detects the event key from a header of the received message, which avoids deserializing the body for routing.
+ * When the header is missing, the (optional) fallback detector is used on the deserialized event.
+ */
+public class HeaderBasedInboundEventKeyDetector<T> implements InboundEventKeyDetector<T> {
+
+    protected String headerName;
+    protected InboundEventKeyDetector<T> fallbackKeyDetector;
+
+    public HeaderBasedInboundEventKeyDetector(String headerName) {
+        this(headerName, null);
+    }
+
+    public HeaderBasedInboundEventKeyDetector(String headerName, InboundEventKeyDetector<T> fallbackKeyDetector) {
+        this.headerName = headerName;
+        this.fallbackKeyDetector = fallbackKeyDetector;
+    }
+
+    @Override
+    public String detectEventDefinitionKeyFromHeaders(Map<String, Object> headers) {
+        Object value = headers.get(headerName);
+        if (value == null) {
+            return null;
+        } else if (value instanceof byte[]) {
+            return new String((byte[]) value, StandardCharsets.UTF_8);
+        }
+        return value.toString();
+    }
+
+    @Override
+    public String detectEventDefinitionKey(T event) {
+        if (fallbackKeyDetector == null) {
+            throw new FlowableException("No event key header " + headerName + " found on the received event");
+        }
+        return fallbackKeyDetector.detectEventDefinitionKey(event);
+    }
+
+    public String getHeaderName() {
+        return headerName;
+    }
+
+    public InboundEventKeyDetector<T> getFallbackKeyDetector() {
+        return fallbackKeyDetector;
+    }
+}
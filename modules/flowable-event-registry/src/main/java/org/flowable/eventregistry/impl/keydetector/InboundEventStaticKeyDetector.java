@@ -12,6 +12,8 @@
  */
 package org.flowable.eventregistry.impl.keydetector;
 
+import java.util.Map;
+
 import org.flowable.eventregistry.api.InboundEventKeyDetector;
 
 /**
@@ -30,4 +32,10 @@ public class InboundEventStaticKeyDetector<T> implements InboundEventKeyDetector
         return staticKey;
     }
 
+    @Override
+    public String detectEventDefinitionKeyFromHeaders(Map<String, Object> headers) {
+        // The static key never requires the event body
+        return staticKey;
+    }
+
 }
@@ -12,7 +12,10 @@
  */
 package org.flowable.eventregistry.impl.management;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
@@ -21,9 +24,11 @@ import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import org.flowable.eventregistry.api.ChannelDefinition;
+import org.flowable.eventregistry.api.EventDefinition;
 import org.flowable.eventregistry.api.EventRegistry;
 import org.flowable.eventregistry.api.management.EventRegistryChangeDetector;
 import org.flowable.eventregistry.impl.EventRegistryEngineConfiguration;
+import org.flowable.eventregistry.impl.persistence.deploy.LatestEventModelCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -42,6 +47,9 @@ public class DefaultEventRegistryChangeDetector implements EventRegistryChangeDe
     protected String threadName = "flowable-event-registry-change-detector-%d";
     protected Runnable changeDetectionRunnable;
 
+    // The ids of the latest event definitions (for all tenants) per event definition key, as seen by the previous change detection
+    protected Map<String, Set<String>> latestEventDefinitionIdsByKey;
+
     public DefaultEventRegistryChangeDetector(EventRegistryEngineConfiguration eventRegistryEngineConfiguration, long initialDelayInMs, long delayInMs) {
         this.eventRegistryEngineConfiguration = eventRegistryEngineConfiguration;
         this.initialDelayInMs = initialDelayInMs;
@@ -96,6 +104,47 @@ public class DefaultEventRegistryChangeDetector implements EventRegistryChangeDe
                 eventRegistry.removeChannelModel(outboundChannelKey);
             }
         }
+
+        detectEventDefinitionChanges();
+    }
+
+    /**
+     * Invalidates the cached latest event models of the event definition keys for which the latest version changed
+     * since the previous change detection, e.g. because of a deployment on another node.
+     */
+    protected void detectEventDefinitionChanges() {
+        LatestEventModelCache latestEventModelCache = eventRegistryEngineConfiguration.getDeploymentManager().getLatestEventModelCache();
+        if (latestEventModelCache == null) {
+            return;
+        }
+
+        List<EventDefinition> eventDefinitions = eventRegistryEngineConfiguration.getEventRepositoryService()
+            .createEventDefinitionQuery()
+            .latestVersion()
+            .list();
+
+        Map<String, Set<String>> eventDefinitionIdsByKey = new HashMap<>();
+        for (EventDefinition eventDefinition : eventDefinitions) {
+            eventDefinitionIdsByKey.computeIfAbsent(eventDefinition.getKey(), key -> new HashSet<>()).add(eventDefinition.getId());
+        }
+
+        if (latestEventDefinitionIdsByKey == null) {
+            // Changes that happened before the first detection can't be known
+            latestEventModelCache.clear();
+
+        } else {
+            Set<String> eventDefinitionKeys = new HashSet<>(eventDefinitionIdsByKey.keySet());
+            eventDefinitionKeys.addAll(latestEventDefinitionIdsByKey.keySet());
+            for (String eventDefinitionKey : eventDefinitionKeys) {
+                Set<String> eventDefinitionIds = eventDefinitionIdsByKey.get(eventDefinitionKey);
+                if (eventDefinitionIds == null || !eventDefinitionIds.equals(latestEventDefinitionIdsByKey.get(eventDefinitionKey))) {
+                    LOGGER.debug("Latest event definition for key {} changed", eventDefinitionKey);
+                    latestEventModelCache.invalidate(eventDefinitionKey);
+                }
+            }
+        }
+
+        latestEventDefinitionIdsByKey = eventDefinitionIdsByKey;
     }
 
     public ScheduledExecutorService getScheduledExecutorService() {
@@ -24,6 +24,7 @@ import org.flowable.eventregistry.api.InboundEventProcessingPipeline;
 import org.flowable.eventregistry.api.InboundEventTenantDetector;
 import org.flowable.eventregistry.api.InboundEventTransformer;
 import org.flowable.eventregistry.api.model.InboundChannelModelBuilder;
+import org.flowable.eventregistry.impl.keydetector.HeaderBasedInboundEventKeyDetector;
 import org.flowable.eventregistry.impl.keydetector.JsonFieldBasedInboundEventKeyDetector;
 import org.flowable.eventregistry.impl.keydetector.JsonPathBasedInboundEventKeyDetector;
 import org.flowable.eventregistry.impl.keydetector.InboundEventStaticKeyDetector;
@@ -33,6 +34,7 @@ import org.flowable.eventregistry.impl.payload.XmlElementsToMapPayloadExtractor;
 import org.flowable.eventregistry.impl.pipeline.DefaultInboundEventProcessingPipeline;
 import org.flowable.eventregistry.impl.serialization.StringToJsonDeserializer;
 import org.flowable.eventregistry.impl.serialization.StringToXmlDocumentDeserializer;
+import org.flowable.eventregistry.impl.tenantdetector.HeaderBasedInboundEventTenantDetector;
 import org.flowable.eventregistry.impl.tenantdetector.JsonPathBasedInboundEventTenantDetector;
 import org.flowable.eventregistry.impl.tenantdetector.InboundEventStaticTenantDetector;
 import org.flowable.eventregistry.impl.tenantdetector.XpathBasedInboundEventTenantDetector;
@@ -248,6 +250,18 @@ public class InboundChannelDefinitionBuilderImpl implements InboundChannelModelB
             return this;
         }
 
+        @Override
+        public InboundKafkaChannelBuilder batchSize(String batchSize) {
+            kafkaChannel.setBatchSize(batchSize);
+            return this;
+        }
+
+        @Override
+        public InboundKafkaChannelBuilder orderingKeyHeader(String headerName) {
+            kafkaChannel.setOrderingKeyHeader(headerName);
+            return this;
+        }
+
         @Override
         public InboundKafkaChannelBuilder property(String name, String value) {
             kafkaChannel.addProperty(name, value);
@@ -353,6 +367,12 @@ public class InboundChannelDefinitionBuilderImpl implements InboundChannelModelB
             this.inboundEventProcessingPipelineBuilder.inboundEventKeyDetector = new JsonPathBasedInboundEventKeyDetector(jsonPathExpression);
             return new InboundEventTenantJsonDetectorBuilderImpl(inboundEventProcessingPipelineBuilder);
         }
+
+        @Override
+        public InboundEventTenantJsonDetectorBuilder detectEventKeyUsingHeader(String headerName) {
+            this.inboundEventProcessingPipelineBuilder.inboundEventKeyDetector = new HeaderBasedInboundEventKeyDetector<>(headerName);
+            return new InboundEventTenantJsonDetectorBuilderImpl(inboundEventProcessingPipelineBuilder);
+        }
     }
 
     public static class InboundEventKeyXmlDetectorBuilderImpl implements InboundEventKeyXmlDetectorBuilder {
@@ -375,6 +395,12 @@ public class InboundChannelDefinitionBuilderImpl implements InboundChannelModelB
             return new InboundEventTenantXmlDetectorBuilderImpl(inboundEventProcessingPipelineBuilder);
         }
 
+        @Override
+        public InboundEventTenantXmlDetectorBuilder detectEventKeyUsingHeader(String headerName) {
+            this.inboundEventProcessingPipelineBuilder.inboundEventKeyDetector = new HeaderBasedInboundEventKeyDetector<>(headerName);
+            return new InboundEventTenantXmlDetectorBuilderImpl(inboundEventProcessingPipelineBuilder);
+        }
+
     }
 
     public static class InboundEventDefinitionKeyDetectorBuilderImpl<T> implements InboundEventKeyDetectorBuilder<T> {
@@ -412,6 +438,12 @@ public class InboundChannelDefinitionBuilderImpl implements InboundChannelModelB
             return new InboundEventPayloadJsonExtractorBuilderImpl(inboundEventProcessingPipelineBuilder);
         }
 
+        @Override
+        public InboundEventPayloadJsonExtractorBuilder detectEventTenantUsingHeader(String headerName) {
+            inboundEventProcessingPipelineBuilder.inboundEventTenantDetector = new HeaderBasedInboundEventTenantDetector<>(headerName);
+            return new InboundEventPayloadJsonExtractorBuilderImpl(inboundEventProcessingPipelineBuilder);
+        }
+
     }
 
     public static class InboundEventTenantXmlDetectorBuilderImpl
@@ -433,6 +465,12 @@ public class InboundChannelDefinitionBuilderImpl implements InboundChannelModelB
             return new InboundEventPayloadXmlExtractorBuilderImpl(inboundEventProcessingPipelineBuilder);
         }
 
+        @Override
+        public InboundEventPayloadXmlExtractorBuilder detectEventTenantUsingHeader(String headerName) {
+            inboundEventProcessingPipelineBuilder.inboundEventTenantDetector = new HeaderBasedInboundEventTenantDetector<>(headerName);
+            return new InboundEventPayloadXmlExtractorBuilderImpl(inboundEventProcessingPipelineBuilder);
+        }
+
     }
 
     public static class InboundEventTenantDetectorBuilderImpl<T>
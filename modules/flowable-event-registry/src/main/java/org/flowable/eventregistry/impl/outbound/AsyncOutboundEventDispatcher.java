@@ -0,0 +1,497 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.impl.outbound;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.eventregistry.api.OutboundEventChannelAdapter;
+import org.flowable.eventregistry.impl.EventRegistryEngineConfiguration;
+import org.flowable.eventregistry.impl.persistence.entity.OutboundEventEntity;
+import org.flowable.eventregistry.impl.persistence.entity.OutboundEventEntityManager;
+import org.flowable.eventregistry.model.OutboundChannelModel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Stores the outbound events that the {@link org.flowable.eventregistry.impl.AsyncOutboundEventProcessor} collected in a transaction
+ * in the outbox table, and publishes them once that transaction has been committed.
+ * <p>
+ * The stored events are partitioned by channel, tenant and correlation key. The events of a partition are published in the order in which
+ * they were stored, by one dispatcher at a time: a dispatcher locks the oldest events of a partition, and the events of a partition of which
+ * some events are locked can't be acquired. Different partitions are published concurrently, with at most
+ * maxConcurrencyPerChannel partitions of the same channel at a time.
+ * <p>
+ * The events that several transactions stored for the same partition are sent together with {@link OutboundEventChannelAdapter#sendEvents},
+ * in batches of at most the batch size. A partition with less events than the batch size is only published once its oldest event waited
+ * for the max wait time, so that the events of later transactions can join the batch.
+ * <p>
+ * The events are deleted from the outbox once they were sent. When sending fails, the partition stays locked for the retry wait time, after
+ * which the events are sent again. The events are therefore published at least once.
+ * <p>
+ * Once {@link #start() started}, the dispatcher publishes the events after every transaction that stored events, and every poll interval.
+ */
+public class AsyncOutboundEventDispatcher {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncOutboundEventDispatcher.class);
+
+    protected EventRegistryEngineConfiguration engineConfiguration;
+    protected int batchSize;
+    protected long maxWaitTimeInMs;
+    protected int maxConcurrencyPerChannel;
+
+    protected int maxOutboundEventsPerAcquisition = 512;
+    protected long pollIntervalInMs = 1000;
+    protected long lockTimeInMs = 5 * 60 * 1000;
+    protected long retryWaitTimeInMs = 10 * 1000;
+    protected int threadPoolSize = 4;
+    protected String lockOwner = UUID.randomUUID().toString();
+    protected String threadName = "flowable-async-outbound-event-dispatcher-%d";
+
+    protected ScheduledExecutorService acquisitionExecutorService;
+    protected ExecutorService publishExecutorService;
+    protected final AtomicBoolean acquisitionScheduled = new AtomicBoolean();
+
+    // The create time is strictly increasing within this engine, so that the events of consecutive transactions keep their order
+    // even when they are stored within the same millisecond
+    protected final AtomicLong lastCreateTime = new AtomicLong();
+
+    protected final Map<String, Semaphore> channelPermits = new ConcurrentHashMap<>();
+    protected final Map<String, OutboundEventChannelMetrics> channelMetrics = new ConcurrentHashMap<>();
+
+    public AsyncOutboundEventDispatcher(EventRegistryEngineConfiguration engineConfiguration, int batchSize, long maxWaitTimeInMs, int maxConcurrencyPerChannel) {
+        this.engineConfiguration = engineConfiguration;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxWaitTimeInMs = Math.max(0, maxWaitTimeInMs);
+        this.maxConcurrencyPerChannel = Math.max(1, maxConcurrencyPerChannel);
+    }
+
+    public synchronized void start() {
+        if (acquisitionExecutorService != null) {
+            return;
+        }
+
+        acquisitionExecutorService = Executors.newSingleThreadScheduledExecutor(new BasicThreadFactory.Builder()
+            .namingPattern(threadName)
+            .daemon(true)
+            .build());
+        publishExecutorService = Executors.newFixedThreadPool(threadPoolSize, new BasicThreadFactory.Builder()
+            .namingPattern(threadName)
+            .daemon(true)
+            .build());
+        acquisitionExecutorService.scheduleWithFixedDelay(this::acquireAndPublishOutboundEvents, pollIntervalInMs, pollIntervalInMs, TimeUnit.MILLISECONDS);
+    }
+
+    public synchronized void shutdown() {
+        if (acquisitionExecutorService == null) {
+            return;
+        }
+
+        acquisitionExecutorService.shutdownNow();
+        publishExecutorService.shutdown();
+        try {
+            if (!publishExecutorService.awaitTermination(60, TimeUnit.SECONDS)) {
+                LOGGER.warn("Timeout while waiting for the outbound events that are being published");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        acquisitionExecutorService = null;
+        publishExecutorService = null;
+    }
+
+    /**
+     * Stores the events that were sent to the given channel in one transaction, in that transaction.
+     * Needs to be called within a command context.
+     */
+    public void storeOutboundEvents(String channelKey, String tenantId, String correlationKey, List<String> rawEvents) {
+        OutboundEventEntityManager outboundEventEntityManager = engineConfiguration.getOutboundEventEntityManager();
+        OutboundEventEntity outboundEvent = outboundEventEntityManager.create();
+        outboundEvent.setChannelKey(channelKey);
+        outboundEvent.setTenantId(tenantId);
+        outboundEvent.setCorrelationKey(correlationKey);
+        try {
+            outboundEvent.setEvents(getObjectMapper().writeValueAsBytes(rawEvents));
+        } catch (IOException e) {
+            throw new FlowableException("Could not serialize the outbound events for channel " + channelKey, e);
+        }
+        outboundEvent.setEventCount(rawEvents.size());
+        outboundEvent.setCreateTime(nextCreateTime());
+        outboundEventEntityManager.insert(outboundEvent);
+    }
+
+    protected Date nextCreateTime() {
+        long currentTime = engineConfiguration.getClock().getCurrentTime().getTime();
+        return new Date(lastCreateTime.updateAndGet(lastTime -> Math.max(lastTime + 1, currentTime)));
+    }
+
+    /**
+     * Requests the publication of the stored events, e.g. after a transaction that stored events has been committed.
+     * Does nothing when the dispatcher is not started.
+     */
+    public void scheduleAcquisition() {
+        ScheduledExecutorService executorService = acquisitionExecutorService;
+        if (executorService == null) {
+            return;
+        }
+
+        if (acquisitionScheduled.compareAndSet(false, true)) {
+            executorService.execute(() -> {
+                acquisitionScheduled.set(false);
+                acquireAndPublishOutboundEvents();
+            });
+        }
+        if (maxWaitTimeInMs > 0) {
+            // Publishes the events that waited for other events to join their batch
+            executorService.schedule(this::acquireAndPublishOutboundEvents, maxWaitTimeInMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Publishes the stored events that can be published now in the current thread, until no more events can be acquired.
+     *
+     * @return the number of published events
+     */
+    public int publishOutboundEvents() {
+        int publishedEvents = 0;
+        List<OutboundEventPartition> partitions = acquireOutboundEvents();
+        while (!partitions.isEmpty()) {
+            for (OutboundEventPartition partition : partitions) {
+                publishedEvents += publish(partition);
+            }
+            partitions = acquireOutboundEvents();
+        }
+        return publishedEvents;
+    }
+
+    protected void acquireAndPublishOutboundEvents() {
+        try {
+            ExecutorService executorService = publishExecutorService;
+            for (OutboundEventPartition partition : acquireOutboundEvents()) {
+                executorService.execute(() -> {
+                    if (publish(partition) > 0) {
+                        // The partition can have more events
+                        scheduleAcquisition();
+                    }
+                });
+            }
+        } catch (Throwable e) {
+            LOGGER.warn("Could not acquire outbound events to publish", e);
+        }
+    }
+
+    /**
+     * Locks the oldest events of every partition that is ready to be published, and for which the channel allows another concurrent publish.
+     */
+    protected List<OutboundEventPartition> acquireOutboundEvents() {
+        List<OutboundEventPartition> partitions = new ArrayList<>();
+        try {
+            engineConfiguration.getCommandExecutor().execute(commandContext -> {
+                OutboundEventEntityManager outboundEventEntityManager = engineConfiguration.getOutboundEventEntityManager();
+                Date now = engineConfiguration.getClock().getCurrentTime();
+                Date lockExpirationTime = new Date(now.getTime() + lockTimeInMs);
+
+                Map<List<String>, List<OutboundEventEntity>> outboundEventsByPartition = new LinkedHashMap<>();
+                for (OutboundEventEntity outboundEvent : outboundEventEntityManager.findOutboundEventsToPublish(now, maxOutboundEventsPerAcquisition)) {
+                    List<String> partitionKey = Arrays.asList(outboundEvent.getChannelKey(), outboundEvent.getTenantId(), outboundEvent.getCorrelationKey());
+                    outboundEventsByPartition.computeIfAbsent(partitionKey, key -> new ArrayList<>()).add(outboundEvent);
+                }
+
+                for (List<OutboundEventEntity> outboundEvents : outboundEventsByPartition.values()) {
+                    if (!isReadyToPublish(outboundEvents, now)) {
+                        continue;
+                    }
+
+                    Semaphore permits = getChannelPermits(outboundEvents.get(0).getChannelKey());
+                    if (!permits.tryAcquire()) {
+                        continue;
+                    }
+
+                    List<OutboundEventEntity> lockedOutboundEvents = lockOutboundEvents(outboundEvents, now, lockExpirationTime, outboundEventEntityManager);
+                    if (lockedOutboundEvents.isEmpty()) {
+                        permits.release();
+                    } else {
+                        partitions.add(new OutboundEventPartition(lockedOutboundEvents));
+                    }
+                }
+                return null;
+            });
+
+        } catch (RuntimeException e) {
+            for (OutboundEventPartition partition : partitions) {
+                getChannelPermits(partition.getChannelKey()).release();
+            }
+            throw e;
+        }
+
+        return partitions;
+    }
+
+    protected boolean isReadyToPublish(List<OutboundEventEntity> outboundEvents, Date now) {
+        int eventCount = 0;
+        for (OutboundEventEntity outboundEvent : outboundEvents) {
+            eventCount += outboundEvent.getEventCount();
+        }
+        return eventCount >= batchSize || outboundEvents.get(0).getCreateTime().getTime() + maxWaitTimeInMs <= now.getTime();
+    }
+
+    /**
+     * Locks the oldest events of a partition, up to the batch size. The oldest stored events of a partition are locked at least,
+     * even when they exceed the batch size on their own. Stops at the first event that is locked by another dispatcher in the meantime.
+     */
+    protected List<OutboundEventEntity> lockOutboundEvents(List<OutboundEventEntity> outboundEvents, Date now, Date lockExpirationTime,
+            OutboundEventEntityManager outboundEventEntityManager) {
+
+        List<OutboundEventEntity> lockedOutboundEvents = new ArrayList<>();
+        int eventCount = 0;
+        for (OutboundEventEntity outboundEvent : outboundEvents) {
+            if (!lockedOutboundEvents.isEmpty() && eventCount + outboundEvent.getEventCount() > batchSize) {
+                break;
+            }
+            if (!outboundEventEntityManager.lockOutboundEvent(outboundEvent.getId(), lockOwner, lockExpirationTime, now)) {
+                break;
+            }
+
+            outboundEvent.setLockOwner(lockOwner);
+            outboundEvent.setLockExpirationTime(lockExpirationTime);
+            lockedOutboundEvents.add(outboundEvent);
+            eventCount += outboundEvent.getEventCount();
+        }
+        return lockedOutboundEvents;
+    }
+
+    /**
+     * Sends the locked events of a partition to their channel and deletes them from the outbox.
+     * When sending fails, the events stay locked for the retry wait time.
+     *
+     * @return the number of published events
+     */
+    protected int publish(OutboundEventPartition partition) {
+        String channelKey = partition.getChannelKey();
+        OutboundEventChannelMetrics metrics = channelMetrics.computeIfAbsent(channelKey, key -> new OutboundEventChannelMetrics());
+        List<String> rawEvents = null;
+        try {
+            // The channel of the tenant that sent the events, which can differ from the channel with the same key of another tenant
+            OutboundChannelModel outboundChannelDefinition = engineConfiguration.getEventRegistry().getOutboundChannelModel(channelKey, partition.getTenantId());
+            if (outboundChannelDefinition == null) {
+                throw new FlowableException("Could not find outbound channel definition for " + channelKey + " and tenant " + partition.getTenantId());
+            }
+
+            OutboundEventChannelAdapter outboundEventChannelAdapter = (OutboundEventChannelAdapter) outboundChannelDefinition.getOutboundEventChannelAdapter();
+            if (outboundEventChannelAdapter == null) {
+                throw new FlowableException("Could not find an outbound channel adapter for channel " + channelKey);
+            }
+
+            rawEvents = readRawEvents(partition);
+            for (int i = 0; i < rawEvents.size(); i += batchSize) {
+                outboundEventChannelAdapter.sendEvents(rawEvents.subList(i, Math.min(i + batchSize, rawEvents.size())));
+            }
+
+            long latencyMillis = engineConfiguration.getClock().getCurrentTime().getTime() - partition.getOldestCreateTime().getTime();
+            metrics.batchPublished(rawEvents.size(), Math.max(0, latencyMillis));
+
+            engineConfiguration.getCommandExecutor().execute(commandContext -> {
+                engineConfiguration.getOutboundEventEntityManager().deleteOutboundEvents(partition.getOutboundEventIds(), lockOwner);
+                return null;
+            });
+            return rawEvents.size();
+
+        } catch (RuntimeException e) {
+            LOGGER.warn("Could not publish the outbound events of channel {}, retrying in {} ms", channelKey, retryWaitTimeInMs, e);
+            metrics.batchFailed(rawEvents != null ? rawEvents.size() : partition.getEventCount());
+            releaseForRetry(partition);
+            return 0;
+
+        } finally {
+            getChannelPermits(channelKey).release();
+        }
+    }
+
+    protected void releaseForRetry(OutboundEventPartition partition) {
+        try {
+            engineConfiguration.getCommandExecutor().execute(commandContext -> {
+                Date retryTime = new Date(engineConfiguration.getClock().getCurrentTime().getTime() + retryWaitTimeInMs);
+                engineConfiguration.getOutboundEventEntityManager().updateOutboundEventsLockExpirationTime(partition.getOutboundEventIds(), lockOwner, retryTime);
+                return null;
+            });
+        } catch (RuntimeException e) {
+            // The events are retried once their lock expired
+            LOGGER.warn("Could not update the lock of the outbound events of channel {}", partition.getChannelKey(), e);
+        }
+    }
+
+    protected List<String> readRawEvents(OutboundEventPartition partition) {
+        List<String> rawEvents = new ArrayList<>(partition.getEventCount());
+        for (OutboundEventEntity outboundEvent : partition.getOutboundEvents()) {
+            JsonNode eventsNode;
+            try {
+                eventsNode = getObjectMapper().readTree(outboundEvent.getEvents());
+            } catch (IOException e) {
+                throw new FlowableException("Could not read the stored outbound events " + outboundEvent.getId(), e);
+            }
+            for (JsonNode eventNode : eventsNode) {
+                rawEvents.add(eventNode.asText());
+            }
+        }
+        return rawEvents;
+    }
+
+    protected Semaphore getChannelPermits(String channelKey) {
+        return channelPermits.computeIfAbsent(channelKey, key -> new Semaphore(maxConcurrencyPerChannel));
+    }
+
+    protected ObjectMapper getObjectMapper() {
+        return engineConfiguration.getObjectMapper();
+    }
+
+    /**
+     * @return the metrics of the given channel, or null when this engine has not published events to the channel yet
+     */
+    public OutboundEventChannelMetrics getMetrics(String channelKey) {
+        return channelMetrics.get(channelKey);
+    }
+
+    public EventRegistryEngineConfiguration getEngineConfiguration() {
+        return engineConfiguration;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public long getMaxWaitTimeInMs() {
+        return maxWaitTimeInMs;
+    }
+
+    public int getMaxConcurrencyPerChannel() {
+        return maxConcurrencyPerChannel;
+    }
+
+    public int getMaxOutboundEventsPerAcquisition() {
+        return maxOutboundEventsPerAcquisition;
+    }
+
+    public void setMaxOutboundEventsPerAcquisition(int maxOutboundEventsPerAcquisition) {
+        this.maxOutboundEventsPerAcquisition = maxOutboundEventsPerAcquisition;
+    }
+
+    public long getPollIntervalInMs() {
+        return pollIntervalInMs;
+    }
+
+    public void setPollIntervalInMs(long pollIntervalInMs) {
+        this.pollIntervalInMs = pollIntervalInMs;
+    }
+
+    public long getLockTimeInMs() {
+        return lockTimeInMs;
+    }
+
+    public void setLockTimeInMs(long lockTimeInMs) {
+        this.lockTimeInMs = lockTimeInMs;
+    }
+
+    public long getRetryWaitTimeInMs() {
+        return retryWaitTimeInMs;
+    }
+
+    public void setRetryWaitTimeInMs(long retryWaitTimeInMs) {
+        this.retryWaitTimeInMs = retryWaitTimeInMs;
+    }
+
+    public int getThreadPoolSize() {
+        return threadPoolSize;
+    }
+
+    public void setThreadPoolSize(int threadPoolSize) {
+        this.threadPoolSize = threadPoolSize;
+    }
+
+    public String getLockOwner() {
+        return lockOwner;
+    }
+
+    public void setLockOwner(String lockOwner) {
+        this.lockOwner = lockOwner;
+    }
+
+    public String getThreadName() {
+        return threadName;
+    }
+
+    public void setThreadName(String threadName) {
+        this.threadName = threadName;
+    }
+
+    /**
+     * The locked events of one channel, tenant and correlation key, in the order in which they were stored.
+     */
+    protected static class OutboundEventPartition {
+
+        protected final List<OutboundEventEntity> outboundEvents;
+
+        protected OutboundEventPartition(List<OutboundEventEntity> outboundEvents) {
+            this.outboundEvents = outboundEvents;
+        }
+
+        public List<OutboundEventEntity> getOutboundEvents() {
+            return outboundEvents;
+        }
+
+        public String getChannelKey() {
+            return outboundEvents.get(0).getChannelKey();
+        }
+
+        public String getTenantId() {
+            return outboundEvents.get(0).getTenantId();
+        }
+
+        public Date getOldestCreateTime() {
+            return outboundEvents.get(0).getCreateTime();
+        }
+
+        public int getEventCount() {
+            int eventCount = 0;
+            for (OutboundEventEntity outboundEvent : outboundEvents) {
+                eventCount += outboundEvent.getEventCount();
+            }
+            return eventCount;
+        }
+
+        public Collection<String> getOutboundEventIds() {
+            return outboundEvents.stream().map(OutboundEventEntity::getId).collect(Collectors.toList());
+        }
+    }
+
+}
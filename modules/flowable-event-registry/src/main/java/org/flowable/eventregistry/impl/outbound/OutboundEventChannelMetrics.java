@@ -0,0 +1,71 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.impl.outbound;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publishing metrics of the events that one engine published asynchronously to one outbound channel.
+ * The publish latency is the time between the moment the event was stored in the engine transaction
+ * and the moment the channel adapter successfully sent it.
+ */
+public class OutboundEventChannelMetrics {
+
+    protected final AtomicLong publishedCount = new AtomicLong();
+    protected final AtomicLong failedCount = new AtomicLong();
+    protected final AtomicLong batchCount = new AtomicLong();
+    protected final AtomicLong failedBatchCount = new AtomicLong();
+    protected final AtomicLong totalPublishLatencyMillis = new AtomicLong();
+    protected final AtomicLong maxPublishLatencyMillis = new AtomicLong();
+
+    public void batchPublished(int count, long latencyMillis) {
+        publishedCount.addAndGet(count);
+        batchCount.incrementAndGet();
+        totalPublishLatencyMillis.addAndGet(count * latencyMillis);
+        maxPublishLatencyMillis.accumulateAndGet(latencyMillis, Math::max);
+    }
+
+    public void batchFailed(int count) {
+        failedCount.addAndGet(count);
+        failedBatchCount.incrementAndGet();
+    }
+
+    public long getPublishedCount() {
+        return publishedCount.get();
+    }
+
+    /**
+     * @return the number of events of the publish attempts that failed, events that are retried are counted for every failed attempt
+     */
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    public long getBatchCount() {
+        return batchCount.get();
+    }
+
+    public long getFailedBatchCount() {
+        return failedBatchCount.get();
+    }
+
+    public long getAveragePublishLatencyMillis() {
+        long published = publishedCount.get();
+        return published == 0 ? 0 : totalPublishLatencyMillis.get() / published;
+    }
+
+    public long getMaxPublishLatencyMillis() {
+        return maxPublishLatencyMillis.get();
+    }
+
+}
@@ -0,0 +1,71 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.impl.outbound;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.interceptor.CommandContextCloseListener;
+
+/**
+ * A {@link CommandContextCloseListener} that collects the outbound events sent during a command and stores them
+ * in the outbox with the {@link AsyncOutboundEventDispatcher}, grouped per channel, tenant and correlation key.
+ * <p>
+ * This happens in the {@link #closing(CommandContext)}, before the sessions are flushed, so that the stored events
+ * are part of the same transaction as the changes of the command.
+ */
+public class StoreOutboundEventsCommandContextCloseListener implements CommandContextCloseListener {
+
+    protected AsyncOutboundEventDispatcher outboundEventDispatcher;
+    protected Map<List<String>, List<String>> rawEventsByPartition = new LinkedHashMap<>();
+
+    public StoreOutboundEventsCommandContextCloseListener(AsyncOutboundEventDispatcher outboundEventDispatcher) {
+        this.outboundEventDispatcher = outboundEventDispatcher;
+    }
+
+    public void addEvent(String channelKey, String tenantId, String correlationKey, String rawEvent) {
+        rawEventsByPartition.computeIfAbsent(Arrays.asList(channelKey, tenantId, correlationKey), key -> new ArrayList<>()).add(rawEvent);
+    }
+
+    @Override
+    public void closing(CommandContext commandContext) {
+        if (commandContext.getException() != null) {
+            return;
+        }
+
+        for (Map.Entry<List<String>, List<String>> entry : rawEventsByPartition.entrySet()) {
+            List<String> partitionKey = entry.getKey();
+            outboundEventDispatcher.storeOutboundEvents(partitionKey.get(0), partitionKey.get(1), partitionKey.get(2), entry.getValue());
+        }
+    }
+
+    @Override
+    public void afterSessionsFlush(CommandContext commandContext) {
+
+    }
+
+    @Override
+    public void closed(CommandContext commandContext) {
+
+    }
+
+    @Override
+    public void closeFailure(CommandContext commandContext) {
+
+    }
+
+}
@@ -12,10 +12,15 @@
  */
 package org.flowable.eventregistry.impl.persistence.deploy;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableObjectNotFoundException;
+import org.flowable.common.engine.impl.cfg.TransactionContext;
+import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.eventregistry.api.ChannelDefinition;
 import org.flowable.eventregistry.api.EventDefinition;
@@ -39,6 +44,7 @@ public class EventDeploymentManager {
     protected EventRegistryEngineConfiguration engineConfig;
     protected DeploymentCache<EventDefinitionCacheEntry> eventDefinitionCache;
     protected DeploymentCache<ChannelDefinitionCacheEntry> channelDefinitionCache;
+    protected LatestEventModelCache latestEventModelCache;
 
     protected List<Deployer> deployers;
     protected EventDefinitionEntityManager eventDefinitionEntityManager;
@@ -230,6 +236,7 @@ public class EventDeploymentManager {
         for (EventDefinition eventDefinition : eventDefinitions) {
             eventDefinitionCache.remove(eventDefinition.getId());
         }
+        invalidateLatestEventModels(eventDefinitions.stream().map(EventDefinition::getKey).collect(Collectors.toSet()));
         
         for (ChannelDefinition channelDefinition : channelDefinitions) {
             channelDefinitionCache.remove(channelDefinition.getId());
@@ -237,6 +244,29 @@ public class EventDeploymentManager {
         }
     }
 
+    /**
+     * Removes the latest event models of the given event definition keys from the {@link LatestEventModelCache}.
+     * This is done again when the current transaction commits, so a lookup of the previous latest version that happened in between isn't kept.
+     */
+    public void invalidateLatestEventModels(Collection<String> eventDefinitionKeys) {
+        if (latestEventModelCache == null || eventDefinitionKeys.isEmpty()) {
+            return;
+        }
+
+        for (String eventDefinitionKey : eventDefinitionKeys) {
+            latestEventModelCache.invalidate(eventDefinitionKey);
+        }
+
+        TransactionContext transactionContext = Context.getTransactionContext();
+        if (transactionContext != null) {
+            transactionContext.addTransactionListener(TransactionState.COMMITTED, commandContext -> {
+                for (String eventDefinitionKey : eventDefinitionKeys) {
+                    latestEventModelCache.invalidate(eventDefinitionKey);
+                }
+            });
+        }
+    }
+
     public List<Deployer> getDeployers() {
         return deployers;
     }
@@ -245,6 +275,14 @@ public class EventDeploymentManager {
         this.deployers = deployers;
     }
 
+    public LatestEventModelCache getLatestEventModelCache() {
+        return latestEventModelCache;
+    }
+
+    public void setLatestEventModelCache(LatestEventModelCache latestEventModelCache) {
+        this.latestEventModelCache = latestEventModelCache;
+    }
+
     public DeploymentCache<EventDefinitionCacheEntry> getEventDefinitionCache() {
         return eventDefinitionCache;
     }
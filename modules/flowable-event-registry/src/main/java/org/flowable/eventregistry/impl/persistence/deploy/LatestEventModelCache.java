@@ -0,0 +1,89 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.impl.persistence.deploy;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.flowable.eventregistry.model.EventModel;
+
+/**
+ * In-memory index of the latest {@link EventModel} per event definition key and tenant, so resolving the event model
+ * of an inbound event doesn't need to look up the latest event definition in the database.
+ *
+ * Entries are invalidated by event definition key when a deployment changes the latest event definition of that key,
+ * either on this node or, detected by the {@link org.flowable.eventregistry.api.management.EventRegistryChangeDetector}, on another node.
+ * Every invalidation increases the generation of the cache: an event model that was looked up before an invalidation is not stored afterwards.
+ *
+ * The cached event models are shared and must not be changed.
+ */
+public class LatestEventModelCache {
+
+    protected final Map<String, Map<String, EventModel>> eventModelsByKey = new ConcurrentHashMap<>();
+    protected final AtomicLong generation = new AtomicLong();
+
+    public EventModel get(String eventDefinitionKey, String tenantId) {
+        Map<String, EventModel> eventModelsByTenant = eventModelsByKey.get(eventDefinitionKey);
+        return eventModelsByTenant != null ? eventModelsByTenant.get(getTenantKey(tenantId)) : null;
+    }
+
+    /**
+     * @return the current generation, to be passed to {@link #add(String, String, EventModel, long)} after the event model has been looked up
+     */
+    public long getGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * Adds the event model, unless the cache was invalidated since the given generation.
+     */
+    public void add(String eventDefinitionKey, String tenantId, EventModel eventModel, long expectedGeneration) {
+        if (generation.get() != expectedGeneration) {
+            return;
+        }
+
+        eventModelsByKey.computeIfAbsent(eventDefinitionKey, key -> new ConcurrentHashMap<>()).put(getTenantKey(tenantId), eventModel);
+
+        // An invalidation could have happened concurrently, after the generation check above
+        if (generation.get() != expectedGeneration) {
+            invalidate(eventDefinitionKey);
+        }
+    }
+
+    /**
+     * Removes the event models of the given key for all tenants, as a tenant could fall back to the event definition of another tenant.
+     */
+    public void invalidate(String eventDefinitionKey) {
+        generation.incrementAndGet();
+        eventModelsByKey.remove(eventDefinitionKey);
+    }
+
+    public void clear() {
+        generation.incrementAndGet();
+        eventModelsByKey.clear();
+    }
+
+    public int size() {
+        int size = 0;
+        for (Map<String, EventModel> eventModelsByTenant : eventModelsByKey.values()) {
+            size += eventModelsByTenant.size();
+        }
+        return size;
+    }
+
+    protected String getTenantKey(String tenantId) {
+        // The event definitions without tenant are stored with the empty tenant id
+        return tenantId != null ? tenantId : "";
+    }
+}
@@ -0,0 +1,57 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.impl.persistence.entity;
+
+import java.util.Date;
+
+import org.flowable.common.engine.impl.persistence.entity.Entity;
+
+/**
+ * The outbound events that one transaction sent to a channel for one correlation key, stored in the outbox
+ * until the {@link org.flowable.eventregistry.impl.outbound.AsyncOutboundEventDispatcher} has published them.
+ */
+public interface OutboundEventEntity extends Entity {
+
+    String getChannelKey();
+
+    void setChannelKey(String channelKey);
+
+    String getCorrelationKey();
+
+    void setCorrelationKey(String correlationKey);
+
+    String getTenantId();
+
+    void setTenantId(String tenantId);
+
+    byte[] getEvents();
+
+    void setEvents(byte[] events);
+
+    int getEventCount();
+
+    void setEventCount(int eventCount);
+
+    Date getCreateTime();
+
+    void setCreateTime(Date createTime);
+
+    String getLockOwner();
+
+    void setLockOwner(String lockOwner);
+
+    Date getLockExpirationTime();
+
+    void setLockExpirationTime(Date lockExpirationTime);
+
+}
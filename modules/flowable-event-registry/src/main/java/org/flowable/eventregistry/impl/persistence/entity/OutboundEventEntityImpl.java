@@ -0,0 +1,121 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.impl.persistence.entity;
+
+import java.io.Serializable;
+import java.util.Date;
+
+public class OutboundEventEntityImpl extends AbstractEventRegistryNoRevisionEntity implements OutboundEventEntity, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    protected String channelKey;
+    protected String correlationKey;
+    protected String tenantId;
+    protected byte[] events;
+    protected int eventCount;
+    protected Date createTime;
+    protected String lockOwner;
+    protected Date lockExpirationTime;
+
+    @Override
+    public String getChannelKey() {
+        return channelKey;
+    }
+
+    @Override
+    public void setChannelKey(String channelKey) {
+        this.channelKey = channelKey;
+    }
+
+    @Override
+    public String getCorrelationKey() {
+        return correlationKey;
+    }
+
+    @Override
+    public void setCorrelationKey(String correlationKey) {
+        this.correlationKey = correlationKey;
+    }
+
+    @Override
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    @Override
+    public void setTenantId(String tenantId) {
+        this.tenantId = tenantId;
+    }
+
+    @Override
+    public byte[] getEvents() {
+        return events;
+    }
+
+    @Override
+    public void setEvents(byte[] events) {
+        this.events = events;
+    }
+
+    @Override
+    public int getEventCount() {
+        return eventCount;
+    }
+
+    @Override
+    public void setEventCount(int eventCount) {
+        this.eventCount = eventCount;
+    }
+
+    @Override
+    public Date getCreateTime() {
+        return createTime;
+    }
+
+    @Override
+    public void setCreateTime(Date createTime) {
+        this.createTime = createTime;
+    }
+
+    @Override
+    public String getLockOwner() {
+        return lockOwner;
+    }
+
+    @Override
+    public void setLockOwner(String lockOwner) {
+        this.lockOwner = lockOwner;
+    }
+
+    @Override
+    public Date getLockExpirationTime() {
+        return lockExpirationTime;
+    }
+
+    @Override
+    public void setLockExpirationTime(Date lockExpirationTime) {
+        this.lockExpirationTime = lockExpirationTime;
+    }
+
+    @Override
+    public Object getPersistentState() {
+        // The lock is changed with dedicated update statements
+        return OutboundEventEntityImpl.class;
+    }
+
+    @Override
+    public String toString() {
+        return "OutboundEventEntity[id=" + id + ", channelKey=" + channelKey + ", correlationKey=" + correlationKey + "]";
+    }
+}
@@ -0,0 +1,40 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.impl.persistence.entity;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.common.engine.impl.persistence.entity.EntityManager;
+
+public interface OutboundEventEntityManager extends EntityManager<OutboundEventEntity> {
+
+    /**
+     * Returns the oldest stored outbound events that are not locked, ordered by creation time,
+     * skipping the events of every channel, tenant and correlation key of which an event is locked.
+     */
+    List<OutboundEventEntity> findOutboundEventsToPublish(Date now, int maxResults);
+
+    /**
+     * Locks the given outbound event when it is not locked yet, or when its lock expired.
+     *
+     * @return true when the outbound event is locked by the given lock owner
+     */
+    boolean lockOutboundEvent(String id, String lockOwner, Date lockExpirationTime, Date now);
+
+    void updateOutboundEventsLockExpirationTime(Collection<String> ids, String lockOwner, Date lockExpirationTime);
+
+    void deleteOutboundEvents(Collection<String> ids, String lockOwner);
+
+}
@@ -0,0 +1,51 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.impl.persistence.entity;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.common.engine.impl.persistence.entity.AbstractEngineEntityManager;
+import org.flowable.eventregistry.impl.EventRegistryEngineConfiguration;
+import org.flowable.eventregistry.impl.persistence.entity.data.OutboundEventDataManager;
+
+public class OutboundEventEntityManagerImpl
+        extends AbstractEngineEntityManager<EventRegistryEngineConfiguration, OutboundEventEntity, OutboundEventDataManager>
+        implements OutboundEventEntityManager {
+
+    public OutboundEventEntityManagerImpl(EventRegistryEngineConfiguration eventRegistryConfiguration, OutboundEventDataManager outboundEventDataManager) {
+        super(eventRegistryConfiguration, outboundEventDataManager);
+    }
+
+    @Override
+    public List<OutboundEventEntity> findOutboundEventsToPublish(Date now, int maxResults) {
+        return dataManager.findOutboundEventsToPublish(now, maxResults);
+    }
+
+    @Override
+    public boolean lockOutboundEvent(String id, String lockOwner, Date lockExpirationTime, Date now) {
+        return dataManager.lockOutboundEvent(id, lockOwner, lockExpirationTime, now) == 1;
+    }
+
+    @Override
+    public void updateOutboundEventsLockExpirationTime(Collection<String> ids, String lockOwner, Date lockExpirationTime) {
+        dataManager.updateOutboundEventsLockExpirationTime(ids, lockOwner, lockExpirationTime);
+    }
+
+    @Override
+    public void deleteOutboundEvents(Collection<String> ids, String lockOwner) {
+        dataManager.deleteOutboundEvents(ids, lockOwner);
+    }
+
+}
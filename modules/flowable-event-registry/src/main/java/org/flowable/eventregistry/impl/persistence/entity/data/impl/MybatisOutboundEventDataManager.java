@@ -0,0 +1,82 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.impl.persistence.entity.data.impl;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.common.engine.impl.db.ListQueryParameterObject;
+import org.flowable.eventregistry.impl.EventRegistryEngineConfiguration;
+import org.flowable.eventregistry.impl.persistence.entity.OutboundEventEntity;
+import org.flowable.eventregistry.impl.persistence.entity.OutboundEventEntityImpl;
+import org.flowable.eventregistry.impl.persistence.entity.data.AbstractEventDataManager;
+import org.flowable.eventregistry.impl.persistence.entity.data.OutboundEventDataManager;
+
+public class MybatisOutboundEventDataManager extends AbstractEventDataManager<OutboundEventEntity> implements OutboundEventDataManager {
+
+    public MybatisOutboundEventDataManager(EventRegistryEngineConfiguration eventRegistryConfiguration) {
+        super(eventRegistryConfiguration);
+    }
+
+    @Override
+    public Class<? extends OutboundEventEntity> getManagedEntityClass() {
+        return OutboundEventEntityImpl.class;
+    }
+
+    @Override
+    public OutboundEventEntity create() {
+        return new OutboundEventEntityImpl();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<OutboundEventEntity> findOutboundEventsToPublish(Date now, int maxResults) {
+        Map<String, Object> params = new HashMap<>(1);
+        params.put("now", now);
+
+        ListQueryParameterObject parameterObject = new ListQueryParameterObject(params, 0, maxResults);
+        parameterObject.setOrderByColumns("RES.CREATE_TIME_ asc, RES.ID_ asc");
+        return getDbSqlSession().selectList("selectOutboundEventsToPublish", parameterObject);
+    }
+
+    @Override
+    public int lockOutboundEvent(String id, String lockOwner, Date lockExpirationTime, Date now) {
+        Map<String, Object> params = new HashMap<>(4);
+        params.put("id", id);
+        params.put("lockOwner", lockOwner);
+        params.put("lockExpirationTime", lockExpirationTime);
+        params.put("now", now);
+        return getDbSqlSession().update("lockOutboundEvent", params);
+    }
+
+    @Override
+    public int updateOutboundEventsLockExpirationTime(Collection<String> ids, String lockOwner, Date lockExpirationTime) {
+        Map<String, Object> params = new HashMap<>(3);
+        params.put("ids", ids);
+        params.put("lockOwner", lockOwner);
+        params.put("lockExpirationTime", lockExpirationTime);
+        return getDbSqlSession().update("updateOutboundEventsLockExpirationTime", params);
+    }
+
+    @Override
+    public void deleteOutboundEvents(Collection<String> ids, String lockOwner) {
+        Map<String, Object> params = new HashMap<>(2);
+        params.put("ids", ids);
+        params.put("lockOwner", lockOwner);
+        getDbSqlSession().delete("deleteOutboundEventsByIdsAndLockOwner", params, getManagedEntityClass());
+    }
+
+}
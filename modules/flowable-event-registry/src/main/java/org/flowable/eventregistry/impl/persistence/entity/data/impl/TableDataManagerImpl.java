@@ -21,6 +21,7 @@ import org.flowable.eventregistry.impl.persistence.entity.ChannelDefinitionEntit
 import org.flowable.eventregistry.impl.persistence.entity.EventDefinitionEntity;
 import org.flowable.eventregistry.impl.persistence.entity.EventDeploymentEntity;
 import org.flowable.eventregistry.impl.persistence.entity.EventResourceEntity;
+import org.flowable.eventregistry.impl.persistence.entity.OutboundEventEntity;
 import org.flowable.eventregistry.impl.persistence.entity.data.TableDataManager;
 import org.flowable.eventregistry.impl.util.CommandContextUtil;
 
@@ -36,6 +37,7 @@ public class TableDataManagerImpl implements TableDataManager {
         entityToTableNameMap.put(EventResourceEntity.class, "FLW_EVENT_RESOURCE");
         entityToTableNameMap.put(EventDefinitionEntity.class, "FLW_EVENT_DEFINITION");
         entityToTableNameMap.put(ChannelDefinitionEntity.class, "FLW_CHANNEL_DEFINITION");
+        entityToTableNameMap.put(OutboundEventEntity.class, "FLW_EVENT_OUTBOX");
     }
 
     public TableDataManagerImpl() {
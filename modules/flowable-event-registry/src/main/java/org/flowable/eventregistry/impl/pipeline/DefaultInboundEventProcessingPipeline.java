@@ -12,11 +12,14 @@
  */
 package org.flowable.eventregistry.impl.pipeline;
 
+import java.nio.ByteBuffer;
 import java.util.Collection;
+import java.util.Collections;
 
 import org.flowable.common.engine.impl.AbstractEngineConfiguration;
 import org.flowable.eventregistry.api.EventRegistry;
 import org.flowable.eventregistry.api.EventRegistryEvent;
+import org.flowable.eventregistry.api.InboundEvent;
 import org.flowable.eventregistry.api.InboundEventDeserializer;
 import org.flowable.eventregistry.api.InboundEventKeyDetector;
 import org.flowable.eventregistry.api.InboundEventPayloadExtractor;
@@ -26,6 +29,7 @@ import org.flowable.eventregistry.api.InboundEventTransformer;
 import org.flowable.eventregistry.api.runtime.EventCorrelationParameterInstance;
 import org.flowable.eventregistry.api.runtime.EventInstance;
 import org.flowable.eventregistry.api.runtime.EventPayloadInstance;
+import org.flowable.eventregistry.impl.event.DefaultInboundEvent;
 import org.flowable.eventregistry.impl.runtime.EventInstanceImpl;
 import org.flowable.eventregistry.model.EventModel;
 
@@ -58,30 +62,80 @@ public class DefaultInboundEventProcessingPipeline<T> implements InboundEventPro
 
     @Override
     public Collection<EventRegistryEvent> run(String channelKey, String rawEvent) {
-        T event = deserialize(rawEvent);
-        String eventKey = detectEventDefinitionKey(event);
+        return run(channelKey, new DefaultInboundEvent(rawEvent));
+    }
+
+    @Override
+    public Collection<EventRegistryEvent> run(String channelKey, InboundEvent inboundEvent) {
+        // The key and tenant are detected from the headers when possible,
+        // the body is then only deserialized when it is needed to extract the correlation parameters and payload
+        T event = null;
+        String eventKey = inboundEventKeyDetector.detectEventDefinitionKeyFromHeaders(inboundEvent.getHeaders());
+        if (eventKey == null) {
+            event = deserialize(inboundEvent);
+            eventKey = detectEventDefinitionKey(event);
+        }
 
         String tenantId = AbstractEngineConfiguration.NO_TENANT_ID;
         EventModel eventModel = null;
         if (inboundEventTenantDetector != null) {
-            tenantId = inboundEventTenantDetector.detectTenantId(event);
+            tenantId = inboundEventTenantDetector.detectTenantIdFromHeaders(inboundEvent.getHeaders());
+            if (tenantId == null) {
+                if (event == null) {
+                    event = deserialize(inboundEvent);
+                }
+                tenantId = inboundEventTenantDetector.detectTenantId(event);
+            }
             eventModel = eventRegistry.getEventModel(eventKey, tenantId);
 
         } else {
             eventModel = eventRegistry.getEventModel(eventKey);
 
         }
+
+        Collection<EventCorrelationParameterInstance> correlationParameterInstances;
+        Collection<EventPayloadInstance> payloadInstances;
+        if (event == null && !requiresEventBody(eventModel)) {
+            correlationParameterInstances = Collections.emptyList();
+            payloadInstances = Collections.emptyList();
+
+        } else {
+            if (event == null) {
+                event = deserialize(inboundEvent);
+            }
+            correlationParameterInstances = extractCorrelationParameters(eventModel, event);
+            payloadInstances = extractPayload(eventModel, event);
+
+        }
         
         EventInstanceImpl eventInstance = new EventInstanceImpl(
             eventModel,
-            extractCorrelationParameters(eventModel, event),
-            extractPayload(eventModel, event),
+            correlationParameterInstances,
+            payloadInstances,
             tenantId
         );
 
         return transform(eventInstance);
     }
 
+    /**
+     * Whether the body of the event needs to be deserialized to create the event instance for the given model.
+     * An event model without correlation parameters and payload only needs the routing information from the headers.
+     */
+    protected boolean requiresEventBody(EventModel eventModel) {
+        return eventModel == null || !eventModel.getCorrelationParameters().isEmpty() || !eventModel.getPayload().isEmpty();
+    }
+
+    public T deserialize(InboundEvent inboundEvent) {
+        Object body = inboundEvent.getBody();
+        if (body instanceof byte[]) {
+            return inboundEventDeserializer.deserialize((byte[]) body);
+        } else if (body instanceof ByteBuffer) {
+            return inboundEventDeserializer.deserialize((ByteBuffer) body);
+        }
+        return deserialize(inboundEvent.getBodyAsString());
+    }
+
     public T deserialize(String rawEvent) {
         return inboundEventDeserializer.deserialize(rawEvent);
     }
@@ -22,6 +22,7 @@ import org.flowable.eventregistry.api.InboundEventPayloadExtractor;
 import org.flowable.eventregistry.api.InboundEventProcessingPipeline;
 import org.flowable.eventregistry.api.InboundEventTenantDetector;
 import org.flowable.eventregistry.api.InboundEventTransformer;
+import org.flowable.eventregistry.impl.keydetector.HeaderBasedInboundEventKeyDetector;
 import org.flowable.eventregistry.impl.keydetector.JsonFieldBasedInboundEventKeyDetector;
 import org.flowable.eventregistry.impl.keydetector.JsonPathBasedInboundEventKeyDetector;
 import org.flowable.eventregistry.impl.keydetector.InboundEventStaticKeyDetector;
@@ -30,6 +31,7 @@ import org.flowable.eventregistry.impl.payload.JsonFieldToMapPayloadExtractor;
 import org.flowable.eventregistry.impl.payload.XmlElementsToMapPayloadExtractor;
 import org.flowable.eventregistry.impl.serialization.StringToJsonDeserializer;
 import org.flowable.eventregistry.impl.serialization.StringToXmlDocumentDeserializer;
+import org.flowable.eventregistry.impl.tenantdetector.HeaderBasedInboundEventTenantDetector;
 import org.flowable.eventregistry.impl.tenantdetector.JsonPathBasedInboundEventTenantDetector;
 import org.flowable.eventregistry.impl.tenantdetector.InboundEventStaticTenantDetector;
 import org.flowable.eventregistry.impl.tenantdetector.XpathBasedInboundEventTenantDetector;
@@ -70,7 +72,7 @@ public class InboundChannelModelProcessor implements ChannelModelProcessor {
                 InboundEventTenantDetector<JsonNode> eventTenantDetector = null; // By default no multi-tenancy is applied
                 InboundEventPayloadExtractor<JsonNode> eventPayloadExtractor = new JsonFieldToMapPayloadExtractor();
                 InboundEventTransformer eventTransformer = new DefaultInboundEventTransformer();
-                InboundEventKeyDetector<JsonNode> eventKeyDetector;
+                InboundEventKeyDetector<JsonNode> eventKeyDetector = null;
                 ChannelEventKeyDetection keyDetection = inboundChannelModel.getChannelEventKeyDetection();
 
                 if (keyDetection == null) {
@@ -83,10 +85,14 @@ public class InboundChannelModelProcessor implements ChannelModelProcessor {
                     eventKeyDetector = new JsonFieldBasedInboundEventKeyDetector(keyDetection.getJsonField());
                 } else if (StringUtils.isNotEmpty(keyDetection.getJsonPathExpression())) {
                     eventKeyDetector = new JsonPathBasedInboundEventKeyDetector(keyDetection.getJsonPathExpression());
-                } else {
+                } else if (StringUtils.isEmpty(keyDetection.getHeaderName())) {
                     throw new FlowableException(
                         "The channel json key detection value was not found for the channel model with key " + inboundChannelModel.getKey()
-                            + ". One of fixedValue, jsonField or jsonPathExpression should be set.");
+                            + ". One of fixedValue, jsonField, jsonPathExpression or headerName should be set.");
+                }
+
+                if (StringUtils.isNotEmpty(keyDetection.getHeaderName())) {
+                    eventKeyDetector = new HeaderBasedInboundEventKeyDetector<>(keyDetection.getHeaderName(), eventKeyDetector);
                 }
 
                 ChannelEventTenantIdDetection channelEventTenantIdDetection = inboundChannelModel.getChannelEventTenantIdDetection();
@@ -95,10 +101,14 @@ public class InboundChannelModelProcessor implements ChannelModelProcessor {
                         eventTenantDetector = new InboundEventStaticTenantDetector<>(channelEventTenantIdDetection.getFixedValue());
                     } else if (StringUtils.isNotEmpty(channelEventTenantIdDetection.getJsonPathExpression())) {
                         eventTenantDetector = new JsonPathBasedInboundEventTenantDetector(channelEventTenantIdDetection.getJsonPathExpression());
-                    } else {
+                    } else if (StringUtils.isEmpty(channelEventTenantIdDetection.getHeaderName())) {
                         throw new FlowableException(
                             "The channel json tenant detection value was not found for the channel model with key " + inboundChannelModel.getKey()
-                                + ". One of fixedValue, jsonPathExpression should be set.");
+                                + ". One of fixedValue, jsonPathExpression, headerName should be set.");
+                    }
+
+                    if (StringUtils.isNotEmpty(channelEventTenantIdDetection.getHeaderName())) {
+                        eventTenantDetector = new HeaderBasedInboundEventTenantDetector<>(channelEventTenantIdDetection.getHeaderName(), eventTenantDetector);
                     }
                 }
 
@@ -111,7 +121,7 @@ public class InboundChannelModelProcessor implements ChannelModelProcessor {
                 InboundEventTenantDetector<Document> eventTenantDetector = null; // By default no multi-tenancy is applied
                 InboundEventPayloadExtractor<Document> eventPayloadExtractor = new XmlElementsToMapPayloadExtractor();
                 InboundEventTransformer eventTransformer = new DefaultInboundEventTransformer();
-                InboundEventKeyDetector<Document> eventKeyDetector;
+                InboundEventKeyDetector<Document> eventKeyDetector = null;
 
                 ChannelEventKeyDetection keyDetection = inboundChannelModel.getChannelEventKeyDetection();
                 if (keyDetection == null) {
@@ -121,10 +131,14 @@ public class InboundChannelModelProcessor implements ChannelModelProcessor {
                     eventKeyDetector = new InboundEventStaticKeyDetector<>(keyDetection.getFixedValue());
                 } else if (StringUtils.isNotEmpty(keyDetection.getXmlXPathExpression())) {
                     eventKeyDetector = new XpathBasedInboundEventKeyDetector(keyDetection.getXmlXPathExpression());
-                } else {
+                } else if (StringUtils.isEmpty(keyDetection.getHeaderName())) {
                     throw new FlowableException(
                         "The channel xml key detection value was not found for the channel model with key " + inboundChannelModel.getKey()
-                            + ". One of fixedValue, xmlPathExpression should be set.");
+                            + ". One of fixedValue, xmlPathExpression, headerName should be set.");
+                }
+
+                if (StringUtils.isNotEmpty(keyDetection.getHeaderName())) {
+                    eventKeyDetector = new HeaderBasedInboundEventKeyDetector<>(keyDetection.getHeaderName(), eventKeyDetector);
                 }
 
                 ChannelEventTenantIdDetection channelEventTenantIdDetection = inboundChannelModel.getChannelEventTenantIdDetection();
@@ -133,10 +147,14 @@ public class InboundChannelModelProcessor implements ChannelModelProcessor {
                         eventTenantDetector = new InboundEventStaticTenantDetector<>(channelEventTenantIdDetection.getFixedValue());
                     } else if (StringUtils.isNotEmpty(channelEventTenantIdDetection.getxPathExpression())) {
                         eventTenantDetector = new XpathBasedInboundEventTenantDetector(channelEventTenantIdDetection.getxPathExpression());
-                    } else {
+                    } else if (StringUtils.isEmpty(channelEventTenantIdDetection.getHeaderName())) {
                         throw new FlowableException(
                             "The channel xml tenant detection value was not found for the channel model with key " + inboundChannelModel.getKey()
-                                + ". One of fixedValue, xPathExpression should be set.");
+                                + ". One of fixedValue, xPathExpression, headerName should be set.");
+                    }
+
+                    if (StringUtils.isNotEmpty(channelEventTenantIdDetection.getHeaderName())) {
+                        eventTenantDetector = new HeaderBasedInboundEventTenantDetector<>(channelEventTenantIdDetection.getHeaderName(), eventTenantDetector);
                     }
                 }
 
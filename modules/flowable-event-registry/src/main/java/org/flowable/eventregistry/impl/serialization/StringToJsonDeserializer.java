@@ -13,12 +13,14 @@
 package org.flowable.eventregistry.impl.serialization;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.eventregistry.api.InboundEventDeserializer;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
 
 /**
  * @author Joram Barrez
@@ -36,4 +38,25 @@ public class StringToJsonDeserializer implements InboundEventDeserializer<JsonNo
             throw new FlowableException("Could not deserialize event to json", e);
         }
     }
+
+    @Override
+    public JsonNode deserialize(byte[] rawEvent) {
+        try {
+            return objectMapper.readTree(rawEvent);
+        } catch (IOException e) {
+            throw new FlowableException("Could not deserialize event to json", e);
+        }
+    }
+
+    @Override
+    public JsonNode deserialize(ByteBuffer rawEvent) {
+        try {
+            if (rawEvent.hasArray()) {
+                return objectMapper.readTree(rawEvent.array(), rawEvent.arrayOffset() + rawEvent.position(), rawEvent.remaining());
+            }
+            return objectMapper.readTree(new ByteBufferBackedInputStream(rawEvent.duplicate()));
+        } catch (IOException e) {
+            throw new FlowableException("Could not deserialize event to json", e);
+        }
+    }
 }
@@ -14,6 +14,7 @@ package org.flowable.eventregistry.impl.serialization;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 
 import javax.xml.parsers.DocumentBuilder;
@@ -23,6 +24,8 @@ import org.flowable.common.engine.api.FlowableException;
 import org.flowable.eventregistry.api.InboundEventDeserializer;
 import org.w3c.dom.Document;
 
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+
 /**
  * @author Joram Barrez
  */
@@ -30,10 +33,24 @@ public class StringToXmlDocumentDeserializer implements InboundEventDeserializer
 
     @Override
     public Document deserialize(String rawEvent) {
+        return deserialize(rawEvent.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public Document deserialize(byte[] rawEvent) {
+        return deserialize(new ByteArrayInputStream(rawEvent));
+    }
+
+    @Override
+    public Document deserialize(ByteBuffer rawEvent) {
+        return deserialize(new ByteBufferBackedInputStream(rawEvent.duplicate()));
+    }
+
+    protected Document deserialize(InputStream rawEvent) {
         try {
             DocumentBuilderFactory documentBuilderFactory = DocumentBuilderFactory.newInstance();
             DocumentBuilder documentBuilder = documentBuilderFactory.newDocumentBuilder();
-            try (InputStream inputStream = new ByteArrayInputStream(rawEvent.getBytes(StandardCharsets.UTF_8))) {
+            try (InputStream inputStream = rawEvent) {
                 return documentBuilder.parse(inputStream);
             }
         } catch (Exception e) {
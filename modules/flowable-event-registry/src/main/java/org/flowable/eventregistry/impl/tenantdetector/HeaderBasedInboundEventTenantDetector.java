@@ -0,0 +1,65 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.impl.tenantdetector;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.eventregistry.api.InboundEventTenantDetector;
+
+/**
+ * Detects the tenant from a header of the received message, which avoids deserializing the body for routing.
+ * When the header is missing, the (optional) fallback detector is used on the deserialized event.
+ */
+public class HeaderBasedInboundEventTenantDetector<T> implements InboundEventTenantDetector<T> {
+
+    protected String headerName;
+    protected InboundEventTenantDetector<T> fallbackTenantDetector;
+
+    public HeaderBasedInboundEventTenantDetector(String headerName) {
+        this(headerName, null);
+    }
+
+    public HeaderBasedInboundEventTenantDetector(String headerName, InboundEventTenantDetector<T> fallbackTenantDetector) {
+        this.headerName = headerName;
+        this.fallbackTenantDetector = fallbackTenantDetector;
+    }
+
+    @Override
+    public String detectTenantIdFromHeaders(Map<String, Object> headers) {
+        Object value = headers.get(headerName);
+        if (value == null) {
+            return null;
+        } else if (value instanceof byte[]) {
+            return new String((byte[]) value, StandardCharsets.UTF_8);
+        }
+        return value.toString();
+    }
+
+    @Override
+    public String detectTenantId(T event) {
+        if (fallbackTenantDetector == null) {
+            throw new FlowableException("No tenant header " + headerName + " found on the received event");
+        }
+        return fallbackTenantDetector.detectTenantId(event);
+    }
+
+    public String getHeaderName() {
+        return headerName;
+    }
+
+    public InboundEventTenantDetector<T> getFallbackTenantDetector() {
+        return fallbackTenantDetector;
+    }
+}
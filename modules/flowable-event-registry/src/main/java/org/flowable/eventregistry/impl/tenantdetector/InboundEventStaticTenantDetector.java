@@ -12,6 +12,8 @@
  */
 package org.flowable.eventregistry.impl.tenantdetector;
 
+import java.util.Map;
+
 import org.flowable.eventregistry.api.InboundEventTenantDetector;
 
 /**
@@ -30,4 +32,10 @@ public class InboundEventStaticTenantDetector<T> implements InboundEventTenantDe
         return staticTenantId;
     }
 
+    @Override
+    public String detectTenantIdFromHeaders(Map<String, Object> headers) {
+        // The static tenant never requires the event body
+        return staticTenantId;
+    }
+
 }
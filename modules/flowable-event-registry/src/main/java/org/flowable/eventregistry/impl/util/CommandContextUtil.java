@@ -22,6 +22,7 @@ import org.flowable.eventregistry.impl.persistence.entity.ChannelDefinitionEntit
 import org.flowable.eventregistry.impl.persistence.entity.EventDefinitionEntityManager;
 import org.flowable.eventregistry.impl.persistence.entity.EventDeploymentEntityManager;
 import org.flowable.eventregistry.impl.persistence.entity.EventResourceEntityManager;
+import org.flowable.eventregistry.impl.persistence.entity.OutboundEventEntityManager;
 import org.flowable.eventregistry.impl.persistence.entity.data.TableDataManager;
 
 public class CommandContextUtil {
@@ -81,6 +82,14 @@ public class CommandContextUtil {
         return getEventRegistryConfiguration(commandContext).getChannelDefinitionEntityManager();
     }
     
+    public static OutboundEventEntityManager getOutboundEventEntityManager() {
+        return getOutboundEventEntityManager(getCommandContext());
+    }
+    
+    public static OutboundEventEntityManager getOutboundEventEntityManager(CommandContext commandContext) {
+        return getEventRegistryConfiguration(commandContext).getOutboundEventEntityManager();
+    }
+    
     public static TableDataManager getTableDataManager() {
         return getTableDataManager(getCommandContext());
     }
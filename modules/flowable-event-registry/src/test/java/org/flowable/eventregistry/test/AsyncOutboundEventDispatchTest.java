@@ -0,0 +1,309 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.eventregistry.api.EventRegistry;
+import org.flowable.eventregistry.api.OutboundEventChannelAdapter;
+import org.flowable.eventregistry.api.runtime.EventInstance;
+import org.flowable.eventregistry.impl.AsyncOutboundEventProcessor;
+import org.flowable.eventregistry.impl.EventRegistryEngineConfiguration;
+import org.flowable.eventregistry.impl.outbound.AsyncOutboundEventDispatcher;
+import org.flowable.eventregistry.impl.outbound.OutboundEventChannelMetrics;
+import org.flowable.eventregistry.impl.persistence.entity.ChannelDefinitionEntityImpl;
+import org.flowable.eventregistry.impl.runtime.EventCorrelationParameterInstanceImpl;
+import org.flowable.eventregistry.impl.runtime.EventInstanceImpl;
+import org.flowable.eventregistry.impl.runtime.EventPayloadInstanceImpl;
+import org.flowable.eventregistry.model.EventModel;
+import org.flowable.eventregistry.model.EventPayload;
+import org.flowable.eventregistry.model.OutboundChannelModel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class AsyncOutboundEventDispatchTest extends AbstractFlowableEventTest {
+
+    protected TestOutboundChannelAdapter channelAdapter;
+    protected TestAsyncOutboundEventDispatcher dispatcher;
+    protected AsyncOutboundEventProcessor outboundEventProcessor;
+    protected EventModel eventModel;
+
+    @BeforeEach
+    public void setUp() {
+        channelAdapter = new TestOutboundChannelAdapter();
+        getEventRegistry().newOutboundChannelModel()
+            .key("asyncOutboundChannel")
+            .channelAdapter(channelAdapter)
+            .serializer(eventInstance -> eventInstance.getCorrelationParameterInstances().iterator().next().getValue()
+                + "-" + eventInstance.getPayloadInstances().iterator().next().getValue())
+            .register();
+
+        repositoryService.createEventModelBuilder()
+            .key("customerEvent")
+            .correlationParameter("customerId", "string")
+            .payload("sequence", "integer")
+            .outboundChannelKey("asyncOutboundChannel")
+            .resourceName("customerEvent.event")
+            .deploy();
+        eventModel = repositoryService.getEventModelByKey("customerEvent");
+
+        useDispatcher(new TestAsyncOutboundEventDispatcher(eventEngineConfiguration, 3, 0, 4));
+    }
+
+    @AfterEach
+    public void cleanup() {
+        eventEngineConfiguration.getClock().reset();
+        channelAdapter.fail = false;
+        new TestAsyncOutboundEventDispatcher(eventEngineConfiguration, 100, 0, 4).publishOutboundEvents();
+
+        getEventRegistry().removeChannelModel("asyncOutboundChannel");
+        repositoryService.createDeploymentQuery().list()
+            .forEach(eventDeployment -> repositoryService.deleteDeployment(eventDeployment.getId()));
+    }
+
+    @Test
+    public void testEventsAreStoredInOutboxAndPublishedInBatches() {
+        eventEngineConfiguration.getCommandExecutor().execute(commandContext -> {
+            for (int i = 0; i < 4; i++) {
+                outboundEventProcessor.sendEvent(createEventInstance("customer1", i));
+            }
+
+            // Nothing is stored or sent before the command is closed
+            assertThat(getOutboxCount()).isZero();
+            assertThat(channelAdapter.batches).isEmpty();
+            return null;
+        });
+
+        // The events of the transaction are stored together, and sent in batches of at most the batch size
+        assertThat(getOutboxCount()).isEqualTo(1);
+        assertThat(channelAdapter.batches).isEmpty();
+
+        assertThat(dispatcher.publishOutboundEvents()).isEqualTo(4);
+        assertThat(channelAdapter.batches).containsExactly(
+            Arrays.asList("customer1-0", "customer1-1", "customer1-2"),
+            Arrays.asList("customer1-3"));
+        assertThat(getOutboxCount()).isZero();
+
+        OutboundEventChannelMetrics metrics = dispatcher.getMetrics("asyncOutboundChannel");
+        assertThat(metrics.getPublishedCount()).isEqualTo(4);
+        assertThat(metrics.getFailedCount()).isZero();
+    }
+
+    @Test
+    public void testEventsOfSeveralTransactionsArePublishedInOrderPerCorrelationKey() {
+        sendEvents(createEventInstance("customer1", 0), createEventInstance("customer2", 0));
+        sendEvents(createEventInstance("customer1", 1));
+        sendEvents(createEventInstance("customer1", 2), createEventInstance("customer1", 3));
+
+        // The events of different transactions are batched per correlation key, in the order in which they were stored
+        assertThat(dispatcher.publishOutboundEvents()).isEqualTo(5);
+        assertThat(channelAdapter.batches).containsExactly(
+            Arrays.asList("customer1-0", "customer1-1"),
+            Arrays.asList("customer2-0"),
+            Arrays.asList("customer1-2", "customer1-3"));
+    }
+
+    @Test
+    public void testEventsWaitForBatchUntilMaxWaitTime() {
+        useDispatcher(new TestAsyncOutboundEventDispatcher(eventEngineConfiguration, 3, 60000, 4));
+        Date now = new Date();
+        eventEngineConfiguration.getClock().setCurrentTime(now);
+
+        sendEvents(createEventInstance("customer1", 0));
+        assertThat(dispatcher.publishOutboundEvents()).isZero();
+
+        // Once the events of a correlation key fill a batch, they are published without waiting
+        sendEvents(createEventInstance("customer1", 1), createEventInstance("customer1", 2));
+        assertThat(dispatcher.publishOutboundEvents()).isEqualTo(3);
+        assertThat(channelAdapter.batches).containsExactly(Arrays.asList("customer1-0", "customer1-1", "customer1-2"));
+
+        sendEvents(createEventInstance("customer1", 3));
+        assertThat(dispatcher.publishOutboundEvents()).isZero();
+
+        eventEngineConfiguration.getClock().setCurrentTime(new Date(now.getTime() + 120000));
+        assertThat(dispatcher.publishOutboundEvents()).isEqualTo(1);
+        assertThat(channelAdapter.batches).hasSize(2);
+    }
+
+    @Test
+    public void testConcurrentPublishesPerChannelAreLimited() {
+        useDispatcher(new TestAsyncOutboundEventDispatcher(eventEngineConfiguration, 3, 0, 1));
+        sendEvents(createEventInstance("customer1", 0), createEventInstance("customer2", 0));
+
+        // Only one correlation key of the channel is acquired, the other one waits for the permit of the channel
+        assertThat(dispatcher.acquire()).isEqualTo(1);
+        assertThat(dispatcher.acquire()).isZero();
+
+        assertThat(dispatcher.publishAcquired()).isEqualTo(1);
+        assertThat(dispatcher.acquire()).isEqualTo(1);
+        assertThat(dispatcher.publishAcquired()).isEqualTo(1);
+        assertThat(channelAdapter.batches).containsExactly(Arrays.asList("customer1-0"), Arrays.asList("customer2-0"));
+    }
+
+    @Test
+    public void testEventsOfRolledBackTransactionAreNotStored() {
+        assertThatThrownBy(() -> eventEngineConfiguration.getCommandExecutor().execute(commandContext -> {
+            outboundEventProcessor.sendEvent(createEventInstance("customer1", 1));
+            throw new FlowableException("rollback");
+        })).hasMessage("rollback");
+
+        assertThat(getOutboxCount()).isZero();
+        assertThat(dispatcher.publishOutboundEvents()).isZero();
+        assertThat(channelAdapter.batches).isEmpty();
+    }
+
+    @Test
+    public void testFailedPublishIsRetriedAfterRetryWaitTime() {
+        Date now = new Date();
+        eventEngineConfiguration.getClock().setCurrentTime(now);
+        sendEvents(createEventInstance("customer1", 1));
+        sendEvents(createEventInstance("customer1", 2));
+
+        channelAdapter.fail = true;
+        assertThat(dispatcher.publishOutboundEvents()).isZero();
+        assertThat(dispatcher.getMetrics("asyncOutboundChannel").getFailedCount()).isEqualTo(2);
+
+        // The events of the correlation key stay in the outbox, locked until the retry wait time passed
+        channelAdapter.fail = false;
+        assertThat(dispatcher.publishOutboundEvents()).isZero();
+        assertThat(getOutboxCount()).isEqualTo(2);
+
+        eventEngineConfiguration.getClock().setCurrentTime(new Date(now.getTime() + dispatcher.getRetryWaitTimeInMs() + 1));
+        assertThat(dispatcher.publishOutboundEvents()).isEqualTo(2);
+        assertThat(channelAdapter.batches).containsExactly(Arrays.asList("customer1-1", "customer1-2"));
+        assertThat(getOutboxCount()).isZero();
+    }
+
+    @Test
+    public void testEventSentOutsideOfTransactionIsStoredInOwnTransaction() {
+        outboundEventProcessor.sendEvent(createEventInstance("customer1", 1));
+
+        assertThat(getOutboxCount()).isEqualTo(1);
+        assertThat(channelAdapter.batches).isEmpty();
+
+        assertThat(dispatcher.publishOutboundEvents()).isEqualTo(1);
+        assertThat(channelAdapter.batches).containsExactly(Arrays.asList("customer1-1"));
+    }
+
+    @Test
+    public void testEventsArePublishedToChannelOfTenant() {
+        TestOutboundChannelAdapter tenantChannelAdapter = new TestOutboundChannelAdapter();
+        OutboundChannelModel defaultChannelModel = getEventRegistry().getOutboundChannelModel("asyncOutboundChannel");
+        OutboundChannelModel tenantChannelModel = new OutboundChannelModel();
+        tenantChannelModel.setKey("asyncOutboundChannel");
+        tenantChannelModel.setOutboundEventChannelAdapter(tenantChannelAdapter);
+        tenantChannelModel.setOutboundEventProcessingPipeline(defaultChannelModel.getOutboundEventProcessingPipeline());
+        ChannelDefinitionEntityImpl tenantChannelDefinition = new ChannelDefinitionEntityImpl();
+        tenantChannelDefinition.setKey("asyncOutboundChannel");
+        tenantChannelDefinition.setTenantId("acme");
+        getEventRegistry().registerChannelModel(tenantChannelModel, tenantChannelDefinition);
+
+        EventInstanceImpl tenantEventInstance = (EventInstanceImpl) createEventInstance("customer1", 1);
+        tenantEventInstance.setTenantId("acme");
+        EventInstanceImpl otherTenantEventInstance = (EventInstanceImpl) createEventInstance("customer1", 2);
+        otherTenantEventInstance.setTenantId("other");
+        sendEvents(tenantEventInstance, otherTenantEventInstance);
+
+        assertThat(dispatcher.publishOutboundEvents()).isEqualTo(2);
+        assertThat(tenantChannelAdapter.batches).containsExactly(Arrays.asList("customer1-1"));
+        // A tenant without a channel of its own uses the channel without tenant
+        assertThat(channelAdapter.batches).containsExactly(Arrays.asList("customer1-2"));
+    }
+
+    protected void useDispatcher(TestAsyncOutboundEventDispatcher dispatcher) {
+        this.dispatcher = dispatcher;
+        this.outboundEventProcessor = new AsyncOutboundEventProcessor(getEventRegistry(), dispatcher);
+    }
+
+    protected void sendEvents(EventInstance... eventInstances) {
+        eventEngineConfiguration.getCommandExecutor().execute(commandContext -> {
+            for (EventInstance eventInstance : eventInstances) {
+                outboundEventProcessor.sendEvent(eventInstance);
+            }
+            return null;
+        });
+    }
+
+    protected long getOutboxCount() {
+        return eventRegistryEngine.getEventManagementService().getTableCounts().get("FLW_EVENT_OUTBOX");
+    }
+
+    protected EventRegistry getEventRegistry() {
+        return eventRegistryEngine.getEventRegistry();
+    }
+
+    protected EventInstance createEventInstance(String customerId, int sequence) {
+        EventPayload sequencePayload = eventModel.getPayload().stream()
+            .filter(payload -> "sequence".equals(payload.getName()))
+            .findFirst()
+            .orElseThrow(IllegalStateException::new);
+        return new EventInstanceImpl(eventModel,
+            Collections.singletonList(new EventCorrelationParameterInstanceImpl(eventModel.getCorrelationParameters().iterator().next(), customerId)),
+            Collections.singletonList(new EventPayloadInstanceImpl(sequencePayload, sequence)));
+    }
+
+    protected static class TestAsyncOutboundEventDispatcher extends AsyncOutboundEventDispatcher {
+
+        protected final List<OutboundEventPartition> acquiredPartitions = new ArrayList<>();
+
+        public TestAsyncOutboundEventDispatcher(EventRegistryEngineConfiguration engineConfiguration, int batchSize, long maxWaitTimeInMs,
+                int maxConcurrencyPerChannel) {
+            super(engineConfiguration, batchSize, maxWaitTimeInMs, maxConcurrencyPerChannel);
+        }
+
+        public int acquire() {
+            List<OutboundEventPartition> partitions = acquireOutboundEvents();
+            acquiredPartitions.addAll(partitions);
+            return partitions.size();
+        }
+
+        public int publishAcquired() {
+            int publishedEvents = 0;
+            for (OutboundEventPartition partition : acquiredPartitions) {
+                publishedEvents += publish(partition);
+            }
+            acquiredPartitions.clear();
+            return publishedEvents;
+        }
+    }
+
+    protected static class TestOutboundChannelAdapter implements OutboundEventChannelAdapter {
+
+        protected final List<List<String>> batches = new ArrayList<>();
+        protected boolean fail;
+
+        @Override
+        public void sendEvent(String rawEvent) {
+            sendEvents(Collections.singletonList(rawEvent));
+        }
+
+        @Override
+        public void sendEvents(Collection<String> rawEvents) {
+            if (fail) {
+                throw new FlowableException("Broker not available");
+            }
+            batches.add(new ArrayList<>(rawEvents));
+        }
+    }
+
+}
@@ -17,9 +17,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -31,12 +34,15 @@ import org.flowable.eventregistry.api.EventRegistryEventConsumer;
 import org.flowable.eventregistry.api.InboundEventChannelAdapter;
 import org.flowable.eventregistry.api.InboundEventDeserializer;
 import org.flowable.eventregistry.api.InboundEventPayloadExtractor;
+import org.flowable.eventregistry.api.management.EventRegistryChangeDetector;
 import org.flowable.eventregistry.api.model.EventPayloadTypes;
 import org.flowable.eventregistry.api.runtime.EventCorrelationParameterInstance;
 import org.flowable.eventregistry.api.runtime.EventInstance;
 import org.flowable.eventregistry.api.runtime.EventPayloadInstance;
 import org.flowable.eventregistry.impl.DefaultInboundEventProcessor;
+import org.flowable.eventregistry.impl.event.DefaultInboundEvent;
 import org.flowable.eventregistry.impl.event.FlowableEventRegistryEvent;
+import org.flowable.eventregistry.impl.persistence.deploy.LatestEventModelCache;
 import org.flowable.eventregistry.impl.runtime.EventCorrelationParameterInstanceImpl;
 import org.flowable.eventregistry.impl.runtime.EventPayloadInstanceImpl;
 import org.flowable.eventregistry.model.EventCorrelationParameter;
@@ -151,6 +157,137 @@ public class DefaultEventRegistryTest extends AbstractFlowableEventTest {
             );
     }
 
+    @Test
+    public void testDefaultInboundEventPipelineWithBinaryEvent() {
+        TestInboundEventChannelAdapter inboundEventChannelAdapter = setupTestChannel();
+
+        repositoryService.createEventModelBuilder()
+            .inboundChannelKey("test-channel")
+            .key("myEvent")
+            .resourceName("myEvent.event")
+            .correlationParameter("customerId", EventPayloadTypes.STRING)
+            .payload("payload1", EventPayloadTypes.STRING)
+            .deploy();
+
+        byte[] event = "{\"type\": \"myEvent\", \"customerId\": \"test\", \"payload1\": \"Hello World\"}".getBytes(StandardCharsets.UTF_8);
+        inboundEventChannelAdapter.eventRegistry.eventReceived(inboundEventChannelAdapter.channelKey, new DefaultInboundEvent(event));
+
+        // A slice of a larger buffer, only the remaining bytes should be parsed
+        ByteBuffer buffer = ByteBuffer.allocate(event.length + 10);
+        buffer.put(new byte[5]).put(event).flip().position(5);
+        inboundEventChannelAdapter.eventRegistry.eventReceived(inboundEventChannelAdapter.channelKey, new DefaultInboundEvent(buffer));
+        assertThat(buffer.position()).isEqualTo(5);
+
+        assertThat(testEventConsumer.eventsReceived).hasSize(2);
+        for (EventRegistryEvent eventRegistryEvent : testEventConsumer.eventsReceived) {
+            EventInstance eventInstance = ((FlowableEventRegistryEvent) eventRegistryEvent).getEventInstance();
+            assertThat(eventInstance.getEventModel().getKey()).isEqualTo("myEvent");
+            assertThat(eventInstance.getPayloadInstances())
+                .extracting(EventPayloadInstance::getDefinitionName, EventPayloadInstance::getValue)
+                .containsOnly(
+                    tuple("customerId", "test"),
+                    tuple("payload1", "Hello World")
+                );
+        }
+    }
+
+    @Test
+    public void testHeaderBasedKeyAndTenantDetection() {
+        TestInboundEventChannelAdapter inboundEventChannelAdapter = new TestInboundEventChannelAdapter();
+        eventEngineConfiguration.getEventRegistry().newInboundChannelModel()
+            .key("test-channel")
+            .channelAdapter(inboundEventChannelAdapter)
+            .jsonDeserializer()
+            .detectEventKeyUsingHeader("eventKey")
+            .detectEventTenantUsingHeader("tenant")
+            .jsonFieldsMapDirectlyToPayload()
+            .register();
+
+        repositoryService.createEventModelBuilder()
+            .inboundChannelKey("test-channel")
+            .key("myEvent")
+            .resourceName("myEvent.event")
+            .tenantId("acme")
+            .deploy();
+
+        Map<String, Object> headers = new HashMap<>();
+        headers.put("eventKey", "myEvent".getBytes(StandardCharsets.UTF_8));
+        headers.put("tenant", "acme");
+
+        // The event model has no correlation parameters nor payload, so the body is never parsed
+        inboundEventChannelAdapter.eventRegistry.eventReceived(inboundEventChannelAdapter.channelKey, new DefaultInboundEvent("not json", headers));
+
+        assertThat(testEventConsumer.eventsReceived).hasSize(1);
+        EventInstance eventInstance = ((FlowableEventRegistryEvent) testEventConsumer.eventsReceived.get(0)).getEventInstance();
+        assertThat(eventInstance.getEventModel().getKey()).isEqualTo("myEvent");
+        assertThat(eventInstance.getTenantId()).isEqualTo("acme");
+        assertThat(eventInstance.getPayloadInstances()).isEmpty();
+    }
+
+    @Test
+    public void testLatestEventModelCached() {
+        EventRegistry eventRegistry = eventEngineConfiguration.getEventRegistry();
+        LatestEventModelCache latestEventModelCache = eventEngineConfiguration.getDeploymentManager().getLatestEventModelCache();
+        assertThat(latestEventModelCache).isNotNull();
+
+        repositoryService.createEventModelBuilder()
+            .key("myEvent")
+            .resourceName("myEvent.event")
+            .payload("payload1", EventPayloadTypes.STRING)
+            .deploy();
+
+        EventModel eventModel = eventRegistry.getEventModel("myEvent");
+        assertThat(eventModel.getPayload()).extracting(EventPayload::getName).containsOnly("payload1");
+        assertThat(eventRegistry.getEventModel("myEvent")).isSameAs(eventModel);
+        assertThat(eventRegistry.getEventModel("myEvent", "")).isSameAs(eventModel);
+        assertThat(latestEventModelCache.size()).isEqualTo(1);
+
+        // A new version of the event definition is used as soon as it is deployed
+        String deploymentId = repositoryService.createEventModelBuilder()
+            .key("myEvent")
+            .resourceName("myEvent.event")
+            .payload("payload2", EventPayloadTypes.STRING)
+            .deploy()
+            .getId();
+
+        assertThat(latestEventModelCache.get("myEvent", null)).isNull();
+        assertThat(eventRegistry.getEventModel("myEvent").getPayload()).extracting(EventPayload::getName).containsOnly("payload2");
+
+        // Undeploying the latest version makes the previous version the latest again
+        repositoryService.deleteDeployment(deploymentId);
+        assertThat(eventRegistry.getEventModel("myEvent").getPayload()).extracting(EventPayload::getName).containsOnly("payload1");
+    }
+
+    @Test
+    public void testLatestEventModelInvalidatedByChangeDetector() {
+        EventRegistry eventRegistry = eventEngineConfiguration.getEventRegistry();
+        LatestEventModelCache latestEventModelCache = eventEngineConfiguration.getDeploymentManager().getLatestEventModelCache();
+        EventRegistryChangeDetector changeDetector = eventEngineConfiguration.getEventRegistryChangeDetector();
+
+        repositoryService.createEventModelBuilder()
+            .key("myEvent")
+            .resourceName("myEvent.event")
+            .payload("payload1", EventPayloadTypes.STRING)
+            .deploy();
+        changeDetector.detectChanges();
+
+        EventModel eventModel = eventRegistry.getEventModel("myEvent");
+        changeDetector.detectChanges();
+        assertThat(eventRegistry.getEventModel("myEvent")).isSameAs(eventModel);
+
+        // Simulate a deployment on another node: the cache still contains the previous latest version
+        repositoryService.createEventModelBuilder()
+            .key("myEvent")
+            .resourceName("myEvent.event")
+            .payload("payload2", EventPayloadTypes.STRING)
+            .deploy();
+        latestEventModelCache.add("myEvent", null, eventModel, latestEventModelCache.getGeneration());
+        assertThat(eventRegistry.getEventModel("myEvent")).isSameAs(eventModel);
+
+        changeDetector.detectChanges();
+        assertThat(eventRegistry.getEventModel("myEvent").getPayload()).extracting(EventPayload::getName).containsOnly("payload2");
+    }
+
     protected TestInboundEventChannelAdapter setupTestChannel() {
         TestInboundEventChannelAdapter inboundEventChannelAdapter = new TestInboundEventChannelAdapter();
 
@@ -12,6 +12,7 @@
  */
 package org.flowable.eventsubscription.service;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.eventsubscription.api.EventSubscription;
@@ -78,6 +79,12 @@ public interface EventSubscriptionService {
     void deleteEventSubscription(EventSubscriptionEntity eventSubscription);
     
     void deleteEventSubscriptionsByExecutionId(String executionId);
+
+    /**
+     * Deletes the event subscriptions of the given process instances with a set-based delete.
+     * No events are dispatched for the deleted event subscriptions.
+     */
+    void deleteEventSubscriptionsByProcessInstanceIds(Collection<String> processInstanceIds);
     
     void deleteEventSubscriptionsForScopeIdAndType(String scopeId, String scopeType);
     
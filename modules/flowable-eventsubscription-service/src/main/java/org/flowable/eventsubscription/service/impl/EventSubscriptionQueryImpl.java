@@ -35,6 +35,7 @@ public class EventSubscriptionQueryImpl extends AbstractQuery<EventSubscriptionQ
 
     protected String id;
     protected String eventType;
+    protected Collection<String> eventTypes;
     protected String eventName;
     protected String executionId;
     protected String processInstanceId;
@@ -51,6 +52,7 @@ public class EventSubscriptionQueryImpl extends AbstractQuery<EventSubscriptionQ
     protected String configuration;
     protected Collection<String> configurations;
     protected boolean withoutConfiguration;
+    protected Collection<String> withoutConfigurationOrConfigurations;
 
     public EventSubscriptionQueryImpl(CommandContext commandContext) {
         super(commandContext);
@@ -78,6 +80,14 @@ public class EventSubscriptionQueryImpl extends AbstractQuery<EventSubscriptionQ
         return this;
     }
 
+    public EventSubscriptionQueryImpl eventTypes(Collection<String> eventTypes) {
+        if (eventTypes == null) {
+            throw new FlowableIllegalArgumentException("Provided event types are null");
+        }
+        this.eventTypes = eventTypes;
+        return this;
+    }
+
     @Override
     public EventSubscriptionQueryImpl eventName(String eventName) {
         if (eventName == null) {
@@ -218,6 +228,18 @@ public class EventSubscriptionQueryImpl extends AbstractQuery<EventSubscriptionQ
         return this;
     }
 
+    /**
+     * Only select event subscriptions without a configuration or with one of the given configurations.
+     * Allows fetching the uncorrelated and the correlated subscriptions of a batch of events with one query.
+     */
+    public EventSubscriptionQueryImpl withoutConfigurationOrConfigurations(Collection<String> configurations) {
+        if (configurations == null) {
+            throw new FlowableIllegalArgumentException("configurations are null");
+        }
+        this.withoutConfigurationOrConfigurations = configurations;
+        return this;
+    }
+
     @Override
     public EventSubscriptionQuery orderById() {
         return orderBy(EventSubscriptionQueryProperty.ID);
@@ -270,6 +292,10 @@ public class EventSubscriptionQueryImpl extends AbstractQuery<EventSubscriptionQ
         return eventType;
     }
 
+    public Collection<String> getEventTypes() {
+        return eventTypes;
+    }
+
     public String getEventName() {
         return eventName;
     }
@@ -333,4 +359,8 @@ public class EventSubscriptionQueryImpl extends AbstractQuery<EventSubscriptionQ
     public boolean isWithoutConfiguration() {
         return withoutConfiguration;
     }
+
+    public Collection<String> getWithoutConfigurationOrConfigurations() {
+        return withoutConfigurationOrConfigurations;
+    }
 }
@@ -12,6 +12,7 @@
  */
 package org.flowable.eventsubscription.service.impl;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.service.CommonServiceImpl;
@@ -158,6 +159,11 @@ public class EventSubscriptionServiceImpl extends CommonServiceImpl<EventSubscri
     public void deleteEventSubscriptionsByExecutionId(String executionId) {
         getEventSubscriptionEntityManager().deleteEventSubscriptionsByExecutionId(executionId);
     }
+
+    @Override
+    public void deleteEventSubscriptionsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        getEventSubscriptionEntityManager().deleteEventSubscriptionsByProcessInstanceIds(processInstanceIds);
+    }
     
     @Override
     public void deleteEventSubscriptionsForScopeIdAndType(String scopeId, String scopeType) {
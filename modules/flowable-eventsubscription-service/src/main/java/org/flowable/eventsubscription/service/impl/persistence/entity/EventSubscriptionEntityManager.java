@@ -12,6 +12,7 @@
  */
 package org.flowable.eventsubscription.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.EntityManager;
@@ -47,6 +48,8 @@ public interface EventSubscriptionEntityManager extends EntityManager<EventSubsc
     void deleteEventSubscriptionsForProcessDefinition(String processDefinitionId);
     
     void deleteEventSubscriptionsByExecutionId(String executionId);
+
+    void deleteEventSubscriptionsByProcessInstanceIds(Collection<String> processInstanceIds);
     
     void deleteEventSubscriptionsForScopeIdAndType(String scopeId, String scopeType);
 
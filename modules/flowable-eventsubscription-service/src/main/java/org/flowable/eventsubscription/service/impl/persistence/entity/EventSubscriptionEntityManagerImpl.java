@@ -14,6 +14,7 @@
 package org.flowable.eventsubscription.service.impl.persistence.entity;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.bpmn.model.Signal;
@@ -191,6 +192,11 @@ public class EventSubscriptionEntityManagerImpl
     public void deleteEventSubscriptionsByExecutionId(String executionId) {
         dataManager.deleteEventSubscriptionsByExecutionId(executionId);
     }
+
+    @Override
+    public void deleteEventSubscriptionsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        dataManager.deleteEventSubscriptionsByProcessInstanceIds(processInstanceIds);
+    }
     
     @Override
     public void deleteEventSubscriptionsForScopeIdAndType(String scopeId, String scopeType) {
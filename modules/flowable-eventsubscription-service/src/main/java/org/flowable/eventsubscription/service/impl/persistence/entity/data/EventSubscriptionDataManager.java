@@ -12,6 +12,7 @@
  */
 package org.flowable.eventsubscription.service.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
@@ -71,6 +72,8 @@ public interface EventSubscriptionDataManager extends DataManager<EventSubscript
     void deleteEventSubscriptionsForProcessDefinition(String processDefinitionId);
     
     void deleteEventSubscriptionsByExecutionId(String executionId);
+
+    void deleteEventSubscriptionsByProcessInstanceIds(Collection<String> processInstanceIds);
     
     void deleteEventSubscriptionsForScopeIdAndType(String scopeId, String scopeType);
 
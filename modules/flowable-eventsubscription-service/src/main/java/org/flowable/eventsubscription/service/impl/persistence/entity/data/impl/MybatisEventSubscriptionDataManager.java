@@ -13,6 +13,7 @@
 package org.flowable.eventsubscription.service.impl.persistence.entity.data.impl;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -300,6 +301,11 @@ public class MybatisEventSubscriptionDataManager extends AbstractEventSubscripti
             bulkDelete("deleteEventSubscriptionsByExecutionId", eventSubscriptionsByExecutionIdMatcher, executionId);
         }
     }
+
+    @Override
+    public void deleteEventSubscriptionsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        getDbSqlSession().delete("deleteEventSubscriptionsByProcessInstanceIds", new ArrayList<>(processInstanceIds), getManagedEntityClass());
+    }
     
     @Override
     public void deleteEventSubscriptionsForScopeIdAndType(String scopeId, String scopeType) {
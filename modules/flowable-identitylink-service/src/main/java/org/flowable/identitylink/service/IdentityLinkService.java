@@ -27,6 +27,11 @@ public interface IdentityLinkService {
     IdentityLinkEntity getIdentityLink(String id);
     
     List<IdentityLinkEntity> findIdentityLinksByTaskId(String taskId);
+
+    /**
+     * Fetches the identity links of the given tasks, without putting them in the entity cache (e.g. for task query results).
+     */
+    List<IdentityLinkEntity> findIdentityLinksByTaskIds(Collection<String> taskIds);
     
     List<IdentityLinkEntity> findIdentityLinksByProcessInstanceId(String processInstanceId);
     
@@ -83,5 +88,11 @@ public interface IdentityLinkService {
     void deleteIdentityLinksByScopeIdAndType(String scopeId, String scopeType);
     
     void deleteIdentityLinksByProcessInstanceId(String processInstanceId);
+
+    /**
+     * Deletes the identity links of the given process instances and of their tasks with set-based deletes.
+     * No events are dispatched for the deleted identity links.
+     */
+    void deleteIdentityLinksByProcessInstanceIds(Collection<String> processInstanceIds);
     
 }
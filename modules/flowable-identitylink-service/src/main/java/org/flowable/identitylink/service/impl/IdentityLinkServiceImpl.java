@@ -39,6 +39,11 @@ public class IdentityLinkServiceImpl extends CommonServiceImpl<IdentityLinkServi
     public List<IdentityLinkEntity> findIdentityLinksByTaskId(String taskId) {
         return getIdentityLinkEntityManager().findIdentityLinksByTaskId(taskId);
     }
+
+    @Override
+    public List<IdentityLinkEntity> findIdentityLinksByTaskIds(Collection<String> taskIds) {
+        return getIdentityLinkEntityManager().findIdentityLinksByTaskIds(taskIds);
+    }
     
     @Override
     public List<IdentityLinkEntity> findIdentityLinksByProcessInstanceId(String processInstanceId) {
@@ -182,6 +187,11 @@ public class IdentityLinkServiceImpl extends CommonServiceImpl<IdentityLinkServi
         getIdentityLinkEntityManager().deleteIdentityLinksByProcessInstanceId(processInstanceId);
     }
 
+    @Override
+    public void deleteIdentityLinksByProcessInstanceIds(Collection<String> processInstanceIds) {
+        getIdentityLinkEntityManager().deleteIdentityLinksByProcessInstanceIds(processInstanceIds);
+    }
+
     public IdentityLinkEntityManager getIdentityLinkEntityManager() {
         return configuration.getIdentityLinkEntityManager();
     }
@@ -24,6 +24,8 @@ public interface IdentityLinkEntityManager extends EntityManager<IdentityLinkEnt
 
     List<IdentityLinkEntity> findIdentityLinksByTaskId(String taskId);
 
+    List<IdentityLinkEntity> findIdentityLinksByTaskIds(Collection<String> taskIds);
+
     List<IdentityLinkEntity> findIdentityLinksByProcessInstanceId(String processInstanceId);
     
     List<IdentityLinkEntity> findIdentityLinksByScopeIdAndType(String scopeId, String scopeType);
@@ -81,6 +83,8 @@ public interface IdentityLinkEntityManager extends EntityManager<IdentityLinkEnt
     
     void deleteIdentityLinksByProcessInstanceId(String processInstanceId);
 
+    void deleteIdentityLinksByProcessInstanceIds(Collection<String> processInstanceIds);
+
     void deleteIdentityLinksByScopeIdAndScopeType(String scopeId, String scopeType);
     
     void deleteIdentityLinksByScopeDefinitionIdAndScopeType(String scopeDefinitionId, String scopeType);
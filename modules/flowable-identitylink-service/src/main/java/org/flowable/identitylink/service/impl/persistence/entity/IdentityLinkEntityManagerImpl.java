@@ -62,6 +62,11 @@ public class IdentityLinkEntityManagerImpl
         return dataManager.findIdentityLinksByTaskId(taskId);
     }
 
+    @Override
+    public List<IdentityLinkEntity> findIdentityLinksByTaskIds(Collection<String> taskIds) {
+        return dataManager.findIdentityLinksByTaskIds(taskIds);
+    }
+
     @Override
     public List<IdentityLinkEntity> findIdentityLinksByProcessInstanceId(String processInstanceId) {
         return dataManager.findIdentityLinksByProcessInstanceId(processInstanceId);
@@ -309,6 +314,11 @@ public class IdentityLinkEntityManagerImpl
         dataManager.deleteIdentityLinksByProcessInstanceId(processInstanceId);
     }
 
+    @Override
+    public void deleteIdentityLinksByProcessInstanceIds(Collection<String> processInstanceIds) {
+        dataManager.deleteIdentityLinksByProcessInstanceIds(processInstanceIds);
+    }
+
     @Override
     public void deleteIdentityLinksByScopeIdAndScopeType(String scopeId, String scopeType) {
         dataManager.deleteIdentityLinksByScopeIdAndScopeType(scopeId, scopeType);
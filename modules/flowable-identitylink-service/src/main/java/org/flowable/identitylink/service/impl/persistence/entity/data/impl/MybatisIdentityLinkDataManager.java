@@ -12,6 +12,8 @@
  */
 package org.flowable.identitylink.service.impl.persistence.entity.data.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -35,6 +37,8 @@ import org.flowable.identitylink.service.impl.persistence.entity.data.impl.cache
  */
 public class MybatisIdentityLinkDataManager extends AbstractDataManager<IdentityLinkEntity> implements IdentityLinkDataManager {
 
+    protected static final int MAX_TASK_IDS_PER_QUERY = 1000;
+
     protected CachedEntityMatcher<IdentityLinkEntity> identityLinksByTaskIdMatcher = new IdentityLinksByTaskIdMatcher();
     protected CachedEntityMatcher<IdentityLinkEntity> identityLinkByProcessInstanceMatcher = new IdentityLinksByProcessInstanceMatcher();
     protected CachedEntityMatcher<IdentityLinkEntity> identityLinksByScopeIdAndTypeMatcher = new IdentityLinksByScopeIdAndTypeMatcher();
@@ -63,6 +67,19 @@ public class MybatisIdentityLinkDataManager extends AbstractDataManager<Identity
         return getList("selectIdentityLinksByTaskId", taskId, identityLinkByProcessInstanceMatcher, true);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<IdentityLinkEntity> findIdentityLinksByTaskIds(Collection<String> taskIds) {
+        // Some databases (e.g. Oracle) limit the number of ids in an 'in' clause to 1000
+        List<String> taskIdList = new ArrayList<>(taskIds);
+        List<IdentityLinkEntity> identityLinks = new ArrayList<>();
+        for (int i = 0; i < taskIdList.size(); i += MAX_TASK_IDS_PER_QUERY) {
+            List<String> taskIdsToQuery = new ArrayList<>(taskIdList.subList(i, Math.min(i + MAX_TASK_IDS_PER_QUERY, taskIdList.size())));
+            identityLinks.addAll(getDbSqlSession().selectListNoCacheLoadAndStore("selectIdentityLinksByTaskIds", taskIdsToQuery));
+        }
+        return identityLinks;
+    }
+
     @Override
     public List<IdentityLinkEntity> findIdentityLinksByProcessInstanceId(String processInstanceId) {
         DbSqlSession dbSqlSession = getDbSqlSession();
@@ -187,6 +204,11 @@ public class MybatisIdentityLinkDataManager extends AbstractDataManager<Identity
         }
     }
 
+    @Override
+    public void deleteIdentityLinksByProcessInstanceIds(Collection<String> processInstanceIds) {
+        getDbSqlSession().delete("deleteIdentityLinksByProcessInstanceIds", new ArrayList<>(processInstanceIds), getManagedEntityClass());
+    }
+
     @Override
     public void deleteIdentityLinksByScopeIdAndScopeType(String scopeId, String scopeType) {
         DbSqlSession dbSqlSession = getDbSqlSession();
@@ -21,4 +21,9 @@ public interface IdmEngineConfigurationApi {
 
     IdmManagementService getIdmManagementService();
 
+    /**
+     * @return the cache of the group ids per user, or null when the group memberships are not cached
+     */
+    UserGroupMembershipCache getUserGroupMembershipCache();
+
 }
@@ -0,0 +1,38 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.idm.api;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Caches the ids of the groups a user is a member of, e.g. for resolving the candidate groups of a task query by candidate user.
+ * The IDM engine invalidates the entries of the users whose memberships are changed through the {@link IdmIdentityService}.
+ * Membership changes done outside of it (e.g. in LDAP or on another node of a cluster) become visible once the entry expires.
+ */
+public interface UserGroupMembershipCache {
+
+    /**
+     * Returns the cached group ids of the user, or loads them with the given loader and caches them when they are not cached (anymore).
+     */
+    List<String> getGroupIds(String userId, Function<String, List<String>> groupIdsLoader);
+
+    void invalidate(String userId);
+
+    void clear();
+
+    long getHitCount();
+
+    long getMissCount();
+
+}
@@ -38,6 +38,7 @@ import org.flowable.idm.api.IdmIdentityService;
 import org.flowable.idm.api.IdmManagementService;
 import org.flowable.idm.api.PasswordEncoder;
 import org.flowable.idm.api.PasswordSalt;
+import org.flowable.idm.api.UserGroupMembershipCache;
 import org.flowable.idm.api.event.FlowableIdmEventType;
 import org.flowable.idm.engine.impl.IdmEngineImpl;
 import org.flowable.idm.engine.impl.IdmIdentityServiceImpl;
@@ -45,6 +46,7 @@ import org.flowable.idm.engine.impl.IdmManagementServiceImpl;
 import org.flowable.idm.engine.impl.SchemaOperationsIdmEngineBuild;
 import org.flowable.idm.engine.impl.authentication.BlankSalt;
 import org.flowable.idm.engine.impl.authentication.ClearTextPasswordEncoder;
+import org.flowable.idm.engine.impl.cache.DefaultUserGroupMembershipCache;
 import org.flowable.idm.engine.impl.cfg.StandaloneIdmEngineConfiguration;
 import org.flowable.idm.engine.impl.cfg.StandaloneInMemIdmEngineConfiguration;
 import org.flowable.idm.engine.impl.db.EntityDependencyOrder;
@@ -125,6 +127,12 @@ public class IdmEngineConfiguration extends AbstractEngineConfiguration implemen
     protected PrivilegeMappingEntityManager privilegeMappingEntityManager;
 
     protected PasswordEncoder passwordEncoder;
+
+    // Caching of the group ids per user, invalidated on membership changes done through the IDM identity service
+    protected boolean enableUserGroupMembershipCache;
+    protected int userGroupMembershipCacheLimit = 1000;
+    protected long userGroupMembershipCacheTimeToLiveInMs = 60000;
+    protected UserGroupMembershipCache userGroupMembershipCache;
     protected PasswordSalt passwordSalt;
 
     public static IdmEngineConfiguration createIdmEngineConfigurationFromResourceDefault() {
@@ -198,6 +206,7 @@ public class IdmEngineConfiguration extends AbstractEngineConfiguration implemen
         initDataManagers();
         initEntityManagers();
         initClock();
+        initUserGroupMembershipCache();
         initEventDispatcher();
     }
 
@@ -332,6 +341,12 @@ public class IdmEngineConfiguration extends AbstractEngineConfiguration implemen
         }
     }
 
+    public void initUserGroupMembershipCache() {
+        if (userGroupMembershipCache == null && enableUserGroupMembershipCache) {
+            userGroupMembershipCache = new DefaultUserGroupMembershipCache(userGroupMembershipCacheLimit, userGroupMembershipCacheTimeToLiveInMs, clock);
+        }
+    }
+
     // command executors
     // ////////////////////////////////////////////////////////
 
@@ -784,6 +799,43 @@ public class IdmEngineConfiguration extends AbstractEngineConfiguration implemen
         return this;
     }
 
+    public boolean isEnableUserGroupMembershipCache() {
+        return enableUserGroupMembershipCache;
+    }
+
+    public IdmEngineConfiguration setEnableUserGroupMembershipCache(boolean enableUserGroupMembershipCache) {
+        this.enableUserGroupMembershipCache = enableUserGroupMembershipCache;
+        return this;
+    }
+
+    public int getUserGroupMembershipCacheLimit() {
+        return userGroupMembershipCacheLimit;
+    }
+
+    public IdmEngineConfiguration setUserGroupMembershipCacheLimit(int userGroupMembershipCacheLimit) {
+        this.userGroupMembershipCacheLimit = userGroupMembershipCacheLimit;
+        return this;
+    }
+
+    public long getUserGroupMembershipCacheTimeToLiveInMs() {
+        return userGroupMembershipCacheTimeToLiveInMs;
+    }
+
+    public IdmEngineConfiguration setUserGroupMembershipCacheTimeToLiveInMs(long userGroupMembershipCacheTimeToLiveInMs) {
+        this.userGroupMembershipCacheTimeToLiveInMs = userGroupMembershipCacheTimeToLiveInMs;
+        return this;
+    }
+
+    @Override
+    public UserGroupMembershipCache getUserGroupMembershipCache() {
+        return userGroupMembershipCache;
+    }
+
+    public IdmEngineConfiguration setUserGroupMembershipCache(UserGroupMembershipCache userGroupMembershipCache) {
+        this.userGroupMembershipCache = userGroupMembershipCache;
+        return this;
+    }
+
     public PasswordSalt getPasswordSalt() {
         return passwordSalt;
     }
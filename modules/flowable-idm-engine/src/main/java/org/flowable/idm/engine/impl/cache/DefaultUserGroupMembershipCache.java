@@ -0,0 +1,119 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.idm.engine.impl.cache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.flowable.common.engine.impl.runtime.ClockReader;
+import org.flowable.idm.api.UserGroupMembershipCache;
+
+/**
+ * Bounded, least recently used cache of the group ids per user, of which the entries expire after a fixed time.
+ * Concurrent misses for the same user can load the group ids more than once, the last loaded value is kept.
+ * Every invalidation increases the generation of the cache: group ids that were loaded while an invalidation happened are not stored,
+ * as they could have been read before the membership change was committed.
+ * Callers get a copy of the cached group ids, so they can't change the cached value.
+ */
+public class DefaultUserGroupMembershipCache implements UserGroupMembershipCache {
+
+    protected Map<String, CacheEntry> cache;
+    protected long timeToLiveInMs;
+    protected ClockReader clock;
+
+    protected final AtomicLong generation = new AtomicLong();
+    protected final AtomicLong hitCount = new AtomicLong();
+    protected final AtomicLong missCount = new AtomicLong();
+
+    public DefaultUserGroupMembershipCache(final int limit, long timeToLiveInMs, ClockReader clock) {
+        this.timeToLiveInMs = timeToLiveInMs;
+        this.clock = clock;
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<String, CacheEntry>(limit + 1, 0.75f, true) { // +1 is needed, because the entry is inserted first, before it is removed
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+                return size() > limit;
+            }
+
+        });
+    }
+
+    @Override
+    public List<String> getGroupIds(String userId, Function<String, List<String>> groupIdsLoader) {
+        long now = clock.getCurrentTime().getTime();
+        CacheEntry entry = cache.get(userId);
+        if (entry != null && entry.expirationTime > now) {
+            hitCount.incrementAndGet();
+            return new ArrayList<>(entry.groupIds);
+        }
+
+        missCount.incrementAndGet();
+        long expectedGeneration = generation.get();
+        List<String> groupIds = groupIdsLoader.apply(userId);
+        if (generation.get() == expectedGeneration) {
+            CacheEntry newEntry = new CacheEntry(new ArrayList<>(groupIds), now + timeToLiveInMs);
+            cache.put(userId, newEntry);
+
+            // An invalidation could have happened concurrently, after the generation check above
+            if (generation.get() != expectedGeneration) {
+                cache.remove(userId, newEntry);
+            }
+        }
+        return groupIds;
+    }
+
+    @Override
+    public void invalidate(String userId) {
+        generation.incrementAndGet();
+        cache.remove(userId);
+    }
+
+    @Override
+    public void clear() {
+        generation.incrementAndGet();
+        cache.clear();
+    }
+
+    @Override
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    @Override
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    protected static class CacheEntry {
+
+        protected final List<String> groupIds;
+        protected final long expirationTime;
+
+        protected CacheEntry(List<String> groupIds, long expirationTime) {
+            this.groupIds = groupIds;
+            this.expirationTime = expirationTime;
+        }
+    }
+
+}
@@ -13,6 +13,10 @@
 
 package org.flowable.idm.engine.impl.persistence.entity;
 
+import org.flowable.common.engine.impl.cfg.TransactionContext;
+import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.idm.api.UserGroupMembershipCache;
 import org.flowable.idm.api.event.FlowableIdmEventType;
 import org.flowable.idm.engine.IdmEngineConfiguration;
 import org.flowable.idm.engine.delegate.event.impl.FlowableIdmEventBuilder;
@@ -36,6 +40,7 @@ public class MembershipEntityManagerImpl
         membershipEntity.setUserId(userId);
         membershipEntity.setGroupId(groupId);
         insert(membershipEntity, false);
+        invalidateUserGroupMembershipCache(userId);
 
         if (getEventDispatcher() != null && getEventDispatcher().isEnabled()) {
             getEventDispatcher().dispatchEvent(FlowableIdmEventBuilder.createMembershipEvent(FlowableIdmEventType.MEMBERSHIP_CREATED, groupId, userId));
@@ -45,6 +50,7 @@ public class MembershipEntityManagerImpl
     @Override
     public void deleteMembership(String userId, String groupId) {
         dataManager.deleteMembership(userId, groupId);
+        invalidateUserGroupMembershipCache(userId);
         if (getEventDispatcher() != null && getEventDispatcher().isEnabled()) {
             getEventDispatcher().dispatchEvent(FlowableIdmEventBuilder.createMembershipEvent(FlowableIdmEventType.MEMBERSHIP_DELETED, groupId, userId));
         }
@@ -53,11 +59,38 @@ public class MembershipEntityManagerImpl
     @Override
     public void deleteMembershipByGroupId(String groupId) {
         dataManager.deleteMembershipByGroupId(groupId);
+        invalidateUserGroupMembershipCache(null);
     }
 
     @Override
     public void deleteMembershipByUserId(String userId) {
         dataManager.deleteMembershipByUserId(userId);
+        invalidateUserGroupMembershipCache(userId);
+    }
+
+    /**
+     * Invalidates the cached group ids of the given user (or of all users when null) right away and once more after the commit,
+     * so that a concurrent lookup can't keep caching the memberships as they were before the transaction.
+     */
+    protected void invalidateUserGroupMembershipCache(String userId) {
+        UserGroupMembershipCache userGroupMembershipCache = engineConfiguration.getUserGroupMembershipCache();
+        if (userGroupMembershipCache == null) {
+            return;
+        }
+
+        invalidate(userGroupMembershipCache, userId);
+        TransactionContext transactionContext = Context.getTransactionContext();
+        if (transactionContext != null) {
+            transactionContext.addTransactionListener(TransactionState.COMMITTED, commandContext -> invalidate(userGroupMembershipCache, userId));
+        }
+    }
+
+    protected void invalidate(UserGroupMembershipCache userGroupMembershipCache, String userId) {
+        if (userId != null) {
+            userGroupMembershipCache.invalidate(userId);
+        } else {
+            userGroupMembershipCache.clear();
+        }
     }
 
 }
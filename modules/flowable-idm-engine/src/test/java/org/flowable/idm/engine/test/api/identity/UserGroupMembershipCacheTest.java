@@ -0,0 +1,146 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.idm.engine.test.api.identity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.flowable.idm.api.Group;
+import org.flowable.idm.engine.impl.cache.DefaultUserGroupMembershipCache;
+import org.flowable.idm.engine.test.PluggableFlowableIdmTestCase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class UserGroupMembershipCacheTest extends PluggableFlowableIdmTestCase {
+
+    protected DefaultUserGroupMembershipCache cache;
+    protected List<String> loadedUserIds = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        cache = new DefaultUserGroupMembershipCache(2, 60000, idmEngineConfiguration.getClock());
+        idmEngineConfiguration.setUserGroupMembershipCache(cache);
+
+        idmIdentityService.saveUser(idmIdentityService.newUser("kermit"));
+        idmIdentityService.saveUser(idmIdentityService.newUser("fozzie"));
+        idmIdentityService.saveUser(idmIdentityService.newUser("gonzo"));
+        idmIdentityService.saveGroup(idmIdentityService.newGroup("muppets"));
+        idmIdentityService.saveGroup(idmIdentityService.newGroup("frogs"));
+        idmIdentityService.createMembership("kermit", "muppets");
+        idmIdentityService.createMembership("fozzie", "muppets");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        idmEngineConfiguration.setUserGroupMembershipCache(null);
+        idmEngineConfiguration.getClock().reset();
+
+        idmIdentityService.deleteGroup("muppets");
+        idmIdentityService.deleteGroup("frogs");
+        idmIdentityService.deleteUser("kermit");
+        idmIdentityService.deleteUser("fozzie");
+        idmIdentityService.deleteUser("gonzo");
+    }
+
+    @Test
+    public void testGroupIdsAreCached() {
+        assertThat(getGroupIds("kermit")).containsExactly("muppets");
+        assertThat(getGroupIds("kermit")).containsExactly("muppets");
+
+        assertThat(loadedUserIds).containsExactly("kermit");
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testMembershipChangesInvalidateCache() {
+        assertThat(getGroupIds("kermit")).containsExactly("muppets");
+        assertThat(getGroupIds("fozzie")).containsExactly("muppets");
+
+        idmIdentityService.createMembership("kermit", "frogs");
+        assertThat(getGroupIds("kermit")).containsExactlyInAnyOrder("muppets", "frogs");
+        assertThat(getGroupIds("fozzie")).containsExactly("muppets");
+
+        idmIdentityService.deleteMembership("kermit", "muppets");
+        assertThat(getGroupIds("kermit")).containsExactly("frogs");
+
+        // Deleting a group affects all of its members
+        idmIdentityService.deleteGroup("muppets");
+        assertThat(getGroupIds("fozzie")).isEmpty();
+
+        assertThat(loadedUserIds).containsExactly("kermit", "fozzie", "kermit", "kermit", "fozzie");
+    }
+
+    @Test
+    public void testGroupIdsLoadedDuringInvalidationAreNotCached() {
+        List<String> groupIds = cache.getGroupIds("kermit", id -> {
+            List<String> staleGroupIds = loadGroupIds(id);
+            // A membership change is committed while the group ids are being loaded
+            cache.invalidate(id);
+            return staleGroupIds;
+        });
+        assertThat(groupIds).containsExactly("muppets");
+        assertThat(cache.size()).isZero();
+
+        assertThat(getGroupIds("kermit")).containsExactly("muppets");
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void testCacheEntriesExpire() {
+        Date now = new Date();
+        idmEngineConfiguration.getClock().setCurrentTime(now);
+        assertThat(getGroupIds("kermit")).containsExactly("muppets");
+
+        idmEngineConfiguration.getClock().setCurrentTime(new Date(now.getTime() + 59000));
+        assertThat(getGroupIds("kermit")).containsExactly("muppets");
+        assertThat(loadedUserIds).hasSize(1);
+
+        idmEngineConfiguration.getClock().setCurrentTime(new Date(now.getTime() + 61000));
+        assertThat(getGroupIds("kermit")).containsExactly("muppets");
+        assertThat(loadedUserIds).hasSize(2);
+    }
+
+    @Test
+    public void testCacheIsBounded() {
+        getGroupIds("kermit");
+        getGroupIds("fozzie");
+        getGroupIds("kermit");
+        getGroupIds("gonzo");
+
+        // fozzie was the least recently used user
+        assertThat(cache.size()).isEqualTo(2);
+        getGroupIds("kermit");
+        getGroupIds("fozzie");
+        assertThat(loadedUserIds).containsExactly("kermit", "fozzie", "gonzo", "fozzie");
+    }
+
+    protected List<String> getGroupIds(String userId) {
+        return cache.getGroupIds(userId, id -> {
+            loadedUserIds.add(id);
+            return loadGroupIds(id);
+        });
+    }
+
+    protected List<String> loadGroupIds(String userId) {
+        return idmIdentityService.createGroupQuery().groupMember(userId).list().stream()
+            .map(Group::getId)
+            .collect(Collectors.toList());
+    }
+
+}
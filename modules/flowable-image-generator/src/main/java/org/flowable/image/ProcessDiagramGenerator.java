@@ -13,10 +13,22 @@
 package org.flowable.image;
 
 import java.awt.image.BufferedImage;
+import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.List;
 
+import javax.imageio.ImageIO;
+
 import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.image.exception.FlowableImageException;
 
 /**
  * This interface declares methods to generate process diagram
@@ -77,6 +89,63 @@ public interface ProcessDiagramGenerator {
     public InputStream generateDiagram(BpmnModel bpmnModel, String imageType, String activityFontName, String labelFontName,
             String annotationFontName, ClassLoader customClassLoader, double scaleFactor,boolean drawSequenceFlowNameWithNoLabelDI);
 
+    /**
+     * Generates a diagram like {@link #generateDiagram(BpmnModel, String, List, List, String, String, String, ClassLoader, double, boolean)},
+     * but allows the generator to cache the diagram without highlights under the given cache key, so that only the highlights need to be drawn on every call.
+     * 
+     * The cache key needs to identify the model, e.g. the process definition id, as cached diagrams are not invalidated when the model changes.
+     * By default, the diagram is generated without using a cache.
+     * 
+     * @param cacheKey
+     *            identifies the bpmn model in the cache
+     */
+    default InputStream generateCachedDiagram(String cacheKey, BpmnModel bpmnModel, String imageType, List<String> highLightedActivities, List<String> highLightedFlows,
+            String activityFontName, String labelFontName, String annotationFontName, ClassLoader customClassLoader, double scaleFactor, boolean drawSequenceFlowNameWithNoLabelDI) {
+
+        return generateDiagram(bpmnModel, imageType, highLightedActivities, highLightedFlows, activityFontName, labelFontName, annotationFontName,
+                customClassLoader, scaleFactor, drawSequenceFlowNameWithNoLabelDI);
+    }
+
+    /**
+     * Writes the diagram with the given highlights as an SVG document to the given output stream.
+     * 
+     * The cache key needs to identify the model, e.g. the process definition id, as cached diagrams are not invalidated when the model changes.
+     * By default, a PNG diagram is generated with {@link #generateCachedDiagram(String, BpmnModel, String, List, List, String, String, String, ClassLoader, double, boolean)}
+     * and embedded in the document.
+     * 
+     * @param cacheKey
+     *            identifies the bpmn model in the cache
+     * @param outputStream
+     *            the stream the document is written to, which is not closed
+     */
+    default void writeSvgDiagram(String cacheKey, BpmnModel bpmnModel, List<String> highLightedActivities, List<String> highLightedFlows,
+            String activityFontName, String labelFontName, String annotationFontName, ClassLoader customClassLoader, double scaleFactor,
+            boolean drawSequenceFlowNameWithNoLabelDI, OutputStream outputStream) {
+
+        try (InputStream pngDiagram = generateCachedDiagram(cacheKey, bpmnModel, "png", highLightedActivities, highLightedFlows, activityFontName,
+                labelFontName, annotationFontName, customClassLoader, scaleFactor, drawSequenceFlowNameWithNoLabelDI)) {
+
+            ByteArrayOutputStream pngBytes = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = pngDiagram.read(buffer)) != -1) {
+                pngBytes.write(buffer, 0, read);
+            }
+            BufferedImage image = ImageIO.read(new ByteArrayInputStream(pngBytes.toByteArray()));
+
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            writer.write("<svg xmlns=\"http://www.w3.org/2000/svg\" xmlns:xlink=\"http://www.w3.org/1999/xlink\" width=\"" + image.getWidth()
+                    + "\" height=\"" + image.getHeight() + "\">\n");
+            writer.write("<image x=\"0\" y=\"0\" width=\"" + image.getWidth() + "\" height=\"" + image.getHeight()
+                    + "\" xlink:href=\"data:image/png;base64," + Base64.getEncoder().encodeToString(pngBytes.toByteArray()) + "\"/>\n");
+            writer.write("</svg>\n");
+            writer.flush();
+
+        } catch (IOException e) {
+            throw new FlowableImageException("Error while writing process diagram", e);
+        }
+    }
+
     public InputStream generatePngDiagram(BpmnModel bpmnModel,boolean drawSequenceFlowNameWithNoLabelDI);
 
     public InputStream generatePngDiagram(BpmnModel bpmnModel, double scaleFactor,boolean drawSequenceFlowNameWithNoLabelDI);
@@ -0,0 +1,130 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.image.impl;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.imageio.ImageIO;
+
+import org.flowable.image.exception.FlowableImageException;
+
+/**
+ * A process diagram rendered without highlights, cached by the {@link DefaultProcessDiagramGenerator} so that the highlights
+ * of a process instance can be drawn on a copy of it instead of rendering the whole diagram again.
+ * 
+ * The image is cropped like {@link DefaultProcessDiagramCanvas#generateBufferedImage(String)} does, and the offset of the cropped image
+ * in the diagram is kept to draw the highlights at the right position.
+ * Besides the image, the points of the sequence flows are kept, as calculating them needs the complete diagram.
+ * The encoded image is created lazily and kept as well, so that diagrams without highlights are not encoded more than once.
+ */
+public class CachedProcessDiagram {
+
+    protected BufferedImage image;
+    protected String imageType;
+    protected int offsetX;
+    protected int offsetY;
+    protected Map<String, int[][]> sequenceFlowPoints = new HashMap<>();
+
+    protected volatile byte[] encodedImage;
+    protected volatile String base64EncodedImage;
+
+    /**
+     * @param image
+     *            the cropped diagram, which is copied so that the cache does not keep the complete canvas when it is a sub image of it
+     * @param offsetX
+     *            the x coordinate in the diagram of the left edge of the image
+     * @param offsetY
+     *            the y coordinate in the diagram of the top edge of the image
+     */
+    public CachedProcessDiagram(BufferedImage image, String imageType, int offsetX, int offsetY) {
+        this.image = copy(image);
+        this.imageType = imageType;
+        this.offsetX = offsetX;
+        this.offsetY = offsetY;
+    }
+
+    /**
+     * Returns a copy of the cached image, which can be drawn on without changing the cached image.
+     */
+    public BufferedImage copyImage() {
+        return copy(image);
+    }
+
+    public byte[] getEncodedImage() {
+        if (encodedImage == null) {
+            encodedImage = encode(image, imageType);
+        }
+        return encodedImage;
+    }
+
+    public String getBase64EncodedImage() {
+        if (base64EncodedImage == null) {
+            base64EncodedImage = Base64.getEncoder().encodeToString(getEncodedImage());
+        }
+        return base64EncodedImage;
+    }
+
+    public void addSequenceFlowPoints(String sequenceFlowId, int[] xPoints, int[] yPoints) {
+        sequenceFlowPoints.put(sequenceFlowId, new int[][] { xPoints, yPoints });
+    }
+
+    /**
+     * Returns the x points (index 0) and y points (index 1) of the given sequence flow,
+     * or null when the sequence flow has no diagram interchange information.
+     */
+    public int[][] getSequenceFlowPoints(String sequenceFlowId) {
+        return sequenceFlowPoints.get(sequenceFlowId);
+    }
+
+    public int getWidth() {
+        return image.getWidth();
+    }
+
+    public int getHeight() {
+        return image.getHeight();
+    }
+
+    public String getImageType() {
+        return imageType;
+    }
+
+    public int getOffsetX() {
+        return offsetX;
+    }
+
+    public int getOffsetY() {
+        return offsetY;
+    }
+
+    protected static BufferedImage copy(BufferedImage image) {
+        BufferedImage copy = new BufferedImage(image.getWidth(), image.getHeight(), image.getType());
+        image.copyData(copy.getRaster());
+        return copy;
+    }
+
+    protected static byte[] encode(BufferedImage image, String imageType) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            ImageIO.write(image, imageType, out);
+        } catch (IOException e) {
+            throw new FlowableImageException("Error while generating process image", e);
+        }
+        return out.toByteArray();
+    }
+
+}
@@ -198,6 +198,37 @@ public class DefaultProcessDiagramCanvas {
         initialize(imageType);
     }
 
+    /**
+     * Creates a canvas that draws on top of the given image, e.g. to draw highlights on a copy of a cached diagram.
+     * The image can be a cropped part of the diagram: the diagram coordinates are translated by the given offset,
+     * and the image is not cropped any further when generating it.
+     * 
+     * The icon images are not loaded, so only shapes, connections and text can be drawn on this canvas.
+     * 
+     * @param offsetX
+     *            the x coordinate in the diagram of the left edge of the image
+     * @param offsetY
+     *            the y coordinate in the diagram of the top edge of the image
+     */
+    public DefaultProcessDiagramCanvas(BufferedImage image, int offsetX, int offsetY, String activityFontName, String labelFontName, String annotationFontName) {
+        this.processDiagram = image;
+        this.canvasWidth = image.getWidth();
+        this.canvasHeight = image.getHeight();
+        if (activityFontName != null) {
+            this.activityFontName = activityFontName;
+        }
+        if (labelFontName != null) {
+            this.labelFontName = labelFontName;
+        }
+        if (annotationFontName != null) {
+            this.annotationFontName = annotationFontName;
+        }
+
+        this.g = processDiagram.createGraphics();
+        this.g.translate(-offsetX, -offsetY);
+        initializeGraphics();
+    }
+
     public void initialize(String imageType) {
         if ("png".equalsIgnoreCase(imageType)) {
             this.processDiagram = new BufferedImage(canvasWidth, canvasHeight, BufferedImage.TYPE_INT_ARGB);
@@ -211,15 +242,7 @@ public class DefaultProcessDiagramCanvas {
             this.g.clearRect(0, 0, canvasWidth, canvasHeight);
         }
 
-        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-        g.setPaint(Color.black);
-
-        Font font = new Font(activityFontName, Font.BOLD, FONT_SIZE);
-        g.setFont(font);
-        this.fontMetrics = g.getFontMetrics();
-
-        LABEL_FONT = new Font(labelFontName, Font.ITALIC, 10);
-        ANNOTATION_FONT = new Font(annotationFontName, Font.PLAIN, FONT_SIZE);
+        initializeGraphics();
 
         try {
             USERTASK_IMAGE = ImageIO.read(ReflectUtil.getResource("org/flowable/icons/userTask.png", customClassLoader));
@@ -253,6 +276,18 @@ public class DefaultProcessDiagramCanvas {
         }
     }
 
+    protected void initializeGraphics() {
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g.setPaint(Color.black);
+
+        Font font = new Font(activityFontName, Font.BOLD, FONT_SIZE);
+        g.setFont(font);
+        this.fontMetrics = g.getFontMetrics();
+
+        LABEL_FONT = new Font(labelFontName, Font.ITALIC, 10);
+        ANNOTATION_FONT = new Font(annotationFontName, Font.PLAIN, FONT_SIZE);
+    }
+
     /**
      * Generates an image of what currently is drawn on the canvas.
      * 
@@ -299,6 +334,14 @@ public class DefaultProcessDiagramCanvas {
         return imageToSerialize;
     }
 
+    public int getMinX() {
+        return minX;
+    }
+
+    public int getMinY() {
+        return minY;
+    }
+
     /**
      * Closes the canvas which disallows further drawing and releases graphical resources.
      */
@@ -13,11 +13,21 @@
 
 package org.flowable.image.impl;
 
+import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
+import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 
@@ -73,6 +83,7 @@ import org.flowable.bpmn.model.TimerEventDefinition;
 import org.flowable.bpmn.model.Transaction;
 import org.flowable.bpmn.model.UserTask;
 import org.flowable.image.ProcessDiagramGenerator;
+import org.flowable.image.exception.FlowableImageException;
 
 /**
  * Class to generate an image based the diagram interchange information in a BPMN 2.0 process.
@@ -84,9 +95,24 @@ import org.flowable.image.ProcessDiagramGenerator;
  */
 public class DefaultProcessDiagramGenerator implements ProcessDiagramGenerator {
 
+    protected static final String SVG_HIGHLIGHT_COLOR = "#ff0000";
+
     protected Map<Class<? extends BaseElement>, ActivityDrawInstruction> activityDrawInstructions = new HashMap<>();
     protected Map<Class<? extends BaseElement>, ArtifactDrawInstruction> artifactDrawInstructions = new HashMap<>();
 
+    // Diagrams without highlights, cached by generateCachedDiagram and writeSvgDiagram
+    protected int diagramCacheLimit = 100;
+    protected Map<String, CachedProcessDiagram> diagramCache = Collections.synchronizedMap(new LinkedHashMap<String, CachedProcessDiagram>(16, 0.75f, true) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedProcessDiagram> eldest) {
+            return size() > diagramCacheLimit;
+        }
+
+    });
+
     public DefaultProcessDiagramGenerator() {
         this(1.0);
     }
@@ -588,6 +614,186 @@ public class DefaultProcessDiagramGenerator implements ProcessDiagramGenerator {
         return generateImage(bpmnModel, "png", Collections.<String>emptyList(), Collections.<String>emptyList(), scaleFactor,false);
     }
 
+    /**
+     * Renders the diagram without highlights only once per cache key, image type, scale factor and fonts.
+     * The highlights are drawn on a copy of the cached diagram on every call.
+     * 
+     * The white space around the diagram is cropped like {@link #generateImage(BpmnModel, String, List, List, String, String, String, ClassLoader, double, boolean)}
+     * does, with or without highlights.
+     */
+    @Override
+    public InputStream generateCachedDiagram(String cacheKey, BpmnModel bpmnModel, String imageType, List<String> highLightedActivities, List<String> highLightedFlows,
+            String activityFontName, String labelFontName, String annotationFontName, ClassLoader customClassLoader, double scaleFactor, boolean drawSequenceFlowNameWithNoLabelDI) {
+
+        CachedProcessDiagram cachedDiagram = getCachedDiagram(cacheKey, bpmnModel, imageType, activityFontName, labelFontName, annotationFontName,
+                customClassLoader, scaleFactor, drawSequenceFlowNameWithNoLabelDI);
+
+        if (highLightedActivities.isEmpty() && highLightedFlows.isEmpty()) {
+            return new ByteArrayInputStream(cachedDiagram.getEncodedImage());
+        }
+
+        prepareBpmnModel(bpmnModel);
+
+        DefaultProcessDiagramCanvas processDiagramCanvas = new DefaultProcessDiagramCanvas(cachedDiagram.copyImage(), cachedDiagram.getOffsetX(), cachedDiagram.getOffsetY(),
+                activityFontName, labelFontName, annotationFontName);
+        try {
+            for (GraphicInfo graphicInfo : getHighLightGraphicInfos(bpmnModel, highLightedActivities)) {
+                drawHighLight(processDiagramCanvas, graphicInfo);
+            }
+
+            for (String sequenceFlowId : new LinkedHashSet<>(highLightedFlows)) {
+                int[][] points = cachedDiagram.getSequenceFlowPoints(sequenceFlowId);
+                if (points != null) {
+                    SequenceFlow sequenceFlow = (SequenceFlow) bpmnModel.getFlowElement(sequenceFlowId);
+                    FlowNode flowNode = (FlowNode) bpmnModel.getFlowElement(sequenceFlow.getSourceRef());
+                    processDiagramCanvas.drawSequenceflow(points[0], points[1], hasConditionalIndicator(flowNode, sequenceFlow),
+                            isDefaultFlow(flowNode, sequenceFlow), true, scaleFactor);
+                }
+            }
+
+            return processDiagramCanvas.generateImage(imageType);
+
+        } finally {
+            processDiagramCanvas.close();
+        }
+    }
+
+    /**
+     * Writes the diagram as an SVG document to the given output stream, without creating an image for every call:
+     * the diagram without highlights is cached as an encoded PNG image, which is embedded in the document,
+     * and the highlights are written as SVG shapes on top of it.
+     * 
+     * The cache key needs to identify the model, e.g. the process definition id, as cached diagrams are not invalidated when the model changes.
+     */
+    @Override
+    public void writeSvgDiagram(String cacheKey, BpmnModel bpmnModel, List<String> highLightedActivities, List<String> highLightedFlows,
+            String activityFontName, String labelFontName, String annotationFontName, ClassLoader customClassLoader, double scaleFactor,
+            boolean drawSequenceFlowNameWithNoLabelDI, OutputStream outputStream) {
+
+        CachedProcessDiagram cachedDiagram = getCachedDiagram(cacheKey, bpmnModel, "png", activityFontName, labelFontName, annotationFontName,
+                customClassLoader, scaleFactor, drawSequenceFlowNameWithNoLabelDI);
+
+        prepareBpmnModel(bpmnModel);
+
+        try {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            writer.write("<svg xmlns=\"http://www.w3.org/2000/svg\" xmlns:xlink=\"http://www.w3.org/1999/xlink\" width=\"" + cachedDiagram.getWidth()
+                    + "\" height=\"" + cachedDiagram.getHeight() + "\">\n");
+            writer.write("<image x=\"0\" y=\"0\" width=\"" + cachedDiagram.getWidth() + "\" height=\"" + cachedDiagram.getHeight()
+                    + "\" xlink:href=\"data:image/png;base64,");
+            writer.write(cachedDiagram.getBase64EncodedImage());
+            writer.write("\"/>\n");
+
+            // The embedded image is cropped, so the highlights are moved by the offset of the image in the diagram
+            writer.write("<g transform=\"translate(" + -cachedDiagram.getOffsetX() + "," + -cachedDiagram.getOffsetY() + ")\">\n");
+            for (GraphicInfo graphicInfo : getHighLightGraphicInfos(bpmnModel, highLightedActivities)) {
+                writer.write("<rect x=\"" + (int) graphicInfo.getX() + "\" y=\"" + (int) graphicInfo.getY() + "\" width=\"" + (int) graphicInfo.getWidth()
+                        + "\" height=\"" + (int) graphicInfo.getHeight() + "\" rx=\"10\" ry=\"10\" fill=\"none\" stroke=\"" + SVG_HIGHLIGHT_COLOR + "\" stroke-width=\"3\"/>\n");
+            }
+
+            for (String sequenceFlowId : new LinkedHashSet<>(highLightedFlows)) {
+                int[][] points = cachedDiagram.getSequenceFlowPoints(sequenceFlowId);
+                if (points != null) {
+                    writeSvgSequenceFlow(writer, points[0], points[1], scaleFactor);
+                }
+            }
+            writer.write("</g>\n");
+
+            writer.write("</svg>\n");
+            writer.flush();
+
+        } catch (IOException e) {
+            throw new FlowableImageException("Error while writing process diagram", e);
+        }
+    }
+
+    protected void writeSvgSequenceFlow(Writer writer, int[] xPoints, int[] yPoints, double scaleFactor) throws IOException {
+        StringBuilder points = new StringBuilder();
+        for (int i = 0; i < xPoints.length; i++) {
+            points.append(xPoints[i]).append(',').append(yPoints[i]).append(' ');
+        }
+        writer.write("<polyline points=\"" + points.toString().trim() + "\" fill=\"none\" stroke=\"" + SVG_HIGHLIGHT_COLOR + "\" stroke-width=\"1.3\"/>\n");
+
+        // Same arrow head as drawn by DefaultProcessDiagramCanvas#drawArrowHead
+        int last = xPoints.length - 1;
+        double arrowWidth = Math.max(1, (int) (DefaultProcessDiagramCanvas.ARROW_WIDTH / scaleFactor));
+        double arrowLength = Math.max(2, (int) (2 * DefaultProcessDiagramCanvas.ARROW_WIDTH / scaleFactor));
+        double[] arrowHead = new double[] { 0, 0, -arrowWidth, -arrowLength, arrowWidth, -arrowLength };
+
+        AffineTransform transformation = new AffineTransform();
+        transformation.translate(xPoints[last], yPoints[last]);
+        transformation.rotate(Math.atan2(yPoints[last] - yPoints[last - 1], xPoints[last] - xPoints[last - 1]) - Math.PI / 2d);
+        transformation.transform(arrowHead, 0, arrowHead, 0, 3);
+
+        writer.write("<polygon points=\"" + arrowHead[0] + "," + arrowHead[1] + " " + arrowHead[2] + "," + arrowHead[3] + " " + arrowHead[4] + "," + arrowHead[5]
+                + "\" fill=\"" + SVG_HIGHLIGHT_COLOR + "\"/>\n");
+    }
+
+    protected CachedProcessDiagram getCachedDiagram(String cacheKey, BpmnModel bpmnModel, String imageType,
+            String activityFontName, String labelFontName, String annotationFontName, ClassLoader customClassLoader, double scaleFactor, boolean drawSequenceFlowNameWithNoLabelDI) {
+
+        String diagramKey = cacheKey + "|" + imageType + "|" + scaleFactor + "|" + activityFontName + "|" + labelFontName + "|" + annotationFontName
+                + "|" + drawSequenceFlowNameWithNoLabelDI;
+        CachedProcessDiagram cachedDiagram = diagramCache.get(diagramKey);
+        if (cachedDiagram == null) {
+            DefaultProcessDiagramCanvas processDiagramCanvas = generateProcessDiagram(bpmnModel, imageType, Collections.<String>emptyList(), Collections.<String>emptyList(),
+                    activityFontName, labelFontName, annotationFontName, customClassLoader, scaleFactor, drawSequenceFlowNameWithNoLabelDI);
+            // Cropping adjusts the min x and y of the canvas to the top left corner of the cropped image, minus a margin of 5
+            BufferedImage image = processDiagramCanvas.generateBufferedImage(imageType);
+            processDiagramCanvas.close();
+
+            cachedDiagram = new CachedProcessDiagram(image, imageType, processDiagramCanvas.getMinX() - 5, processDiagramCanvas.getMinY() - 5);
+
+            // The sequence flow points have been made to fit the shapes while drawing the diagram
+            for (FlowNode flowNode : gatherAllFlowNodes(bpmnModel)) {
+                if (isPartOfCollapsedSubProcess(flowNode, bpmnModel)) {
+                    continue;
+                }
+                for (SequenceFlow sequenceFlow : flowNode.getOutgoingFlows()) {
+                    List<GraphicInfo> graphicInfoList = bpmnModel.getFlowLocationGraphicInfo(sequenceFlow.getId());
+                    if (graphicInfoList != null && graphicInfoList.size() > 1) {
+                        int[] xPoints = new int[graphicInfoList.size()];
+                        int[] yPoints = new int[graphicInfoList.size()];
+                        for (int i = 0; i < graphicInfoList.size(); i++) {
+                            xPoints[i] = (int) graphicInfoList.get(i).getX();
+                            yPoints[i] = (int) graphicInfoList.get(i).getY();
+                        }
+                        cachedDiagram.addSequenceFlowPoints(sequenceFlow.getId(), xPoints, yPoints);
+                    }
+                }
+            }
+
+            diagramCache.put(diagramKey, cachedDiagram);
+        }
+        return cachedDiagram;
+    }
+
+    /**
+     * Returns the graphic info of the highlighted activities that are visible in the diagram, without duplicates.
+     */
+    protected List<GraphicInfo> getHighLightGraphicInfos(BpmnModel bpmnModel, List<String> highLightedActivities) {
+        List<GraphicInfo> graphicInfos = new ArrayList<>();
+        for (String activityId : new LinkedHashSet<>(highLightedActivities)) {
+            FlowElement flowElement = bpmnModel.getFlowElement(activityId);
+            if (flowElement instanceof FlowNode && activityDrawInstructions.containsKey(flowElement.getClass())
+                    && !isPartOfCollapsedSubProcess(flowElement, bpmnModel)) {
+
+                GraphicInfo graphicInfo = bpmnModel.getGraphicInfo(activityId);
+                if (graphicInfo != null) {
+                    graphicInfos.add(graphicInfo);
+                }
+            }
+        }
+        return graphicInfos;
+    }
+
+    /**
+     * Removes all cached diagrams.
+     */
+    public void clearDiagramCache() {
+        diagramCache.clear();
+    }
+
     protected DefaultProcessDiagramCanvas generateProcessDiagram(BpmnModel bpmnModel, String imageType,
             List<String> highLightedActivities, List<String> highLightedFlows,
             String activityFontName, String labelFontName, String annotationFontName, ClassLoader customClassLoader, double scaleFactor,boolean drawSequenceFlowNameWithNoLabelDI) {
@@ -755,18 +961,8 @@ public class DefaultProcessDiagramGenerator implements ProcessDiagramGenerator {
         // Outgoing transitions of activity
         for (SequenceFlow sequenceFlow : flowNode.getOutgoingFlows()) {
             boolean highLighted = (highLightedFlows.contains(sequenceFlow.getId()));
-            String defaultFlow = null;
-            if (flowNode instanceof Activity) {
-                defaultFlow = ((Activity) flowNode).getDefaultFlow();
-            } else if (flowNode instanceof Gateway) {
-                defaultFlow = ((Gateway) flowNode).getDefaultFlow();
-            }
-
-            boolean isDefault = false;
-            if (defaultFlow != null && defaultFlow.equalsIgnoreCase(sequenceFlow.getId())) {
-                isDefault = true;
-            }
-            boolean drawConditionalIndicator = sequenceFlow.getConditionExpression() != null && sequenceFlow.getConditionExpression().trim().length() > 0 && !(flowNode instanceof Gateway);
+            boolean isDefault = isDefaultFlow(flowNode, sequenceFlow);
+            boolean drawConditionalIndicator = hasConditionalIndicator(flowNode, sequenceFlow);
 
             String sourceRef = sequenceFlow.getSourceRef();
             String targetRef = sequenceFlow.getTargetRef();
@@ -818,6 +1014,20 @@ public class DefaultProcessDiagramGenerator implements ProcessDiagramGenerator {
         }
     }
 
+    protected static boolean isDefaultFlow(FlowNode flowNode, SequenceFlow sequenceFlow) {
+        String defaultFlow = null;
+        if (flowNode instanceof Activity) {
+            defaultFlow = ((Activity) flowNode).getDefaultFlow();
+        } else if (flowNode instanceof Gateway) {
+            defaultFlow = ((Gateway) flowNode).getDefaultFlow();
+        }
+        return defaultFlow != null && defaultFlow.equalsIgnoreCase(sequenceFlow.getId());
+    }
+
+    protected static boolean hasConditionalIndicator(FlowNode flowNode, SequenceFlow sequenceFlow) {
+        return sequenceFlow.getConditionExpression() != null && sequenceFlow.getConditionExpression().trim().length() > 0 && !(flowNode instanceof Gateway);
+    }
+
     /**
      * This method makes coordinates of connection flow better.
      * 
@@ -1108,6 +1318,14 @@ public class DefaultProcessDiagramGenerator implements ProcessDiagramGenerator {
         return false;
     }
 
+    public int getDiagramCacheLimit() {
+        return diagramCacheLimit;
+    }
+
+    public void setDiagramCacheLimit(int diagramCacheLimit) {
+        this.diagramCacheLimit = diagramCacheLimit;
+    }
+
     public Map<Class<? extends BaseElement>, ActivityDrawInstruction> getActivityDrawInstructions() {
         return activityDrawInstructions;
     }
@@ -0,0 +1,213 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.image.impl;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.imageio.ImageIO;
+
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.bpmn.model.EndEvent;
+import org.flowable.bpmn.model.FlowNode;
+import org.flowable.bpmn.model.GraphicInfo;
+import org.flowable.bpmn.model.Process;
+import org.flowable.bpmn.model.SequenceFlow;
+import org.flowable.bpmn.model.StartEvent;
+import org.flowable.bpmn.model.UserTask;
+import org.junit.Test;
+
+public class DefaultProcessDiagramGeneratorTest {
+
+    protected DefaultProcessDiagramGenerator diagramGenerator = new DefaultProcessDiagramGenerator();
+
+    @Test
+    public void testCachedDiagramWithoutHighlights() throws IOException {
+        List<String> noHighlights = Collections.emptyList();
+        byte[] cachedDiagram = readBytes(diagramGenerator.generateCachedDiagram("oneTask", createBpmnModel(), "png", noHighlights, noHighlights,
+                null, null, null, null, 1.0, false));
+
+        // Cropped like the uncached image
+        BufferedImage uncachedImage = diagramGenerator.generateImage(createBpmnModel(), "png", noHighlights, noHighlights, 1.0, false);
+        assertSameImage(uncachedImage, ImageIO.read(new ByteArrayInputStream(cachedDiagram)));
+
+        // The second call returns the cached diagram, even for another instance of the model
+        assertArrayEquals(cachedDiagram, readBytes(diagramGenerator.generateCachedDiagram("oneTask", createBpmnModel(), "png", noHighlights, noHighlights,
+                null, null, null, null, 1.0, false)));
+        assertEquals(1, diagramGenerator.diagramCache.size());
+    }
+
+    @Test
+    public void testCachedDiagramWithHighlights() throws IOException {
+        List<String> highLightedActivities = Collections.singletonList("task");
+        List<String> highLightedFlows = Collections.singletonList("flow1");
+        BufferedImage cachedImage = ImageIO.read(diagramGenerator.generateCachedDiagram("oneTask", createBpmnModel(), "png", highLightedActivities,
+                highLightedFlows, null, null, null, null, 1.0, false));
+
+        // The highlighted sequence flow is drawn over the cached one instead of in its place, which only changes its anti-aliased edges,
+        // while a highlight drawn at another position would change thousands of pixels
+        BufferedImage uncachedImage = diagramGenerator.generateImage(createBpmnModel(), "png", highLightedActivities, highLightedFlows, 1.0, false);
+        assertEquals(uncachedImage.getWidth(), cachedImage.getWidth());
+        assertEquals(uncachedImage.getHeight(), cachedImage.getHeight());
+        assertTrue(countDifferentPixels(uncachedImage, cachedImage) < 100);
+
+        // The highlights are drawn on a copy of the cached diagram
+        List<String> noHighlights = Collections.emptyList();
+        BufferedImage imageWithoutHighlights = ImageIO.read(diagramGenerator.generateCachedDiagram("oneTask", createBpmnModel(), "png", noHighlights,
+                noHighlights, null, null, null, null, 1.0, false));
+        assertSameImage(diagramGenerator.generateImage(createBpmnModel(), "png", noHighlights, noHighlights, 1.0, false), imageWithoutHighlights);
+        assertEquals(1, diagramGenerator.diagramCache.size());
+    }
+
+    @Test
+    public void testDiagramCacheLimit() throws IOException {
+        diagramGenerator.setDiagramCacheLimit(2);
+        List<String> noHighlights = Collections.emptyList();
+        for (String cacheKey : Arrays.asList("a", "b", "a", "c")) {
+            readBytes(diagramGenerator.generateCachedDiagram(cacheKey, createBpmnModel(), "png", noHighlights, noHighlights, null, null, null, null, 1.0, false));
+        }
+
+        // The least recently used diagram is removed
+        List<String> cacheKeys = new ArrayList<>();
+        for (String diagramKey : diagramGenerator.diagramCache.keySet()) {
+            cacheKeys.add(diagramKey.substring(0, diagramKey.indexOf('|')));
+        }
+        assertEquals(Arrays.asList("a", "c"), cacheKeys);
+
+        diagramGenerator.clearDiagramCache();
+        assertTrue(diagramGenerator.diagramCache.isEmpty());
+    }
+
+    @Test
+    public void testSvgDiagram() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        diagramGenerator.writeSvgDiagram("oneTask", createBpmnModel(), Collections.singletonList("task"), Collections.singletonList("flow1"),
+                null, null, null, null, 1.0, false, outputStream);
+        String svg = new String(outputStream.toByteArray(), StandardCharsets.UTF_8);
+
+        // The embedded image is the cached diagram without highlights
+        Matcher imageMatcher = Pattern.compile("xlink:href=\"data:image/png;base64,([^\"]+)\"").matcher(svg);
+        assertTrue(imageMatcher.find());
+        byte[] embeddedImage = Base64.getDecoder().decode(imageMatcher.group(1));
+        List<String> noHighlights = Collections.emptyList();
+        assertArrayEquals(readBytes(diagramGenerator.generateCachedDiagram("oneTask", createBpmnModel(), "png", noHighlights, noHighlights,
+                null, null, null, null, 1.0, false)), embeddedImage);
+
+        // The highlight of the task is drawn at the same position in the embedded image as in the highlighted PNG diagram
+        Matcher translateMatcher = Pattern.compile("translate\\((-?\\d+),(-?\\d+)\\)").matcher(svg);
+        assertTrue(translateMatcher.find());
+        Matcher rectMatcher = Pattern.compile("<rect x=\"(\\d+)\" y=\"(\\d+)\" width=\"(\\d+)\" height=\"(\\d+)\"").matcher(svg);
+        assertTrue(rectMatcher.find());
+        int x = Integer.parseInt(rectMatcher.group(1)) + Integer.parseInt(translateMatcher.group(1));
+        int y = Integer.parseInt(rectMatcher.group(2)) + Integer.parseInt(translateMatcher.group(2)) + Integer.parseInt(rectMatcher.group(4)) / 2;
+
+        BufferedImage highlightedImage = ImageIO.read(diagramGenerator.generateCachedDiagram("oneTask", createBpmnModel(), "png",
+                Collections.singletonList("task"), noHighlights, null, null, null, null, 1.0, false));
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(embeddedImage));
+        assertTrue(isHighlighted(highlightedImage.getRGB(x, y)));
+        assertFalse(isHighlighted(image.getRGB(x, y)));
+        assertEquals(image.getWidth(), highlightedImage.getWidth());
+        assertTrue(svg.contains("width=\"" + image.getWidth() + "\" height=\"" + image.getHeight() + "\""));
+    }
+
+    protected BpmnModel createBpmnModel() {
+        Process process = new Process();
+        process.setId("oneTask");
+
+        StartEvent startEvent = new StartEvent();
+        startEvent.setId("start");
+        UserTask userTask = new UserTask();
+        userTask.setId("task");
+        userTask.setName("Task");
+        EndEvent endEvent = new EndEvent();
+        endEvent.setId("end");
+        process.addFlowElement(startEvent);
+        process.addFlowElement(userTask);
+        process.addFlowElement(endEvent);
+
+        BpmnModel bpmnModel = new BpmnModel();
+        bpmnModel.addProcess(process);
+        bpmnModel.addGraphicInfo("start", new GraphicInfo(100, 115, 30, 30));
+        bpmnModel.addGraphicInfo("task", new GraphicInfo(180, 100, 60, 100));
+        bpmnModel.addGraphicInfo("end", new GraphicInfo(330, 116, 28, 28));
+
+        addSequenceFlow(bpmnModel, process, "flow1", startEvent, userTask, new GraphicInfo(130, 130, 0, 0), new GraphicInfo(180, 130, 0, 0));
+        addSequenceFlow(bpmnModel, process, "flow2", userTask, endEvent, new GraphicInfo(280, 130, 0, 0), new GraphicInfo(330, 130, 0, 0));
+        return bpmnModel;
+    }
+
+    protected void addSequenceFlow(BpmnModel bpmnModel, Process process, String id, FlowNode source, FlowNode target, GraphicInfo... waypoints) {
+        SequenceFlow sequenceFlow = new SequenceFlow(source.getId(), target.getId());
+        sequenceFlow.setId(id);
+        process.addFlowElement(sequenceFlow);
+        source.getOutgoingFlows().add(sequenceFlow);
+        target.getIncomingFlows().add(sequenceFlow);
+        bpmnModel.addFlowGraphicInfoList(id, new ArrayList<>(Arrays.asList(waypoints)));
+    }
+
+    protected void assertSameImage(BufferedImage expectedImage, BufferedImage image) {
+        assertEquals(expectedImage.getWidth(), image.getWidth());
+        assertEquals(expectedImage.getHeight(), image.getHeight());
+        for (int x = 0; x < image.getWidth(); x++) {
+            for (int y = 0; y < image.getHeight(); y++) {
+                assertEquals("pixel " + x + "," + y, expectedImage.getRGB(x, y), image.getRGB(x, y));
+            }
+        }
+    }
+
+    protected int countDifferentPixels(BufferedImage expectedImage, BufferedImage image) {
+        int differentPixels = 0;
+        for (int x = 0; x < image.getWidth(); x++) {
+            for (int y = 0; y < image.getHeight(); y++) {
+                if (expectedImage.getRGB(x, y) != image.getRGB(x, y)) {
+                    differentPixels++;
+                }
+            }
+        }
+        return differentPixels;
+    }
+
+    protected boolean isHighlighted(int rgb) {
+        int red = (rgb >> 16) & 0xff;
+        int green = (rgb >> 8) & 0xff;
+        int blue = rgb & 0xff;
+        return red > 200 && green < 100 && blue < 100;
+    }
+
+    protected byte[] readBytes(InputStream inputStream) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        int read;
+        while ((read = inputStream.read(buffer)) != -1) {
+            outputStream.write(buffer, 0, read);
+        }
+        return outputStream.toByteArray();
+    }
+
+}
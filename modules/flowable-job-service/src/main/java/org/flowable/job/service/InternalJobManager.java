@@ -36,5 +36,14 @@ public interface InternalJobManager {
     void preTimerJobDelete(JobEntity jobEntity, VariableScope variableScope);
     
     void preRepeatedTimerSchedule(TimerJobEntity timerJobEntity, VariableScope variableScope);
+
+    /**
+     * Whether timer jobs can be moved to executable jobs with set-based statements.
+     * {@link #handleJobInsert(Job)} is still called for every executable job before the statements are executed,
+     * but {@link #handleJobDelete(Job)} is not called for the deleted timer jobs.
+     */
+    default boolean canMoveTimerJobsInBulk() {
+        return false;
+    }
     
 }
@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.job.api.DeadLetterJobQuery;
@@ -89,4 +90,10 @@ public interface JobService {
     void deleteSuspendedJobsByExecutionId(String executionId);
     
     void deleteDeadLetterJobsByExecutionId(String executionId);
+
+    /**
+     * Deletes the (timer, suspended and deadletter) jobs of the given process instances and their byte arrays with set-based deletes.
+     * No events are dispatched, so this should only be used when nothing needs to be notified of the individual jobs being deleted.
+     */
+    void deleteJobsByProcessInstanceIds(Collection<String> processInstanceIds);
 }
@@ -29,6 +29,7 @@ import org.flowable.job.service.event.impl.FlowableJobEventBuilder;
 import org.flowable.job.service.impl.persistence.entity.AbstractRuntimeJobEntity;
 import org.flowable.job.service.impl.persistence.entity.DeadLetterJobEntity;
 import org.flowable.job.service.impl.persistence.entity.DeadLetterJobEntityManager;
+import org.flowable.job.service.impl.persistence.entity.JobByteArrayEntityManager;
 import org.flowable.job.service.impl.persistence.entity.JobEntity;
 import org.flowable.job.service.impl.persistence.entity.JobEntityManager;
 import org.flowable.job.service.impl.persistence.entity.SuspendedJobEntity;
@@ -214,5 +215,21 @@ public class JobServiceImpl extends ServiceImpl implements JobService {
             }
         }
     }
+
+    @Override
+    public void deleteJobsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        // The byte array ids need to be fetched first, the jobs reference them with a foreign key
+        JobByteArrayEntityManager jobByteArrayEntityManager = configuration.getJobByteArrayEntityManager();
+        List<String> byteArrayIds = jobByteArrayEntityManager.findByteArrayIdsByProcessInstanceIds(processInstanceIds);
+
+        getJobEntityManager().deleteJobsByProcessInstanceIds(processInstanceIds);
+        getTimerJobEntityManager().deleteJobsByProcessInstanceIds(processInstanceIds);
+        getSuspendedJobEntityManager().deleteJobsByProcessInstanceIds(processInstanceIds);
+        getDeadLetterJobEntityManager().deleteJobsByProcessInstanceIds(processInstanceIds);
+
+        if (!byteArrayIds.isEmpty()) {
+            jobByteArrayEntityManager.deleteByteArraysByIds(byteArrayIds);
+        }
+    }
     
 }
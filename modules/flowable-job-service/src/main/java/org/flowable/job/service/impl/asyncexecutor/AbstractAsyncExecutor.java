@@ -54,6 +54,10 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
     protected int maxTimerJobsPerAcquisition = 1;
     protected int maxAsyncJobsDuePerAcquisition = 1;
     protected int defaultTimerJobAcquireWaitTimeInMillis = 10 * 1000;
+    protected int timerLookAheadTimeInMillis;
+    protected int timerWheelTickDurationInMillis = 10;
+    protected int maxTimerJobsPerBacklogAcquisition;
+    protected int timerJobBulkMoveThreshold;
     protected int defaultAsyncJobAcquireWaitTimeInMillis = 10 * 1000;
     protected int defaultQueueSizeFullWaitTime;
 
@@ -139,6 +143,8 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
             String resetRunnableName = resetExpiredRunnableName != null ?
                     resetExpiredRunnableName : "flowable-" + getJobServiceConfiguration().getEngineName() + "-reset-expired-jobs";
             resetExpiredJobsRunnable = new ResetExpiredJobsRunnable(resetRunnableName, this, jobEntityManagerToUse);
+            // Only timers acquired ahead of time keep a lock, so the expired timer locks only need to be reset in look-ahead mode
+            resetExpiredJobsRunnable.setResetExpiredTimerJobs(timerRunnableNeeded && timerLookAheadTimeInMillis > 0);
         }
 
         if (!isMessageQueueMode && asyncJobsDueRunnable == null) {
@@ -283,6 +289,50 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
         this.defaultTimerJobAcquireWaitTimeInMillis = defaultTimerJobAcquireWaitTimeInMillis;
     }
 
+    @Override
+    public int getTimerLookAheadTimeInMillis() {
+        return timerLookAheadTimeInMillis;
+    }
+
+    @Override
+    public void setTimerLookAheadTimeInMillis(int timerLookAheadTimeInMillis) {
+        this.timerLookAheadTimeInMillis = timerLookAheadTimeInMillis;
+        if (timerLookAheadTimeInMillis > 0 && timerRunnableNeeded && resetExpiredJobsRunnable != null) {
+            // Enabled while running; it stays enabled when look-ahead is disabled again, as timers acquired ahead can still be locked
+            resetExpiredJobsRunnable.setResetExpiredTimerJobs(true);
+        }
+    }
+
+    @Override
+    public int getTimerWheelTickDurationInMillis() {
+        return timerWheelTickDurationInMillis;
+    }
+
+    @Override
+    public void setTimerWheelTickDurationInMillis(int timerWheelTickDurationInMillis) {
+        this.timerWheelTickDurationInMillis = timerWheelTickDurationInMillis;
+    }
+
+    @Override
+    public int getMaxTimerJobsPerBacklogAcquisition() {
+        return maxTimerJobsPerBacklogAcquisition;
+    }
+
+    @Override
+    public void setMaxTimerJobsPerBacklogAcquisition(int maxTimerJobsPerBacklogAcquisition) {
+        this.maxTimerJobsPerBacklogAcquisition = maxTimerJobsPerBacklogAcquisition;
+    }
+
+    @Override
+    public int getTimerJobBulkMoveThreshold() {
+        return timerJobBulkMoveThreshold;
+    }
+
+    @Override
+    public void setTimerJobBulkMoveThreshold(int timerJobBulkMoveThreshold) {
+        this.timerJobBulkMoveThreshold = timerJobBulkMoveThreshold;
+    }
+
     @Override
     public int getDefaultAsyncJobAcquireWaitTimeInMillis() {
         return defaultAsyncJobAcquireWaitTimeInMillis;
@@ -12,6 +12,14 @@
  */
 package org.flowable.job.service.impl.asyncexecutor;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.flowable.common.engine.api.FlowableOptimisticLockingException;
@@ -20,10 +28,22 @@ import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
 import org.flowable.job.service.impl.cmd.AcquireTimerJobsCmd;
 import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntityManager;
+import org.flowable.job.service.impl.util.CommandContextUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
+ * Runnable that periodically acquires the due timer jobs and moves them to the executable jobs.
+ *
+ * When a timer look-ahead time is configured on the {@link AsyncExecutor}, timer jobs that become due within that time are acquired as well.
+ * Those are kept in a {@link TimerJobTimingWheel} and moved at their due date, instead of at the next acquisition after their due date.
+ * The wheel hands the due timers to a separate thread that moves them, so a slow database doesn't delay the following ticks of the wheel.
+ * Their lock expires after the due date, so the timers of an executor that went down are released again by the {@link ResetExpiredJobsRunnable}.
+ *
+ * While acquisitions keep returning full pages, the page size grows up to {@link AsyncExecutor#getMaxTimerJobsPerBacklogAcquisition()},
+ * and large batches are moved with set-based statements once they reach {@link AsyncExecutor#getTimerJobBulkMoveThreshold()}.
+ * How late the timers are moved compared to their due date is kept in the {@link TimerJobLatenessStatistics}.
  * 
  * @author Tijs Rademakers
  */
@@ -31,6 +51,8 @@ public class AcquireTimerJobsRunnable implements Runnable {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(AcquireTimerJobsRunnable.class);
 
+    protected static final long MOVE_TERMINATION_WAIT_SECONDS = 10L;
+
     protected final AsyncExecutor asyncExecutor;
     protected final JobManager jobManager;
 
@@ -39,6 +61,12 @@ public class AcquireTimerJobsRunnable implements Runnable {
     protected final AtomicBoolean isWaiting = new AtomicBoolean(false);
 
     protected long millisToWait;
+    protected TimerJobTimingWheel timingWheel;
+    protected ExecutorService timerJobMoveExecutor;
+    protected final Object timingWheelLock = new Object();
+
+    protected int timerJobsPerAcquisition;
+    protected final TimerJobLatenessStatistics latenessStatistics = new TimerJobLatenessStatistics();
 
     public AcquireTimerJobsRunnable(AsyncExecutor asyncExecutor, JobManager jobManager) {
         this.asyncExecutor = asyncExecutor;
@@ -55,25 +83,25 @@ public class AcquireTimerJobsRunnable implements Runnable {
         while (!isInterrupted) {
 
             try {
-                final AcquiredTimerJobEntities acquiredJobs = commandExecutor.execute(new AcquireTimerJobsCmd(asyncExecutor));
-
-                commandExecutor.execute(new Command<Void>() {
-
-                    @Override
-                    public Void execute(CommandContext commandContext) {
-                        for (TimerJobEntity job : acquiredJobs.getJobs()) {
-                            jobManager.moveTimerJobToExecutableJob(job);
-                        }
-                        return null;
+                int lookAheadTimeInMillis = asyncExecutor.getTimerLookAheadTimeInMillis();
+                int maxTimerJobs = getTimerJobsPerAcquisition();
+                AcquiredTimerJobEntities acquiredJobs;
+                if (lookAheadTimeInMillis > 0) {
+                    acquiredJobs = acquireTimerJobsAhead(commandExecutor, lookAheadTimeInMillis, maxTimerJobs);
+                } else {
+                    acquiredJobs = commandExecutor.execute(new AcquireTimerJobsCmd(asyncExecutor, null, maxTimerJobs));
+                    if (acquiredJobs.size() > 0) {
+                        moveTimerJobsToExecutableJobs(new ArrayList<>(acquiredJobs.getJobs()));
                     }
-                });
+                }
 
                 // if all jobs were executed
                 millisToWait = asyncExecutor.getDefaultTimerJobAcquireWaitTimeInMillis();
                 int jobsAcquired = acquiredJobs.size();
-                if (jobsAcquired >= asyncExecutor.getMaxTimerJobsPerAcquisition()) {
+                if (jobsAcquired >= maxTimerJobs) {
                     millisToWait = 0;
                 }
+                updateTimerJobsPerAcquisition(jobsAcquired, maxTimerJobs);
 
             } catch (FlowableOptimisticLockingException optimisticLockingException) {
                 if (LOGGER.isDebugEnabled()) {
@@ -116,6 +144,132 @@ public class AcquireTimerJobsRunnable implements Runnable {
         LOGGER.info("stopped async job due acquisition");
     }
 
+    /**
+     * Acquires the timer jobs that are due within the look-ahead time. The ones that are already due are moved immediately,
+     * the others are scheduled on the timing wheel.
+     */
+    protected AcquiredTimerJobEntities acquireTimerJobsAhead(CommandExecutor commandExecutor, int lookAheadTimeInMillis, int maxTimerJobs) {
+        Date now = asyncExecutor.getJobServiceConfiguration().getClock().getCurrentTime();
+        AcquiredTimerJobEntities acquiredJobs = commandExecutor.execute(new AcquireTimerJobsCmd(asyncExecutor, new Date(now.getTime() + lookAheadTimeInMillis), maxTimerJobs));
+
+        TimerJobTimingWheel timingWheel = getOrCreateTimingWheel();
+        List<TimerJobEntity> dueJobs = new ArrayList<>();
+        for (TimerJobEntity job : acquiredJobs.getJobs()) {
+            if (job.getDuedate() == null || !job.getDuedate().after(now) || !timingWheel.schedule(job)) {
+                dueJobs.add(job);
+            }
+        }
+
+        if (!dueJobs.isEmpty()) {
+            moveTimerJobsToExecutableJobs(dueJobs);
+        }
+
+        return acquiredJobs;
+    }
+
+    /**
+     * The number of timer jobs to acquire next. This is {@link AsyncExecutor#getMaxTimerJobsPerAcquisition()},
+     * unless a backlog of due timers is being drained (see {@link #updateTimerJobsPerAcquisition(int, int)}).
+     */
+    protected int getTimerJobsPerAcquisition() {
+        int baseTimerJobs = Math.max(1, asyncExecutor.getMaxTimerJobsPerAcquisition());
+        if (timerJobsPerAcquisition < baseTimerJobs || asyncExecutor.getMaxTimerJobsPerBacklogAcquisition() <= baseTimerJobs) {
+            return baseTimerJobs;
+        }
+        return Math.min(timerJobsPerAcquisition, asyncExecutor.getMaxTimerJobsPerBacklogAcquisition());
+    }
+
+    /**
+     * Doubles the number of timer jobs to acquire next when a full page was acquired, as that indicates more timers are due.
+     * As soon as a page isn't full anymore, the regular number of timer jobs is acquired again.
+     */
+    protected void updateTimerJobsPerAcquisition(int jobsAcquired, int maxTimerJobs) {
+        int maxBacklogTimerJobs = asyncExecutor.getMaxTimerJobsPerBacklogAcquisition();
+        if (jobsAcquired >= maxTimerJobs && maxBacklogTimerJobs > maxTimerJobs) {
+            timerJobsPerAcquisition = (int) Math.min((long) maxTimerJobs * 2, maxBacklogTimerJobs);
+        } else {
+            timerJobsPerAcquisition = 0;
+        }
+    }
+
+    protected TimerJobTimingWheel getOrCreateTimingWheel() {
+        synchronized (timingWheelLock) {
+            if (timingWheel == null) {
+                String timingWheelName = "flowable-" + asyncExecutor.getJobServiceConfiguration().getEngineName() + "-timer-wheel";
+                timerJobMoveExecutor = Executors.newSingleThreadExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, timingWheelName + "-move");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+                timingWheel = new TimerJobTimingWheel(timingWheelName, asyncExecutor.getJobServiceConfiguration().getClock(),
+                        asyncExecutor.getTimerWheelTickDurationInMillis(), 512, this::scheduleMoveTimerJobsToExecutableJobs);
+                if (!isInterrupted) {
+                    timingWheel.start();
+                }
+            }
+            return timingWheel;
+        }
+    }
+
+    /**
+     * Called by the timing wheel with the timer jobs that became due. They are moved on the move thread, so the wheel can go on with the next tick
+     * while the database handles the move.
+     */
+    protected void scheduleMoveTimerJobsToExecutableJobs(List<TimerJobEntity> timerJobs) {
+        try {
+            timerJobMoveExecutor.execute(new MoveTimerJobsRunnable(timerJobs));
+        } catch (RejectedExecutionException e) {
+            // The wheel is being stopped, the timers are released when the wheel has stopped
+            LOGGER.debug("Moving {} due timer jobs was rejected, the timing wheel is stopping", timerJobs.size());
+        }
+    }
+
+    /**
+     * Moves the timer jobs to the executable jobs in one transaction, with set-based statements when there are at least
+     * {@link AsyncExecutor#getTimerJobBulkMoveThreshold()} timer jobs. When that fails, for example because one of the timers
+     * was deleted since it was acquired, the timer jobs are moved one by one.
+     */
+    protected void moveTimerJobsToExecutableJobs(List<TimerJobEntity> timerJobs) {
+        CommandExecutor commandExecutor = asyncExecutor.getJobServiceConfiguration().getCommandExecutor();
+        int bulkMoveThreshold = asyncExecutor.getTimerJobBulkMoveThreshold();
+        boolean bulkMove = bulkMoveThreshold > 0 && timerJobs.size() >= bulkMoveThreshold;
+        try {
+            commandExecutor.execute(new MoveTimerJobsToExecutableJobsCmd(timerJobs, bulkMove));
+            recordLateness(timerJobs);
+
+        } catch (Throwable t) {
+            if (timerJobs.size() == 1) {
+                logMoveTimerJobException(timerJobs.get(0), t);
+
+            } else {
+                for (TimerJobEntity timerJob : timerJobs) {
+                    try {
+                        List<TimerJobEntity> singleTimerJob = Collections.singletonList(timerJob);
+                        commandExecutor.execute(new MoveTimerJobsToExecutableJobsCmd(singleTimerJob));
+                        recordLateness(singleTimerJob);
+                    } catch (Throwable e) {
+                        logMoveTimerJobException(timerJob, e);
+                    }
+                }
+            }
+        }
+    }
+
+    protected void recordLateness(List<TimerJobEntity> timerJobs) {
+        Date now = asyncExecutor.getJobServiceConfiguration().getClock().getCurrentTime();
+        for (TimerJobEntity timerJob : timerJobs) {
+            latenessStatistics.record(timerJob.getDuedate(), now);
+        }
+    }
+
+    protected void logMoveTimerJobException(TimerJobEntity timerJob, Throwable t) {
+        if (t instanceof FlowableOptimisticLockingException) {
+            LOGGER.debug("Timer job {} was changed or deleted after it was acquired, it will not be moved to the executable jobs", timerJob.getId());
+        } else {
+            LOGGER.error("exception while moving timer job {} to the executable jobs: {}", timerJob.getId(), t.getMessage(), t);
+        }
+    }
+
     public void stop() {
         synchronized (MONITOR) {
             isInterrupted = true;
@@ -123,6 +277,66 @@ public class AcquireTimerJobsRunnable implements Runnable {
                 MONITOR.notifyAll();
             }
         }
+
+        releaseTimingWheel();
+    }
+
+    protected void releaseTimingWheel() {
+        List<TimerJobEntity> unprocessedTimerJobs;
+        synchronized (timingWheelLock) {
+            if (timingWheel == null) {
+                return;
+            }
+            unprocessedTimerJobs = timingWheel.stop();
+
+            // The due timers that are still waiting to be moved are released as well, a move that is in progress is finished
+            for (Runnable pendingMove : timerJobMoveExecutor.shutdownNow()) {
+                if (pendingMove instanceof MoveTimerJobsRunnable) {
+                    unprocessedTimerJobs.addAll(((MoveTimerJobsRunnable) pendingMove).timerJobs);
+                }
+            }
+            awaitTimerJobMoveTermination();
+        }
+
+        if (!unprocessedTimerJobs.isEmpty()) {
+            // Release the timers that were acquired ahead of time, so other executors don't need to wait until their lock expires
+            try {
+                asyncExecutor.getJobServiceConfiguration().getCommandExecutor().execute(new Command<Void>() {
+
+                    @Override
+                    public Void execute(CommandContext commandContext) {
+                        TimerJobEntityManager timerJobEntityManager = CommandContextUtil.getTimerJobEntityManager(commandContext);
+                        for (TimerJobEntity timerJob : unprocessedTimerJobs) {
+                            timerJob.setLockOwner(null);
+                            timerJob.setLockExpirationTime(null);
+                            timerJobEntityManager.update(timerJob);
+                        }
+                        return null;
+                    }
+                });
+
+            } catch (Throwable t) {
+                LOGGER.warn("Could not release {} timer jobs acquired ahead of time, they will be released when their lock expires", unprocessedTimerJobs.size(), t);
+            }
+        }
+    }
+
+    protected void awaitTimerJobMoveTermination() {
+        try {
+            if (!timerJobMoveExecutor.awaitTermination(MOVE_TERMINATION_WAIT_SECONDS, TimeUnit.SECONDS)) {
+                LOGGER.warn("Timed out waiting for the move of due timer jobs to finish");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public TimerJobLatenessStatistics getLatenessStatistics() {
+        return latenessStatistics;
+    }
+
+    public TimerJobTimingWheel getTimingWheel() {
+        return timingWheel;
     }
 
     public long getMillisToWait() {
@@ -132,4 +346,19 @@ public class AcquireTimerJobsRunnable implements Runnable {
     public void setMillisToWait(long millisToWait) {
         this.millisToWait = millisToWait;
     }
+
+    protected class MoveTimerJobsRunnable implements Runnable {
+
+        protected final List<TimerJobEntity> timerJobs;
+
+        public MoveTimerJobsRunnable(List<TimerJobEntity> timerJobs) {
+            this.timerJobs = timerJobs;
+        }
+
+        @Override
+        public void run() {
+            moveTimerJobsToExecutableJobs(timerJobs);
+        }
+    }
+
 }
@@ -81,6 +81,38 @@ public interface AsyncExecutor {
 
     void setMaxTimerJobsPerAcquisition(int maxJobs);
 
+    /**
+     * The time (in milliseconds) timer jobs are acquired before they are due. Acquired timers are kept in memory
+     * and moved to the executable jobs at their due time. A value of 0 (the default) only acquires timers that are already due.
+     */
+    int getTimerLookAheadTimeInMillis();
+
+    void setTimerLookAheadTimeInMillis(int timerLookAheadTimeInMillis);
+
+    /**
+     * The precision (in milliseconds) with which timers that are acquired ahead of time are fired.
+     */
+    int getTimerWheelTickDurationInMillis();
+
+    void setTimerWheelTickDurationInMillis(int timerWheelTickDurationInMillis);
+
+    /**
+     * The maximum number of timer jobs acquired at once while there is a backlog of due timers.
+     * Every time an acquisition returns a full page, the next acquisition doubles its page size, up to this maximum.
+     * A value of 0 (the default) always acquires {@link #getMaxTimerJobsPerAcquisition()} timer jobs.
+     */
+    int getMaxTimerJobsPerBacklogAcquisition();
+
+    void setMaxTimerJobsPerBacklogAcquisition(int maxTimerJobsPerBacklogAcquisition);
+
+    /**
+     * The minimum number of acquired timer jobs for which the timer jobs are moved to the executable jobs with set-based statements,
+     * instead of an insert and delete per timer job. A value of 0 (the default) disables the set-based move.
+     */
+    int getTimerJobBulkMoveThreshold();
+
+    void setTimerJobBulkMoveThreshold(int timerJobBulkMoveThreshold);
+
     int getRetryWaitTimeInMillis();
 
     void setRetryWaitTimeInMillis(int retryWaitTimeInMillis);
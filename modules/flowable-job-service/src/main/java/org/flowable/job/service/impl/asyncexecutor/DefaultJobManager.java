@@ -12,9 +12,11 @@
  */
 package org.flowable.job.service.impl.asyncexecutor;
 
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.GregorianCalendar;
+import java.util.List;
 import java.util.Map;
 
 import org.apache.commons.lang3.StringUtils;
@@ -33,6 +35,7 @@ import org.flowable.job.api.JobInfo;
 import org.flowable.job.service.HistoryJobHandler;
 import org.flowable.job.service.HistoryJobProcessor;
 import org.flowable.job.service.HistoryJobProcessorContext;
+import org.flowable.job.service.InternalJobManager;
 import org.flowable.job.service.JobHandler;
 import org.flowable.job.service.JobProcessor;
 import org.flowable.job.service.JobProcessorContext;
@@ -138,6 +141,110 @@ public class DefaultJobManager implements JobManager {
         return null;
     }
 
+    @Override
+    public List<JobEntity> moveTimerJobsToExecutableJobs(List<TimerJobEntity> timerJobs) {
+        List<JobEntity> executableJobs = new ArrayList<>(timerJobs.size());
+        String timerLockOwner = getCommonLockOwner(timerJobs);
+        InternalJobManager internalJobManager = jobServiceConfiguration.getInternalJobManager();
+        if (timerLockOwner == null || (internalJobManager != null && !internalJobManager.canMoveTimerJobsInBulk())) {
+            for (TimerJobEntity timerJob : timerJobs) {
+                JobEntity executableJob = moveTimerJobToExecutableJob(timerJob);
+                if (executableJob != null) {
+                    executableJobs.add(executableJob);
+                }
+            }
+            return executableJobs;
+        }
+
+        String jobLockOwner = null;
+        Date jobLockExpirationTime = null;
+        if (isAsyncExecutorActive()) {
+            GregorianCalendar gregorianCalendar = new GregorianCalendar();
+            gregorianCalendar.setTime(jobServiceConfiguration.getClock().getCurrentTime());
+            gregorianCalendar.add(Calendar.MILLISECOND, getAsyncExecutor().getTimerLockTimeInMillis());
+            jobLockExpirationTime = gregorianCalendar.getTime();
+            jobLockOwner = getAsyncExecutor().getLockOwner();
+        }
+
+        // The insert hook is called for every job, exactly as for a regular insert, before the set-based statements are executed.
+        // Timers rejected by the hook are left untouched, the same as when moving them one by one.
+        List<TimerJobEntity> movedTimerJobs = new ArrayList<>(timerJobs.size());
+        List<JobEntity> movedExecutableJobs = new ArrayList<>(timerJobs.size());
+        List<String> timerJobIds = new ArrayList<>(timerJobs.size());
+        for (TimerJobEntity timerJob : timerJobs) {
+            JobEntity executableJob = createExecutableJobFromMovedTimerJob(timerJob, jobLockOwner, jobLockExpirationTime);
+            if (internalJobManager == null || internalJobManager.handleJobInsert(executableJob)) {
+                movedTimerJobs.add(timerJob);
+                movedExecutableJobs.add(executableJob);
+                timerJobIds.add(timerJob.getId());
+            }
+        }
+
+        if (timerJobIds.isEmpty()) {
+            return executableJobs;
+        }
+        jobServiceConfiguration.getTimerJobEntityManager().moveLockedTimerJobsToExecutableJobs(timerJobIds, timerLockOwner, jobLockOwner, jobLockExpirationTime);
+
+        FlowableEventDispatcher eventDispatcher = CommandContextUtil.getEventDispatcher();
+        boolean dispatchEvents = eventDispatcher != null && eventDispatcher.isEnabled();
+        for (int i = 0; i < movedTimerJobs.size(); i++) {
+            TimerJobEntity timerJob = movedTimerJobs.get(i);
+            JobEntity executableJob = movedExecutableJobs.get(i);
+            if (dispatchEvents) {
+                eventDispatcher.dispatchEvent(FlowableJobEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_DELETED, timerJob));
+                eventDispatcher.dispatchEvent(FlowableJobEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_CREATED, executableJob));
+            }
+            triggerExecutorIfNeeded(executableJob);
+            executableJobs.add(executableJob);
+        }
+        return executableJobs;
+    }
+
+    protected String getCommonLockOwner(List<TimerJobEntity> timerJobs) {
+        String lockOwner = null;
+        for (TimerJobEntity timerJob : timerJobs) {
+            if (timerJob.getLockOwner() == null || (lockOwner != null && !lockOwner.equals(timerJob.getLockOwner()))) {
+                return null;
+            }
+            lockOwner = timerJob.getLockOwner();
+        }
+        return lockOwner;
+    }
+
+    /**
+     * Creates the in-memory representation of an executable job that was inserted with a set-based statement.
+     * Only the scalar fields are copied: the byte arrays are taken over as-is in the database and are loaded lazily when needed.
+     */
+    protected JobEntity createExecutableJobFromMovedTimerJob(TimerJobEntity timerJob, String lockOwner, Date lockExpirationTime) {
+        JobEntity executableJob = jobServiceConfiguration.getJobEntityManager().create();
+        executableJob.setId(timerJob.getId());
+        executableJob.setRevision(timerJob.getRevision());
+        executableJob.setJobType(timerJob.getJobType());
+        executableJob.setDuedate(timerJob.getDuedate());
+        executableJob.setEndDate(timerJob.getEndDate());
+        executableJob.setExclusive(timerJob.isExclusive());
+        executableJob.setExecutionId(timerJob.getExecutionId());
+        executableJob.setProcessInstanceId(timerJob.getProcessInstanceId());
+        executableJob.setProcessDefinitionId(timerJob.getProcessDefinitionId());
+        executableJob.setElementId(timerJob.getElementId());
+        executableJob.setElementName(timerJob.getElementName());
+        executableJob.setScopeId(timerJob.getScopeId());
+        executableJob.setSubScopeId(timerJob.getSubScopeId());
+        executableJob.setScopeType(timerJob.getScopeType());
+        executableJob.setScopeDefinitionId(timerJob.getScopeDefinitionId());
+        executableJob.setJobHandlerType(timerJob.getJobHandlerType());
+        executableJob.setJobHandlerConfiguration(timerJob.getJobHandlerConfiguration());
+        executableJob.setRepeat(timerJob.getRepeat());
+        executableJob.setMaxIterations(timerJob.getMaxIterations());
+        executableJob.setRetries(timerJob.getRetries());
+        executableJob.setExceptionMessage(timerJob.getExceptionMessage());
+        executableJob.setTenantId(timerJob.getTenantId());
+        executableJob.setLockOwner(lockOwner);
+        executableJob.setLockExpirationTime(lockExpirationTime);
+        executableJob.setCreateTime(jobServiceConfiguration.getClock().getCurrentTime());
+        return executableJob;
+    }
+
     @Override
     public TimerJobEntity moveJobToTimerJob(AbstractRuntimeJobEntity job) {
         TimerJobEntity timerJob = createTimerJobFromOtherJob(job);
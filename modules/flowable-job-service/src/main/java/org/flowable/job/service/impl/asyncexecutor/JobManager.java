@@ -12,6 +12,8 @@
  */
 package org.flowable.job.service.impl.asyncexecutor;
 
+import java.util.List;
+
 import org.flowable.job.api.JobInfo;
 import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.impl.persistence.entity.AbstractRuntimeJobEntity;
@@ -72,6 +74,16 @@ public interface JobManager {
      */
     JobEntity moveTimerJobToExecutableJob(TimerJobEntity timerJob);
 
+    /**
+     * Moves a batch of acquired {@link TimerJobEntity} instances to become async {@link JobEntity} instances.
+     * 
+     * When possible, the timer jobs are moved with set-based statements instead of an insert and delete per job.
+     * Otherwise this falls back to {@link #moveTimerJobToExecutableJob(TimerJobEntity)} for every timer job.
+     * 
+     * @return the executable jobs that were created
+     */
+    List<JobEntity> moveTimerJobsToExecutableJobs(List<TimerJobEntity> timerJobs);
+
     /**
      * Moves an {@link AbstractRuntimeJobEntity} to become a {@link TimerJobEntity}.
      * 
@@ -0,0 +1,55 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+import org.flowable.job.service.impl.util.CommandContextUtil;
+
+/**
+ * Moves acquired {@link TimerJobEntity} instances to the executable jobs in a single transaction.
+ * When the bulk move is requested, {@link JobManager#moveTimerJobsToExecutableJobs(java.util.List)} is used, which can move all timers with set-based statements.
+ */
+public class MoveTimerJobsToExecutableJobsCmd implements Command<Void> {
+
+    protected Collection<TimerJobEntity> timerJobs;
+    protected boolean bulkMove;
+
+    public MoveTimerJobsToExecutableJobsCmd(Collection<TimerJobEntity> timerJobs) {
+        this(timerJobs, false);
+    }
+
+    public MoveTimerJobsToExecutableJobsCmd(Collection<TimerJobEntity> timerJobs, boolean bulkMove) {
+        this.timerJobs = timerJobs;
+        this.bulkMove = bulkMove;
+    }
+
+    @Override
+    public Void execute(CommandContext commandContext) {
+        JobManager jobManager = CommandContextUtil.getJobManager(commandContext);
+        if (bulkMove) {
+            jobManager.moveTimerJobsToExecutableJobs(new ArrayList<>(timerJobs));
+            return null;
+        }
+
+        for (TimerJobEntity timerJob : timerJobs) {
+            jobManager.moveTimerJobToExecutableJob(timerJob);
+        }
+        return null;
+    }
+
+}
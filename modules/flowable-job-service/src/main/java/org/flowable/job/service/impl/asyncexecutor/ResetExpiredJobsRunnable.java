@@ -30,6 +30,7 @@ import org.slf4j.LoggerFactory;
  * A job is expired when this lock time is exceeded (this can for example happen when an executor goes down before completing a task)
  * 
  * This runnable will find such jobs and reset them, so they can be picked up again.
+ * When enabled, the expired locks of timer jobs (for example timers acquired ahead of time by an executor that went down) are released as well.
  * 
  * @author Joram Barrez
  */
@@ -40,6 +41,7 @@ public class ResetExpiredJobsRunnable implements Runnable {
     protected final String name;
     protected final AsyncExecutor asyncExecutor;
     protected final JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager;
+    protected boolean resetExpiredTimerJobs;
 
     protected volatile boolean isInterrupted;
     protected final Object MONITOR = new Object();
@@ -61,6 +63,10 @@ public class ResetExpiredJobsRunnable implements Runnable {
 
             resetJobs();
 
+            if (resetExpiredTimerJobs) {
+                resetTimerJobs();
+            }
+
             // Sleep
             try {
 
@@ -127,6 +133,30 @@ public class ResetExpiredJobsRunnable implements Runnable {
 
     }
 
+    /**
+     * Releases the timer jobs of which the lock has expired, so they can be acquired again.
+     */
+    public void resetTimerJobs() {
+        try {
+            int resetTimerJobs = asyncExecutor.getJobServiceConfiguration().getCommandExecutor().execute(new ResetExpiredTimerJobsCmd());
+            if (resetTimerJobs > 0) {
+                LOGGER.debug("Released {} expired timer jobs for engine {}", resetTimerJobs, asyncExecutor.getJobServiceConfiguration().getEngineName());
+            }
+
+        } catch (Throwable e) {
+            LOGGER.error("exception during resetting expired timer jobs: {} for engine {}", e.getMessage(),
+                            asyncExecutor.getJobServiceConfiguration().getEngineName(), e);
+        }
+    }
+
+    public boolean isResetExpiredTimerJobs() {
+        return resetExpiredTimerJobs;
+    }
+
+    public void setResetExpiredTimerJobs(boolean resetExpiredTimerJobs) {
+        this.resetExpiredTimerJobs = resetExpiredTimerJobs;
+    }
+
     public void stop() {
         synchronized (MONITOR) {
             isInterrupted = true;
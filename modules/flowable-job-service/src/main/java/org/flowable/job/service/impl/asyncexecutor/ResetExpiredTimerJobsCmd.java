@@ -0,0 +1,29 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.job.service.impl.util.CommandContextUtil;
+
+/**
+ * Releases the lock of timer jobs of which the lock has expired.
+ */
+public class ResetExpiredTimerJobsCmd implements Command<Integer> {
+
+    @Override
+    public Integer execute(CommandContext commandContext) {
+        return CommandContextUtil.getTimerJobEntityManager(commandContext).resetExpiredTimerJobs();
+    }
+
+}
@@ -0,0 +1,74 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps track of how late timer jobs are moved to the executable jobs, compared to their due date.
+ * A growing lateness means the timer job acquisition can't keep up with the timers that become due.
+ */
+public class TimerJobLatenessStatistics {
+
+    protected final LongAdder timerJobCount = new LongAdder();
+    protected final LongAdder totalLatenessInMillis = new LongAdder();
+    protected final AtomicLong maxLatenessInMillis = new AtomicLong();
+    protected volatile long lastLatenessInMillis;
+
+    /**
+     * Records the lateness of a timer job with the given due date that is moved at the given time.
+     * Timers without a due date are ignored and timers moved before their due date count as not late.
+     */
+    public void record(Date dueDate, Date movedTime) {
+        if (dueDate == null) {
+            return;
+        }
+
+        long latenessInMillis = Math.max(0L, movedTime.getTime() - dueDate.getTime());
+        timerJobCount.increment();
+        totalLatenessInMillis.add(latenessInMillis);
+        maxLatenessInMillis.accumulateAndGet(latenessInMillis, Math::max);
+        lastLatenessInMillis = latenessInMillis;
+    }
+
+    public long getTimerJobCount() {
+        return timerJobCount.sum();
+    }
+
+    public long getTotalLatenessInMillis() {
+        return totalLatenessInMillis.sum();
+    }
+
+    public long getAverageLatenessInMillis() {
+        long count = timerJobCount.sum();
+        return count > 0 ? totalLatenessInMillis.sum() / count : 0L;
+    }
+
+    public long getMaxLatenessInMillis() {
+        return maxLatenessInMillis.get();
+    }
+
+    public long getLastLatenessInMillis() {
+        return lastLatenessInMillis;
+    }
+
+    public void reset() {
+        timerJobCount.reset();
+        totalLatenessInMillis.reset();
+        maxLatenessInMillis.set(0L);
+        lastLatenessInMillis = 0L;
+    }
+
+}
@@ -0,0 +1,227 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+import org.flowable.common.engine.impl.runtime.ClockReader;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A hashed timing wheel holding {@link TimerJobEntity} instances that were acquired before they are due.
+ *
+ * The wheel consists of a fixed number of buckets, each covering one tick. A timer is put in the bucket of the tick in which it becomes due,
+ * so every tick only the timers of a single bucket need to be checked. The due timers of a tick are passed together to the expiration handler.
+ *
+ * The time of the wheel is the time of the engine clock, which means that timers also fire when the clock is moved forward.
+ */
+public class TimerJobTimingWheel {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TimerJobTimingWheel.class);
+
+    protected final String name;
+    protected final ClockReader clock;
+    protected final long tickDurationInMillis;
+    protected final List<TimerJobEntity>[] buckets;
+    protected final Consumer<List<TimerJobEntity>> expirationHandler;
+
+    protected final Queue<TimerJobEntity> scheduledTimerJobs = new ConcurrentLinkedQueue<>();
+
+    protected volatile boolean running;
+    protected Thread workerThread;
+    protected long startTime;
+    protected long currentTick;
+    protected volatile int size;
+
+    @SuppressWarnings("unchecked")
+    public TimerJobTimingWheel(String name, ClockReader clock, long tickDurationInMillis, int ticksPerWheel, Consumer<List<TimerJobEntity>> expirationHandler) {
+        if (tickDurationInMillis <= 0) {
+            throw new IllegalArgumentException("tickDurationInMillis must be positive");
+        }
+        if (ticksPerWheel <= 0) {
+            throw new IllegalArgumentException("ticksPerWheel must be positive");
+        }
+        this.name = name;
+        this.clock = clock;
+        this.tickDurationInMillis = tickDurationInMillis;
+        this.buckets = new List[ticksPerWheel];
+        for (int i = 0; i < ticksPerWheel; i++) {
+            buckets[i] = new LinkedList<>();
+        }
+        this.expirationHandler = expirationHandler;
+    }
+
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+
+        running = true;
+        startTime = clock.getCurrentTime().getTime();
+        currentTick = 0;
+        workerThread = new Thread(this::run, name);
+        workerThread.setDaemon(true);
+        workerThread.start();
+    }
+
+    /**
+     * Stops the wheel and returns the timer jobs that were scheduled, but not yet handed to the expiration handler.
+     */
+    public synchronized List<TimerJobEntity> stop() {
+        List<TimerJobEntity> unprocessedTimerJobs = new ArrayList<>();
+        if (!running) {
+            return unprocessedTimerJobs;
+        }
+
+        running = false;
+        workerThread.interrupt();
+        try {
+            workerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        workerThread = null;
+
+        for (List<TimerJobEntity> bucket : buckets) {
+            unprocessedTimerJobs.addAll(bucket);
+            bucket.clear();
+        }
+
+        TimerJobEntity timerJob;
+        while ((timerJob = scheduledTimerJobs.poll()) != null) {
+            unprocessedTimerJobs.add(timerJob);
+        }
+        size = 0;
+
+        return unprocessedTimerJobs;
+    }
+
+    /**
+     * Schedules the timer job to be passed to the expiration handler at its due date.
+     *
+     * @return false if the wheel is not running, in which case the timer job will not be handled by this wheel
+     */
+    public boolean schedule(TimerJobEntity timerJob) {
+        if (!running) {
+            return false;
+        }
+        scheduledTimerJobs.add(timerJob);
+        return true;
+    }
+
+    /**
+     * @return the number of timer jobs waiting in the wheel
+     */
+    public int size() {
+        return size + scheduledTimerJobs.size();
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    protected void run() {
+        while (running) {
+            try {
+                long elapsedTime = clock.getCurrentTime().getTime() - startTime;
+                if (elapsedTime < currentTick * tickDurationInMillis) {
+                    rebase();
+                    elapsedTime = 0;
+                }
+                long targetTick = elapsedTime / tickDurationInMillis;
+
+                transferScheduledTimerJobs();
+
+                List<TimerJobEntity> expiredTimerJobs = new ArrayList<>();
+                if (targetTick - currentTick >= buckets.length) {
+                    // The clock moved forward more than a complete rotation, check all buckets at once
+                    for (List<TimerJobEntity> bucket : buckets) {
+                        expireTimerJobs(bucket, targetTick, expiredTimerJobs);
+                    }
+                    currentTick = targetTick;
+
+                } else if (targetTick >= currentTick) {
+                    for (long tick = currentTick; tick <= targetTick; tick++) {
+                        expireTimerJobs(buckets[(int) (tick % buckets.length)], tick, expiredTimerJobs);
+                    }
+                    currentTick = targetTick;
+                }
+
+                if (!expiredTimerJobs.isEmpty()) {
+                    size -= expiredTimerJobs.size();
+                    expirationHandler.accept(expiredTimerJobs);
+                }
+
+            } catch (Throwable t) {
+                LOGGER.error("Exception while handling due timer jobs in {}", name, t);
+            }
+
+            try {
+                Thread.sleep(tickDurationInMillis);
+            } catch (InterruptedException e) {
+                // stop was called, running is false now
+            }
+        }
+    }
+
+    /**
+     * Restarts the wheel from the current time, which is needed when the clock was moved backwards.
+     */
+    protected void rebase() {
+        startTime = clock.getCurrentTime().getTime();
+        currentTick = 0;
+        for (List<TimerJobEntity> bucket : buckets) {
+            scheduledTimerJobs.addAll(bucket);
+            size -= bucket.size();
+            bucket.clear();
+        }
+    }
+
+    protected void transferScheduledTimerJobs() {
+        TimerJobEntity timerJob;
+        while ((timerJob = scheduledTimerJobs.poll()) != null) {
+            long deadlineTick = Math.max(getDeadlineTick(timerJob), currentTick);
+            buckets[(int) (deadlineTick % buckets.length)].add(timerJob);
+            size++;
+        }
+    }
+
+    protected void expireTimerJobs(List<TimerJobEntity> bucket, long tick, List<TimerJobEntity> expiredTimerJobs) {
+        Iterator<TimerJobEntity> iterator = bucket.iterator();
+        while (iterator.hasNext()) {
+            TimerJobEntity timerJob = iterator.next();
+            if (getDeadlineTick(timerJob) <= tick) {
+                iterator.remove();
+                expiredTimerJobs.add(timerJob);
+            }
+        }
+    }
+
+    protected long getDeadlineTick(TimerJobEntity timerJob) {
+        long deadline = timerJob.getDuedate() != null ? timerJob.getDuedate().getTime() - startTime : 0;
+        if (deadline <= 0) {
+            return 0;
+        }
+        // Round up, a timer never fires before its due date
+        return (deadline + tickDurationInMillis - 1) / tickDurationInMillis;
+    }
+
+}
@@ -260,6 +260,54 @@ public class ExecutorPerTenantAsyncExecutor implements TenantAwareAsyncExecutor
         }
     }
 
+    @Override
+    public int getTimerLookAheadTimeInMillis() {
+        return determineAsyncExecutor().getTimerLookAheadTimeInMillis();
+    }
+
+    @Override
+    public void setTimerLookAheadTimeInMillis(int timerLookAheadTimeInMillis) {
+        for (AsyncExecutor asyncExecutor : tenantExecutors.values()) {
+            asyncExecutor.setTimerLookAheadTimeInMillis(timerLookAheadTimeInMillis);
+        }
+    }
+
+    @Override
+    public int getTimerWheelTickDurationInMillis() {
+        return determineAsyncExecutor().getTimerWheelTickDurationInMillis();
+    }
+
+    @Override
+    public void setTimerWheelTickDurationInMillis(int timerWheelTickDurationInMillis) {
+        for (AsyncExecutor asyncExecutor : tenantExecutors.values()) {
+            asyncExecutor.setTimerWheelTickDurationInMillis(timerWheelTickDurationInMillis);
+        }
+    }
+
+    @Override
+    public int getMaxTimerJobsPerBacklogAcquisition() {
+        return determineAsyncExecutor().getMaxTimerJobsPerBacklogAcquisition();
+    }
+
+    @Override
+    public void setMaxTimerJobsPerBacklogAcquisition(int maxTimerJobsPerBacklogAcquisition) {
+        for (AsyncExecutor asyncExecutor : tenantExecutors.values()) {
+            asyncExecutor.setMaxTimerJobsPerBacklogAcquisition(maxTimerJobsPerBacklogAcquisition);
+        }
+    }
+
+    @Override
+    public int getTimerJobBulkMoveThreshold() {
+        return determineAsyncExecutor().getTimerJobBulkMoveThreshold();
+    }
+
+    @Override
+    public void setTimerJobBulkMoveThreshold(int timerJobBulkMoveThreshold) {
+        for (AsyncExecutor asyncExecutor : tenantExecutors.values()) {
+            asyncExecutor.setTimerJobBulkMoveThreshold(timerJobBulkMoveThreshold);
+        }
+    }
+
     @Override
     public int getRetryWaitTimeInMillis() {
         return determineAsyncExecutor().getRetryWaitTimeInMillis();
@@ -13,6 +13,7 @@
 package org.flowable.job.service.impl.cmd;
 
 import java.util.Calendar;
+import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.List;
 
@@ -22,6 +23,7 @@ import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.job.service.impl.asyncexecutor.AcquiredTimerJobEntities;
 import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
 import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntityManager;
 import org.flowable.job.service.impl.util.CommandContextUtil;
 
 /**
@@ -30,16 +32,38 @@ import org.flowable.job.service.impl.util.CommandContextUtil;
 public class AcquireTimerJobsCmd implements Command<AcquiredTimerJobEntities> {
 
     private final AsyncExecutor asyncExecutor;
+    private final Date dueBefore;
+    private final int maxTimerJobs;
 
     public AcquireTimerJobsCmd(AsyncExecutor asyncExecutor) {
+        this(asyncExecutor, null);
+    }
+
+    /**
+     * @param dueBefore
+     *            acquire the timer jobs that are due before this date, which can be in the future. When null, only the timer jobs that are due now are acquired.
+     */
+    public AcquireTimerJobsCmd(AsyncExecutor asyncExecutor, Date dueBefore) {
+        this(asyncExecutor, dueBefore, asyncExecutor.getMaxTimerJobsPerAcquisition());
+    }
+
+    /**
+     * @param maxTimerJobs
+     *            the maximum number of timer jobs to acquire
+     */
+    public AcquireTimerJobsCmd(AsyncExecutor asyncExecutor, Date dueBefore, int maxTimerJobs) {
         this.asyncExecutor = asyncExecutor;
+        this.dueBefore = dueBefore;
+        this.maxTimerJobs = maxTimerJobs;
     }
 
     @Override
     public AcquiredTimerJobEntities execute(CommandContext commandContext) {
         AcquiredTimerJobEntities acquiredJobs = new AcquiredTimerJobEntities();
-        List<TimerJobEntity> timerJobs = CommandContextUtil.getTimerJobEntityManager(commandContext)
-                .findTimerJobsToExecute(new Page(0, asyncExecutor.getMaxAsyncJobsDuePerAcquisition()));
+        TimerJobEntityManager timerJobEntityManager = CommandContextUtil.getTimerJobEntityManager(commandContext);
+        Page page = new Page(0, maxTimerJobs);
+        List<TimerJobEntity> timerJobs = dueBefore != null ? timerJobEntityManager.findTimerJobsToExecute(page, dueBefore)
+                : timerJobEntityManager.findTimerJobsToExecute(page);
         
         for (TimerJobEntity job : timerJobs) {
             lockJob(commandContext, job, asyncExecutor.getAsyncJobLockTimeInMillis());
@@ -55,7 +79,13 @@ public class AcquireTimerJobsCmd implements Command<AcquiredTimerJobEntities> {
         // try to lock, as the revision will not match.
 
         GregorianCalendar gregorianCalendar = new GregorianCalendar();
-        gregorianCalendar.setTime(CommandContextUtil.getJobServiceConfiguration(commandContext).getClock().getCurrentTime());
+        Date now = CommandContextUtil.getJobServiceConfiguration(commandContext).getClock().getCurrentTime();
+        if (dueBefore != null && job.getDuedate() != null && job.getDuedate().after(now)) {
+            // A timer acquired ahead of time is kept in memory until it is due, the lock only needs to expire after that
+            gregorianCalendar.setTime(job.getDuedate());
+        } else {
+            gregorianCalendar.setTime(now);
+        }
         gregorianCalendar.add(Calendar.MILLISECOND, lockTimeInMillis);
         job.setLockOwner(asyncExecutor.getLockOwner());
         job.setLockExpirationTime(gregorianCalendar.getTime());
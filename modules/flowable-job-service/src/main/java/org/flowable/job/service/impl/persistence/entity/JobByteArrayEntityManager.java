@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.EntityManager;
@@ -32,4 +33,14 @@ public interface JobByteArrayEntityManager extends EntityManager<JobByteArrayEnt
      */
     void deleteByteArrayById(String byteArrayEntityId);
 
-}
\ No newline at end of file
+    /**
+     * Returns the ids of the exception and custom values byte arrays of the (timer, suspended and deadletter) jobs of the given process instances.
+     */
+    List<String> findByteArrayIdsByProcessInstanceIds(Collection<String> processInstanceIds);
+
+    /**
+     * Deletes the {@link JobByteArrayEntity} instances with the given ids from the database with set-based deletes, without optimistic locking.
+     */
+    void deleteByteArraysByIds(Collection<String> byteArrayEntityIds);
+
+}
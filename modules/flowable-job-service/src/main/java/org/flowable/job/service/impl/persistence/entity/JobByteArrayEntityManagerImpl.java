@@ -13,6 +13,7 @@
 
 package org.flowable.job.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.job.service.JobServiceConfiguration;
@@ -40,4 +41,14 @@ public class JobByteArrayEntityManagerImpl
         dataManager.deleteByteArrayNoRevisionCheck(byteArrayEntityId);
     }
 
+    @Override
+    public List<String> findByteArrayIdsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        return dataManager.findByteArrayIdsByProcessInstanceIds(processInstanceIds);
+    }
+
+    @Override
+    public void deleteByteArraysByIds(Collection<String> byteArrayEntityIds) {
+        dataManager.deleteByteArraysNoRevisionCheck(byteArrayEntityIds);
+    }
+
 }
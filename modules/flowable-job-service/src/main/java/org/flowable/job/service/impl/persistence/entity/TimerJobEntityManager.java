@@ -12,6 +12,8 @@
  */
 package org.flowable.job.service.impl.persistence.entity;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 
 import org.flowable.common.engine.impl.Page;
@@ -40,6 +42,31 @@ public interface TimerJobEntityManager extends EntityManager<TimerJobEntity> {
      */
     List<TimerJobEntity> findTimerJobsToExecute(Page page);
 
+    /**
+     * Returns the unlocked {@link TimerJobEntity} instances with a due date before the given date, which can be in the future when timers are acquired ahead of time.
+     */
+    List<TimerJobEntity> findTimerJobsToExecute(Page page, Date dueBefore);
+
+    /**
+     * Releases the locks of all {@link TimerJobEntity} instances of which the lock has expired, for example because the executor that acquired them went down.
+     *
+     * @return the number of timer jobs that were released
+     */
+    int resetExpiredTimerJobs();
+
+    /**
+     * Moves the timer jobs with the given ids, locked by the given lock owner, to the executable jobs with set-based statements.
+     * The executable jobs keep the id of the timer job and take over its byte arrays. No events are dispatched and the {@link org.flowable.job.service.InternalJobManager} is not called.
+     *
+     * @param jobLockOwner
+     *            the lock owner of the executable jobs, can be null
+     * @param jobLockExpirationTime
+     *            the lock expiration time of the executable jobs, can be null
+     * @throws org.flowable.common.engine.api.FlowableOptimisticLockingException
+     *             when not all timer jobs were still locked by the given lock owner
+     */
+    void moveLockedTimerJobsToExecutableJobs(List<String> timerJobIds, String timerLockOwner, String jobLockOwner, Date jobLockExpirationTime);
+
     /**
      * Returns the {@link TimerJobEntity} for a given process definition.
      * <p>
@@ -93,5 +120,10 @@ public interface TimerJobEntityManager extends EntityManager<TimerJobEntity> {
      * Changes the tenantId for all jobs related to a given {@link DeploymentEntity}.
      */
     void updateJobTenantIdForDeployment(String deploymentId, String newTenantId);
-    
+
+    /**
+     * Deletes the jobs of the given process instances with a set-based delete, without deleting their byte arrays or dispatching events.
+     */
+    void deleteJobsByProcessInstanceIds(Collection<String> processInstanceIds);
+
 }
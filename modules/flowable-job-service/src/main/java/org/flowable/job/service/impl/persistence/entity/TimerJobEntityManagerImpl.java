@@ -14,9 +14,11 @@
 package org.flowable.job.service.impl.persistence.entity;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 
+import org.flowable.common.engine.api.FlowableOptimisticLockingException;
 import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
 import org.flowable.common.engine.api.delegate.event.FlowableEventDispatcher;
 import org.flowable.common.engine.impl.Page;
@@ -65,6 +67,29 @@ public class TimerJobEntityManagerImpl
         return dataManager.findTimerJobsToExecute(page);
     }
 
+    @Override
+    public List<TimerJobEntity> findTimerJobsToExecute(Page page, Date dueBefore) {
+        return dataManager.findTimerJobsToExecute(page, dueBefore);
+    }
+
+    @Override
+    public int resetExpiredTimerJobs() {
+        return dataManager.resetExpiredTimerJobs();
+    }
+
+    @Override
+    public void moveLockedTimerJobsToExecutableJobs(List<String> timerJobIds, String timerLockOwner, String jobLockOwner, Date jobLockExpirationTime) {
+        int insertedJobs = dataManager.insertExecutableJobsFromLockedTimerJobs(timerJobIds, timerLockOwner, jobLockOwner, jobLockExpirationTime, getClock().getCurrentTime());
+        if (insertedJobs != timerJobIds.size()) {
+            throw new FlowableOptimisticLockingException("Expected " + timerJobIds.size() + " timer jobs locked by " + timerLockOwner + ", but found " + insertedJobs);
+        }
+
+        int deletedTimerJobs = dataManager.deleteLockedTimerJobs(timerJobIds, timerLockOwner);
+        if (deletedTimerJobs != timerJobIds.size()) {
+            throw new FlowableOptimisticLockingException("Expected to delete " + timerJobIds.size() + " timer jobs locked by " + timerLockOwner + ", but deleted " + deletedTimerJobs);
+        }
+    }
+
     @Override
     public List<TimerJobEntity> findJobsByTypeAndProcessDefinitionId(String jobHandlerType, String processDefinitionId) {
         return dataManager.findJobsByTypeAndProcessDefinitionId(jobHandlerType, processDefinitionId);
@@ -214,4 +239,10 @@ public class TimerJobEntityManagerImpl
         }
         return times;
     }
+
+    @Override
+    public void deleteJobsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        dataManager.deleteJobsByProcessInstanceIds(processInstanceIds);
+    }
+
 }
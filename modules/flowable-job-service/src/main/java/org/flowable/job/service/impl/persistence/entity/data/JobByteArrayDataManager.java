@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
@@ -26,4 +27,8 @@ public interface JobByteArrayDataManager extends DataManager<JobByteArrayEntity>
 
     void deleteByteArrayNoRevisionCheck(String byteArrayEntityId);
 
+    List<String> findByteArrayIdsByProcessInstanceIds(Collection<String> processInstanceIds);
+
+    void deleteByteArraysNoRevisionCheck(Collection<String> byteArrayEntityIds);
+
 }
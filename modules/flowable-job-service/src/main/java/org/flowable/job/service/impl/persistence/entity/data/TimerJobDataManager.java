@@ -12,6 +12,8 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 
 import org.flowable.common.engine.impl.Page;
@@ -28,6 +30,14 @@ public interface TimerJobDataManager extends DataManager<TimerJobEntity> {
 
     List<TimerJobEntity> findTimerJobsToExecute(Page page);
 
+    List<TimerJobEntity> findTimerJobsToExecute(Page page, Date dueBefore);
+
+    int resetExpiredTimerJobs();
+
+    int insertExecutableJobsFromLockedTimerJobs(List<String> timerJobIds, String timerLockOwner, String jobLockOwner, Date jobLockExpirationTime, Date createTime);
+
+    int deleteLockedTimerJobs(List<String> timerJobIds, String timerLockOwner);
+
     List<TimerJobEntity> findJobsByTypeAndProcessDefinitionId(String jobHandlerType, String processDefinitionId);
 
     List<TimerJobEntity> findJobsByTypeAndProcessDefinitionKeyNoTenantId(String jobHandlerType, String processDefinitionKey);
@@ -45,5 +55,7 @@ public interface TimerJobDataManager extends DataManager<TimerJobEntity> {
     long findJobCountByQueryCriteria(TimerJobQueryImpl jobQuery);
 
     void updateJobTenantIdForDeployment(String deploymentId, String newTenantId);
-    
+
+    void deleteJobsByProcessInstanceIds(Collection<String> processInstanceIds);
+
 }
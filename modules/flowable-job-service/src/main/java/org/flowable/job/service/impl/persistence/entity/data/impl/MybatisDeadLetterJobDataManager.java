@@ -12,6 +12,8 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 
@@ -79,5 +81,10 @@ public class MybatisDeadLetterJobDataManager extends AbstractDataManager<DeadLet
         params.put("tenantId", newTenantId);
         getDbSqlSession().update("updateDeadLetterJobTenantIdForDeployment", params);
     }
-    
+
+    @Override
+    public void deleteJobsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        getDbSqlSession().delete("deleteDeadLetterJobsByProcessInstanceIds", new ArrayList<>(processInstanceIds), getManagedEntityClass());
+    }
+
 }
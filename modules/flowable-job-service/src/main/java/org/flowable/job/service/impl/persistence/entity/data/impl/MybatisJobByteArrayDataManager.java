@@ -12,6 +12,8 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.db.AbstractDataManager;
@@ -24,6 +26,11 @@ import org.flowable.job.service.impl.persistence.entity.data.JobByteArrayDataMan
  */
 public class MybatisJobByteArrayDataManager extends AbstractDataManager<JobByteArrayEntity> implements JobByteArrayDataManager {
 
+    /**
+     * The maximum number of ids passed in one 'in' clause, as some databases (e.g. Oracle) limit this to 1000.
+     */
+    protected static final int MAX_IDS_PER_DELETE = 1000;
+
     @Override
     public JobByteArrayEntity create() {
         return new JobByteArrayEntityImpl();
@@ -45,4 +52,19 @@ public class MybatisJobByteArrayDataManager extends AbstractDataManager<JobByteA
         getDbSqlSession().delete("deleteJobByteArrayNoRevisionCheck", byteArrayEntityId, JobByteArrayEntityImpl.class);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> findByteArrayIdsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        return getDbSqlSession().selectList("selectJobByteArrayIdsByProcessInstanceIds", new ArrayList<>(processInstanceIds));
+    }
+
+    @Override
+    public void deleteByteArraysNoRevisionCheck(Collection<String> byteArrayEntityIds) {
+        List<String> ids = new ArrayList<>(byteArrayEntityIds);
+        for (int i = 0; i < ids.size(); i += MAX_IDS_PER_DELETE) {
+            List<String> idsToDelete = new ArrayList<>(ids.subList(i, Math.min(i + MAX_IDS_PER_DELETE, ids.size())));
+            getDbSqlSession().delete("deleteJobByteArraysNoRevisionCheck", idsToDelete, JobByteArrayEntityImpl.class);
+        }
+    }
+
 }
@@ -12,6 +12,8 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -134,4 +136,9 @@ public class MybatisJobDataManager extends AbstractDataManager<JobEntity> implem
         }
     }
 
+    @Override
+    public void deleteJobsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        getDbSqlSession().delete("deleteJobsByProcessInstanceIds", new ArrayList<>(processInstanceIds), getManagedEntityClass());
+    }
+
 }
@@ -12,6 +12,8 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -37,6 +39,9 @@ import org.flowable.job.service.impl.persistence.entity.data.impl.cachematcher.T
  */
 public class MybatisTimerJobDataManager extends AbstractDataManager<TimerJobEntity> implements TimerJobDataManager {
 
+    // Keeps the 'in' clause of the set-based statements below the limits of all supported databases
+    protected static final int MAX_TIMER_JOB_IDS_PER_STATEMENT = 500;
+
     protected JobServiceConfiguration jobServiceConfiguration;
     
     protected CachedEntityMatcher<TimerJobEntity> timerJobsByExecutionIdMatcher = new TimerJobsByExecutionIdMatcher();
@@ -72,16 +77,56 @@ public class MybatisTimerJobDataManager extends AbstractDataManager<TimerJobEnti
     @Override
     @SuppressWarnings("unchecked")
     public List<TimerJobEntity> findTimerJobsToExecute(Page page) {
+        return findTimerJobsToExecute(page, jobServiceConfiguration.getClock().getCurrentTime());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<TimerJobEntity> findTimerJobsToExecute(Page page, Date dueBefore) {
         Map<String, Object> params = new HashMap<>(2);
         String jobExecutionScope = jobServiceConfiguration.getJobExecutionScope();
         params.put("jobExecutionScope", jobExecutionScope);
-        
-        Date now = jobServiceConfiguration.getClock().getCurrentTime();
-        params.put("now", now);
+        params.put("now", dueBefore);
         
         return getDbSqlSession().selectList("selectTimerJobsToExecute", params, page);
     }
 
+    @Override
+    public int resetExpiredTimerJobs() {
+        Map<String, Object> params = new HashMap<>(2);
+        params.put("jobExecutionScope", jobServiceConfiguration.getJobExecutionScope());
+        params.put("now", jobServiceConfiguration.getClock().getCurrentTime());
+        return getDbSqlSession().update("resetExpiredTimerJobs", params);
+    }
+
+    @Override
+    public int insertExecutableJobsFromLockedTimerJobs(List<String> timerJobIds, String timerLockOwner, String jobLockOwner, Date jobLockExpirationTime, Date createTime) {
+        int insertedJobs = 0;
+        for (int i = 0; i < timerJobIds.size(); i += MAX_TIMER_JOB_IDS_PER_STATEMENT) {
+            Map<String, Object> params = new HashMap<>();
+            params.put("timerJobIds", timerJobIds.subList(i, Math.min(i + MAX_TIMER_JOB_IDS_PER_STATEMENT, timerJobIds.size())));
+            params.put("timerLockOwner", timerLockOwner);
+            params.put("jobLockOwner", jobLockOwner);
+            params.put("jobLockExpirationTime", jobLockExpirationTime);
+            params.put("createTime", createTime);
+            insertedJobs += getDbSqlSession().update("insertExecutableJobsFromLockedTimerJobs", params);
+        }
+        return insertedJobs;
+    }
+
+    @Override
+    public int deleteLockedTimerJobs(List<String> timerJobIds, String timerLockOwner) {
+        int deletedTimerJobs = 0;
+        for (int i = 0; i < timerJobIds.size(); i += MAX_TIMER_JOB_IDS_PER_STATEMENT) {
+            Map<String, Object> params = new HashMap<>();
+            params.put("timerJobIds", timerJobIds.subList(i, Math.min(i + MAX_TIMER_JOB_IDS_PER_STATEMENT, timerJobIds.size())));
+            params.put("timerLockOwner", timerLockOwner);
+            // executed directly (and not as bulk delete on flush) since the affected row count is needed
+            deletedTimerJobs += getDbSqlSession().update("deleteLockedTimerJobs", params);
+        }
+        return deletedTimerJobs;
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<TimerJobEntity> findJobsByTypeAndProcessDefinitionId(String jobHandlerType, String processDefinitionId) {
@@ -144,5 +189,10 @@ public class MybatisTimerJobDataManager extends AbstractDataManager<TimerJobEnti
         params.put("tenantId", newTenantId);
         getDbSqlSession().update("updateTimerJobTenantIdForDeployment", params);
     }
-    
+
+    @Override
+    public void deleteJobsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        getDbSqlSession().delete("deleteTimerJobsByProcessInstanceIds", new ArrayList<>(processInstanceIds), getManagedEntityClass());
+    }
+
 }
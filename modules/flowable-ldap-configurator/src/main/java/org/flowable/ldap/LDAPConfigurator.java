@@ -12,7 +12,9 @@
  */
 package org.flowable.ldap;
 
+import org.flowable.common.engine.api.Engine;
 import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.engine.EngineLifecycleListener;
 import org.flowable.common.engine.impl.AbstractEngineConfiguration;
 import org.flowable.common.engine.impl.EngineConfigurator;
 import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
@@ -55,12 +57,34 @@ public class LDAPConfigurator extends IdmEngineConfigurator {
             if (ldapConfiguration.getGroupCacheListener() != null) {
                 ldapGroupCache.setLdapCacheListener(ldapConfiguration.getGroupCacheListener());
             }
+
+            ldapGroupCache.setRefreshAheadTime(ldapConfiguration.getGroupCacheRefreshAheadTime());
         }
         
         super.configure(engineConfiguration);
         
         getIdmEngineConfiguration(engineConfiguration)
                 .setIdmIdentityService(new LDAPIdentityServiceImpl(ldapConfiguration, ldapGroupCache));
+
+        if (ldapConfiguration.isConnectionPoolEnabled() || ldapGroupCache != null) {
+            final LDAPGroupCache closeableGroupCache = ldapGroupCache;
+            engineConfiguration.addEngineLifecycleListener(new EngineLifecycleListener() {
+
+                @Override
+                public void onEngineBuilt(Engine engine) {
+                    // Nothing to do
+                }
+
+                @Override
+                public void onEngineClosed(Engine engine) {
+                    // Pooled connections and the group cache refresh thread would otherwise stay alive after the engine is closed
+                    ldapConfiguration.closeConnectionPool();
+                    if (closeableGroupCache != null) {
+                        closeableGroupCache.close();
+                    }
+                }
+            });
+        }
     }
 
     // Getters and Setters //////////////////////////////////////////////////
@@ -0,0 +1,130 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.test.ldap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import javax.naming.NamingException;
+import javax.naming.directory.SearchControls;
+import javax.naming.directory.SearchResult;
+
+import org.flowable.common.engine.api.engine.EngineLifecycleListener;
+import org.flowable.engine.impl.util.EngineServiceUtil;
+import org.flowable.idm.api.Group;
+import org.flowable.idm.api.User;
+import org.flowable.ldap.LDAPConfiguration;
+import org.flowable.ldap.LDAPConnectionPool;
+import org.flowable.ldap.LDAPIdentityServiceImpl;
+import org.flowable.ldap.LDAPTemplate;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.ContextConfiguration;
+
+@ContextConfiguration("classpath:flowable-context-ldap-pool.xml")
+public class LdapConnectionPoolTest extends LDAPTestCase {
+
+    @Test
+    public void testPooledConnectionsAreReused() {
+        LDAPConnectionPool connectionPool = ((LDAPIdentityServiceImpl) EngineServiceUtil.getIdmIdentityService(processEngineConfiguration))
+                .getLdapConfigurator().getConnectionPool();
+        assertNotNull(connectionPool);
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals("kermit", identityService.createUserQuery().userId("kermit").singleResult().getId());
+        }
+
+        assertEquals(0, connectionPool.getNumActive());
+        assertEquals(1, connectionPool.getNumIdle());
+
+        assertTrue(identityService.checkPassword("kermit", "pass"));
+        assertFalse(identityService.checkPassword("kermit", "blah"));
+        assertEquals(0, connectionPool.getNumActive());
+    }
+
+    @Test
+    public void testConnectionPoolClosedWithEngine() {
+        LDAPConfiguration ldapConfiguration = ((LDAPIdentityServiceImpl) EngineServiceUtil.getIdmIdentityService(processEngineConfiguration))
+                .getLdapConfigurator();
+        assertEquals("kermit", identityService.createUserQuery().userId("kermit").singleResult().getId());
+        LDAPConnectionPool connectionPool = ldapConfiguration.getConnectionPool();
+        assertEquals(1, connectionPool.getNumIdle());
+
+        // The engine is shared by the other tests, so only the lifecycle listeners are notified
+        for (EngineLifecycleListener engineLifecycleListener : processEngineConfiguration.getEngineLifecycleListeners()) {
+            engineLifecycleListener.onEngineClosed(processEngine);
+        }
+        assertTrue(connectionPool.isClosed());
+        assertEquals(0, connectionPool.getNumIdle());
+
+        // A new pool is created on the next use
+        assertEquals("kermit", identityService.createUserQuery().userId("kermit").singleResult().getId());
+        assertNotSame(connectionPool, ldapConfiguration.getConnectionPool());
+    }
+
+    @Test
+    public void testContextFailingInCallbackIsNotReturnedToPool() {
+        LDAPConfiguration ldapConfiguration = ((LDAPIdentityServiceImpl) EngineServiceUtil.getIdmIdentityService(processEngineConfiguration))
+                .getLdapConfigurator();
+        assertEquals("kermit", identityService.createUserQuery().userId("kermit").singleResult().getId());
+        LDAPConnectionPool connectionPool = ldapConfiguration.getConnectionPool();
+        assertEquals(1, connectionPool.getNumIdle());
+
+        LDAPTemplate ldapTemplate = new LDAPTemplate(ldapConfiguration);
+        List<SearchResult> results = ldapTemplate.execute(initialDirContext -> {
+            try {
+                return ldapTemplate.search(initialDirContext, "ou=unknown,o=flowable", "(objectClass=*)", new SearchControls());
+            } catch (NamingException e) {
+                // The callback handles the failure, so the template doesn't see it
+                return null;
+            }
+        });
+        assertNull(results);
+
+        // The failed context is closed instead of being given back to the pool
+        assertEquals(0, connectionPool.getNumActive());
+        assertEquals(0, connectionPool.getNumIdle());
+    }
+
+    @Test
+    public void testPagedUserQuery() {
+        // The page size is 2, so all users are fetched in multiple pages
+        List<User> users = identityService.createUserQuery().list();
+        assertEquals(6, users.size());
+
+        users = identityService.createUserQuery().userFullNameLike("e").list();
+        assertEquals(5, users.size());
+    }
+
+    @Test
+    public void testGroupQueryByMembers() {
+        List<String> groupIds = identityService.createGroupQuery().groupMembers(Arrays.asList("pepe", "bunsen", "unknown")).list().stream()
+                .map(Group::getId)
+                .sorted()
+                .collect(Collectors.toList());
+        assertEquals(Arrays.asList("sales", "user"), groupIds);
+
+        // Same groups as when fetched per user
+        Set<String> groupIdsPerUser = new TreeSet<>();
+        for (String userId : Arrays.asList("pepe", "bunsen")) {
+            identityService.createGroupQuery().groupMember(userId).list().forEach(group -> groupIdsPerUser.add(group.getId()));
+        }
+        assertEquals(new ArrayList<>(groupIdsPerUser), groupIds);
+
+        assertEquals(0, identityService.createGroupQuery().groupMembers(Arrays.asList("unknown", "unknown2")).count());
+    }
+
+}
@@ -12,10 +12,20 @@
  */
 package org.flowable.test.ldap;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
-
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.flowable.common.engine.api.engine.EngineLifecycleListener;
 import org.flowable.engine.impl.util.EngineServiceUtil;
 import org.flowable.engine.test.Deployment;
+import org.flowable.idm.api.Group;
 import org.flowable.ldap.LDAPGroupCache;
 import org.flowable.ldap.LDAPGroupCache.LDAPGroupCacheListener;
 import org.flowable.ldap.LDAPIdentityServiceImpl;
@@ -27,14 +37,16 @@ import org.springframework.test.context.ContextConfiguration;
 public class LdapGroupCacheTest extends LDAPTestCase {
 
     protected TestLDAPGroupCacheListener cacheListener;
+    protected LDAPGroupCache ldapGroupCache;
 
     @BeforeEach
     protected void setUp() throws Exception {
 
         // Set test cache listener
-        LDAPGroupCache ldapGroupCache = ((LDAPIdentityServiceImpl) 
+        ldapGroupCache = ((LDAPIdentityServiceImpl) 
                         EngineServiceUtil.getIdmIdentityService(processEngineConfiguration)).getLdapGroupCache();
         ldapGroupCache.clear();
+        ldapGroupCache.resetStatistics();
 
         cacheListener = new TestLDAPGroupCacheListener();
         ldapGroupCache.setLdapCacheListener(cacheListener);
@@ -96,6 +108,105 @@ public class LdapGroupCacheTest extends LDAPTestCase {
         assertEquals("fozzie", cacheListener.getLastCacheMiss());
     }
 
+    @Test
+    public void testLdapGroupCacheStatistics() {
+        assertEquals(0, taskService.createTaskQuery().taskCandidateUser("kermit").count());
+        assertEquals(0, taskService.createTaskQuery().taskCandidateUser("kermit").count());
+        assertEquals(0, taskService.createTaskQuery().taskCandidateUser("pepe").count());
+
+        assertEquals(1, ldapGroupCache.getHitCount());
+        assertEquals(2, ldapGroupCache.getMissCount());
+        assertEquals(2, ldapGroupCache.getLoadCount());
+        assertEquals(2, ldapGroupCache.size());
+    }
+
+    @Test
+    public void testLdapGroupCacheRefreshAhead() {
+        Date now = new Date();
+        processEngineConfiguration.getClock().setCurrentTime(now);
+        ldapGroupCache.setRefreshAheadTime(10 * 60 * 1000);
+        ldapGroupCache.setRefreshExecutor(Runnable::run);
+        try {
+            assertEquals(0, taskService.createTaskQuery().taskCandidateUser("kermit").count());
+            assertEquals(1, ldapGroupCache.getLoadCount());
+
+            // 25 minutes later the entry is within the refresh ahead window (expiration is 30 mins) and is reloaded while still being a hit
+            processEngineConfiguration.getClock().setCurrentTime(new Date(now.getTime() + (25 * 60 * 1000)));
+            assertEquals(0, taskService.createTaskQuery().taskCandidateUser("kermit").count());
+            assertEquals("kermit", cacheListener.getLastCacheHit());
+            assertEquals(1, ldapGroupCache.getRefreshCount());
+
+            // 45 minutes after the start the refreshed entry is still valid
+            processEngineConfiguration.getClock().setCurrentTime(new Date(now.getTime() + (45 * 60 * 1000)));
+            cacheListener.setLastCacheExpiration(null);
+            assertEquals(0, taskService.createTaskQuery().taskCandidateUser("kermit").count());
+            assertNull(cacheListener.getLastCacheExpiration());
+            assertEquals(1, ldapGroupCache.getLoadCount());
+
+        } finally {
+            ldapGroupCache.setRefreshAheadTime(0);
+            ldapGroupCache.setRefreshExecutor(null);
+            processEngineConfiguration.getClock().reset();
+        }
+    }
+
+    @Test
+    public void testLdapGroupCacheRefreshThreadStoppedWithEngine() {
+        Date now = new Date();
+        processEngineConfiguration.getClock().setCurrentTime(now);
+        ldapGroupCache.setRefreshAheadTime(10 * 60 * 1000);
+        try {
+            assertEquals(0, taskService.createTaskQuery().taskCandidateUser("kermit").count());
+            processEngineConfiguration.getClock().setCurrentTime(new Date(now.getTime() + (25 * 60 * 1000)));
+            assertEquals(0, taskService.createTaskQuery().taskCandidateUser("kermit").count());
+            ExecutorService refreshExecutor = (ExecutorService) ldapGroupCache.getRefreshExecutor();
+            assertNotNull(refreshExecutor);
+
+            // The engine is shared by the other tests, so only the lifecycle listeners are notified
+            for (EngineLifecycleListener engineLifecycleListener : processEngineConfiguration.getEngineLifecycleListeners()) {
+                engineLifecycleListener.onEngineClosed(processEngine);
+            }
+            assertTrue(refreshExecutor.isShutdown());
+            assertNull(ldapGroupCache.getRefreshExecutor());
+
+        } finally {
+            ldapGroupCache.setRefreshAheadTime(0);
+            processEngineConfiguration.getClock().reset();
+        }
+    }
+
+    @Test
+    public void testLdapGroupCacheConcurrentAccess() throws Exception {
+        LDAPGroupCache groupCache = new LDAPGroupCache(10, 60 * 60 * 1000, processEngineConfiguration.getClock());
+        AtomicInteger loads = new AtomicInteger();
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executorService.submit(() -> {
+                    for (int j = 0; j < 1000; j++) {
+                        String userId = "user" + (j % 20);
+                        List<Group> groups = groupCache.get(userId, id -> {
+                            loads.incrementAndGet();
+                            return Collections.emptyList();
+                        });
+                        assertNotNull(groups);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        // The size is kept while the least recently used entries are evicted
+        assertTrue(groupCache.size() <= 10);
+        assertEquals(groupCache.getLoadCount(), loads.get());
+        assertTrue(groupCache.getEvictionCount() > 0);
+    }
+
     // Test cache listener
     static class TestLDAPGroupCacheListener implements LDAPGroupCacheListener {
 
@@ -47,11 +47,22 @@ public class LDAPConfiguration {
     // For parameters like connection pooling settings, etc.
     protected Map<String, String> customConnectionParameters = new HashMap<>();
 
+    // Connection pooling
+    protected boolean connectionPoolEnabled;
+    protected int connectionPoolMaxActive = 8;
+    protected int connectionPoolMaxIdle = 8;
+    protected long connectionPoolMaxWait = 30000L;
+    protected long connectionPoolMaxIdleTime = 600000L; // default: ten minutes
+    protected boolean connectionPoolValidateOnBorrow = true;
+    protected volatile LDAPConnectionPool connectionPool;
+
     // Query configuration
     protected String baseDn;
     protected String userBaseDn;
     protected String groupBaseDn;
     protected int searchTimeLimit = 0; // Default '0' == wait forever
+    protected int searchPageSize = 0; // Default '0' == no paging
+    protected int groupMembersBatchSize = 50;
 
     protected String queryUserByUserId;
     protected String queryGroupsForUser;
@@ -76,6 +87,7 @@ public class LDAPConfiguration {
     // Group caching
     protected int groupCacheSize = -1;
     protected long groupCacheExpirationTime = 3600000L; // default: one hour
+    protected long groupCacheRefreshAheadTime; // default: no refresh ahead
 
     // Cache listener (experimental)
     protected LDAPGroupCacheListener groupCacheListener;
@@ -166,6 +178,112 @@ public class LDAPConfiguration {
         this.customConnectionParameters = customConnectionParameters;
     }
 
+    public boolean isConnectionPoolEnabled() {
+        return connectionPoolEnabled;
+    }
+
+    /**
+     * Enables pooling of the LDAP connections bound with the configured {@link #setUser(String) user}, so that not every query opens a new connection.
+     * See {@link LDAPConnectionPool}. By default false, meaning a new connection is created for each query.
+     */
+    public void setConnectionPoolEnabled(boolean connectionPoolEnabled) {
+        this.connectionPoolEnabled = connectionPoolEnabled;
+    }
+
+    public int getConnectionPoolMaxActive() {
+        return connectionPoolMaxActive;
+    }
+
+    /**
+     * The maximum number of pooled connections that can be in use at the same time. By default 8.
+     */
+    public void setConnectionPoolMaxActive(int connectionPoolMaxActive) {
+        this.connectionPoolMaxActive = connectionPoolMaxActive;
+    }
+
+    public int getConnectionPoolMaxIdle() {
+        return connectionPoolMaxIdle;
+    }
+
+    /**
+     * The maximum number of idle connections kept in the pool. By default 8.
+     */
+    public void setConnectionPoolMaxIdle(int connectionPoolMaxIdle) {
+        this.connectionPoolMaxIdle = connectionPoolMaxIdle;
+    }
+
+    public long getConnectionPoolMaxWait() {
+        return connectionPoolMaxWait;
+    }
+
+    /**
+     * The maximum time in milliseconds to wait for a pooled connection when all of them are in use. By default 30 seconds.
+     */
+    public void setConnectionPoolMaxWait(long connectionPoolMaxWait) {
+        this.connectionPoolMaxWait = connectionPoolMaxWait;
+    }
+
+    public long getConnectionPoolMaxIdleTime() {
+        return connectionPoolMaxIdleTime;
+    }
+
+    /**
+     * The time in milliseconds after which an idle pooled connection is discarded instead of being reused. Zero or less means idle connections are kept. By default ten minutes.
+     */
+    public void setConnectionPoolMaxIdleTime(long connectionPoolMaxIdleTime) {
+        this.connectionPoolMaxIdleTime = connectionPoolMaxIdleTime;
+    }
+
+    public boolean isConnectionPoolValidateOnBorrow() {
+        return connectionPoolValidateOnBorrow;
+    }
+
+    /**
+     * Whether an idle pooled connection is checked (with a lightweight search on the root DSE) before being used. By default true.
+     */
+    public void setConnectionPoolValidateOnBorrow(boolean connectionPoolValidateOnBorrow) {
+        this.connectionPoolValidateOnBorrow = connectionPoolValidateOnBorrow;
+    }
+
+    /**
+     * Returns the {@link LDAPConnectionPool} for this configuration, creating it on first use, or null when pooling is not enabled.
+     */
+    public LDAPConnectionPool getConnectionPool() {
+        if (!connectionPoolEnabled) {
+            return null;
+        }
+
+        LDAPConnectionPool pool = connectionPool;
+        if (pool == null) {
+            synchronized (this) {
+                pool = connectionPool;
+                if (pool == null) {
+                    pool = new LDAPConnectionPool(this);
+                    connectionPool = pool;
+                }
+            }
+        }
+        return pool;
+    }
+
+    public void setConnectionPool(LDAPConnectionPool connectionPool) {
+        this.connectionPool = connectionPool;
+    }
+
+    /**
+     * Closes the {@link LDAPConnectionPool} of this configuration, if it was created. A new pool is created on the next use.
+     */
+    public void closeConnectionPool() {
+        LDAPConnectionPool pool;
+        synchronized (this) {
+            pool = connectionPool;
+            connectionPool = null;
+        }
+        if (pool != null) {
+            pool.close();
+        }
+    }
+
     public String getBaseDn() {
         return baseDn;
     }
@@ -212,6 +330,30 @@ public class LDAPConfiguration {
         this.searchTimeLimit = searchTimeLimit;
     }
 
+    public int getSearchPageSize() {
+        return searchPageSize;
+    }
+
+    /**
+     * The page size used (through the paged results control) when searching for lists of users and groups. Directories often limit the number of results
+     * of a single search, paging allows to retrieve all of them. By default 0, meaning no paging is done.
+     */
+    public void setSearchPageSize(int searchPageSize) {
+        this.searchPageSize = searchPageSize;
+    }
+
+    public int getGroupMembersBatchSize() {
+        return groupMembersBatchSize;
+    }
+
+    /**
+     * The maximum number of users combined in one search when fetching the groups of multiple users at once (e.g. through {@link org.flowable.idm.api.GroupQuery#groupMembers(java.util.List)}).
+     * By default 50.
+     */
+    public void setGroupMembersBatchSize(int groupMembersBatchSize) {
+        this.groupMembersBatchSize = groupMembersBatchSize;
+    }
+
     public String getQueryUserByUserId() {
         return queryUserByUserId;
     }
@@ -446,6 +588,20 @@ public class LDAPConfiguration {
         this.groupCacheExpirationTime = groupCacheExpirationTime;
     }
 
+    public long getGroupCacheRefreshAheadTime() {
+        return groupCacheRefreshAheadTime;
+    }
+
+    /**
+     * Sets the time in milliseconds before the expiration of a {@link LDAPGroupCache} entry during which fetching the groups of that user triggers an asynchronous reload
+     * from the LDAP system, while the cached groups are still returned. This avoids that all requests for a popular user wait for the LDAP system when its entry expires.
+     * <p>
+     * By default set to 0, meaning entries are only reloaded after they have expired.
+     */
+    public void setGroupCacheRefreshAheadTime(long groupCacheRefreshAheadTime) {
+        this.groupCacheRefreshAheadTime = groupCacheRefreshAheadTime;
+    }
+
     public LDAPGroupCacheListener getGroupCacheListener() {
         return groupCacheListener;
     }
@@ -0,0 +1,166 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.ldap;
+
+import java.util.Deque;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import javax.naming.NamingEnumeration;
+import javax.naming.NamingException;
+import javax.naming.directory.InitialDirContext;
+import javax.naming.directory.SearchControls;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A bounded pool of {@link InitialDirContext} instances bound with the configured user, so that queries don't need to open (and bind) a new LDAP connection
+ * every time. Used by the {@link LDAPTemplate} when enabled through {@link LDAPConfiguration#setConnectionPoolEnabled(boolean)}.
+ * 
+ * Idle connections are validated before being handed out (when {@link LDAPConfiguration#isConnectionPoolValidateOnBorrow()} is true) and connections that failed
+ * while being used are discarded instead of being returned to the pool.
+ */
+public class LDAPConnectionPool {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LDAPConnectionPool.class);
+
+    protected static final String[] VALIDATION_ATTRIBUTES = new String[] { "objectClass" };
+
+    protected LDAPConfiguration ldapConfigurator;
+    protected Semaphore activeConnections;
+    protected Deque<PooledConnection> idleConnections = new ConcurrentLinkedDeque<>();
+    protected Set<InitialDirContext> invalidatedContexts = ConcurrentHashMap.newKeySet();
+    protected volatile boolean closed;
+
+    public LDAPConnectionPool(LDAPConfiguration ldapConfigurator) {
+        this.ldapConfigurator = ldapConfigurator;
+        this.activeConnections = new Semaphore(ldapConfigurator.getConnectionPoolMaxActive(), true);
+    }
+
+    public InitialDirContext borrowContext() {
+        if (closed) {
+            throw new FlowableException("LDAP connection pool is closed");
+        }
+
+        try {
+            if (!activeConnections.tryAcquire(ldapConfigurator.getConnectionPoolMaxWait(), TimeUnit.MILLISECONDS)) {
+                throw new FlowableException("Could not get an LDAP connection from the pool within " + ldapConfigurator.getConnectionPoolMaxWait() + " ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FlowableException("Interrupted while waiting for an LDAP connection", e);
+        }
+
+        try {
+            PooledConnection pooledConnection;
+            while ((pooledConnection = idleConnections.pollFirst()) != null) {
+                if (isValid(pooledConnection)) {
+                    return pooledConnection.context;
+                }
+                LDAPConnectionUtil.closeDirectoryContext(pooledConnection.context);
+            }
+
+            return LDAPConnectionUtil.creatDirectoryContext(ldapConfigurator);
+
+        } catch (RuntimeException e) {
+            activeConnections.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Gives a context obtained through {@link #borrowContext()} back to the pool. A broken or {@link #invalidateContext(InitialDirContext) invalidated} context
+     * (i.e. one that failed with a naming or communication error) is closed.
+     */
+    public void returnContext(InitialDirContext context, boolean broken) {
+        boolean invalidated = invalidatedContexts.remove(context);
+        try {
+            if (broken || invalidated || closed || idleConnections.size() >= ldapConfigurator.getConnectionPoolMaxIdle()) {
+                LDAPConnectionUtil.closeDirectoryContext(context);
+            } else {
+                idleConnections.offerFirst(new PooledConnection(context, System.currentTimeMillis()));
+            }
+        } finally {
+            activeConnections.release();
+        }
+    }
+
+    /**
+     * Marks a borrowed context as broken, so that it is closed when it is given back through {@link #returnContext(InitialDirContext, boolean)}.
+     */
+    public void invalidateContext(InitialDirContext context) {
+        invalidatedContexts.add(context);
+    }
+
+    protected boolean isValid(PooledConnection pooledConnection) {
+        long idleTime = System.currentTimeMillis() - pooledConnection.idleSince;
+        if (ldapConfigurator.getConnectionPoolMaxIdleTime() > 0 && idleTime > ldapConfigurator.getConnectionPoolMaxIdleTime()) {
+            return false;
+        }
+
+        if (!ldapConfigurator.isConnectionPoolValidateOnBorrow()) {
+            return true;
+        }
+
+        try {
+            SearchControls searchControls = new SearchControls();
+            searchControls.setSearchScope(SearchControls.OBJECT_SCOPE);
+            searchControls.setReturningAttributes(VALIDATION_ATTRIBUTES);
+            searchControls.setTimeLimit(ldapConfigurator.getSearchTimeLimit());
+            NamingEnumeration<?> namingEnum = pooledConnection.context.search("", "(objectClass=*)", searchControls);
+            namingEnum.close();
+            return true;
+
+        } catch (NamingException e) {
+            LOGGER.debug("Discarding pooled LDAP connection that failed validation: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    public int getNumIdle() {
+        return idleConnections.size();
+    }
+
+    public int getNumActive() {
+        return ldapConfigurator.getConnectionPoolMaxActive() - activeConnections.availablePermits();
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    public void close() {
+        closed = true;
+        PooledConnection pooledConnection;
+        while ((pooledConnection = idleConnections.pollFirst()) != null) {
+            LDAPConnectionUtil.closeDirectoryContext(pooledConnection.context);
+        }
+    }
+
+    protected static class PooledConnection {
+
+        protected final InitialDirContext context;
+        protected final long idleSince;
+
+        public PooledConnection(InitialDirContext context, long idleSince) {
+            this.context = context;
+            this.idleSince = idleSince;
+        }
+    }
+
+}
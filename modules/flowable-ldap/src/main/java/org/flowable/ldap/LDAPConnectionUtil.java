@@ -17,6 +17,7 @@ import java.util.Properties;
 import javax.naming.Context;
 import javax.naming.NamingException;
 import javax.naming.directory.InitialDirContext;
+import javax.naming.ldap.InitialLdapContext;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.slf4j.Logger;
@@ -51,7 +52,8 @@ public class LDAPConnectionUtil {
 
         InitialDirContext context;
         try {
-            context = new InitialDirContext(properties);
+            // An ldap context allows to use request controls, e.g. for paged searches
+            context = new InitialLdapContext(properties, null);
         } catch (NamingException e) {
             LOGGER.warn("Could not create InitialDirContext for LDAP connection: {}", e.getMessage());
             throw new FlowableException("Could not create InitialDirContext for LDAP connection: " + e.getMessage(), e);
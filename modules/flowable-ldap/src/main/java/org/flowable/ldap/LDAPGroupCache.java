@@ -13,13 +13,25 @@
 package org.flowable.ldap;
 
 import java.util.Date;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
+import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.impl.runtime.ClockReader;
 import org.flowable.idm.api.Group;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Simple cache for groups a user belongs to, which avoid hitting the LDAP system too much. Groups are fetched internally by the engine for example when doing queries, eg when fetching tasks for a
@@ -27,90 +39,282 @@ import org.flowable.idm.api.Group;
  * 
  * Cached entries have an expiration time. For example when set to one hour, changes to the ldap system around the groups of a user will be visible after that hour.
  * 
+ * The cache is safe to be used by concurrent threads. Lookups don't take a lock: the entries are kept in a concurrent map and every hit records an access stamp,
+ * only adding an entry to a full cache takes a lock to evict the least recently used entry. When the groups are fetched through {@link #get(String, Function)},
+ * only one thread will load the groups of a given user at the same time, other threads asking for the same user wait for that result. When a refresh ahead
+ * time is set, entries that are about to expire are reloaded asynchronously while the cached value is still returned. The refresh thread created by the
+ * cache is stopped with {@link #close()}.
+ * 
  * Experimental: can have a listener for cache events, and instance of {@link LDAPGroupCacheListener}.
  * 
  * @author Joram Barrez
  */
 public class LDAPGroupCache {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(LDAPGroupCache.class);
+
     private final Supplier<ClockReader> clockReader;
-    protected Map<String, LDAPGroupCacheEntry> groupCache;
+    protected final int cacheSize;
+    protected ConcurrentMap<String, LDAPGroupCacheEntry> groupCache = new ConcurrentHashMap<>();
+    protected final AtomicLong accessCounter = new AtomicLong();
+    protected final Object evictionLock = new Object();
     protected long expirationTime;
+    protected long refreshAheadTime;
+    protected Executor refreshExecutor;
+    protected ExecutorService createdRefreshExecutor;
 
     protected LDAPGroupCacheListener ldapCacheListener;
 
+    protected final ConcurrentMap<String, CompletableFuture<List<Group>>> loadingGroups = new ConcurrentHashMap<>();
+
+    protected final AtomicLong hitCount = new AtomicLong();
+    protected final AtomicLong missCount = new AtomicLong();
+    protected final AtomicLong evictionCount = new AtomicLong();
+    protected final AtomicLong loadCount = new AtomicLong();
+    protected final AtomicLong refreshCount = new AtomicLong();
+
     public LDAPGroupCache(final int cacheSize, final long expirationTime, final ClockReader clockReader) {
         this(cacheSize, expirationTime, () -> clockReader);
     }
 
     public LDAPGroupCache(final int cacheSize, final long expirationTime, final Supplier<ClockReader> clockReader) {
         this.clockReader = clockReader;
+        this.cacheSize = cacheSize;
+        this.expirationTime = expirationTime;
+    }
 
-        // From
-        // http://stackoverflow.com/questions/224868/easy-simple-to-use-lru-cache-in-java
-        this.groupCache = new LinkedHashMap<String, LDAPGroupCache.LDAPGroupCacheEntry>(cacheSize + 1, 0.75f, true) {
-
-            private static final long serialVersionUID = 5207574193173514579L;
+    public void add(String userId, List<Group> groups) {
+        LDAPGroupCacheEntry cacheEntry = new LDAPGroupCacheEntry(clockReader.get().getCurrentTime(), groups);
+        cacheEntry.lastAccess = accessCounter.incrementAndGet();
+        if (groupCache.put(userId, cacheEntry) == null && groupCache.size() > cacheSize) {
+            evictLeastRecentlyUsed();
+        }
+    }
 
-            @Override
-            protected boolean removeEldestEntry(Map.Entry<String, LDAPGroupCacheEntry> eldest) {
-                boolean removeEldest = size() > cacheSize;
+    /**
+     * Removes the least recently used entries until the cache is within its size. Scanning the entries is linear in the cache size,
+     * which only happens when a loaded entry is added to a full cache and is cheap compared to the LDAP lookup that loaded it.
+     */
+    protected void evictLeastRecentlyUsed() {
+        synchronized (evictionLock) {
+            while (groupCache.size() > cacheSize) {
+                Map.Entry<String, LDAPGroupCacheEntry> eldest = null;
+                for (Map.Entry<String, LDAPGroupCacheEntry> entry : groupCache.entrySet()) {
+                    if (eldest == null || entry.getValue().lastAccess < eldest.getValue().lastAccess) {
+                        eldest = entry;
+                    }
+                }
 
-                if (removeEldest && ldapCacheListener != null) {
-                    ldapCacheListener.cacheEviction(eldest.getKey());
+                if (eldest == null) {
+                    return;
                 }
 
-                return removeEldest;
+                if (groupCache.remove(eldest.getKey(), eldest.getValue())) {
+                    evictionCount.incrementAndGet();
+                    if (ldapCacheListener != null) {
+                        ldapCacheListener.cacheEviction(eldest.getKey());
+                    }
+                }
             }
+        }
+    }
 
-        };
-        this.expirationTime = expirationTime;
+    public List<Group> get(String userId) {
+        LDAPGroupCacheEntry cacheEntry = getValidCacheEntry(userId);
+        return cacheEntry != null ? cacheEntry.getGroups() : null;
     }
 
-    public void add(String userId, List<Group> groups) {
-        this.groupCache.put(userId, new LDAPGroupCacheEntry(clockReader.get().getCurrentTime(), groups));
+    /**
+     * Returns the cached groups of the given user. When there are no (valid) cached groups, they are loaded with the given loader and put in the cache.
+     * Concurrent calls for the same user share one load. When refresh ahead is enabled (see {@link #setRefreshAheadTime(long)}), groups that are about to expire are
+     * reloaded in the background.
+     */
+    public List<Group> get(String userId, Function<String, List<Group>> groupLoader) {
+        LDAPGroupCacheEntry cacheEntry = getValidCacheEntry(userId);
+        if (cacheEntry != null) {
+            if (isRefreshNeeded(cacheEntry)) {
+                refreshAsync(userId, groupLoader);
+            }
+            return cacheEntry.getGroups();
+        }
+
+        return load(userId, groupLoader);
     }
 
-    public List<Group> get(String userId) {
+    protected LDAPGroupCacheEntry getValidCacheEntry(String userId) {
         LDAPGroupCacheEntry cacheEntry = groupCache.get(userId);
+        boolean expired = false;
+        if (cacheEntry != null && getAge(cacheEntry) >= expirationTime) {
+            // Only the thread that removes the expired entry reports it
+            expired = groupCache.remove(userId, cacheEntry);
+            cacheEntry = null;
+        }
+
         if (cacheEntry != null) {
-            if ((clockReader.get().getCurrentTime().getTime() - cacheEntry.getTimestamp().getTime()) < expirationTime) {
+            cacheEntry.lastAccess = accessCounter.incrementAndGet();
+            hitCount.incrementAndGet();
+            if (ldapCacheListener != null) {
+                ldapCacheListener.cacheHit(userId);
+            }
+            return cacheEntry;
+        }
 
-                if (ldapCacheListener != null) {
-                    ldapCacheListener.cacheHit(userId);
-                }
+        if (expired) {
+            evictionCount.incrementAndGet();
+            if (ldapCacheListener != null) {
+                ldapCacheListener.cacheExpired(userId);
+                ldapCacheListener.cacheEviction(userId);
+            }
+        }
 
-                return cacheEntry.getGroups();
+        missCount.incrementAndGet();
+        if (ldapCacheListener != null) {
+            ldapCacheListener.cacheMiss(userId);
+        }
 
-            } else {
+        return null;
+    }
 
-                this.groupCache.remove(userId);
+    protected List<Group> load(String userId, Function<String, List<Group>> groupLoader) {
+        CompletableFuture<List<Group>> loadingFuture = new CompletableFuture<>();
+        CompletableFuture<List<Group>> existingLoadingFuture = loadingGroups.putIfAbsent(userId, loadingFuture);
+        if (existingLoadingFuture != null) {
+            return waitForLoad(userId, existingLoadingFuture);
+        }
 
-                if (ldapCacheListener != null) {
-                    ldapCacheListener.cacheExpired(userId);
-                    ldapCacheListener.cacheEviction(userId);
-                }
+        try {
+            List<Group> groups = groupLoader.apply(userId);
+            loadCount.incrementAndGet();
+            add(userId, groups);
+            loadingFuture.complete(groups);
+            return groups;
 
+        } catch (RuntimeException e) {
+            loadingFuture.completeExceptionally(e);
+            throw e;
+
+        } finally {
+            loadingGroups.remove(userId, loadingFuture);
+        }
+    }
+
+    protected List<Group> waitForLoad(String userId, CompletableFuture<List<Group>> loadingFuture) {
+        try {
+            return loadingFuture.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
             }
+            throw new FlowableException("Could not load groups for user " + userId, e.getCause());
         }
+    }
 
-        if (ldapCacheListener != null) {
-            ldapCacheListener.cacheMiss(userId);
+    protected boolean isRefreshNeeded(LDAPGroupCacheEntry cacheEntry) {
+        return refreshAheadTime > 0 && getAge(cacheEntry) >= expirationTime - refreshAheadTime;
+    }
+
+    protected void refreshAsync(String userId, Function<String, List<Group>> groupLoader) {
+        CompletableFuture<List<Group>> refreshFuture = new CompletableFuture<>();
+        if (loadingGroups.putIfAbsent(userId, refreshFuture) != null) {
+            return; // already being loaded or refreshed
         }
 
-        return null;
+        try {
+            getOrCreateRefreshExecutor().execute(() -> {
+                try {
+                    List<Group> groups = groupLoader.apply(userId);
+                    refreshCount.incrementAndGet();
+                    add(userId, groups);
+                    refreshFuture.complete(groups);
+
+                } catch (RuntimeException e) {
+                    LOGGER.warn("Could not refresh cached groups for user {}", userId, e);
+                    refreshFuture.completeExceptionally(e);
+
+                } finally {
+                    loadingGroups.remove(userId, refreshFuture);
+                }
+            });
+
+        } catch (RejectedExecutionException e) {
+            LOGGER.debug("Refresh of cached groups for user {} was rejected", userId, e);
+            loadingGroups.remove(userId, refreshFuture);
+            refreshFuture.completeExceptionally(e);
+        }
+    }
+
+    protected synchronized Executor getOrCreateRefreshExecutor() {
+        if (refreshExecutor == null) {
+            createdRefreshExecutor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "flowable-ldap-group-cache-refresh");
+                thread.setDaemon(true);
+                return thread;
+            });
+            refreshExecutor = createdRefreshExecutor;
+        }
+        return refreshExecutor;
+    }
+
+    /**
+     * Stops the refresh thread that was created by this cache, if any. An executor set through {@link #setRefreshExecutor(Executor)} is not shut down.
+     * A new refresh thread is created when an entry needs to be refreshed after closing.
+     */
+    public synchronized void close() {
+        if (createdRefreshExecutor != null) {
+            createdRefreshExecutor.shutdownNow();
+            if (refreshExecutor == createdRefreshExecutor) {
+                refreshExecutor = null;
+            }
+            createdRefreshExecutor = null;
+        }
+    }
+
+    protected long getAge(LDAPGroupCacheEntry cacheEntry) {
+        return clockReader.get().getCurrentTime().getTime() - cacheEntry.getTimestamp().getTime();
     }
 
     public void clear() {
         groupCache.clear();
     }
 
+    public int size() {
+        return groupCache.size();
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    public long getLoadCount() {
+        return loadCount.get();
+    }
+
+    public long getRefreshCount() {
+        return refreshCount.get();
+    }
+
+    public void resetStatistics() {
+        hitCount.set(0);
+        missCount.set(0);
+        evictionCount.set(0);
+        loadCount.set(0);
+        refreshCount.set(0);
+    }
+
     public Map<String, LDAPGroupCacheEntry> getGroupCache() {
         return groupCache;
     }
 
     public void setGroupCache(Map<String, LDAPGroupCacheEntry> groupCache) {
-        this.groupCache = groupCache;
+        this.groupCache = new ConcurrentHashMap<>(groupCache);
     }
 
     public long getExpirationTime() {
@@ -121,6 +325,29 @@ public class LDAPGroupCache {
         this.expirationTime = expirationTime;
     }
 
+    public long getRefreshAheadTime() {
+        return refreshAheadTime;
+    }
+
+    /**
+     * Sets the time in milliseconds before the expiration of an entry during which a cache hit triggers an asynchronous reload of the groups of that user.
+     * Zero or a negative value (the default) disables refreshing ahead.
+     */
+    public void setRefreshAheadTime(long refreshAheadTime) {
+        this.refreshAheadTime = refreshAheadTime;
+    }
+
+    public Executor getRefreshExecutor() {
+        return refreshExecutor;
+    }
+
+    /**
+     * Sets the executor used to refresh entries ahead of their expiration. When not set, a single daemon thread is created on the first refresh.
+     */
+    public synchronized void setRefreshExecutor(Executor refreshExecutor) {
+        this.refreshExecutor = refreshExecutor;
+    }
+
     public LDAPGroupCacheListener getLdapCacheListener() {
         return ldapCacheListener;
     }
@@ -135,6 +362,7 @@ public class LDAPGroupCache {
 
         protected Date timestamp;
         protected List<Group> groups;
+        protected volatile long lastAccess;
 
         public LDAPGroupCacheEntry() {
 
@@ -13,6 +13,9 @@
 package org.flowable.ldap;
 
 import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
 import javax.naming.NamingEnumeration;
 import javax.naming.NamingException;
@@ -50,7 +53,7 @@ public class LDAPQueryBuilder {
         if (ldapConfigurator.getQueryGroupsForUser() != null) {
 
             // Fetch the dn of the user
-            LDAPTemplate ldapTemplate = new LDAPTemplate(ldapConfigurator);
+            final LDAPTemplate ldapTemplate = new LDAPTemplate(ldapConfigurator);
             String userDn = ldapTemplate.execute(new LDAPCallBack<String>() {
 
                 @Override
@@ -67,6 +70,7 @@ public class LDAPQueryBuilder {
                         namingEnum.close();
                     } catch (NamingException e) {
                         LOGGER.debug("Could not find user dn : {}", e.getMessage(), e);
+                        ldapTemplate.invalidateContext(initialDirContext);
                     }
                     return null;
                 }
@@ -81,6 +85,53 @@ public class LDAPQueryBuilder {
         return searchExpression;
     }
 
+    /**
+     * Builds one search expression matching the groups of all given users, by combining the {@link LDAPConfiguration#getQueryGroupsForUser()} expression
+     * of each user. The dns of the users are fetched with one search as well. Returns an empty expression when none of the users exists and null when the
+     * configured queries don't allow combining them, in which case the groups need to be fetched per user.
+     */
+    public String buildQueryGroupsForUsers(final LDAPConfiguration ldapConfigurator, final Collection<String> userIds) {
+        if (ldapConfigurator.getQueryGroupsForUser() == null || ldapConfigurator.getQueryUserByUserId() == null) {
+            return null;
+        }
+
+        StringBuilder userDnSearch = new StringBuilder("(|");
+        for (String userId : userIds) {
+            userDnSearch.append(buildQueryByUserId(ldapConfigurator, userId));
+        }
+        userDnSearch.append(')');
+
+        final LDAPTemplate ldapTemplate = new LDAPTemplate(ldapConfigurator);
+        List<String> userDns = ldapTemplate.execute(new LDAPCallBack<List<String>>() {
+
+            @Override
+            public List<String> executeInContext(InitialDirContext initialDirContext) {
+                List<String> dns = new ArrayList<>();
+                try {
+                    String baseDn = ldapConfigurator.getUserBaseDn() != null ? ldapConfigurator.getUserBaseDn() : ldapConfigurator.getBaseDn();
+                    for (SearchResult result : ldapTemplate.search(initialDirContext, baseDn, userDnSearch.toString(), createSearchControls(ldapConfigurator))) {
+                        dns.add(result.getNameInNamespace());
+                    }
+                } catch (NamingException e) {
+                    LOGGER.debug("Could not find user dns : {}", e.getMessage(), e);
+                }
+                return dns;
+            }
+
+        });
+
+        if (userDns.isEmpty()) {
+            return "";
+        }
+
+        StringBuilder searchExpression = new StringBuilder("(|");
+        for (String userDn : userDns) {
+            searchExpression.append(MessageFormat.format(ldapConfigurator.getQueryGroupsForUser(), Rdn.escapeValue(userDn)));
+        }
+        searchExpression.append(')');
+        return searchExpression.toString();
+    }
+
     public String buildQueryByFullNameLike(final LDAPConfiguration ldapConfigurator, String searchText) {
         String searchExpression = null;
         if (ldapConfigurator.getQueryUserByFullNameLike() != null) {
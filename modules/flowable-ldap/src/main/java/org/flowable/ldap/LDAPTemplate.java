@@ -12,8 +12,21 @@
  */
 package org.flowable.ldap;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.naming.NamingEnumeration;
+import javax.naming.NamingException;
 import javax.naming.directory.InitialDirContext;
+import javax.naming.directory.SearchControls;
+import javax.naming.directory.SearchResult;
+import javax.naming.ldap.Control;
+import javax.naming.ldap.LdapContext;
+import javax.naming.ldap.PagedResultsControl;
+import javax.naming.ldap.PagedResultsResponseControl;
 
+import org.flowable.common.engine.api.FlowableException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -33,6 +46,11 @@ public class LDAPTemplate {
     }
 
     public <T> T execute(LDAPCallBack<T> ldapCallBack) {
+        LDAPConnectionPool connectionPool = ldapConfigurator.getConnectionPool();
+        if (connectionPool != null) {
+            return executeWithPooledConnection(connectionPool, ldapCallBack);
+        }
+
         InitialDirContext initialDirContext = null;
         try {
             initialDirContext = LDAPConnectionUtil.creatDirectoryContext(ldapConfigurator);
@@ -44,6 +62,107 @@ public class LDAPTemplate {
         return result;
     }
 
+    protected <T> T executeWithPooledConnection(LDAPConnectionPool connectionPool, LDAPCallBack<T> ldapCallBack) {
+        InitialDirContext initialDirContext = null;
+        try {
+            initialDirContext = connectionPool.borrowContext();
+        } catch (Exception e) {
+            LOGGER.info("Could not get pooled LDAP connection: {}", e.getMessage(), e);
+        }
+
+        boolean broken = true;
+        try {
+            T result = ldapCallBack.executeInContext(initialDirContext);
+            broken = false;
+            return result;
+
+        } finally {
+            if (initialDirContext != null) {
+                connectionPool.returnContext(initialDirContext, broken);
+            }
+        }
+    }
+
+    /**
+     * Marks a context given to a {@link LDAPCallBack} as broken, which the callback needs to do when it handles a {@link NamingException} itself.
+     * A pooled context is then closed instead of being given back to the pool as a healthy connection.
+     */
+    public void invalidateContext(InitialDirContext initialDirContext) {
+        LDAPConnectionPool connectionPool = ldapConfigurator.getConnectionPool();
+        if (connectionPool != null && initialDirContext != null) {
+            connectionPool.invalidateContext(initialDirContext);
+        }
+    }
+
+    /**
+     * Executes the given search and returns all results. When a {@link LDAPConfiguration#getSearchPageSize() search page size} is configured,
+     * the results are retrieved in pages using the paged results control, so that directory size limits don't truncate them.
+     * The context is {@link #invalidateContext(InitialDirContext) invalidated} when the search fails.
+     */
+    public List<SearchResult> search(InitialDirContext initialDirContext, String baseDn, String searchExpression, SearchControls searchControls) throws NamingException {
+        try {
+            return doSearch(initialDirContext, baseDn, searchExpression, searchControls);
+        } catch (NamingException e) {
+            invalidateContext(initialDirContext);
+            throw e;
+        }
+    }
+
+    protected List<SearchResult> doSearch(InitialDirContext initialDirContext, String baseDn, String searchExpression, SearchControls searchControls) throws NamingException {
+        int pageSize = ldapConfigurator.getSearchPageSize();
+        if (pageSize <= 0 || !(initialDirContext instanceof LdapContext)) {
+            List<SearchResult> results = new ArrayList<>();
+            collectSearchResults(initialDirContext.search(baseDn, searchExpression, searchControls), results);
+            return results;
+        }
+
+        LdapContext ldapContext = (LdapContext) initialDirContext;
+        try {
+            List<SearchResult> results = new ArrayList<>();
+            byte[] cookie = null;
+            ldapContext.setRequestControls(new Control[] { new PagedResultsControl(pageSize, Control.NONCRITICAL) });
+            do {
+                collectSearchResults(ldapContext.search(baseDn, searchExpression, searchControls), results);
+
+                cookie = getPagedResultsCookie(ldapContext.getResponseControls());
+                if (cookie != null) {
+                    ldapContext.setRequestControls(new Control[] { new PagedResultsControl(pageSize, cookie, Control.CRITICAL) });
+                }
+            } while (cookie != null);
+
+            return results;
+
+        } catch (IOException e) {
+            throw new FlowableException("Could not create paged results control for " + searchExpression, e);
+
+        } finally {
+            // Connections can be pooled, so the paging controls should not be kept
+            ldapContext.setRequestControls(null);
+        }
+    }
+
+    protected void collectSearchResults(NamingEnumeration<SearchResult> namingEnum, List<SearchResult> results) throws NamingException {
+        try {
+            while (namingEnum.hasMore()) {
+                results.add(namingEnum.next());
+            }
+        } finally {
+            namingEnum.close();
+        }
+    }
+
+    protected byte[] getPagedResultsCookie(Control[] responseControls) {
+        if (responseControls != null) {
+            for (Control responseControl : responseControls) {
+                if (responseControl instanceof PagedResultsResponseControl) {
+                    byte[] cookie = ((PagedResultsResponseControl) responseControl).getCookie();
+                    return cookie != null && cookie.length > 0 ? cookie : null;
+                }
+            }
+        }
+        return null;
+    }
+
     public LDAPConfiguration getLdapConfigurator() {
         return ldapConfigurator;
     }
@@ -13,9 +13,10 @@
 package org.flowable.ldap.impl;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
-import javax.naming.NamingEnumeration;
 import javax.naming.NamingException;
 import javax.naming.directory.InitialDirContext;
 import javax.naming.directory.SearchControls;
@@ -57,6 +58,8 @@ public class LDAPGroupQueryImpl extends GroupQueryImpl {
     protected List<Group> executeQuery() {
         if (getUserId() != null) {
             return findGroupsByUser(getUserId());
+        } else if (getUserIds() != null) {
+            return findGroupsByUsers(getUserIds());
         } else if (getId() != null) {
             return findGroupsById(getId());
         } else {
@@ -66,23 +69,56 @@ public class LDAPGroupQueryImpl extends GroupQueryImpl {
 
     protected List<Group> findGroupsByUser(String userId) {
 
-        // First try the cache (if one is defined)
+        // Use the cache (if one is defined), which only loads the groups when needed
         if (ldapGroupCache != null) {
-            List<Group> groups = ldapGroupCache.get(userId);
-            if (groups != null) {
-                return groups;
-            }
+            return ldapGroupCache.get(userId, this::loadGroupsForUser);
         }
 
+        return loadGroupsForUser(userId);
+    }
+
+    protected List<Group> loadGroupsForUser(String userId) {
         String searchExpression = ldapConfigurator.getLdapQueryBuilder().buildQueryGroupsForUser(ldapConfigurator, userId);
-        List<Group> groups = executeGroupQuery(searchExpression);
+        return executeGroupQuery(searchExpression);
+    }
 
-        // Cache results for later
-        if (ldapGroupCache != null) {
-            ldapGroupCache.add(userId, groups);
+    /**
+     * Returns the distinct groups of the given users. Groups that are cached are taken from the cache, the groups of the other users are fetched
+     * with one search per batch of users (see {@link LDAPConfiguration#setGroupMembersBatchSize(int)}).
+     */
+    protected List<Group> findGroupsByUsers(List<String> userIds) {
+        Map<String, Group> groups = new LinkedHashMap<>();
+        List<String> notCachedUserIds = new ArrayList<>();
+        for (String userId : userIds) {
+            List<Group> cachedGroups = ldapGroupCache != null ? ldapGroupCache.get(userId) : null;
+            if (cachedGroups != null) {
+                addGroups(groups, cachedGroups);
+            } else {
+                notCachedUserIds.add(userId);
+            }
         }
 
-        return groups;
+        int batchSize = Math.max(1, ldapConfigurator.getGroupMembersBatchSize());
+        for (int i = 0; i < notCachedUserIds.size(); i += batchSize) {
+            List<String> batchUserIds = notCachedUserIds.subList(i, Math.min(i + batchSize, notCachedUserIds.size()));
+            String searchExpression = ldapConfigurator.getLdapQueryBuilder().buildQueryGroupsForUsers(ldapConfigurator, batchUserIds);
+            if (searchExpression == null) {
+                // No combined query possible, fall back to fetching the groups per user
+                for (String userId : batchUserIds) {
+                    addGroups(groups, findGroupsByUser(userId));
+                }
+            } else if (!searchExpression.isEmpty()) {
+                addGroups(groups, executeGroupQuery(searchExpression));
+            }
+        }
+
+        return new ArrayList<>(groups.values());
+    }
+
+    protected void addGroups(Map<String, Group> groups, List<Group> groupsToAdd) {
+        for (Group group : groupsToAdd) {
+            groups.putIfAbsent(group.getId(), group);
+        }
     }
 
     protected List<Group> findGroupsById(String id) {
@@ -97,7 +133,7 @@ public class LDAPGroupQueryImpl extends GroupQueryImpl {
     }
 
     protected List<Group> executeGroupQuery(final String searchExpression) {
-        LDAPTemplate ldapTemplate = new LDAPTemplate(ldapConfigurator);
+        final LDAPTemplate ldapTemplate = new LDAPTemplate(ldapConfigurator);
         return ldapTemplate.execute(new LDAPCallBack<List<Group>>() {
 
             @Override
@@ -106,10 +142,7 @@ public class LDAPGroupQueryImpl extends GroupQueryImpl {
                 List<Group> groups = new ArrayList<>();
                 try {
                     String baseDn = ldapConfigurator.getGroupBaseDn() != null ? ldapConfigurator.getGroupBaseDn() : ldapConfigurator.getBaseDn();
-                    NamingEnumeration<?> namingEnum = initialDirContext.search(baseDn, searchExpression, createSearchControls());
-                    while (namingEnum.hasMore()) { // Should be only one
-                        SearchResult result = (SearchResult) namingEnum.next();
-
+                    for (SearchResult result : ldapTemplate.search(initialDirContext, baseDn, searchExpression, createSearchControls())) {
                         GroupEntity group = new GroupEntityImpl();
                         if (ldapConfigurator.getGroupIdAttribute() != null) {
                             group.setId(result.getAttributes().get(ldapConfigurator.getGroupIdAttribute()).get().toString());
@@ -123,8 +156,6 @@ public class LDAPGroupQueryImpl extends GroupQueryImpl {
                         groups.add(group);
                     }
 
-                    namingEnum.close();
-
                     return groups;
 
                 } catch (NamingException e) {
@@ -88,7 +88,7 @@ public class LDAPUserQueryImpl extends UserQueryImpl {
     }
 
     protected UserEntity findById(final String userId) {
-        LDAPTemplate ldapTemplate = new LDAPTemplate(ldapConfigurator);
+        final LDAPTemplate ldapTemplate = new LDAPTemplate(ldapConfigurator);
         return ldapTemplate.execute(new LDAPCallBack<UserEntity>() {
 
             @Override
@@ -110,6 +110,7 @@ public class LDAPUserQueryImpl extends UserQueryImpl {
 
                 } catch (NamingException ne) {
                     LOGGER.error("Could not find user {} : {}", userId, ne.getMessage(), ne);
+                    ldapTemplate.invalidateContext(initialDirContext);
                     return null;
                 }
             }
@@ -118,7 +119,7 @@ public class LDAPUserQueryImpl extends UserQueryImpl {
     }
 
     protected List<User> executeUsersQuery(final String searchExpression) {
-        LDAPTemplate ldapTemplate = new LDAPTemplate(ldapConfigurator);
+        final LDAPTemplate ldapTemplate = new LDAPTemplate(ldapConfigurator);
         return ldapTemplate.execute(new LDAPCallBack<List<User>>() {
 
             @Override
@@ -126,17 +127,11 @@ public class LDAPUserQueryImpl extends UserQueryImpl {
                 List<User> result = new ArrayList<>();
                 try {
                     String baseDn = ldapConfigurator.getUserBaseDn() != null ? ldapConfigurator.getUserBaseDn() : ldapConfigurator.getBaseDn();
-                    NamingEnumeration<?> namingEnum = initialDirContext.search(baseDn, searchExpression, createSearchControls());
-
-                    while (namingEnum.hasMore()) {
-                        SearchResult searchResult = (SearchResult) namingEnum.next();
-
+                    for (SearchResult searchResult : ldapTemplate.search(initialDirContext, baseDn, searchExpression, createSearchControls())) {
                         UserEntity user = new UserEntityImpl();
                         mapSearchResultToUser(searchResult, user);
                         result.add(user);
-
                     }
-                    namingEnum.close();
 
                 } catch (NamingException ne) {
                     LOGGER.debug("Could not execute LDAP query: {}", ne.getMessage(), ne);
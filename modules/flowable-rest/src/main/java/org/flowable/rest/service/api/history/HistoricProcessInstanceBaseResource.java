@@ -154,6 +154,9 @@ public class HistoricProcessInstanceBaseResource {
                 query.includeProcessVariables();
             }
         }
+        if (queryRequest.getIncludeProcessVariableNames() != null) {
+            query.includeProcessVariables(queryRequest.getIncludeProcessVariableNames());
+        }
         if (queryRequest.getVariables() != null) {
             addVariables(query, queryRequest.getVariables());
         }
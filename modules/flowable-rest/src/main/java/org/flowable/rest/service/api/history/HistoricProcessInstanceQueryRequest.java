@@ -13,6 +13,7 @@
 
 package org.flowable.rest.service.api.history;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 
@@ -53,6 +54,7 @@ public class HistoricProcessInstanceQueryRequest extends PaginateRequest {
     private Date startedBefore;
     private String startedBy;
     private Boolean includeProcessVariables;
+    private Collection<String> includeProcessVariableNames;
     private List<QueryVariable> variables;
     private String callbackId;
     private String callbackType;
@@ -268,6 +270,14 @@ public class HistoricProcessInstanceQueryRequest extends PaginateRequest {
         this.includeProcessVariables = includeProcessVariables;
     }
 
+    public Collection<String> getIncludeProcessVariableNames() {
+        return includeProcessVariableNames;
+    }
+
+    public void setIncludeProcessVariableNames(Collection<String> includeProcessVariableNames) {
+        this.includeProcessVariableNames = includeProcessVariableNames;
+    }
+
     @JsonTypeInfo(use = Id.CLASS, defaultImpl = QueryVariable.class)
     public List<QueryVariable> getVariables() {
         return variables;
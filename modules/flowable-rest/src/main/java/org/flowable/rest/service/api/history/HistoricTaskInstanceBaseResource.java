@@ -226,11 +226,17 @@ public class HistoricTaskInstanceBaseResource {
                 query.includeTaskLocalVariables();
             }
         }
+        if (queryRequest.getIncludeTaskLocalVariableNames() != null) {
+            query.includeTaskLocalVariables(queryRequest.getIncludeTaskLocalVariableNames());
+        }
         if (queryRequest.getIncludeProcessVariables() != null) {
             if (queryRequest.getIncludeProcessVariables()) {
                 query.includeProcessVariables();
             }
         }
+        if (queryRequest.getIncludeProcessVariableNames() != null) {
+            query.includeProcessVariables(queryRequest.getIncludeProcessVariableNames());
+        }
         if (queryRequest.getTaskVariables() != null) {
             addTaskVariables(query, queryRequest.getTaskVariables());
         }
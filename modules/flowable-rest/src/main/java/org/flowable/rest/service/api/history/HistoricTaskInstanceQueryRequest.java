@@ -71,7 +71,9 @@ public class HistoricTaskInstanceQueryRequest extends PaginateRequest {
     private Date taskCompletedBefore;
     private Date taskCompletedAfter;
     private Boolean includeTaskLocalVariables;
+    private Collection<String> includeTaskLocalVariableNames;
     private Boolean includeProcessVariables;
+    private Collection<String> includeProcessVariableNames;
     private List<QueryVariable> taskVariables;
     private List<QueryVariable> processVariables;
     private String scopeDefinitionId;
@@ -427,6 +429,14 @@ public class HistoricTaskInstanceQueryRequest extends PaginateRequest {
         this.includeTaskLocalVariables = includeTaskLocalVariables;
     }
 
+    public Collection<String> getIncludeTaskLocalVariableNames() {
+        return includeTaskLocalVariableNames;
+    }
+
+    public void setIncludeTaskLocalVariableNames(Collection<String> includeTaskLocalVariableNames) {
+        this.includeTaskLocalVariableNames = includeTaskLocalVariableNames;
+    }
+
     public Boolean getIncludeProcessVariables() {
         return includeProcessVariables;
     }
@@ -435,6 +445,14 @@ public class HistoricTaskInstanceQueryRequest extends PaginateRequest {
         this.includeProcessVariables = includeProcessVariables;
     }
 
+    public Collection<String> getIncludeProcessVariableNames() {
+        return includeProcessVariableNames;
+    }
+
+    public void setIncludeProcessVariableNames(Collection<String> includeProcessVariableNames) {
+        this.includeProcessVariableNames = includeProcessVariableNames;
+    }
+
     @JsonTypeInfo(use = Id.CLASS, defaultImpl = QueryVariable.class)
     public List<QueryVariable> getTaskVariables() {
         return taskVariables;
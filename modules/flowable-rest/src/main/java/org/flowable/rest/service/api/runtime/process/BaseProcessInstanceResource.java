@@ -153,6 +153,9 @@ public class BaseProcessInstanceResource {
                 query.includeProcessVariables();
             }
         }
+        if (queryRequest.getIncludeProcessVariableNames() != null) {
+            query.includeProcessVariables(queryRequest.getIncludeProcessVariableNames());
+        }
         if (queryRequest.getVariables() != null) {
             addVariables(query, queryRequest.getVariables());
         }
@@ -19,7 +19,10 @@ import io.swagger.annotations.ApiParam;
 import io.swagger.annotations.ApiResponse;
 import io.swagger.annotations.ApiResponses;
 import io.swagger.annotations.Authorization;
+import org.flowable.engine.impl.cache.ProcessInstanceReadCache;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.runtime.Execution;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RestController;
@@ -34,6 +37,9 @@ import java.util.List;
 @Api(tags = { "Executions" }, description = "Manage Executions", authorizations = { @Authorization(value = "basicAuth") })
 public class ExecutionActiveActivitiesCollectionResource extends ExecutionBaseResource {
 
+    @Autowired
+    protected ProcessEngineConfigurationImpl processEngineConfiguration;
+
     @ApiOperation(value = "List active activities in an execution", nickname="listExecutionActiveActivities", tags = { "Executions" },
             notes = "Returns all activities which are active in the execution and in all child-executions (and their children, recursively), if any.")
     @ApiResponses(value = {
@@ -43,6 +49,11 @@ public class ExecutionActiveActivitiesCollectionResource extends ExecutionBaseRe
     @GetMapping(value = "/runtime/executions/{executionId}/activities", produces = "application/json")
     public List<String> getActiveActivities(@ApiParam(name = "executionId") @PathVariable String executionId) {
         Execution execution = getExecutionFromRequest(executionId);
+        ProcessInstanceReadCache processInstanceReadCache = processEngineConfiguration.getProcessInstanceReadCache();
+        if (processInstanceReadCache != null) {
+            return processInstanceReadCache.get(execution.getProcessInstanceId(), "activeActivityIds:" + execution.getId(),
+                    () -> runtimeService.getActiveActivityIds(execution.getId()));
+        }
         return runtimeService.getActiveActivityIds(execution.getId());
     }
 }
@@ -24,6 +24,8 @@ import org.flowable.bpmn.model.BpmnModel;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.engine.ProcessEngineConfiguration;
 import org.flowable.engine.RepositoryService;
+import org.flowable.engine.impl.cache.ProcessInstanceReadCache;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.repository.ProcessDefinition;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.image.ProcessDiagramGenerator;
@@ -36,8 +38,10 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RestController;
 
 import javax.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import java.util.Collections;
+import java.util.List;
 
 /**
  * @author Frederik Heremans
@@ -67,7 +71,7 @@ public class ProcessInstanceDiagramResource extends BaseProcessInstanceResource
         if (pde != null && pde.hasGraphicalNotation()) {
             BpmnModel bpmnModel = repositoryService.getBpmnModel(pde.getId());
             ProcessDiagramGenerator diagramGenerator = processEngineConfiguration.getProcessDiagramGenerator();
-            InputStream resource = diagramGenerator.generateDiagram(bpmnModel, "png", runtimeService.getActiveActivityIds(processInstance.getId()), Collections.<String>emptyList(),
+            InputStream resource = diagramGenerator.generateCachedDiagram(pde.getId(), bpmnModel, "png", getActiveActivityIds(processInstance.getId()), Collections.<String>emptyList(),
                     processEngineConfiguration.getActivityFontName(), processEngineConfiguration.getLabelFontName(),
                     processEngineConfiguration.getAnnotationFontName(), processEngineConfiguration.getClassLoader(), 1.0,processEngineConfiguration.isDrawSequenceFlowNameWithNoLabelDI());
 
@@ -83,4 +87,43 @@ public class ProcessInstanceDiagramResource extends BaseProcessInstanceResource
             throw new FlowableIllegalArgumentException("Process instance with id '" + processInstance.getId() + "' has no graphical notation defined.");
         }
     }
+
+    @ApiOperation(value = "Get diagram for a process instance as SVG", tags = { "Process Instances" },
+            notes = "Returned instead of the PNG diagram when the request accepts image/svg+xml.")
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Indicates the process instance was found and the diagram was returned."),
+            @ApiResponse(code = 400, message = "Indicates the requested process instance was not found but the process does not contain any graphical information (BPMN:DI) and no diagram can be created."),
+            @ApiResponse(code = 404, message = "Indicates the requested process instance was not found.")
+    })
+    @GetMapping(value = "/runtime/process-instances/{processInstanceId}/diagram", produces = "image/svg+xml")
+    public ResponseEntity<byte[]> getProcessInstanceSvgDiagram(@ApiParam(name = "processInstanceId") @PathVariable String processInstanceId, HttpServletResponse response) {
+        ProcessInstance processInstance = getProcessInstanceFromRequest(processInstanceId);
+
+        ProcessDefinition pde = repositoryService.getProcessDefinition(processInstance.getProcessDefinitionId());
+
+        if (pde != null && pde.hasGraphicalNotation()) {
+            BpmnModel bpmnModel = repositoryService.getBpmnModel(pde.getId());
+            ProcessDiagramGenerator diagramGenerator = processEngineConfiguration.getProcessDiagramGenerator();
+            ByteArrayOutputStream svgDiagram = new ByteArrayOutputStream();
+            diagramGenerator.writeSvgDiagram(pde.getId(), bpmnModel, getActiveActivityIds(processInstance.getId()), Collections.<String>emptyList(),
+                    processEngineConfiguration.getActivityFontName(), processEngineConfiguration.getLabelFontName(),
+                    processEngineConfiguration.getAnnotationFontName(), processEngineConfiguration.getClassLoader(), 1.0,
+                    processEngineConfiguration.isDrawSequenceFlowNameWithNoLabelDI(), svgDiagram);
+
+            HttpHeaders responseHeaders = new HttpHeaders();
+            responseHeaders.set("Content-Type", "image/svg+xml");
+            return new ResponseEntity<>(svgDiagram.toByteArray(), responseHeaders, HttpStatus.OK);
+
+        } else {
+            throw new FlowableIllegalArgumentException("Process instance with id '" + processInstance.getId() + "' has no graphical notation defined.");
+        }
+    }
+
+    protected List<String> getActiveActivityIds(String processInstanceId) {
+        ProcessInstanceReadCache processInstanceReadCache = ((ProcessEngineConfigurationImpl) processEngineConfiguration).getProcessInstanceReadCache();
+        if (processInstanceReadCache != null) {
+            return processInstanceReadCache.get(processInstanceId, "activeActivityIds", () -> runtimeService.getActiveActivityIds(processInstanceId));
+        }
+        return runtimeService.getActiveActivityIds(processInstanceId);
+    }
 }
@@ -13,6 +13,7 @@
 
 package org.flowable.rest.service.api.runtime.process;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Set;
@@ -54,6 +55,7 @@ public class ProcessInstanceQueryRequest extends PaginateRequest {
     private Date startedAfter;
     private Boolean suspended;
     private Boolean includeProcessVariables;
+    private Collection<String> includeProcessVariableNames;
     private List<QueryVariable> variables;
     private String callbackId;
     private String callbackType;
@@ -269,6 +271,14 @@ public class ProcessInstanceQueryRequest extends PaginateRequest {
         this.includeProcessVariables = includeProcessVariables;
     }
 
+    public Collection<String> getIncludeProcessVariableNames() {
+        return includeProcessVariableNames;
+    }
+
+    public void setIncludeProcessVariableNames(Collection<String> includeProcessVariableNames) {
+        this.includeProcessVariableNames = includeProcessVariableNames;
+    }
+
     @JsonTypeInfo(use = Id.CLASS, defaultImpl = QueryVariable.class)
     public List<QueryVariable> getVariables() {
         return variables;
@@ -248,11 +248,17 @@ public class TaskBaseResource {
                 taskQuery.includeTaskLocalVariables();
             }
         }
+        if (request.getIncludeTaskLocalVariableNames() != null) {
+            taskQuery.includeTaskLocalVariables(request.getIncludeTaskLocalVariableNames());
+        }
         if (request.getIncludeProcessVariables() != null) {
             if (request.getIncludeProcessVariables()) {
                 taskQuery.includeProcessVariables();
             }
         }
+        if (request.getIncludeProcessVariableNames() != null) {
+            taskQuery.includeProcessVariables(request.getIncludeProcessVariableNames());
+        }
 
         if (request.getProcessInstanceBusinessKeyLike() != null) {
             taskQuery.processInstanceBusinessKeyLike(request.getProcessInstanceBusinessKeyLike());
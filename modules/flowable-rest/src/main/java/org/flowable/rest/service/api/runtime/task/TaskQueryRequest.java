@@ -68,7 +68,9 @@ public class TaskQueryRequest extends PaginateRequest {
     private Boolean withoutDueDate;
     private Boolean active;
     private Boolean includeTaskLocalVariables;
+    private Collection<String> includeTaskLocalVariableNames;
     private Boolean includeProcessVariables;
+    private Collection<String> includeProcessVariableNames;
     private String scopeDefinitionId;
     private String scopeId;
     private String scopeType;
@@ -353,6 +355,14 @@ public class TaskQueryRequest extends PaginateRequest {
         this.includeTaskLocalVariables = includeTaskLocalVariables;
     }
 
+    public Collection<String> getIncludeTaskLocalVariableNames() {
+        return includeTaskLocalVariableNames;
+    }
+
+    public void setIncludeTaskLocalVariableNames(Collection<String> includeTaskLocalVariableNames) {
+        this.includeTaskLocalVariableNames = includeTaskLocalVariableNames;
+    }
+
     public Boolean getIncludeProcessVariables() {
         return includeProcessVariables;
     }
@@ -361,6 +371,14 @@ public class TaskQueryRequest extends PaginateRequest {
         this.includeProcessVariables = includeProcessVariables;
     }
 
+    public Collection<String> getIncludeProcessVariableNames() {
+        return includeProcessVariableNames;
+    }
+
+    public void setIncludeProcessVariableNames(Collection<String> includeProcessVariableNames) {
+        this.includeProcessVariableNames = includeProcessVariableNames;
+    }
+
     @JsonTypeInfo(use = Id.CLASS, defaultImpl = QueryVariable.class)
     public List<QueryVariable> getTaskVariables() {
         return taskVariables;
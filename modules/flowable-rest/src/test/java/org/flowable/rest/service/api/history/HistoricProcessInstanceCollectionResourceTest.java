@@ -14,12 +14,14 @@
 package org.flowable.rest.service.api.history;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -125,6 +127,85 @@ public class HistoricProcessInstanceCollectionResourceTest extends BaseSpringRes
         assertEquals(processInstance3.getId(), dataNode.get(2).get("id").asText());
     }
 
+    /**
+     * Test keyset pagination and skipping the total count. GET history/historic-process-instances
+     */
+    @Test
+    @Deployment(resources = { "org/flowable/rest/service/api/history/HistoricProcessInstanceCollectionResourceTest.testQueryProcessInstances.bpmn20.xml" })
+    public void testQueryProcessInstancesAfterId() throws Exception {
+        List<String> processInstanceIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            processInstanceIds.add(runtimeService.startProcessInstanceByKey("oneTaskProcess").getId());
+        }
+        Collections.sort(processInstanceIds);
+
+        String url = RestUrls.createRelativeResourceUrl(RestUrls.URL_HISTORIC_PROCESS_INSTANCES);
+
+        // An empty cursor fetches the first page, the following pages continue after the returned cursor
+        JsonNode responseNode = getResponseNode(url + "?size=2&after=");
+        assertEquals(5, responseNode.get("total").intValue());
+        assertDataIds(responseNode, processInstanceIds.get(0), processInstanceIds.get(1));
+
+        responseNode = getResponseNode(url + "?size=2&after=" + responseNode.get("next").asText());
+        assertEquals(5, responseNode.get("total").intValue());
+        assertDataIds(responseNode, processInstanceIds.get(2), processInstanceIds.get(3));
+        String cursor = responseNode.get("next").asText();
+
+        responseNode = getResponseNode(url + "?size=2&after=" + cursor);
+        assertDataIds(responseNode, processInstanceIds.get(4));
+        assertFalse(responseNode.hasNonNull("next"));
+
+        responseNode = getResponseNode(url + "?size=2&order=desc&after=" + cursor);
+        assertDataIds(responseNode, processInstanceIds.get(2), processInstanceIds.get(1));
+
+        // Without the total, the returned total only tells whether there are more results
+        responseNode = getResponseNode(url + "?size=2&includeTotal=false&after=");
+        assertEquals(3, responseNode.get("total").intValue());
+        assertDataIds(responseNode, processInstanceIds.get(0), processInstanceIds.get(1));
+
+        responseNode = getResponseNode(url + "?size=3&includeTotal=false&after=" + responseNode.get("next").asText());
+        assertEquals(3, responseNode.get("total").intValue());
+        assertDataIds(responseNode, processInstanceIds.get(2), processInstanceIds.get(3), processInstanceIds.get(4));
+        assertFalse(responseNode.hasNonNull("next"));
+
+        // Ordering by start time uses the id for instances started at the same time
+        List<String> startTimeOrderedIds = new ArrayList<>();
+        responseNode = getResponseNode(url + "?size=2&sort=startTime&after=");
+        while (responseNode.get("data").size() > 0) {
+            responseNode.get("data").forEach(dataNode -> startTimeOrderedIds.add(dataNode.get("id").asText()));
+            if (!responseNode.hasNonNull("next")) {
+                break;
+            }
+            responseNode = getResponseNode(url + "?size=2&sort=startTime&after=" + responseNode.get("next").asText());
+        }
+        List<String> expectedStartTimeOrderedIds = new ArrayList<>();
+        historyService.createHistoricProcessInstanceQuery().orderByProcessInstanceStartTime().asc().orderByProcessInstanceId().asc().list()
+            .forEach(historicProcessInstance -> expectedStartTimeOrderedIds.add(historicProcessInstance.getId()));
+        assertEquals(expectedStartTimeOrderedIds, startTimeOrderedIds);
+
+        // Cursors are only possible when ordering by id or start time, for the order they were created for and without an offset
+        closeResponse(executeRequest(new HttpGet(SERVER_URL_PREFIX + url + "?sort=endTime&after="), HttpStatus.SC_BAD_REQUEST));
+        closeResponse(executeRequest(new HttpGet(SERVER_URL_PREFIX + url + "?sort=startTime&after=" + cursor), HttpStatus.SC_BAD_REQUEST));
+        closeResponse(executeRequest(new HttpGet(SERVER_URL_PREFIX + url + "?after=" + processInstanceIds.get(1)), HttpStatus.SC_BAD_REQUEST));
+        closeResponse(executeRequest(new HttpGet(SERVER_URL_PREFIX + url + "?start=2&after=" + cursor), HttpStatus.SC_BAD_REQUEST));
+    }
+
+    protected JsonNode getResponseNode(String url) throws IOException {
+        CloseableHttpResponse response = executeRequest(new HttpGet(SERVER_URL_PREFIX + url), HttpStatus.SC_OK);
+        JsonNode responseNode = objectMapper.readTree(response.getEntity().getContent());
+        closeResponse(response);
+        return responseNode;
+    }
+
+    protected void assertDataIds(JsonNode responseNode, String... expectedIds) {
+        List<String> ids = new ArrayList<>();
+        for (JsonNode dataNode : responseNode.get("data")) {
+            ids.add(dataNode.get("id").textValue());
+        }
+        assertEquals(Arrays.asList(expectedIds), ids);
+        assertEquals(expectedIds.length, responseNode.get("size").intValue());
+    }
+
     @Override
     protected void assertResultsPresentInDataResponse(String url, String... expectedResourceIds) throws JsonProcessingException, IOException {
         int numberOfResultsExpected = expectedResourceIds.length;
@@ -15,7 +15,11 @@ package org.flowable.rest.service.api.runtime;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
+import java.nio.charset.StandardCharsets;
+
+import org.apache.commons.io.IOUtils;
 import org.apache.http.HttpStatus;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
@@ -42,6 +46,21 @@ public class ProcessInstanceDiagramResourceTest extends BaseSpringRestTestCase {
         closeResponse(response);
     }
 
+    @Test
+    @Deployment(resources = { "org/flowable/rest/service/api/runtime/ProcessInstanceDiagramResourceTest.testGetProcessDiagram.bpmn20.xml" })
+    public void testGetProcessDiagramAsSvg() throws Exception {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("simpleProcess");
+
+        HttpGet httpGet = new HttpGet(SERVER_URL_PREFIX + RestUrls.createRelativeResourceUrl(RestUrls.URL_PROCESS_INSTANCE_DIAGRAM, processInstance.getId()));
+        httpGet.addHeader("Accept", "image/svg+xml");
+        CloseableHttpResponse response = executeRequest(httpGet, HttpStatus.SC_OK);
+        assertEquals("image/svg+xml", response.getEntity().getContentType().getValue());
+        String svg = IOUtils.toString(response.getEntity().getContent(), StandardCharsets.UTF_8);
+        assertTrue(svg.startsWith("<svg "));
+        assertTrue(svg.contains("data:image/png;base64,"));
+        closeResponse(response);
+    }
+
     @Test
     @Deployment
     public void testGetProcessDiagramWithoutDiagram() throws Exception {
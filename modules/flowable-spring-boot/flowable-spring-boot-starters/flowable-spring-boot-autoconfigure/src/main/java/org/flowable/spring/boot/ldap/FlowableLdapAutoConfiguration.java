@@ -109,6 +109,8 @@ public class FlowableLdapAutoConfiguration {
             if (ldapConfiguration.getGroupCacheListener() != null) {
                 ldapGroupCache.setLdapCacheListener(ldapConfiguration.getGroupCacheListener());
             }
+
+            ldapGroupCache.setRefreshAheadTime(ldapConfiguration.getGroupCacheRefreshAheadTime());
         }
         return ldapGroupCache;
     }
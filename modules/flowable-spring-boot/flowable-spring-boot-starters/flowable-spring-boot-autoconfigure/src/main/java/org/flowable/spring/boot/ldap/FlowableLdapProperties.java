@@ -92,6 +92,16 @@ public class FlowableLdapProperties {
      */
     private int searchTimeLimit = 0;
 
+    /**
+     * The page size used when searching for lists of users and groups. By default set to '0', which means no paging is done.
+     */
+    private int searchPageSize = 0;
+
+    /**
+     * The maximum number of users combined in one search when fetching the groups of multiple users at once.
+     */
+    private int groupMembersBatchSize = 50;
+
     /**
      * Configuration for the queries performed by the IDM Service.
      */
@@ -110,6 +120,12 @@ public class FlowableLdapProperties {
     @NestedConfigurationProperty
     private final Cache cache = new Cache();
 
+    /**
+     * Configuration for the LDAP connection pooling.
+     */
+    @NestedConfigurationProperty
+    private final Pool pool = new Pool();
+
     public boolean isEnabled() {
         return enabled;
     }
@@ -206,6 +222,22 @@ public class FlowableLdapProperties {
         this.searchTimeLimit = searchTimeLimit;
     }
 
+    public int getSearchPageSize() {
+        return searchPageSize;
+    }
+
+    public void setSearchPageSize(int searchPageSize) {
+        this.searchPageSize = searchPageSize;
+    }
+
+    public int getGroupMembersBatchSize() {
+        return groupMembersBatchSize;
+    }
+
+    public void setGroupMembersBatchSize(int groupMembersBatchSize) {
+        this.groupMembersBatchSize = groupMembersBatchSize;
+    }
+
     public Query getQuery() {
         return query;
     }
@@ -218,6 +250,10 @@ public class FlowableLdapProperties {
         return cache;
     }
 
+    public Pool getPool() {
+        return pool;
+    }
+
     public void customize(LDAPConfiguration configuration) {
         configuration.setServer(getServer());
         configuration.setPort(getPort());
@@ -230,9 +266,12 @@ public class FlowableLdapProperties {
         configuration.setUserBaseDn(getUserBaseDn());
         configuration.setGroupBaseDn(getGroupBaseDn());
         configuration.setSearchTimeLimit(getSearchTimeLimit());
+        configuration.setSearchPageSize(getSearchPageSize());
+        configuration.setGroupMembersBatchSize(getGroupMembersBatchSize());
         query.customize(configuration);
         attribute.customize(configuration);
         cache.customize(configuration);
+        pool.customize(configuration);
     }
 
     public static class Query {
@@ -509,6 +548,14 @@ public class FlowableLdapProperties {
         //TODO once we move to Boot 2.0 we can use Duration as a parameter’
         private long groupExpiration = Duration.of(1, ChronoUnit.HOURS).toMillis();
 
+        /**
+         * Sets the time in milliseconds before the expiration of a {@link org.flowable.ldap.LDAPGroupCache} entry during which fetching the groups of that user
+         * triggers an asynchronous reload from the LDAP system, while the cached groups are still returned.
+         * <p>
+         * By default set to 0, meaning entries are only reloaded after they have expired.
+         */
+        private long groupRefreshAhead;
+
         public int getGroupSize() {
             return groupSize;
         }
@@ -525,9 +572,108 @@ public class FlowableLdapProperties {
             this.groupExpiration = groupExpiration;
         }
 
+        public long getGroupRefreshAhead() {
+            return groupRefreshAhead;
+        }
+
+        public void setGroupRefreshAhead(long groupRefreshAhead) {
+            this.groupRefreshAhead = groupRefreshAhead;
+        }
+
         public void customize(LDAPConfiguration configuration) {
             configuration.setGroupCacheSize(getGroupSize());
             configuration.setGroupCacheExpirationTime(getGroupExpiration());
+            configuration.setGroupCacheRefreshAheadTime(getGroupRefreshAhead());
+        }
+    }
+
+    public static class Pool {
+
+        /**
+         * Whether the connections bound with the configured user are pooled. By default a new connection is created for each query.
+         */
+        private boolean enabled = false;
+
+        /**
+         * The maximum number of pooled connections that can be in use at the same time.
+         */
+        private int maxActive = 8;
+
+        /**
+         * The maximum number of idle connections kept in the pool.
+         */
+        private int maxIdle = 8;
+
+        /**
+         * The maximum time (in milliseconds) to wait for a pooled connection when all of them are in use.
+         */
+        private long maxWait = Duration.of(30, ChronoUnit.SECONDS).toMillis();
+
+        /**
+         * The time (in milliseconds) after which an idle connection is discarded instead of being reused.
+         */
+        private long maxIdleTime = Duration.of(10, ChronoUnit.MINUTES).toMillis();
+
+        /**
+         * Whether an idle connection is validated before being used.
+         */
+        private boolean validateOnBorrow = true;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMaxActive() {
+            return maxActive;
+        }
+
+        public void setMaxActive(int maxActive) {
+            this.maxActive = maxActive;
+        }
+
+        public int getMaxIdle() {
+            return maxIdle;
+        }
+
+        public void setMaxIdle(int maxIdle) {
+            this.maxIdle = maxIdle;
+        }
+
+        public long getMaxWait() {
+            return maxWait;
+        }
+
+        public void setMaxWait(long maxWait) {
+            this.maxWait = maxWait;
+        }
+
+        public long getMaxIdleTime() {
+            return maxIdleTime;
+        }
+
+        public void setMaxIdleTime(long maxIdleTime) {
+            this.maxIdleTime = maxIdleTime;
+        }
+
+        public boolean isValidateOnBorrow() {
+            return validateOnBorrow;
+        }
+
+        public void setValidateOnBorrow(boolean validateOnBorrow) {
+            this.validateOnBorrow = validateOnBorrow;
+        }
+
+        public void customize(LDAPConfiguration configuration) {
+            configuration.setConnectionPoolEnabled(isEnabled());
+            configuration.setConnectionPoolMaxActive(getMaxActive());
+            configuration.setConnectionPoolMaxIdle(getMaxIdle());
+            configuration.setConnectionPoolMaxWait(getMaxWait());
+            configuration.setConnectionPoolMaxIdleTime(getMaxIdleTime());
+            configuration.setConnectionPoolValidateOnBorrow(isValidateOnBorrow());
         }
     }
 }
@@ -40,6 +40,8 @@ public class FlowableLdapPropertiesTest {
         properties.setUserBaseDn("org.flowable.user");
         properties.setGroupBaseDn("org.flowable.group");
         properties.setSearchTimeLimit(1000);
+        properties.setSearchPageSize(500);
+        properties.setGroupMembersBatchSize(20);
 
         FlowableLdapProperties.Query query = properties.getQuery();
         query.setUserById("(&(objectClass=inetOrgPerson)(uid={0}))");
@@ -61,6 +63,15 @@ public class FlowableLdapPropertiesTest {
         FlowableLdapProperties.Cache cache = properties.getCache();
         cache.setGroupSize(400);
         cache.setGroupExpiration(5000);
+        cache.setGroupRefreshAhead(1000);
+
+        FlowableLdapProperties.Pool pool = properties.getPool();
+        pool.setEnabled(true);
+        pool.setMaxActive(4);
+        pool.setMaxIdle(2);
+        pool.setMaxWait(1000);
+        pool.setMaxIdleTime(2000);
+        pool.setValidateOnBorrow(false);
 
         LDAPConfiguration ldapConfiguration = new LDAPConfiguration();
         properties.customize(ldapConfiguration);
@@ -83,8 +94,16 @@ public class FlowableLdapPropertiesTest {
                 "groupTypeAttribute",
                 "groupCacheSize",
                 "groupCacheExpirationTime",
+                "groupCacheRefreshAheadTime",
                 "ldapQueryBuilder",
-                "groupCacheListener"
+                "groupCacheListener",
+                "connectionPoolEnabled",
+                "connectionPoolMaxActive",
+                "connectionPoolMaxIdle",
+                "connectionPoolMaxWait",
+                "connectionPoolMaxIdleTime",
+                "connectionPoolValidateOnBorrow",
+                "connectionPool"
             );
 
         assertThat(ldapConfiguration)
@@ -126,10 +145,29 @@ public class FlowableLdapPropertiesTest {
         assertThat(ldapConfiguration)
             .as("Cache properties")
             .extracting("groupCacheSize",
-                "groupCacheExpirationTime")
+                "groupCacheExpirationTime",
+                "groupCacheRefreshAheadTime")
             .containsExactly(
                 cache.getGroupSize(),
-                cache.getGroupExpiration()
+                cache.getGroupExpiration(),
+                cache.getGroupRefreshAhead()
+            );
+
+        assertThat(ldapConfiguration)
+            .as("Pool properties")
+            .extracting("connectionPoolEnabled",
+                "connectionPoolMaxActive",
+                "connectionPoolMaxIdle",
+                "connectionPoolMaxWait",
+                "connectionPoolMaxIdleTime",
+                "connectionPoolValidateOnBorrow")
+            .containsExactly(
+                pool.isEnabled(),
+                pool.getMaxActive(),
+                pool.getMaxIdle(),
+                pool.getMaxWait(),
+                pool.getMaxIdleTime(),
+                pool.isValidateOnBorrow()
             );
     }
-}
\ No newline at end of file
+}
@@ -642,7 +642,23 @@ public interface TaskInfoQuery<T extends TaskInfoQuery<?, ?>, V extends TaskInfo
     T includeProcessVariables();
 
     /**
-     * Limit task variables
+     * Include only the local task variables with the given names in the task query result. Other local task variables are not fetched.
+     *
+     * @param variableNames
+     *            cannot be null or empty.
+     */
+    T includeTaskLocalVariables(Collection<String> variableNames);
+
+    /**
+     * Include only the global task variables with the given names in the task query result. Other global task variables are not fetched.
+     *
+     * @param variableNames
+     *            cannot be null or empty.
+     */
+    T includeProcessVariables(Collection<String> variableNames);
+
+    /**
+     * Limit task variables. Only used by the historic task instance query, the {@link TaskQuery} ignores it.
      */
     T limitTaskVariables(Integer taskVariablesLimit);
 
@@ -50,4 +50,11 @@ public interface TaskQuery extends TaskInfoQuery<TaskQuery, Task> {
      * Only selects tasks which are active (ie. not suspended)
      */
     TaskQuery active();
+
+    /**
+     * @deprecated This limit is ignored. The task query is paged by the database and the variables of the returned tasks are fetched separately.
+     */
+    @Override
+    @Deprecated
+    TaskQuery limitTaskVariables(Integer taskVariablesLimit);
 }
@@ -17,6 +17,7 @@ import org.flowable.task.api.TaskBuilder;
 import org.flowable.task.api.TaskQuery;
 import org.flowable.task.service.impl.persistence.entity.TaskEntity;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -58,4 +59,10 @@ public interface TaskService {
     void deleteTask(TaskEntity task, boolean fireEvents);
     
     void deleteTasksByExecutionId(String executionId);
+
+    /**
+     * Deletes the tasks of the given process instances with a set-based delete.
+     * No events are dispatched and the related data of the tasks (e.g. identity links or variables) is not deleted.
+     */
+    void deleteTasksByProcessInstanceIds(Collection<String> processInstanceIds);
 }
@@ -267,10 +267,15 @@ public class TaskServiceConfiguration extends AbstractServiceConfiguration {
         return this;
     }
 
+    @Deprecated
     public int getTaskQueryLimit() {
         return taskQueryLimit;
     }
 
+    /**
+     * @deprecated This limit is ignored. The task query with variables is paged by the database and the variables of the page are fetched separately.
+     */
+    @Deprecated
     public TaskServiceConfiguration setTaskQueryLimit(int taskQueryLimit) {
         this.taskQueryLimit = taskQueryLimit;
         return this;
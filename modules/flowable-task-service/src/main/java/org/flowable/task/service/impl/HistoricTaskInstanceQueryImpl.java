@@ -18,6 +18,7 @@ import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Objects;
+import java.util.stream.Stream;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
@@ -28,7 +29,9 @@ import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
 import org.flowable.idm.api.Group;
+import org.flowable.idm.api.IdmEngineConfigurationApi;
 import org.flowable.idm.api.IdmIdentityService;
+import org.flowable.idm.api.UserGroupMembershipCache;
 import org.flowable.task.api.history.HistoricTaskInstance;
 import org.flowable.task.api.history.HistoricTaskInstanceQuery;
 import org.flowable.task.service.TaskServiceConfiguration;
@@ -130,6 +133,8 @@ public class HistoricTaskInstanceQueryImpl extends AbstractVariableQueryImpl<His
     protected boolean withLocalizationFallback;
     protected boolean includeTaskLocalVariables;
     protected boolean includeProcessVariables;
+    protected Collection<String> taskVariableNamesToInclude;
+    protected Collection<String> processVariableNamesToInclude;
     protected Integer taskVariablesLimit;
     protected boolean includeIdentityLinks;
     protected List<HistoricTaskInstanceQueryImpl> orQueryObjects = new ArrayList<>();
@@ -199,6 +204,37 @@ public class HistoricTaskInstanceQueryImpl extends AbstractVariableQueryImpl<His
         return tasks;
     }
 
+    @Override
+    public List<HistoricTaskInstance> listPageAfter(String cursor, int maxResults) {
+        return listPageAfter(cursor, maxResults, HistoricTaskInstanceQueryProperty.START);
+    }
+
+    @Override
+    public String getCursor(HistoricTaskInstance result) {
+        return createCursor(result.getId(), result.getCreateTime(), HistoricTaskInstanceQueryProperty.START);
+    }
+
+    @Override
+    public Stream<HistoricTaskInstance> executeStream(CommandContext commandContext) {
+        if (includeTaskLocalVariables || includeProcessVariables || includeIdentityLinks) {
+            throw new FlowableIllegalArgumentException("Including variables or identity links is not supported when streaming historic task instances");
+        }
+
+        ensureVariablesInitialized();
+
+        TaskServiceConfiguration taskServiceConfiguration = CommandContextUtil.getTaskServiceConfiguration(commandContext);
+        if (taskServiceConfiguration.getHistoricTaskQueryInterceptor() != null) {
+            taskServiceConfiguration.getHistoricTaskQueryInterceptor().beforeHistoricTaskQueryExecute(this);
+        }
+
+        Stream<HistoricTaskInstance> tasks = CommandContextUtil.getHistoricTaskInstanceEntityManager(commandContext).streamHistoricTaskInstancesByQueryCriteria(this);
+        if (taskServiceConfiguration.getInternalTaskLocalizationManager() != null && taskServiceConfiguration.isEnableLocalization()) {
+            tasks = tasks.peek(task -> taskServiceConfiguration.getInternalTaskLocalizationManager().localize(task, locale, withLocalizationFallback));
+        }
+
+        return tasks;
+    }
+
     protected void addCachedVariableForQueryById(CommandContext commandContext, List<HistoricTaskInstance> results, boolean local) {
         for (HistoricTaskInstance task : results) {
             if (Objects.equals(taskId, task.getId())) {
@@ -1482,12 +1518,40 @@ public class HistoricTaskInstanceQueryImpl extends AbstractVariableQueryImpl<His
     @Override
     public HistoricTaskInstanceQuery includeTaskLocalVariables() {
         this.includeTaskLocalVariables = true;
+        this.taskVariableNamesToInclude = null;
         return this;
     }
 
     @Override
     public HistoricTaskInstanceQuery includeProcessVariables() {
         this.includeProcessVariables = true;
+        this.processVariableNamesToInclude = null;
+        return this;
+    }
+
+    @Override
+    public HistoricTaskInstanceQuery includeTaskLocalVariables(Collection<String> variableNames) {
+        if (variableNames == null) {
+            throw new FlowableIllegalArgumentException("Variable names is null");
+        }
+        if (variableNames.isEmpty()) {
+            throw new FlowableIllegalArgumentException("Variable names is empty");
+        }
+        this.includeTaskLocalVariables = true;
+        this.taskVariableNamesToInclude = new ArrayList<>(variableNames);
+        return this;
+    }
+
+    @Override
+    public HistoricTaskInstanceQuery includeProcessVariables(Collection<String> variableNames) {
+        if (variableNames == null) {
+            throw new FlowableIllegalArgumentException("Variable names is null");
+        }
+        if (variableNames.isEmpty()) {
+            throw new FlowableIllegalArgumentException("Variable names is empty");
+        }
+        this.includeProcessVariables = true;
+        this.processVariableNamesToInclude = new ArrayList<>(variableNames);
         return this;
     }
 
@@ -1691,13 +1755,23 @@ public class HistoricTaskInstanceQueryImpl extends AbstractVariableQueryImpl<His
     }
 
     protected Collection<String> getGroupsForCandidateUser(String candidateUser) {
-        Collection<String> groupIds = new ArrayList<>();
         IdmIdentityService idmIdentityService = CommandContextUtil.getTaskServiceConfiguration().getIdmIdentityService();
         if (idmIdentityService != null) {
-            List<Group> groups = idmIdentityService.createGroupQuery().groupMember(candidateUser).list();
-            for (Group group : groups) {
-                groupIds.add(group.getId());
+            IdmEngineConfigurationApi idmEngineConfiguration = CommandContextUtil.getIdmEngineConfiguration();
+            UserGroupMembershipCache userGroupMembershipCache = idmEngineConfiguration != null ? idmEngineConfiguration.getUserGroupMembershipCache() : null;
+            if (userGroupMembershipCache != null) {
+                return userGroupMembershipCache.getGroupIds(candidateUser, userId -> findGroupIds(idmIdentityService, userId));
             }
+            return findGroupIds(idmIdentityService, candidateUser);
+        }
+        return new ArrayList<>();
+    }
+
+    protected List<String> findGroupIds(IdmIdentityService idmIdentityService, String userId) {
+        List<String> groupIds = new ArrayList<>();
+        List<Group> groups = idmIdentityService.createGroupQuery().groupMember(userId).list();
+        for (Group group : groups) {
+            groupIds.add(group.getId());
         }
         return groupIds;
     }
@@ -1914,6 +1988,14 @@ public class HistoricTaskInstanceQueryImpl extends AbstractVariableQueryImpl<His
         return includeProcessVariables;
     }
 
+    public Collection<String> getTaskVariableNamesToInclude() {
+        return taskVariableNamesToInclude;
+    }
+
+    public Collection<String> getProcessVariableNamesToInclude() {
+        return processVariableNamesToInclude;
+    }
+
     public boolean isIncludeIdentityLinks() {
         return includeIdentityLinks;
     }
@@ -29,6 +29,7 @@ import org.flowable.common.engine.impl.persistence.cache.EntityCache;
 import org.flowable.idm.api.Group;
 import org.flowable.idm.api.IdmEngineConfigurationApi;
 import org.flowable.idm.api.IdmIdentityService;
+import org.flowable.idm.api.UserGroupMembershipCache;
 import org.flowable.task.api.DelegationState;
 import org.flowable.task.api.Task;
 import org.flowable.task.api.TaskQuery;
@@ -126,6 +127,8 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
     protected boolean excludeSubtasks;
     protected boolean includeTaskLocalVariables;
     protected boolean includeProcessVariables;
+    protected Collection<String> taskVariableNamesToInclude;
+    protected Collection<String> processVariableNamesToInclude;
     protected Integer taskVariablesLimit;
     protected boolean includeIdentityLinks;
     protected String userIdForCandidateAndAssignee;
@@ -1460,12 +1463,40 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
     @Override
     public TaskQuery includeTaskLocalVariables() {
         this.includeTaskLocalVariables = true;
+        this.taskVariableNamesToInclude = null;
         return this;
     }
 
     @Override
     public TaskQuery includeProcessVariables() {
         this.includeProcessVariables = true;
+        this.processVariableNamesToInclude = null;
+        return this;
+    }
+
+    @Override
+    public TaskQuery includeTaskLocalVariables(Collection<String> variableNames) {
+        if (variableNames == null) {
+            throw new FlowableIllegalArgumentException("Variable names is null");
+        }
+        if (variableNames.isEmpty()) {
+            throw new FlowableIllegalArgumentException("Variable names is empty");
+        }
+        this.includeTaskLocalVariables = true;
+        this.taskVariableNamesToInclude = new ArrayList<>(variableNames);
+        return this;
+    }
+
+    @Override
+    public TaskQuery includeProcessVariables(Collection<String> variableNames) {
+        if (variableNames == null) {
+            throw new FlowableIllegalArgumentException("Variable names is null");
+        }
+        if (variableNames.isEmpty()) {
+            throw new FlowableIllegalArgumentException("Variable names is empty");
+        }
+        this.includeProcessVariables = true;
+        this.processVariableNamesToInclude = new ArrayList<>(variableNames);
         return this;
     }
 
@@ -1509,17 +1540,26 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
     }
 
     protected Collection<String> getGroupsForCandidateUser(String candidateUser) {
-        Collection<String> groupIds = new ArrayList<>();
         IdmEngineConfigurationApi idmEngineConfiguration = CommandContextUtil.getIdmEngineConfiguration();
         if (idmEngineConfiguration != null) {
             IdmIdentityService idmIdentityService = idmEngineConfiguration.getIdmIdentityService();
             if (idmIdentityService != null) {
-                List<Group> groups = idmIdentityService.createGroupQuery().groupMember(candidateUser).list();
-                for (Group group : groups) {
-                    groupIds.add(group.getId());
+                UserGroupMembershipCache userGroupMembershipCache = idmEngineConfiguration.getUserGroupMembershipCache();
+                if (userGroupMembershipCache != null) {
+                    return userGroupMembershipCache.getGroupIds(candidateUser, userId -> findGroupIds(idmIdentityService, userId));
                 }
+                return findGroupIds(idmIdentityService, candidateUser);
             }
         }
+        return new ArrayList<>();
+    }
+
+    protected List<String> findGroupIds(IdmIdentityService idmIdentityService, String userId) {
+        List<String> groupIds = new ArrayList<>();
+        List<Group> groups = idmIdentityService.createGroupQuery().groupMember(userId).list();
+        for (Group group : groups) {
+            groupIds.add(group.getId());
+        }
         return groupIds;
     }
 
@@ -1698,11 +1738,13 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
                 for (VariableInstanceEntity cachedVariableEntity : cachedVariableEntities) {
 
                     if (local) {
-                        if (task.getId().equals(cachedVariableEntity.getTaskId())) {
+                        if (task.getId().equals(cachedVariableEntity.getTaskId())
+                                && (taskVariableNamesToInclude == null || taskVariableNamesToInclude.contains(cachedVariableEntity.getName()))) {
                             ((TaskEntity) task).getQueryVariables().add(cachedVariableEntity);
                         }
                     } else {
-                        if (task.getProcessInstanceId().equals(cachedVariableEntity.getProcessInstanceId())) {
+                        if (task.getProcessInstanceId().equals(cachedVariableEntity.getProcessInstanceId())
+                                && (processVariableNamesToInclude == null || processVariableNamesToInclude.contains(cachedVariableEntity.getName()))) {
                             ((TaskEntity) task).getQueryVariables().add(cachedVariableEntity);
                         }
                     }
@@ -2018,6 +2060,14 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
         return includeProcessVariables;
     }
 
+    public Collection<String> getTaskVariableNamesToInclude() {
+        return taskVariableNamesToInclude;
+    }
+
+    public Collection<String> getProcessVariableNamesToInclude() {
+        return processVariableNamesToInclude;
+    }
+
     public boolean isIncludeIdentityLinks() {
         return includeIdentityLinks;
     }
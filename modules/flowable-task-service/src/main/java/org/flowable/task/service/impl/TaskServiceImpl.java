@@ -12,6 +12,7 @@
  */
 package org.flowable.task.service.impl;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.service.CommonServiceImpl;
@@ -108,6 +109,11 @@ public class TaskServiceImpl extends CommonServiceImpl<TaskServiceConfiguration>
         getTaskEntityManager().deleteTasksByExecutionId(executionId);
     }
 
+    @Override
+    public void deleteTasksByProcessInstanceIds(Collection<String> processInstanceIds) {
+        getTaskEntityManager().deleteTasksByProcessInstanceIds(processInstanceIds);
+    }
+
     public TaskEntityManager getTaskEntityManager() {
         return configuration.getTaskEntityManager();
     }
@@ -16,6 +16,7 @@ package org.flowable.task.service.impl.persistence.entity;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import org.flowable.task.api.history.HistoricTaskInstance;
 import org.flowable.task.service.TaskServiceConfiguration;
@@ -66,6 +67,14 @@ public class HistoricTaskInstanceEntityManagerImpl
         return Collections.EMPTY_LIST;
     }
 
+    @Override
+    public Stream<HistoricTaskInstance> streamHistoricTaskInstancesByQueryCriteria(HistoricTaskInstanceQueryImpl historicTaskInstanceQuery) {
+        if (serviceConfiguration.isHistoryEnabled()) {
+            return dataManager.streamHistoricTaskInstancesByQueryCriteria(historicTaskInstanceQuery);
+        }
+        return Stream.empty();
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<HistoricTaskInstance> findHistoricTaskInstancesAndRelatedEntitiesByQueryCriteria(HistoricTaskInstanceQueryImpl historicTaskInstanceQuery) {
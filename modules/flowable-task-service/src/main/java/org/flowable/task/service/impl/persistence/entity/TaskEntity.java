@@ -78,4 +78,8 @@ public interface TaskEntity extends VariableScope, Task, DelegateTask, Entity, H
     void setOwnerValue(String owner);
 
     List<VariableInstanceEntity> getQueryVariables();
+
+    List<IdentityLinkEntity> getQueryIdentityLinks();
+
+    void setQueryIdentityLinks(List<IdentityLinkEntity> identityLinks);
 }
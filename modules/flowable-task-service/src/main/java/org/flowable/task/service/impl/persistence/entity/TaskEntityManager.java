@@ -12,6 +12,7 @@
  */
 package org.flowable.task.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -60,4 +61,6 @@ public interface TaskEntityManager extends EntityManager<TaskEntity> {
     void updateAllTaskRelatedEntityCountFlags(boolean configProperty);
     
     void deleteTasksByExecutionId(String executionId);
+
+    void deleteTasksByProcessInstanceIds(Collection<String> processInstanceIds);
 }
\ No newline at end of file
@@ -13,6 +13,7 @@
 
 package org.flowable.task.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -214,6 +215,11 @@ public class TaskEntityManagerImpl
         dataManager.deleteTasksByExecutionId(executionId);
     }
 
+    @Override
+    public void deleteTasksByProcessInstanceIds(Collection<String> processInstanceIds) {
+        dataManager.deleteTasksByProcessInstanceIds(processInstanceIds);
+    }
+
     protected void logAssigneeChanged(TaskEntity taskEntity, String previousAssignee, String newAssignee) {
         if (serviceConfiguration.isEnableHistoricTaskLogging()) {
             ObjectNode dataNode = serviceConfiguration.getObjectMapper().createObjectNode();
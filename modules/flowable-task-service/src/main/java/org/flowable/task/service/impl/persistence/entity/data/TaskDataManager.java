@@ -12,6 +12,7 @@
  */
 package org.flowable.task.service.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -51,4 +52,6 @@ public interface TaskDataManager extends DataManager<TaskEntity> {
     
     void deleteTasksByExecutionId(String executionId);
 
+    void deleteTasksByProcessInstanceIds(Collection<String> processInstanceIds);
+
 }
@@ -12,14 +12,17 @@
  */
 package org.flowable.task.service.impl.persistence.entity.data.impl;
 
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 import org.flowable.common.engine.impl.db.AbstractDataManager;
 import org.flowable.common.engine.impl.db.DbSqlSession;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcher;
+import org.flowable.identitylink.service.impl.persistence.entity.IdentityLinkEntity;
 import org.flowable.task.api.Task;
 import org.flowable.task.service.impl.TaskQueryImpl;
 import org.flowable.task.service.impl.persistence.entity.TaskEntity;
@@ -30,6 +33,9 @@ import org.flowable.task.service.impl.persistence.entity.data.impl.cachematcher.
 import org.flowable.task.service.impl.persistence.entity.data.impl.cachematcher.TasksByScopeIdAndScopeTypeMatcher;
 import org.flowable.task.service.impl.persistence.entity.data.impl.cachematcher.TasksBySubScopeIdAndScopeTypeMatcher;
 import org.flowable.task.service.impl.util.CommandContextUtil;
+import org.flowable.variable.service.VariableService;
+import org.flowable.variable.service.impl.QueryResultVariablesCriteria;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 
 /**
  * @author Joram Barrez
@@ -105,37 +111,87 @@ public class MybatisTaskDataManager extends AbstractDataManager<TaskEntity> impl
     @Override
     @SuppressWarnings("unchecked")
     public List<Task> findTasksWithRelatedEntitiesByQueryCriteria(TaskQueryImpl taskQuery) {
-        final String query = "selectTasksWithRelatedEntitiesByQueryCriteria";
-        // paging doesn't work for combining task instances and variables due to
-        // an outer join, so doing it in-memory
+        // The related entities are fetched in separate queries for the page of tasks, instead of outer joining them in the task query,
+        // so that the paging can be done by the database
+        List<Task> tasks = getDbSqlSession().selectListWithRawParameterNoCacheLoadAndStore("selectTaskByQueryCriteria", taskQuery, getManagedEntityClass());
+
+        // A task returned from the entity cache (query by id) gets its variables from the cache in the task query itself
+        List<TaskEntity> taskEntities = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            if (getEntityCache().findInCache(getManagedEntityClass(), task.getId()) != task) {
+                taskEntities.add((TaskEntity) task);
+            }
+        }
 
-        int firstResult = taskQuery.getFirstResult();
-        int maxResults = taskQuery.getMaxResults();
+        if (!taskEntities.isEmpty()) {
+            if (taskQuery.isIncludeTaskLocalVariables() || taskQuery.isIncludeProcessVariables()) {
+                addQueryVariables(taskEntities, taskQuery);
+            }
+            if (taskQuery.isIncludeIdentityLinks()) {
+                addQueryIdentityLinks(taskEntities);
+            }
+        }
 
-        // setting max results, limit to 20000 results for performance reasons
-        if (taskQuery.getTaskVariablesLimit() != null) {
-            taskQuery.setMaxResults(taskQuery.getTaskVariablesLimit());
-        } else {
-            taskQuery.setMaxResults(CommandContextUtil.getTaskServiceConfiguration().getTaskQueryLimit());
+        return tasks;
+    }
+
+    protected void addQueryVariables(List<TaskEntity> taskEntities, TaskQueryImpl taskQuery) {
+        Map<String, List<TaskEntity>> tasksById = new LinkedHashMap<>();
+        Map<String, List<TaskEntity>> tasksByProcessInstanceId = new LinkedHashMap<>();
+        for (TaskEntity taskEntity : taskEntities) {
+            if (taskQuery.isIncludeTaskLocalVariables()) {
+                tasksById.computeIfAbsent(taskEntity.getId(), key -> new ArrayList<>()).add(taskEntity);
+            }
+            if (taskQuery.isIncludeProcessVariables() && taskEntity.getProcessInstanceId() != null) {
+                tasksByProcessInstanceId.computeIfAbsent(taskEntity.getProcessInstanceId(), key -> new ArrayList<>()).add(taskEntity);
+            }
         }
-        taskQuery.setFirstResult(0);
 
-        List<Task> instanceList = getDbSqlSession().selectListWithRawParameterNoCacheLoadAndStore(query, taskQuery, getManagedEntityClass());
+        // The task local and process variables can be restricted to different names, so they are fetched separately
+        VariableService variableService = CommandContextUtil.getVariableServiceConfiguration().getVariableService();
+        List<VariableInstanceEntity> variableInstances = new ArrayList<>();
+        if (!tasksById.isEmpty()) {
+            variableInstances.addAll(variableService.findVariableInstancesForQueryResults(new QueryResultVariablesCriteria()
+                    .taskIds(tasksById.keySet())
+                    .variableNames(taskQuery.getTaskVariableNamesToInclude())));
+        }
+        if (!tasksByProcessInstanceId.isEmpty()) {
+            variableInstances.addAll(variableService.findVariableInstancesForQueryResults(new QueryResultVariablesCriteria()
+                    .executionIds(tasksByProcessInstanceId.keySet())
+                    .variableNames(taskQuery.getProcessVariableNamesToInclude())));
+        }
 
-        if (instanceList != null && !instanceList.isEmpty()) {
-            if (firstResult > 0) {
-                if (firstResult <= instanceList.size()) {
-                    int toIndex = firstResult + Math.min(maxResults, instanceList.size() - firstResult);
-                    return instanceList.subList(firstResult, toIndex);
-                } else {
-                    return Collections.EMPTY_LIST;
+        for (VariableInstanceEntity variableInstance : variableInstances) {
+            List<TaskEntity> matchingTasks = null;
+            if (variableInstance.getTaskId() != null) {
+                matchingTasks = tasksById.get(variableInstance.getTaskId());
+            } else if (variableInstance.getExecutionId() != null) {
+                matchingTasks = tasksByProcessInstanceId.get(variableInstance.getExecutionId());
+            }
+
+            if (matchingTasks != null) {
+                for (TaskEntity taskEntity : matchingTasks) {
+                    taskEntity.getQueryVariables().add(variableInstance);
                 }
-            } else {
-                int toIndex = maxResults > 0 ?  Math.min(maxResults, instanceList.size()) : instanceList.size();
-                return instanceList.subList(0, toIndex);
             }
         }
-        return Collections.EMPTY_LIST;
+    }
+
+    protected void addQueryIdentityLinks(List<TaskEntity> taskEntities) {
+        Map<String, TaskEntity> tasksById = new LinkedHashMap<>();
+        for (TaskEntity taskEntity : taskEntities) {
+            tasksById.put(taskEntity.getId(), taskEntity);
+            taskEntity.setQueryIdentityLinks(new ArrayList<>());
+        }
+
+        List<IdentityLinkEntity> identityLinks = CommandContextUtil.getIdentityLinkServiceConfiguration().getIdentityLinkService()
+                .findIdentityLinksByTaskIds(tasksById.keySet());
+        for (IdentityLinkEntity identityLink : identityLinks) {
+            TaskEntity taskEntity = tasksById.get(identityLink.getTaskId());
+            if (taskEntity != null) {
+                taskEntity.getQueryIdentityLinks().add(identityLink);
+            }
+        }
     }
 
     @Override
@@ -183,4 +239,9 @@ public class MybatisTaskDataManager extends AbstractDataManager<TaskEntity> impl
         }
     }
 
+    @Override
+    public void deleteTasksByProcessInstanceIds(Collection<String> processInstanceIds) {
+        getDbSqlSession().delete("deleteTasksByProcessInstanceIds", new ArrayList<>(processInstanceIds), getManagedEntityClass());
+    }
+
 }
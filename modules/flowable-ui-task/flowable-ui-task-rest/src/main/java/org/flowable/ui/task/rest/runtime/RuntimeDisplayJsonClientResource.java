@@ -20,6 +20,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -53,6 +54,8 @@ import org.flowable.engine.RepositoryService;
 import org.flowable.engine.RuntimeService;
 import org.flowable.engine.history.HistoricActivityInstance;
 import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.impl.cache.ProcessInstanceReadCache;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.runtime.Execution;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.idm.api.User;
@@ -93,6 +96,9 @@ public class RuntimeDisplayJsonClientResource {
     @Autowired
     protected DebuggerService debuggerService;
 
+    @Autowired
+    protected ProcessEngineConfigurationImpl processEngineConfiguration;
+
     protected ObjectMapper objectMapper = new ObjectMapper();
     protected List<String> eventElementTypes = new ArrayList<>();
     protected Map<String, InfoMapper> propertyMappers = new HashMap<>();
@@ -143,7 +149,8 @@ public class RuntimeDisplayJsonClientResource {
         }
 
         // Fetch process-instance activities
-        List<HistoricActivityInstance> activityInstances = historyService.createHistoricActivityInstanceQuery().processInstanceId(processInstanceId).list();
+        List<HistoricActivityInstance> activityInstances = getCachedHistoricView(processInstanceId, "historicActivityInstances",
+            () -> historyService.createHistoricActivityInstanceQuery().processInstanceId(processInstanceId).list());
 
         Set<String> completedActivityInstances = new HashSet<>();
         Set<String> currentElements = new HashSet<>();
@@ -157,20 +164,7 @@ public class RuntimeDisplayJsonClientResource {
             }
         }
 
-        List<Job> jobs = managementService.createJobQuery().processInstanceId(processInstanceId).list();
-        if (CollectionUtils.isNotEmpty(jobs)) {
-            List<Execution> executions = runtimeService.createExecutionQuery().processInstanceId(processInstanceId).list();
-            Map<String, Execution> executionMap = new HashMap<>();
-            for (Execution execution : executions) {
-                executionMap.put(execution.getId(), execution);
-            }
-
-            for (Job job : jobs) {
-                if (executionMap.containsKey(job.getExecutionId())) {
-                    currentElements.add(executionMap.get(job.getExecutionId()).getActivityId());
-                }
-            }
-        }
+        currentElements.addAll(getCachedView(processInstanceId, "jobActivityIds", () -> getJobActivityIds(processInstanceId)));
 
         // Gather completed flows
         List<String> completedFlows = gatherCompletedFlows(completedActivityInstances, currentElements, pojoModel);
@@ -209,6 +203,45 @@ public class RuntimeDisplayJsonClientResource {
         return displayNode;
     }
 
+    protected Set<String> getJobActivityIds(String processInstanceId) {
+        Set<String> jobActivityIds = new HashSet<>();
+        List<Job> jobs = managementService.createJobQuery().processInstanceId(processInstanceId).list();
+        if (CollectionUtils.isNotEmpty(jobs)) {
+            List<Execution> executions = runtimeService.createExecutionQuery().processInstanceId(processInstanceId).list();
+            Map<String, Execution> executionMap = new HashMap<>();
+            for (Execution execution : executions) {
+                executionMap.put(execution.getId(), execution);
+            }
+
+            for (Job job : jobs) {
+                if (executionMap.containsKey(job.getExecutionId())) {
+                    jobActivityIds.add(executionMap.get(job.getExecutionId()).getActivityId());
+                }
+            }
+        }
+        return jobActivityIds;
+    }
+
+    protected <T> T getCachedView(String processInstanceId, String viewName, Supplier<T> loader) {
+        ProcessInstanceReadCache processInstanceReadCache = processEngineConfiguration.getProcessInstanceReadCache();
+        if (processInstanceReadCache != null) {
+            return processInstanceReadCache.get(processInstanceId, viewName, loader);
+        }
+        return loader.get();
+    }
+
+    /**
+     * Like {@link #getCachedView(String, String, Supplier)}, for views read from the history tables. With async history, these are written
+     * by history jobs after the executions changed, so a cached view could miss history that is written later on without any execution
+     * revision changing: such views are then not cached.
+     */
+    protected <T> T getCachedHistoricView(String processInstanceId, String viewName, Supplier<T> loader) {
+        if (processEngineConfiguration.isAsyncHistoryEnabled()) {
+            return loader.get();
+        }
+        return getCachedView(processInstanceId, viewName, loader);
+    }
+
     @GetMapping(value = "/rest/process-definitions/{processDefinitionId}/model-json", produces = "application/json")
     public JsonNode getModelJSONForProcessDefinition(@PathVariable String processDefinitionId) {
 
@@ -17,6 +17,7 @@ import java.util.List;
 
 import org.flowable.variable.api.history.HistoricVariableInstance;
 import org.flowable.variable.service.impl.HistoricVariableInstanceQueryImpl;
+import org.flowable.variable.service.impl.QueryResultVariablesCriteria;
 import org.flowable.variable.service.impl.persistence.entity.HistoricVariableInstanceEntity;
 import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 
@@ -33,6 +34,11 @@ public interface HistoricVariableService {
     HistoricVariableInstanceEntity createHistoricVariableInstance();
     
     List<HistoricVariableInstance> findHistoricVariableInstancesByQueryCriteria(HistoricVariableInstanceQueryImpl query);
+
+    /**
+     * Fetches the historic variables for a page of query results, without putting them in the entity cache.
+     */
+    List<HistoricVariableInstanceEntity> findHistoricVariableInstancesForQueryResults(QueryResultVariablesCriteria criteria);
     
     void insertHistoricVariableInstance(HistoricVariableInstanceEntity variable);
     
@@ -17,6 +17,7 @@ import java.util.List;
 import java.util.Set;
 
 import org.flowable.variable.api.types.VariableType;
+import org.flowable.variable.service.impl.QueryResultVariablesCriteria;
 import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 
 /**
@@ -37,6 +38,11 @@ public interface VariableService {
 
     List<VariableInstanceEntity> findVariableInstancesByExecutionIds(Set<String> executionIds);
 
+    /**
+     * Fetches the variables for a page of query results, without putting them in the entity cache.
+     */
+    List<VariableInstanceEntity> findVariableInstancesForQueryResults(QueryResultVariablesCriteria criteria);
+
     VariableInstanceEntity findVariableInstanceByTaskAndName(String taskId, String taskName);
 
     List<VariableInstanceEntity> findVariableInstancesByTaskAndNames(String taskId, Collection<String> taskNames);
@@ -85,4 +91,10 @@ public interface VariableService {
     
     void deleteVariablesByTaskId(String taskId);
 
+    /**
+     * Deletes the variables of the given process instances, and their byte arrays, with set-based deletes.
+     * No events are dispatched for the deleted variables.
+     */
+    void deleteVariablesByProcessInstanceIds(Collection<String> processInstanceIds);
+
 }
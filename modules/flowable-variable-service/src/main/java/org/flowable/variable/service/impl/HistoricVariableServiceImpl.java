@@ -44,6 +44,11 @@ public class HistoricVariableServiceImpl extends CommonServiceImpl<VariableServi
     public List<HistoricVariableInstance> findHistoricVariableInstancesByQueryCriteria(HistoricVariableInstanceQueryImpl query) {
         return getHistoricVariableInstanceEntityManager().findHistoricVariableInstancesByQueryCriteria(query);
     }
+
+    @Override
+    public List<HistoricVariableInstanceEntity> findHistoricVariableInstancesForQueryResults(QueryResultVariablesCriteria criteria) {
+        return getHistoricVariableInstanceEntityManager().findHistoricVariableInstancesForQueryResults(criteria);
+    }
     
     @Override
     public HistoricVariableInstanceEntity createHistoricVariableInstance() {
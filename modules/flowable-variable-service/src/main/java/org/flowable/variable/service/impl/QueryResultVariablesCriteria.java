@@ -0,0 +1,132 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.variable.service.impl;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Describes the variables that need to be fetched for one page of query results (e.g. process instances or tasks queried with
+ * includeProcessVariables()), so that the variables of all results can be fetched with one query per {@link #MAX_IDS_PER_QUERY} ids
+ * instead of outer joining the variable table in the query itself.
+ *
+ * The variables are matched on task id, execution id (variables that are not task local) or scope id (variables of the scope itself, not of a sub scope).
+ * When variable names are set, only the variables with those names are fetched.
+ */
+public class QueryResultVariablesCriteria implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The maximum number of ids passed in one 'in' clause, as some databases (e.g. Oracle) limit this to 1000.
+     */
+    public static final int MAX_IDS_PER_QUERY = 1000;
+
+    protected List<String> taskIds;
+    protected List<String> executionIds;
+    protected List<String> scopeIds;
+    protected String scopeType;
+    protected List<String> variableNames;
+
+    public QueryResultVariablesCriteria taskIds(Collection<String> taskIds) {
+        this.taskIds = new ArrayList<>(taskIds);
+        return this;
+    }
+
+    public QueryResultVariablesCriteria executionIds(Collection<String> executionIds) {
+        this.executionIds = new ArrayList<>(executionIds);
+        return this;
+    }
+
+    public QueryResultVariablesCriteria scopeIds(Collection<String> scopeIds, String scopeType) {
+        this.scopeIds = new ArrayList<>(scopeIds);
+        this.scopeType = scopeType;
+        return this;
+    }
+
+    /**
+     * Only fetch the variables with the given names. All variables are fetched when null is passed.
+     */
+    public QueryResultVariablesCriteria variableNames(Collection<String> variableNames) {
+        this.variableNames = variableNames != null ? new ArrayList<>(variableNames) : null;
+        return this;
+    }
+
+    /**
+     * Splits these criteria into criteria that each match on one type of id with at most {@link #MAX_IDS_PER_QUERY} ids,
+     * which can be executed as separate queries.
+     */
+    public List<QueryResultVariablesCriteria> split() {
+        List<QueryResultVariablesCriteria> criteriaList = new ArrayList<>();
+        if (taskIds != null) {
+            for (List<String> ids : partition(taskIds)) {
+                QueryResultVariablesCriteria criteria = copyWithoutIds();
+                criteria.taskIds = ids;
+                criteriaList.add(criteria);
+            }
+        }
+        if (executionIds != null) {
+            for (List<String> ids : partition(executionIds)) {
+                QueryResultVariablesCriteria criteria = copyWithoutIds();
+                criteria.executionIds = ids;
+                criteriaList.add(criteria);
+            }
+        }
+        if (scopeIds != null) {
+            for (List<String> ids : partition(scopeIds)) {
+                QueryResultVariablesCriteria criteria = copyWithoutIds();
+                criteria.scopeIds = ids;
+                criteriaList.add(criteria);
+            }
+        }
+        return criteriaList;
+    }
+
+    protected QueryResultVariablesCriteria copyWithoutIds() {
+        QueryResultVariablesCriteria criteria = new QueryResultVariablesCriteria();
+        criteria.scopeType = scopeType;
+        criteria.variableNames = variableNames;
+        return criteria;
+    }
+
+    protected List<List<String>> partition(List<String> ids) {
+        List<List<String>> partitions = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i += MAX_IDS_PER_QUERY) {
+            partitions.add(new ArrayList<>(ids.subList(i, Math.min(i + MAX_IDS_PER_QUERY, ids.size()))));
+        }
+        return partitions;
+    }
+
+    public List<String> getTaskIds() {
+        return taskIds;
+    }
+
+    public List<String> getExecutionIds() {
+        return executionIds;
+    }
+
+    public List<String> getScopeIds() {
+        return scopeIds;
+    }
+
+    public String getScopeType() {
+        return scopeType;
+    }
+
+    public List<String> getVariableNames() {
+        return variableNames;
+    }
+
+}
@@ -58,6 +58,11 @@ public class VariableServiceImpl extends CommonServiceImpl<VariableServiceConfig
         return getVariableInstanceEntityManager().findVariableInstancesByExecutionIds(executionIds);
     }
 
+    @Override
+    public List<VariableInstanceEntity> findVariableInstancesForQueryResults(QueryResultVariablesCriteria criteria) {
+        return getVariableInstanceEntityManager().findVariableInstancesForQueryResults(criteria);
+    }
+
     @Override
     public VariableInstanceEntity findVariableInstanceByTaskAndName(String taskId, String taskName) {
         return getVariableInstanceEntityManager().findVariableInstanceByTaskAndName(taskId, taskName);
@@ -143,6 +148,11 @@ public class VariableServiceImpl extends CommonServiceImpl<VariableServiceConfig
         getVariableInstanceEntityManager().deleteVariablesByTaskId(taskId);
     }
 
+    @Override
+    public void deleteVariablesByProcessInstanceIds(Collection<String> processInstanceIds) {
+        getVariableInstanceEntityManager().deleteVariablesByProcessInstanceIds(processInstanceIds);
+    }
+
     public VariableInstanceEntityManager getVariableInstanceEntityManager() {
         return configuration.getVariableInstanceEntityManager();
     }
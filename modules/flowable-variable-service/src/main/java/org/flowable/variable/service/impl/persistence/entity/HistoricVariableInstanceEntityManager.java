@@ -19,6 +19,7 @@ import java.util.Map;
 import org.flowable.common.engine.impl.persistence.entity.EntityManager;
 import org.flowable.variable.api.history.HistoricVariableInstance;
 import org.flowable.variable.service.impl.HistoricVariableInstanceQueryImpl;
+import org.flowable.variable.service.impl.QueryResultVariablesCriteria;
 
 /**
  * @author Joram Barrez
@@ -31,6 +32,8 @@ public interface HistoricVariableInstanceEntityManager extends EntityManager<His
 
     List<HistoricVariableInstance> findHistoricVariableInstancesByQueryCriteria(HistoricVariableInstanceQueryImpl historicProcessVariableQuery);
 
+    List<HistoricVariableInstanceEntity> findHistoricVariableInstancesForQueryResults(QueryResultVariablesCriteria criteria);
+
     HistoricVariableInstanceEntity findHistoricVariableInstanceByVariableInstanceId(String variableInstanceId);
     
     List<HistoricVariableInstanceEntity> findHistoricalVariableInstancesByScopeIdAndScopeType(String subScopeId, String scopeType);
@@ -12,6 +12,7 @@
  */
 package org.flowable.variable.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.EntityManager;
@@ -32,4 +33,9 @@ public interface VariableByteArrayEntityManager extends EntityManager<VariableBy
      */
     void deleteByteArrayById(String byteArrayEntityId);
 
+    /**
+     * Deletes the {@link VariableByteArrayEntity} instances with the given ids from the database with set-based deletes, without optimistic locking.
+     */
+    void deleteByteArraysByIds(Collection<String> byteArrayEntityIds);
+
 }
\ No newline at end of file
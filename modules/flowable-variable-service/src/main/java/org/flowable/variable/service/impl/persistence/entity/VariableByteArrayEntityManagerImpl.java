@@ -13,6 +13,7 @@
 
 package org.flowable.variable.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.AbstractServiceEngineEntityManager;
@@ -41,4 +42,9 @@ public class VariableByteArrayEntityManagerImpl
         dataManager.deleteByteArrayNoRevisionCheck(byteArrayEntityId);
     }
 
+    @Override
+    public void deleteByteArraysByIds(Collection<String> byteArrayEntityIds) {
+        dataManager.deleteByteArraysNoRevisionCheck(byteArrayEntityIds);
+    }
+
 }
@@ -18,6 +18,7 @@ import java.util.Set;
 
 import org.flowable.common.engine.impl.persistence.entity.EntityManager;
 import org.flowable.variable.api.types.VariableType;
+import org.flowable.variable.service.impl.QueryResultVariablesCriteria;
 
 /**
  * @author Joram Barrez
@@ -45,6 +46,8 @@ public interface VariableInstanceEntityManager extends EntityManager<VariableIns
 
     List<VariableInstanceEntity> findVariableInstancesByExecutionIds(Set<String> executionIds);
 
+    List<VariableInstanceEntity> findVariableInstancesForQueryResults(QueryResultVariablesCriteria criteria);
+
     VariableInstanceEntity findVariableInstanceByExecutionAndName(String executionId, String variableName);
 
     List<VariableInstanceEntity> findVariableInstancesByExecutionAndNames(String executionId, Collection<String> names);
@@ -71,4 +74,6 @@ public interface VariableInstanceEntityManager extends EntityManager<VariableIns
     
     void deleteByScopeIdAndScopeType(String scopeId, String scopeType);
 
+    void deleteVariablesByProcessInstanceIds(Collection<String> processInstanceIds);
+
 }
\ No newline at end of file
@@ -20,6 +20,7 @@ import java.util.Set;
 import org.flowable.common.engine.impl.persistence.entity.AbstractServiceEngineEntityManager;
 import org.flowable.variable.api.types.VariableType;
 import org.flowable.variable.service.VariableServiceConfiguration;
+import org.flowable.variable.service.impl.QueryResultVariablesCriteria;
 import org.flowable.variable.service.impl.persistence.entity.data.VariableInstanceDataManager;
 
 /**
@@ -71,6 +72,11 @@ public class VariableInstanceEntityManagerImpl
         return dataManager.findVariableInstancesByExecutionIds(executionIds);
     }
 
+    @Override
+    public List<VariableInstanceEntity> findVariableInstancesForQueryResults(QueryResultVariablesCriteria criteria) {
+        return dataManager.findVariableInstancesForQueryResults(criteria);
+    }
+
     @Override
     public VariableInstanceEntity findVariableInstanceByExecutionAndName(String executionId, String variableName) {
         return dataManager.findVariableInstanceByExecutionAndName(executionId, variableName);
@@ -146,4 +152,12 @@ public class VariableInstanceEntityManagerImpl
         dataManager.deleteByScopeIdAndScopeType(scopeId, scopeType);
     }
 
+    @Override
+    public void deleteVariablesByProcessInstanceIds(Collection<String> processInstanceIds) {
+        // The byte arrays can only be found through the variables, but can only be deleted after them (foreign key)
+        List<String> byteArrayIds = dataManager.findByteArrayIdsByProcessInstanceIds(processInstanceIds);
+        dataManager.deleteVariablesByProcessInstanceIds(processInstanceIds);
+        serviceConfiguration.getByteArrayEntityManager().deleteByteArraysByIds(byteArrayIds);
+    }
+
 }
@@ -17,6 +17,7 @@ import java.util.List;
 import java.util.Set;
 
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
+import org.flowable.variable.service.impl.QueryResultVariablesCriteria;
 import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 
 /**
@@ -32,6 +33,8 @@ public interface VariableInstanceDataManager extends DataManager<VariableInstanc
 
     List<VariableInstanceEntity> findVariableInstancesByExecutionIds(Set<String> executionIds);
 
+    List<VariableInstanceEntity> findVariableInstancesForQueryResults(QueryResultVariablesCriteria criteria);
+
     VariableInstanceEntity findVariableInstanceByExecutionAndName(String executionId, String variableName);
 
     List<VariableInstanceEntity> findVariableInstancesByExecutionAndNames(String executionId, Collection<String> names);
@@ -57,5 +60,9 @@ public interface VariableInstanceDataManager extends DataManager<VariableInstanc
     void deleteVariablesByExecutionId(String executionId);
     
     void deleteByScopeIdAndScopeType(String scopeId, String scopeType);
+
+    List<String> findByteArrayIdsByProcessInstanceIds(Collection<String> processInstanceIds);
+
+    void deleteVariablesByProcessInstanceIds(Collection<String> processInstanceIds);
     
 }
@@ -12,14 +12,18 @@
  */
 package org.flowable.variable.service.impl.persistence.entity.data.impl;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.flowable.common.engine.impl.db.AbstractDataManager;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcher;
 import org.flowable.variable.api.history.HistoricVariableInstance;
 import org.flowable.variable.service.impl.HistoricVariableInstanceQueryImpl;
+import org.flowable.variable.service.impl.QueryResultVariablesCriteria;
 import org.flowable.variable.service.impl.persistence.entity.HistoricVariableInstanceEntity;
 import org.flowable.variable.service.impl.persistence.entity.HistoricVariableInstanceEntityImpl;
 import org.flowable.variable.service.impl.persistence.entity.data.HistoricVariableInstanceDataManager;
@@ -81,6 +85,23 @@ public class MybatisHistoricVariableInstanceDataManager extends AbstractDataMana
         return getDbSqlSession().selectList("selectHistoricVariableInstanceByQueryCriteria", historicProcessVariableQuery);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<HistoricVariableInstanceEntity> findHistoricVariableInstancesForQueryResults(QueryResultVariablesCriteria criteria) {
+        List<HistoricVariableInstanceEntity> historicVariableInstances = new ArrayList<>();
+        Set<String> historicVariableInstanceIds = new HashSet<>();
+        for (QueryResultVariablesCriteria splitCriteria : criteria.split()) {
+            List<HistoricVariableInstanceEntity> splitHistoricVariableInstances = getDbSqlSession().selectListWithRawParameterNoCacheLoadAndStore(
+                    "selectHistoricVariableInstancesForQueryResults", splitCriteria);
+            for (HistoricVariableInstanceEntity historicVariableInstance : splitHistoricVariableInstances) {
+                if (historicVariableInstanceIds.add(historicVariableInstance.getId())) {
+                    historicVariableInstances.add(historicVariableInstance);
+                }
+            }
+        }
+        return historicVariableInstances;
+    }
+
     @Override
     public HistoricVariableInstanceEntity findHistoricVariableInstanceByVariableInstanceId(String variableInstanceId) {
         return (HistoricVariableInstanceEntity) getDbSqlSession().selectOne("selectHistoricVariableInstanceByVariableInstanceId", variableInstanceId);
@@ -12,9 +12,12 @@
  */
 package org.flowable.variable.service.impl.persistence.entity.data.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.db.AbstractDataManager;
+import org.flowable.variable.service.impl.QueryResultVariablesCriteria;
 import org.flowable.variable.service.impl.persistence.entity.VariableByteArrayEntity;
 import org.flowable.variable.service.impl.persistence.entity.VariableByteArrayEntityImpl;
 import org.flowable.variable.service.impl.persistence.entity.data.VariableByteArrayDataManager;
@@ -45,4 +48,13 @@ public class MybatisVariableByteArrayDataManager extends AbstractDataManager<Var
         getDbSqlSession().delete("deleteVariableByteArrayNoRevisionCheck", byteArrayEntityId, VariableByteArrayEntityImpl.class);
     }
 
+    @Override
+    public void deleteByteArraysNoRevisionCheck(Collection<String> byteArrayEntityIds) {
+        List<String> ids = new ArrayList<>(byteArrayEntityIds);
+        for (int i = 0; i < ids.size(); i += QueryResultVariablesCriteria.MAX_IDS_PER_QUERY) {
+            List<String> idsToDelete = new ArrayList<>(ids.subList(i, Math.min(i + QueryResultVariablesCriteria.MAX_IDS_PER_QUERY, ids.size())));
+            getDbSqlSession().delete("deleteVariableByteArraysNoRevisionCheck", idsToDelete, VariableByteArrayEntityImpl.class);
+        }
+    }
+
 }
@@ -12,8 +12,10 @@
  */
 package org.flowable.variable.service.impl.persistence.entity.data.impl;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -22,6 +24,7 @@ import org.flowable.common.engine.impl.db.AbstractDataManager;
 import org.flowable.common.engine.impl.db.DbSqlSession;
 import org.flowable.common.engine.impl.db.SingleCachedEntityMatcher;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcher;
+import org.flowable.variable.service.impl.QueryResultVariablesCriteria;
 import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntityImpl;
 import org.flowable.variable.service.impl.persistence.entity.data.VariableInstanceDataManager;
@@ -93,6 +96,23 @@ public class MybatisVariableInstanceDataManager extends AbstractDataManager<Vari
         return getDbSqlSession().selectList("selectVariablesByExecutionIds", executionIds);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<VariableInstanceEntity> findVariableInstancesForQueryResults(QueryResultVariablesCriteria criteria) {
+        List<VariableInstanceEntity> variableInstances = new ArrayList<>();
+        Set<String> variableInstanceIds = new HashSet<>();
+        for (QueryResultVariablesCriteria splitCriteria : criteria.split()) {
+            List<VariableInstanceEntity> splitVariableInstances = getDbSqlSession().selectListWithRawParameterNoCacheLoadAndStore(
+                    "selectVariableInstancesForQueryResults", splitCriteria);
+            for (VariableInstanceEntity variableInstance : splitVariableInstances) {
+                if (variableInstanceIds.add(variableInstance.getId())) {
+                    variableInstances.add(variableInstance);
+                }
+            }
+        }
+        return variableInstances;
+    }
+
     @Override
     public VariableInstanceEntity findVariableInstanceByExecutionAndName(String executionId, String variableName) {
         Map<String, String> params = new HashMap<>(2);
@@ -207,4 +227,15 @@ public class MybatisVariableInstanceDataManager extends AbstractDataManager<Vari
         bulkDelete("deleteVariablesByScopeIdAndScopeType", variableInstanceByScopeIdAndScopeTypeMatcher, params);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> findByteArrayIdsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        return getDbSqlSession().selectList("selectVariableByteArrayIdsByProcessInstanceIds", new ArrayList<>(processInstanceIds));
+    }
+
+    @Override
+    public void deleteVariablesByProcessInstanceIds(Collection<String> processInstanceIds) {
+        getDbSqlSession().delete("deleteVariableInstancesByProcessInstanceIds", new ArrayList<>(processInstanceIds), getManagedEntityClass());
+    }
+
 }